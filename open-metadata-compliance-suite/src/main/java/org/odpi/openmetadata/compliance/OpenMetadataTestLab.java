@@ -7,6 +7,8 @@ import org.apache.log4j.varia.NullAppender;
 import org.odpi.openmetadata.compliance.beans.OpenMetadataTestLabResults;
 import org.odpi.openmetadata.compliance.beans.OpenMetadataTestWorkbenchResults;
 import org.odpi.openmetadata.compliance.tests.origin.OpenMetadataOriginTestWorkbench;
+import org.odpi.openmetadata.compliance.tests.performance.OpenMetadataPerformanceTestWorkbench;
+import org.odpi.openmetadata.compliance.tests.performance.PerformanceWorkload;
 import org.odpi.openmetadata.compliance.tests.repository.OpenMetadataRepositoryTestWorkbench;
 
 import java.io.File;
@@ -40,6 +42,24 @@ public class OpenMetadataTestLab
     }
 
 
+    /**
+     * Return the list of workbenches that measure the performance of the server.
+     *
+     * @param serverURLRoot root url for the server being tested
+     * @param workload workload to drive through the server
+     * @return list of workbenches.
+     */
+    private static List<OpenMetadataTestWorkbench>  getPerformanceWorkbenches(String               serverURLRoot,
+                                                                              PerformanceWorkload  workload)
+    {
+        List<OpenMetadataTestWorkbench>  performanceWorkbenches = new ArrayList<>();
+
+        performanceWorkbenches.add(new OpenMetadataPerformanceTestWorkbench(serverURLRoot, workload));
+
+        return performanceWorkbenches;
+    }
+
+
     /**
      * Constructor to create a test lab object that is initialized with the server to test.
      *
@@ -52,6 +72,20 @@ public class OpenMetadataTestLab
     }
 
 
+    /**
+     * Constructor to create a test lab object that runs a specific set of workbenches.
+     *
+     * @param serverURLRoot server to test.
+     * @param workbenches workbenches to run.
+     */
+    private OpenMetadataTestLab(String                           serverURLRoot,
+                                List<OpenMetadataTestWorkbench>  workbenches)
+    {
+        this.registeredWorkbenches = workbenches;
+        this.serverURLRoot = serverURLRoot;
+    }
+
+
     /**
      * Request each registered workbench runs its tests.
      *
@@ -86,12 +120,17 @@ public class OpenMetadataTestLab
     /**
      * Main method handles the parameters passed and then calls the registered workbenches.
      *
-     * @param args - first parameter is the URL root of the server.
+     * @param args - first parameter is the URL root of the server.  The optional second parameter is "performance"
+     *             to run the performance workbench rather than the compliance tests, in which case the optional
+     *             third parameter is the number of entities to create.
      */
     public static void main(String[] args)
     {
+        final String performanceMode = "performance";
+
         String  serverURLRoot;
         String  resultsFileName = "openmetadata.functional.testlab.results";
+        boolean performanceRun  = false;
 
         org.apache.log4j.BasicConfigurator.configure(new NullAppender());
 
@@ -103,12 +142,45 @@ public class OpenMetadataTestLab
 
         serverURLRoot = args[0];
 
-        System.out.println("===============================");
-        System.out.println("Open Metadata Compliance Test  ");
-        System.out.println("===============================");
-        System.out.println("Compliance Report for server: " + serverURLRoot);
+        OpenMetadataTestLab  testLab;
+
+        if ((args.length > 1) && (performanceMode.equals(args[1])))
+        {
+            PerformanceWorkload workload = new PerformanceWorkload();
+
+            if (args.length > 2)
+            {
+                try
+                {
+                    workload.setEntityCount(Integer.parseInt(args[2]));
+                }
+                catch (NumberFormatException  exc)
+                {
+                    System.out.println("Please specify the number of entities as an integer in the third parameter");
+                    System.exit(-1);
+                }
+            }
+
+            performanceRun = true;
+            resultsFileName = "openmetadata.performance.testlab.results";
 
-        OpenMetadataTestLab  testLab = new OpenMetadataTestLab(serverURLRoot);
+            System.out.println("===============================");
+            System.out.println("Open Metadata Performance Test ");
+            System.out.println("===============================");
+            System.out.println("Performance Report for server: " + serverURLRoot);
+            System.out.println("Workload: " + workload);
+
+            testLab = new OpenMetadataTestLab(serverURLRoot, getPerformanceWorkbenches(serverURLRoot, workload));
+        }
+        else
+        {
+            System.out.println("===============================");
+            System.out.println("Open Metadata Compliance Test  ");
+            System.out.println("===============================");
+            System.out.println("Compliance Report for server: " + serverURLRoot);
+
+            testLab = new OpenMetadataTestLab(serverURLRoot);
+        }
 
         OpenMetadataTestLabResults testLabResults = testLab.runTests();
 
@@ -139,7 +211,12 @@ public class OpenMetadataTestLab
         System.out.println("Number of tests skipped: " + testLabResults.getTestSkippedCount());
         System.out.println();
 
-        if (testLabResults.getTestCaseCount() == testLabResults.getTestPassCount())
+        if (performanceRun)
+        {
+            System.out.println("Performance measurements for server at " + serverURLRoot + " are in " + resultsFileName);
+            System.exit((testLabResults.getTestFailedCount() == 0) ? 0 : 1);
+        }
+        else if (testLabResults.getTestCaseCount() == testLabResults.getTestPassCount())
         {
             System.out.println("Congratulations, server at " + serverURLRoot + " is an open metadata repository");
             System.exit(0);
@@ -0,0 +1,150 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.compliance.tests.repository.OpenMetadataRepositoryTestCase;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+
+/**
+ * OpenMetadataPerformanceTestCase is the superclass for the performance test cases.  Each test case
+ * issues the requests of its workload through measure() which records the latency of each request for the
+ * named operation.  The measurements for each operation are returned as discovered properties in the
+ * test case result.  A test case fails if any of its requests fail.
+ */
+public abstract class OpenMetadataPerformanceTestCase extends OpenMetadataRepositoryTestCase
+{
+    static final String testUserId = "PerformanceTestUser";
+
+    private static final String assertionSuffix1 = "-01";
+    private static final String assertionMsg1    = " requests completed without error.";
+
+    protected PerformanceWorkload workload;
+    protected PerformanceTestData testData;
+
+    private Map<String, PerformanceStatistics> operationStatistics = new LinkedHashMap<>();
+    private Map<String, String>                operationFailures   = new HashMap<>();
+
+
+    /**
+     * Constructor passes the standard descriptive information to the superclass.
+     *
+     * @param workbenchId identifier of the workbench used to build the documentation URL.
+     * @param testCaseId id of the test case
+     * @param testCaseName name of the test case
+     * @param workload workload to run
+     * @param testData instances shared between test cases
+     */
+    OpenMetadataPerformanceTestCase(String              workbenchId,
+                                    String              testCaseId,
+                                    String              testCaseName,
+                                    PerformanceWorkload workload,
+                                    PerformanceTestData testData)
+    {
+        super(workbenchId, testCaseId, testCaseName);
+
+        this.workload = workload;
+        this.testData = testData;
+    }
+
+
+    /**
+     * Issue a request and record its latency against the named operation.  A request that fails is counted
+     * and null is returned so that the workload can continue.  FunctionNotSupportedException is passed
+     * to the caller since there is no point in issuing further requests for the operation.
+     *
+     * @param operationName name of the operation
+     * @param request request to issue
+     * @param <T> type of the result
+     * @return result of the request or null if it failed
+     * @throws FunctionNotSupportedException the repository does not support the operation
+     */
+    protected <T> T measure(String      operationName,
+                            Callable<T> request) throws FunctionNotSupportedException
+    {
+        PerformanceStatistics statistics = operationStatistics.computeIfAbsent(operationName,
+                                                                               PerformanceStatistics::new);
+
+        long startTime = System.nanoTime();
+
+        try
+        {
+            T result = request.call();
+
+            statistics.recordSuccess(System.nanoTime() - startTime);
+
+            return result;
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            statistics.setNotSupported();
+
+            throw error;
+        }
+        catch (Throwable error)
+        {
+            statistics.recordFailure();
+            operationFailures.putIfAbsent(operationName, error.getClass().getSimpleName() + ": " + error.getMessage());
+
+            return null;
+        }
+    }
+
+
+    /**
+     * Add the measurements to the test case result and assert that each operation ran without error.
+     *
+     * @param successMessage message to add to the result if all of the operations ran without error
+     * @throws Exception an operation had failing requests
+     */
+    protected void reportResults(String  successMessage) throws Exception
+    {
+        Map<String, Object> discoveredProperties = new LinkedHashMap<>();
+
+        for (PerformanceStatistics statistics : operationStatistics.values())
+        {
+            Map<String, Object> summary = statistics.getSummary();
+            String              failure = operationFailures.get(statistics.getOperationName());
+
+            if (failure != null)
+            {
+                summary.put("firstFailure", failure);
+            }
+
+            discoveredProperties.put(statistics.getOperationName(), summary);
+        }
+
+        discoveredProperties.put("workload", workload.toString());
+
+        super.result.setDiscoveredProperties(discoveredProperties);
+
+        for (PerformanceStatistics statistics : operationStatistics.values())
+        {
+            assertCondition((statistics.getFailureCount() == 0),
+                            testCaseId + assertionSuffix1,
+                            statistics.getOperationName() + assertionMsg1);
+        }
+
+        super.result.setSuccessMessage(successMessage);
+    }
+
+
+    /**
+     * Return whether the repository supports the named operation.  This is false once a request for the
+     * operation has returned FunctionNotSupportedException.
+     *
+     * @param operationName name of the operation
+     * @return boolean flag
+     */
+    protected boolean isSupported(String operationName)
+    {
+        PerformanceStatistics statistics = operationStatistics.get(operationName);
+
+        return (statistics == null) || statistics.isSupported();
+    }
+}
@@ -0,0 +1,328 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.adapters.repositoryservices.ConnectorConfigurationFactory;
+import org.odpi.openmetadata.compliance.OpenMetadataTestCase;
+import org.odpi.openmetadata.compliance.OpenMetadataTestWorkbench;
+import org.odpi.openmetadata.compliance.beans.OpenMetadataTestCaseResult;
+import org.odpi.openmetadata.compliance.beans.OpenMetadataTestCaseSummary;
+import org.odpi.openmetadata.compliance.beans.OpenMetadataTestWorkbenchResults;
+import org.odpi.openmetadata.compliance.tests.repository.TestMetadataCollectionId;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * OpenMetadataPerformanceTestWorkbench provides the workbench for measuring the performance of a repository
+ * through the OMRS REST API.  It drives a synthetic workload through the repository and reports the
+ * throughput and latency percentiles of each operation in the discovered properties of the test case results.
+ * It operates as a test pipeline: the entities and relationships created by the early test cases are used
+ * by the later ones and are removed once all of the test cases have run.
+ */
+public class OpenMetadataPerformanceTestWorkbench extends OpenMetadataTestWorkbench
+{
+    private static final String workbenchId            = "performance-workbench";
+    private static final String workbenchName          = "Open Metadata Repository Performance Workbench";
+    private static final String workbenchVersionNumber = "V0.1 SNAPSHOT";
+    private static final String workbenchDocURL        = "https://odpi.github.io/egeria/open-metadata-compliance-suite/docs/" + workbenchId;
+
+    private static final String dummyMetadataCollectionId = "dummyMetadataCollectionId-performance-workbench";
+
+    private PerformanceWorkload workload;
+
+    /*
+     * This value is retrieved from the server.  If the workbench can not get the metadata collection Id then
+     * all other tests are skipped.
+     */
+    private String  metadataCollectionId = null;
+
+
+    /**
+     * Constructor received the URL root for the server being tested.  The default workload is used.
+     *
+     * @param serverURLRoot string
+     */
+    public OpenMetadataPerformanceTestWorkbench(String  serverURLRoot)
+    {
+        this(serverURLRoot, new PerformanceWorkload());
+    }
+
+
+    /**
+     * Constructor received the URL root for the server being tested and the workload to run.
+     *
+     * @param serverURLRoot string
+     * @param workload description of the workload
+     */
+    public OpenMetadataPerformanceTestWorkbench(String               serverURLRoot,
+                                                PerformanceWorkload  workload)
+    {
+        super(workbenchName, workbenchVersionNumber, workbenchDocURL, serverURLRoot);
+
+        this.workload = workload;
+    }
+
+
+    /**
+     * Create a connector to the repository.
+     *
+     * @param metadataCollectionId identifier for the metadata collection
+     * @return OMRSRepositoryConnector
+     */
+    private OMRSRepositoryConnector   getRepositoryConnector(String metadataCollectionId)
+    {
+        final String serverName           = "TestServer";
+
+        try
+        {
+            ConnectorConfigurationFactory factory = new ConnectorConfigurationFactory();
+
+            Connection connection = factory.getDefaultLocalRepositoryRemoteConnection(serverName,
+                                                                                      serverURLRoot);
+
+            ConnectorBroker connectorBroker = new ConnectorBroker();
+
+            Connector connector = connectorBroker.getConnector(connection);
+
+            OMRSRepositoryConnector  repositoryConnector = (OMRSRepositoryConnector)connector;
+
+            repositoryConnector.setMetadataCollectionId(metadataCollectionId);
+            repositoryConnector.start();
+
+            return repositoryConnector;
+        }
+        catch (Throwable  exc)
+        {
+            System.out.println("Unable to create connector " + exc.getMessage());
+            return null;
+        }
+    }
+
+
+    /**
+     * Run the test cases in the workload and return the accumulated results.  A test case is skipped if the
+     * test cases before it failed to create the instances it needs.
+     *
+     * @return OpenMetadataWorkbenchResults bean
+     */
+    public OpenMetadataTestWorkbenchResults runTests()
+    {
+        List<OpenMetadataTestCase>        testCases        = new ArrayList<>();
+        OpenMetadataTestWorkbenchResults  workbenchResults = new OpenMetadataTestWorkbenchResults(this);
+        PerformanceTestData               testData         = new PerformanceTestData();
+
+        OMRSRepositoryConnector  repositoryConnector = this.getRepositoryConnector(dummyMetadataCollectionId);
+
+        if (repositoryConnector != null)
+        {
+            TestMetadataCollectionId testCase = new TestMetadataCollectionId(workbenchId);
+            testCases.add(testCase);
+
+            testCase.setConnector(repositoryConnector);
+            testCase.executeTest();
+
+            metadataCollectionId = testCase.getMetadataCollectionId();
+        }
+
+        TestEntityCreatePerformance         createTestCase               = new TestEntityCreatePerformance(workbenchId, workload, testData);
+        TestEntityReadPerformance           readTestCase                 = new TestEntityReadPerformance(workbenchId, workload, testData);
+        TestEntityPropertySearchPerformance propertySearchTestCase       = new TestEntityPropertySearchPerformance(workbenchId, workload, testData);
+        TestClassificationSearchPerformance classificationSearchTestCase = new TestClassificationSearchPerformance(workbenchId, workload, testData);
+        TestRelationshipFanOutPerformance   fanOutTestCase               = new TestRelationshipFanOutPerformance(workbenchId, workload, testData);
+        TestEntityNeighborhoodPerformance   neighborhoodTestCase         = new TestEntityNeighborhoodPerformance(workbenchId, workload, testData);
+        TestHistoricalQueryPerformance      historicalQueryTestCase      = new TestHistoricalQueryPerformance(workbenchId, workload, testData);
+
+        testCases.add(createTestCase);
+        testCases.add(readTestCase);
+        testCases.add(propertySearchTestCase);
+        testCases.add(classificationSearchTestCase);
+        testCases.add(fanOutTestCase);
+        testCases.add(neighborhoodTestCase);
+        testCases.add(historicalQueryTestCase);
+
+        if (metadataCollectionId != null)
+        {
+            repositoryConnector = this.getRepositoryConnector(metadataCollectionId);
+
+            if (repositoryConnector != null)
+            {
+                this.runTestCase(createTestCase, repositoryConnector);
+
+                if (! testData.getEntities().isEmpty())
+                {
+                    this.runTestCase(readTestCase, repositoryConnector);
+                    this.runTestCase(propertySearchTestCase, repositoryConnector);
+                    this.runTestCase(classificationSearchTestCase, repositoryConnector);
+
+                    if (testData.getEntities().size() > 1)
+                    {
+                        this.runTestCase(fanOutTestCase, repositoryConnector);
+                    }
+
+                    if (! testData.getRelationships().isEmpty())
+                    {
+                        this.runTestCase(neighborhoodTestCase, repositoryConnector);
+                    }
+
+                    this.runTestCase(historicalQueryTestCase, repositoryConnector);
+                }
+
+                this.removeTestData(repositoryConnector, testData);
+            }
+        }
+
+
+        /*
+         * Work through the test cases and extract the results
+         */
+        List<OpenMetadataTestCaseResult>  passedTestCases  = new ArrayList<>();
+        List<OpenMetadataTestCaseResult>  failedTestCases  = new ArrayList<>();
+        List<OpenMetadataTestCaseSummary> skippedTestCases = new ArrayList<>();
+
+        for (OpenMetadataTestCase testCase : testCases)
+        {
+            if (testCase.isTestRan())
+            {
+                if (testCase.isTestPassed())
+                {
+                    passedTestCases.add(testCase.getResult());
+                }
+                else
+                {
+                    failedTestCases.add(testCase.getResult());
+                }
+            }
+            else
+            {
+                skippedTestCases.add(testCase.getSummary());
+            }
+        }
+
+        if (! passedTestCases.isEmpty())
+        {
+            workbenchResults.setPassedTestCases(passedTestCases);
+        }
+        if (! failedTestCases.isEmpty())
+        {
+            workbenchResults.setFailedTestCases(failedTestCases);
+        }
+        if (! skippedTestCases.isEmpty())
+        {
+            workbenchResults.setSkippedTestCases(skippedTestCases);
+        }
+
+
+        return workbenchResults;
+    }
+
+
+    /**
+     * Run a single test case against the repository.
+     *
+     * @param testCase test case to run
+     * @param repositoryConnector connector to the repository
+     */
+    private void runTestCase(OpenMetadataPerformanceTestCase testCase,
+                             OMRSRepositoryConnector         repositoryConnector)
+    {
+        testCase.setConnector(repositoryConnector);
+        testCase.executeTest();
+    }
+
+
+    /**
+     * Remove the relationships and entities created by the workload.  They are deleted and then purged.
+     * Repositories that do not support soft delete have them purged directly.  Errors are ignored since
+     * the measurements have already been taken.
+     *
+     * @param repositoryConnector connector to the repository
+     * @param testData instances created by the workload
+     */
+    private void removeTestData(OMRSRepositoryConnector repositoryConnector,
+                                PerformanceTestData     testData)
+    {
+        final String userId = OpenMetadataPerformanceTestCase.testUserId;
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = repositoryConnector.getMetadataCollection();
+
+            for (Relationship relationship : testData.getRelationships())
+            {
+                InstanceType type = relationship.getType();
+
+                try
+                {
+                    try
+                    {
+                        metadataCollection.deleteRelationship(userId,
+                                                              type.getTypeDefGUID(),
+                                                              type.getTypeDefName(),
+                                                              relationship.getGUID());
+                    }
+                    catch (FunctionNotSupportedException error)
+                    {
+                        /*
+                         * Soft delete is optional so the relationship is purged directly.
+                         */
+                    }
+
+                    metadataCollection.purgeRelationship(userId,
+                                                         type.getTypeDefGUID(),
+                                                         type.getTypeDefName(),
+                                                         relationship.getGUID());
+                }
+                catch (Throwable error)
+                {
+                    System.out.println("Unable to remove relationship " + relationship.getGUID() + ": " + error.getMessage());
+                }
+            }
+
+            for (EntityDetail entity : testData.getEntities())
+            {
+                InstanceType type = entity.getType();
+
+                try
+                {
+                    try
+                    {
+                        metadataCollection.deleteEntity(userId,
+                                                        type.getTypeDefGUID(),
+                                                        type.getTypeDefName(),
+                                                        entity.getGUID());
+                    }
+                    catch (FunctionNotSupportedException error)
+                    {
+                        /*
+                         * Soft delete is optional so the entity is purged directly.
+                         */
+                    }
+
+                    metadataCollection.purgeEntity(userId,
+                                                   type.getTypeDefGUID(),
+                                                   type.getTypeDefName(),
+                                                   entity.getGUID());
+                }
+                catch (Throwable error)
+                {
+                    System.out.println("Unable to remove entity " + entity.getGUID() + ": " + error.getMessage());
+                }
+            }
+        }
+        catch (Throwable  exc)
+        {
+            System.out.println("Unable to remove performance test data " + exc.getMessage());
+        }
+    }
+}
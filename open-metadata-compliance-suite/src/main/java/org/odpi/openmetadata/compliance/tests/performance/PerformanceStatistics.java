@@ -0,0 +1,186 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * PerformanceStatistics accumulates the latency of each request issued for one operation and summarizes
+ * them as a throughput and a set of latency percentiles.  The requests are issued one at a time so the
+ * throughput is the number of requests divided by the total time spent in the requests.
+ */
+class PerformanceStatistics
+{
+    private static final double nanosPerMilli  = 1000000.0;
+    private static final double nanosPerSecond = 1000000000.0;
+
+    private String     operationName;
+    private List<Long> latencies    = new ArrayList<>();
+    private long       totalNanos   = 0;
+    private int        failureCount = 0;
+    private boolean    supported    = true;
+
+
+    /**
+     * Constructor for a specific operation.
+     *
+     * @param operationName name of the measured operation
+     */
+    PerformanceStatistics(String operationName)
+    {
+        this.operationName = operationName;
+    }
+
+
+    /**
+     * Return the name of the measured operation.
+     *
+     * @return name
+     */
+    String getOperationName()
+    {
+        return operationName;
+    }
+
+
+    /**
+     * Record a request that completed.
+     *
+     * @param latencyNanos elapsed time of the request
+     */
+    void recordSuccess(long latencyNanos)
+    {
+        latencies.add(latencyNanos);
+        totalNanos = totalNanos + latencyNanos;
+    }
+
+
+    /**
+     * Record a request that failed.  It is not included in the latencies.
+     */
+    void recordFailure()
+    {
+        failureCount++;
+    }
+
+
+    /**
+     * Record that the repository does not support the operation.
+     */
+    void setNotSupported()
+    {
+        supported = false;
+    }
+
+
+    /**
+     * Return the number of requests that completed.
+     *
+     * @return count
+     */
+    int getRequestCount()
+    {
+        return latencies.size();
+    }
+
+
+    /**
+     * Return the number of requests that failed.
+     *
+     * @return count
+     */
+    int getFailureCount()
+    {
+        return failureCount;
+    }
+
+
+    /**
+     * Return whether the repository supports the operation.
+     *
+     * @return boolean flag
+     */
+    boolean isSupported()
+    {
+        return supported;
+    }
+
+
+    /**
+     * Return the summary of the measurements in a form that can be added to the discovered properties of a
+     * test case result.  Latencies are in milliseconds.
+     *
+     * @return map of measurement name to value
+     */
+    Map<String, Object> getSummary()
+    {
+        Map<String, Object> summary = new LinkedHashMap<>();
+
+        summary.put("supported", supported);
+        summary.put("requestCount", latencies.size());
+        summary.put("failureCount", failureCount);
+
+        if (! latencies.isEmpty())
+        {
+            List<Long> sortedLatencies = new ArrayList<>(latencies);
+
+            Collections.sort(sortedLatencies);
+
+            summary.put("throughputPerSecond", round(latencies.size() / (totalNanos / nanosPerSecond)));
+            summary.put("latencyMinMillis", toMillis(sortedLatencies.get(0)));
+            summary.put("latencyMeanMillis", round((totalNanos / nanosPerMilli) / latencies.size()));
+            summary.put("latencyP50Millis", toMillis(getPercentile(sortedLatencies, 50)));
+            summary.put("latencyP90Millis", toMillis(getPercentile(sortedLatencies, 90)));
+            summary.put("latencyP95Millis", toMillis(getPercentile(sortedLatencies, 95)));
+            summary.put("latencyP99Millis", toMillis(getPercentile(sortedLatencies, 99)));
+            summary.put("latencyMaxMillis", toMillis(sortedLatencies.get(sortedLatencies.size() - 1)));
+        }
+
+        return summary;
+    }
+
+
+    /**
+     * Return the requested percentile using the nearest rank method.
+     *
+     * @param sortedLatencies latencies in ascending order
+     * @param percentile percentile between 1 and 100
+     * @return latency in nanoseconds
+     */
+    static long getPercentile(List<Long> sortedLatencies,
+                              int        percentile)
+    {
+        int rank = (int) Math.ceil((percentile / 100.0) * sortedLatencies.size());
+
+        return sortedLatencies.get(Math.max(rank, 1) - 1);
+    }
+
+
+    /**
+     * Convert nanoseconds to milliseconds.
+     *
+     * @param nanos elapsed time
+     * @return rounded milliseconds
+     */
+    private static double toMillis(long nanos)
+    {
+        return round(nanos / nanosPerMilli);
+    }
+
+
+    /**
+     * Round a measurement to three decimal places.
+     *
+     * @param value measurement
+     * @return rounded measurement
+     */
+    private static double round(double value)
+    {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,152 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * PerformanceTestData holds the instances created by the performance test cases.  It is passed along the
+ * pipeline of test cases so each one can use the instances created by the test cases before it.  The
+ * workbench removes the instances once all of the test cases have run.
+ */
+class PerformanceTestData
+{
+    private String             runId                 = null;
+    private TypeDef            entityTypeDef         = null;
+    private TypeDef            relationshipTypeDef   = null;
+    private List<EntityDetail> entities              = new ArrayList<>();
+    private List<Relationship> relationships         = new ArrayList<>();
+    private List<String>       hubEntityGUIDs        = new ArrayList<>();
+    private List<String>       classifiedEntityGUIDs = new ArrayList<>();
+
+
+    /**
+     * Return the value of the search property for one of the entities created for the workload.
+     *
+     * @param runId unique identifier of the run of the workbench
+     * @param entityIndex position of the entity in the list of entities
+     * @return property value
+     */
+    static String getSearchPropertyValue(String runId,
+                                         int    entityIndex)
+    {
+        return "PerformanceTest." + runId + "." + entityIndex;
+    }
+
+
+    /**
+     * Return the unique identifier of this run of the workbench.  It is used in the search property of each
+     * entity so that the instances from an earlier run do not match the searches.
+     *
+     * @return unique identifier
+     */
+    String getRunId()
+    {
+        return runId;
+    }
+
+
+    /**
+     * Set up the unique identifier of this run of the workbench.
+     *
+     * @param runId unique identifier
+     */
+    void setRunId(String runId)
+    {
+        this.runId = runId;
+    }
+
+
+    /**
+     * Return the type of the entities created for the workload.
+     *
+     * @return type definition
+     */
+    TypeDef getEntityTypeDef()
+    {
+        return entityTypeDef;
+    }
+
+
+    /**
+     * Set up the type of the entities created for the workload.
+     *
+     * @param entityTypeDef type definition
+     */
+    void setEntityTypeDef(TypeDef entityTypeDef)
+    {
+        this.entityTypeDef = entityTypeDef;
+    }
+
+
+    /**
+     * Return the type of the relationships created for the workload.
+     *
+     * @return type definition
+     */
+    TypeDef getRelationshipTypeDef()
+    {
+        return relationshipTypeDef;
+    }
+
+
+    /**
+     * Set up the type of the relationships created for the workload.
+     *
+     * @param relationshipTypeDef type definition
+     */
+    void setRelationshipTypeDef(TypeDef relationshipTypeDef)
+    {
+        this.relationshipTypeDef = relationshipTypeDef;
+    }
+
+
+    /**
+     * Return the entities created for the workload.
+     *
+     * @return list of entities
+     */
+    List<EntityDetail> getEntities()
+    {
+        return entities;
+    }
+
+
+    /**
+     * Return the relationships created for the workload.
+     *
+     * @return list of relationships
+     */
+    List<Relationship> getRelationships()
+    {
+        return relationships;
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities with relationships fanning out from them.
+     *
+     * @return list of guids
+     */
+    List<String> getHubEntityGUIDs()
+    {
+        return hubEntityGUIDs;
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities that have been classified.
+     *
+     * @return list of guids
+     */
+    List<String> getClassifiedEntityGUIDs()
+    {
+        return classifiedEntityGUIDs;
+    }
+}
@@ -0,0 +1,302 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+
+/**
+ * PerformanceWorkload describes the synthetic workload that the performance workbench drives through the
+ * repository under test.  The same workload should be used when comparing repository implementations.
+ * The defaults use the glossary types from the open metadata types archive.
+ */
+public class PerformanceWorkload
+{
+    private int    entityCount            = 100;
+    private int    readCount              = 1000;
+    private int    searchCount            = 100;
+    private int    relationshipFanOut     = 10;
+    private int    hubEntityCount         = 5;
+    private int    neighborhoodLevel      = 2;
+    private int    pageSize               = 100;
+    private String entityTypeName         = "GlossaryTerm";
+    private String searchPropertyName     = "qualifiedName";
+    private String relationshipTypeName   = "RelatedTerm";
+    private String classificationTypeName = "AbstractConcept";
+
+
+    /**
+     * Default constructor uses the default workload.
+     */
+    public PerformanceWorkload()
+    {
+    }
+
+
+    /**
+     * Return the number of entities created (and later read and searched for).
+     *
+     * @return count
+     */
+    public int getEntityCount()
+    {
+        return entityCount;
+    }
+
+
+    /**
+     * Set up the number of entities created (and later read and searched for).
+     *
+     * @param entityCount count
+     */
+    public void setEntityCount(int entityCount)
+    {
+        this.entityCount = entityCount;
+    }
+
+
+    /**
+     * Return the number of point reads issued for each read operation.
+     *
+     * @return count
+     */
+    public int getReadCount()
+    {
+        return readCount;
+    }
+
+
+    /**
+     * Set up the number of point reads issued for each read operation.
+     *
+     * @param readCount count
+     */
+    public void setReadCount(int readCount)
+    {
+        this.readCount = readCount;
+    }
+
+
+    /**
+     * Return the number of requests issued for each search operation.
+     *
+     * @return count
+     */
+    public int getSearchCount()
+    {
+        return searchCount;
+    }
+
+
+    /**
+     * Set up the number of requests issued for each search operation.
+     *
+     * @param searchCount count
+     */
+    public void setSearchCount(int searchCount)
+    {
+        this.searchCount = searchCount;
+    }
+
+
+    /**
+     * Return the number of relationships attached to each hub entity.
+     *
+     * @return count
+     */
+    public int getRelationshipFanOut()
+    {
+        return relationshipFanOut;
+    }
+
+
+    /**
+     * Set up the number of relationships attached to each hub entity.
+     *
+     * @param relationshipFanOut count
+     */
+    public void setRelationshipFanOut(int relationshipFanOut)
+    {
+        this.relationshipFanOut = relationshipFanOut;
+    }
+
+
+    /**
+     * Return the number of entities that have relationships fanning out to the other entities.
+     *
+     * @return count
+     */
+    public int getHubEntityCount()
+    {
+        return hubEntityCount;
+    }
+
+
+    /**
+     * Set up the number of entities that have relationships fanning out to the other entities.
+     *
+     * @param hubEntityCount count
+     */
+    public void setHubEntityCount(int hubEntityCount)
+    {
+        this.hubEntityCount = hubEntityCount;
+    }
+
+
+    /**
+     * Return the number of relationships to traverse on a neighborhood query.
+     *
+     * @return level
+     */
+    public int getNeighborhoodLevel()
+    {
+        return neighborhoodLevel;
+    }
+
+
+    /**
+     * Set up the number of relationships to traverse on a neighborhood query.
+     *
+     * @param neighborhoodLevel level
+     */
+    public void setNeighborhoodLevel(int neighborhoodLevel)
+    {
+        this.neighborhoodLevel = neighborhoodLevel;
+    }
+
+
+    /**
+     * Return the page size used on searches.
+     *
+     * @return page size
+     */
+    public int getPageSize()
+    {
+        return pageSize;
+    }
+
+
+    /**
+     * Set up the page size used on searches.
+     *
+     * @param pageSize page size
+     */
+    public void setPageSize(int pageSize)
+    {
+        this.pageSize = pageSize;
+    }
+
+
+    /**
+     * Return the name of the entity type used for the workload.
+     *
+     * @return type name
+     */
+    public String getEntityTypeName()
+    {
+        return entityTypeName;
+    }
+
+
+    /**
+     * Set up the name of the entity type used for the workload.
+     *
+     * @param entityTypeName type name
+     */
+    public void setEntityTypeName(String entityTypeName)
+    {
+        this.entityTypeName = entityTypeName;
+    }
+
+
+    /**
+     * Return the name of the string property that is given a unique value in each entity and is used
+     * by the property search.
+     *
+     * @return property name
+     */
+    public String getSearchPropertyName()
+    {
+        return searchPropertyName;
+    }
+
+
+    /**
+     * Set up the name of the string property that is given a unique value in each entity and is used
+     * by the property search.
+     *
+     * @param searchPropertyName property name
+     */
+    public void setSearchPropertyName(String searchPropertyName)
+    {
+        this.searchPropertyName = searchPropertyName;
+    }
+
+
+    /**
+     * Return the name of the relationship type used to link the entities.  Both ends must accept the
+     * entity type.
+     *
+     * @return type name
+     */
+    public String getRelationshipTypeName()
+    {
+        return relationshipTypeName;
+    }
+
+
+    /**
+     * Set up the name of the relationship type used to link the entities.  Both ends must accept the
+     * entity type.
+     *
+     * @param relationshipTypeName type name
+     */
+    public void setRelationshipTypeName(String relationshipTypeName)
+    {
+        this.relationshipTypeName = relationshipTypeName;
+    }
+
+
+    /**
+     * Return the name of the classification type added to the entities.  It must be valid for the entity type.
+     *
+     * @return type name
+     */
+    public String getClassificationTypeName()
+    {
+        return classificationTypeName;
+    }
+
+
+    /**
+     * Set up the name of the classification type added to the entities.  It must be valid for the entity type.
+     *
+     * @param classificationTypeName type name
+     */
+    public void setClassificationTypeName(String classificationTypeName)
+    {
+        this.classificationTypeName = classificationTypeName;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "PerformanceWorkload{" +
+                "entityCount=" + entityCount +
+                ", readCount=" + readCount +
+                ", searchCount=" + searchCount +
+                ", relationshipFanOut=" + relationshipFanOut +
+                ", hubEntityCount=" + hubEntityCount +
+                ", neighborhoodLevel=" + neighborhoodLevel +
+                ", pageSize=" + pageSize +
+                ", entityTypeName='" + entityTypeName + '\'' +
+                ", searchPropertyName='" + searchPropertyName + '\'' +
+                ", relationshipTypeName='" + relationshipTypeName + '\'' +
+                ", classificationTypeName='" + classificationTypeName + '\'' +
+                '}';
+    }
+}
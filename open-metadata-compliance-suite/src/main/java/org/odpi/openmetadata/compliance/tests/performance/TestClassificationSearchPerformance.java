@@ -0,0 +1,104 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+
+import java.util.List;
+
+
+/**
+ * Measure the classification of half of the entities created for the workload and then searches for the
+ * entities with the classification.
+ */
+public class TestClassificationSearchPerformance extends OpenMetadataPerformanceTestCase
+{
+    private static final String testCaseId   = "performance-classification-search";
+    private static final String testCaseName = "Repository classification search performance test case";
+
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " classification type is supported by the repository.";
+    private static final String assertion3    = testCaseId + "-03";
+    private static final String assertionMsg3 = " search returned classified entities.";
+
+    private static final String classifyEntityOperation               = "classifyEntity";
+    private static final String findEntitiesByClassificationOperation = "findEntitiesByClassification";
+
+
+    /**
+     * Typical constructor sets up superclass and the workload.
+     *
+     * @param workbenchId identifier of the workbench
+     * @param workload workload to run
+     * @param testData instances shared between test cases
+     */
+    TestClassificationSearchPerformance(String              workbenchId,
+                                        PerformanceWorkload workload,
+                                        PerformanceTestData testData)
+    {
+        super(workbenchId, testCaseId, testCaseName, workload, testData);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        List<EntityDetail>     entities           = testData.getEntities();
+        String                 entityTypeGUID     = testData.getEntityTypeDef().getGUID();
+        String                 classificationName = workload.getClassificationTypeName();
+        TypeDef                classificationDef  = metadataCollection.getTypeDefByName(testUserId, classificationName);
+
+        assertCondition((classificationDef != null), assertion2, classificationName + assertionMsg2);
+
+        InstanceProperties classificationProperties = super.getPropertiesForInstance(classificationDef.getPropertiesDefinition());
+
+        for (int i = 0; i < entities.size(); i = i + 2)
+        {
+            String entityGUID = entities.get(i).getGUID();
+
+            EntityDetail entity = measure(classifyEntityOperation,
+                                          () -> metadataCollection.classifyEntity(testUserId,
+                                                                                  entityGUID,
+                                                                                  classificationName,
+                                                                                  classificationProperties));
+            if (entity != null)
+            {
+                testData.getClassifiedEntityGUIDs().add(entityGUID);
+            }
+        }
+
+        boolean allFound = true;
+
+        for (int i = 0; i < workload.getSearchCount(); i++)
+        {
+            List<EntityDetail> results = measure(findEntitiesByClassificationOperation,
+                                                 () -> metadataCollection.findEntitiesByClassification(testUserId,
+                                                                                                       entityTypeGUID,
+                                                                                                       classificationName,
+                                                                                                       null,
+                                                                                                       null,
+                                                                                                       0,
+                                                                                                       null,
+                                                                                                       null,
+                                                                                                       null,
+                                                                                                       null,
+                                                                                                       workload.getPageSize()));
+            if ((results == null) || (results.isEmpty()))
+            {
+                allFound = false;
+            }
+        }
+
+        assertCondition(allFound, assertion3, findEntitiesByClassificationOperation + assertionMsg3);
+
+        super.reportResults("Entities located by classification");
+    }
+}
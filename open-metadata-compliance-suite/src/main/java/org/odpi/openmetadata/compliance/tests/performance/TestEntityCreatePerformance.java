@@ -0,0 +1,169 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+
+/**
+ * Measure the creation of the entities used by the rest of the performance workload.  Each entity is
+ * given a unique value in the search property so that it can be located by the property search.
+ */
+public class TestEntityCreatePerformance extends OpenMetadataPerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-create";
+    private static final String testCaseName = "Repository entity create performance test case";
+
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " entity type is supported by the repository.";
+    private static final String assertion3    = testCaseId + "-03";
+    private static final String assertionMsg3 = " all requested entities created.";
+
+    private static final String addEntityOperation = "addEntity";
+
+
+    /**
+     * Typical constructor sets up superclass and the workload.
+     *
+     * @param workbenchId identifier of the workbench
+     * @param workload workload to run
+     * @param testData instances shared between test cases
+     */
+    TestEntityCreatePerformance(String              workbenchId,
+                                PerformanceWorkload workload,
+                                PerformanceTestData testData)
+    {
+        super(workbenchId, testCaseId, testCaseName, workload, testData);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+
+        String  entityTypeName = workload.getEntityTypeName();
+        TypeDef entityTypeDef  = metadataCollection.getTypeDefByName(testUserId, entityTypeName);
+
+        assertCondition((entityTypeDef != null), assertion2, entityTypeName + assertionMsg2);
+
+        testData.setEntityTypeDef(entityTypeDef);
+
+        List<TypeDefAttribute> typeDefAttributes = this.getAllPropertiesForTypeDef(metadataCollection, entityTypeDef);
+        String                 runId             = UUID.randomUUID().toString();
+
+        for (int i = 0; i < workload.getEntityCount(); i++)
+        {
+            InstanceProperties properties = this.getPropertiesForEntity(typeDefAttributes,
+                                                                        PerformanceTestData.getSearchPropertyValue(runId, i));
+
+            EntityDetail entity = measure(addEntityOperation,
+                                          () -> metadataCollection.addEntity(testUserId,
+                                                                             entityTypeDef.getGUID(),
+                                                                             properties,
+                                                                             null,
+                                                                             null));
+            if (entity != null)
+            {
+                testData.getEntities().add(entity);
+            }
+        }
+
+        testData.setRunId(runId);
+
+        assertCondition((testData.getEntities().size() == workload.getEntityCount()), assertion3, entityTypeName + assertionMsg3);
+
+        super.reportResults("Entities created");
+    }
+
+
+    /**
+     * Return the properties for a new entity.  The search property is given a unique value.
+     *
+     * @param typeDefAttributes attributes for the entity type and its super types
+     * @param searchPropertyValue unique value for the search property
+     * @return properties for the entity
+     */
+    private InstanceProperties getPropertiesForEntity(List<TypeDefAttribute> typeDefAttributes,
+                                                      String                 searchPropertyValue)
+    {
+        InstanceProperties properties = super.getPropertiesForInstance(typeDefAttributes);
+
+        if (properties == null)
+        {
+            properties = new InstanceProperties();
+        }
+
+        Map<String, InstancePropertyValue> propertyMap = properties.getInstanceProperties();
+
+        if (propertyMap == null)
+        {
+            propertyMap = new HashMap<>();
+        }
+
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(searchPropertyValue);
+
+        propertyMap.put(workload.getSearchPropertyName(), propertyValue);
+        properties.setInstanceProperties(propertyMap);
+
+        return properties;
+    }
+
+
+    /**
+     * Return the attributes defined for a type and all of its super types.
+     *
+     * @param metadataCollection repository under test
+     * @param typeDef type of the entity
+     * @return list of attributes
+     * @throws Exception the super types can not be retrieved
+     */
+    private List<TypeDefAttribute> getAllPropertiesForTypeDef(OMRSMetadataCollection metadataCollection,
+                                                              TypeDef                typeDef) throws Exception
+    {
+        List<TypeDefAttribute> typeDefAttributes = new ArrayList<>();
+        TypeDef                currentTypeDef    = typeDef;
+
+        while (currentTypeDef != null)
+        {
+            if (currentTypeDef.getPropertiesDefinition() != null)
+            {
+                typeDefAttributes.addAll(currentTypeDef.getPropertiesDefinition());
+            }
+
+            TypeDefLink superType = currentTypeDef.getSuperType();
+
+            if (superType == null)
+            {
+                currentTypeDef = null;
+            }
+            else
+            {
+                currentTypeDef = metadataCollection.getTypeDefByGUID(testUserId, superType.getGUID());
+            }
+        }
+
+        return typeDefAttributes;
+    }
+}
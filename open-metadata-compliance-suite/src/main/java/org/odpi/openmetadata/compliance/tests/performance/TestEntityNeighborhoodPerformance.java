@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.List;
+
+
+/**
+ * Measure the retrieval of the neighborhood of each hub entity.  The neighborhood includes the relationships
+ * fanning out from the hub and, for a level greater than one, the relationships of the entities at the far end.
+ */
+public class TestEntityNeighborhoodPerformance extends OpenMetadataPerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-neighborhood";
+    private static final String testCaseName = "Repository entity neighborhood performance test case";
+
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " returned the relationships of the hub entity.";
+
+    private static final String getEntityNeighborhoodOperation = "getEntityNeighborhood";
+
+
+    /**
+     * Typical constructor sets up superclass and the workload.
+     *
+     * @param workbenchId identifier of the workbench
+     * @param workload workload to run
+     * @param testData instances shared between test cases
+     */
+    TestEntityNeighborhoodPerformance(String              workbenchId,
+                                      PerformanceWorkload workload,
+                                      PerformanceTestData testData)
+    {
+        super(workbenchId, testCaseId, testCaseName, workload, testData);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        List<String>           hubEntityGUIDs     = testData.getHubEntityGUIDs();
+        boolean                allReturned        = true;
+
+        for (int i = 0; i < workload.getSearchCount(); i++)
+        {
+            String hubGUID = hubEntityGUIDs.get(i % hubEntityGUIDs.size());
+
+            InstanceGraph graph = measure(getEntityNeighborhoodOperation,
+                                          () -> metadataCollection.getEntityNeighborhood(testUserId,
+                                                                                         hubGUID,
+                                                                                         null,
+                                                                                         null,
+                                                                                         null,
+                                                                                         null,
+                                                                                         null,
+                                                                                         workload.getNeighborhoodLevel()));
+            if (graph != null)
+            {
+                List<Relationship> relationships = graph.getRelationships();
+
+                if ((relationships == null) || (relationships.isEmpty()))
+                {
+                    allReturned = false;
+                }
+            }
+        }
+
+        assertCondition(allReturned, assertion2, getEntityNeighborhoodOperation + assertionMsg2);
+
+        super.reportResults("Entity neighborhoods retrieved");
+    }
+}
@@ -0,0 +1,136 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Measure searches for the entities created for the workload using the unique value of their search property.
+ */
+public class TestEntityPropertySearchPerformance extends OpenMetadataPerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-property-search";
+    private static final String testCaseName = "Repository entity property search performance test case";
+
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " search returned the matching entity.";
+
+    private static final String findEntitiesByPropertyOperation = "findEntitiesByProperty";
+
+
+    /**
+     * Typical constructor sets up superclass and the workload.
+     *
+     * @param workbenchId identifier of the workbench
+     * @param workload workload to run
+     * @param testData instances shared between test cases
+     */
+    TestEntityPropertySearchPerformance(String              workbenchId,
+                                        PerformanceWorkload workload,
+                                        PerformanceTestData testData)
+    {
+        super(workbenchId, testCaseId, testCaseName, workload, testData);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        List<EntityDetail>     entities           = testData.getEntities();
+        String                 entityTypeGUID     = testData.getEntityTypeDef().getGUID();
+        boolean                allMatched         = true;
+
+        for (int i = 0; i < workload.getSearchCount(); i++)
+        {
+            int                entityIndex     = i % entities.size();
+            String             entityGUID      = entities.get(entityIndex).getGUID();
+            InstanceProperties matchProperties = this.getMatchProperties(PerformanceTestData.getSearchPropertyValue(testData.getRunId(),
+                                                                                                                    entityIndex));
+
+            List<EntityDetail> results = measure(findEntitiesByPropertyOperation,
+                                                 () -> metadataCollection.findEntitiesByProperty(testUserId,
+                                                                                                 entityTypeGUID,
+                                                                                                 matchProperties,
+                                                                                                 MatchCriteria.ALL,
+                                                                                                 0,
+                                                                                                 null,
+                                                                                                 null,
+                                                                                                 null,
+                                                                                                 null,
+                                                                                                 null,
+                                                                                                 workload.getPageSize()));
+
+            if (! this.containsEntity(results, entityGUID))
+            {
+                allMatched = false;
+            }
+        }
+
+        assertCondition(allMatched, assertion2, findEntitiesByPropertyOperation + assertionMsg2);
+
+        super.reportResults("Entities located by property value");
+    }
+
+
+    /**
+     * Return the match properties for the search property.
+     *
+     * @param searchPropertyValue value to match
+     * @return properties
+     */
+    private InstanceProperties getMatchProperties(String searchPropertyValue)
+    {
+        InstanceProperties                 matchProperties = new InstanceProperties();
+        Map<String, InstancePropertyValue> propertyMap     = new HashMap<>();
+        PrimitivePropertyValue             propertyValue   = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(searchPropertyValue);
+
+        propertyMap.put(workload.getSearchPropertyName(), propertyValue);
+        matchProperties.setInstanceProperties(propertyMap);
+
+        return matchProperties;
+    }
+
+
+    /**
+     * Return whether the search results include the requested entity.
+     *
+     * @param results search results
+     * @param entityGUID unique identifier of the entity
+     * @return boolean flag
+     */
+    private boolean containsEntity(List<EntityDetail> results,
+                                   String             entityGUID)
+    {
+        if (results != null)
+        {
+            for (EntityDetail entity : results)
+            {
+                if ((entity != null) && (entityGUID.equals(entity.getGUID())))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+}
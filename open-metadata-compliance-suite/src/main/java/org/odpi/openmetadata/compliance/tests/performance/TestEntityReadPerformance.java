@@ -0,0 +1,86 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Measure point reads of the entities created for the workload.  The entities are read one at a time
+ * with getEntityDetail() and then in batches of the page size with getEntityDetails().
+ */
+public class TestEntityReadPerformance extends OpenMetadataPerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-read";
+    private static final String testCaseName = "Repository entity read performance test case";
+
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " entity retrieved.";
+
+    private static final String getEntityDetailOperation  = "getEntityDetail";
+    private static final String getEntityDetailsOperation = "getEntityDetails";
+
+
+    /**
+     * Typical constructor sets up superclass and the workload.
+     *
+     * @param workbenchId identifier of the workbench
+     * @param workload workload to run
+     * @param testData instances shared between test cases
+     */
+    TestEntityReadPerformance(String              workbenchId,
+                              PerformanceWorkload workload,
+                              PerformanceTestData testData)
+    {
+        super(workbenchId, testCaseId, testCaseName, workload, testData);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        List<EntityDetail>     entities           = testData.getEntities();
+        boolean                allRetrieved       = true;
+
+        for (int i = 0; i < workload.getReadCount(); i++)
+        {
+            String entityGUID = entities.get(i % entities.size()).getGUID();
+
+            EntityDetail entity = measure(getEntityDetailOperation,
+                                          () -> metadataCollection.getEntityDetail(testUserId, entityGUID));
+
+            if ((entity == null) || (! entityGUID.equals(entity.getGUID())))
+            {
+                allRetrieved = false;
+            }
+        }
+
+        assertCondition(allRetrieved, assertion2, getEntityDetailOperation + assertionMsg2);
+
+        int batchSize = Math.max(workload.getPageSize(), 1);
+
+        for (int i = 0; i < workload.getReadCount(); i = i + batchSize)
+        {
+            List<String> entityGUIDs = new ArrayList<>();
+
+            for (int j = i; j < Math.min(i + batchSize, workload.getReadCount()); j++)
+            {
+                entityGUIDs.add(entities.get(j % entities.size()).getGUID());
+            }
+
+            measure(getEntityDetailsOperation,
+                    () -> metadataCollection.getEntityDetails(testUserId, entityGUIDs));
+        }
+
+        super.reportResults("Entities retrieved");
+    }
+}
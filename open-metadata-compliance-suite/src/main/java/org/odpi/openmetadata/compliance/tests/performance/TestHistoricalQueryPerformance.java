@@ -0,0 +1,111 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.Date;
+import java.util.List;
+
+
+/**
+ * Measure queries for the state of the entities and relationships at a point in time.  Support for
+ * historical queries is optional so the test case records that the repository does not support them
+ * rather than failing.
+ */
+public class TestHistoricalQueryPerformance extends OpenMetadataPerformanceTestCase
+{
+    private static final String testCaseId   = "performance-historical-query";
+    private static final String testCaseName = "Repository historical query performance test case";
+
+    private static final String getEntityDetailOperation           = "getEntityDetail(asOfTime)";
+    private static final String getRelationshipsForEntityOperation = "getRelationshipsForEntity(asOfTime)";
+
+
+    /**
+     * Typical constructor sets up superclass and the workload.
+     *
+     * @param workbenchId identifier of the workbench
+     * @param workload workload to run
+     * @param testData instances shared between test cases
+     */
+    TestHistoricalQueryPerformance(String              workbenchId,
+                                   PerformanceWorkload workload,
+                                   PerformanceTestData testData)
+    {
+        super(workbenchId, testCaseId, testCaseName, workload, testData);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        List<EntityDetail>     entities           = testData.getEntities();
+        Date                   asOfTime           = new Date();
+
+        try
+        {
+            for (int i = 0; i < workload.getReadCount(); i++)
+            {
+                String entityGUID = entities.get(i % entities.size()).getGUID();
+
+                measure(getEntityDetailOperation,
+                        () -> metadataCollection.getEntityDetail(testUserId, entityGUID, asOfTime));
+            }
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            /*
+             * Recorded in the statistics for the operation.
+             */
+        }
+
+        List<String> hubEntityGUIDs      = testData.getHubEntityGUIDs();
+        TypeDef      relationshipTypeDef = testData.getRelationshipTypeDef();
+
+        if ((! hubEntityGUIDs.isEmpty()) && (relationshipTypeDef != null))
+        {
+            try
+            {
+                for (int i = 0; i < workload.getSearchCount(); i++)
+                {
+                    String hubGUID = hubEntityGUIDs.get(i % hubEntityGUIDs.size());
+
+                    measure(getRelationshipsForEntityOperation,
+                            () -> metadataCollection.getRelationshipsForEntity(testUserId,
+                                                                               hubGUID,
+                                                                               relationshipTypeDef.getGUID(),
+                                                                               0,
+                                                                               null,
+                                                                               asOfTime,
+                                                                               null,
+                                                                               null,
+                                                                               workload.getPageSize()));
+                }
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                /*
+                 * Recorded in the statistics for the operation.
+                 */
+            }
+        }
+
+        if (super.isSupported(getEntityDetailOperation) && super.isSupported(getRelationshipsForEntityOperation))
+        {
+            super.reportResults("Historical queries completed");
+        }
+        else
+        {
+            super.reportResults("Historical queries are not supported by the repository");
+        }
+    }
+}
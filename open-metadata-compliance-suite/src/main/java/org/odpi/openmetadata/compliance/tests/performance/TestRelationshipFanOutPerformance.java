@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.compliance.tests.performance;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+
+import java.util.List;
+
+
+/**
+ * Measure the creation of relationships fanning out from a small number of hub entities and then the
+ * retrieval of the relationships of each hub entity, with and without the entities at the far end.
+ */
+public class TestRelationshipFanOutPerformance extends OpenMetadataPerformanceTestCase
+{
+    private static final String testCaseId   = "performance-relationship-fan-out";
+    private static final String testCaseName = "Repository relationship fan-out performance test case";
+
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " relationship type is supported by the repository.";
+    private static final String assertion3    = testCaseId + "-03";
+    private static final String assertionMsg3 = " returned every relationship of the hub entity.";
+
+    private static final String addRelationshipOperation                    = "addRelationship";
+    private static final String getRelationshipsForEntityOperation          = "getRelationshipsForEntity";
+    private static final String getRelationshipsAndRelatedEntitiesOperation = "getRelationshipsAndRelatedEntities";
+
+
+    /**
+     * Typical constructor sets up superclass and the workload.
+     *
+     * @param workbenchId identifier of the workbench
+     * @param workload workload to run
+     * @param testData instances shared between test cases
+     */
+    TestRelationshipFanOutPerformance(String              workbenchId,
+                                      PerformanceWorkload workload,
+                                      PerformanceTestData testData)
+    {
+        super(workbenchId, testCaseId, testCaseName, workload, testData);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection   = super.getMetadataCollection();
+        List<EntityDetail>     entities             = testData.getEntities();
+        String                 relationshipTypeName = workload.getRelationshipTypeName();
+        TypeDef                relationshipTypeDef  = metadataCollection.getTypeDefByName(testUserId, relationshipTypeName);
+
+        assertCondition((relationshipTypeDef != null), assertion2, relationshipTypeName + assertionMsg2);
+
+        testData.setRelationshipTypeDef(relationshipTypeDef);
+
+        String             relationshipTypeGUID = relationshipTypeDef.getGUID();
+        InstanceProperties properties           = super.getPropertiesForInstance(relationshipTypeDef.getPropertiesDefinition());
+        int                hubCount             = Math.min(workload.getHubEntityCount(), entities.size());
+        int                fanOut               = Math.min(workload.getRelationshipFanOut(), entities.size() - 1);
+
+        for (int hub = 0; hub < hubCount; hub++)
+        {
+            String hubGUID = entities.get(hub).getGUID();
+
+            testData.getHubEntityGUIDs().add(hubGUID);
+
+            for (int j = 0; j < fanOut; j++)
+            {
+                String farEndGUID = entities.get((hub + 1 + j) % entities.size()).getGUID();
+
+                Relationship relationship = measure(addRelationshipOperation,
+                                                    () -> metadataCollection.addRelationship(testUserId,
+                                                                                             relationshipTypeGUID,
+                                                                                             properties,
+                                                                                             hubGUID,
+                                                                                             farEndGUID,
+                                                                                             null));
+                if (relationship != null)
+                {
+                    testData.getRelationships().add(relationship);
+                }
+            }
+        }
+
+        boolean allReturned = true;
+
+        for (int i = 0; i < workload.getSearchCount(); i++)
+        {
+            String hubGUID = testData.getHubEntityGUIDs().get(i % hubCount);
+
+            List<Relationship> relationships = measure(getRelationshipsForEntityOperation,
+                                                       () -> metadataCollection.getRelationshipsForEntity(testUserId,
+                                                                                                          hubGUID,
+                                                                                                          relationshipTypeGUID,
+                                                                                                          0,
+                                                                                                          null,
+                                                                                                          null,
+                                                                                                          null,
+                                                                                                          null,
+                                                                                                          workload.getPageSize()));
+            if ((relationships == null) || (relationships.size() < Math.min(fanOut, workload.getPageSize())))
+            {
+                allReturned = false;
+            }
+        }
+
+        assertCondition(allReturned, assertion3, getRelationshipsForEntityOperation + assertionMsg3);
+
+        for (int i = 0; i < workload.getSearchCount(); i++)
+        {
+            List<String> hubGUIDs = testData.getHubEntityGUIDs().subList(i % hubCount, (i % hubCount) + 1);
+
+            InstanceGraph graph = measure(getRelationshipsAndRelatedEntitiesOperation,
+                                          () -> metadataCollection.getRelationshipsAndRelatedEntities(testUserId,
+                                                                                                      hubGUIDs,
+                                                                                                      relationshipTypeGUID,
+                                                                                                      null,
+                                                                                                      null,
+                                                                                                      workload.getPageSize()));
+            if ((graph == null) || (graph.getRelationships() == null))
+            {
+                allReturned = false;
+            }
+        }
+
+        assertCondition(allReturned, assertion3, getRelationshipsAndRelatedEntitiesOperation + assertionMsg3);
+
+        super.reportResults("Relationships created and retrieved");
+    }
+}
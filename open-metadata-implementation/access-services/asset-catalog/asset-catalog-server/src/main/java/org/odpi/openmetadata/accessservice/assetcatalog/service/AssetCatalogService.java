@@ -52,8 +52,10 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorized
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.odpi.openmetadata.accessservice.assetcatalog.util.Constants.*;
 
@@ -448,6 +450,13 @@ public class AssetCatalogService {
             List<EntityDetail> matchCriteriaEntities = findEntitiesBySearchCriteria(metadataCollection, userId, searchCriteria);
             List<AssetDescription> assetDescriptions = new ArrayList<>(matchCriteriaEntities.size());
 
+            List<String> glossaryTermGUIDs = matchCriteriaEntities.stream()
+                    .filter(entityDetail -> entityDetail.getType().getTypeDefName().equals(GLOSSARY_TERM))
+                    .map(EntityDetail::getGUID)
+                    .distinct()
+                    .collect(Collectors.toList());
+            InstanceGraph semanticAssignments = getRelationshipsAndRelatedEntities(metadataCollection, userId, glossaryTermGUIDs, SEMANTIC_ASSIGNMENT);
+
             for (EntityDetail entityDetail : matchCriteriaEntities) {
 
                 AssetDescription assetDescription = converter.getAssetDescription(entityDetail);
@@ -458,15 +467,12 @@ public class AssetCatalogService {
                     Connection connection = getConnectionToAsset(metadataCollection, userId, entityDetail);
                     connections.add(connection);
                 } else {
-                    final List<Relationship> relationshipsToColumn = getRelationshipByType(metadataCollection,
-                            userId,
-                            entityDetail.getGUID(),
-                            SEMANTIC_ASSIGNMENT);
-                    if (relationshipsToColumn != null && !relationshipsToColumn.isEmpty()) {
+                    final List<Relationship> relationshipsToColumn = getRelationshipsForEntity(semanticAssignments, entityDetail.getGUID());
+                    if (!relationshipsToColumn.isEmpty()) {
                         assetDescription.setRelationships(converter.toRelationships(relationshipsToColumn));
 
                         for (Relationship relationship : relationshipsToColumn) {
-                            final EntityDetail relationalColumn = getThePairEntity(metadataCollection, userId, entityDetail.getGUID(), relationship);
+                            final EntityDetail relationalColumn = getThePairEntity(semanticAssignments, entityDetail.getGUID(), relationship);
                             if (relationalColumn != null) {
                                 Connection connection = getConnectionToAsset(metadataCollection, userId, relationalColumn);
                                 connections.add(connection);
@@ -737,7 +743,11 @@ public class AssetCatalogService {
         return new ArrayList<>();
     }
 
-    private List<Relationship> getRelationshipByType(OMRSMetadataCollection metadataCollection, String userId, String entityGUID, String relationshipType) {
+    private InstanceGraph getRelationshipsAndRelatedEntities(OMRSMetadataCollection metadataCollection, String userId, List<String> entityGUIDs, String relationshipType) {
+
+        if (entityGUIDs == null || entityGUIDs.isEmpty()) {
+            return null;
+        }
 
         String guid = null;
         if (relationshipType != null) {
@@ -748,23 +758,47 @@ public class AssetCatalogService {
         instanceStatuses.add(InstanceStatus.ACTIVE);
 
         try {
-            List<Relationship> relationshipsForEntity = metadataCollection.getRelationshipsForEntity(userId,
-                    entityGUID,
+            return metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                    entityGUIDs,
                     guid,
-                    0,
                     instanceStatuses,
                     null,
-                    null,
-                    SequencingOrder.ANY,
                     0);
-            if (relationshipsForEntity != null) {
-                return relationshipsForEntity;
-            }
-        } catch (InvalidParameterException | TypeErrorException | EntityNotKnownException | RepositoryErrorException | FunctionNotSupportedException | PropertyErrorException | UserNotAuthorizedException | PagingErrorException e) {
+        } catch (InvalidParameterException | TypeErrorException | RepositoryErrorException | FunctionNotSupportedException | PropertyErrorException | UserNotAuthorizedException | PagingErrorException e) {
             e.printStackTrace();
         }
 
-        return new ArrayList<>();
+        return null;
+    }
+
+    private List<Relationship> getRelationshipsForEntity(InstanceGraph instanceGraph, String entityGUID) {
+
+        List<Relationship> relationshipsForEntity = new ArrayList<>();
+        if (instanceGraph == null || instanceGraph.getRelationships() == null) {
+            return relationshipsForEntity;
+        }
+
+        for (Relationship relationship : instanceGraph.getRelationships()) {
+            if (entityGUID.equals(relationship.getEntityOneProxy().getGUID()) || entityGUID.equals(relationship.getEntityTwoProxy().getGUID())) {
+                relationshipsForEntity.add(relationship);
+            }
+        }
+
+        return relationshipsForEntity;
+    }
+
+    private EntityDetail getRelatedEntityByType(OMRSMetadataCollection metadataCollection, String userId, String entityGUID, String relationshipType) {
+
+        InstanceGraph instanceGraph = getRelationshipsAndRelatedEntities(metadataCollection, userId, Collections.singletonList(entityGUID), relationshipType);
+
+        for (Relationship relationship : getRelationshipsForEntity(instanceGraph, entityGUID)) {
+            EntityDetail relatedEntity = getThePairEntity(instanceGraph, entityGUID, relationship);
+            if (relatedEntity != null) {
+                return relatedEntity;
+            }
+        }
+
+        return null;
     }
 
     private String getTypeByName(OMRSMetadataCollection metadataCollection, String userId, String typeName) {
@@ -804,38 +838,28 @@ public class AssetCatalogService {
         connection.setColumn(column);
 
         Table table = new Table();
-        final List<Relationship> relationshipsToTableType = getRelationshipByType(metadataCollection, userId, relationalColumn.getGUID(), ATTRIBUTE_FOR_SCHEMA);
-        if (relationshipsToTableType != null && !relationshipsToTableType.isEmpty()) {
-            final EntityDetail relationalTableType = getThePairEntity(metadataCollection, userId, relationalColumn.getGUID(), relationshipsToTableType.get(0));
-            if (relationalTableType != null) {
-                getTableTypeAttributes(table, relationalTableType);
-                final List<Relationship> relationshipsToTables = getRelationshipByType(metadataCollection, userId, relationalTableType.getGUID(), SCHEMA_ATTRIBUTE_TYPE);
-                if (relationshipsToTables != null && !relationshipsToTables.isEmpty()) {
-                    final EntityDetail relationalTable = getThePairEntity(metadataCollection, userId, relationalTableType.getGUID(), relationshipsToTables.get(0));
-                    //this is the RelationalTable
-                    if (relationalTable != null) {
-                        processRelationalTable(metadataCollection, userId, connection, table, relationalTable);
-                    }
-                }
+        final EntityDetail relationalTableType = getRelatedEntityByType(metadataCollection, userId, relationalColumn.getGUID(), ATTRIBUTE_FOR_SCHEMA);
+        if (relationalTableType != null) {
+            getTableTypeAttributes(table, relationalTableType);
+            final EntityDetail relationalTable = getRelatedEntityByType(metadataCollection, userId, relationalTableType.getGUID(), SCHEMA_ATTRIBUTE_TYPE);
+            //this is the RelationalTable
+            if (relationalTable != null) {
+                processRelationalTable(metadataCollection, userId, connection, table, relationalTable);
             }
         }
     }
 
     private DataType getColumnType(OMRSMetadataCollection metadataCollection, String userId, EntityDetail relationalColumn) {
-        final List<Relationship> relationshipsToType = getRelationshipByType(metadataCollection, userId, relationalColumn.getGUID(), SCHEMA_ATTRIBUTE_TYPE);
+        final EntityDetail columnType = getRelatedEntityByType(metadataCollection, userId, relationalColumn.getGUID(), SCHEMA_ATTRIBUTE_TYPE);
+        if (columnType != null && columnType.getProperties() != null) {
 
-        if (relationshipsToType != null && !relationshipsToType.isEmpty()) {
-            final EntityDetail columnType = getThePairEntity(metadataCollection, userId, relationalColumn.getGUID(), relationshipsToType.get(0));
-            if (columnType != null && columnType.getProperties() != null) {
-
-                PrimitivePropertyValue value = (PrimitivePropertyValue) columnType.getProperties().getPropertyValue(TYPE);
-                if (value != null) {
-                    PrimitiveDefCategory primitiveValue = value.getPrimitiveDefCategory();
-                    return converter.getDataTypeDef(primitiveValue);
-                }
-
-                return null;
+            PrimitivePropertyValue value = (PrimitivePropertyValue) columnType.getProperties().getPropertyValue(TYPE);
+            if (value != null) {
+                PrimitiveDefCategory primitiveValue = value.getPrimitiveDefCategory();
+                return converter.getDataTypeDef(primitiveValue);
             }
+
+            return null;
         }
 
         return null;
@@ -847,29 +871,22 @@ public class AssetCatalogService {
         connection.setTable(table);
 
         //db schema type
-        final List<Relationship> relationshipsToRelationalDBSchemaType = getRelationshipByType(metadataCollection, userId, relationalTable.getGUID(), ATTRIBUTE_FOR_SCHEMA);
-        if (relationshipsToRelationalDBSchemaType != null && !relationshipsToRelationalDBSchemaType.isEmpty()) {
-            final EntityDetail relationalDbSchemaType = getThePairEntity(metadataCollection, userId, relationalTable.getGUID(), relationshipsToRelationalDBSchemaType.get(0));
-            if (relationalDbSchemaType != null) {
-                Schema schema = getSchema(relationalDbSchemaType);
-
-                //deployed db schema type
-                final List<Relationship> relationshipsToDeployedDBSchema = getRelationshipByType(metadataCollection, userId, relationalDbSchemaType.getGUID(), ASSET_SCHEMA_TYPE);
-                if (relationshipsToDeployedDBSchema != null && !relationshipsToDeployedDBSchema.isEmpty()) {
-                    final EntityDetail deployedDbSchema = getThePairEntity(metadataCollection, userId, relationalDbSchemaType.getGUID(), relationshipsToDeployedDBSchema.get(0));
-                    if (deployedDbSchema != null && deployedDbSchema.getProperties() != null) {
-                        schema.setDeployedDbSchemaName(getPropertyValue(deployedDbSchema.getProperties(), NAME));
-
-                        //data store
-                        final List<Relationship> relationshipsToDataStore = getRelationshipByType(metadataCollection, userId, deployedDbSchema.getGUID(), DATA_CONTENT_FOR_DATA_SET);
-                        if (relationshipsToDataStore != null && !relationshipsToDataStore.isEmpty()) {
-                            final EntityDetail dataStore = getThePairEntity(metadataCollection, userId, deployedDbSchema.getGUID(), relationshipsToDataStore.get(0));
-                            processDataStore(metadataCollection, userId, connection, dataStore);
-                        }
-                    }
+        final EntityDetail relationalDbSchemaType = getRelatedEntityByType(metadataCollection, userId, relationalTable.getGUID(), ATTRIBUTE_FOR_SCHEMA);
+        if (relationalDbSchemaType != null) {
+            Schema schema = getSchema(relationalDbSchemaType);
+
+            //deployed db schema type
+            final EntityDetail deployedDbSchema = getRelatedEntityByType(metadataCollection, userId, relationalDbSchemaType.getGUID(), ASSET_SCHEMA_TYPE);
+            if (deployedDbSchema != null && deployedDbSchema.getProperties() != null) {
+                schema.setDeployedDbSchemaName(getPropertyValue(deployedDbSchema.getProperties(), NAME));
+
+                //data store
+                final EntityDetail dataStore = getRelatedEntityByType(metadataCollection, userId, deployedDbSchema.getGUID(), DATA_CONTENT_FOR_DATA_SET);
+                if (dataStore != null) {
+                    processDataStore(metadataCollection, userId, connection, dataStore);
                 }
-                connection.setSchema(schema);
             }
+            connection.setSchema(schema);
         }
     }
 
@@ -881,17 +898,14 @@ public class AssetCatalogService {
 
     private void getPropertiesForDataStore(OMRSMetadataCollection metadataCollection, String userId, Connection connection, EntityDetail dataStore) {
         //connection
-        final List<Relationship> relationshipsToConnection = getRelationshipByType(metadataCollection, userId, dataStore.getGUID(), CONNECTION_TO_ASSET);
-        if (relationshipsToConnection != null && !relationshipsToConnection.isEmpty()) {
-            final EntityDetail connectionEntity = getThePairEntity(metadataCollection, userId, dataStore.getGUID(), relationshipsToConnection.get(0));
-            InstanceProperties properties;
-            if (connectionEntity != null && (properties = connectionEntity.getProperties()) != null) {
-                connection.setDisplayName(getPropertyValue(properties, NAME));
-                connection.setDescription(getPropertyValue(properties, DESCRIPTION));
-                connection.setGuid(connectionEntity.getGUID());
-                getConnectorType(metadataCollection, userId, connection, connectionEntity);
-                buildEndpoint(metadataCollection, userId, connection, connectionEntity);
-            }
+        final EntityDetail connectionEntity = getRelatedEntityByType(metadataCollection, userId, dataStore.getGUID(), CONNECTION_TO_ASSET);
+        InstanceProperties properties;
+        if (connectionEntity != null && (properties = connectionEntity.getProperties()) != null) {
+            connection.setDisplayName(getPropertyValue(properties, NAME));
+            connection.setDescription(getPropertyValue(properties, DESCRIPTION));
+            connection.setGuid(connectionEntity.getGUID());
+            getConnectorType(metadataCollection, userId, connection, connectionEntity);
+            buildEndpoint(metadataCollection, userId, connection, connectionEntity);
         }
     }
 
@@ -906,32 +920,21 @@ public class AssetCatalogService {
     }
 
     private void buildEndpoint(OMRSMetadataCollection metadataCollection, String userId, Connection connection, EntityDetail connectionEntity) {
-        final List<Relationship> relationshipsToEndpoint = getRelationshipByType(metadataCollection, userId, connectionEntity.getGUID(), CONNECTION_ENDPOINT);
-
-        if (relationshipsToEndpoint != null && !relationshipsToEndpoint.isEmpty()) {
-            final EntityDetail endpointEntity = getThePairEntity(metadataCollection, userId, connectionEntity.getGUID(), relationshipsToEndpoint.get(0));
-            if (endpointEntity != null) {
-                Endpoint endpoint = getEndpoint(endpointEntity);
-                connection.setEndpoint(endpoint);
-            }
+        final EntityDetail endpointEntity = getRelatedEntityByType(metadataCollection, userId, connectionEntity.getGUID(), CONNECTION_ENDPOINT);
+        if (endpointEntity != null) {
+            Endpoint endpoint = getEndpoint(endpointEntity);
+            connection.setEndpoint(endpoint);
         }
     }
 
     private void getConnectorType(OMRSMetadataCollection metadataCollection, String userId,
                                   Connection connection, EntityDetail connectionEntity) {
-        final List<Relationship> relationshipsToConnectorType = getRelationshipByType(metadataCollection, userId, connectionEntity.getGUID(), CONNECTION_CONNECTOR_TYPE);
-
-        if (relationshipsToConnectorType != null && !relationshipsToConnectorType.isEmpty()) {
-            final EntityDetail connectorType = getThePairEntity(metadataCollection,
-                    userId,
-                    connectionEntity.getGUID(),
-                    relationshipsToConnectorType.get(0));
-            InstanceProperties properties;
-            if (connectorType != null && (properties = connectorType.getProperties()) != null) {
-                connection.setConnectorName(getPropertyValue(properties, NAME));
-                connection.setConnectorDescription(getPropertyValue(properties, DESCRIPTION));
-                connection.setConnectorProvider(getPropertyValue(properties, CONNECTOR_PROVIDER_CLASS_NAME));
-            }
+        final EntityDetail connectorType = getRelatedEntityByType(metadataCollection, userId, connectionEntity.getGUID(), CONNECTION_CONNECTOR_TYPE);
+        InstanceProperties properties;
+        if (connectorType != null && (properties = connectorType.getProperties()) != null) {
+            connection.setConnectorName(getPropertyValue(properties, NAME));
+            connection.setConnectorDescription(getPropertyValue(properties, DESCRIPTION));
+            connection.setConnectorProvider(getPropertyValue(properties, CONNECTOR_PROVIDER_CLASS_NAME));
         }
     }
 
@@ -996,16 +999,21 @@ public class AssetCatalogService {
         return endpoint;
     }
 
-    private EntityDetail getThePairEntity(OMRSMetadataCollection metadataCollection, String userId, String entityDetailGUID, Relationship relationship) {
+    private EntityDetail getThePairEntity(InstanceGraph instanceGraph, String entityDetailGUID, Relationship relationship) {
 
-        try {
-            if (relationship.getEntityOneProxy().getGUID().equals(entityDetailGUID)) {
-                return metadataCollection.getEntityDetail(userId, relationship.getEntityTwoProxy().getGUID());
-            } else {
-                return metadataCollection.getEntityDetail(userId, relationship.getEntityOneProxy().getGUID());
+        String pairEntityGUID;
+        if (relationship.getEntityOneProxy().getGUID().equals(entityDetailGUID)) {
+            pairEntityGUID = relationship.getEntityTwoProxy().getGUID();
+        } else {
+            pairEntityGUID = relationship.getEntityOneProxy().getGUID();
+        }
+
+        if (instanceGraph.getEntities() != null) {
+            for (EntityDetail entityDetail : instanceGraph.getEntities()) {
+                if (pairEntityGUID.equals(entityDetail.getGUID())) {
+                    return entityDetail;
+                }
             }
-        } catch (InvalidParameterException | RepositoryErrorException | EntityProxyOnlyException | EntityNotKnownException | UserNotAuthorizedException e) {
-            e.printStackTrace();
         }
 
         return null;
@@ -31,6 +31,10 @@ import java.util.Map;
  * looks up the connection properties in the metadata repository before calling the OCF ConnectorBroker to create the
  * connector.
  *
+ * The connectors are started and shared with the other requests from the same user for the same connection.
+ * The caller must not call start() or disconnect() on the connector.  Instead it calls releaseConnector() when
+ * it has finished with the connector.
+ *
  * The Asset Consumer OMAS supports access to the asset properties either through the connector, or by a direct
  * call to Asset Consumer API.  It also supports the management of Asset Collections.
  *
@@ -113,6 +117,14 @@ public interface AssetConsumerInterface
                                                                          PropertyServerException;
 
 
+    /**
+     * Release a connector returned by one of the getConnector methods when the caller has finished with it.
+     *
+     * @param connector connector returned by getConnectorByName, getConnectorByGUID or getConnectorByConnection.
+     */
+    void releaseConnector(Connector connector);
+
+
     /**
      * Return the profile for this user.
      *
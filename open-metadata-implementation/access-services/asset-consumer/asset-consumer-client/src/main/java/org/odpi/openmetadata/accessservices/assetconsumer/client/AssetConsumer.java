@@ -36,6 +36,10 @@ import java.util.Map;
  * looks up the connection properties in the metadata repository before calling the OCF ConnectorBroker to create the
  * connector.
  *
+ * The connectors are started and shared with the other requests from the same user for the same connection.
+ * The caller must not call start() or disconnect() on the connector.  Instead it calls releaseConnector() when
+ * it has finished with the connector.
+ *
  * The Asset Consumer OMAS supports access to the asset properties either through the connector, or by a direct
  * call to Asset Consumer API.  It also provides access to the note log contents and comment conversations
  *
@@ -68,12 +72,16 @@ public class AssetConsumer implements AssetConsumerInterface
 
 
     /**
-     * Use the Open Connector Framework (OCF) to create a connector using the supplied connection.
+     * Use the Open Connector Framework (OCF) to return a started connector for the supplied connection.
+     * The connector is shared with the other requests from the same user for the same version of the
+     * connection.  It is not shared with other users because it holds the connected asset properties
+     * retrieved on behalf of the user.
      *
+     * @param userId  userId of user making request.
      * @param requestedConnection  connection describing the required connector.
      * @param methodName  name of the calling method.
      *
-     * @return a new connector.
+     * @return a started connector.
      *
      * @throws ConnectionCheckedException  there are issues with the values in the connection
      * @throws ConnectorCheckedException the connector had an operational issue accessing the asset.
@@ -86,10 +94,10 @@ public class AssetConsumer implements AssetConsumerInterface
         ConnectorBroker  connectorBroker = new ConnectorBroker();
 
         /*
-         * Pass the connection to the ConnectorBroker to create the connector instance.
+         * Pass the connection to the ConnectorBroker to create or reuse the connector instance.
          * Again, exceptions from this process are returned directly to the caller.
          */
-        Connector newConnector = connectorBroker.getConnector(requestedConnection);
+        Connector newConnector = connectorBroker.getSharedConnector(requestedConnection, userId);
 
         /*
          * If no exception is thrown by getConnector, we should have a connector instance.
@@ -341,6 +349,18 @@ public class AssetConsumer implements AssetConsumerInterface
     }
 
 
+    /**
+     * Release a connector returned by one of the getConnector methods when the caller has finished with it.
+     * The connector is disconnected once it is no longer used by any request.
+     *
+     * @param connector connector returned by getConnectorByName, getConnectorByGUID or getConnectorByConnection.
+     */
+    public void releaseConnector(Connector connector)
+    {
+        new ConnectorBroker().releaseSharedConnector(connector);
+    }
+
+
     /**
      * Return the profile for this user.
      *
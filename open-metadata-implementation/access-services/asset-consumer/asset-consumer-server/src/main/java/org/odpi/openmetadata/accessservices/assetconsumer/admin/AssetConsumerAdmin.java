@@ -9,8 +9,12 @@ import org.odpi.openmetadata.adminservices.configuration.registration.AccessServ
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Collections;
+
 public class AssetConsumerAdmin implements AccessServiceAdmin
 {
     private OMRSRepositoryConnector repositoryConnector = null;
@@ -80,7 +84,12 @@ public class AssetConsumerAdmin implements AccessServiceAdmin
                                                                    repositoryConnector.getRepositoryValidator(),
                                                                    accessServiceConfig.getAccessServiceName());
 
-            omrsTopicConnector.registerListener(omrsTopicListener);
+            /*
+             * The listener only processes instance events.
+             */
+            OMRSTopicListenerFilter omrsTopicListenerFilter = new OMRSTopicListenerFilter(Collections.singletonList(OMRSEventCategory.INSTANCE));
+
+            omrsTopicConnector.registerListener(omrsTopicListener, omrsTopicListenerFilter);
         }
 
         this.auditLog = auditLog;
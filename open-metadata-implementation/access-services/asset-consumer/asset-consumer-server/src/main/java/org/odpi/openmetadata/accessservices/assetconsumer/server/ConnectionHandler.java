@@ -13,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -739,19 +740,22 @@ class ConnectionHandler
     {
         try
         {
-            List<Relationship> relationships = metadataCollection.getRelationshipsForEntity(userId,
-                                                                                            anchorEntity.getGUID(),
+            /*
+             * The relationship and the entity at the other end are retrieved together.
+             */
+            InstanceGraph instances = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                            Collections.singletonList(anchorEntity.getGUID()),
                                                                                             relationshipTypeGUID,
-                                                                                            0,
-                                                                                            null,
-                                                                                            null,
                                                                                             null,
                                                                                             null,
                                                                                             100);
 
-            if (relationships != null)
+            if (instances != null)
             {
-                if (relationships.size() == 1)
+                List<Relationship> relationships = instances.getRelationships();
+                List<EntityDetail> entities      = instances.getEntities();
+
+                if ((relationships != null) && (relationships.size() == 1) && (entities != null))
                 {
                     Relationship  relationship = relationships.get(0);
 
@@ -761,7 +765,13 @@ class ConnectionHandler
                         requiredEnd = relationship.getEntityTwoProxy();
                     }
 
-                    return metadataCollection.getEntityDetail(userId, requiredEnd.getGUID());
+                    for (EntityDetail entity : entities)
+                    {
+                        if ((entity != null) && (requiredEnd.getGUID().equals(entity.getGUID())))
+                        {
+                            return entity;
+                        }
+                    }
                 }
             }
         }
@@ -0,0 +1,634 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.connectedasset.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * AssetUniverseResponse is the response structure used on the Connected Asset OMAS REST API call that returns
+ * the asset universe in a single request.  It contains the asset summary (with the counts of the attached
+ * elements) and the first page of each of the requested sections.  A section that was not requested, or is
+ * empty, is null.  The remaining pages of a section are retrieved through the section's own REST call.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AssetUniverseResponse extends ConnectedAssetOMASAPIResponse
+{
+    private AssetResponse                  asset                  = null;
+    private AnnotationsResponse            annotations            = null;
+    private CertificationsResponse         certifications         = null;
+    private CommentsResponse               comments               = null;
+    private ConnectionsResponse            connections            = null;
+    private ExternalIdentifiersResponse    externalIdentifiers    = null;
+    private ExternalReferencesResponse     externalReferences     = null;
+    private InformalTagsResponse           informalTags           = null;
+    private LicensesResponse               licenses               = null;
+    private LikesResponse                  likes                  = null;
+    private LocationsResponse              knownLocations         = null;
+    private MeaningsResponse               meanings               = null;
+    private NoteLogsResponse               noteLogs               = null;
+    private RatingsResponse                ratings                = null;
+    private RelatedAssetsResponse          relatedAssets          = null;
+    private RelatedMediaReferencesResponse relatedMediaReferences = null;
+    private SchemaResponse                 schema                 = null;
+    private Map<String, CommentsResponse>  commentReplies         = null;
+    private Map<String, NotesResponse>     notes                  = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AssetUniverseResponse(AssetUniverseResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.asset                  = template.getAsset();
+            this.annotations            = template.getAnnotations();
+            this.certifications         = template.getCertifications();
+            this.comments               = template.getComments();
+            this.connections            = template.getConnections();
+            this.externalIdentifiers    = template.getExternalIdentifiers();
+            this.externalReferences     = template.getExternalReferences();
+            this.informalTags           = template.getInformalTags();
+            this.licenses               = template.getLicenses();
+            this.likes                  = template.getLikes();
+            this.knownLocations         = template.getKnownLocations();
+            this.meanings               = template.getMeanings();
+            this.noteLogs               = template.getNoteLogs();
+            this.ratings                = template.getRatings();
+            this.relatedAssets          = template.getRelatedAssets();
+            this.relatedMediaReferences = template.getRelatedMediaReferences();
+            this.schema                 = template.getSchema();
+            this.commentReplies         = template.getCommentReplies();
+            this.notes                  = template.getNotes();
+        }
+    }
+
+
+    /**
+     * Return the summary properties of the asset and the counts of the elements attached to it.
+     *
+     * @return response object
+     */
+    public AssetResponse getAsset()
+    {
+        return asset;
+    }
+
+
+    /**
+     * Set up the summary properties of the asset and the counts of the elements attached to it.
+     *
+     * @param asset response object
+     */
+    public void setAsset(AssetResponse asset)
+    {
+        this.asset = asset;
+    }
+
+
+    /**
+     * Return the first page of annotations.
+     *
+     * @return response object
+     */
+    public AnnotationsResponse getAnnotations()
+    {
+        return annotations;
+    }
+
+
+    /**
+     * Set up the first page of annotations.
+     *
+     * @param annotations response object
+     */
+    public void setAnnotations(AnnotationsResponse annotations)
+    {
+        this.annotations = annotations;
+    }
+
+
+    /**
+     * Return the first page of certifications.
+     *
+     * @return response object
+     */
+    public CertificationsResponse getCertifications()
+    {
+        return certifications;
+    }
+
+
+    /**
+     * Set up the first page of certifications.
+     *
+     * @param certifications response object
+     */
+    public void setCertifications(CertificationsResponse certifications)
+    {
+        this.certifications = certifications;
+    }
+
+
+    /**
+     * Return the first page of comments.
+     *
+     * @return response object
+     */
+    public CommentsResponse getComments()
+    {
+        return comments;
+    }
+
+
+    /**
+     * Set up the first page of comments.
+     *
+     * @param comments response object
+     */
+    public void setComments(CommentsResponse comments)
+    {
+        this.comments = comments;
+    }
+
+
+    /**
+     * Return the first page of connections.
+     *
+     * @return response object
+     */
+    public ConnectionsResponse getConnections()
+    {
+        return connections;
+    }
+
+
+    /**
+     * Set up the first page of connections.
+     *
+     * @param connections response object
+     */
+    public void setConnections(ConnectionsResponse connections)
+    {
+        this.connections = connections;
+    }
+
+
+    /**
+     * Return the first page of external identifiers.
+     *
+     * @return response object
+     */
+    public ExternalIdentifiersResponse getExternalIdentifiers()
+    {
+        return externalIdentifiers;
+    }
+
+
+    /**
+     * Set up the first page of external identifiers.
+     *
+     * @param externalIdentifiers response object
+     */
+    public void setExternalIdentifiers(ExternalIdentifiersResponse externalIdentifiers)
+    {
+        this.externalIdentifiers = externalIdentifiers;
+    }
+
+
+    /**
+     * Return the first page of external references.
+     *
+     * @return response object
+     */
+    public ExternalReferencesResponse getExternalReferences()
+    {
+        return externalReferences;
+    }
+
+
+    /**
+     * Set up the first page of external references.
+     *
+     * @param externalReferences response object
+     */
+    public void setExternalReferences(ExternalReferencesResponse externalReferences)
+    {
+        this.externalReferences = externalReferences;
+    }
+
+
+    /**
+     * Return the first page of informal tags.
+     *
+     * @return response object
+     */
+    public InformalTagsResponse getInformalTags()
+    {
+        return informalTags;
+    }
+
+
+    /**
+     * Set up the first page of informal tags.
+     *
+     * @param informalTags response object
+     */
+    public void setInformalTags(InformalTagsResponse informalTags)
+    {
+        this.informalTags = informalTags;
+    }
+
+
+    /**
+     * Return the first page of licenses.
+     *
+     * @return response object
+     */
+    public LicensesResponse getLicenses()
+    {
+        return licenses;
+    }
+
+
+    /**
+     * Set up the first page of licenses.
+     *
+     * @param licenses response object
+     */
+    public void setLicenses(LicensesResponse licenses)
+    {
+        this.licenses = licenses;
+    }
+
+
+    /**
+     * Return the first page of likes.
+     *
+     * @return response object
+     */
+    public LikesResponse getLikes()
+    {
+        return likes;
+    }
+
+
+    /**
+     * Set up the first page of likes.
+     *
+     * @param likes response object
+     */
+    public void setLikes(LikesResponse likes)
+    {
+        this.likes = likes;
+    }
+
+
+    /**
+     * Return the first page of known locations.
+     *
+     * @return response object
+     */
+    public LocationsResponse getKnownLocations()
+    {
+        return knownLocations;
+    }
+
+
+    /**
+     * Set up the first page of known locations.
+     *
+     * @param knownLocations response object
+     */
+    public void setKnownLocations(LocationsResponse knownLocations)
+    {
+        this.knownLocations = knownLocations;
+    }
+
+
+    /**
+     * Return the first page of meanings.
+     *
+     * @return response object
+     */
+    public MeaningsResponse getMeanings()
+    {
+        return meanings;
+    }
+
+
+    /**
+     * Set up the first page of meanings.
+     *
+     * @param meanings response object
+     */
+    public void setMeanings(MeaningsResponse meanings)
+    {
+        this.meanings = meanings;
+    }
+
+
+    /**
+     * Return the first page of note logs.
+     *
+     * @return response object
+     */
+    public NoteLogsResponse getNoteLogs()
+    {
+        return noteLogs;
+    }
+
+
+    /**
+     * Set up the first page of note logs.
+     *
+     * @param noteLogs response object
+     */
+    public void setNoteLogs(NoteLogsResponse noteLogs)
+    {
+        this.noteLogs = noteLogs;
+    }
+
+
+    /**
+     * Return the first page of ratings.
+     *
+     * @return response object
+     */
+    public RatingsResponse getRatings()
+    {
+        return ratings;
+    }
+
+
+    /**
+     * Set up the first page of ratings.
+     *
+     * @param ratings response object
+     */
+    public void setRatings(RatingsResponse ratings)
+    {
+        this.ratings = ratings;
+    }
+
+
+    /**
+     * Return the first page of related assets.
+     *
+     * @return response object
+     */
+    public RelatedAssetsResponse getRelatedAssets()
+    {
+        return relatedAssets;
+    }
+
+
+    /**
+     * Set up the first page of related assets.
+     *
+     * @param relatedAssets response object
+     */
+    public void setRelatedAssets(RelatedAssetsResponse relatedAssets)
+    {
+        this.relatedAssets = relatedAssets;
+    }
+
+
+    /**
+     * Return the first page of related media references.
+     *
+     * @return response object
+     */
+    public RelatedMediaReferencesResponse getRelatedMediaReferences()
+    {
+        return relatedMediaReferences;
+    }
+
+
+    /**
+     * Set up the first page of related media references.
+     *
+     * @param relatedMediaReferences response object
+     */
+    public void setRelatedMediaReferences(RelatedMediaReferencesResponse relatedMediaReferences)
+    {
+        this.relatedMediaReferences = relatedMediaReferences;
+    }
+
+
+    /**
+     * Return the schema for the asset.
+     *
+     * @return response object
+     */
+    public SchemaResponse getSchema()
+    {
+        return schema;
+    }
+
+
+    /**
+     * Set up the schema for the asset.
+     *
+     * @param schema response object
+     */
+    public void setSchema(SchemaResponse schema)
+    {
+        this.schema = schema;
+    }
+
+
+    /**
+     * Return the first page of replies for each of the returned comments, keyed by comment GUID.
+     *
+     * @return map of responses
+     */
+    public Map<String, CommentsResponse> getCommentReplies()
+    {
+        if ((commentReplies == null) || (commentReplies.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            return new HashMap<>(commentReplies);
+        }
+    }
+
+
+    /**
+     * Set up the first page of replies for each of the returned comments, keyed by comment GUID.
+     *
+     * @param commentReplies map of responses
+     */
+    public void setCommentReplies(Map<String, CommentsResponse> commentReplies)
+    {
+        this.commentReplies = commentReplies;
+    }
+
+
+    /**
+     * Return the first page of notes for each of the returned note logs, keyed by note log GUID.
+     *
+     * @return map of responses
+     */
+    public Map<String, NotesResponse> getNotes()
+    {
+        if ((notes == null) || (notes.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            return new HashMap<>(notes);
+        }
+    }
+
+
+    /**
+     * Set up the first page of notes for each of the returned note logs, keyed by note log GUID.
+     *
+     * @param notes map of responses
+     */
+    public void setNotes(Map<String, NotesResponse> notes)
+    {
+        this.notes = notes;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "AssetUniverseResponse{" +
+                "asset=" + asset +
+                ", annotations=" + annotations +
+                ", certifications=" + certifications +
+                ", comments=" + comments +
+                ", connections=" + connections +
+                ", externalIdentifiers=" + externalIdentifiers +
+                ", externalReferences=" + externalReferences +
+                ", informalTags=" + informalTags +
+                ", licenses=" + licenses +
+                ", likes=" + likes +
+                ", knownLocations=" + knownLocations +
+                ", meanings=" + meanings +
+                ", noteLogs=" + noteLogs +
+                ", ratings=" + ratings +
+                ", relatedAssets=" + relatedAssets +
+                ", relatedMediaReferences=" + relatedMediaReferences +
+                ", schema=" + schema +
+                ", commentReplies=" + commentReplies +
+                ", notes=" + notes +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof AssetUniverseResponse))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        AssetUniverseResponse that = (AssetUniverseResponse) objectToCompare;
+        return Objects.equals(asset, that.asset) &&
+                Objects.equals(annotations, that.annotations) &&
+                Objects.equals(certifications, that.certifications) &&
+                Objects.equals(comments, that.comments) &&
+                Objects.equals(connections, that.connections) &&
+                Objects.equals(externalIdentifiers, that.externalIdentifiers) &&
+                Objects.equals(externalReferences, that.externalReferences) &&
+                Objects.equals(informalTags, that.informalTags) &&
+                Objects.equals(licenses, that.licenses) &&
+                Objects.equals(likes, that.likes) &&
+                Objects.equals(knownLocations, that.knownLocations) &&
+                Objects.equals(meanings, that.meanings) &&
+                Objects.equals(noteLogs, that.noteLogs) &&
+                Objects.equals(ratings, that.ratings) &&
+                Objects.equals(relatedAssets, that.relatedAssets) &&
+                Objects.equals(relatedMediaReferences, that.relatedMediaReferences) &&
+                Objects.equals(schema, that.schema) &&
+                Objects.equals(commentReplies, that.commentReplies) &&
+                Objects.equals(notes, that.notes);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(asset,
+                            annotations,
+                            certifications,
+                            comments,
+                            connections,
+                            externalIdentifiers,
+                            externalReferences,
+                            informalTags,
+                            licenses,
+                            likes,
+                            knownLocations,
+                            meanings,
+                            noteLogs,
+                            ratings,
+                            relatedAssets,
+                            relatedMediaReferences,
+                            schema,
+                            commentReplies,
+                            notes);
+    }
+}
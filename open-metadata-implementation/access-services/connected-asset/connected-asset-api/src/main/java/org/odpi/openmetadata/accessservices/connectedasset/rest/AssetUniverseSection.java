@@ -0,0 +1,109 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.connectedasset.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AssetUniverseSection identifies the sections of an asset's universe that can be requested on the
+ * getAssetUniverse call.  Each section is a list of elements attached to the asset.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum AssetUniverseSection implements Serializable
+{
+    ANNOTATIONS              (0,  "Annotations", "Annotations from the analysis of the asset."),
+    CERTIFICATIONS           (1,  "Certifications", "Certifications awarded to the asset."),
+    COMMENTS                 (2,  "Comments", "Comments attached to the asset."),
+    CONNECTIONS              (3,  "Connections", "Connections used to access the asset."),
+    EXTERNAL_IDENTIFIERS     (4,  "ExternalIdentifiers", "Identifiers for the asset used in other systems."),
+    EXTERNAL_REFERENCES      (5,  "ExternalReferences", "Links to external documentation about the asset."),
+    INFORMAL_TAGS            (6,  "InformalTags", "Informal tags attached to the asset."),
+    LICENSES                 (7,  "Licenses", "Licenses associated with the asset."),
+    LIKES                    (8,  "Likes", "Likes attached to the asset."),
+    KNOWN_LOCATIONS          (9,  "KnownLocations", "Locations where the asset is stored."),
+    MEANINGS                 (10, "Meanings", "Glossary terms that describe the meaning of the asset."),
+    NOTE_LOGS                (11, "NoteLogs", "Note logs attached to the asset."),
+    RATINGS                  (12, "Ratings", "Star ratings and reviews of the asset."),
+    RELATED_ASSETS           (13, "RelatedAssets", "Assets related to the asset."),
+    RELATED_MEDIA_REFERENCES (14, "RelatedMediaReferences", "Images, videos and sound files related to the asset."),
+    SCHEMA                   (15, "Schema", "Schema describing the structure of the asset.");
+
+    private static final long     serialVersionUID = 1L;
+
+    private int            sectionCode;
+    private String         sectionName;
+    private String         sectionDescription;
+
+
+    /**
+     * Typical Constructor
+     *
+     * @param sectionCode ordinal for the section
+     * @param sectionName symbolic name for the section
+     * @param sectionDescription description of the section
+     */
+    AssetUniverseSection(int     sectionCode, String   sectionName, String   sectionDescription)
+    {
+        this.sectionCode = sectionCode;
+        this.sectionName = sectionName;
+        this.sectionDescription = sectionDescription;
+    }
+
+
+    /**
+     * Return the code for this enum instance
+     *
+     * @return int section code
+     */
+    public int getOrdinal()
+    {
+        return sectionCode;
+    }
+
+
+    /**
+     * Return the default name for this enum instance.
+     *
+     * @return String default name
+     */
+    public String getName()
+    {
+        return sectionName;
+    }
+
+
+    /**
+     * Return the default description for this enum instance.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return sectionDescription;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "AssetUniverseSection{" +
+                "sectionCode=" + sectionCode +
+                ", sectionName='" + sectionName + '\'' +
+                ", sectionDescription='" + sectionDescription + '\'' +
+                '}';
+    }
+}
@@ -25,6 +25,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
         {
                 @JsonSubTypes.Type(value = AnnotationsResponse.class, name = "AnnotationsResponse"),
                 @JsonSubTypes.Type(value = AssetResponse.class, name = "AssetResponse"),
+                @JsonSubTypes.Type(value = AssetUniverseResponse.class, name = "AssetUniverseResponse"),
                 @JsonSubTypes.Type(value = CertificationsResponse.class, name = "CertificationsResponse"),
                 @JsonSubTypes.Type(value = CommentsResponse.class, name = "CommentsResponse"),
                 @JsonSubTypes.Type(value = ConnectionsResponse.class, name = "ConnectionsResponse"),
@@ -0,0 +1,268 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.connectedasset.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Note;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the AssetUniverseResponse bean can be cloned, compared, serialized, deserialized and printed as a String.
+ */
+public class AssetUniverseResponseTest
+{
+    private Map<String, Object> exceptionProperties = new HashMap<>();
+    private List<Note>          responseList        = new ArrayList<>();
+    private Note                responseObject      = new Note();
+    private NotesResponse       notesResponse       = new NotesResponse();
+    private CommentsResponse    commentsResponse    = new CommentsResponse();
+    private AssetResponse       assetResponse       = new AssetResponse();
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponseTest()
+    {
+        responseObject.setGUID("TestGUID");
+        responseList.add(responseObject);
+
+        notesResponse.setList(responseList);
+        assetResponse.setCommentCount(3);
+    }
+
+
+    /**
+     * Set up an example object to test.
+     *
+     * @return filled in object
+     */
+    private AssetUniverseResponse getTestObject()
+    {
+        AssetUniverseResponse testObject = new AssetUniverseResponse();
+
+        testObject.setExceptionClassName(NullPointerException.class.getName());
+        testObject.setExceptionErrorMessage("TestErrorMessage");
+        testObject.setExceptionSystemAction("TestSystemAction");
+        testObject.setExceptionUserAction("TestUserAction");
+
+        testObject.setRelatedHTTPCode(400);
+        testObject.setExceptionProperties(exceptionProperties);
+
+        Map<String, NotesResponse>    notes          = new HashMap<>();
+        Map<String, CommentsResponse> commentReplies = new HashMap<>();
+
+        notes.put("TestNoteLogGUID", notesResponse);
+        commentReplies.put("TestCommentGUID", commentsResponse);
+
+        testObject.setAsset(assetResponse);
+        testObject.setComments(commentsResponse);
+        testObject.setNotes(notes);
+        testObject.setCommentReplies(commentReplies);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate that the object that comes out of the test has the same content as the original test object.
+     *
+     * @param resultObject object returned by the test
+     */
+    private void validateResultObject(AssetUniverseResponse  resultObject)
+    {
+        assertTrue(resultObject.getExceptionClassName().equals(NullPointerException.class.getName()));
+        assertTrue(resultObject.getExceptionErrorMessage().equals("TestErrorMessage"));
+        assertTrue(resultObject.getExceptionSystemAction().equals("TestSystemAction"));
+        assertTrue(resultObject.getExceptionUserAction().equals("TestUserAction"));
+
+        assertTrue(resultObject.getRelatedHTTPCode() == 400);
+        assertTrue(resultObject.getExceptionProperties() == null);
+
+        assertTrue(resultObject.getAsset().equals(assetResponse));
+        assertTrue(resultObject.getComments().equals(commentsResponse));
+        assertTrue(resultObject.getLikes() == null);
+        assertTrue(resultObject.getNotes().get("TestNoteLogGUID").equals(notesResponse));
+        assertTrue(resultObject.getCommentReplies().get("TestCommentGUID").equals(commentsResponse));
+    }
+
+
+    /**
+     * Validate that the object is initialized properly
+     */
+    @Test public void testNullObject()
+    {
+        AssetUniverseResponse    nullObject = new AssetUniverseResponse();
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getExceptionClassName() == null);
+        assertTrue(nullObject.getExceptionErrorMessage() == null);
+        assertTrue(nullObject.getExceptionSystemAction() == null);
+        assertTrue(nullObject.getExceptionUserAction() == null);
+        assertTrue(nullObject.getExceptionProperties() == null);
+        assertTrue(nullObject.getAsset() == null);
+        assertTrue(nullObject.getNotes() == null);
+        assertTrue(nullObject.getCommentReplies() == null);
+
+        nullObject = new AssetUniverseResponse(null);
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getExceptionClassName() == null);
+        assertTrue(nullObject.getExceptionErrorMessage() == null);
+        assertTrue(nullObject.getExceptionSystemAction() == null);
+        assertTrue(nullObject.getExceptionUserAction() == null);
+        assertTrue(nullObject.getExceptionProperties() == null);
+        assertTrue(nullObject.getAsset() == null);
+        assertTrue(nullObject.getNotes() == null);
+        assertTrue(nullObject.getCommentReplies() == null);
+
+        nullObject.setNotes(new HashMap<>());
+        nullObject.setCommentReplies(new HashMap<>());
+
+        assertTrue(nullObject.getNotes() == null);
+        assertTrue(nullObject.getCommentReplies() == null);
+    }
+
+
+    /**
+     * Validate that exception properties are managed properly
+     */
+    @Test public void testExceptionProperties()
+    {
+        Map<String, Object>   propertyMap;
+        AssetUniverseResponse   testObject = new AssetUniverseResponse();
+
+        assertTrue(testObject.getExceptionProperties() == null);
+
+        propertyMap = null;
+        testObject = new AssetUniverseResponse();
+        testObject.setExceptionProperties(propertyMap);
+
+        assertTrue(testObject.getExceptionProperties() == null);
+
+        propertyMap = new HashMap<>();
+        testObject = new AssetUniverseResponse();
+        testObject.setExceptionProperties(propertyMap);
+
+        assertTrue(testObject.getExceptionProperties() == null);
+
+        propertyMap.put("propertyName", "propertyValue");
+        testObject = new AssetUniverseResponse();
+        testObject.setExceptionProperties(propertyMap);
+
+        Map<String, Object>   retrievedPropertyMap = testObject.getExceptionProperties();
+
+        assertTrue(retrievedPropertyMap != null);
+        assertFalse(retrievedPropertyMap.isEmpty());
+        assertTrue("propertyValue".equals(retrievedPropertyMap.get("propertyName")));
+    }
+
+
+    /**
+     * Validate that 2 different objects with the same content are evaluated as equal.
+     * Also that different objects are considered not equal.
+     */
+    @Test public void testEquals()
+    {
+        assertFalse(getTestObject().equals(null));
+        assertFalse(getTestObject().equals("DummyString"));
+        assertTrue(getTestObject().equals(getTestObject()));
+
+        AssetUniverseResponse  sameObject = getTestObject();
+        assertTrue(sameObject.equals(sameObject));
+
+        AssetUniverseResponse  differentObject = getTestObject();
+        differentObject.setExceptionErrorMessage("Different");
+        assertFalse(getTestObject().equals(differentObject));
+    }
+
+
+    /**
+     *  Validate that 2 different objects with the same content have the same hash code.
+     */
+    @Test public void testHashCode()
+    {
+        assertTrue(getTestObject().hashCode() == getTestObject().hashCode());
+    }
+
+
+    /**
+     *  Validate that an object cloned from another object has the same content as the original
+     */
+    @Test public void testClone()
+    {
+        validateResultObject(new AssetUniverseResponse(getTestObject()));
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String has the same content as the object used to
+     * create the JSON String.
+     */
+    @Test public void testJSON()
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String       jsonString   = null;
+
+        /*
+         * This class
+         */
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(getTestObject());
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject(objectMapper.readValue(jsonString, AssetUniverseResponse.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        /*
+         * Through superclass
+         */
+        ConnectedAssetOMASAPIResponse superObject = getTestObject();
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(superObject);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject((AssetUniverseResponse) objectMapper.readValue(jsonString, ConnectedAssetOMASAPIResponse.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(getTestObject().toString().contains("AssetUniverseResponse"));
+    }
+}
@@ -4,7 +4,10 @@ package org.odpi.openmetadata.accessservices.connectedasset.client;
 import org.odpi.openmetadata.accessservices.connectedasset.ffdc.ConnectedAssetErrorCode;
 import org.odpi.openmetadata.accessservices.connectedasset.ffdc.exceptions.*;
 import org.odpi.openmetadata.accessservices.connectedasset.rest.AssetResponse;
+import org.odpi.openmetadata.accessservices.connectedasset.rest.AssetUniverseResponse;
+import org.odpi.openmetadata.accessservices.connectedasset.rest.CommentsResponse;
 import org.odpi.openmetadata.accessservices.connectedasset.rest.ConnectedAssetOMASAPIResponse;
+import org.odpi.openmetadata.accessservices.connectedasset.rest.NotesResponse;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.*;
@@ -47,9 +50,26 @@ public class ConnectedAsset extends AssetUniverse
     private int   relatedMediaReferenceCount = 0;
     private int   schemaCount                = 0;
 
+    /*
+     * The first pages of the nested lists that were returned with the asset universe
+     */
+    private Map<String, CommentsResponse> commentReplies = null;
+    private Map<String, NotesResponse>    notes          = null;
+
+    /*
+     * Number of elements requested for each list in the asset universe and on the first later request for more
+     * elements.  The iterators use adaptive paging so the later requests grow up to maxPageSize elements.
+     * The depth requests the first page of comment replies and notes too.
+     */
+    private static final int pageSize      = 100;
+    static final int         maxPageSize   = 1000;
+    private static final int universeDepth = 2;
+
 
     /**
-     * Constructor used by Asset Consumer OMAS and Connected AssetProperties.refresh().
+     * Constructor used by Asset Consumer OMAS and Connected AssetProperties.refresh().  The asset universe
+     * is retrieved from the server in a single request.  It is used to pre-populate the first page of each of
+     * the iterators.  Later pages are retrieved from the server as the caller steps through the iterators.
      *
      * @param omasServerURL  url used to call the server.
      * @param userId  userId of user making request.
@@ -72,141 +92,289 @@ public class ConnectedAsset extends AssetUniverse
 
         this.omasServerURL = omasServerURL;
 
-        AssetResponse assetResponse = this.getAssetSummary(userId, assetGUID);
+        AssetUniverseResponse assetUniverse = this.getAssetUniverse(userId, assetGUID);
+        AssetResponse         assetResponse = assetUniverse.getAsset();
+
+        if (assetResponse == null)
+        {
+            return;
+        }
 
         super.assetBean = assetResponse.getAsset();
 
+        this.commentReplies = assetUniverse.getCommentReplies();
+        this.notes = assetUniverse.getNotes();
+
         if (assetResponse.getExternalIdentifierCount() > 0)
         {
-            super.externalIdentifiers = new ConnectedAssetExternalIdentifiers(userId,
-                                                                              omasServerURL,
-                                                                              assetGUID,
-                                                                              this,
-                                                                              assetResponse.getExternalIdentifierCount(),
-                                                                              100);
+            ConnectedAssetExternalIdentifiers externalIdentifiers = new ConnectedAssetExternalIdentifiers(userId,
+                                                                                                          omasServerURL,
+                                                                                                          assetGUID,
+                                                                                                          this,
+                                                                                                          assetResponse.getExternalIdentifierCount(),
+                                                                                                          pageSize);
+
+            externalIdentifiers.setFirstCache(externalIdentifiers.getElements(assetUniverse.getExternalIdentifiers()));
+            super.externalIdentifiers = externalIdentifiers;
+        }
+
+        if (assetResponse.getRelatedMediaReferenceCount() > 0)
+        {
+            ConnectedAssetRelatedMediaReferences relatedMediaReferences = new ConnectedAssetRelatedMediaReferences(userId,
+                                                                                                                   omasServerURL,
+                                                                                                                   assetGUID,
+                                                                                                                   this,
+                                                                                                                   assetResponse.getRelatedMediaReferenceCount(),
+                                                                                                                   pageSize);
+
+            relatedMediaReferences.setFirstCache(relatedMediaReferences.getElements(assetUniverse.getRelatedMediaReferences()));
+            super.relatedMediaReferences = relatedMediaReferences;
+        }
+
+        if (assetResponse.getNoteLogsCount() > 0)
+        {
+            ConnectedAssetNoteLogs noteLogs = new ConnectedAssetNoteLogs(userId,
+                                                                         omasServerURL,
+                                                                         assetGUID,
+                                                                         this,
+                                                                         assetResponse.getNoteLogsCount(),
+                                                                         pageSize);
+
+            noteLogs.setFirstCache(noteLogs.getElements(assetUniverse.getNoteLogs()));
+            super.noteLogs = noteLogs;
+        }
+
+        if (assetResponse.getExternalReferencesCount() > 0)
+        {
+            ConnectedAssetExternalReferences externalReferences = new ConnectedAssetExternalReferences(userId,
+                                                                                                       omasServerURL,
+                                                                                                       assetGUID,
+                                                                                                       this,
+                                                                                                       assetResponse.getExternalReferencesCount(),
+                                                                                                       pageSize);
+
+            externalReferences.setFirstCache(externalReferences.getElements(assetUniverse.getExternalReferences()));
+            super.externalReferences = externalReferences;
+        }
+
+        if (assetResponse.getConnectionCount() > 0)
+        {
+            ConnectedAssetConnections connections = new ConnectedAssetConnections(userId,
+                                                                                  omasServerURL,
+                                                                                  assetGUID,
+                                                                                  this,
+                                                                                  assetResponse.getConnectionCount(),
+                                                                                  pageSize);
+
+            connections.setFirstCache(connections.getElements(assetUniverse.getConnections()));
+            super.connections = connections;
+        }
+
+        if (assetResponse.getLicenseCount() > 0)
+        {
+            ConnectedAssetLicenses licenses = new ConnectedAssetLicenses(userId,
+                                                                         omasServerURL,
+                                                                         assetGUID,
+                                                                         this,
+                                                                         assetResponse.getLicenseCount(),
+                                                                         pageSize);
+
+            licenses.setFirstCache(licenses.getElements(assetUniverse.getLicenses()));
+            super.licenses = licenses;
+        }
+
+        if (assetResponse.getCertificationCount() > 0)
+        {
+            ConnectedAssetCertifications certifications = new ConnectedAssetCertifications(userId,
+                                                                                           omasServerURL,
+                                                                                           assetGUID,
+                                                                                           this,
+                                                                                           assetResponse.getCertificationCount(),
+                                                                                           pageSize);
+
+            certifications.setFirstCache(certifications.getElements(assetUniverse.getCertifications()));
+            super.certifications = certifications;
+        }
+
+        if (assetResponse.getMeaningsCount() > 0)
+        {
+            ConnectedAssetMeanings meanings = new ConnectedAssetMeanings(userId,
+                                                                         omasServerURL,
+                                                                         assetGUID,
+                                                                         this,
+                                                                         assetResponse.getMeaningsCount(),
+                                                                         pageSize);
+
+            meanings.setFirstCache(meanings.getElements(assetUniverse.getMeanings()));
+            super.meanings = meanings;
+        }
+
+        if (assetResponse.getAnnotationCount() > 0)
+        {
+            ConnectedAssetAnnotations analysis = new ConnectedAssetAnnotations(userId,
+                                                                               omasServerURL,
+                                                                               assetGUID,
+                                                                               this,
+                                                                               assetResponse.getAnnotationCount(),
+                                                                               pageSize);
+
+            analysis.setFirstCache(analysis.getElements(assetUniverse.getAnnotations()));
+            super.analysis = analysis;
+        }
+
+        if (assetResponse.getKnownLocationsCount() > 0)
+        {
+            ConnectedAssetLocations knownLocations = new ConnectedAssetLocations(userId,
+                                                                                 omasServerURL,
+                                                                                 assetGUID,
+                                                                                 this,
+                                                                                 assetResponse.getKnownLocationsCount(),
+                                                                                 pageSize);
+
+            knownLocations.setFirstCache(knownLocations.getElements(assetUniverse.getKnownLocations()));
+            super.knownLocations = knownLocations;
+        }
+
+        if (assetResponse.getRelatedAssetCount() > 0)
+        {
+            ConnectedAssetRelatedAssets relatedAssets = new ConnectedAssetRelatedAssets(userId,
+                                                                                        omasServerURL,
+                                                                                        assetGUID,
+                                                                                        this,
+                                                                                        assetResponse.getRelatedAssetCount(),
+                                                                                        pageSize);
+
+            relatedAssets.setFirstCache(relatedAssets.getElements(assetUniverse.getRelatedAssets()));
+            super.relatedAssets = relatedAssets;
         }
-        super.relatedMediaReferences = this.getNewRelatedMediaReferences(userId, assetGUID);
-        super.noteLogs = this.getNewNoteLogs(userId, assetGUID);
-        super.externalIdentifiers = this.getNewExternalIdentifiers(userId, assetGUID);
-        super.externalReferences = this.getNewExternalReferences(userId, assetGUID);
-        super.connections = this.getNewConnections(userId, assetGUID);
-        super.licenses = this.getNewLicenses(userId, assetGUID);
-        super.certifications = this.getNewCertifications(userId, assetGUID);
-        super.meanings = this.getNewMeanings(userId, assetGUID);
+
+        super.feedback = this.getNewFeedback(userId, assetGUID, assetResponse, assetUniverse);
         super.schema = this.getNewSchema(userId, assetGUID);
-        super.analysis = this.getNewAnalysis(userId, assetGUID);
-        super.feedback = this.getNewFeedback(userId, assetGUID);
-        super.knownLocations = this.getNewKnownLocations(userId, assetGUID);
         super.lineage = this.getNewLineage(userId, assetGUID);
-        super.relatedAssets = this.getNewRelatedAssets(userId, assetGUID);
     }
 
 
-
     /**
-     * Returns the basic information about the asset.
+     * Returns the asset universe.  This is the asset summary plus the first page of each of the lists of
+     * elements attached to the asset.
      *
      * @param userId     String   userId of user making request.
      * @param assetGUID  String   unique id for asset.
      *
-     * @return a bean with the basic properties about the asset.
+     * @return a bean with the asset universe.
      * @throws InvalidParameterException the GUID is null or invalid.
      * @throws UnrecognizedAssetGUIDException the GUID is not recognized by the property server.
      * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
      * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
      */
-    private AssetResponse getAssetSummary(String   userId,
-                                          String   assetGUID) throws InvalidParameterException,
-                                                                     UnrecognizedAssetGUIDException,
-                                                                     PropertyServerException,
-                                                                     UserNotAuthorizedException
+    private AssetUniverseResponse getAssetUniverse(String   userId,
+                                                   String   assetGUID) throws InvalidParameterException,
+                                                                              UnrecognizedAssetGUIDException,
+                                                                              PropertyServerException,
+                                                                              UserNotAuthorizedException
     {
-        final String   methodName = "getAssetSummary";
-        final String   urlTemplate = "/open-metadata/access-services/connected-asset/users/{0}/assets/by-connection/{1}";
+        final String   methodName = "getAssetUniverse";
+        final String   urlTemplate = "/open-metadata/access-services/connected-asset/users/{0}/assets/{1}/universe?depth={2}&maxElements={3}";
 
         validateOMASServerURL(methodName);
 
-        AssetResponse  restResult = null;
-
-        try
-        {
-            RestTemplate restTemplate = new RestTemplate();
-
-            restResult = restTemplate.getForObject(urlTemplate, AssetResponse.class, userId, assetGUID);
-        }
-        catch (Throwable error)
-        {
-            ConnectedAssetErrorCode errorCode = ConnectedAssetErrorCode.CLIENT_SIDE_REST_API_ERROR;
-            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
-                                                                                                     omasServerURL,
-                                                                                                     error.getMessage());
-
-            throw new PropertyServerException(errorCode.getHTTPErrorCode(),
-                                              this.getClass().getName(),
-                                              methodName,
-                                              errorMessage,
-                                              errorCode.getSystemAction(),
-                                              errorCode.getUserAction(),
-                                              error);
-        }
+        AssetUniverseResponse restResult = (AssetUniverseResponse)this.callGetRESTCall(methodName,
+                                                                                       AssetUniverseResponse.class,
+                                                                                       omasServerURL + urlTemplate,
+                                                                                       userId,
+                                                                                       assetGUID,
+                                                                                       universeDepth,
+                                                                                       pageSize);
 
         this.detectAndThrowInvalidParameterException(methodName, restResult);
         this.detectAndThrowUnrecognizedAssetGUIDException(methodName, restResult);
         this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
         this.detectAndThrowPropertyServerException(methodName, restResult);
 
+        if (restResult == null)
+        {
+            restResult = new AssetUniverseResponse();
+        }
+
         return restResult;
     }
 
 
-    private AssetExternalIdentifiers  getNewExternalIdentifiers(String   userId,
-                                                                String   assetGUID)
+    /**
+     * Return the feedback for the asset.  The first page of each type of feedback comes from the asset universe.
+     *
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param assetResponse  asset summary with the counts of the attached elements.
+     * @param assetUniverse  asset universe returned by the server.
+     * @return feedback or null if there is no feedback
+     */
+    private AssetFeedback  getNewFeedback(String                userId,
+                                          String                assetGUID,
+                                          AssetResponse         assetResponse,
+                                          AssetUniverseResponse assetUniverse)
     {
-        return null;
-    }
+        ConnectedAssetInformalTags informalTags = null;
+        ConnectedAssetLikes        likes        = null;
+        ConnectedAssetRatings      ratings      = null;
+        ConnectedAssetComments     comments     = null;
 
+        if (assetResponse.getInformalTagCount() > 0)
+        {
+            informalTags = new ConnectedAssetInformalTags(userId,
+                                                          omasServerURL,
+                                                          assetGUID,
+                                                          this,
+                                                          assetResponse.getInformalTagCount(),
+                                                          pageSize);
+
+            informalTags.setFirstCache(informalTags.getElements(assetUniverse.getInformalTags()));
+        }
 
-    private AssetRelatedMediaReferences  getNewRelatedMediaReferences(String   userId,
-                                                                      String   assetGUID)
-    {
-        return null;
-    }
-
-    private AssetNoteLogs  getNewNoteLogs(String   userId,
-                                          String   assetGUID)
-    {
-        return null;
-    }
+        if (assetResponse.getLikeCount() > 0)
+        {
+            likes = new ConnectedAssetLikes(userId,
+                                            omasServerURL,
+                                            assetGUID,
+                                            this,
+                                            assetResponse.getLikeCount(),
+                                            pageSize);
+
+            likes.setFirstCache(likes.getElements(assetUniverse.getLikes()));
+        }
 
-    private AssetExternalReferences  getNewExternalReferences(String   userId,
-                                                              String   assetGUID)
-    {
-        return null;
-    }
+        if (assetResponse.getRatingsCount() > 0)
+        {
+            ratings = new ConnectedAssetRatings(userId,
+                                                omasServerURL,
+                                                assetGUID,
+                                                this,
+                                                assetResponse.getRatingsCount(),
+                                                pageSize);
+
+            ratings.setFirstCache(ratings.getElements(assetUniverse.getRatings()));
+        }
 
-    private AssetConnections  getNewConnections(String   userId,
-                                                String   assetGUID)
-    {
-        return null;
-    }
+        if (assetResponse.getCommentCount() > 0)
+        {
+            comments = new ConnectedAssetComments(userId,
+                                                  omasServerURL,
+                                                  assetGUID,
+                                                  this,
+                                                  assetResponse.getCommentCount(),
+                                                  pageSize);
+
+            comments.setFirstCache(comments.getElements(assetUniverse.getComments()));
+        }
 
-    private AssetLicenses  getNewLicenses(String   userId,
-                                          String   assetGUID)
-    {
-        return null;
-    }
+        if ((informalTags == null) && (likes == null) && (ratings == null) && (comments == null))
+        {
+            return null;
+        }
 
-    private AssetCertifications  getNewCertifications(String   userId,
-                                                      String   assetGUID)
-    {
-        return null;
+        return new AssetFeedback(this, informalTags, likes, ratings, comments);
     }
 
-    private AssetMeanings  getNewMeanings(String   userId,
-                                          String   assetGUID)
-    {
-        return null;
-    }
 
     private AssetSchemaType getNewSchema(String   userId,
                                          String   assetGUID)
@@ -214,34 +382,45 @@ public class ConnectedAsset extends AssetUniverse
         return null;
     }
 
-    private AssetAnnotations  getNewAnalysis(String   userId,
-                                             String   assetGUID)
-    {
-        return null;
-    }
 
-    private AssetFeedback  getNewFeedback(String   userId,
-                                          String   assetGUID)
+    private AssetLineage  getNewLineage(String   userId,
+                                        String   assetGUID)
     {
         return null;
     }
 
-    private AssetLocations  getNewKnownLocations(String   userId,
-                                                 String   assetGUID)
-    {
-        return null;
-    }
 
-    private AssetLineage  getNewLineage(String   userId,
-                                        String   assetGUID)
+    /**
+     * Return the first page of replies to a comment if it was returned with the asset universe.
+     *
+     * @param commentGUID unique identifier of the comment
+     * @return first page of replies or null
+     */
+    CommentsResponse getCommentRepliesFirstPage(String commentGUID)
     {
-        return null;
+        if (commentReplies == null)
+        {
+            return null;
+        }
+
+        return commentReplies.get(commentGUID);
     }
 
-    private RelatedAssets  getNewRelatedAssets(String   userId,
-                                               String   assetGUID)
+
+    /**
+     * Return the first page of notes in a note log if it was returned with the asset universe.
+     *
+     * @param noteLogGUID unique identifier of the note log
+     * @return first page of notes or null
+     */
+    NotesResponse getNotesFirstPage(String noteLogGUID)
     {
-        return null;
+        if (notes == null)
+        {
+            return null;
+        }
+
+        return notes.get(noteLogGUID);
     }
 
 
@@ -52,6 +52,7 @@ public class ConnectedAssetComments extends AssetComments
                            int                 maxCacheSize)
     {
         super(parentAsset, totalElementCount, maxCacheSize);
+        super.enableAdaptivePaging(ConnectedAsset.maxPageSize);
 
         this.userId          = userId;
         this.omasServerURL   = omasServerURL;
@@ -141,41 +142,7 @@ public class ConnectedAssetComments extends AssetComments
             connectedAsset.detectAndThrowUserNotAuthorizedException(methodName, restResult);
             connectedAsset.detectAndThrowPropertyServerException(methodName, restResult);
 
-            List<CommentResponse> Responses = restResult.getList();
-            if ((Responses == null) || (Responses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<AssetPropertyBase>   resultList = new ArrayList<>();
-
-                for (CommentResponse  commentResponse : Responses)
-                {
-                    if (commentResponse != null)
-                    {
-                        Comment                      bean = commentResponse.getComment();
-                        ConnectedAssetCommentReplies commentReplies = null;
-
-                        if (commentResponse.getReplyCount() > 0)
-                        {
-                            commentReplies = new ConnectedAssetCommentReplies(userId,
-                                                                              omasServerURL,
-                                                                              bean.getGUID(),
-                                                                              connectedAsset,
-                                                                              commentResponse.getReplyCount(),
-                                                                              maxCacheSize);
-                        }
-
-                        /*
-                         * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
-                         */
-                        resultList.add(new AssetComment(connectedAsset, bean, commentReplies));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElements(restResult);
         }
         catch (Throwable  error)
         {
@@ -194,4 +161,57 @@ public class ConnectedAssetComments extends AssetComments
                                               error);
         }
     }
+
+
+    /**
+     * Convert the elements returned by the property server into the elements of this iterator.
+     *
+     * @param restResult response from the property server; may be null
+     * @return list of elements or null if there are no elements in the response
+     */
+    List<AssetPropertyBase> getElements(CommentsResponse restResult)
+    {
+        if (restResult == null)
+        {
+            return null;
+        }
+
+        List<CommentResponse> Responses = restResult.getList();
+        if ((Responses == null) || (Responses.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<AssetPropertyBase>   resultList = new ArrayList<>();
+
+            for (CommentResponse  commentResponse : Responses)
+            {
+                if (commentResponse != null)
+                {
+                    Comment                      bean = commentResponse.getComment();
+                    ConnectedAssetCommentReplies commentReplies = null;
+
+                    if (commentResponse.getReplyCount() > 0)
+                    {
+                        commentReplies = new ConnectedAssetCommentReplies(userId,
+                                                                          omasServerURL,
+                                                                          bean.getGUID(),
+                                                                          connectedAsset,
+                                                                          commentResponse.getReplyCount(),
+                                                                          maxCacheSize);
+
+                        commentReplies.setFirstCache(commentReplies.getElements(connectedAsset.getCommentRepliesFirstPage(bean.getGUID())));
+                    }
+
+                    /*
+                     * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
+                     */
+                    resultList.add(new AssetComment(connectedAsset, bean, commentReplies));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
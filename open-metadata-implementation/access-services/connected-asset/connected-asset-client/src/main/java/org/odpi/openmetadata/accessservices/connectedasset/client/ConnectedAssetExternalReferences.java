@@ -49,6 +49,7 @@ public class ConnectedAssetExternalReferences extends AssetExternalReferences
                                      int                 maxCacheSize)
     {
         super(parentAsset, totalElementCount, maxCacheSize);
+        super.enableAdaptivePaging(ConnectedAsset.maxPageSize);
 
         this.userId          = userId;
         this.omasServerURL   = omasServerURL;
@@ -134,25 +135,7 @@ public class ConnectedAssetExternalReferences extends AssetExternalReferences
             connectedAsset.detectAndThrowUserNotAuthorizedException(methodName, restResult);
             connectedAsset.detectAndThrowPropertyServerException(methodName, restResult);
 
-            List<ExternalReference>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<AssetPropertyBase>   resultList = new ArrayList<>();
-
-                for (ExternalReference  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new AssetExternalReference(connectedAsset, bean));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElements(restResult);
         }
         catch (Throwable  error)
         {
@@ -171,4 +154,39 @@ public class ConnectedAssetExternalReferences extends AssetExternalReferences
                                               error);
         }
     }
+
+
+    /**
+     * Convert the elements returned by the property server into the elements of this iterator.
+     *
+     * @param restResult response from the property server; may be null
+     * @return list of elements or null if there are no elements in the response
+     */
+    List<AssetPropertyBase> getElements(ExternalReferencesResponse restResult)
+    {
+        if (restResult == null)
+        {
+            return null;
+        }
+
+        List<ExternalReference>  beans = restResult.getList();
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<AssetPropertyBase>   resultList = new ArrayList<>();
+
+            for (ExternalReference  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new AssetExternalReference(connectedAsset, bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
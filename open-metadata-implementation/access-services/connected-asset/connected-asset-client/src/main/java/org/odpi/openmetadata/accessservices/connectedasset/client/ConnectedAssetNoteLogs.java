@@ -29,6 +29,7 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
     private String              omasServerURL;
     private String              assetGUID;
     private ConnectedAsset      connectedAsset;
+    private int                 maxCacheSize;
 
 
     /**
@@ -50,11 +51,13 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
                            int                 maxCacheSize)
     {
         super(parentAsset, totalElementCount, maxCacheSize);
+        super.enableAdaptivePaging(ConnectedAsset.maxPageSize);
 
         this.userId          = userId;
         this.omasServerURL   = omasServerURL;
         this.assetGUID       = assetGUID;
         this.connectedAsset  = parentAsset;
+        this.maxCacheSize    = maxCacheSize;
     }
 
 
@@ -74,6 +77,7 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
             this.omasServerURL = template.omasServerURL;
             this.assetGUID = template.assetGUID;
             this.connectedAsset = parentAsset;
+            this.maxCacheSize = template.maxCacheSize;
         }
     }
 
@@ -135,35 +139,7 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
             connectedAsset.detectAndThrowUserNotAuthorizedException(methodName, restResult);
             connectedAsset.detectAndThrowPropertyServerException(methodName, restResult);
 
-            List<NoteLogResponse> noteLogResponses = restResult.getList();
-            if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<AssetPropertyBase>   resultList = new ArrayList<>();
-
-                for (NoteLogResponse  noteLogResponse : noteLogResponses)
-                {
-                    if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
-                    {
-                        if (noteLogResponse.getNoteCount() > 0)
-                        {
-                            resultList.add(new AssetNoteLog(connectedAsset,
-                                                            noteLogResponse.getNoteLog(),
-                                                            new ConnectedAssetNotes(userId,
-                                                                                    omasServerURL,
-                                                                                    noteLogResponse.getNoteLog().getGUID(),
-                                                                                    connectedAsset,
-                                                                                    noteLogResponse.getNoteCount(),
-                                                                                    maximumSize)));
-                        }
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElements(restResult);
         }
         catch (Throwable  error)
         {
@@ -182,4 +158,51 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
                                               error);
         }
     }
+
+
+    /**
+     * Convert the elements returned by the property server into the elements of this iterator.
+     *
+     * @param restResult response from the property server; may be null
+     * @return list of elements or null if there are no elements in the response
+     */
+    List<AssetPropertyBase> getElements(NoteLogsResponse restResult)
+    {
+        if (restResult == null)
+        {
+            return null;
+        }
+
+        List<NoteLogResponse> noteLogResponses = restResult.getList();
+        if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<AssetPropertyBase>   resultList = new ArrayList<>();
+
+            for (NoteLogResponse  noteLogResponse : noteLogResponses)
+            {
+                if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
+                {
+                    if (noteLogResponse.getNoteCount() > 0)
+                    {
+                        String              noteLogGUID = noteLogResponse.getNoteLog().getGUID();
+                        ConnectedAssetNotes notes       = new ConnectedAssetNotes(userId,
+                                                                                  omasServerURL,
+                                                                                  noteLogGUID,
+                                                                                  connectedAsset,
+                                                                                  noteLogResponse.getNoteCount(),
+                                                                                  maxCacheSize);
+
+                        notes.setFirstCache(notes.getElements(connectedAsset.getNotesFirstPage(noteLogGUID)));
+                        resultList.add(new AssetNoteLog(connectedAsset, noteLogResponse.getNoteLog(), notes));
+                    }
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
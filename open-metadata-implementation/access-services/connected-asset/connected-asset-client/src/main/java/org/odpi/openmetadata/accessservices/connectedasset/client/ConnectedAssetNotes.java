@@ -46,6 +46,7 @@ public class ConnectedAssetNotes extends AssetNotes
                         int                 maxCacheSize)
     {
         super(parentAsset, totalElementCount, maxCacheSize);
+        super.enableAdaptivePaging(ConnectedAsset.maxPageSize);
 
         this.userId          = userId;
         this.omasServerURL   = omasServerURL;
@@ -131,25 +132,7 @@ public class ConnectedAssetNotes extends AssetNotes
             connectedAsset.detectAndThrowUserNotAuthorizedException(methodName, restResult);
             connectedAsset.detectAndThrowPropertyServerException(methodName, restResult);
 
-            List<Note>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<AssetPropertyBase>   resultList = new ArrayList<>();
-
-                for (Note  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new AssetNote(connectedAsset, bean));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElements(restResult);
         }
         catch (Throwable  error)
         {
@@ -168,4 +151,39 @@ public class ConnectedAssetNotes extends AssetNotes
                                               error);
         }
     }
+
+
+    /**
+     * Convert the elements returned by the property server into the elements of this iterator.
+     *
+     * @param restResult response from the property server; may be null
+     * @return list of elements or null if there are no elements in the response
+     */
+    List<AssetPropertyBase> getElements(NotesResponse restResult)
+    {
+        if (restResult == null)
+        {
+            return null;
+        }
+
+        List<Note>  beans = restResult.getList();
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<AssetPropertyBase>   resultList = new ArrayList<>();
+
+            for (Note  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new AssetNote(connectedAsset, bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
@@ -49,6 +49,7 @@ public class ConnectedAssetRelatedAssets extends RelatedAssets
                                 int                 maxCacheSize)
     {
         super(parentAsset, totalElementCount, maxCacheSize);
+        super.enableAdaptivePaging(ConnectedAsset.maxPageSize);
 
         this.userId          = userId;
         this.omasServerURL   = omasServerURL;
@@ -134,27 +135,7 @@ public class ConnectedAssetRelatedAssets extends RelatedAssets
             connectedAsset.detectAndThrowUserNotAuthorizedException(methodName, restResult);
             connectedAsset.detectAndThrowPropertyServerException(methodName, restResult);
 
-            List<Asset>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<AssetPropertyBase>   resultList = new ArrayList<>();
-
-                for (Asset  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new RelatedAsset(connectedAsset, bean, new ConnectedAssetRelatedAssetProperties(userId,
-                                                                                                                       omasServerURL,
-                                                                                                                       assetGUID)));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getElements(restResult);
         }
         catch (Throwable  error)
         {
@@ -173,4 +154,41 @@ public class ConnectedAssetRelatedAssets extends RelatedAssets
                                               error);
         }
     }
+
+
+    /**
+     * Convert the elements returned by the property server into the elements of this iterator.
+     *
+     * @param restResult response from the property server; may be null
+     * @return list of elements or null if there are no elements in the response
+     */
+    List<AssetPropertyBase> getElements(RelatedAssetsResponse restResult)
+    {
+        if (restResult == null)
+        {
+            return null;
+        }
+
+        List<Asset>  beans = restResult.getList();
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<AssetPropertyBase>   resultList = new ArrayList<>();
+
+            for (Asset  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new RelatedAsset(connectedAsset, bean, new ConnectedAssetRelatedAssetProperties(userId,
+                                                                                                                   omasServerURL,
+                                                                                                                   assetGUID)));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
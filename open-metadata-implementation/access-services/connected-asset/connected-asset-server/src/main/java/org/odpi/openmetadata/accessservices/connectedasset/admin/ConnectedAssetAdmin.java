@@ -9,8 +9,11 @@ import org.odpi.openmetadata.adminservices.configuration.registration.AccessServ
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Collections;
+
 
 /**
  * ConnectedAssetAdmin is the class that is called by the OMAG Server to initialize and terminate
@@ -87,7 +90,12 @@ public class ConnectedAssetAdmin implements AccessServiceAdmin
                                                                     repositoryConnector.getRepositoryValidator(),
                                                                     accessServiceConfig.getAccessServiceName());
 
-            omrsTopicConnector.registerListener(omrsTopicListener);
+            /*
+             * The listener does not process any events yet.
+             */
+            OMRSTopicListenerFilter omrsTopicListenerFilter = new OMRSTopicListenerFilter(Collections.emptyList());
+
+            omrsTopicConnector.registerListener(omrsTopicListener, omrsTopicListenerFilter);
         }
 
         this.auditLog = auditLog;
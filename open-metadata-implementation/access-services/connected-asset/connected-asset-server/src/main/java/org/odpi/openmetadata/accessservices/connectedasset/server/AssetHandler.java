@@ -0,0 +1,1905 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.connectedasset.server;
+
+import org.odpi.openmetadata.accessservices.connectedasset.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.accessservices.connectedasset.ffdc.exceptions.UnrecognizedAssetGUIDException;
+import org.odpi.openmetadata.accessservices.connectedasset.rest.AssetResponse;
+import org.odpi.openmetadata.accessservices.connectedasset.rest.CommentResponse;
+import org.odpi.openmetadata.accessservices.connectedasset.rest.NoteLogResponse;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AssetHandler retrieves the properties of an asset and the elements attached to it from the property server.
+ * It runs server-side in the ConnectedAsset OMAS and retrieves the entities and relationships through the
+ * OMRSRepositoryConnector.  Each type of attached element is linked to the asset by its own type of relationship.
+ * The element is the entity at the other end of the relationship, and some of its properties are stored
+ * in the relationship itself.
+ */
+class AssetHandler
+{
+    private static final String assetTypeName                     = "Asset";
+    private static final String privateTagTypeName                = "PrivateTag";
+
+    private static final String attachedCommentTypeName           = "AttachedComment";
+    private static final String attachedLikeTypeName              = "AttachedLike";
+    private static final String attachedNoteLogTypeName           = "AttachedNoteLog";
+    private static final String attachedNoteLogEntryTypeName      = "AttachedNoteLogEntry";
+    private static final String attachedRatingTypeName            = "AttachedRating";
+    private static final String attachedTagTypeName               = "AttachedTag";
+    private static final String assetLocationTypeName             = "AssetLocation";
+    private static final String certificationTypeName             = "Certification";
+    private static final String connectionToAssetTypeName         = "ConnectionToAsset";
+    private static final String externalIdLinkTypeName            = "ExternalIdLink";
+    private static final String externalReferenceLinkTypeName     = "ExternalReferenceLink";
+    private static final String licenseTypeName                   = "License";
+    private static final String mediaReferenceTypeName            = "MediaReference";
+    private static final String semanticAssignmentTypeName        = "SemanticAssignment";
+
+    /*
+     * The asset is at end 1 of each of these relationships except ConnectionToAsset and AssetLocation.
+     */
+    private static final List<String> anchorAtEndTwoTypeNames     = Arrays.asList(connectionToAssetTypeName,
+                                                                                  assetLocationTypeName);
+
+    private static final String qualifiedNamePropertyName         = "qualifiedName";
+    private static final String additionalPropertiesPropertyName  = "additionalProperties";
+    private static final String namePropertyName                  = "name";
+    private static final String displayNamePropertyName           = "displayName";
+    private static final String descriptionPropertyName           = "description";
+    private static final String summaryPropertyName               = "summary";
+    private static final String ownerPropertyName                 = "owner";
+    private static final String zoneMembershipPropertyName        = "zoneMembership";
+    private static final String commentPropertyName               = "comment";
+    private static final String commentTypePropertyName           = "commentType";
+    private static final String textPropertyName                  = "text";
+    private static final String starsPropertyName                 = "stars";
+    private static final String reviewPropertyName                = "review";
+    private static final String tagNamePropertyName               = "tagName";
+    private static final String tagDescriptionPropertyName        = "tagDescription";
+    private static final String identifierPropertyName            = "identifier";
+    private static final String keyPatternPropertyName            = "keyPattern";
+    private static final String usagePropertyName                 = "usage";
+    private static final String sourcePropertyName                = "source";
+    private static final String urlPropertyName                   = "url";
+    private static final String versionPropertyName               = "version";
+    private static final String organizationPropertyName          = "organization";
+    private static final String referenceIdPropertyName           = "referenceId";
+    private static final String mediaIdPropertyName               = "mediaId";
+    private static final String mediaTypePropertyName             = "mediaType";
+    private static final String mediaUsagePropertyName            = "mediaUsage";
+    private static final String detailsPropertyName               = "details";
+    private static final String startPropertyName                 = "start";
+    private static final String endPropertyName                   = "end";
+    private static final String conditionsPropertyName            = "conditions";
+    private static final String custodianPropertyName             = "custodian";
+    private static final String notesPropertyName                 = "notes";
+    private static final String licenseePropertyName              = "licensee";
+    private static final String licensedByPropertyName            = "licensedBy";
+    private static final String certifiedByPropertyName           = "certifiedBy";
+
+    private String               serviceName;
+    private OMRSRepositoryHelper repositoryHelper = null;
+    private String               serverName       = null;
+    private ErrorHandler         errorHandler     = null;
+
+
+    /**
+     * Construct the asset handler with a link to the property server's connector and this access service's
+     * official name.
+     *
+     * @param serviceName  name of this service
+     * @param repositoryConnector  connector to the property server.
+     */
+    AssetHandler(String                  serviceName,
+                 OMRSRepositoryConnector repositoryConnector)
+    {
+        this.serviceName = serviceName;
+        this.errorHandler = new ErrorHandler(repositoryConnector);
+        if (repositoryConnector != null)
+        {
+            this.repositoryHelper = repositoryConnector.getRepositoryHelper();
+            this.serverName = repositoryConnector.getServerName();
+        }
+    }
+
+
+    /**
+     * Return the properties of the asset and the number of each type of element attached to it.
+     * There are no open metadata relationships for annotations, related assets and schemas in this release
+     * so their counts are always 0.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     *
+     * @return asset summary
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not the unique identifier of an asset.
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    AssetResponse getAssetSummary(String   userId,
+                                  String   assetGUID) throws InvalidParameterException,
+                                                             UnrecognizedAssetGUIDException,
+                                                             PropertyServerException,
+                                                             UserNotAuthorizedException
+    {
+        final String   methodName = "getAssetSummary";
+        final String   guidParameter = "assetGUID";
+
+        errorHandler.validateUserId(userId, methodName);
+        errorHandler.validateGUID(assetGUID, guidParameter, methodName);
+
+        OMRSMetadataCollection metadataCollection = errorHandler.validateRepositoryConnector(methodName);
+
+        EntityDetail       assetEntity   = null;
+        List<Relationship> relationships = null;
+
+        try
+        {
+            assetEntity = metadataCollection.getEntityDetail(userId, assetGUID);
+            relationships = metadataCollection.getRelationshipsForEntity(userId,
+                                                                         assetGUID,
+                                                                         null,
+                                                                         0,
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         0);
+        }
+        catch (EntityNotKnownException | EntityProxyOnlyException error)
+        {
+            errorHandler.handleUnknownAsset(error, assetGUID, methodName, serverName, serviceName);
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName, serverName, serviceName);
+        }
+        catch (Throwable error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, serverName, serviceName);
+        }
+
+        if ((assetEntity == null) || (! this.isAsset(assetEntity)))
+        {
+            errorHandler.handleUnknownAsset(null, assetGUID, methodName, serverName, serviceName);
+        }
+
+        Map<String, Integer> counts = new HashMap<>();
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                if ((relationship != null) && (relationship.getType() != null))
+                {
+                    String relationshipTypeName = relationship.getType().getTypeDefName();
+
+                    if (this.isAttachment(assetGUID, relationshipTypeName, relationship))
+                    {
+                        Integer count = counts.get(relationshipTypeName);
+
+                        counts.put(relationshipTypeName, (count == null) ? 1 : count + 1);
+                    }
+                }
+            }
+        }
+
+        AssetResponse response = new AssetResponse();
+
+        response.setAsset(this.getAsset(assetEntity));
+        response.setCertificationCount(this.getCount(counts, certificationTypeName));
+        response.setCommentCount(this.getCount(counts, attachedCommentTypeName));
+        response.setConnectionCount(this.getCount(counts, connectionToAssetTypeName));
+        response.setExternalIdentifierCount(this.getCount(counts, externalIdLinkTypeName));
+        response.setExternalReferencesCount(this.getCount(counts, externalReferenceLinkTypeName));
+        response.setInformalTagCount(this.getCount(counts, attachedTagTypeName));
+        response.setLicenseCount(this.getCount(counts, licenseTypeName));
+        response.setLikeCount(this.getCount(counts, attachedLikeTypeName));
+        response.setKnownLocationsCount(this.getCount(counts, assetLocationTypeName));
+        response.setMeaningsCount(this.getCount(counts, semanticAssignmentTypeName));
+        response.setNoteLogsCount(this.getCount(counts, attachedNoteLogTypeName));
+        response.setRatingsCount(this.getCount(counts, attachedRatingTypeName));
+        response.setRelatedMediaReferenceCount(this.getCount(counts, mediaReferenceTypeName));
+
+        return response;
+    }
+
+
+    /**
+     * Return the number of certifications for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countCertifications(String   userId,
+                            String   assetGUID) throws InvalidParameterException,
+                                                       UnrecognizedAssetGUIDException,
+                                                       PropertyServerException,
+                                                       UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, certificationTypeName, "countCertifications").size();
+    }
+
+
+    /**
+     * Return the number of comments for the asset or replies to a comment.
+     *
+     * @param userId  userId of user making request.
+     * @param anchorGUID  unique id for asset or comment.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countComments(String   userId,
+                      String   anchorGUID) throws InvalidParameterException,
+                                                  UnrecognizedAssetGUIDException,
+                                                  PropertyServerException,
+                                                  UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, anchorGUID, attachedCommentTypeName, "countComments").size();
+    }
+
+
+    /**
+     * Return the number of connections for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countConnections(String   userId,
+                         String   assetGUID) throws InvalidParameterException,
+                                                    UnrecognizedAssetGUIDException,
+                                                    PropertyServerException,
+                                                    UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, connectionToAssetTypeName, "countConnections").size();
+    }
+
+
+    /**
+     * Return the number of external identifiers for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countExternalIdentifiers(String   userId,
+                                 String   assetGUID) throws InvalidParameterException,
+                                                            UnrecognizedAssetGUIDException,
+                                                            PropertyServerException,
+                                                            UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, externalIdLinkTypeName, "countExternalIdentifiers").size();
+    }
+
+
+    /**
+     * Return the number of external references for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countExternalReferences(String   userId,
+                                String   assetGUID) throws InvalidParameterException,
+                                                           UnrecognizedAssetGUIDException,
+                                                           PropertyServerException,
+                                                           UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, externalReferenceLinkTypeName, "countExternalReferences").size();
+    }
+
+
+    /**
+     * Return the number of informal tags for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countInformalTags(String   userId,
+                          String   assetGUID) throws InvalidParameterException,
+                                                     UnrecognizedAssetGUIDException,
+                                                     PropertyServerException,
+                                                     UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, attachedTagTypeName, "countInformalTags").size();
+    }
+
+
+    /**
+     * Return the number of licenses for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countLicenses(String   userId,
+                      String   assetGUID) throws InvalidParameterException,
+                                                 UnrecognizedAssetGUIDException,
+                                                 PropertyServerException,
+                                                 UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, licenseTypeName, "countLicenses").size();
+    }
+
+
+    /**
+     * Return the number of likes for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countLikes(String   userId,
+                   String   assetGUID) throws InvalidParameterException,
+                                              UnrecognizedAssetGUIDException,
+                                              PropertyServerException,
+                                              UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, attachedLikeTypeName, "countLikes").size();
+    }
+
+
+    /**
+     * Return the number of known locations for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countKnownLocations(String   userId,
+                            String   assetGUID) throws InvalidParameterException,
+                                                       UnrecognizedAssetGUIDException,
+                                                       PropertyServerException,
+                                                       UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, assetLocationTypeName, "countKnownLocations").size();
+    }
+
+
+    /**
+     * Return the number of meanings for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countMeanings(String   userId,
+                      String   assetGUID) throws InvalidParameterException,
+                                                 UnrecognizedAssetGUIDException,
+                                                 PropertyServerException,
+                                                 UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, semanticAssignmentTypeName, "countMeanings").size();
+    }
+
+
+    /**
+     * Return the number of note logs for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countNoteLogs(String   userId,
+                      String   assetGUID) throws InvalidParameterException,
+                                                 UnrecognizedAssetGUIDException,
+                                                 PropertyServerException,
+                                                 UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, attachedNoteLogTypeName, "countNoteLogs").size();
+    }
+
+
+    /**
+     * Return the number of notes in a note log.
+     *
+     * @param userId  userId of user making request.
+     * @param noteLogGUID  unique id for the note log.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countNotes(String   userId,
+                   String   noteLogGUID) throws InvalidParameterException,
+                                                UnrecognizedAssetGUIDException,
+                                                PropertyServerException,
+                                                UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, noteLogGUID, attachedNoteLogEntryTypeName, "countNotes").size();
+    }
+
+
+    /**
+     * Return the number of ratings for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countRatings(String   userId,
+                     String   assetGUID) throws InvalidParameterException,
+                                                UnrecognizedAssetGUIDException,
+                                                PropertyServerException,
+                                                UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, attachedRatingTypeName, "countRatings").size();
+    }
+
+
+    /**
+     * Return the number of related media references for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @return count
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    int countRelatedMediaReferences(String   userId,
+                                    String   assetGUID) throws InvalidParameterException,
+                                                               UnrecognizedAssetGUIDException,
+                                                               PropertyServerException,
+                                                               UserNotAuthorizedException
+    {
+        return this.getAttachments(userId, assetGUID, mediaReferenceTypeName, "countRelatedMediaReferences").size();
+    }
+
+
+    /**
+     * Return a page of the certifications for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of certifications
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<Certification> getCertifications(String  userId,
+                                           String  assetGUID,
+                                           int     elementStart,
+                                           int     maxElements) throws InvalidParameterException,
+                                                                       UnrecognizedAssetGUIDException,
+                                                                       PropertyServerException,
+                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "getCertifications";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, certificationTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<Certification>       results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail       certificationType = entities.get(this.getAttachedGUID(assetGUID, relationship));
+            InstanceProperties properties        = relationship.getProperties();
+
+            if (certificationType != null)
+            {
+                Certification bean = new Certification();
+
+                this.setReferenceableProperties(bean, relationship, properties, methodName);
+                bean.setCertificationTypeGUID(certificationType.getGUID());
+                bean.setCertificationTypeName(this.getStringProperty(qualifiedNamePropertyName, certificationType.getProperties(), methodName));
+                bean.setSummary(this.getStringProperty(detailsPropertyName, certificationType.getProperties(), methodName));
+                bean.setExaminer(this.getStringProperty(certifiedByPropertyName, properties, methodName));
+                bean.setStartDate(this.getDateProperty(startPropertyName, properties));
+                bean.setEndDate(this.getDateProperty(endPropertyName, properties));
+                bean.setCertificationConditions(this.getStringProperty(conditionsPropertyName, properties, methodName));
+                bean.setCreatedBy(relationship.getCreatedBy());
+                bean.setCustodian(this.getStringProperty(custodianPropertyName, properties, methodName));
+                bean.setNotes(this.getStringProperty(notesPropertyName, properties, methodName));
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the comments for the asset or the replies to a comment.
+     *
+     * @param userId  userId of user making request.
+     * @param anchorGUID  unique id for asset or comment.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of comments with the number of replies to each
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<CommentResponse> getComments(String  userId,
+                                      String  anchorGUID,
+                                      int     elementStart,
+                                      int     maxElements) throws InvalidParameterException,
+                                                                  UnrecognizedAssetGUIDException,
+                                                                  PropertyServerException,
+                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "getComments";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, anchorGUID, attachedCommentTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, anchorGUID, relationships, methodName);
+        List<CommentResponse>     results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(anchorGUID, relationship));
+
+            if (entity != null)
+            {
+                InstanceProperties properties = entity.getProperties();
+                Comment            bean       = new Comment();
+
+                this.setReferenceableProperties(bean, entity, properties, methodName);
+                bean.setCommentText(this.getStringProperty(commentPropertyName, properties, methodName));
+                bean.setUser(entity.getCreatedBy());
+
+                Integer commentType = this.getEnumOrdinal(commentTypePropertyName, properties);
+                if (commentType != null)
+                {
+                    for (CommentType value : CommentType.values())
+                    {
+                        if (value.getOrdinal() == commentType)
+                        {
+                            bean.setCommentType(value);
+                        }
+                    }
+                }
+
+                CommentResponse commentResponse = new CommentResponse();
+
+                commentResponse.setComment(bean);
+                commentResponse.setReplyCount(this.countComments(userId, entity.getGUID()));
+                results.add(commentResponse);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the connections for the asset.  The connector type, endpoint and secured properties
+     * are not returned.  The full connection is available from the Asset Consumer OMAS.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of connections
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<Connection> getConnections(String  userId,
+                                    String  assetGUID,
+                                    int     elementStart,
+                                    int     maxElements) throws InvalidParameterException,
+                                                                UnrecognizedAssetGUIDException,
+                                                                PropertyServerException,
+                                                                UserNotAuthorizedException
+    {
+        final String methodName = "getConnections";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, connectionToAssetTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<Connection>          results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                InstanceProperties properties = entity.getProperties();
+                Connection         bean       = new Connection();
+
+                this.setReferenceableProperties(bean, entity, properties, methodName);
+                bean.setDisplayName(this.getStringProperty(displayNamePropertyName, properties, methodName));
+                bean.setDescription(this.getStringProperty(descriptionPropertyName, properties, methodName));
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the external identifiers for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of external identifiers
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<ExternalIdentifier> getExternalIdentifiers(String  userId,
+                                                    String  assetGUID,
+                                                    int     elementStart,
+                                                    int     maxElements) throws InvalidParameterException,
+                                                                                UnrecognizedAssetGUIDException,
+                                                                                PropertyServerException,
+                                                                                UserNotAuthorizedException
+    {
+        final String methodName = "getExternalIdentifiers";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, externalIdLinkTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<ExternalIdentifier>  results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                InstanceProperties properties = entity.getProperties();
+                ExternalIdentifier bean       = new ExternalIdentifier();
+
+                this.setReferenceableProperties(bean, entity, properties, methodName);
+                bean.setIdentifier(this.getStringProperty(identifierPropertyName, properties, methodName));
+                bean.setDescription(this.getStringProperty(descriptionPropertyName, relationship.getProperties(), methodName));
+                bean.setUsage(this.getStringProperty(usagePropertyName, relationship.getProperties(), methodName));
+                bean.setSource(this.getStringProperty(sourcePropertyName, relationship.getProperties(), methodName));
+
+                Integer keyPattern = this.getEnumOrdinal(keyPatternPropertyName, properties);
+                if (keyPattern != null)
+                {
+                    for (KeyPattern value : KeyPattern.values())
+                    {
+                        if (value.getOrdinal() == keyPattern)
+                        {
+                            bean.setKeyPattern(value);
+                        }
+                    }
+                }
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the external references for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of external references
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<ExternalReference> getExternalReferences(String  userId,
+                                                  String  assetGUID,
+                                                  int     elementStart,
+                                                  int     maxElements) throws InvalidParameterException,
+                                                                              UnrecognizedAssetGUIDException,
+                                                                              PropertyServerException,
+                                                                              UserNotAuthorizedException
+    {
+        final String methodName = "getExternalReferences";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, externalReferenceLinkTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<ExternalReference>   results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                ExternalReference bean = new ExternalReference();
+
+                this.setExternalReferenceProperties(bean, entity, methodName);
+                bean.setReferenceId(this.getStringProperty(referenceIdPropertyName, relationship.getProperties(), methodName));
+                bean.setLinkDescription(this.getStringProperty(descriptionPropertyName, relationship.getProperties(), methodName));
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the informal tags for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of informal tags
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<InformalTag> getInformalTags(String  userId,
+                                      String  assetGUID,
+                                      int     elementStart,
+                                      int     maxElements) throws InvalidParameterException,
+                                                                  UnrecognizedAssetGUIDException,
+                                                                  PropertyServerException,
+                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "getInformalTags";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, attachedTagTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<InformalTag>         results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                InstanceProperties properties = entity.getProperties();
+                InformalTag        bean       = new InformalTag();
+
+                this.setElementHeaderProperties(bean, entity, methodName);
+                bean.setName(this.getStringProperty(tagNamePropertyName, properties, methodName));
+                bean.setDescription(this.getStringProperty(tagDescriptionPropertyName, properties, methodName));
+                bean.setUser(entity.getCreatedBy());
+                bean.setPrivateTag((entity.getType() != null) && (privateTagTypeName.equals(entity.getType().getTypeDefName())));
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the licenses for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of licenses
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<License> getLicenses(String  userId,
+                              String  assetGUID,
+                              int     elementStart,
+                              int     maxElements) throws InvalidParameterException,
+                                                          UnrecognizedAssetGUIDException,
+                                                          PropertyServerException,
+                                                          UserNotAuthorizedException
+    {
+        final String methodName = "getLicenses";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, licenseTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<License>             results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail       licenseType = entities.get(this.getAttachedGUID(assetGUID, relationship));
+            InstanceProperties properties  = relationship.getProperties();
+
+            if (licenseType != null)
+            {
+                License bean = new License();
+
+                this.setReferenceableProperties(bean, relationship, properties, methodName);
+                bean.setLicenseTypeGUID(licenseType.getGUID());
+                bean.setLicenseTypeName(this.getStringProperty(qualifiedNamePropertyName, licenseType.getProperties(), methodName));
+                bean.setSummary(this.getStringProperty(detailsPropertyName, licenseType.getProperties(), methodName));
+                bean.setLicensee(this.getStringProperty(licenseePropertyName, properties, methodName));
+                bean.setStartDate(this.getDateProperty(startPropertyName, properties));
+                bean.setEndDate(this.getDateProperty(endPropertyName, properties));
+                bean.setLicenseConditions(this.getStringProperty(conditionsPropertyName, properties, methodName));
+                bean.setCreatedBy(this.getStringProperty(licensedByPropertyName, properties, methodName));
+                bean.setCustodian(this.getStringProperty(custodianPropertyName, properties, methodName));
+                bean.setNotes(this.getStringProperty(notesPropertyName, properties, methodName));
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the likes for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of likes
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<Like> getLikes(String  userId,
+                        String  assetGUID,
+                        int     elementStart,
+                        int     maxElements) throws InvalidParameterException,
+                                                    UnrecognizedAssetGUIDException,
+                                                    PropertyServerException,
+                                                    UserNotAuthorizedException
+    {
+        final String methodName = "getLikes";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, attachedLikeTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<Like>                results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                Like bean = new Like();
+
+                this.setElementHeaderProperties(bean, entity, methodName);
+                bean.setUser(entity.getCreatedBy());
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the known locations for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of locations
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<Location> getKnownLocations(String  userId,
+                                     String  assetGUID,
+                                     int     elementStart,
+                                     int     maxElements) throws InvalidParameterException,
+                                                                 UnrecognizedAssetGUIDException,
+                                                                 PropertyServerException,
+                                                                 UserNotAuthorizedException
+    {
+        final String methodName = "getKnownLocations";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, assetLocationTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<Location>            results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                InstanceProperties properties = entity.getProperties();
+                Location           bean       = new Location();
+
+                this.setReferenceableProperties(bean, entity, properties, methodName);
+                bean.setDisplayName(this.getStringProperty(displayNamePropertyName, properties, methodName));
+                bean.setDescription(this.getStringProperty(descriptionPropertyName, properties, methodName));
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the meanings (glossary terms) assigned to the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of meanings
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<Meaning> getMeanings(String  userId,
+                              String  assetGUID,
+                              int     elementStart,
+                              int     maxElements) throws InvalidParameterException,
+                                                          UnrecognizedAssetGUIDException,
+                                                          PropertyServerException,
+                                                          UserNotAuthorizedException
+    {
+        final String methodName = "getMeanings";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, semanticAssignmentTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<Meaning>             results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                InstanceProperties properties = entity.getProperties();
+                Meaning            bean       = new Meaning();
+
+                this.setElementHeaderProperties(bean, entity, methodName);
+                bean.setName(this.getStringProperty(displayNamePropertyName, properties, methodName));
+                bean.setDescription(this.getStringProperty(summaryPropertyName, properties, methodName));
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the note logs for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of note logs with the number of notes in each
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<NoteLogResponse> getNoteLogs(String  userId,
+                                      String  assetGUID,
+                                      int     elementStart,
+                                      int     maxElements) throws InvalidParameterException,
+                                                                  UnrecognizedAssetGUIDException,
+                                                                  PropertyServerException,
+                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "getNoteLogs";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, attachedNoteLogTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<NoteLogResponse>     results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                InstanceProperties properties = entity.getProperties();
+                NoteLog            bean       = new NoteLog();
+
+                this.setReferenceableProperties(bean, entity, properties, methodName);
+                bean.setDisplayName(this.getStringProperty(namePropertyName, properties, methodName));
+                bean.setDescription(this.getStringProperty(descriptionPropertyName, properties, methodName));
+
+                NoteLogResponse noteLogResponse = new NoteLogResponse();
+
+                noteLogResponse.setNoteLog(bean);
+                noteLogResponse.setNoteCount(this.countNotes(userId, entity.getGUID()));
+                results.add(noteLogResponse);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the notes in a note log.
+     *
+     * @param userId  userId of user making request.
+     * @param noteLogGUID  unique id for the note log.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of notes
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<Note> getNotes(String  userId,
+                        String  noteLogGUID,
+                        int     elementStart,
+                        int     maxElements) throws InvalidParameterException,
+                                                    UnrecognizedAssetGUIDException,
+                                                    PropertyServerException,
+                                                    UserNotAuthorizedException
+    {
+        final String methodName = "getNotes";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, noteLogGUID, attachedNoteLogEntryTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, noteLogGUID, relationships, methodName);
+        List<Note>                results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(noteLogGUID, relationship));
+
+            if (entity != null)
+            {
+                Note bean = new Note();
+
+                this.setReferenceableProperties(bean, entity, entity.getProperties(), methodName);
+                bean.setText(this.getStringProperty(textPropertyName, entity.getProperties(), methodName));
+                bean.setUser(entity.getCreatedBy());
+                bean.setLastUpdate((entity.getUpdateTime() == null) ? entity.getCreateTime() : entity.getUpdateTime());
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the ratings for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of ratings
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<Rating> getRatings(String  userId,
+                            String  assetGUID,
+                            int     elementStart,
+                            int     maxElements) throws InvalidParameterException,
+                                                        UnrecognizedAssetGUIDException,
+                                                        PropertyServerException,
+                                                        UserNotAuthorizedException
+    {
+        final String methodName = "getRatings";
+
+        List<Relationship>        relationships = this.getAttachmentPage(userId, assetGUID, attachedRatingTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail> entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<Rating>              results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                InstanceProperties properties = entity.getProperties();
+                Rating             bean       = new Rating();
+
+                this.setElementHeaderProperties(bean, entity, methodName);
+                bean.setUser(entity.getCreatedBy());
+                bean.setReview(this.getStringProperty(reviewPropertyName, properties, methodName));
+
+                Integer stars = this.getEnumOrdinal(starsPropertyName, properties);
+                if (stars != null)
+                {
+                    for (StarRating value : StarRating.values())
+                    {
+                        if (value.getOrdinal() == stars)
+                        {
+                            bean.setStarRating(value);
+                        }
+                    }
+                }
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the related media references for the asset.
+     *
+     * @param userId  userId of user making request.
+     * @param assetGUID  unique id for asset.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @return list of related media references
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    List<RelatedMediaReference> getRelatedMediaReferences(String  userId,
+                                                          String  assetGUID,
+                                                          int     elementStart,
+                                                          int     maxElements) throws InvalidParameterException,
+                                                                                      UnrecognizedAssetGUIDException,
+                                                                                      PropertyServerException,
+                                                                                      UserNotAuthorizedException
+    {
+        final String methodName = "getRelatedMediaReferences";
+
+        List<Relationship>          relationships = this.getAttachmentPage(userId, assetGUID, mediaReferenceTypeName, elementStart, maxElements, methodName);
+        Map<String, EntityDetail>   entities      = this.getAttachedEntities(userId, assetGUID, relationships, methodName);
+        List<RelatedMediaReference> results       = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            EntityDetail entity = entities.get(this.getAttachedGUID(assetGUID, relationship));
+
+            if (entity != null)
+            {
+                InstanceProperties    properties = entity.getProperties();
+                RelatedMediaReference bean       = new RelatedMediaReference();
+
+                this.setExternalReferenceProperties(bean, entity, methodName);
+                bean.setReferenceId(this.getStringProperty(mediaIdPropertyName, relationship.getProperties(), methodName));
+                bean.setLinkDescription(this.getStringProperty(descriptionPropertyName, relationship.getProperties(), methodName));
+
+                Integer mediaType = this.getEnumOrdinal(mediaTypePropertyName, properties);
+                if (mediaType != null)
+                {
+                    for (RelatedMediaType value : RelatedMediaType.values())
+                    {
+                        if (value.getOrdinal() == mediaType)
+                        {
+                            bean.setMediaType(value);
+                        }
+                    }
+                }
+
+                List<RelatedMediaUsage> mediaUsageList = new ArrayList<>();
+                for (InstancePropertyValue mediaUsage : this.getArrayProperty(mediaUsagePropertyName, properties))
+                {
+                    if (mediaUsage instanceof EnumPropertyValue)
+                    {
+                        for (RelatedMediaUsage value : RelatedMediaUsage.values())
+                        {
+                            if (value.getOrdinal() == ((EnumPropertyValue) mediaUsage).getOrdinal())
+                            {
+                                mediaUsageList.add(value);
+                            }
+                        }
+                    }
+                }
+
+                if (! mediaUsageList.isEmpty())
+                {
+                    bean.setMediaUsageList(mediaUsageList);
+                }
+
+                results.add(bean);
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the relationships of the requested type that attach elements to the anchor (asset, comment
+     * or note log).
+     *
+     * @param userId  userId of user making request.
+     * @param anchorGUID  unique id for the anchor.
+     * @param relationshipTypeName  name of the type of relationship that attaches the elements.
+     * @param methodName  calling method.
+     * @return list of relationships; empty if there are none
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private List<Relationship> getAttachments(String   userId,
+                                              String   anchorGUID,
+                                              String   relationshipTypeName,
+                                              String   methodName) throws InvalidParameterException,
+                                                                          UnrecognizedAssetGUIDException,
+                                                                          PropertyServerException,
+                                                                          UserNotAuthorizedException
+    {
+        final String   guidParameter = "guid";
+
+        errorHandler.validateUserId(userId, methodName);
+        errorHandler.validateGUID(anchorGUID, guidParameter, methodName);
+
+        OMRSMetadataCollection metadataCollection = errorHandler.validateRepositoryConnector(methodName);
+        List<Relationship>     results            = new ArrayList<>();
+        TypeDef                relationshipType   = repositoryHelper.getTypeDefByName(serviceName, relationshipTypeName);
+
+        if (relationshipType == null)
+        {
+            return results;
+        }
+
+        try
+        {
+            List<Relationship> relationships = metadataCollection.getRelationshipsForEntity(userId,
+                                                                                            anchorGUID,
+                                                                                            relationshipType.getGUID(),
+                                                                                            0,
+                                                                                            null,
+                                                                                            null,
+                                                                                            null,
+                                                                                            null,
+                                                                                            0);
+
+            if (relationships != null)
+            {
+                for (Relationship relationship : relationships)
+                {
+                    if (this.isAttachment(anchorGUID, relationshipTypeName, relationship))
+                    {
+                        results.add(relationship);
+                    }
+                }
+            }
+        }
+        catch (EntityNotKnownException error)
+        {
+            errorHandler.handleUnknownAsset(error, anchorGUID, methodName, serverName, serviceName);
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName, serverName, serviceName);
+        }
+        catch (Throwable error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, serverName, serviceName);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return a page of the relationships of the requested type that attach elements to the anchor.
+     *
+     * @param userId  userId of user making request.
+     * @param anchorGUID  unique id for the anchor.
+     * @param relationshipTypeName  name of the type of relationship that attaches the elements.
+     * @param elementStart  starting position for first returned element.
+     * @param maxElements  maximum number of elements to return; 0 or less means all remaining elements.
+     * @param methodName  calling method.
+     * @return list of relationships; empty if there are none
+     * @throws InvalidParameterException the userId or GUID is null.
+     * @throws UnrecognizedAssetGUIDException the GUID is not recognized.
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private List<Relationship> getAttachmentPage(String   userId,
+                                                 String   anchorGUID,
+                                                 String   relationshipTypeName,
+                                                 int      elementStart,
+                                                 int      maxElements,
+                                                 String   methodName) throws InvalidParameterException,
+                                                                             UnrecognizedAssetGUIDException,
+                                                                             PropertyServerException,
+                                                                             UserNotAuthorizedException
+    {
+        List<Relationship> relationships = this.getAttachments(userId, anchorGUID, relationshipTypeName, methodName);
+        int                pageStart     = Math.min(Math.max(elementStart, 0), relationships.size());
+        int                pageEnd       = relationships.size();
+
+        if (maxElements > 0)
+        {
+            pageEnd = Math.min(pageStart + maxElements, pageEnd);
+        }
+
+        return new ArrayList<>(relationships.subList(pageStart, pageEnd));
+    }
+
+
+    /**
+     * Retrieve the entities at the other end of the relationships from the anchor in one call.  Entities that
+     * are not known to the property server, or are only known as proxies, are skipped.
+     *
+     * @param userId  userId of user making request.
+     * @param anchorGUID  unique id for the anchor.
+     * @param relationships  relationships that attach the entities to the anchor.
+     * @param methodName  calling method.
+     * @return map of entities by guid
+     * @throws PropertyServerException there is a problem retrieving the information from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private Map<String, EntityDetail> getAttachedEntities(String             userId,
+                                                          String             anchorGUID,
+                                                          List<Relationship> relationships,
+                                                          String             methodName) throws PropertyServerException,
+                                                                                                UserNotAuthorizedException
+    {
+        Map<String, EntityDetail> results = new HashMap<>();
+        List<String>              guids   = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            String guid = this.getAttachedGUID(anchorGUID, relationship);
+
+            if (guid != null)
+            {
+                guids.add(guid);
+            }
+        }
+
+        if (guids.isEmpty())
+        {
+            return results;
+        }
+
+        OMRSMetadataCollection metadataCollection = errorHandler.validateRepositoryConnector(methodName);
+
+        try
+        {
+            List<EntityDetail> entities = metadataCollection.getEntityDetails(userId, guids);
+
+            if (entities != null)
+            {
+                for (EntityDetail entity : entities)
+                {
+                    results.put(entity.getGUID(), entity);
+                }
+            }
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName, serverName, serviceName);
+        }
+        catch (Throwable error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, serverName, serviceName);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return whether the relationship attaches an element to the anchor.  The anchor must be at the end of the
+     * relationship used for the owning element.  This matters for relationships such as AttachedComment where
+     * the anchor (a comment) can also be the attached element.
+     *
+     * @param anchorGUID  unique id for the anchor.
+     * @param relationshipTypeName  name of the type of the relationship.
+     * @param relationship  relationship to test.
+     * @return boolean flag
+     */
+    private boolean isAttachment(String        anchorGUID,
+                                 String        relationshipTypeName,
+                                 Relationship  relationship)
+    {
+        if (relationship == null)
+        {
+            return false;
+        }
+
+        EntityProxy anchorEnd = relationship.getEntityOneProxy();
+
+        if (anchorAtEndTwoTypeNames.contains(relationshipTypeName))
+        {
+            anchorEnd = relationship.getEntityTwoProxy();
+        }
+
+        return (anchorEnd != null) && (anchorGUID.equals(anchorEnd.getGUID()));
+    }
+
+
+    /**
+     * Return the unique identifier of the entity at the other end of the relationship from the anchor.
+     *
+     * @param anchorGUID  unique id for the anchor.
+     * @param relationship  relationship that attaches the entity to the anchor.
+     * @return unique identifier or null if the relationship has no proxy for the entity
+     */
+    private String getAttachedGUID(String        anchorGUID,
+                                   Relationship  relationship)
+    {
+        EntityProxy attachedEnd = relationship.getEntityTwoProxy();
+
+        if ((relationship.getType() != null) && (anchorAtEndTwoTypeNames.contains(relationship.getType().getTypeDefName())))
+        {
+            attachedEnd = relationship.getEntityOneProxy();
+        }
+        else if ((attachedEnd != null) && (anchorGUID.equals(attachedEnd.getGUID())))
+        {
+            attachedEnd = relationship.getEntityOneProxy();
+        }
+
+        if (attachedEnd == null)
+        {
+            return null;
+        }
+
+        return attachedEnd.getGUID();
+    }
+
+
+    /**
+     * Return whether the entity is an asset.
+     *
+     * @param entity  entity retrieved from the property server
+     * @return boolean flag
+     */
+    private boolean isAsset(EntityDetail  entity)
+    {
+        InstanceType type = entity.getType();
+
+        if (type == null)
+        {
+            return false;
+        }
+
+        if (assetTypeName.equals(type.getTypeDefName()))
+        {
+            return true;
+        }
+
+        if (type.getTypeDefSuperTypes() != null)
+        {
+            for (TypeDefLink superType : type.getTypeDefSuperTypes())
+            {
+                if ((superType != null) && (assetTypeName.equals(superType.getName())))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the count for a type of relationship.
+     *
+     * @param counts  map of counts by relationship type name
+     * @param relationshipTypeName  name of the type of relationship
+     * @return count
+     */
+    private int getCount(Map<String, Integer>  counts,
+                         String                relationshipTypeName)
+    {
+        Integer count = counts.get(relationshipTypeName);
+
+        if (count == null)
+        {
+            return 0;
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Create an Asset bean from the asset entity.
+     *
+     * @param assetEntity  entity retrieved from the property server
+     * @return asset bean
+     */
+    private Asset getAsset(EntityDetail  assetEntity)
+    {
+        final String methodName = "getAsset";
+
+        InstanceProperties properties = assetEntity.getProperties();
+        Asset              asset      = new Asset();
+
+        this.setReferenceableProperties(asset, assetEntity, properties, methodName);
+        asset.setDisplayName(this.getStringProperty(namePropertyName, properties, methodName));
+        asset.setDescription(this.getStringProperty(descriptionPropertyName, properties, methodName));
+        asset.setOwner(this.getStringProperty(ownerPropertyName, properties, methodName));
+
+        List<String> zoneMembership = new ArrayList<>();
+        for (InstancePropertyValue zone : this.getArrayProperty(zoneMembershipPropertyName, properties))
+        {
+            if ((zone instanceof PrimitivePropertyValue) && (((PrimitivePropertyValue) zone).getPrimitiveValue() != null))
+            {
+                zoneMembership.add(((PrimitivePropertyValue) zone).getPrimitiveValue().toString());
+            }
+        }
+
+        if (! zoneMembership.isEmpty())
+        {
+            asset.setZoneMembership(zoneMembership);
+        }
+
+        return asset;
+    }
+
+
+    /**
+     * Set the properties of an external reference bean from an ExternalReference entity (or subtype).
+     *
+     * @param bean  bean to fill in
+     * @param entity  entity retrieved from the property server
+     * @param methodName  calling method
+     */
+    private void setExternalReferenceProperties(ExternalReference  bean,
+                                                EntityDetail       entity,
+                                                String             methodName)
+    {
+        InstanceProperties properties = entity.getProperties();
+
+        this.setReferenceableProperties(bean, entity, properties, methodName);
+        bean.setDisplayName(this.getStringProperty(displayNamePropertyName, properties, methodName));
+        bean.setURI(this.getStringProperty(urlPropertyName, properties, methodName));
+        bean.setVersion(this.getStringProperty(versionPropertyName, properties, methodName));
+        bean.setResourceDescription(this.getStringProperty(descriptionPropertyName, properties, methodName));
+        bean.setOrganization(this.getStringProperty(organizationPropertyName, properties, methodName));
+    }
+
+
+    /**
+     * Set the properties of a referenceable bean.  Certifications and licenses are stored as relationships so
+     * the instance may be a relationship rather than an entity.
+     *
+     * @param bean  bean to fill in
+     * @param instance  instance retrieved from the property server
+     * @param properties  properties of the instance
+     * @param methodName  calling method
+     */
+    private void setReferenceableProperties(Referenceable       bean,
+                                            InstanceHeader      instance,
+                                            InstanceProperties  properties,
+                                            String              methodName)
+    {
+        this.setElementHeaderProperties(bean, instance, methodName);
+        bean.setQualifiedName(this.getStringProperty(qualifiedNamePropertyName, properties, methodName));
+
+        if (properties != null)
+        {
+            bean.setAdditionalProperties(repositoryHelper.getMapFromProperty(serviceName,
+                                                                             additionalPropertiesPropertyName,
+                                                                             properties,
+                                                                             methodName));
+        }
+    }
+
+
+    /**
+     * Set the header properties of a bean.
+     *
+     * @param bean  bean to fill in
+     * @param instance  instance retrieved from the property server
+     * @param methodName  calling method
+     */
+    private void setElementHeaderProperties(ElementHeader   bean,
+                                            InstanceHeader  instance,
+                                            String          methodName)
+    {
+        bean.setGUID(instance.getGUID());
+        bean.setURL(instance.getInstanceURL());
+        bean.setType(this.getElementType(instance));
+
+        if ((instance instanceof EntityDetail) && (((EntityDetail) instance).getClassifications() != null))
+        {
+            List<Classification> classifications = new ArrayList<>();
+
+            for (org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification
+                    entityClassification : ((EntityDetail) instance).getClassifications())
+            {
+                if (entityClassification != null)
+                {
+                    Classification classification = new Classification();
+
+                    classification.setClassificationName(entityClassification.getName());
+                    classification.setClassificationProperties(this.getPrimitiveProperties(entityClassification.getProperties()));
+                    classifications.add(classification);
+                }
+            }
+
+            bean.setClassifications(classifications);
+        }
+    }
+
+
+    /**
+     * Create an ElementType by extracting relevant information from the supplied instance.
+     *
+     * @param instance  instance to extract properties from
+     * @return resulting elementType
+     */
+    private ElementType getElementType(InstanceHeader instance)
+    {
+        ElementType  elementType  = null;
+        InstanceType instanceType = instance.getType();
+
+        if (instanceType != null)
+        {
+            elementType = new ElementType();
+
+            elementType.setElementTypeId(instanceType.getTypeDefGUID());
+            elementType.setElementTypeName(instanceType.getTypeDefName());
+            elementType.setElementTypeDescription(instanceType.getTypeDefDescription());
+            elementType.setElementTypeVersion(instanceType.getTypeDefVersion());
+            elementType.setElementSourceServer(serverName);
+            elementType.setElementHomeMetadataCollectionId(instance.getMetadataCollectionId());
+
+            if (instance.getInstanceProvenanceType() != null)
+            {
+                switch (instance.getInstanceProvenanceType())
+                {
+                    case CONTENT_PACK:
+                        elementType.setElementOrigin(ElementOrigin.CONTENT_PACK);
+                        break;
+
+                    case LOCAL_COHORT:
+                        elementType.setElementOrigin(ElementOrigin.LOCAL_COHORT);
+                        break;
+
+                    case EXPORT_ARCHIVE:
+                        elementType.setElementOrigin(ElementOrigin.EXPORT_ARCHIVE);
+                        break;
+
+                    case DEREGISTERED_REPOSITORY:
+                        elementType.setElementOrigin(ElementOrigin.DEREGISTERED_REPOSITORY);
+                        break;
+
+                    default:
+                        elementType.setElementOrigin(null);
+                        break;
+                }
+            }
+        }
+
+        return elementType;
+    }
+
+
+    /**
+     * Return a string property.
+     *
+     * @param propertyName  name of the property
+     * @param properties  properties of the instance; may be null
+     * @param methodName  calling method
+     * @return value or null
+     */
+    private String getStringProperty(String              propertyName,
+                                     InstanceProperties  properties,
+                                     String              methodName)
+    {
+        if (properties == null)
+        {
+            return null;
+        }
+
+        return repositoryHelper.getStringProperty(serviceName, propertyName, properties, methodName);
+    }
+
+
+    /**
+     * Return a date property.
+     *
+     * @param propertyName  name of the property
+     * @param properties  properties of the instance; may be null
+     * @return value or null
+     */
+    private Date getDateProperty(String              propertyName,
+                                 InstanceProperties  properties)
+    {
+        if (properties != null)
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if (propertyValue instanceof PrimitivePropertyValue)
+            {
+                Object value = ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+
+                if (value instanceof Date)
+                {
+                    return (Date) value;
+                }
+                else if (value instanceof Long)
+                {
+                    return new Date((Long) value);
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the ordinal of an enum property.
+     *
+     * @param propertyName  name of the property
+     * @param properties  properties of the instance; may be null
+     * @return ordinal or null
+     */
+    private Integer getEnumOrdinal(String              propertyName,
+                                   InstanceProperties  properties)
+    {
+        if (properties != null)
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if (propertyValue instanceof EnumPropertyValue)
+            {
+                return ((EnumPropertyValue) propertyValue).getOrdinal();
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the values of an array property in order.
+     *
+     * @param propertyName  name of the property
+     * @param properties  properties of the instance; may be null
+     * @return list of values; empty if the property is not set
+     */
+    private List<InstancePropertyValue> getArrayProperty(String              propertyName,
+                                                         InstanceProperties  properties)
+    {
+        List<InstancePropertyValue> results = new ArrayList<>();
+
+        if (properties != null)
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if ((propertyValue instanceof ArrayPropertyValue) && (((ArrayPropertyValue) propertyValue).getArrayValues() != null))
+            {
+                ArrayPropertyValue arrayValue = (ArrayPropertyValue) propertyValue;
+
+                for (int i = 0; i < arrayValue.getArrayCount(); i++)
+                {
+                    InstancePropertyValue element = arrayValue.getArrayValues().getPropertyValue(Integer.toString(i));
+
+                    if (element != null)
+                    {
+                        results.add(element);
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the primitive properties of a classification as a map.  Other types of property are ignored.
+     *
+     * @param properties  properties of the classification; may be null
+     * @return map of property values or null if there are none
+     */
+    private Map<String, Object> getPrimitiveProperties(InstanceProperties  properties)
+    {
+        if (properties == null)
+        {
+            return null;
+        }
+
+        Map<String, Object> results       = new HashMap<>();
+        Iterator<String>    propertyNames = properties.getPropertyNames();
+
+        while ((propertyNames != null) && (propertyNames.hasNext()))
+        {
+            String                propertyName  = propertyNames.next();
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if (propertyValue instanceof PrimitivePropertyValue)
+            {
+                results.put(propertyName, ((PrimitivePropertyValue) propertyValue).getPrimitiveValue());
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+}
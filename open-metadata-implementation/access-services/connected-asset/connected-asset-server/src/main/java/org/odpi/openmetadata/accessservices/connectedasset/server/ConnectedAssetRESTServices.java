@@ -2,13 +2,24 @@
 package org.odpi.openmetadata.accessservices.connectedasset.server;
 
 import org.odpi.openmetadata.accessservices.connectedasset.admin.ConnectedAssetAdmin;
+import org.odpi.openmetadata.accessservices.connectedasset.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.accessservices.connectedasset.ffdc.exceptions.UnrecognizedAssetGUIDException;
 import org.odpi.openmetadata.accessservices.connectedasset.rest.*;
 import org.odpi.openmetadata.adminservices.OMAGAccessServiceRegistration;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceOperationalStatus;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceRegistration;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 
 /**
  * The ConnectedAssetRESTServices is the server-side implementation of the Connected Asset OMAS REST interface.
@@ -18,6 +29,11 @@ public class ConnectedAssetRESTServices
     static private String                  accessServiceName   = null;
     static private OMRSRepositoryConnector repositoryConnector = null;
 
+    /*
+     * Number of elements returned for each section of the asset universe if the caller does not specify.
+     */
+    static private final int               defaultUniversePageSize = 100;
+
     /**
      * Provide a connector to the REST Services.
      *
@@ -62,7 +78,32 @@ public class ConnectedAssetRESTServices
     public AssetResponse getAssetSummary(String   userId,
                                          String   assetGUID)
     {
-        return null;
+        AssetResponse response = new AssetResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response = handler.getAssetSummary(userId, assetGUID);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -145,7 +186,32 @@ public class ConnectedAssetRESTServices
                                                     int     elementStart,
                                                     int     maxElements)
     {
-        return null;
+        CertificationsResponse response = new CertificationsResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getCertifications(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -164,7 +230,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countCertifications(String  userId,
                                              String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countCertifications(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -187,7 +278,32 @@ public class ConnectedAssetRESTServices
                                         int     elementStart,
                                         int     maxElements)
     {
-        return null;
+        CommentsResponse response = new CommentsResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getComments(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -210,7 +326,32 @@ public class ConnectedAssetRESTServices
                                               int     elementStart,
                                               int     maxElements)
     {
-        return null;
+        CommentsResponse response = new CommentsResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getComments(userId, commentGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -229,7 +370,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countComments(String  userId,
                                        String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countComments(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -252,7 +418,32 @@ public class ConnectedAssetRESTServices
                                               int     elementStart,
                                               int     maxElements)
     {
-        return null;
+        ConnectionsResponse response = new ConnectionsResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getConnections(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -271,7 +462,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countConnections(String  userId,
                                           String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countConnections(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -294,7 +510,32 @@ public class ConnectedAssetRESTServices
                                                               int     elementStart,
                                                               int     maxElements)
     {
-        return null;
+        ExternalIdentifiersResponse response = new ExternalIdentifiersResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getExternalIdentifiers(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -313,7 +554,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countExternalIdentifiers(String  userId,
                                                   String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countExternalIdentifiers(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -336,7 +602,32 @@ public class ConnectedAssetRESTServices
                                                             int     elementStart,
                                                             int     maxElements)
     {
-        return null;
+        ExternalReferencesResponse response = new ExternalReferencesResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getExternalReferences(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -355,7 +646,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countExternalReferences(String  userId,
                                                  String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countExternalReferences(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -378,7 +694,32 @@ public class ConnectedAssetRESTServices
                                                 int     elementStart,
                                                 int     maxElements)
     {
-        return null;
+        InformalTagsResponse response = new InformalTagsResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getInformalTags(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -397,7 +738,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countInformalTags(String  userId,
                                            String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countInformalTags(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -420,7 +786,32 @@ public class ConnectedAssetRESTServices
                                         int     elementStart,
                                         int     maxElements)
     {
-        return null;
+        LicensesResponse response = new LicensesResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getLicenses(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -439,7 +830,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countLicenses(String  userId,
                                            String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countLicenses(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -462,7 +878,32 @@ public class ConnectedAssetRESTServices
                                   int     elementStart,
                                   int     maxElements)
     {
-        return null;
+        LikesResponse response = new LikesResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getLikes(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -481,7 +922,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countLikes(String  userId,
                                     String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countLikes(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -504,7 +970,32 @@ public class ConnectedAssetRESTServices
                                                int     elementStart,
                                                int     maxElements)
     {
-        return null;
+        LocationsResponse response = new LocationsResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getKnownLocations(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -523,7 +1014,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countKnownLocations(String  userId,
                                              String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countKnownLocations(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -546,7 +1062,32 @@ public class ConnectedAssetRESTServices
                                         int     elementStart,
                                         int     maxElements)
     {
-        return null;
+        MeaningsResponse response = new MeaningsResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getMeanings(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -565,7 +1106,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countMeanings(String  userId,
                                        String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countMeanings(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -588,7 +1154,32 @@ public class ConnectedAssetRESTServices
                                         int     elementStart,
                                         int     maxElements)
     {
-        return null;
+        NoteLogsResponse response = new NoteLogsResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getNoteLogs(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -607,7 +1198,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countNoteLogs(String  userId,
                                        String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countNoteLogs(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -630,7 +1246,32 @@ public class ConnectedAssetRESTServices
                                   int     elementStart,
                                   int     maxElements)
     {
-        return null;
+        NotesResponse response = new NotesResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getNotes(userId, noteLogGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -649,7 +1290,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countNotes(String  userId,
                                     String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countNotes(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -672,7 +1338,32 @@ public class ConnectedAssetRESTServices
                                       int     elementStart,
                                       int     maxElements)
     {
-        return null;
+        RatingsResponse response = new RatingsResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getRatings(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -691,7 +1382,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countRatings(String  userId,
                                       String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countRatings(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -756,7 +1472,32 @@ public class ConnectedAssetRESTServices
                                                                     int     elementStart,
                                                                     int     maxElements)
     {
-        return null;
+        RelatedMediaReferencesResponse response = new RelatedMediaReferencesResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setList(handler.getRelatedMediaReferences(userId, assetGUID, elementStart, maxElements));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -775,7 +1516,32 @@ public class ConnectedAssetRESTServices
     public CountResponse countRelatedMediaReferences(String  userId,
                                                      String  assetGUID)
     {
-        return null;
+        CountResponse response = new CountResponse();
+
+        try
+        {
+            AssetHandler handler = new AssetHandler(accessServiceName, repositoryConnector);
+
+            response.setObjectCount(handler.countRelatedMediaReferences(userId, assetGUID));
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (UnrecognizedAssetGUIDException error)
+        {
+            captureUnrecognizedAssetGUIDException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
     }
 
 
@@ -801,4 +1567,439 @@ public class ConnectedAssetRESTServices
         return null;
     }
 
+
+    /**
+     * Returns the asset universe in a single request.  This is the asset summary (with the counts of
+     * the elements attached to the asset) plus the first page of each of the requested sections.
+     * Annotations, related assets and the schema are not part of the asset universe because there are no
+     * relationships in the open metadata types that attach them to the asset.  Their counts are always 0.
+     * The depth controls how far the traversal goes:
+     * <ul>
+     *     <li>0 - asset summary and counts only.</li>
+     *     <li>1 - the first page of each requested section.</li>
+     *     <li>2 or more - also the first page of the replies to each returned comment and the notes in
+     *     each returned note log.</li>
+     * </ul>
+     *
+     * @param userId       String   userId of user making request.
+     * @param assetGUID    String   unique id for asset.
+     * @param sections     list of sections to return; null means all sections.
+     * @param depth        int      how far to traverse from the asset.
+     * @param maxElements  int      maximum number of elements to return for each section; 0 or less means use the default.
+     *
+     * @return the asset universe or
+     * InvalidParameterException - the GUID is not recognized or the paging values are invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public AssetUniverseResponse getAssetUniverse(String                     userId,
+                                                  String                     assetGUID,
+                                                  List<AssetUniverseSection> sections,
+                                                  int                        depth,
+                                                  int                        maxElements)
+    {
+        AssetUniverseResponse response     = new AssetUniverseResponse();
+        AssetResponse         assetSummary = this.getAssetSummary(userId, assetGUID);
+
+        if ((assetSummary == null) || (captureException(response, assetSummary)))
+        {
+            return response;
+        }
+
+        response.setAsset(assetSummary);
+
+        if (depth < 1)
+        {
+            return response;
+        }
+
+        int pageSize = maxElements;
+
+        if (pageSize < 1)
+        {
+            pageSize = defaultUniversePageSize;
+        }
+
+        Set<AssetUniverseSection> requestedSections = EnumSet.allOf(AssetUniverseSection.class);
+
+        if ((sections != null) && (! sections.isEmpty()))
+        {
+            requestedSections = EnumSet.copyOf(sections);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.CERTIFICATIONS) && (assetSummary.getCertificationCount() > 0))
+        {
+            CertificationsResponse sectionResponse = this.getCertifications(userId, assetGUID, 0, Math.min(assetSummary.getCertificationCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setCertifications(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.COMMENTS) && (assetSummary.getCommentCount() > 0))
+        {
+            CommentsResponse sectionResponse = this.getComments(userId, assetGUID, 0, Math.min(assetSummary.getCommentCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setComments(sectionResponse);
+
+            if ((depth > 1) && (sectionResponse != null) && (sectionResponse.getList() != null))
+            {
+                Map<String, CommentsResponse> commentReplies = new HashMap<>();
+
+                for (CommentResponse comment : sectionResponse.getList())
+                {
+                    if ((comment != null) && (comment.getComment() != null) && (comment.getReplyCount() > 0))
+                    {
+                        String           commentGUID     = comment.getComment().getGUID();
+                        CommentsResponse repliesResponse = this.getCommentReplies(userId, commentGUID, 0, Math.min(comment.getReplyCount(), pageSize));
+
+                        if (captureException(response, repliesResponse))
+                        {
+                            return response;
+                        }
+
+                        if (repliesResponse != null)
+                        {
+                            commentReplies.put(commentGUID, repliesResponse);
+                        }
+                    }
+                }
+
+                response.setCommentReplies(commentReplies);
+            }
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.CONNECTIONS) && (assetSummary.getConnectionCount() > 0))
+        {
+            ConnectionsResponse sectionResponse = this.getConnections(userId, assetGUID, 0, Math.min(assetSummary.getConnectionCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setConnections(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.EXTERNAL_IDENTIFIERS) && (assetSummary.getExternalIdentifierCount() > 0))
+        {
+            ExternalIdentifiersResponse sectionResponse = this.getExternalIdentifiers(userId, assetGUID, 0, Math.min(assetSummary.getExternalIdentifierCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setExternalIdentifiers(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.EXTERNAL_REFERENCES) && (assetSummary.getExternalReferencesCount() > 0))
+        {
+            ExternalReferencesResponse sectionResponse = this.getExternalReferences(userId, assetGUID, 0, Math.min(assetSummary.getExternalReferencesCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setExternalReferences(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.INFORMAL_TAGS) && (assetSummary.getInformalTagCount() > 0))
+        {
+            InformalTagsResponse sectionResponse = this.getInformalTags(userId, assetGUID, 0, Math.min(assetSummary.getInformalTagCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setInformalTags(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.LICENSES) && (assetSummary.getLicenseCount() > 0))
+        {
+            LicensesResponse sectionResponse = this.getLicenses(userId, assetGUID, 0, Math.min(assetSummary.getLicenseCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setLicenses(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.LIKES) && (assetSummary.getLikeCount() > 0))
+        {
+            LikesResponse sectionResponse = this.getLikes(userId, assetGUID, 0, Math.min(assetSummary.getLikeCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setLikes(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.KNOWN_LOCATIONS) && (assetSummary.getKnownLocationsCount() > 0))
+        {
+            LocationsResponse sectionResponse = this.getKnownLocations(userId, assetGUID, 0, Math.min(assetSummary.getKnownLocationsCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setKnownLocations(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.MEANINGS) && (assetSummary.getMeaningsCount() > 0))
+        {
+            MeaningsResponse sectionResponse = this.getMeanings(userId, assetGUID, 0, Math.min(assetSummary.getMeaningsCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setMeanings(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.NOTE_LOGS) && (assetSummary.getNoteLogsCount() > 0))
+        {
+            NoteLogsResponse sectionResponse = this.getNoteLogs(userId, assetGUID, 0, Math.min(assetSummary.getNoteLogsCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setNoteLogs(sectionResponse);
+
+            if ((depth > 1) && (sectionResponse != null) && (sectionResponse.getList() != null))
+            {
+                Map<String, NotesResponse> notes = new HashMap<>();
+
+                for (NoteLogResponse noteLog : sectionResponse.getList())
+                {
+                    if ((noteLog != null) && (noteLog.getNoteLog() != null) && (noteLog.getNoteCount() > 0))
+                    {
+                        String        noteLogGUID   = noteLog.getNoteLog().getGUID();
+                        NotesResponse notesResponse = this.getNotes(userId, noteLogGUID, 0, Math.min(noteLog.getNoteCount(), pageSize));
+
+                        if (captureException(response, notesResponse))
+                        {
+                            return response;
+                        }
+
+                        if (notesResponse != null)
+                        {
+                            notes.put(noteLogGUID, notesResponse);
+                        }
+                    }
+                }
+
+                response.setNotes(notes);
+            }
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.RATINGS) && (assetSummary.getRatingsCount() > 0))
+        {
+            RatingsResponse sectionResponse = this.getRatings(userId, assetGUID, 0, Math.min(assetSummary.getRatingsCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setRatings(sectionResponse);
+        }
+
+        if (requestedSections.contains(AssetUniverseSection.RELATED_MEDIA_REFERENCES) && (assetSummary.getRelatedMediaReferenceCount() > 0))
+        {
+            RelatedMediaReferencesResponse sectionResponse = this.getRelatedMediaReferences(userId, assetGUID, 0, Math.min(assetSummary.getRelatedMediaReferenceCount(), pageSize));
+
+            if (captureException(response, sectionResponse))
+            {
+                return response;
+            }
+
+            response.setRelatedMediaReferences(sectionResponse);
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Copy the exception from a section of the asset universe into the asset universe response.
+     * The asset universe request fails if any of its sections fail.
+     *
+     * @param response asset universe response
+     * @param sectionResponse response for one of the sections (may be null)
+     * @return boolean flag indicating whether the section response contained an exception
+     */
+    private boolean captureException(AssetUniverseResponse         response,
+                                     ConnectedAssetOMASAPIResponse sectionResponse)
+    {
+        if ((sectionResponse == null) || (sectionResponse.getExceptionClassName() == null))
+        {
+            return false;
+        }
+
+        response.setRelatedHTTPCode(sectionResponse.getRelatedHTTPCode());
+        response.setExceptionClassName(sectionResponse.getExceptionClassName());
+        response.setExceptionErrorMessage(sectionResponse.getExceptionErrorMessage());
+        response.setExceptionSystemAction(sectionResponse.getExceptionSystemAction());
+        response.setExceptionUserAction(sectionResponse.getExceptionUserAction());
+        response.setExceptionProperties(sectionResponse.getExceptionProperties());
+
+        return true;
+    }
+
+
+    /**
+     * Set the exception information into the response.
+     *
+     * @param response  REST Response
+     * @param httpCode  HTTP code for the exception
+     * @param errorMessage  error message from the exception
+     * @param systemAction  system action from the exception
+     * @param userAction  user action from the exception
+     * @param exceptionClassName  class name of the exception to recreate
+     * @param exceptionProperties map of properties stored in the exception to help with diagnostics
+     */
+    private void captureCheckedException(ConnectedAssetOMASAPIResponse response,
+                                         int                           httpCode,
+                                         String                        errorMessage,
+                                         String                        systemAction,
+                                         String                        userAction,
+                                         String                        exceptionClassName,
+                                         Map<String, Object>           exceptionProperties)
+    {
+        response.setRelatedHTTPCode(httpCode);
+        response.setExceptionClassName(exceptionClassName);
+        response.setExceptionErrorMessage(errorMessage);
+        response.setExceptionSystemAction(systemAction);
+        response.setExceptionUserAction(userAction);
+        response.setExceptionProperties(exceptionProperties);
+    }
+
+
+    /**
+     * Set the exception information from an Open Connector Framework (OCF) exception into the response.
+     *
+     * @param response  REST Response
+     * @param error returned response.
+     * @param exceptionProperties map of properties stored in the exception to help with diagnostics
+     */
+    private void captureOCFCheckedException(ConnectedAssetOMASAPIResponse response,
+                                            OCFCheckedExceptionBase       error,
+                                            Map<String, Object>           exceptionProperties)
+    {
+        captureCheckedException(response,
+                                error.getReportedHTTPCode(),
+                                error.getErrorMessage(),
+                                error.getReportedSystemAction(),
+                                error.getReportedUserAction(),
+                                error.getClass().getName(),
+                                exceptionProperties);
+    }
+
+
+    /**
+     * Set the exception information into the response.
+     *
+     * @param response  REST Response
+     * @param error returned response.
+     */
+    private void captureInvalidParameterException(ConnectedAssetOMASAPIResponse response,
+                                                  InvalidParameterException     error)
+    {
+        Map<String, Object>  exceptionProperties = null;
+
+        if (error.getParameterName() != null)
+        {
+            exceptionProperties = new HashMap<>();
+            exceptionProperties.put("parameterName", error.getParameterName());
+        }
+
+        captureCheckedException(response,
+                                error.getReportedHTTPCode(),
+                                error.getErrorMessage(),
+                                error.getReportedSystemAction(),
+                                error.getReportedUserAction(),
+                                error.getClass().getName(),
+                                exceptionProperties);
+    }
+
+
+    /**
+     * Set the exception information into the response.
+     *
+     * @param response  REST Response
+     * @param error returned response.
+     */
+    private void captureUnrecognizedAssetGUIDException(ConnectedAssetOMASAPIResponse  response,
+                                                       UnrecognizedAssetGUIDException error)
+    {
+        Map<String, Object>  exceptionProperties = null;
+
+        if (error.getAssetGUID() != null)
+        {
+            exceptionProperties = new HashMap<>();
+            exceptionProperties.put("assetGUID", error.getAssetGUID());
+        }
+
+        captureCheckedException(response,
+                                error.getReportedHTTPCode(),
+                                error.getErrorMessage(),
+                                error.getReportedSystemAction(),
+                                error.getReportedUserAction(),
+                                error.getClass().getName(),
+                                exceptionProperties);
+    }
+
+
+    /**
+     * Set the exception information into the response.
+     *
+     * @param response  REST Response
+     * @param error returned response.
+     */
+    private void capturePropertyServerException(ConnectedAssetOMASAPIResponse response,
+                                                PropertyServerException       error)
+    {
+        captureOCFCheckedException(response, error, null);
+    }
+
+
+    /**
+     * Set the exception information into the response.
+     *
+     * @param response  REST Response
+     * @param error returned response.
+     */
+    private void captureUserNotAuthorizedException(ConnectedAssetOMASAPIResponse response,
+                                                   UserNotAuthorizedException    error)
+    {
+        Map<String, Object>  exceptionProperties = null;
+
+        if (error.getUserId() != null)
+        {
+            exceptionProperties = new HashMap<>();
+            exceptionProperties.put("userId", error.getUserId());
+        }
+
+        captureOCFCheckedException(response, error, exceptionProperties);
+    }
 }
@@ -0,0 +1,244 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.connectedasset.server;
+
+import org.odpi.openmetadata.accessservices.connectedasset.ffdc.ConnectedAssetErrorCode;
+import org.odpi.openmetadata.accessservices.connectedasset.ffdc.exceptions.InvalidParameterException;
+import org.odpi.openmetadata.accessservices.connectedasset.ffdc.exceptions.UnrecognizedAssetGUIDException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+
+/**
+ * ErrorHandler provides common validation routines for the other handler classes
+ */
+class ErrorHandler
+{
+    private OMRSRepositoryConnector repositoryConnector;
+
+
+    /**
+     * Typical constructor providing access to the repository connector for this access service.
+     *
+     * @param repositoryConnector - connector object
+     */
+    ErrorHandler(OMRSRepositoryConnector   repositoryConnector)
+    {
+        this.repositoryConnector = repositoryConnector;
+    }
+
+
+    /**
+     * Throw an exception if the supplied userId is null
+     *
+     * @param userId  user name to validate
+     * @param methodName  name of the method making the call.
+     *
+     * @throws InvalidParameterException the userId is null
+     */
+    void validateUserId(String userId,
+                        String methodName) throws InvalidParameterException
+    {
+        if (userId == null)
+        {
+            ConnectedAssetErrorCode errorCode    = ConnectedAssetErrorCode.NULL_USER_ID;
+            String                  errorMessage = errorCode.getErrorMessageId()
+                                                 + errorCode.getFormattedErrorMessage(methodName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction(),
+                                                "userId");
+        }
+    }
+
+
+    /**
+     * Throw an exception if the supplied unique identifier is null
+     *
+     * @param guid  unique identifier to validate
+     * @param parameterName  name of the parameter that passed the guid.
+     * @param methodName  name of the method making the call.
+     *
+     * @throws InvalidParameterException the guid is null
+     */
+    void validateGUID(String guid,
+                      String parameterName,
+                      String methodName) throws InvalidParameterException
+    {
+        if (guid == null)
+        {
+            ConnectedAssetErrorCode errorCode    = ConnectedAssetErrorCode.NULL_GUID;
+            String                  errorMessage = errorCode.getErrorMessageId()
+                                                 + errorCode.getFormattedErrorMessage(parameterName, methodName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction(),
+                                                parameterName);
+        }
+    }
+
+
+    /**
+     * Check that there is a repository connector.
+     *
+     * @param methodName  name of the method making the call.
+     *
+     * @return metadata collection that provides access to the properties in the property server
+     * @throws PropertyServerException exception thrown if the repository connector
+     */
+    OMRSMetadataCollection validateRepositoryConnector(String   methodName) throws PropertyServerException
+    {
+        if (this.repositoryConnector == null)
+        {
+            ConnectedAssetErrorCode errorCode    = ConnectedAssetErrorCode.OMRS_NOT_INITIALIZED;
+            String                  errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName);
+
+            throw new PropertyServerException(errorCode.getHTTPErrorCode(),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              errorMessage,
+                                              errorCode.getSystemAction(),
+                                              errorCode.getUserAction());
+
+        }
+
+        if (! this.repositoryConnector.isActive())
+        {
+            ConnectedAssetErrorCode errorCode    = ConnectedAssetErrorCode.OMRS_NOT_AVAILABLE;
+            String                  errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName);
+
+            throw new PropertyServerException(errorCode.getHTTPErrorCode(),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              errorMessage,
+                                              errorCode.getSystemAction(),
+                                              errorCode.getUserAction());
+        }
+
+        try
+        {
+            return repositoryConnector.getMetadataCollection();
+        }
+        catch (Throwable error)
+        {
+            ConnectedAssetErrorCode errorCode    = ConnectedAssetErrorCode.NO_METADATA_COLLECTION;
+            String                  errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName);
+
+            throw new PropertyServerException(errorCode.getHTTPErrorCode(),
+                                              this.getClass().getName(),
+                                              methodName,
+                                              errorMessage,
+                                              errorCode.getSystemAction(),
+                                              errorCode.getUserAction());
+        }
+    }
+
+
+    /**
+     * Throw an exception if the user is not authorized to access the property server.
+     *
+     * @param userId  user name of the caller
+     * @param methodName  name of the method making the call.
+     * @param serverName  name of this server
+     * @param serviceName  name of this access service
+     * @throws UserNotAuthorizedException the user is not authorized
+     */
+    void handleUnauthorizedUser(String userId,
+                                String methodName,
+                                String serverName,
+                                String serviceName) throws UserNotAuthorizedException
+    {
+        ConnectedAssetErrorCode errorCode    = ConnectedAssetErrorCode.USER_NOT_AUTHORIZED;
+        String                  errorMessage = errorCode.getErrorMessageId()
+                                             + errorCode.getFormattedErrorMessage(userId,
+                                                                                  methodName,
+                                                                                  serviceName,
+                                                                                  serverName);
+
+        throw new UserNotAuthorizedException(errorCode.getHTTPErrorCode(),
+                                             this.getClass().getName(),
+                                             methodName,
+                                             errorMessage,
+                                             errorCode.getSystemAction(),
+                                             errorCode.getUserAction(),
+                                             userId);
+
+    }
+
+
+    /**
+     * Throw an exception if the property server returns an unexpected error.
+     *
+     * @param error  caught exception
+     * @param methodName  name of the method making the call.
+     * @param serverName  name of this server
+     * @param serviceName  name of this access service
+     * @throws PropertyServerException unexpected exception from property server
+     */
+    void handleRepositoryError(Throwable  error,
+                               String     methodName,
+                               String     serverName,
+                               String     serviceName) throws PropertyServerException
+    {
+        ConnectedAssetErrorCode errorCode    = ConnectedAssetErrorCode.PROPERTY_SERVER_ERROR;
+        String                  errorMessage = errorCode.getErrorMessageId()
+                                             + errorCode.getFormattedErrorMessage(error.getMessage(),
+                                                                                  methodName,
+                                                                                  serviceName,
+                                                                                  serverName);
+
+        throw new PropertyServerException(errorCode.getHTTPErrorCode(),
+                                          this.getClass().getName(),
+                                          methodName,
+                                          errorMessage,
+                                          errorCode.getSystemAction(),
+                                          errorCode.getUserAction(),
+                                          error);
+
+    }
+
+
+    /**
+     * Throw an exception if the asset is not known to the property server or is not an asset.
+     *
+     * @param error  caught exception; null if the element is known but is not an asset
+     * @param assetGUID  unique identifier of the requested asset
+     * @param methodName  name of the method making the call.
+     * @param serverName  name of this server
+     * @param serviceName  name of this access service
+     * @throws UnrecognizedAssetGUIDException the asset is not known
+     */
+    void handleUnknownAsset(Throwable  error,
+                            String     assetGUID,
+                            String     methodName,
+                            String     serverName,
+                            String     serviceName) throws UnrecognizedAssetGUIDException
+    {
+        String                  reason       = (error == null) ? "the element is not an asset" : error.getMessage();
+        ConnectedAssetErrorCode errorCode    = ConnectedAssetErrorCode.UNKNOWN_ASSET;
+        String                  errorMessage = errorCode.getErrorMessageId()
+                                             + errorCode.getFormattedErrorMessage(assetGUID,
+                                                                                  methodName,
+                                                                                  serviceName,
+                                                                                  serverName,
+                                                                                  reason);
+
+        throw new UnrecognizedAssetGUIDException(errorCode.getHTTPErrorCode(),
+                                                 this.getClass().getName(),
+                                                 methodName,
+                                                 errorMessage,
+                                                 errorCode.getSystemAction(),
+                                                 errorCode.getUserAction(),
+                                                 assetGUID);
+
+    }
+}
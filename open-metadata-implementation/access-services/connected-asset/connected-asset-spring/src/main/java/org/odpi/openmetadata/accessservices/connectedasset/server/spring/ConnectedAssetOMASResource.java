@@ -5,6 +5,8 @@ import org.odpi.openmetadata.accessservices.connectedasset.rest.*;
 import org.odpi.openmetadata.accessservices.connectedasset.server.ConnectedAssetRESTServices;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * The ConnectedAssetRESTServices is the server-side implementation of the Connected Asset OMAS REST interface.
  */
@@ -43,6 +45,35 @@ public class ConnectedAssetOMASResource
     }
 
 
+    /**
+     * Returns the asset universe in a single request.  This is the asset summary plus the first page of each
+     * of the requested sections.
+     *
+     * @param userId       String   userId of user making request.
+     * @param assetGUID    String   unique id for asset.
+     * @param sections     list of sections to return; all sections are returned if this is not specified.
+     * @param depth        int      0 for the summary only, 1 for the first page of each section and 2 to add
+     *                              the first page of comment replies and notes.
+     * @param maxElements  int      maximum number of elements to return for each section.
+     *
+     * @return the asset universe or
+     * InvalidParameterException - the GUID is not recognized or the paging values are invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    @RequestMapping(method = RequestMethod.GET, path = "/assets/{assetGUID}/universe")
+
+    public AssetUniverseResponse getAssetUniverse(@PathVariable                   String                     userId,
+                                                  @PathVariable                   String                     assetGUID,
+                                                  @RequestParam(required = false) List<AssetUniverseSection> sections,
+                                                  @RequestParam(defaultValue = "2") int                      depth,
+                                                  @RequestParam(defaultValue = "0") int                      maxElements)
+    {
+        return restAPI.getAssetUniverse(userId, assetGUID, sections, depth, maxElements);
+    }
+
+
     /**
      * Returns the list of annotations for the asset.
      *
@@ -63,6 +63,10 @@ public enum GovernanceEngineErrorCode {
             "The text field value passed on the {0} parameter of the {1} operation is null",
             "The system is unable to process the request without this text field value.",
             "Correct the code in the caller to provide the name."),
+    NEGATIVE_PAGING_PARAMETER(400, "OMAS-GOVERNANCEENGINE-400-012 ",
+            "The paging parameter {0} passed on the {1} operation is negative",
+            "The system is unable to process the request with a negative starting point or page size.",
+            "Correct the code in the caller to provide a starting point and page size of zero or more."),
     OMRS_NOT_INITIALIZED(404, "OMAS-GOVERNANCEENGINE-404-001 ",
             "The open metadata repository services are not initialized for the {0} operation",
             "The system is unable to connect to the open metadata property handlers.",
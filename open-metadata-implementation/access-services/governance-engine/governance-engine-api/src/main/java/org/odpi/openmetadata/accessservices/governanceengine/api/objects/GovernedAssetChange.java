@@ -0,0 +1,107 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+
+package org.odpi.openmetadata.accessservices.governanceengine.api.objects;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEventType;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * GovernedAssetChange describes a change to a governed asset that has occurred since an earlier watermark.
+ * An UPDATED_GOVERNEDASSETCOMP_EVENT carries the current governed asset and should replace any copy held by the
+ * caller.  A DELETED_GOVERNEDASSETOMP_EVENT means the asset is no longer governed by the requested classifications
+ * (or no longer exists) and only carries the asset's guid.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GovernedAssetChange {
+
+    private long sequenceNumber;
+    private GovernanceEngineEventType changeType;
+    private String assetGuid;
+    private GovernedAsset governedAsset;
+
+    /**
+     * Default constructor
+     */
+    public GovernedAssetChange() {
+    }
+
+    /**
+     * Return the sequence number of the change.  This is the watermark to pass on the next request once this
+     * change has been processed.
+     *
+     * @return sequence number
+     */
+    public long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * Set up the sequence number of the change.
+     *
+     * @param sequenceNumber - sequence number
+     */
+    public void setSequenceNumber(long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    /**
+     * Return whether the asset was updated or removed.
+     *
+     * @return change type
+     */
+    public GovernanceEngineEventType getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * Set up whether the asset was updated or removed.
+     *
+     * @param changeType - change type
+     */
+    public void setChangeType(GovernanceEngineEventType changeType) {
+        this.changeType = changeType;
+    }
+
+    /**
+     * Return the unique identifier of the asset that changed.
+     *
+     * @return guid
+     */
+    public String getAssetGuid() {
+        return assetGuid;
+    }
+
+    /**
+     * Set up the unique identifier of the asset that changed.
+     *
+     * @param assetGuid - guid
+     */
+    public void setAssetGuid(String assetGuid) {
+        this.assetGuid = assetGuid;
+    }
+
+    /**
+     * Return the current governed asset - null if the asset was removed.
+     *
+     * @return governed asset
+     */
+    public GovernedAsset getGovernedAsset() {
+        return governedAsset;
+    }
+
+    /**
+     * Set up the current governed asset.
+     *
+     * @param governedAsset - governed asset
+     */
+    public void setGovernedAsset(GovernedAsset governedAsset) {
+        this.governedAsset = governedAsset;
+    }
+}
@@ -0,0 +1,108 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+
+package org.odpi.openmetadata.accessservices.governanceengine.api.objects;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * GovernedAssetChangeListAPIResponse is the response structure used on the Governance Engine OMAS REST API call
+ * that returns the changes to the governed assets since a watermark.  The returned watermark is passed on the next
+ * call.  If resyncRequired is set, the changes since the requested watermark are no longer available and the caller
+ * must retrieve the governed assets again.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GovernedAssetChangeListAPIResponse extends GovernanceEngineOMASAPIResponse {
+    private List<GovernedAssetChange> changeList = null;
+    private long watermark;
+    private boolean moreChanges = false;
+    private boolean resyncRequired = false;
+
+    /**
+     * Default constructor
+     */
+    public GovernedAssetChangeListAPIResponse() {
+    }
+
+
+    /**
+     * Return the changes, oldest first.
+     *
+     * @return list of changes
+     */
+    public List<GovernedAssetChange> getChangeList() {
+        return changeList;
+    }
+
+    /**
+     * Set up the changes.
+     *
+     * @param changeList - list of changes
+     */
+    public void setChangeList(List<GovernedAssetChange> changeList) {
+        this.changeList = changeList;
+    }
+
+    /**
+     * Return the watermark to pass on the next request.
+     *
+     * @return watermark
+     */
+    public long getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * Set up the watermark to pass on the next request.
+     *
+     * @param watermark - watermark
+     */
+    public void setWatermark(long watermark) {
+        this.watermark = watermark;
+    }
+
+    /**
+     * Return whether there are more changes after this page.
+     *
+     * @return boolean flag
+     */
+    public boolean isMoreChanges() {
+        return moreChanges;
+    }
+
+    /**
+     * Set up whether there are more changes after this page.
+     *
+     * @param moreChanges - boolean flag
+     */
+    public void setMoreChanges(boolean moreChanges) {
+        this.moreChanges = moreChanges;
+    }
+
+    /**
+     * Return whether the changes since the requested watermark are no longer available.
+     *
+     * @return boolean flag
+     */
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+
+    /**
+     * Set up whether the changes since the requested watermark are no longer available.
+     *
+     * @param resyncRequired - boolean flag
+     */
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+}
@@ -21,6 +21,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class GovernedAssetListAPIResponse extends GovernanceEngineOMASAPIResponse {
     private List<GovernedAsset> assetList = null;
+    private long watermark;
 
     /**
      * Default constructor
@@ -47,6 +48,25 @@ public class GovernedAssetListAPIResponse extends GovernanceEngineOMASAPIRespons
         this.assetList = assetList;
     }
 
+    /**
+     * Return the watermark of the change feed taken before the governed assets were retrieved.  It is passed
+     * on the first request for the changes to the governed assets.
+     *
+     * @return watermark
+     */
+    public long getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * Set up the watermark of the change feed.
+     *
+     * @param watermark - watermark
+     */
+    public void setWatermark(long watermark) {
+        this.watermark = watermark;
+    }
+
 
 
 }
@@ -5,6 +5,8 @@ package org.odpi.openmetadata.accessservices.governanceengine.client;
 import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions.*;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernanceClassificationDef;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetChangeListAPIResponse;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetListAPIResponse;
 
 import java.util.List;
 
@@ -40,6 +42,40 @@ public interface GovernanceEngineClient {
             throws InvalidParameterException, UserNotAuthorizedException, ClassificationNotFoundException,
             MetadataServerException, TypeNotFoundException;
 
+    /**
+     * @param userId                                - String - userId of user making request.
+     * @param classification                - String - name of base classification type (can be null)
+     * @param type                              - String - root type of asset (can be null)
+     * @param startFrom                         - int - index of the first asset to return
+     * @param pageSize                          - int - maximum number of assets to return (0 means no limit)
+     * @return GovernedAssetListAPIResponse         - page of governed assets and the watermark for the first
+     *                                                call to getGovernedAssetChanges
+     * @throws InvalidParameterException            - one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException           - the requesting user is not authorized to issue this request.
+     * @throws ClassificationNotFoundException  - the classification to scope search is not found
+     * @throws TypeNotFoundException       - the classification to scope search is not found
+     * @throws MetadataServerException              - A failure occurred communicating with the metadata repository
+     */
+    GovernedAssetListAPIResponse getGovernedAssetPage(String userId, String classification, String type,
+                                                      int startFrom, int pageSize)
+            throws InvalidParameterException, UserNotAuthorizedException, ClassificationNotFoundException,
+            MetadataServerException, TypeNotFoundException;
+
+    /**
+     * @param userId                                - String - userId of user making request.
+     * @param classification                - String - name of base classification type (can be null)
+     * @param type                              - String - root type of asset (can be null)
+     * @param watermark                         - long - watermark from the governed assets or the previous changes
+     * @param pageSize                          - int - maximum number of changes to return (0 means no limit)
+     * @return GovernedAssetChangeListAPIResponse   - changes, the watermark for the next call and whether the
+     *                                                governed assets must be retrieved again
+     * @throws InvalidParameterException            - one of the parameters is null or invalid.
+     * @throws MetadataServerException              - A failure occurred communicating with the metadata repository
+     */
+    GovernedAssetChangeListAPIResponse getGovernedAssetChanges(String userId, String classification, String type,
+                                                               long watermark, int pageSize)
+            throws InvalidParameterException, MetadataServerException;
+
     /**
      * @param userId                        - String - userId of user making request.
      * @param assetGuid            - String - guid of asset component
@@ -74,6 +74,87 @@ public class GovernanceEngineImpl implements GovernanceEngineClient {
         return restResult.getGovernedAssetList();
     }
 
+    /**
+     * @param userId                 - String - userId of user making request.
+     * @param classification - String - name of base classification type
+     * @param type               - String - root asset type
+     * @param startFrom          - int - index of the first asset to return
+     * @param pageSize           - int - maximum number of assets to return (0 means no limit)
+     * @return GovernedAssetListAPIResponse         - page of governed assets and the change feed watermark
+     * @throws InvalidParameterException           - one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException          - the requesting user is not authorized to issue this request.
+     * @throws ClassificationNotFoundException - the classification to scope search is not found
+     * @throws TypeNotFoundException      - the classification to scope search is not found
+     * @throws MetadataServerException             - A failure occurred communicating with the metadata repository
+     */
+    public GovernedAssetListAPIResponse getGovernedAssetPage(String userId, String classification, String type,
+                                                             int startFrom, int pageSize) throws InvalidParameterException,
+            UserNotAuthorizedException, MetadataServerException, ClassificationNotFoundException,
+            TypeNotFoundException {
+
+        final String methodName = "getGovernedAssetPage";
+        final String urlTemplate = "/{0}/assets?classification={1}&type={2}&startFrom={3}&pageSize={4}";
+
+        log.debug("Calling method: " + methodName);
+
+
+        validateOMASServerURL(methodName);
+        validateUserId(userId, methodName); // cannot be null
+
+        GovernedAssetListAPIResponse restResult = callGovernedAssetListREST(methodName,
+                omasServerURL + urlTemplate,
+                userId,
+                classification,
+                type,
+                startFrom,
+                pageSize);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowClassificationNotFoundException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowTypeNotFoundException(methodName, restResult);
+        this.detectAndThrowMetadataServerException(methodName, restResult);
+
+        return restResult;
+    }
+
+    /**
+     * @param userId                 - String - userId of user making request.
+     * @param classification - String - name of base classification type
+     * @param type               - String - root asset type
+     * @param watermark          - long - watermark from the governed assets or the previous changes
+     * @param pageSize           - int - maximum number of changes to return (0 means no limit)
+     * @return GovernedAssetChangeListAPIResponse   - changes and the watermark for the next call
+     * @throws InvalidParameterException           - one of the parameters is null or invalid.
+     * @throws MetadataServerException             - A failure occurred communicating with the metadata repository
+     */
+    public GovernedAssetChangeListAPIResponse getGovernedAssetChanges(String userId, String classification, String type,
+                                                                      long watermark, int pageSize)
+            throws InvalidParameterException, MetadataServerException {
+
+        final String methodName = "getGovernedAssetChanges";
+        final String urlTemplate = "/{0}/assets/changes?classification={1}&type={2}&watermark={3}&pageSize={4}";
+
+        log.debug("Calling method: " + methodName);
+
+
+        validateOMASServerURL(methodName);
+        validateUserId(userId, methodName); // cannot be null
+
+        GovernedAssetChangeListAPIResponse restResult = callGovernedAssetChangeListREST(methodName,
+                omasServerURL + urlTemplate,
+                userId,
+                classification,
+                type,
+                watermark,
+                pageSize);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowMetadataServerException(methodName, restResult);
+
+        return restResult;
+    }
+
     /**
      * @param userId                 - String - userId of user making request.
      * @param classification - String - name of base classification type
@@ -363,6 +444,43 @@ public class GovernanceEngineImpl implements GovernanceEngineClient {
         return restResult;
     }
 
+    /**
+     * Issue a GET REST call that returns a GovernedAssetChangeListAPIResponse object.
+     *
+     * @param methodName  - name of the method being called
+     * @param urlTemplate - template of the URL for the REST API call with place-holders for the parameters
+     * @param params      - a list of parameters that are slotted into the url template
+     * @return GovernedAssetChangeListAPIResponse    - list of changes to governed asset components
+     * @throws MetadataServerException - something went wrong with the REST call stack.
+     */
+    private GovernedAssetChangeListAPIResponse callGovernedAssetChangeListREST(String methodName,
+                                                                               String urlTemplate,
+                                                                               Object... params) throws MetadataServerException {
+        GovernedAssetChangeListAPIResponse restResult = new GovernedAssetChangeListAPIResponse();
+
+        /*
+         * Issue the request
+         */
+        try {
+            restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
+        } catch (Throwable error) {
+            GovernanceEngineErrorCode errorCode = GovernanceEngineErrorCode.CLIENT_SIDE_REST_API_ERROR;
+            String errorMessage = errorCode.getErrorMessageId() + errorCode.getFormattedErrorMessage(methodName,
+                    omasServerURL,
+                    error.getMessage());
+
+            throw new MetadataServerException(errorCode.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction(),
+                    error);
+        }
+
+        return restResult;
+    }
+
     /**
      * Issue a GET REST call that returns a GovernedAssetAPIResponse object.
      *
@@ -489,6 +607,27 @@ public class GovernanceEngineImpl implements GovernanceEngineClient {
         }
     }
 
+    /**
+     * Throw a MetadataServerException if it is encoded in the REST response.
+     *
+     * @param methodName - name of the method called
+     * @param restResult - response from the rest call.  This generated in the remote handlers.
+     * @throws MetadataServerException - encoded exception from the handlers
+     */
+    private void detectAndThrowMetadataServerException(String methodName,
+                                                       GovernanceEngineOMASAPIResponse restResult) throws MetadataServerException {
+        final String exceptionClassName = MetadataServerException.class.getName();
+
+        if ((restResult != null) && (exceptionClassName.equals(restResult.getExceptionClassName()))) {
+            throw new MetadataServerException(restResult.getRelatedHTTPCode(),
+                    this.getClass().getName(),
+                    methodName,
+                    restResult.getExceptionErrorMessage(),
+                    restResult.getExceptionSystemAction(),
+                    restResult.getExceptionUserAction());
+        }
+    }
+
     /**
      * Throw an UserNotAuthorizedException if it is encoded in the REST response.
      *
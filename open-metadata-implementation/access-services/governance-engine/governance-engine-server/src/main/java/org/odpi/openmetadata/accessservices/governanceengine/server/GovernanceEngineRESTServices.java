@@ -8,6 +8,8 @@ import org.odpi.openmetadata.accessservices.governanceengine.api.ffdc.exceptions
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.*;
 import org.odpi.openmetadata.accessservices.governanceengine.server.admin.GovernanceEngineAdmin;
 import org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernanceClassificationDefHandler;
+import org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernanceEngineValidator;
+import org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernedAssetChangeLog;
 import org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernedAssetHandler;
 import org.odpi.openmetadata.adminservices.OMAGAccessServiceRegistration;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
@@ -50,6 +52,7 @@ public class GovernanceEngineRESTServices {
     static private String accessServiceName = null;
     static private OMRSRepositoryConnector repositoryConnector = null;
     private static OMRSMetadataCollection metadataCollection;
+    private static GovernedAssetChangeLog governedAssetChangeLog = null;
 
 
     private static final Logger log = LoggerFactory.getLogger(GovernanceEngineRESTServices.class);
@@ -71,6 +74,15 @@ public class GovernanceEngineRESTServices {
 
     }
 
+    /**
+     * Provide the log of recent changes to governed assets that is kept up to date from the enterprise OMRS topic.
+     *
+     * @param governedAssetChangeLog - change log - null if changes are not being recorded.
+     */
+    static public void setGovernedAssetChangeLog(GovernedAssetChangeLog governedAssetChangeLog) {
+        GovernanceEngineRESTServices.governedAssetChangeLog = governedAssetChangeLog;
+    }
+
     /**
      * Default constructor
      */
@@ -222,6 +234,30 @@ public class GovernanceEngineRESTServices {
     public GovernedAssetListAPIResponse getGovernedAssets(String userId,
                                                           List<String> classification,
                                                           List<String> type) {
+        return getGovernedAssets(userId, classification, type, 0, 0);
+    }
+
+    /**
+     * Returns a page of the list of governed assets along with the watermark to use when requesting the changes
+     * to the governed assets
+     * <p>
+     * These include the tag associations but not the definitions of those tags
+     *
+     * @param userId             - String - userId of user making request.
+     * @param classification - this may be the qualifiedName or displayName of the connection.
+     * @param type types to start query from
+     * @param startFrom index of the first asset to return
+     * @param pageSize maximum number of assets to return - 0 means no limit
+     * @return GovernedAssetComponentList or
+     * InvalidParameterException - one of the parameters is null or invalid.
+     * PropertyServerException - there is a problem retrieving information from the property (metadata) handlers.
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public GovernedAssetListAPIResponse getGovernedAssets(String userId,
+                                                          List<String> classification,
+                                                          List<String> type,
+                                                          int startFrom,
+                                                          int pageSize) {
         final String methodName = "getGovernedAssets";
 
 
@@ -239,7 +275,14 @@ public class GovernanceEngineRESTServices {
             GovernedAssetHandler governedAssetHandler = new GovernedAssetHandler(accessServiceName,
                     repositoryConnector);
 
-            response.setGovernedAssetList(governedAssetHandler.getGovernedAssets(userId, classification, type));
+            // The watermark is taken first so no change made during the query is missed
+            GovernedAssetChangeLog changeLog = governedAssetChangeLog;
+            if (changeLog != null) {
+                response.setWatermark(changeLog.getWatermark());
+            }
+
+            response.setGovernedAssetList(governedAssetHandler.getGovernedAssets(userId, classification, type,
+                    startFrom, pageSize));
         } catch (InvalidParameterException error) {
             captureInvalidParameterException(response, error);
         } catch (MetadataServerException error) {
@@ -258,6 +301,63 @@ public class GovernanceEngineRESTServices {
         return response;
     }
 
+    /**
+     * Returns the changes to the governed assets since a watermark
+     * <p>
+     * The watermark comes from the initial retrieval of the governed assets, and then from the previous set of
+     * changes. If the changes since the watermark are no longer available, resyncRequired is set in the response
+     * and the governed assets must be retrieved again.
+     *
+     * @param userId             - String - userId of user making request.
+     * @param classification - names of the classifications of interest.
+     * @param type types of interest
+     * @param watermark watermark from the previous request
+     * @param pageSize maximum number of changes to return - 0 means no limit
+     * @return GovernedAssetChangeList or
+     * InvalidParameterException - one of the parameters is null or invalid.
+     * PropertyServerException - there is a problem retrieving information from the property (metadata) handlers.
+     */
+    public GovernedAssetChangeListAPIResponse getGovernedAssetChanges(String userId,
+                                                                      List<String> classification,
+                                                                      List<String> type,
+                                                                      long watermark,
+                                                                      int pageSize) {
+        final String methodName = "getGovernedAssetChanges";
+
+
+        if (log.isDebugEnabled()) {
+            log.debug("Calling method: " + methodName);
+        }
+
+        // create API response
+        GovernedAssetChangeListAPIResponse response = new GovernedAssetChangeListAPIResponse();
+
+        try {
+            this.validateInitialization(methodName);
+
+            GovernanceEngineValidator.validateUserId(userId, methodName);
+            GovernanceEngineValidator.validatePaging(0, pageSize, methodName);
+
+            GovernedAssetChangeLog changeLog = governedAssetChangeLog;
+            if (changeLog == null) {
+                // Changes are not being recorded so the caller can only retrieve all of the governed assets
+                response.setResyncRequired(true);
+                response.setWatermark(watermark);
+            } else {
+                changeLog.getChangesSince(watermark, classification, type, pageSize, response);
+            }
+        } catch (InvalidParameterException error) {
+            captureInvalidParameterException(response, error);
+        } catch (MetadataServerException error) {
+            captureMetadataServerException(response, error);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+        }
+
+        return response;
+    }
+
     /**
      * Returns a single governed asset
      * <p>
@@ -4,16 +4,27 @@ package org.odpi.openmetadata.accessservices.governanceengine.server.admin;
 
 import org.odpi.openmetadata.accessservices.governanceengine.api.auditlog.GovernanceEngineAuditCode;
 import org.odpi.openmetadata.accessservices.governanceengine.server.GovernanceEngineRESTServices;
+import org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernedAssetChangeLog;
 import org.odpi.openmetadata.accessservices.governanceengine.server.listeners.GovernanceEngineOMRSTopicListener;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.odpi.openmetadata.accessservices.governanceengine.server.util.Constants.DEFAULT_GOVERNED_ASSET_CHANGE_LOG_SIZE;
+import static org.odpi.openmetadata.accessservices.governanceengine.server.util.Constants.GOVERNED_ASSET_CHANGE_LOG_SIZE;
+
 
 public class GovernanceEngineAdmin implements AccessServiceAdmin {
 
@@ -84,11 +95,34 @@ public class GovernanceEngineAdmin implements AccessServiceAdmin {
                     auditCode.getSystemAction(),
                     auditCode.getUserAction());
 
+            /*
+             * The change log is only kept up to date while the listener is registered - without it callers
+             * are told to retrieve all of the governed assets each time.
+             */
+            GovernedAssetChangeLog governedAssetChangeLog = new GovernedAssetChangeLog(getChangeLogSize(accessServiceConfig));
+            GovernanceEngineRESTServices.setGovernedAssetChangeLog(governedAssetChangeLog);
+
             omrsTopicListener = new GovernanceEngineOMRSTopicListener(accessServiceConfig.getAccessServiceOutTopic(),
                     repositoryConnector.getRepositoryHelper(),
                     repositoryConnector.getRepositoryValidator(),
-                    accessServiceConfig.getAccessServiceName());
-            omrsTopicConnector.registerListener(omrsTopicListener);
+                    accessServiceConfig.getAccessServiceName(),
+                    governedAssetChangeLog);
+            /*
+             * The listener only processes new relationship events and the entity events that change the
+             * classifications of governed assets.
+             */
+            OMRSTopicListenerFilter omrsTopicListenerFilter = new OMRSTopicListenerFilter(Collections.singletonList(OMRSEventCategory.INSTANCE));
+            omrsTopicListenerFilter.setInstanceEventTypes(Arrays.asList(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                    OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                    OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                    OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                    OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                    OMRSInstanceEventType.RESTORED_ENTITY_EVENT,
+                    OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                    OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                    OMRSInstanceEventType.PURGED_ENTITY_EVENT));
+
+            omrsTopicConnector.registerListener(omrsTopicListener, omrsTopicListenerFilter);
         }
 
         this.auditLog = auditLog;
@@ -110,6 +144,34 @@ public class GovernanceEngineAdmin implements AccessServiceAdmin {
     }
 
 
+    /**
+     * Return the maximum number of changes to keep for the governed asset change feed.  This is set with the
+     * governedAssetChangeLogSize access service option.
+     *
+     * @param accessServiceConfig - configuration properties for this access service.
+     * @return size of the change log
+     */
+    private int getChangeLogSize(AccessServiceConfig accessServiceConfig) {
+        Map<String, Object> accessServiceOptions = accessServiceConfig.getAccessServiceOptions();
+
+        if (accessServiceOptions != null) {
+            Object changeLogSize = accessServiceOptions.get(GOVERNED_ASSET_CHANGE_LOG_SIZE);
+
+            try {
+                if (changeLogSize instanceof Number) {
+                    return ((Number) changeLogSize).intValue();
+                } else if (changeLogSize != null) {
+                    return Integer.parseInt(changeLogSize.toString());
+                }
+            } catch (NumberFormatException error) {
+                log.debug("Ignoring invalid " + GOVERNED_ASSET_CHANGE_LOG_SIZE + " option: " + changeLogSize);
+            }
+        }
+
+        return DEFAULT_GOVERNED_ASSET_CHANGE_LOG_SIZE;
+    }
+
+
     /**
      * Shutdown the access service.
      */
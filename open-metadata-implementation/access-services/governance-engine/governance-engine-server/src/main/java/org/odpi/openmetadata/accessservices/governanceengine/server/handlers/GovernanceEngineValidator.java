@@ -104,6 +104,39 @@ public final class GovernanceEngineValidator {
         return;
     }
 
+    /**
+     * Throw an exception if the supplied starting point or page size is negative
+     *
+     * @param startFrom  - index of the first result to return
+     * @param pageSize   - maximum number of results to return
+     * @param methodName - name of the method making the call.
+     * @throws InvalidParameterException - the starting point or page size is negative
+     */
+    public static void validatePaging(int startFrom,
+                                      int pageSize,
+                                      String methodName) throws InvalidParameterException {
+        String parameterName = null;
+
+        if (startFrom < 0) {
+            parameterName = "startFrom";
+        } else if (pageSize < 0) {
+            parameterName = "pageSize";
+        }
+
+        if (parameterName != null) {
+            GovernanceEngineErrorCode errorCode = GovernanceEngineErrorCode.NEGATIVE_PAGING_PARAMETER;
+            String errorMessage = errorCode.getErrorMessageId()
+                    + errorCode.getFormattedErrorMessage(parameterName, methodName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                    MethodHandles.lookup().lookupClass().getName(),
+                    methodName,
+                    errorMessage,
+                    errorCode.getSystemAction(),
+                    errorCode.getUserAction());
+        }
+    }
+
 
 
 }
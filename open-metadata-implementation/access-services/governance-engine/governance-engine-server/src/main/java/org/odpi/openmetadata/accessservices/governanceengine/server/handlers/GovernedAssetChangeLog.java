@@ -0,0 +1,244 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+
+package org.odpi.openmetadata.accessservices.governanceengine.server.handlers;
+
+import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEventType;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAsset;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetChange;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetChangeListAPIResponse;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GovernedAssetChangeLog keeps the most recent changes to the classifications of entities, as received from the
+ * enterprise OMRS topic, so that governance engines can keep their copy of the governed assets up to date without
+ * retrieving all of the governed assets each time.
+ * <p>
+ * Each change is given a sequence number.  A caller retrieves the governed assets along with the current
+ * watermark, and then asks for the changes since that watermark, passing the watermark returned with each set of
+ * changes on the next request.
+ * <p>
+ * Only the latest change for each entity is kept, and the log is bounded.  When changes that a caller has not seen
+ * are dropped from the log, the caller is told to retrieve the governed assets again.  The sequence numbers start
+ * from the time the log is created, so a watermark from before a restart of the server is also detected as too old.
+ */
+public class GovernedAssetChangeLog {
+
+    private final int maxChanges;
+    private final Map<String, LoggedChange> changes = new LinkedHashMap<>();
+    private long lastSequenceNumber;
+    private long oldestWatermark;
+
+    /**
+     * Create an empty change log.
+     *
+     * @param maxChanges - the maximum number of entities whose latest change is kept.
+     */
+    public GovernedAssetChangeLog(int maxChanges) {
+        this.maxChanges = maxChanges;
+        this.lastSequenceNumber = System.currentTimeMillis() * 1000;
+        this.oldestWatermark = lastSequenceNumber;
+    }
+
+    /**
+     * Return the watermark that covers all of the changes recorded so far.
+     *
+     * @return watermark
+     */
+    public synchronized long getWatermark() {
+        return lastSequenceNumber;
+    }
+
+    /**
+     * Record that the classifications or status of an entity have changed.
+     *
+     * @param entity - the entity after the change.
+     */
+    public void recordUpdate(EntityDetail entity) {
+        if ((entity != null) && (entity.getGUID() != null)) {
+            recordChange(entity.getGUID(), entity.getType(), entity);
+        }
+    }
+
+    /**
+     * Record that an entity has been deleted or purged.
+     *
+     * @param entityGuid - unique identifier of the entity.
+     * @param type       - type of the entity - may be null if only the type name is known.
+     * @param typeName   - name of the type of the entity.
+     */
+    public void recordRemoval(String entityGuid, InstanceType type, String typeName) {
+        if (entityGuid != null) {
+            if ((type == null) && (typeName != null)) {
+                type = new InstanceType();
+                type.setTypeDefName(typeName);
+            }
+            recordChange(entityGuid, type, null);
+        }
+    }
+
+    /**
+     * Add a change to the log, replacing any earlier change to the same entity.
+     *
+     * @param entityGuid - unique identifier of the entity.
+     * @param type       - type of the entity.
+     * @param entity     - the entity after the change - null if it has been removed.
+     */
+    private synchronized void recordChange(String entityGuid, InstanceType type, EntityDetail entity) {
+        changes.remove(entityGuid);
+        changes.put(entityGuid, new LoggedChange(++lastSequenceNumber, entityGuid, type, entity));
+
+        Iterator<LoggedChange> iterator = changes.values().iterator();
+        while (changes.size() > maxChanges) {
+            oldestWatermark = iterator.next().sequenceNumber;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Fill in the response with the changes to the governed assets since a watermark.  An entity that no longer
+     * has any of the requested classifications is reported as removed.  Changes to entities that are not of the
+     * requested types are skipped.
+     *
+     * @param watermark      - watermark returned with the governed assets or the previous changes.
+     * @param classification - names of the classifications of interest - null means all.
+     * @param type           - names of the types of interest - null means all.
+     * @param pageSize       - maximum number of changes to return - 0 means no limit.
+     * @param response       - response to fill in.
+     */
+    public void getChangesSince(long watermark,
+                                List<String> classification,
+                                List<String> type,
+                                int pageSize,
+                                GovernedAssetChangeListAPIResponse response) {
+        List<LoggedChange> matchingChanges = new ArrayList<>();
+        boolean moreChanges = false;
+        long newWatermark;
+
+        synchronized (this) {
+            if ((watermark < oldestWatermark) || (watermark > lastSequenceNumber)) {
+                response.setResyncRequired(true);
+                response.setWatermark(lastSequenceNumber);
+                return;
+            }
+
+            newWatermark = lastSequenceNumber;
+            for (LoggedChange change : changes.values()) {
+                if ((change.sequenceNumber > watermark) && (isOfType(change.type, type))) {
+                    if ((pageSize > 0) && (matchingChanges.size() == pageSize)) {
+                        moreChanges = true;
+                        newWatermark = matchingChanges.get(pageSize - 1).sequenceNumber;
+                        break;
+                    }
+                    matchingChanges.add(change);
+                }
+            }
+        }
+
+        List<GovernedAssetChange> changeList = new ArrayList<>();
+        for (LoggedChange loggedChange : matchingChanges) {
+            GovernedAssetChange change = new GovernedAssetChange();
+            change.setSequenceNumber(loggedChange.sequenceNumber);
+            change.setAssetGuid(loggedChange.entityGuid);
+
+            GovernedAsset governedAsset = getGovernedAsset(loggedChange.entity, classification);
+            if (governedAsset == null) {
+                change.setChangeType(GovernanceEngineEventType.DELETED_GOVERNEDASSETOMP_EVENT);
+            } else {
+                change.setChangeType(GovernanceEngineEventType.UPDATED_GOVERNEDASSETCOMP_EVENT);
+                change.setGovernedAsset(governedAsset);
+            }
+            changeList.add(change);
+        }
+
+        response.setChangeList(changeList);
+        response.setWatermark(newWatermark);
+        response.setMoreChanges(moreChanges);
+    }
+
+    /**
+     * Build the governed asset for an entity from its requested classifications.
+     *
+     * @param entity         - entity - null if it has been removed.
+     * @param classification - names of the classifications of interest - null means all.
+     * @return governed asset or null if the entity has none of the requested classifications.
+     */
+    private GovernedAsset getGovernedAsset(EntityDetail entity, List<String> classification) {
+        if ((entity == null) || (entity.getClassifications() == null)) {
+            return null;
+        }
+
+        GovernedAsset governedAsset = null;
+        for (Classification entityClassification : entity.getClassifications()) {
+            String classificationName = entityClassification.getName();
+
+            if ((classificationName != null) && ((classification == null) || (classification.contains(classificationName)))) {
+                if (governedAsset == null) {
+                    governedAsset = GovernedAssetHandler.createGovernedAsset(entity);
+                }
+                GovernedAssetHandler.addClassificationInfoToEntry(governedAsset, entity, classificationName);
+            }
+        }
+
+        return governedAsset;
+    }
+
+    /**
+     * Test whether an entity is of one of the requested types, or one of their subtypes.
+     *
+     * @param instanceType - type of the entity.
+     * @param type         - names of the types of interest - null means all.
+     * @return boolean flag
+     */
+    private boolean isOfType(InstanceType instanceType, List<String> type) {
+        if (type == null) {
+            return true;
+        }
+
+        if (instanceType == null) {
+            return false;
+        }
+
+        if (type.contains(instanceType.getTypeDefName())) {
+            return true;
+        }
+
+        if (instanceType.getTypeDefSuperTypes() == null) {
+            // Only the type name is known - so report the change in case it is a subtype
+            return instanceType.getTypeDefGUID() == null;
+        }
+
+        for (TypeDefLink superType : instanceType.getTypeDefSuperTypes()) {
+            if (type.contains(superType.getName())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * LoggedChange is the latest change recorded for an entity.
+     */
+    private static class LoggedChange {
+        private final long sequenceNumber;
+        private final String entityGuid;
+        private final InstanceType type;
+        private final EntityDetail entity;
+
+        LoggedChange(long sequenceNumber, String entityGuid, InstanceType type, EntityDetail entity) {
+            this.sequenceNumber = sequenceNumber;
+            this.entityGuid = entityGuid;
+            this.type = type;
+            this.entity = entity;
+        }
+    }
+}
@@ -11,15 +11,20 @@ import org.odpi.openmetadata.accessservices.governanceengine.api.objects.Governa
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAsset;
 import org.odpi.openmetadata.accessservices.governanceengine.server.util.PropertyUtils;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +37,8 @@ import static org.odpi.openmetadata.accessservices.governanceengine.server.util.
  */
 public class GovernedAssetHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GovernedAssetHandler.class);
+
     private OMRSMetadataCollection metadataCollection = null;
     private String serviceName;
     private OMRSRepositoryHelper repositoryHelper = null;
@@ -88,17 +95,44 @@ public class GovernedAssetHandler {
                                                  List<String> classification,
                                                  List<String> type) throws InvalidParameterException,
             UserNotAuthorizedException, MetadataServerException, ClassificationNotFoundException, TypeNotFoundException {
+        return getGovernedAssets(userId, classification, type, 0, 0);
+    }
+
+    /**
+     * Returns a page of the list of governed assets with associated tags.  The assets are returned in the order
+     * of their guids so that the pages are stable between calls.
+     *
+     * @param userId         - String - userId of user making request.
+     * @param classification - classifications to start query from .
+     * @param type           - types to start query from.
+     * @param startFrom      - index of the first asset to return.
+     * @param pageSize       - maximum number of assets to return - 0 means no limit.
+     * @return List of Governed Access
+     * @throws InvalidParameterException       - one of the parameters is null or invalid.
+     * @throws ClassificationNotFoundException - cannot find all the classifications specified
+     * @throws TypeNotFoundException           - cannot find all the types specified
+     * @throws MetadataServerException         - there is a problem retrieving information from the metadata server
+     * @throws UserNotAuthorizedException      - the requesting user is not authorized to issue this request.
+     */
+    public List<GovernedAsset> getGovernedAssets(String userId,
+                                                 List<String> classification,
+                                                 List<String> type,
+                                                 int startFrom,
+                                                 int pageSize) throws InvalidParameterException,
+            UserNotAuthorizedException, MetadataServerException, ClassificationNotFoundException, TypeNotFoundException {
         final String methodName = "getGovernedAssets";
         final String classificationParameter = "classification";
         final String typeParameter = "type";
 
-        List<GovernedAsset> assetsToReturn = new ArrayList<>();
+        // Keyed by guid so an asset found through several classifications or types is only added once
+        Map<String, GovernedAsset> assetsToReturn = new LinkedHashMap<>();
 
 
 
         errorHandler.validateUserId(userId, methodName);
         errorHandler.validateClassification(classification, classificationParameter, methodName);
         errorHandler.validateType(classification, typeParameter, methodName);
+        errorHandler.validatePaging(startFrom, pageSize, methodName);
 
         //TODO: Add tighter query using type and classification (TBD)
 
@@ -117,12 +151,29 @@ public class GovernedAssetHandler {
             });
         }
 
-        return assetsToReturn;
+        if ((startFrom == 0) && (pageSize == 0)) {
+            return new ArrayList<>(assetsToReturn.values());
+        }
+
+        List<GovernedAsset> sortedAssets = new ArrayList<>(assetsToReturn.values());
+        sortedAssets.sort(Comparator.comparing(GovernedAsset::getGuid));
+
+        if (startFrom >= sortedAssets.size()) {
+            return new ArrayList<>();
+        }
+
+        int endAt = sortedAssets.size();
+        if ((pageSize > 0) && (startFrom + pageSize < endAt)) {
+            endAt = startFrom + pageSize;
+        }
+
+        return new ArrayList<>(sortedAssets.subList(startFrom, endAt));
     }
 
-    private void addToAssetListByType(List<GovernedAsset> assetsToReturn, String type,
+    private void addToAssetListByType(Map<String, GovernedAsset> assetsToReturn, String type,
                                       List<String> classification, String userId) {
 
+        List<String> classificationNames = new ArrayList<>();
 
         // We know the type, let's do this by classification now
         if (classification == null) {
@@ -138,68 +189,121 @@ public class GovernedAssetHandler {
             }
 
             if (allClassifications != null) {
-                allClassifications.forEach((classificationTypedef) -> {
-                    addToAssetListByClassification(assetsToReturn, type, classificationTypedef.getName(), userId);
-                });
+                allClassifications.forEach((classificationTypedef) -> classificationNames.add(classificationTypedef.getName()));
             }
 
         } else {
-            classification.forEach((classificationsearch) -> {
-                addToAssetListByClassification(assetsToReturn, type, classificationsearch, userId);
-            });
+            classificationNames.addAll(classification);
         }
 
-        return;
+        if (!classificationNames.isEmpty()) {
+            addToAssetListByClassifications(assetsToReturn, type, classificationNames, userId);
+        }
     }
 
-    private void addToAssetListByClassification(List<GovernedAsset> assetsToReturn,
-                                                String type,String classification, String userId) {
+    private void addToAssetListByClassifications(Map<String, GovernedAsset> assetsToReturn,
+                                                 String type, List<String> classificationNames, String userId) {
 
 
         List<EntityDetail> entities =null;
 
         String typeGuid = getTypeGuidFromTypeName(type,userId);
 
-// findEntitiesByClassification requires a specific type to be provided.
+        // One search for the entities with any of the classifications rather than one search per classification
+        Map<String, InstanceProperties> matchClassifications = new LinkedHashMap<>();
+        classificationNames.forEach((classificationName) -> matchClassifications.put(classificationName, null));
+
             try {
 
-                entities = metadataCollection.findEntitiesByClassification(userId, typeGuid,
-                        classification,
-                        null, null,0,
+                entities = metadataCollection.findEntitiesByClassifications(userId, typeGuid,
+                        matchClassifications,
+                        MatchCriteria.ANY, null,0,
                         null,
-                        null, null, null, 0);//TODO Handle exceptions from findEntitiesByClassification
-                //TODO remove stack traces
-            } catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException e) {
-                e.printStackTrace();
-            } catch (TypeErrorException e) {
-                e.printStackTrace();
-            } catch (RepositoryErrorException e) {
-                e.printStackTrace();
-            } catch (ClassificationErrorException e) {
-                e.printStackTrace();
-            } catch (PropertyErrorException e) {
-                e.printStackTrace();
-            } catch (PagingErrorException e) {
-                e.printStackTrace();
-            } catch (FunctionNotSupportedException e) {
-                e.printStackTrace();
-            } catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException e) {
-                e.printStackTrace();
+                        null, null, null, 0);
+            } catch (ClassificationErrorException | FunctionNotSupportedException e) {
+                // One of the names is not a classification the repository knows, or the repository can not search
+                // for several classifications at once - search for each classification in turn
+                entities = findEntitiesByEachClassification(typeGuid, classificationNames, userId);
+            } catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException
+                    | TypeErrorException
+                    | RepositoryErrorException
+                    | PropertyErrorException
+                    | PagingErrorException
+                    | org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException e) {
+                log.error("Unable to find entities with classifications {}", classificationNames, e);
             }
 
-            // We have the asset -- add to return
+            // We have the assets -- add each requested classification they have to the return
         if (entities!=null) {
             entities.forEach((entity) -> {
-                GovernedAsset entry=addEntityIfDoesntExist(assetsToReturn,entity);
-                addClassificationInfoToEntry(entry,entity,classification);
+                GovernedAsset entry = assetsToReturn.computeIfAbsent(entity.getGUID(), guid -> createGovernedAsset(entity));
+                if (entity.getClassifications() != null) {
+                    entity.getClassifications().forEach((entityClassification) -> {
+                        if (matchClassifications.containsKey(entityClassification.getName())) {
+                            addClassificationInfoToEntry(entry, entity, entityClassification.getName());
+                        }
+                    });
+                }
             });
 
         }
     }
 
 
-    private void addClassificationInfoToEntry(GovernedAsset entry, EntityDetail entity,
-                                              String classification) {
+    /**
+     * Search for the entities with each classification in turn so that a classification name the repository does
+     * not know only loses the results for that classification.  Any other failure of a search is logged and also
+     * only loses the results for that classification.
+     *
+     * @param typeGuid            - type of the entities to return
+     * @param classificationNames - names of the classifications
+     * @param userId              - String - userId of user making request.
+     * @return list of entities - an entity with several of the classifications is only returned once
+     */
+    private List<EntityDetail> findEntitiesByEachClassification(String typeGuid, List<String> classificationNames,
+                                                                String userId) {
+
+        Map<String, EntityDetail> entities = new LinkedHashMap<>();
+
+        for (String classificationName : classificationNames) {
+            List<EntityDetail> classifiedEntities = null;
+
+            try {
+                classifiedEntities = metadataCollection.findEntitiesByClassification(userId, typeGuid,
+                        classificationName,
+                        null, null, 0,
+                        null,
+                        null, null, null, 0);
+            } catch (ClassificationErrorException e) {
+                // Not a classification of this type - no entities to add
+            } catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException
+                    | TypeErrorException
+                    | RepositoryErrorException
+                    | PropertyErrorException
+                    | PagingErrorException
+                    | FunctionNotSupportedException
+                    | org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException e) {
+                log.error("Unable to find entities with classification {}", classificationName, e);
+            }
+
+            if (classifiedEntities != null) {
+                classifiedEntities.forEach((entity) -> entities.putIfAbsent(entity.getGUID(), entity));
+            }
+        }
+
+        return new ArrayList<>(entities.values());
+    }
+
+
+    /**
+     * Add the named classification of an entity, with its properties, to the governed asset built from the entity.
+     *
+     * @param entry          - governed asset
+     * @param entity         - entity the governed asset is built from
+     * @param classification - name of the classification
+     */
+    static void addClassificationInfoToEntry(GovernedAsset entry, EntityDetail entity,
+                                             String classification) {
         // Just add this classification info - the current methods are convoluted, but useful to prove out concept
         // and understand the API. Also consideration to be made to using the metadata collection helpers/extending
         // TODO Refactor
@@ -251,7 +355,13 @@ public class GovernedAssetHandler {
         }
     }
 
-    private GovernedAsset addEntityIfDoesntExist(List<GovernedAsset> assetsToReturn, EntityDetail entity) {
+    /**
+     * Create the governed asset for an entity - without any classifications.
+     *
+     * @param entity - entity
+     * @return governed asset
+     */
+    static GovernedAsset createGovernedAsset(EntityDetail entity) {
 
         GovernedAsset ga = new GovernedAsset();
         ga.setGuid(entity.getGUID());
@@ -259,18 +369,8 @@ public class GovernedAssetHandler {
 
         //TODO get name of entity - use this as a key
         ga.setFqName(getGovernanceResourceNameFromEntity(entity));
-        // See if we can find this asset in the list - if not we'll add
-        GovernedAsset existingEntry = assetsToReturn.stream()
-                .filter(govasset -> ga.getGuid().equals(govasset.getGuid()))
-                .findAny()
-                .orElse(null);
-        if (existingEntry==null) {
-            assetsToReturn.add(ga);
-            existingEntry=ga;
-        }
-        return(existingEntry);
-
 
+        return ga;
     }
 
     private String getTypeGuidFromTypeName(String type, String userId) {
@@ -289,7 +389,7 @@ public class GovernedAssetHandler {
         return(guid);
     }
 
-    private String getGovernanceResourceNameFromEntity(EntityDetail entityDetail) {
+    private static String getGovernanceResourceNameFromEntity(EntityDetail entityDetail) {
         // We have an entity, but need to map this to 'something' that a governance engine like
         // ranger understands. Some of this is managed by 'tagsync' For OMAS APIs
 
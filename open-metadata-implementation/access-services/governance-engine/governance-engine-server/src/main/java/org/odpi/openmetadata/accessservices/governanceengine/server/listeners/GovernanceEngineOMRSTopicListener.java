@@ -3,10 +3,12 @@
 package org.odpi.openmetadata.accessservices.governanceengine.server.listeners;
 
 
+import org.odpi.openmetadata.accessservices.governanceengine.server.handlers.GovernedAssetChangeLog;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.events.*;
@@ -22,14 +24,17 @@ public class GovernanceEngineOMRSTopicListener implements OMRSTopicListener {
 
     private OMRSInstanceEventProcessor instanceEventProcessor;
     private OMRSAuditLog auditLog;
+    private GovernedAssetChangeLog governedAssetChangeLog;
 
     public GovernanceEngineOMRSTopicListener(Connection assetConsumerOutTopic,
                                              OMRSRepositoryHelper repositoryHelper,
                                              OMRSRepositoryValidator repositoryValidator,
-                                             String componentName) {
+                                             String componentName,
+                                             GovernedAssetChangeLog governedAssetChangeLog) {
 
         this.instanceEventProcessor = instanceEventProcessor;
         this.auditLog = auditLog;
+        this.governedAssetChangeLog = governedAssetChangeLog;
     }
 
 
@@ -122,6 +127,42 @@ public class GovernanceEngineOMRSTopicListener implements OMRSTopicListener {
                                 instanceEvent.getRelationship());
                         break;
 
+                    // Changes to the classifications of entities are recorded for the governed asset change feed
+                    case NEW_ENTITY_EVENT:
+                        EntityDetail newEntity = instanceEvent.getEntity();
+                        if ((newEntity != null) && (newEntity.getClassifications() != null)
+                                && (!newEntity.getClassifications().isEmpty())) {
+                            recordUpdate(newEntity);
+                        }
+                        break;
+
+                    case CLASSIFIED_ENTITY_EVENT:
+                    case RECLASSIFIED_ENTITY_EVENT:
+                    case DECLASSIFIED_ENTITY_EVENT:
+                    case RESTORED_ENTITY_EVENT:
+                        recordUpdate(instanceEvent.getEntity());
+                        break;
+
+                    case RE_IDENTIFIED_ENTITY_EVENT:
+                        recordRemoval(instanceEvent.getOriginalInstanceGUID(), instanceEvent.getEntity());
+                        recordUpdate(instanceEvent.getEntity());
+                        break;
+
+                    case DELETED_ENTITY_EVENT:
+                        EntityDetail deletedEntity = instanceEvent.getEntity();
+                        if (deletedEntity != null) {
+                            recordRemoval(deletedEntity.getGUID(), deletedEntity);
+                        }
+                        break;
+
+                    case PURGED_ENTITY_EVENT:
+                        if (governedAssetChangeLog != null) {
+                            governedAssetChangeLog.recordRemoval(instanceEvent.getInstanceGUID(),
+                                    null,
+                                    instanceEvent.getTypeDefName());
+                        }
+                        break;
+
                     default:
 
                 }
@@ -134,4 +175,27 @@ public class GovernanceEngineOMRSTopicListener implements OMRSTopicListener {
 
     }
 
+    /**
+     * Record the latest version of an entity whose classifications may have changed.
+     *
+     * @param entity - entity from the event
+     */
+    private void recordUpdate(EntityDetail entity) {
+        if (governedAssetChangeLog != null) {
+            governedAssetChangeLog.recordUpdate(entity);
+        }
+    }
+
+    /**
+     * Record that an entity is no longer available under a guid.
+     *
+     * @param entityGuid - guid of the entity
+     * @param entity     - entity from the event - supplies the type
+     */
+    private void recordRemoval(String entityGuid, EntityDetail entity) {
+        if ((governedAssetChangeLog != null) && (entity != null)) {
+            governedAssetChangeLog.recordRemoval(entityGuid, entity.getType(), null);
+        }
+    }
+
 }
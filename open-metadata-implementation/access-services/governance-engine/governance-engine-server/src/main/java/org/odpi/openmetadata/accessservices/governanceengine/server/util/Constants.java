@@ -7,5 +7,9 @@ public final class Constants {
     public static final String RELATIONAL_COLUMN = "RelationalColumn";
     public static final String RELATIONAL_TABLE = "RelationalTable";
 
+    //Access service options
+    public static final String GOVERNED_ASSET_CHANGE_LOG_SIZE = "governedAssetChangeLogSize";
+    public static final int DEFAULT_GOVERNED_ASSET_CHANGE_LOG_SIZE = 10000;
+
 
 }
@@ -0,0 +1,122 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+package org.odpi.openmetadata.accessservices.governanceengine.server.handlers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.suite.api.SuiteDisplayName;
+import org.odpi.openmetadata.accessservices.governanceengine.api.events.GovernanceEngineEventType;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetChange;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetChangeListAPIResponse;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SuiteDisplayName("Governance Engine Server GovernedAssetChangeLog")
+
+public class GovernedAssetChangeLogTest {
+
+    static final List<String> confidentiality = Collections.singletonList("Confidentiality");
+
+    private EntityDetail getEntity(String guid, String... classificationNames) {
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName("RelationalColumn");
+
+        List<Classification> classifications = new ArrayList<>();
+        for (String classificationName : classificationNames) {
+            Classification classification = new Classification();
+            classification.setName(classificationName);
+            classifications.add(classification);
+        }
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(instanceType);
+        entity.setClassifications(classifications);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("getChangesSince - latest change for each asset in order")
+    void getChangesSince() {
+        GovernedAssetChangeLog changeLog = new GovernedAssetChangeLog(10);
+        long watermark = changeLog.getWatermark();
+
+        changeLog.recordUpdate(getEntity("guid1", "Confidentiality"));
+        changeLog.recordUpdate(getEntity("guid2", "Confidentiality"));
+        changeLog.recordUpdate(getEntity("guid1", "Retention"));
+
+        GovernedAssetChangeListAPIResponse response = new GovernedAssetChangeListAPIResponse();
+        changeLog.getChangesSince(watermark, confidentiality, null, 0, response);
+
+        List<GovernedAssetChange> changes = response.getChangeList();
+        assertFalse(response.isResyncRequired());
+        assertFalse(response.isMoreChanges());
+        assertEquals(2, changes.size());
+        assertEquals("guid2", changes.get(0).getAssetGuid());
+        assertEquals(GovernanceEngineEventType.UPDATED_GOVERNEDASSETCOMP_EVENT, changes.get(0).getChangeType());
+        assertEquals("Confidentiality", changes.get(0).getGovernedAsset().getAssignedGovernanceClassifications().get(0).getName());
+
+        // guid1 no longer has the requested classification
+        assertEquals("guid1", changes.get(1).getAssetGuid());
+        assertEquals(GovernanceEngineEventType.DELETED_GOVERNEDASSETOMP_EVENT, changes.get(1).getChangeType());
+        assertNull(changes.get(1).getGovernedAsset());
+        assertEquals(changeLog.getWatermark(), response.getWatermark());
+
+        // Nothing new since the returned watermark
+        GovernedAssetChangeListAPIResponse nextResponse = new GovernedAssetChangeListAPIResponse();
+        changeLog.getChangesSince(response.getWatermark(), confidentiality, null, 0, nextResponse);
+        assertTrue(nextResponse.getChangeList().isEmpty());
+    }
+
+    @Test
+    @DisplayName("getChangesSince - paging")
+    void getChangesSincePaged() {
+        GovernedAssetChangeLog changeLog = new GovernedAssetChangeLog(10);
+        long watermark = changeLog.getWatermark();
+
+        changeLog.recordUpdate(getEntity("guid1", "Confidentiality"));
+        changeLog.recordUpdate(getEntity("guid2", "Confidentiality"));
+        changeLog.recordRemoval("guid3", null, "RelationalColumn");
+
+        GovernedAssetChangeListAPIResponse response = new GovernedAssetChangeListAPIResponse();
+        changeLog.getChangesSince(watermark, null, null, 2, response);
+        assertEquals(2, response.getChangeList().size());
+        assertTrue(response.isMoreChanges());
+
+        GovernedAssetChangeListAPIResponse nextResponse = new GovernedAssetChangeListAPIResponse();
+        changeLog.getChangesSince(response.getWatermark(), null, null, 2, nextResponse);
+        assertEquals(1, nextResponse.getChangeList().size());
+        assertEquals("guid3", nextResponse.getChangeList().get(0).getAssetGuid());
+        assertFalse(nextResponse.isMoreChanges());
+    }
+
+    @Test
+    @DisplayName("getChangesSince - resync when changes have been dropped")
+    void getChangesSinceResync() {
+        GovernedAssetChangeLog changeLog = new GovernedAssetChangeLog(2);
+        long watermark = changeLog.getWatermark();
+
+        changeLog.recordUpdate(getEntity("guid1", "Confidentiality"));
+        changeLog.recordUpdate(getEntity("guid2", "Confidentiality"));
+        changeLog.recordUpdate(getEntity("guid3", "Confidentiality"));
+
+        GovernedAssetChangeListAPIResponse response = new GovernedAssetChangeListAPIResponse();
+        changeLog.getChangesSince(watermark, null, null, 0, response);
+        assertTrue(response.isResyncRequired());
+        assertNull(response.getChangeList());
+
+        // A watermark from another run of the server is also rejected
+        GovernedAssetChangeListAPIResponse futureResponse = new GovernedAssetChangeListAPIResponse();
+        changeLog.getChangesSince(changeLog.getWatermark() + 1, null, null, 0, futureResponse);
+        assertTrue(futureResponse.isResyncRequired());
+    }
+}
@@ -2,19 +2,209 @@
 
 package org.odpi.openmetadata.accessservices.governanceengine.server.handlers;
 
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.platform.suite.api.SuiteDisplayName;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAsset;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
-@SuiteDisplayName("Governance Engine Server GovernanceEngineValidator")
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@SuiteDisplayName("Governance Engine Server GovernedAssetHandler")
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.WARN)
 
 class GovernedAssetHandlerTest {
 
+    static final String defUserId = "ernie46";
+    static final String defType = "RelationalColumn";
+    static final String defTypeGuid = "RelationalColumnGUID";
+    static final String knownClassification = "Confidentiality";
+    static final String otherClassification = "Retention";
+    static final String unknownClassification = "NotAClassification";
+
+    @Mock
+    private OMRSRepositoryConnector omrsRepositoryConnector;
+    @Mock
+    private OMRSMetadataCollection metadataCollection;
+
+    private GovernedAssetHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        EntityDef typeDef = new EntityDef();
+        typeDef.setGUID(defTypeGuid);
+        typeDef.setName(defType);
+
+        when(omrsRepositoryConnector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(metadataCollection.getTypeDefByName(defUserId, defType)).thenReturn(typeDef);
+
+        handler = new GovernedAssetHandler("GovernanceEngine", omrsRepositoryConnector);
+    }
+
+    private EntityDetail getEntity(String guid, String... classificationNames) {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type = new InstanceType();
+        List<Classification> classifications = new ArrayList<>();
+
+        for (String classificationName : classificationNames) {
+            Classification classification = new Classification();
+            classification.setName(classificationName);
+            classifications.add(classification);
+        }
+
+        type.setTypeDefGUID(defTypeGuid);
+        type.setTypeDefName(defType);
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setClassifications(classifications);
+
+        return entity;
+    }
+
+    @Test
+    @DisplayName("getGovernedAssets - one search for all of the classifications")
+    void getGovernedAssetsCombinedSearch() throws Exception {
+        when(metadataCollection.findEntitiesByClassifications(eq(defUserId), eq(defTypeGuid), anyMap(),
+                eq(MatchCriteria.ANY), isNull(), anyInt(), isNull(), isNull(), isNull(), isNull(), anyInt()))
+                .thenReturn(Arrays.asList(getEntity("guid1", knownClassification),
+                        getEntity("guid2", knownClassification, otherClassification)));
+
+        List<GovernedAsset> assets = handler.getGovernedAssets(defUserId,
+                Arrays.asList(knownClassification, otherClassification),
+                Collections.singletonList(defType));
+
+        assertEquals(2, assets.size());
+        assertEquals("guid1", assets.get(0).getGuid());
+        assertEquals(1, assets.get(0).getAssignedGovernanceClassifications().size());
+        assertEquals("guid2", assets.get(1).getGuid());
+        assertEquals(2, assets.get(1).getAssignedGovernanceClassifications().size());
+    }
+
+    @Test
+    @DisplayName("getGovernedAssets - an unknown classification only loses its own results")
+    void getGovernedAssetsUnknownClassification() throws Exception {
+        ClassificationErrorException unknown = new ClassificationErrorException(400, "OMRSMetadataCollection",
+                "findEntitiesByClassifications", "unknown classification", "none", "none");
+
+        when(metadataCollection.findEntitiesByClassifications(eq(defUserId), eq(defTypeGuid), anyMap(),
+                eq(MatchCriteria.ANY), isNull(), anyInt(), isNull(), isNull(), isNull(), isNull(), anyInt()))
+                .thenThrow(unknown);
+        when(metadataCollection.findEntitiesByClassification(eq(defUserId), eq(defTypeGuid), eq(knownClassification),
+                any(), any(), anyInt(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(Arrays.asList(getEntity("guid1", knownClassification),
+                        getEntity("guid2", knownClassification, otherClassification)));
+        when(metadataCollection.findEntitiesByClassification(eq(defUserId), eq(defTypeGuid), eq(otherClassification),
+                any(), any(), anyInt(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(Collections.singletonList(getEntity("guid2", knownClassification, otherClassification)));
+        when(metadataCollection.findEntitiesByClassification(eq(defUserId), eq(defTypeGuid), eq(unknownClassification),
+                any(), any(), anyInt(), any(), any(), any(), any(), anyInt()))
+                .thenThrow(unknown);
+
+        List<GovernedAsset> assets = handler.getGovernedAssets(defUserId,
+                Arrays.asList(knownClassification, unknownClassification, otherClassification),
+                Collections.singletonList(defType));
+
+        // guid2 is found through both classifications but is only returned once
+        assertEquals(2, assets.size());
+        assertEquals("guid1", assets.get(0).getGuid());
+        assertEquals(1, assets.get(0).getAssignedGovernanceClassifications().size());
+        assertEquals("guid2", assets.get(1).getGuid());
+        assertEquals(2, assets.get(1).getAssignedGovernanceClassifications().size());
+    }
+
+    @Test
+    @DisplayName("getGovernedAssets - no results when none of the classifications are known")
+    void getGovernedAssetsAllUnknown() throws Exception {
+        ClassificationErrorException unknown = new ClassificationErrorException(400, "OMRSMetadataCollection",
+                "findEntitiesByClassifications", "unknown classification", "none", "none");
+
+        when(metadataCollection.findEntitiesByClassifications(eq(defUserId), eq(defTypeGuid), anyMap(),
+                eq(MatchCriteria.ANY), isNull(), anyInt(), isNull(), isNull(), isNull(), isNull(), anyInt()))
+                .thenThrow(unknown);
+        when(metadataCollection.findEntitiesByClassification(eq(defUserId), eq(defTypeGuid), eq(unknownClassification),
+                any(), any(), anyInt(), any(), any(), any(), any(), anyInt()))
+                .thenThrow(unknown);
+
+        List<GovernedAsset> assets = handler.getGovernedAssets(defUserId,
+                Collections.singletonList(unknownClassification),
+                Collections.singletonList(defType));
+
+        assertEquals(0, assets.size());
+    }
+
+    @Test
+    @DisplayName("getGovernedAssets - one search per classification when the repository can not combine them")
+    void getGovernedAssetsCombinedSearchNotSupported() throws Exception {
+        when(metadataCollection.findEntitiesByClassifications(eq(defUserId), eq(defTypeGuid), anyMap(),
+                eq(MatchCriteria.ANY), isNull(), anyInt(), isNull(), isNull(), isNull(), isNull(), anyInt()))
+                .thenThrow(new FunctionNotSupportedException(501, "OMRSMetadataCollection",
+                        "findEntitiesByClassifications", "not supported", "none", "none"));
+        when(metadataCollection.findEntitiesByClassification(eq(defUserId), eq(defTypeGuid), eq(knownClassification),
+                any(), any(), anyInt(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(Collections.singletonList(getEntity("guid1", knownClassification)));
+        when(metadataCollection.findEntitiesByClassification(eq(defUserId), eq(defTypeGuid), eq(otherClassification),
+                any(), any(), anyInt(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(Collections.singletonList(getEntity("guid2", otherClassification)));
+
+        List<GovernedAsset> assets = handler.getGovernedAssets(defUserId,
+                Arrays.asList(knownClassification, otherClassification),
+                Collections.singletonList(defType));
+
+        assertEquals(2, assets.size());
+        assertEquals("guid1", assets.get(0).getGuid());
+        assertEquals("guid2", assets.get(1).getGuid());
+    }
+
+    @Test
+    @DisplayName("getGovernedAssets - a failed search for one classification only loses its own results")
+    void getGovernedAssetsClassificationSearchFails() throws Exception {
+        when(metadataCollection.findEntitiesByClassifications(eq(defUserId), eq(defTypeGuid), anyMap(),
+                eq(MatchCriteria.ANY), isNull(), anyInt(), isNull(), isNull(), isNull(), isNull(), anyInt()))
+                .thenThrow(new ClassificationErrorException(400, "OMRSMetadataCollection",
+                        "findEntitiesByClassifications", "unknown classification", "none", "none"));
+        when(metadataCollection.findEntitiesByClassification(eq(defUserId), eq(defTypeGuid), eq(knownClassification),
+                any(), any(), anyInt(), any(), any(), any(), any(), anyInt()))
+                .thenThrow(new RepositoryErrorException(500, "OMRSMetadataCollection",
+                        "findEntitiesByClassification", "repository error", "none", "none"));
+        when(metadataCollection.findEntitiesByClassification(eq(defUserId), eq(defTypeGuid), eq(otherClassification),
+                any(), any(), anyInt(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(Collections.singletonList(getEntity("guid2", otherClassification)));
+
+        List<GovernedAsset> assets = handler.getGovernedAssets(defUserId,
+                Arrays.asList(knownClassification, otherClassification),
+                Collections.singletonList(defType));
+
+        assertEquals(1, assets.size());
+        assertEquals("guid2", assets.get(0).getGuid());
+    }
+
     @Test
     void getGovernedAssetComponents() {
     }
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.accessservices.governanceengine.server.spring;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernanceClassificationDefAPIResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernanceClassificationDefListAPIResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetAPIResponse;
+import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetChangeListAPIResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.api.objects.GovernedAssetListAPIResponse;
 import org.odpi.openmetadata.accessservices.governanceengine.server.GovernanceEngineRESTServices;
 import org.slf4j.Logger;
@@ -94,6 +95,8 @@ public class GovernanceEngineOMASResource {
      * @param userId             - String - userId of user making request.
      * @param classification - this may be the qualifiedName or displayName of the connection.
      * @param type
+     * @param startFrom - index of the first asset to return
+     * @param pageSize - maximum number of assets to return - 0 means no limit
      * @return GovernedAssetComponentList or
      * InvalidParameterException - one of the parameters is null or invalid.
      * UnrecognizedConnectionNameException - there is no connection defined for this name.
@@ -104,8 +107,34 @@ public class GovernanceEngineOMASResource {
     @RequestMapping(method = RequestMethod.GET, path = "/assets")
     GovernedAssetListAPIResponse getGovernedAssets(@PathVariable String userId,
                                                             @RequestParam(value = "classification", required = false) List<String> classification,
-                                                            @RequestParam(value = "type", required = false) List<String> type) {
-        return restAPI.getGovernedAssets(userId, classification, type);
+                                                            @RequestParam(value = "type", required = false) List<String> type,
+                                                            @RequestParam(value = "startFrom", required = false, defaultValue = "0") int startFrom,
+                                                            @RequestParam(value = "pageSize", required = false, defaultValue = "0") int pageSize) {
+        return restAPI.getGovernedAssets(userId, classification, type, startFrom, pageSize);
+    }
+
+    /**
+     * Returns the changes to the governed assets since a watermark
+     * <p>
+     * The first watermark is returned with the list of governed assets, and each set of changes returns the
+     * watermark for the next request
+     *
+     * @param userId             - String - userId of user making request.
+     * @param classification - names of the classifications of interest.
+     * @param type - types of interest
+     * @param watermark - watermark from the previous request
+     * @param pageSize - maximum number of changes to return - 0 means no limit
+     * @return GovernedAssetChangeList or
+     * InvalidParameterException - one of the parameters is null or invalid.
+     * PropertyServerException - there is a problem retrieving information from the property (metadata) handlers.
+     */
+    @RequestMapping(method = RequestMethod.GET, path = "/assets/changes")
+    GovernedAssetChangeListAPIResponse getGovernedAssetChanges(@PathVariable String userId,
+                                                               @RequestParam(value = "classification", required = false) List<String> classification,
+                                                               @RequestParam(value = "type", required = false) List<String> type,
+                                                               @RequestParam(value = "watermark") long watermark,
+                                                               @RequestParam(value = "pageSize", required = false, defaultValue = "0") int pageSize) {
+        return restAPI.getGovernedAssetChanges(userId, classification, type, watermark, pageSize);
     }
 
     /**
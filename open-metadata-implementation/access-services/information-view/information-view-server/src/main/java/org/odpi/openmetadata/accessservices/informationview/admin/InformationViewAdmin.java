@@ -18,6 +18,9 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
@@ -26,6 +29,8 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSConfigErrorEx
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+
 
 public class InformationViewAdmin implements AccessServiceAdmin {
 
@@ -90,7 +95,13 @@ public class InformationViewAdmin implements AccessServiceAdmin {
             columnContextEventBuilder = new ColumnContextEventBuilder(this.enterpriseConnector);
             eventPublisher = new EventPublisher(informationViewOutTopicConnector, columnContextEventBuilder, auditLog);
             informationViewEnterpriseOmrsEventListener = new InformationViewEnterpriseOmrsEventListener(eventPublisher, auditLog);
-            this.enterpriseOMRSTopicConnector.registerListener(informationViewEnterpriseOmrsEventListener);
+            /*
+             * The listener only processes new relationship events.
+             */
+            OMRSTopicListenerFilter omrsTopicListenerFilter = new OMRSTopicListenerFilter(Collections.singletonList(OMRSEventCategory.INSTANCE));
+            omrsTopicListenerFilter.setInstanceEventTypes(Collections.singletonList(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT));
+
+            this.enterpriseOMRSTopicConnector.registerListener(informationViewEnterpriseOmrsEventListener, omrsTopicListenerFilter);
         }
 
 
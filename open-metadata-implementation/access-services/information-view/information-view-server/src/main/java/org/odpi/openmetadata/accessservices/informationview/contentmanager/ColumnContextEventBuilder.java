@@ -12,6 +12,7 @@ import org.odpi.openmetadata.accessservices.informationview.utils.Constants;
 import org.odpi.openmetadata.accessservices.informationview.utils.EntityPropertiesUtils;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
@@ -30,7 +31,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -62,10 +68,9 @@ public class ColumnContextEventBuilder {
      */
     public List<ColumnContextEvent> buildEvents(String guidColumn) throws Exception {
         List<ColumnContextEvent> allEvents = new ArrayList<>();
-        String relationshipTypeGuid = enterpriseConnector.getMetadataCollection().getTypeDefByName(Constants.USER_ID, Constants.ATTRIBUTE_FOR_SCHEMA).getGUID();
 
-        for (Relationship relationship : enterpriseConnector.getMetadataCollection().getRelationshipsForEntity(Constants.USER_ID, guidColumn, relationshipTypeGuid, 0, null, null, null, null, 0)) {
-            allEvents.addAll(getTableTypeDetails(guidColumn, relationship));
+        for (EntityDetail tableTypeDetail : getRelatedEntities(guidColumn, Constants.ATTRIBUTE_FOR_SCHEMA)) {
+            allEvents.addAll(getTableTypeDetails(guidColumn, tableTypeDetail));
         }
 
         log.info("Context events: {}", allEvents);
@@ -75,25 +80,23 @@ public class ColumnContextEventBuilder {
     /**
      * Returns the list of column contexts populated with table type details
      *
-     * @param guidColumn               of the column entity
-     * @param relationshipToParentType is the link to the table type entity
+     * @param guidColumn      of the column entity
+     * @param tableTypeDetail is the table type entity linked to the column
      * @return the list of contexts with table type details populated
      * @throws InvalidParameterException
      * @throws RepositoryErrorException
      * @throws EntityNotKnownException
      * @throws UserNotAuthorizedException
      */
-    private List<ColumnContextEvent> getTableTypeDetails(String guidColumn, Relationship relationshipToParentType) throws Exception {
+    private List<ColumnContextEvent> getTableTypeDetails(String guidColumn, EntityDetail tableTypeDetail) throws Exception {
         log.debug("Load table type details for entity with guid {}", guidColumn);
-        String tableTypeGuid = getOtherEntityGuid(guidColumn, relationshipToParentType);
-        EntityDetail tableTypeDetail = enterpriseConnector.getMetadataCollection().getEntityDetail(Constants.USER_ID, tableTypeGuid);
+        String tableTypeGuid = tableTypeDetail.getGUID();
         List<ColumnDetails> allColumns = getAllColumnsOfTable(tableTypeGuid);
 
-        String relationshipTypeGuid = enterpriseConnector.getMetadataCollection().getTypeDefByName(Constants.USER_ID, Constants.SCHEMA_ATTRIBUTE_TYPE).getGUID();
         List<ColumnContextEvent> allEvents = new ArrayList<>();
 
-        for (Relationship parentTableRelationship : enterpriseConnector.getMetadataCollection().getRelationshipsForEntity(Constants.USER_ID, tableTypeDetail.getGUID(), relationshipTypeGuid, 0, null, null, null, null, 0)) {
-            allEvents.addAll(getRelationalTableDetails(tableTypeGuid, parentTableRelationship, allColumns));
+        for (EntityDetail tableEntity : getRelatedEntities(tableTypeGuid, Constants.SCHEMA_ATTRIBUTE_TYPE)) {
+            allEvents.addAll(getRelationalTableDetails(tableTypeGuid, tableEntity, allColumns));
         }
         String tableTypeQualifiedName = EntityPropertiesUtils.getStringValueForProperty(tableTypeDetail.getProperties(), Constants.QUALIFIED_NAME);
         allEvents = allEvents.stream().peek(e -> e.getTableContext().setTableTypeQualifiedName(tableTypeQualifiedName)).collect(Collectors.toList());
@@ -104,20 +107,19 @@ public class ColumnContextEventBuilder {
     /**
      * Returns the list of column contexts populated with table details
      *
-     * @param guid         of the table type entity
-     * @param relationship to the table entity
-     * @param allColumns   linked to table type entity
+     * @param guid        of the table type entity
+     * @param tableEntity linked to the table type entity
+     * @param allColumns  linked to table type entity
      * @return the list of contexts with table details populated
      * @throws UserNotAuthorizedException
      * @throws RepositoryErrorException
      * @throws InvalidParameterException
      * @throws EntityNotKnownException
      */
-    private List<ColumnContextEvent> getRelationalTableDetails(String guid, Relationship relationship, List<ColumnDetails> allColumns) throws Exception {
+    private List<ColumnContextEvent> getRelationalTableDetails(String guid, EntityDetail tableEntity, List<ColumnDetails> allColumns) throws Exception {
         log.debug("Load table details for entity with guid {}", guid);
         List<ColumnContextEvent> allEvents = new ArrayList<>();
-        String tableGuid = getOtherEntityGuid(guid, relationship);
-        EntityDetail tableEntity = enterpriseConnector.getMetadataCollection().getEntityDetail(Constants.USER_ID, tableGuid);
+        String tableGuid = tableEntity.getGUID();
         String relationshipTypeGuid = enterpriseConnector.getMetadataCollection().getTypeDefByName(Constants.USER_ID, Constants.ATTRIBUTE_FOR_SCHEMA).getGUID();
         String tableName = EntityPropertiesUtils.getStringValueForProperty(tableEntity.getProperties(), Constants.ATTRIBUTE_NAME);
         String tableQualifiedName = EntityPropertiesUtils.getStringValueForProperty(tableEntity.getProperties(), Constants.QUALIFIED_NAME);
@@ -148,8 +150,24 @@ public class ColumnContextEventBuilder {
         String relationshipTypeGuid = enterpriseConnector.getMetadataCollection().getTypeDefByName(Constants.USER_ID, Constants.ATTRIBUTE_FOR_SCHEMA).getGUID();
 
         List<ColumnDetails> allColumns = new ArrayList<>();
-        for (Relationship relationship : enterpriseConnector.getMetadataCollection().getRelationshipsForEntity(Constants.USER_ID, tableTypeGuid, relationshipTypeGuid, 0, null, null, null, null, 0)) {
-            EntityDetail columnEntity = enterpriseConnector.getMetadataCollection().getEntityDetail(Constants.USER_ID, getOtherEntityGuid(tableTypeGuid, relationship));
+        List<Relationship> columnRelationships = enterpriseConnector.getMetadataCollection().getRelationshipsForEntity(Constants.USER_ID, tableTypeGuid, relationshipTypeGuid, 0, null, null, null, null, 0);
+        if (columnRelationships == null || columnRelationships.isEmpty()) {
+            return allColumns;
+        }
+
+        List<String> columnGuids = columnRelationships.stream().map(relationship -> getOtherEntityGuid(tableTypeGuid, relationship)).collect(Collectors.toList());
+        List<EntityDetail> columnEntities = enterpriseConnector.getMetadataCollection().getEntityDetails(Constants.USER_ID, columnGuids);
+        if (columnEntities == null) {
+            columnEntities = Collections.emptyList();
+        }
+
+        Set<String> missingColumnGuids = new LinkedHashSet<>(columnGuids);
+        columnEntities.forEach(columnEntity -> missingColumnGuids.remove(columnEntity.getGUID()));
+        if (!missingColumnGuids.isEmpty()) {
+            log.warn("Columns with guids {} linked to table type with guid {} could not be retrieved", missingColumnGuids, tableTypeGuid);
+        }
+
+        for (EntityDetail columnEntity : columnEntities) {
             ColumnDetails columnDetails = new ColumnDetails();
             columnDetails.setAttributeName(EntityPropertiesUtils.getStringValueForProperty(columnEntity.getProperties(), Constants.ATTRIBUTE_NAME));
             columnDetails.setPosition(EntityPropertiesUtils.getIntegerValueForProperty(columnEntity.getProperties(), Constants.ELEMENT_POSITION_NAME));
@@ -440,6 +458,40 @@ public class ColumnContextEventBuilder {
         return columnContextEvent;
     }
 
+    /**
+     * Returns the entities linked to an entity by relationships of a type. The relationships and the entities at
+     * their other end are retrieved in one call rather than one call for each relationship.
+     *
+     * @param guid                 of the current entity
+     * @param relationshipTypeName name of the type of relationships to follow
+     * @return the entities at the other end of the relationships, in the order of the relationships
+     */
+    private List<EntityDetail> getRelatedEntities(String guid, String relationshipTypeName) throws Exception {
+        String relationshipTypeGuid = enterpriseConnector.getMetadataCollection().getTypeDefByName(Constants.USER_ID, relationshipTypeName).getGUID();
+        InstanceGraph instanceGraph = enterpriseConnector.getMetadataCollection().getRelationshipsAndRelatedEntities(Constants.USER_ID, Collections.singletonList(guid), relationshipTypeGuid, null, null, 0);
+
+        List<EntityDetail> relatedEntities = new ArrayList<>();
+        if (instanceGraph == null || instanceGraph.getRelationships() == null) {
+            return relatedEntities;
+        }
+
+        Map<String, EntityDetail> entitiesByGuid = new HashMap<>();
+        if (instanceGraph.getEntities() != null) {
+            instanceGraph.getEntities().forEach(e -> entitiesByGuid.put(e.getGUID(), e));
+        }
+
+        for (Relationship relationship : instanceGraph.getRelationships()) {
+            String otherEntityGuid = getOtherEntityGuid(guid, relationship);
+            EntityDetail relatedEntity = entitiesByGuid.get(otherEntityGuid);
+            if (relatedEntity == null) {
+                log.warn("Entity with guid {} linked to entity with guid {} by {} relationship could not be retrieved", otherEntityGuid, guid, relationshipTypeName);
+            } else {
+                relatedEntities.add(relatedEntity);
+            }
+        }
+        return relatedEntities;
+    }
+
     /**
      * Returns the other end of the relationship than the one provided
      *
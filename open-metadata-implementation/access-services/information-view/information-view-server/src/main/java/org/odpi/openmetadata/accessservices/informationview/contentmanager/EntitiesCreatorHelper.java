@@ -94,6 +94,55 @@ public class EntitiesCreatorHelper {
         }
     }
 
+    /**
+     * Returns the entity with the qualified name from the specified properties, creating it if it doesn't already exist.
+     * The repository looks up the qualified name and creates the entity in one call.  The call fails if the qualified
+     * name is already used by an entity that is not of the given type or one of its subtypes.
+     *
+     * @param sourceName
+     * @param metadataCollectionId unique identifier for the metadata collection used for adding entities
+     * @param userName             name of the user performing the add operation
+     * @param typeName             of the entity type def
+     * @param instanceProperties   specific to the entity, including the qualified name
+     * @return the existing entity or the new entity added to the metadata collection
+     * @throws Exception
+     */
+    private EntityDetail findOrAddEntity(String metadataCollectionId,
+                                         String userName,
+                                         String typeName,
+                                         InstanceProperties instanceProperties,
+                                         List<Classification> classifications,
+                                         String sourceName) throws Exception {
+        EntityDetail entity;
+        try {
+            entity = enterpriseConnector.getRepositoryHelper()
+                    .getSkeletonEntity(sourceName,
+                            metadataCollectionId,
+                            InstanceProvenanceType.LOCAL_COHORT,
+                            userName,
+                            typeName);
+            entity.setClassifications(classifications);
+            return enterpriseConnector.getMetadataCollection()
+                    .findOrAddEntity(userName,
+                            entity.getType().getTypeDefGUID(),
+                            instanceProperties,
+                            entity.getClassifications(),
+                            entity.getStatus());
+        } catch (Exception e) {
+
+            InformationViewErrorCode auditCode = InformationViewErrorCode.ADD_ENTITY_EXCEPTION;
+            auditLog.logException("findOrAddEntity",
+                    auditCode.getErrorMessageId(),
+                    OMRSAuditLogRecordSeverity.EXCEPTION,
+                    auditCode.getFormattedErrorMessage(typeName),
+                    "entity of type{" + typeName + "}",
+                    auditCode.getSystemAction(),
+                    auditCode.getUserAction(),
+                    e);
+            throw new Exception(e);
+        }
+    }
+
     /**
      * Returns the newly created relationship between 2 entities with the specified properties
      *
@@ -297,6 +346,13 @@ public class EntitiesCreatorHelper {
                                   List<Classification> classifications) throws Exception {
         EntityDetail entityDetail;
 
+        if (properties != null && qualifiedName != null && qualifiedName.equals(EntityPropertiesUtils.getStringValueForProperty(properties, Constants.QUALIFIED_NAME))) {
+            entityDetail = findOrAddEntity("", Constants.USER_ID, typeName, properties, classifications, Constants.INFORMATION_VIEW_OMAS_NAME);
+            log.info("Entity with qualified name {} found or added", qualifiedName);
+            log.info("Entity: {}", entityDetail);
+            return entityDetail;
+        }
+
         entityDetail = getEntity(typeName, qualifiedName);
         if (entityDetail == null) {
             entityDetail = addEntity("", Constants.USER_ID, typeName, properties, classifications, Constants.INFORMATION_VIEW_OMAS_NAME);
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.accessservices.informationview.events.ColumnContext
 import org.odpi.openmetadata.accessservices.informationview.utils.Constants;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
@@ -73,6 +74,7 @@ public class ColumnContextBuilderTest {
         when(omrsMetadataCollection.getEntityDetail(eq(Constants.USER_ID), eq(endpointEntityDetail.getGUID()))).thenReturn(endpointEntityDetail);
         when(omrsMetadataCollection.getEntityDetail(eq(Constants.USER_ID), eq(connectionEntity.getGUID()))).thenReturn(connectionEntity);
         when(omrsMetadataCollection.getEntityDetail(eq(Constants.USER_ID), eq(connectorTypeEntity.getGUID()))).thenReturn(connectorTypeEntity);
+        when(omrsMetadataCollection.getEntityDetails(eq(Constants.USER_ID), eq(Collections.singletonList(columnEntityDetail.getGUID())))).thenReturn(Collections.singletonList(columnEntityDetail));
         when(omrsMetadataCollection.getRelationshipsForEntity(eq(Constants.USER_ID), eq(columnEntityTypeEntity.getGUID()), any(String.class), eq(0), eq(null), eq(null), eq(null), eq(null), eq(0))).thenReturn(new ArrayList<>());
         when(omrsMetadataCollection.getRelationshipsForEntity(eq(Constants.USER_ID), eq(columnEntityDetail.getGUID()), eq(ATTRIBUTE_FOR_SCHEMA_REL_TYPE_GUID), eq(0), eq(null), eq(null), eq(null), eq(null), eq(0))).thenReturn(Collections.singletonList(helper.createRelationshipToParentSchemaType(columnEntityDetail.getGUID(), tableTypeEntityDetail.getGUID())));
         when(omrsMetadataCollection.getRelationshipsForEntity(eq(Constants.USER_ID), eq(columnEntityDetail.getGUID()), eq(SCHEMA_ATTRIBUTE_TYPE_REL_TYPE_GUID), eq(0), eq(null), eq(null), eq(null), eq(null), eq(0))).thenReturn(Collections.singletonList(helper.createRelationshipToSchemaType(columnEntityDetail.getGUID(), columnEntityTypeEntity.getGUID())));
@@ -87,6 +89,8 @@ public class ColumnContextBuilderTest {
         when(omrsMetadataCollection.getRelationshipsForEntity(eq(Constants.USER_ID), eq(connectionEntity.getGUID()), eq(CONNECTION_ASSET_REL_TYPE_GUID), eq(0), eq(null), eq(null), eq(null), eq(null), eq(0))).thenReturn(Collections.singletonList(helper.createRelationship(Constants.CONNECTION_TO_ASSET, GUID_CONNECTION, GUID_DEPLOYED_DATABASE_SCHEMA)));
         when(omrsMetadataCollection.getRelationshipsForEntity(eq(Constants.USER_ID), eq(connectionEntity.getGUID()), eq(CONNECTION_ENDPOINT_REL_TYPE_GUID), eq(0), eq(null), eq(null), eq(null), eq(null), eq(0))).thenReturn(Collections.singletonList(helper.createRelationship(Constants.CONNECTION_TO_ENDPOINT, GUID_CONNECTION, GUID_ENDPOINT)));
         when(omrsMetadataCollection.getRelationshipsForEntity(eq(Constants.USER_ID), eq(connectionEntity.getGUID()), eq(CONNECTION_CONNECTOR_REL_TYPE_GUID), eq(0), eq(null), eq(null), eq(null), eq(null), eq(0))).thenReturn(Collections.singletonList(helper.createRelationship(Constants.CONNECTION_CONNECTOR_TYPE, GUID_CONNECTION, GUID_CONNECTOR_TYPE)));
+        when(omrsMetadataCollection.getRelationshipsAndRelatedEntities(eq(Constants.USER_ID), eq(Collections.singletonList(columnEntityDetail.getGUID())), eq(ATTRIBUTE_FOR_SCHEMA_REL_TYPE_GUID), eq(null), eq(null), eq(0))).thenReturn(new InstanceGraph(Collections.singletonList(tableTypeEntityDetail), Collections.singletonList(helper.createRelationshipToParentSchemaType(columnEntityDetail.getGUID(), tableTypeEntityDetail.getGUID()))));
+        when(omrsMetadataCollection.getRelationshipsAndRelatedEntities(eq(Constants.USER_ID), eq(Collections.singletonList(tableTypeEntityDetail.getGUID())), eq(SCHEMA_ATTRIBUTE_TYPE_REL_TYPE_GUID), eq(null), eq(null), eq(0))).thenReturn(new InstanceGraph(Collections.singletonList(tableEntityDetail), Collections.singletonList(helper.createRelationship(Constants.SCHEMA_ATTRIBUTE_TYPE, GUID_TABLE_TYPE, GUID_TABLE))));
         when(omrsMetadataCollection.getRelationshipsForEntity(eq(Constants.USER_ID), eq(connectorTypeEntity.getGUID()), eq(CONNECTION_CONNECTOR_REL_TYPE_GUID), eq(0), eq(null), eq(null), eq(null), eq(null), eq(0))).thenReturn(Collections.singletonList(helper.createRelationship(Constants.CONNECTION_CONNECTOR_TYPE, GUID_CONNECTION, GUID_CONNECTOR_TYPE)));
     }
 
@@ -32,7 +32,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.StatusNotSupportedException;
@@ -175,7 +177,7 @@ public class InformationViewOmasListenerTest {
                 .thenReturn(skeletonClassification);
     }
 
-    private void captureRepositoryCalls() throws InvalidParameterException, RepositoryErrorException, TypeErrorException, PropertyErrorException, ClassificationErrorException, StatusNotSupportedException, UserNotAuthorizedException, EntityNotKnownException {
+    private void captureRepositoryCalls() throws InvalidParameterException, RepositoryErrorException, TypeErrorException, PropertyErrorException, ClassificationErrorException, StatusNotSupportedException, PagingErrorException, FunctionNotSupportedException, UserNotAuthorizedException, EntityNotKnownException {
 
         softwareServerInstanceProperties = ArgumentCaptor.forClass(InstanceProperties.class);
         endpointInstanceProperties = ArgumentCaptor.forClass(InstanceProperties.class);
@@ -230,7 +232,7 @@ public class InformationViewOmasListenerTest {
                 typeName)).thenReturn(skeletonRelationship);
     }
 
-    private void mockAddEntityCall(String typeGuid, String typeName, ArgumentCaptor<InstanceProperties> propertiesArgumentCaptor, EntityDetail entityDetail) throws TypeErrorException, InvalidParameterException, RepositoryErrorException, PropertyErrorException, ClassificationErrorException, StatusNotSupportedException, UserNotAuthorizedException {
+    private void mockAddEntityCall(String typeGuid, String typeName, ArgumentCaptor<InstanceProperties> propertiesArgumentCaptor, EntityDetail entityDetail) throws TypeErrorException, InvalidParameterException, RepositoryErrorException, PropertyErrorException, ClassificationErrorException, StatusNotSupportedException, PagingErrorException, FunctionNotSupportedException, UserNotAuthorizedException {
         EntityDetail skeletonEntity = mock(EntityDetail.class);
         InstanceType mockType = mock(InstanceType.class);
         when(mockType.getTypeDefGUID()).thenReturn(typeGuid);
@@ -243,6 +245,7 @@ public class InformationViewOmasListenerTest {
                 Constants.USER_ID,
                 typeName)).thenReturn(skeletonEntity);
         when(omrsMetadataCollection.addEntity(any(String.class), eq(typeGuid), propertiesArgumentCaptor.capture(), any(ArrayList.class), any(InstanceStatus.class))).thenReturn(entityDetail);
+        when(omrsMetadataCollection.findOrAddEntity(any(String.class), eq(typeGuid), propertiesArgumentCaptor.capture(), any(ArrayList.class), any(InstanceStatus.class))).thenReturn(entityDetail);
     }
 
     private void buildEntities() throws Exception {
@@ -380,7 +383,7 @@ public class InformationViewOmasListenerTest {
 
 
     @Test
-    public void testListener() throws StatusNotSupportedException, UserNotAuthorizedException, EntityNotKnownException, InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, JsonProcessingException, ClassificationErrorException {
+    public void testListener() throws StatusNotSupportedException, UserNotAuthorizedException, EntityNotKnownException, InvalidParameterException, RepositoryErrorException, PropertyErrorException, TypeErrorException, JsonProcessingException, ClassificationErrorException, PagingErrorException, FunctionNotSupportedException {
 
         TypeLimitedFindRequest type = (new TypeLimitedFindRequest());
         type.setTypeGUID("dbc20663-d705-4ff0-8424-80c262c6b8e7");
@@ -388,7 +391,7 @@ public class InformationViewOmasListenerTest {
         InformationViewEvent informationViewEvent = testDataHelper.buildEvent();
         listener.processEvent(new ObjectMapper().writeValueAsString(informationViewEvent));
 
-        verify(omrsMetadataCollection, Mockito.times(1)).addEntity(eq(Constants.USER_ID), eq(INFORMATION_VIEW_TYPE_GUID), informationViewInstanceProperties.capture(), any(ArrayList.class), eq(InstanceStatus.ACTIVE));
+        verify(omrsMetadataCollection, Mockito.times(1)).findOrAddEntity(eq(Constants.USER_ID), eq(INFORMATION_VIEW_TYPE_GUID), informationViewInstanceProperties.capture(), any(ArrayList.class), eq(InstanceStatus.ACTIVE));
 
         assertEquals(EntityPropertiesUtils.getStringValueForProperty(informationViewInstanceProperties.getValue(), Constants.QUALIFIED_NAME), INFORMATION_VIEW_QUALIFIED_NAME);
         assertEquals(EntityPropertiesUtils.getStringValueForProperty(dbSchemaTypeInstanceProperties.getValue(), Constants.QUALIFIED_NAME), DB_SCHEMA_TYPE_QUALIFIED_NAME);
@@ -12,11 +12,15 @@ import org.odpi.openmetadata.adminservices.configuration.registration.AccessServ
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+
 /**
  * SubjectAreaAdmin is the Subject Area access service implementation class that controls its lifecycle.
  * It is initalised here receiving the access service configuration. It is shutdown here.
@@ -97,7 +101,12 @@ public class SubjectAreaAdmin implements AccessServiceAdmin
                     this.repositoryConnector.getRepositoryHelper(),
                     this.repositoryConnector.getRepositoryValidator(),
                     this.accessServiceConfig.getAccessServiceName());
-            this.omrsTopicConnector.registerListener(this.omrsTopicListener);
+            /*
+             * The listener only processes instance events.
+             */
+            OMRSTopicListenerFilter omrsTopicListenerFilter = new OMRSTopicListenerFilter(Collections.singletonList(OMRSEventCategory.INSTANCE));
+
+            this.omrsTopicConnector.registerListener(this.omrsTopicListener, omrsTopicListenerFilter);
         }
 
         this.auditLog = auditLog;
@@ -0,0 +1,142 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.structuredfile;
+
+import java.io.Serializable;
+
+
+/**
+ * StructuredFileColumnType describes how the value of a column is decoded when the file is scanned with
+ * scanRecords().  Values are trimmed before they are decoded and an empty value is returned as null.
+ */
+public enum StructuredFileColumnType implements Serializable
+{
+    STRING  (0, "String",  "Column value is returned as a String without trimming."),
+    BOOLEAN (1, "Boolean", "Column value is decoded to a Boolean.  The value must be true or false (in any case)."),
+    INT     (2, "Integer", "Column value is decoded to an Integer."),
+    LONG    (3, "Long",    "Column value is decoded to a Long."),
+    FLOAT   (4, "Float",   "Column value is decoded to a Float."),
+    DOUBLE  (5, "Double",  "Column value is decoded to a Double.");
+
+    private static final long     serialVersionUID = 1L;
+
+    private int            columnTypeCode;
+    private String         columnTypeName;
+    private String         columnTypeDescription;
+
+
+    /**
+     * Typical Constructor
+     *
+     * @param columnTypeCode ordinal for the type
+     * @param columnTypeName name of the type
+     * @param columnTypeDescription description of the type
+     */
+    StructuredFileColumnType(int  columnTypeCode, String  columnTypeName, String  columnTypeDescription)
+    {
+        this.columnTypeCode = columnTypeCode;
+        this.columnTypeName = columnTypeName;
+        this.columnTypeDescription = columnTypeDescription;
+    }
+
+
+    /**
+     * Return the code for this enum instance
+     *
+     * @return int type code
+     */
+    public int getOrdinal()
+    {
+        return columnTypeCode;
+    }
+
+
+    /**
+     * Return the default name for this enum instance.
+     *
+     * @return String default name
+     */
+    public String getName()
+    {
+        return columnTypeName;
+    }
+
+
+    /**
+     * Return the default description for this enum instance.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return columnTypeDescription;
+    }
+
+
+    /**
+     * Decode a column value.
+     *
+     * @param columnValue value from the file (may be null if the record is short)
+     * @return decoded value or null
+     * @throws NumberFormatException the value is not valid for this type
+     */
+    Object decode(String  columnValue) throws NumberFormatException
+    {
+        if ((this == STRING) || (columnValue == null))
+        {
+            return columnValue;
+        }
+
+        String trimmedValue = columnValue.trim();
+
+        if (trimmedValue.isEmpty())
+        {
+            return null;
+        }
+
+        switch (this)
+        {
+            case BOOLEAN:
+                if ("true".equalsIgnoreCase(trimmedValue))
+                {
+                    return Boolean.TRUE;
+                }
+                else if ("false".equalsIgnoreCase(trimmedValue))
+                {
+                    return Boolean.FALSE;
+                }
+                throw new NumberFormatException(trimmedValue);
+
+            case INT:
+                return Integer.parseInt(trimmedValue);
+
+            case LONG:
+                return Long.parseLong(trimmedValue);
+
+            case FLOAT:
+                return Float.parseFloat(trimmedValue);
+
+            case DOUBLE:
+                return Double.parseDouble(trimmedValue);
+        }
+
+        return columnValue;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "StructuredFileColumnType{" +
+                "columnTypeCode=" + columnTypeCode +
+                ", columnTypeName='" + columnTypeName + '\'' +
+                ", columnTypeDescription='" + columnTypeDescription + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,523 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.structuredfile;
+
+import org.odpi.openmetadata.adapters.connectors.structuredfile.ffdc.StructuredFileConnectorErrorCode;
+import org.odpi.openmetadata.adapters.connectors.structuredfile.ffdc.exception.FileReadException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+
+/**
+ * StructuredFileParallelScanner reads a structured file using multiple threads.  The file is divided into chunks
+ * of bytes that are parsed concurrently on a fork-join pool.  A row belongs to the chunk that contains its first
+ * byte so each chunk starts parsing at the first row boundary at or after its start and finishes with the row
+ * that overlaps its end.  This means no row is split or read twice, and no pre-scan of the file is needed.
+ * <p>
+ * Only the requested columns are extracted from each row and they are decoded to the requested types as
+ * they are parsed.  Rows that are empty or only contain whitespace are skipped.
+ * </p>
+ * <p>
+ * Row boundaries are found by looking for "\n" and "\r" bytes so the character set of the file must encode
+ * these characters as single bytes that do not occur inside other characters (for example UTF-8 or ISO-8859-1).
+ * </p>
+ */
+class StructuredFileParallelScanner
+{
+    static final int  minimumChunkSize = 1024 * 1024;
+    static final int  maximumChunkSize = 32 * 1024 * 1024;
+
+    private static final int  readBufferSize      = 64 * 1024;
+    private static final int  chunksPerThread     = 4;
+    private static final int  readAheadPerThread  = 2;
+
+    private String                     fileStoreName;
+    private File                       dataFile;
+    private Charset                    charset;
+    private StructuredFileRecordParser parser;
+    private boolean                    skipFirstRow;
+    private List<String>               columnNames;
+    private int[]                      columnPositions;
+    private StructuredFileColumnType[] columnTypes;
+    private boolean[]                  columnWanted;
+    private ForkJoinPool               pool;
+    private long                       chunkSize;
+
+
+    /**
+     * Constructor is called by the StructuredFileStoreConnector.
+     *
+     * @param fileStoreName name of the file for error messages
+     * @param dataFile structured file
+     * @param charset character set of the file
+     * @param parser parser for the records
+     * @param skipFirstRow is the first row of the file the column names?
+     * @param columnNames names of all of the columns in the file (for error messages)
+     * @param columnPositions position of each requested column
+     * @param columnTypes type of each requested column
+     * @param pool threads to parse the file with
+     * @param chunkSize number of bytes parsed by each task, or 0 to calculate a size from the file length and the
+     *                  parallelism of the pool
+     */
+    StructuredFileParallelScanner(String                     fileStoreName,
+                                  File                       dataFile,
+                                  Charset                    charset,
+                                  StructuredFileRecordParser parser,
+                                  boolean                    skipFirstRow,
+                                  List<String>               columnNames,
+                                  int[]                      columnPositions,
+                                  StructuredFileColumnType[] columnTypes,
+                                  ForkJoinPool               pool,
+                                  long                       chunkSize)
+    {
+        this.fileStoreName = fileStoreName;
+        this.dataFile = dataFile;
+        this.charset = charset;
+        this.parser = parser;
+        this.skipFirstRow = skipFirstRow;
+        this.columnNames = columnNames;
+        this.columnPositions = columnPositions;
+        this.columnTypes = columnTypes;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+
+        int highestPosition = -1;
+
+        for (int columnPosition : columnPositions)
+        {
+            highestPosition = Math.max(highestPosition, columnPosition);
+        }
+
+        this.columnWanted = new boolean[highestPosition + 1];
+
+        for (int columnPosition : columnPositions)
+        {
+            columnWanted[columnPosition] = true;
+        }
+    }
+
+
+    /**
+     * Parse the file and pass each record to the processor.
+     *
+     * @param ordered should the records be passed to the processor in file order?
+     * @param processor destination for the records
+     * @return number of records processed
+     * @throws FileReadException unable to read the file, decode a value or the processor failed
+     */
+    long scan(boolean                       ordered,
+              StructuredFileRecordProcessor processor) throws FileReadException
+    {
+        final String  methodName = "scanRecords";
+
+        try (FileChannel fileChannel = FileChannel.open(dataFile.toPath(), StandardOpenOption.READ))
+        {
+            long fileLength  = fileChannel.size();
+            int  parallelism = pool.getParallelism();
+            long taskSize    = chunkSize;
+
+            if (taskSize <= 0)
+            {
+                taskSize = Math.max(minimumChunkSize, Math.min(maximumChunkSize, fileLength / (parallelism * chunksPerThread)));
+            }
+
+            long  recordCount = 0;
+            long  nextChunkStart = 0;
+
+            Deque<ForkJoinTask<Integer>> runningTasks   = new ArrayDeque<>();
+            Deque<ChunkParser>           runningParsers = new ArrayDeque<>();
+
+            try
+            {
+                if (ordered)
+                {
+                    /*
+                     * The parsed records are returned by the tasks and passed to the processor in chunk order.
+                     * The number of chunks parsed ahead of the processor is limited to bound the memory used.
+                     */
+                    int readAhead = parallelism * readAheadPerThread;
+
+                    while ((nextChunkStart < fileLength) || (! runningTasks.isEmpty()))
+                    {
+                        while ((nextChunkStart < fileLength) && (runningTasks.size() < readAhead))
+                        {
+                            long chunkEnd = Math.min(fileLength, nextChunkStart + taskSize);
+
+                            ChunkParser chunkParser = new ChunkParser(fileChannel, nextChunkStart, chunkEnd, null);
+
+                            runningTasks.add(pool.submit(chunkParser));
+                            runningParsers.add(chunkParser);
+                            nextChunkStart = chunkEnd;
+                        }
+
+                        runningTasks.peek().get();
+
+                        for (Object[] record : runningParsers.poll().getRecords())
+                        {
+                            processor.processRecord(record);
+                            recordCount++;
+                        }
+
+                        runningTasks.poll();
+                    }
+                }
+                else
+                {
+                    while (nextChunkStart < fileLength)
+                    {
+                        long chunkEnd = Math.min(fileLength, nextChunkStart + taskSize);
+
+                        runningTasks.add(pool.submit(new ChunkParser(fileChannel, nextChunkStart, chunkEnd, processor)));
+                        nextChunkStart = chunkEnd;
+                    }
+
+                    while (! runningTasks.isEmpty())
+                    {
+                        recordCount = recordCount + runningTasks.peek().get();
+                        runningTasks.poll();
+                    }
+                }
+            }
+            finally
+            {
+                for (ForkJoinTask<Integer> runningTask : runningTasks)
+                {
+                    runningTask.cancel(true);
+                }
+            }
+
+            return recordCount;
+        }
+        catch (ExecutionException  error)
+        {
+            Throwable cause = error.getCause();
+
+            if (cause instanceof FileReadException)
+            {
+                throw (FileReadException)cause;
+            }
+
+            throw getScanException(cause == null ? error : cause, methodName);
+        }
+        catch (Throwable  error)
+        {
+            throw getScanException(error, methodName);
+        }
+    }
+
+
+    /**
+     * Build the exception for an unexpected error during the scan.
+     *
+     * @param error caught exception
+     * @param methodName name of calling method
+     * @return exception to throw
+     */
+    private FileReadException getScanException(Throwable  error,
+                                               String     methodName)
+    {
+        StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNEXPECTED_SCAN_EXCEPTION;
+        String                           errorMessage = errorCode.getErrorMessageId()
+                                                      + errorCode.getFormattedErrorMessage(error.getClass().getName(),
+                                                                                           fileStoreName,
+                                                                                           error.getMessage());
+
+        return new FileReadException(errorCode.getHTTPErrorCode(),
+                                     this.getClass().getName(),
+                                     methodName,
+                                     errorMessage,
+                                     errorCode.getSystemAction(),
+                                     errorCode.getUserAction(),
+                                     error,
+                                     fileStoreName);
+    }
+
+
+    /**
+     * ChunkParser parses the rows that start in a range of bytes of the file.  If a processor is supplied the
+     * records are passed straight to it, otherwise they are kept for the caller to retrieve once the chunk
+     * is parsed.
+     */
+    private class ChunkParser implements Callable<Integer>
+    {
+        private FileChannel                   fileChannel;
+        private long                          chunkStart;
+        private long                          chunkEnd;
+        private StructuredFileRecordProcessor processor;
+
+        private List<Object[]>                records = new ArrayList<>();
+        private byte[]                        row     = new byte[1024];
+        private int                           rowLength = 0;
+
+
+        /**
+         * Constructor supplies the range of the file to parse.
+         *
+         * @param fileChannel open channel for the file - only positional reads are used so it can be shared
+         * @param chunkStart offset of the first byte of the chunk
+         * @param chunkEnd offset of the byte after the chunk
+         * @param processor destination for the records, or null to return them
+         */
+        ChunkParser(FileChannel                   fileChannel,
+                    long                          chunkStart,
+                    long                          chunkEnd,
+                    StructuredFileRecordProcessor processor)
+        {
+            this.fileChannel = fileChannel;
+            this.chunkStart = chunkStart;
+            this.chunkEnd = chunkEnd;
+            this.processor = processor;
+        }
+
+
+        /**
+         * Parse the chunk.
+         *
+         * @return number of records parsed
+         * @throws IOException problem reading the file
+         * @throws FileReadException unable to decode a value
+         */
+        @Override
+        public Integer call() throws IOException, FileReadException
+        {
+            ByteBuffer readBuffer     = ByteBuffer.allocate(readBufferSize);
+            long       position       = chunkStart;
+            boolean    skipRow        = false;
+            boolean    previousCarriageReturn = false;
+            int        recordCount    = 0;
+
+            if (chunkStart == 0)
+            {
+                skipRow = skipFirstRow;
+            }
+            else
+            {
+                /*
+                 * A row that starts before the chunk belongs to the previous chunk.
+                 */
+                ByteBuffer previousByte = ByteBuffer.allocate(1);
+
+                if (fileChannel.read(previousByte, chunkStart - 1) == 1)
+                {
+                    byte character = previousByte.get(0);
+
+                    if (character == '\r')
+                    {
+                        previousCarriageReturn = true;
+                    }
+                    else if (character != '\n')
+                    {
+                        skipRow = true;
+                    }
+                }
+            }
+
+            while (true)
+            {
+                readBuffer.clear();
+
+                int bytesRead = fileChannel.read(readBuffer, position);
+
+                if (bytesRead <= 0)
+                {
+                    /*
+                     * End of file - the last row does not have a line terminator.
+                     */
+                    if (! skipRow)
+                    {
+                        recordCount = recordCount + processRow();
+                    }
+                    break;
+                }
+
+                for (int i = 0; i < bytesRead; i++)
+                {
+                    byte character = readBuffer.get(i);
+
+                    position++;
+
+                    if (previousCarriageReturn && (character == '\n'))
+                    {
+                        previousCarriageReturn = false;
+
+                        if (position >= chunkEnd)
+                        {
+                            return recordCount;
+                        }
+                    }
+                    else if ((character == '\n') || (character == '\r'))
+                    {
+                        previousCarriageReturn = (character == '\r');
+
+                        if (skipRow)
+                        {
+                            skipRow = false;
+                            rowLength = 0;
+                        }
+                        else
+                        {
+                            recordCount = recordCount + processRow();
+                        }
+
+                        if (position >= chunkEnd)
+                        {
+                            return recordCount;
+                        }
+                    }
+                    else
+                    {
+                        previousCarriageReturn = false;
+
+                        if (! skipRow)
+                        {
+                            if (rowLength == row.length)
+                            {
+                                byte[] largerRow = new byte[row.length * 2];
+                                System.arraycopy(row, 0, largerRow, 0, rowLength);
+                                row = largerRow;
+                            }
+
+                            row[rowLength++] = character;
+                        }
+                    }
+                }
+            }
+
+            return recordCount;
+        }
+
+
+        /**
+         * Return the records parsed from the chunk.  This is only valid once the chunk has been parsed and is
+         * empty if the records were passed to a processor.
+         *
+         * @return list of records
+         */
+        List<Object[]> getRecords()
+        {
+            return records;
+        }
+
+
+        /**
+         * Parse the current row, if it has content, and pass it on.
+         *
+         * @return number of records produced (0 or 1)
+         * @throws FileReadException unable to decode a value
+         */
+        private int processRow() throws FileReadException
+        {
+            int length = rowLength;
+
+            rowLength = 0;
+
+            if (isWhitespaceOnly(row, length))
+            {
+                return 0;
+            }
+
+            String[] columnValues = parser.parseColumns(new String(row, 0, length, charset), columnWanted);
+            Object[] record       = new Object[columnPositions.length];
+
+            for (int i = 0; i < columnPositions.length; i++)
+            {
+                String columnValue = columnValues[columnPositions[i]];
+
+                try
+                {
+                    record[i] = columnTypes[i].decode(columnValue);
+                }
+                catch (NumberFormatException  error)
+                {
+                    throw getDecodeException(columnValue, columnPositions[i], columnTypes[i]);
+                }
+            }
+
+            if (processor != null)
+            {
+                processor.processRecord(record);
+            }
+            else
+            {
+                records.add(record);
+            }
+
+            return 1;
+        }
+
+
+        /**
+         * Build the exception for a value that does not match its requested type.
+         *
+         * @param columnValue value from the file
+         * @param columnPosition position of the column
+         * @param columnType requested type
+         * @return exception to throw
+         */
+        private FileReadException getDecodeException(String                   columnValue,
+                                                      int                      columnPosition,
+                                                      StructuredFileColumnType columnType)
+        {
+            final String  methodName = "scanRecords";
+
+            String columnName = Integer.toString(columnPosition);
+
+            if ((columnNames != null) && (columnPosition < columnNames.size()))
+            {
+                columnName = columnNames.get(columnPosition);
+            }
+
+            StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.INVALID_COLUMN_VALUE;
+            String                           errorMessage = errorCode.getErrorMessageId()
+                                                          + errorCode.getFormattedErrorMessage(columnValue,
+                                                                                               columnName,
+                                                                                               fileStoreName,
+                                                                                               columnType.getName());
+
+            return new FileReadException(errorCode.getHTTPErrorCode(),
+                                         this.getClass().getName(),
+                                         methodName,
+                                         errorMessage,
+                                         errorCode.getSystemAction(),
+                                         errorCode.getUserAction(),
+                                         fileStoreName);
+        }
+    }
+
+
+    /**
+     * Test whether a row only contains whitespace.  This matches the test used by the StructuredFileRowIndex.
+     *
+     * @param row bytes of the row
+     * @param length number of bytes in the row
+     * @return boolean flag
+     */
+    private static boolean isWhitespaceOnly(byte[] row, int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            byte character = row[i];
+
+            if ((character != ' ') && (character != '\t') && (character != '\f') && (character != 0x0B))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,200 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.structuredfile;
+
+import org.odpi.openmetadata.adapters.connectors.structuredfile.ffdc.StructuredFileConnectorErrorCode;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * StructuredFileRecordIterator steps through the data records of a structured file in a single pass.
+ * It is the efficient way to read every record in a file since each record is parsed as it is read
+ * and the file is only opened once.  The iterator closes the file when the last record is returned.  Callers
+ * that stop early should call close().
+ */
+public class StructuredFileRecordIterator implements Iterator<List<String>>, Closeable
+{
+    private static final Logger log = LoggerFactory.getLogger(StructuredFileRecordIterator.class);
+
+    private String                     fileStoreName;
+    private BufferedReader             reader;
+    private StructuredFileRecordParser parser;
+
+    /*
+     * Whitespace-only rows are only returned if they are followed by a row with content, consistent with
+     * the record count of the file.
+     */
+    private Deque<String>              readyRows      = new ArrayDeque<>();
+    private Deque<String>              whitespaceRows = new ArrayDeque<>();
+
+
+    /**
+     * Constructor is called by the StructuredFileStoreConnector.
+     *
+     * @param fileStoreName name of the file for error messages
+     * @param reader open reader for the file
+     * @param parser parser for the records
+     * @param skipFirstRow is the first row of the file the column names?
+     * @throws IOException unable to read the first row
+     */
+    StructuredFileRecordIterator(String                     fileStoreName,
+                                 BufferedReader             reader,
+                                 StructuredFileRecordParser parser,
+                                 boolean                    skipFirstRow) throws IOException
+    {
+        this.fileStoreName = fileStoreName;
+        this.reader = reader;
+        this.parser = parser;
+
+        if (skipFirstRow)
+        {
+            if (reader.readLine() == null)
+            {
+                this.close();
+            }
+        }
+    }
+
+
+    /**
+     * Return whether there are more records in the file.
+     *
+     * @return boolean flag
+     * @throws OCFRuntimeException problem reading the file
+     */
+    @Override
+    public boolean hasNext()
+    {
+        final String  methodName = "hasNext";
+
+        try
+        {
+            while (readyRows.isEmpty() && (reader != null))
+            {
+                String row = reader.readLine();
+
+                if (row == null)
+                {
+                    this.close();
+                }
+                else if (isWhitespaceOnly(row))
+                {
+                    whitespaceRows.add(row);
+                }
+                else
+                {
+                    readyRows.addAll(whitespaceRows);
+                    whitespaceRows.clear();
+                    readyRows.add(row);
+                }
+            }
+        }
+        catch (IOException  error)
+        {
+            this.close();
+
+            StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
+            String                           errorMessage = errorCode.getErrorMessageId()
+                                                          + errorCode.getFormattedErrorMessage(fileStoreName,
+                                                                                               error.getMessage());
+
+            throw new OCFRuntimeException(errorCode.getHTTPErrorCode(),
+                                          this.getClass().getName(),
+                                          methodName,
+                                          errorMessage,
+                                          errorCode.getSystemAction(),
+                                          errorCode.getUserAction(),
+                                          error);
+        }
+
+        return ! readyRows.isEmpty();
+    }
+
+
+    /**
+     * Return the next record in the file.
+     *
+     * @return List of strings, each string is the value from the column.
+     * @throws OCFRuntimeException there are no more records or there is a problem reading the file
+     */
+    @Override
+    public List<String> next()
+    {
+        final String  methodName = "next";
+
+        if (this.hasNext())
+        {
+            return parser.parseRecord(readyRows.poll());
+        }
+
+        StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.NO_MORE_RECORDS;
+        String                           errorMessage = errorCode.getErrorMessageId()
+                                                      + errorCode.getFormattedErrorMessage(fileStoreName);
+
+        throw new OCFRuntimeException(errorCode.getHTTPErrorCode(),
+                                      this.getClass().getName(),
+                                      methodName,
+                                      errorMessage,
+                                      errorCode.getSystemAction(),
+                                      errorCode.getUserAction());
+    }
+
+
+    /**
+     * Test whether a row only contains whitespace.  This matches the test used to count the rows in the
+     * StructuredFileRowIndex.
+     *
+     * @param row row from the file
+     * @return boolean flag
+     */
+    private static boolean isWhitespaceOnly(String row)
+    {
+        for (int i = 0; i < row.length(); i++)
+        {
+            char character = row.charAt(i);
+
+            if ((character != ' ') && (character != '\t') && (character != '\f') && (character != '\u000B'))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Close the file.  Any records that have not been read are discarded.
+     */
+    @Override
+    public void close()
+    {
+        if (reader != null)
+        {
+            try
+            {
+                reader.close();
+            }
+            catch (IOException  error)
+            {
+                log.debug("Ignoring unexpected exception closing " + fileStoreName + ": " + error.getMessage());
+            }
+
+            reader = null;
+        }
+
+        readyRows.clear();
+        whitespaceRows.clear();
+    }
+}
@@ -0,0 +1,234 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.structuredfile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * StructuredFileRecordParser splits a single record from a structured file into its column values.
+ * It is shared by the random access, streaming and parallel scan read paths of the StructuredFileStoreConnector.
+ * The parser holds no state between records so one instance may be used by many threads.
+ */
+class StructuredFileRecordParser
+{
+    private char           delimiterChar;
+    private char           quoteChar;
+
+
+    /**
+     * Constructor supplies the special characters for the file.
+     *
+     * @param delimiterChar character between columns
+     * @param quoteChar character used to quote column values that include the delimiter
+     */
+    StructuredFileRecordParser(char delimiterChar,
+                               char quoteChar)
+    {
+        this.delimiterChar = delimiterChar;
+        this.quoteChar = quoteChar;
+    }
+
+
+    /**
+     * Step through the record, character by character, extracting each column and enduring that escaped double quotes
+     * and other tricks found in CSV files are handled.
+     *
+     * @param fileRecord a single record from the CSV file store
+     * @return an array of column values extracted from the record
+     */
+    List<String> parseRecord(String fileRecord)
+    {
+        if ((fileRecord == null) || (fileRecord.isEmpty()))
+        {
+            return null;
+        }
+
+        List<String> result = new ArrayList<>();
+        StringBuilder currentValue = new StringBuilder();
+
+        boolean inQuotes = false;
+        boolean startCollectingCharacters = false;
+        boolean doubleQuotesInColumn = false;
+
+        char[] characters = fileRecord.toCharArray();
+
+        for (char character : characters)
+        {
+            if (inQuotes)
+            {
+                startCollectingCharacters = true;
+                if (character == quoteChar)
+                {
+                    inQuotes = false;
+                    doubleQuotesInColumn = false;
+                }
+                else
+                {
+                    if (character == '\"')
+                    {
+                        if (!doubleQuotesInColumn)
+                        {
+                            currentValue.append(character);
+                            doubleQuotesInColumn = true;
+                        }
+                    }
+                    else
+                    {
+                        currentValue.append(character);
+                    }
+
+                }
+            } else {
+                if (character == quoteChar) {
+
+                    inQuotes = true;
+
+                    if (characters[0] != '"' && quoteChar == '\"')
+                    {
+                        currentValue.append('"');
+                    }
+
+                    if (startCollectingCharacters)
+                    {
+                        currentValue.append('"');
+                    }
+                }
+                else if (character == delimiterChar)
+                {
+                    result.add(currentValue.toString());
+
+                    currentValue = new StringBuilder();
+                    startCollectingCharacters = false;
+
+                }
+                else if (character == '\n')
+                {
+                    break;
+                }
+                else if (character != '\r')
+                {
+                    currentValue.append(character);
+                }
+            }
+
+        }
+
+        result.add(currentValue.toString());
+
+        return result;
+    }
+
+
+    /**
+     * Extract only the requested columns from a record.  This follows the same rules as parseRecord but
+     * does not build the values of the other columns and stops as soon as the last requested column is complete.
+     *
+     * @param fileRecord a single record from the CSV file store
+     * @param columnWanted flag for each column position up to the highest requested column
+     * @return array with an entry for each element of columnWanted; unwanted or missing columns are null
+     */
+    String[] parseColumns(String    fileRecord,
+                          boolean[] columnWanted)
+    {
+        String[] result = new String[columnWanted.length];
+
+        if ((fileRecord == null) || (fileRecord.isEmpty()) || (columnWanted.length == 0))
+        {
+            return result;
+        }
+
+        StringBuilder currentValue = new StringBuilder();
+        int           columnNumber = 0;
+        boolean       collecting   = columnWanted[0];
+
+        boolean inQuotes = false;
+        boolean startCollectingCharacters = false;
+        boolean doubleQuotesInColumn = false;
+
+        char    firstCharacter = fileRecord.charAt(0);
+        int     recordLength   = fileRecord.length();
+
+        for (int i = 0; i < recordLength; i++)
+        {
+            char character = fileRecord.charAt(i);
+
+            if (inQuotes)
+            {
+                startCollectingCharacters = true;
+                if (character == quoteChar)
+                {
+                    inQuotes = false;
+                    doubleQuotesInColumn = false;
+                }
+                else if (collecting)
+                {
+                    if (character == '\"')
+                    {
+                        if (!doubleQuotesInColumn)
+                        {
+                            currentValue.append(character);
+                            doubleQuotesInColumn = true;
+                        }
+                    }
+                    else
+                    {
+                        currentValue.append(character);
+                    }
+                }
+            }
+            else
+            {
+                if (character == quoteChar)
+                {
+                    inQuotes = true;
+
+                    if (collecting && (firstCharacter != '"') && (quoteChar == '\"'))
+                    {
+                        currentValue.append('"');
+                    }
+
+                    if (collecting && startCollectingCharacters)
+                    {
+                        currentValue.append('"');
+                    }
+                }
+                else if (character == delimiterChar)
+                {
+                    if (collecting)
+                    {
+                        result[columnNumber] = currentValue.toString();
+                        currentValue.setLength(0);
+                    }
+
+                    startCollectingCharacters = false;
+                    columnNumber++;
+
+                    if (columnNumber >= columnWanted.length)
+                    {
+                        return result;
+                    }
+
+                    collecting = columnWanted[columnNumber];
+                }
+                else if (character == '\n')
+                {
+                    break;
+                }
+                else if ((character != '\r') && (collecting))
+                {
+                    currentValue.append(character);
+                }
+            }
+        }
+
+        if (collecting)
+        {
+            result[columnNumber] = currentValue.toString();
+        }
+
+        return result;
+    }
+}
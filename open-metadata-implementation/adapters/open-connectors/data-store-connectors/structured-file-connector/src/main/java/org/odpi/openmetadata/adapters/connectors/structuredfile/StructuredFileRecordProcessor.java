@@ -0,0 +1,23 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.structuredfile;
+
+
+/**
+ * StructuredFileRecordProcessor is implemented by callers of StructuredFileStore.scanRecords() to receive the
+ * records from the file.  When the scan is unordered, processRecord is called concurrently from the threads
+ * parsing the file so the implementation must be thread-safe.  When the scan is ordered, processRecord is
+ * called from the thread that called scanRecords(), one record at a time, in file order.
+ */
+public interface StructuredFileRecordProcessor
+{
+    /**
+     * Process a record from the file.
+     *
+     * @param columnValues values of the requested columns in the order they were requested.  Each value is
+     *                     decoded according to the requested column type.  Missing values are null, as are
+     *                     empty values of columns that are not of type STRING.
+     */
+    void processRecord(Object[] columnValues);
+}
@@ -0,0 +1,580 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.structuredfile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * StructuredFileRowIndex records the byte offset of the start of every row in a structured file so that
+ * any row can be read without scanning the rows before it.  The index is built with a single pass of the file.
+ * <p>
+ * If an index file name is supplied, the index is saved to that file and memory-mapped when it is used so that
+ * it is shared between connector instances and survives restarts.  The index file is rebuilt if the length or
+ * the modification time of the structured file changes.  If the index file can not be written, the index is
+ * held in memory.
+ * </p>
+ * <p>
+ * The offsets are held in segments, both in memory and when mapped, because a single buffer is limited to
+ * 2GB.  This means the number of rows is only limited by the memory or address space available.
+ * </p>
+ * <p>
+ * Rows are separated by "\n", "\r\n" or "\r".  Consistent with the original scanning implementation,
+ * whitespace-only rows at the end of the file are not counted.
+ * </p>
+ */
+class StructuredFileRowIndex
+{
+    private static final Logger log = LoggerFactory.getLogger(StructuredFileRowIndex.class);
+
+    private static final long indexFileMagicNumber = 0x4547455249415249L; /* "EGERIARI" */
+    private static final int  headerLongCount      = 4;
+    private static final int  readBufferSize       = 64 * 1024;
+    private static final int  defaultSegmentShift  = 24;    /* 16M offsets (128MB) per segment */
+    private static final int  maxRowLength         = Integer.MAX_VALUE - 8;
+
+    private File           dataFile;
+    private long           dataFileLength;
+    private long           dataFileLastModified;
+    private long           rowCount;
+    private int            segmentShift;
+    private LongBuffer[]   rowOffsets;           /* rowCount + 1 entries, last entry is end of last row */
+
+
+    /**
+     * Private constructor used by getIndex.
+     *
+     * @param dataFile structured file
+     * @param dataFileLength length of the structured file when the index was built
+     * @param dataFileLastModified modification time of the structured file when the index was built
+     * @param rowCount number of rows in the file
+     * @param segmentShift number of bits of the offset number that select the entry within a segment
+     * @param rowOffsets segments holding the offsets of the rows
+     */
+    private StructuredFileRowIndex(File         dataFile,
+                                   long         dataFileLength,
+                                   long         dataFileLastModified,
+                                   long         rowCount,
+                                   int          segmentShift,
+                                   LongBuffer[] rowOffsets)
+    {
+        this.dataFile = dataFile;
+        this.dataFileLength = dataFileLength;
+        this.dataFileLastModified = dataFileLastModified;
+        this.rowCount = rowCount;
+        this.segmentShift = segmentShift;
+        this.rowOffsets = rowOffsets;
+    }
+
+
+    /**
+     * Return an index for the supplied structured file.  A previously saved index file is used if it matches
+     * the current state of the structured file, otherwise a new index is built (and saved if possible).
+     *
+     * @param dataFile structured file
+     * @param indexFile file to save the index in, or null to keep the index in memory
+     * @return index
+     * @throws IOException unable to read the structured file
+     */
+    static StructuredFileRowIndex getIndex(File dataFile,
+                                           File indexFile) throws IOException
+    {
+        return getIndex(dataFile, indexFile, defaultSegmentShift);
+    }
+
+
+    /**
+     * Return an index for the supplied structured file, using segments of the requested size.  This is used
+     * by the tests to exercise indexes that span several segments.
+     *
+     * @param dataFile structured file
+     * @param indexFile file to save the index in, or null to keep the index in memory
+     * @param segmentShift log2 of the number of offsets in each segment
+     * @return index
+     * @throws IOException unable to read the structured file
+     */
+    static StructuredFileRowIndex getIndex(File dataFile,
+                                           File indexFile,
+                                           int  segmentShift) throws IOException
+    {
+        long   dataFileLength       = dataFile.length();
+        long   dataFileLastModified = dataFile.lastModified();
+
+        if (indexFile != null)
+        {
+            StructuredFileRowIndex savedIndex = loadIndex(dataFile, dataFileLength, dataFileLastModified, indexFile, segmentShift);
+
+            if (savedIndex != null)
+            {
+                return savedIndex;
+            }
+        }
+
+        RowOffsets  rowOffsets = buildRowOffsets(dataFile, segmentShift);
+        long        rowCount   = rowOffsets.size() - 1;
+
+        if (indexFile != null)
+        {
+            try
+            {
+                saveIndex(dataFileLength, dataFileLastModified, rowOffsets, indexFile);
+
+                StructuredFileRowIndex savedIndex = loadIndex(dataFile, dataFileLength, dataFileLastModified, indexFile, segmentShift);
+
+                if (savedIndex != null)
+                {
+                    return savedIndex;
+                }
+            }
+            catch (IOException error)
+            {
+                log.debug("Unable to save row index " + indexFile.getPath() + ": " + error.getMessage() +
+                                  "; the index is kept in memory");
+            }
+        }
+
+        return new StructuredFileRowIndex(dataFile, dataFileLength, dataFileLastModified, rowCount, segmentShift, rowOffsets.getSegments());
+    }
+
+
+    /**
+     * Test whether the index still describes the structured file.
+     *
+     * @return boolean flag
+     */
+    boolean isCurrent()
+    {
+        return (dataFile.length() == dataFileLength) && (dataFile.lastModified() == dataFileLastModified);
+    }
+
+
+    /**
+     * Return the number of rows in the structured file.
+     *
+     * @return count
+     */
+    long getRowCount()
+    {
+        return rowCount;
+    }
+
+
+    /**
+     * Read a row from the structured file.  The line terminator is removed.
+     *
+     * @param fileChannel open channel for the structured file
+     * @param charset character set of the file
+     * @param rowNumber row to read, the first row is row 0
+     * @return row or null if the row number is outside of the file
+     * @throws IOException problem reading the file
+     */
+    String readRow(FileChannel fileChannel,
+                   Charset     charset,
+                   long        rowNumber) throws IOException
+    {
+        if ((rowNumber < 0) || (rowNumber >= rowCount))
+        {
+            return null;
+        }
+
+        long start = getRowOffset(rowNumber);
+        long end   = getRowOffset(rowNumber + 1);
+
+        if (end - start > maxRowLength)
+        {
+            throw new IOException("Row " + rowNumber + " is " + (end - start) + " bytes long which is more than the " +
+                                          maxRowLength + " bytes that can be read as one row");
+        }
+
+        ByteBuffer rowBuffer = ByteBuffer.allocate((int)(end - start));
+
+        while (rowBuffer.hasRemaining())
+        {
+            if (fileChannel.read(rowBuffer, start + rowBuffer.position()) < 0)
+            {
+                break;
+            }
+        }
+
+        int length = rowBuffer.position();
+
+        while ((length > 0) && ((rowBuffer.get(length - 1) == '\n') || (rowBuffer.get(length - 1) == '\r')))
+        {
+            length--;
+        }
+
+        return new String(rowBuffer.array(), 0, length, charset);
+    }
+
+
+    /**
+     * Return an entry from the row offsets.
+     *
+     * @param offsetNumber number of the entry
+     * @return offset in the structured file
+     */
+    private long getRowOffset(long offsetNumber)
+    {
+        return rowOffsets[(int)(offsetNumber >>> segmentShift)].get((int)(offsetNumber & ((1 << segmentShift) - 1)));
+    }
+
+
+    /**
+     * Scan the structured file and record the offset of the start of each row.
+     *
+     * @param dataFile structured file
+     * @param segmentShift log2 of the number of offsets in each segment
+     * @return offsets with one more entry than the number of rows
+     * @throws IOException problem reading the file
+     */
+    private static RowOffsets buildRowOffsets(File dataFile,
+                                              int  segmentShift) throws IOException
+    {
+        RowOffsets rowOffsets             = new RowOffsets(segmentShift);
+        long       lineCount              = 0;
+        long       significantLineCount   = 0;
+        long       significantLinesEnd    = 0;
+        boolean    lineHasContent         = false;
+        boolean    lineStarted            = false;
+        boolean    previousCarriageReturn = false;
+        long       position               = 0;
+
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(dataFile), readBufferSize))
+        {
+            byte[] buffer = new byte[readBufferSize];
+            int    bytesRead;
+
+            while ((bytesRead = inputStream.read(buffer)) > 0)
+            {
+                for (int i = 0; i < bytesRead; i++)
+                {
+                    byte character = buffer[i];
+
+                    if (previousCarriageReturn && (character == '\n'))
+                    {
+                        /*
+                         * Second half of a "\r\n" line terminator.
+                         */
+                        previousCarriageReturn = false;
+                        position++;
+                        significantLinesEnd = lineHasContent ? position : significantLinesEnd;
+                        continue;
+                    }
+
+                    previousCarriageReturn = false;
+
+                    if (! lineStarted)
+                    {
+                        rowOffsets.add(position);
+                        lineCount++;
+                        lineStarted = true;
+                        lineHasContent = false;
+                    }
+
+                    position++;
+
+                    if ((character == '\n') || (character == '\r'))
+                    {
+                        previousCarriageReturn = (character == '\r');
+                        lineStarted = false;
+
+                        if (lineHasContent)
+                        {
+                            significantLinesEnd = position;
+                        }
+                    }
+                    else
+                    {
+                        if ((! lineHasContent) && (! isWhitespace(character)))
+                        {
+                            lineHasContent = true;
+                            significantLineCount = lineCount;
+                        }
+
+                        if (lineHasContent)
+                        {
+                            significantLinesEnd = position;
+                        }
+                    }
+                }
+            }
+        }
+
+        /*
+         * Drop the whitespace-only lines at the end of the file and add the end of the last row.
+         */
+        rowOffsets.truncate(significantLineCount);
+        rowOffsets.add(significantLinesEnd);
+
+        return rowOffsets;
+    }
+
+
+    /**
+     * Test whether a byte is whitespace.  Multi-byte characters are never treated as whitespace.
+     *
+     * @param character byte to test
+     * @return boolean flag
+     */
+    private static boolean isWhitespace(byte character)
+    {
+        return (character == ' ') || (character == '\t') || (character == '\f') || (character == 0x0B);
+    }
+
+
+    /**
+     * Save the index to a file.  The index is written to a temporary file and then moved into place so that
+     * other connector instances never see a partially written index.
+     *
+     * @param dataFileLength length of the structured file
+     * @param dataFileLastModified modification time of the structured file
+     * @param rowOffsets offsets of the rows
+     * @param indexFile destination file
+     * @throws IOException unable to write the file
+     */
+    private static void saveIndex(long       dataFileLength,
+                                  long       dataFileLastModified,
+                                  RowOffsets rowOffsets,
+                                  File       indexFile) throws IOException
+    {
+        File temporaryFile = new File(indexFile.getPath() + "." + Thread.currentThread().getId() + ".tmp");
+
+        try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile), readBufferSize)))
+        {
+            outputStream.writeLong(indexFileMagicNumber);
+            outputStream.writeLong(dataFileLength);
+            outputStream.writeLong(dataFileLastModified);
+            outputStream.writeLong(rowOffsets.size() - 1);
+
+            for (long offsetNumber = 0; offsetNumber < rowOffsets.size(); offsetNumber++)
+            {
+                outputStream.writeLong(rowOffsets.get(offsetNumber));
+            }
+        }
+
+        try
+        {
+            Files.move(temporaryFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        finally
+        {
+            Files.deleteIfExists(temporaryFile.toPath());
+        }
+    }
+
+
+    /**
+     * Memory-map a saved index file if it matches the current state of the structured file.  Each segment of
+     * offsets is mapped separately so the index file may be larger than 2GB.
+     *
+     * @param dataFile structured file
+     * @param dataFileLength current length of the structured file
+     * @param dataFileLastModified current modification time of the structured file
+     * @param indexFile saved index
+     * @param segmentShift log2 of the number of offsets in each segment
+     * @return index or null if the saved index is missing, unreadable or out of date
+     */
+    private static StructuredFileRowIndex loadIndex(File dataFile,
+                                                    long dataFileLength,
+                                                    long dataFileLastModified,
+                                                    File indexFile,
+                                                    int  segmentShift)
+    {
+        if (! indexFile.canRead())
+        {
+            return null;
+        }
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(indexFile, "r");
+             FileChannel      indexChannel     = randomAccessFile.getChannel())
+        {
+            long indexFileLength = indexChannel.size();
+
+            if (indexFileLength < (headerLongCount + 1) * Long.BYTES)
+            {
+                return null;
+            }
+
+            ByteBuffer headerBuffer = ByteBuffer.allocate(headerLongCount * Long.BYTES);
+
+            while (headerBuffer.hasRemaining())
+            {
+                if (indexChannel.read(headerBuffer, headerBuffer.position()) < 0)
+                {
+                    return null;
+                }
+            }
+
+            LongBuffer header   = (LongBuffer) ((ByteBuffer) headerBuffer.flip()).asLongBuffer();
+            long       rowCount = header.get(3);
+
+            if ((header.get(0) != indexFileMagicNumber) ||
+                (header.get(1) != dataFileLength) ||
+                (header.get(2) != dataFileLastModified) ||
+                (rowCount < 0) ||
+                (indexFileLength != (headerLongCount + rowCount + 1) * Long.BYTES))
+            {
+                return null;
+            }
+
+            /*
+             * The mappings remain valid after the channel is closed.
+             */
+            long          offsetCount  = rowCount + 1;
+            long          segmentSize  = 1L << segmentShift;
+            LongBuffer[]  segments     = new LongBuffer[(int)((offsetCount + segmentSize - 1) >>> segmentShift)];
+
+            for (int segmentNumber = 0; segmentNumber < segments.length; segmentNumber++)
+            {
+                long firstOffsetNumber = (long)segmentNumber << segmentShift;
+                long segmentLength     = Math.min(segmentSize, offsetCount - firstOffsetNumber);
+
+                segments[segmentNumber] = indexChannel.map(FileChannel.MapMode.READ_ONLY,
+                                                           (headerLongCount + firstOffsetNumber) * Long.BYTES,
+                                                           segmentLength * Long.BYTES).asLongBuffer();
+            }
+
+            return new StructuredFileRowIndex(dataFile, dataFileLength, dataFileLastModified, rowCount, segmentShift, segments);
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to load row index " + indexFile.getPath() + ": " + error.getMessage());
+
+            return null;
+        }
+    }
+
+
+    /**
+     * RowOffsets collects the offsets of the rows while the structured file is scanned.  The offsets are stored in
+     * segments of a fixed size so that there is no limit on the number of rows other than the memory available.
+     * The first segment grows as needed so small files only use a small amount of memory.
+     */
+    private static class RowOffsets
+    {
+        private int           segmentShift;
+        private int           segmentSize;
+        private List<long[]>  segments = new ArrayList<>();
+        private long          size     = 0;
+
+
+        /**
+         * Constructor
+         *
+         * @param segmentShift log2 of the number of offsets in each segment
+         */
+        RowOffsets(int segmentShift)
+        {
+            this.segmentShift = segmentShift;
+            this.segmentSize  = 1 << segmentShift;
+        }
+
+
+        /**
+         * Add an offset to the end of the list.
+         *
+         * @param offset offset in the structured file
+         */
+        void add(long offset)
+        {
+            int segmentNumber = (int)(size >>> segmentShift);
+            int entryNumber   = (int)(size & (segmentSize - 1));
+
+            if (segmentNumber == segments.size())
+            {
+                segments.add(new long[Math.min(1024, segmentSize)]);
+            }
+
+            long[] segment = segments.get(segmentNumber);
+
+            if (entryNumber == segment.length)
+            {
+                segment = Arrays.copyOf(segment, Math.min(segment.length * 2, segmentSize));
+                segments.set(segmentNumber, segment);
+            }
+
+            segment[entryNumber] = offset;
+            size++;
+        }
+
+
+        /**
+         * Return an offset from the list.
+         *
+         * @param offsetNumber number of the entry
+         * @return offset in the structured file
+         */
+        long get(long offsetNumber)
+        {
+            return segments.get((int)(offsetNumber >>> segmentShift))[(int)(offsetNumber & (segmentSize - 1))];
+        }
+
+
+        /**
+         * Remove the offsets after the requested number of entries.
+         *
+         * @param newSize number of entries to keep
+         */
+        void truncate(long newSize)
+        {
+            size = newSize;
+
+            while (segments.size() > ((size + segmentSize - 1) >>> segmentShift))
+            {
+                segments.remove(segments.size() - 1);
+            }
+        }
+
+
+        /**
+         * Return the number of offsets in the list.
+         *
+         * @return count
+         */
+        long size()
+        {
+            return size;
+        }
+
+
+        /**
+         * Return the segments as buffers that only cover the offsets in the list.
+         *
+         * @return buffers
+         */
+        LongBuffer[] getSegments()
+        {
+            LongBuffer[] buffers = new LongBuffer[segments.size()];
+
+            for (int segmentNumber = 0; segmentNumber < buffers.length; segmentNumber++)
+            {
+                long segmentLength = Math.min(segmentSize, size - ((long)segmentNumber << segmentShift));
+
+                buffers[segmentNumber] = LongBuffer.wrap(segments.get(segmentNumber), 0, (int)segmentLength).slice();
+            }
+
+            return buffers;
+        }
+    }
+}
@@ -38,8 +38,8 @@ public interface StructuredFileStore
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The file is scanned to count the records the first time
+     * this is called and whenever the file changes.
      *
      * @return count
      * @throws FileReadException unable to find, open or scan the file.
@@ -67,4 +67,36 @@ public interface StructuredFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileReadException;
+
+
+    /**
+     * Return an iterator that steps through all of the data records in the file in a single pass.  The first record
+     * returned is record 0.  The caller should close the iterator if it does not read every record.
+     *
+     * @return iterator returning a List of strings for each record, each string is the value from the column.
+     * @throws FileReadException unable to find or open the file.
+     */
+    StructuredFileRecordIterator getRecordIterator() throws FileReadException;
+
+
+    /**
+     * Read every data record in the file using multiple threads, extracting only the requested columns.
+     * The file is divided into ranges of bytes that are parsed concurrently.  Rows that are empty or only
+     * contain whitespace are skipped.
+     *
+     * @param requestedColumns names of the columns to return, in the order they should appear in each record;
+     *                         null means all columns
+     * @param columnTypes type to decode each requested column to; a null list, or a null or missing entry,
+     *                    means the column is returned as a string
+     * @param ordered true to receive the records in file order on the calling thread; false to receive them as
+     *                soon as they are parsed, concurrently, from the threads parsing the file
+     * @param processor destination for the records
+     * @return number of records processed
+     * @throws FileReadException unable to find, open or read the file, a column is not known, a value can not
+     *                           be decoded or the processor failed.
+     */
+    long scanRecords(List<String>                   requestedColumns,
+                     List<StructuredFileColumnType> columnTypes,
+                     boolean                        ordered,
+                     StructuredFileRecordProcessor  processor) throws FileReadException;
 }
@@ -12,16 +12,30 @@ import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
  * StructuredFileStoreConnector works with structured files to retrieve simple tables of data.
+ * <p>
+ * Random access to the records uses a row index that is built with a single scan of the file the first time it is
+ * needed.  The index is held in memory unless the rowIndexFile property names a file to save it in.  It is rebuilt
+ * whenever the structured file changes.  Programs that process every record
+ * should use getRecordIterator() rather than calling readRecord() for each record.  Programs that need a subset of
+ * the columns from a large file should use scanRecords() which parses the file on multiple threads.
+ * </p>
  */
 public class StructuredFileStoreConnector extends ConnectorBase implements StructuredFileStore
 {
@@ -32,6 +46,17 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
     private List<String>   columnNames       = null;
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
+    private String         rowIndexFileName  = null;
+    private Charset        charset           = Charset.defaultCharset();
+    private int            scanParallelism   = 0;
+
+    /*
+     * Variables used in reading from the file.
+     */
+    private StructuredFileRecordParser parser          = null;
+    private StructuredFileRowIndex     rowIndex        = null;
+    private FileChannel                fileChannel     = null;
+    private ForkJoinPool               scanPool        = null;
 
     /*
      * Variables used for logging and debug.
@@ -58,6 +83,8 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
             Object  columnNamesProperty = additionalProperties.getProperty(StructuredFileStoreProvider.columnNamesProperty);
             Object  delimiterCharProperty = additionalProperties.getProperty(StructuredFileStoreProvider.delimiterCharacterProperty);
             Object  quoteCharProperty = additionalProperties.getProperty(StructuredFileStoreProvider.quoteCharacterProperty);
+            Object  rowIndexFileProperty = additionalProperties.getProperty(StructuredFileStoreProvider.rowIndexFileProperty);
+            Object  scanParallelismProperty = additionalProperties.getProperty(StructuredFileStoreProvider.scanParallelismProperty);
 
             if (columnNamesProperty != null)
             {
@@ -83,8 +110,31 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
             {
                 quoteChar = (char)quoteCharProperty;
             }
+
+            if (rowIndexFileProperty != null)
+            {
+                rowIndexFileName = rowIndexFileProperty.toString();
+            }
+
+            if (scanParallelismProperty instanceof Number)
+            {
+                scanParallelism = ((Number)scanParallelismProperty).intValue();
+            }
+            else if (scanParallelismProperty != null)
+            {
+                try
+                {
+                    scanParallelism = Integer.parseInt(scanParallelismProperty.toString());
+                }
+                catch (NumberFormatException  error)
+                {
+                    log.error("Ignoring invalid " + StructuredFileStoreProvider.scanParallelismProperty + " property: " + scanParallelismProperty);
+                }
+            }
         }
 
+        parser = new StructuredFileRecordParser(delimiterChar, quoteChar);
+
         if (endpoint != null)
         {
             fileStoreName = endpoint.getAddress();
@@ -133,8 +183,8 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  The count comes from the row index so the file is only
+     * scanned if it has changed since the index was built.
      *
      * @return count
      * @throws FileReadException unable to find, open or scan the file.
@@ -143,40 +193,11 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
+        long    rowCount = getRowIndex(methodName).getRowCount();
 
-        File fileStore = validateFileStore(fileStoreName, methodName);
-
-        try
+        if ((rowCount > 0) && (columnNames == null))
         {
-            Scanner scanner  = new Scanner(fileStore);
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
-            scanner.close();
-
-            if ((rowCount > 0) && (columnNames == null))
-            {
-                rowCount = rowCount - 1;
-            }
-        }
-        catch (IOException  error)
-        {
-            StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
-            String                           errorMessage = errorCode.getErrorMessageId()
-                                                          + errorCode.getFormattedErrorMessage(fileStoreName,
-                                                                                               error.getMessage());
-
-            throw new FileReadException(errorCode.getHTTPErrorCode(),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        errorMessage,
-                                        errorCode.getSystemAction(),
-                                        errorCode.getUserAction(),
-                                        error,
-                                        fileStoreName);
+            rowCount = rowCount - 1;
         }
 
         return rowCount;
@@ -232,158 +253,336 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
 
 
     /**
-     * Return the requested row in the file.  The first record is record 0.
+     * Return an iterator that steps through all of the data records in the file in a single pass.  The first record
+     * returned is record 0.  The caller should close the iterator if it does not read every record.
      *
-     * @param recordLocation long
-     * @param methodName name of calling method
-     * @return List of strings, each string is the value from the column.
-     * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
+     * @return iterator returning a List of strings for each record, each string is the value from the column.
+     * @throws FileReadException unable to find or open the file.
      */
-    private List<String>      readRow(int     recordLocation,
-                                      String  methodName) throws FileReadException
+    public StructuredFileRecordIterator getRecordIterator() throws FileReadException
     {
+        final String  methodName = "getRecordIterator";
 
         File fileStore = validateFileStore(fileStoreName, methodName);
 
         try
         {
-            Scanner scanner        = new Scanner(fileStore);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileStore), charset));
+
+            return new StructuredFileRecordIterator(fileStoreName, reader, parser, columnNames == null);
+        }
+        catch (IOException  error)
+        {
+            throw getIOException(error, methodName);
+        }
+    }
+
 
-            int rowCounter = 0;
-            while (scanner.hasNext())
+    /**
+     * Read every data record in the file using multiple threads, extracting only the requested columns.
+     * The file is divided into ranges of bytes that are parsed concurrently.  Rows that are empty or only
+     * contain whitespace are skipped.
+     *
+     * @param requestedColumns names of the columns to return, in the order they should appear in each record;
+     *                         null means all columns
+     * @param columnTypes type to decode each requested column to; a null list, or a null or missing entry,
+     *                    means the column is returned as a string
+     * @param ordered true to receive the records in file order on the calling thread; false to receive them as
+     *                soon as they are parsed, concurrently, from the threads parsing the file
+     * @param processor destination for the records
+     * @return number of records processed
+     * @throws FileReadException unable to find, open or read the file, a column is not known, a value can not
+     *                           be decoded or the processor failed.
+     */
+    public long scanRecords(List<String>                   requestedColumns,
+                            List<StructuredFileColumnType> columnTypes,
+                            boolean                        ordered,
+                            StructuredFileRecordProcessor  processor) throws FileReadException
+    {
+        final String  methodName = "scanRecords";
+
+        File         fileStore       = validateFileStore(fileStoreName, methodName);
+        List<String> fileColumnNames = columnNames;
+
+        if (fileColumnNames == null)
+        {
+            fileColumnNames = readFirstRow(fileStore, methodName);
+        }
+
+        if (fileColumnNames == null)
+        {
+            fileColumnNames = new ArrayList<>();
+        }
+
+        List<String> scanColumns = requestedColumns;
+
+        if (scanColumns == null)
+        {
+            scanColumns = fileColumnNames;
+        }
+
+        int[]                      columnPositions = new int[scanColumns.size()];
+        StructuredFileColumnType[] scanColumnTypes = new StructuredFileColumnType[scanColumns.size()];
+
+        for (int i = 0; i < scanColumns.size(); i++)
+        {
+            columnPositions[i] = fileColumnNames.indexOf(scanColumns.get(i));
+
+            if (columnPositions[i] < 0)
             {
-                if (rowCounter == recordLocation)
-                {
-                    return parseRecord(scanner.nextLine());
-                }
-                else
-                {
-                    scanner.nextLine();
-                }
-                rowCounter ++;
+                StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNKNOWN_COLUMN;
+                String                           errorMessage = errorCode.getErrorMessageId()
+                                                              + errorCode.getFormattedErrorMessage(scanColumns.get(i),
+                                                                                                   fileColumnNames.toString(),
+                                                                                                   fileStoreName);
+
+                throw new FileReadException(errorCode.getHTTPErrorCode(),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            errorMessage,
+                                            errorCode.getSystemAction(),
+                                            errorCode.getUserAction(),
+                                            fileStoreName);
             }
-            scanner.close();
 
-            StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.FILE_TOO_SHORT;
-            String                           errorMessage = errorCode.getErrorMessageId()
-                                                          + errorCode.getFormattedErrorMessage(fileStoreName,
-                                                                                               Integer.toString(recordLocation));
+            scanColumnTypes[i] = StructuredFileColumnType.STRING;
+
+            if ((columnTypes != null) && (i < columnTypes.size()) && (columnTypes.get(i) != null))
+            {
+                scanColumnTypes[i] = columnTypes.get(i);
+            }
+        }
+
+        StructuredFileParallelScanner scanner = new StructuredFileParallelScanner(fileStoreName,
+                                                                                  fileStore,
+                                                                                  charset,
+                                                                                  parser,
+                                                                                  columnNames == null,
+                                                                                  fileColumnNames,
+                                                                                  columnPositions,
+                                                                                  scanColumnTypes,
+                                                                                  getScanPool(),
+                                                                                  0);
+
+        return scanner.scan(ordered, processor);
+    }
 
-            throw new FileReadException(errorCode.getHTTPErrorCode(),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        errorMessage,
-                                        errorCode.getSystemAction(),
-                                        errorCode.getUserAction(),
-                                        fileStoreName);
 
+    /**
+     * Return the column names from the first row of the file without building the row index.
+     *
+     * @param fileStore file to read
+     * @param methodName name of calling method
+     * @return list of column names or null if the file is empty
+     * @throws FileReadException unable to read the file
+     */
+    private List<String> readFirstRow(File    fileStore,
+                                      String  methodName) throws FileReadException
+    {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileStore), charset)))
+        {
+            return parser.parseRecord(reader.readLine());
         }
         catch (IOException  error)
         {
-            StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
-            String                           errorMessage = errorCode.getErrorMessageId()
-                                                          + errorCode.getFormattedErrorMessage(fileStoreName,
-                                                                                               error.getMessage());
-
-            throw new FileReadException(errorCode.getHTTPErrorCode(),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        errorMessage,
-                                        errorCode.getSystemAction(),
-                                        errorCode.getUserAction(),
-                                        error,
-                                        fileStoreName);
+            throw getIOException(error, methodName);
         }
     }
 
 
     /**
-     * Step through the record, character by character, extracting each column and enduring that escaped double quotes
-     * and other tricks found in CSV files are handled.
+     * Return the pool of threads used by scanRecords.  The common pool is used unless the connection
+     * sets the scanParallelism property.
      *
-     * @param fileRecord a single record from the CSV file store
-     * @return an array of column values extracted from the record
+     * @return fork-join pool
      */
-    private  List<String> parseRecord(String fileRecord)
+    private synchronized ForkJoinPool getScanPool()
     {
-        if ((fileRecord == null) || (fileRecord.isEmpty()))
+        if (scanParallelism <= 0)
         {
-            return null;
+            return ForkJoinPool.commonPool();
         }
 
-        List<String> result = new ArrayList<>();
-        StringBuffer currentValue = new StringBuffer();
+        if (scanPool == null)
+        {
+            scanPool = new ForkJoinPool(scanParallelism);
+        }
 
-        boolean inQuotes = false;
-        boolean startCollectingCharacters = false;
-        boolean doubleQuotesInColumn = false;
+        return scanPool;
+    }
 
-        char[] characters = fileRecord.toCharArray();
 
-        for (char character : characters)
+    /**
+     * Return the requested row in the file.  The first record is record 0.
+     *
+     * @param recordLocation long
+     * @param methodName name of calling method
+     * @return List of strings, each string is the value from the column.
+     * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
+     */
+    private List<String>      readRow(int     recordLocation,
+                                      String  methodName) throws FileReadException
+    {
+        /*
+         * The row index and the channel are read under the same lock so the row offsets always match the
+         * version of the file that the channel is reading.  If the file changes while the row is being read,
+         * the channel is closed by the thread rebuilding the index and the read is retried against the new index.
+         */
+        for (int attempt = 0; ; attempt++)
         {
-            if (inQuotes)
+            StructuredFileRowIndex index;
+            FileChannel            channel;
+
+            synchronized (this)
             {
-                startCollectingCharacters = true;
-                if (character == quoteChar)
+                index = getRowIndex(methodName);
+
+                if ((recordLocation < 0) || (recordLocation >= index.getRowCount()))
                 {
-                    inQuotes = false;
-                    doubleQuotesInColumn = false;
+                    break;
                 }
-                else
+
+                try
                 {
-                    if (character == '\"')
-                    {
-                        if (!doubleQuotesInColumn)
-                        {
-                            currentValue.append(character);
-                            doubleQuotesInColumn = true;
-                        }
-                    }
-                    else
-                    {
-                        currentValue.append(character);
-                    }
+                    channel = getFileChannel();
+                }
+                catch (IOException  error)
+                {
+                    throw getIOException(error, methodName);
+                }
+            }
 
+            try
+            {
+                return parser.parseRecord(index.readRow(channel, charset, recordLocation));
+            }
+            catch (ClosedChannelException  error)
+            {
+                if (attempt > 0)
+                {
+                    throw getIOException(error, methodName);
                 }
-            } else {
-                if (character == quoteChar) {
+            }
+            catch (IOException  error)
+            {
+                throw getIOException(error, methodName);
+            }
+        }
 
-                    inQuotes = true;
+        StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.FILE_TOO_SHORT;
+        String                           errorMessage = errorCode.getErrorMessageId()
+                                                      + errorCode.getFormattedErrorMessage(fileStoreName,
+                                                                                           Integer.toString(recordLocation));
+
+        throw new FileReadException(errorCode.getHTTPErrorCode(),
+                                    this.getClass().getName(),
+                                    methodName,
+                                    errorMessage,
+                                    errorCode.getSystemAction(),
+                                    errorCode.getUserAction(),
+                                    fileStoreName);
+    }
 
-                    if (characters[0] != '"' && quoteChar == '\"')
-                    {
-                        currentValue.append('"');
-                    }
 
-                    if (startCollectingCharacters)
-                    {
-                        currentValue.append('"');
-                    }
-                }
-                else if (character == delimiterChar)
-                {
-                    result.add(currentValue.toString());
+    /**
+     * Return the row index for the file, building it if the file has changed since the index was last used.
+     *
+     * @param methodName name of calling method
+     * @return row index
+     * @throws FileReadException unable to find, open or scan the file.
+     */
+    private synchronized StructuredFileRowIndex getRowIndex(String  methodName) throws FileReadException
+    {
+        File fileStore = validateFileStore(fileStoreName, methodName);
 
-                    currentValue = new StringBuffer();
-                    startCollectingCharacters = false;
+        if ((rowIndex == null) || (! rowIndex.isCurrent()))
+        {
+            closeFileChannel();
 
-                }
-                else if (character == '\n')
-                {
-                    break;
-                }
-                else if (character != '\r')
+            try
+            {
+                File indexFile = null;
+
+                if ((rowIndexFileName != null) && (! rowIndexFileName.isEmpty()))
                 {
-                    currentValue.append(character);
+                    indexFile = new File(rowIndexFileName);
                 }
+
+                rowIndex = StructuredFileRowIndex.getIndex(fileStore, indexFile);
+            }
+            catch (IOException  error)
+            {
+                rowIndex = null;
+
+                throw getIOException(error, methodName);
+            }
+        }
+
+        return rowIndex;
+    }
+
+
+    /**
+     * Return the open channel used for random access to the file.
+     *
+     * @return file channel
+     * @throws IOException unable to open the file
+     */
+    private synchronized FileChannel getFileChannel() throws IOException
+    {
+        if ((fileChannel == null) || (! fileChannel.isOpen()))
+        {
+            fileChannel = FileChannel.open(new File(fileStoreName).toPath(), StandardOpenOption.READ);
+        }
+
+        return fileChannel;
+    }
+
+
+    /**
+     * Close the channel used for random access to the file.
+     */
+    private synchronized void closeFileChannel()
+    {
+        if (fileChannel != null)
+        {
+            try
+            {
+                fileChannel.close();
+            }
+            catch (IOException  error)
+            {
+                log.debug("Ignoring unexpected exception " + error.getClass().getSimpleName() + " with message " + error.getMessage());
             }
 
+            fileChannel = null;
         }
+    }
 
-        result.add(currentValue.toString());
 
-        return result;
+    /**
+     * Build the exception for an unexpected IO error.
+     *
+     * @param error caught exception
+     * @param methodName name of calling method
+     * @return exception to throw
+     */
+    private FileReadException getIOException(IOException  error,
+                                             String       methodName)
+    {
+        StructuredFileConnectorErrorCode errorCode    = StructuredFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION;
+        String                           errorMessage = errorCode.getErrorMessageId()
+                                                      + errorCode.getFormattedErrorMessage(fileStoreName,
+                                                                                           error.getMessage());
+
+        return new FileReadException(errorCode.getHTTPErrorCode(),
+                                     this.getClass().getName(),
+                                     methodName,
+                                     errorMessage,
+                                     errorCode.getSystemAction(),
+                                     errorCode.getUserAction(),
+                                     error,
+                                     fileStoreName);
     }
 
 
@@ -401,6 +600,18 @@ public class StructuredFileStoreConnector extends ConnectorBase implements Struc
             log.debug("Ignoring unexpected exception " + exec.getClass().getSimpleName() + " with message " + exec.getMessage());
         }
 
+        synchronized (this)
+        {
+            closeFileChannel();
+            rowIndex = null;
+
+            if (scanPool != null)
+            {
+                scanPool.shutdown();
+                scanPool = null;
+            }
+        }
+
         log.debug("Closing Structured File Store");
     }
 
@@ -21,6 +21,8 @@ public class StructuredFileStoreProvider extends ConnectorProviderBase
     static final String  columnNamesProperty = "columnNames";
     static final String  delimiterCharacterProperty = "delimiterCharacter";
     static final String  quoteCharacterProperty = "quoteCharacter";
+    static final String  rowIndexFileProperty = "rowIndexFile";
+    static final String  scanParallelismProperty = "scanParallelism";
 
 
     /**
@@ -46,6 +48,8 @@ public class StructuredFileStoreProvider extends ConnectorProviderBase
         recognizedAdditionalProperties.add(columnNamesProperty);
         recognizedAdditionalProperties.add(delimiterCharacterProperty);
         recognizedAdditionalProperties.add(quoteCharacterProperty);
+        recognizedAdditionalProperties.add(rowIndexFileProperty);
+        recognizedAdditionalProperties.add(scanParallelismProperty);
 
         connectorType.setRecognizedAdditionalProperties(recognizedAdditionalProperties);
 
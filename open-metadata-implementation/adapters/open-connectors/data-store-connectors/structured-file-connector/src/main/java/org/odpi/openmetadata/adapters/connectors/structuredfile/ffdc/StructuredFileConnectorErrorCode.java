@@ -45,6 +45,18 @@ public enum StructuredFileConnectorErrorCode
             "File {0} does not have {1} rows",
             "The connector is unable to retrieve the requested record because the file is too short.",
             "Ensure the record number requested is within the size of the file.  Method getRecordCount will provide information on the number of data records in the file"),
+    NO_MORE_RECORDS(400, "STRUCTURED-FILE-CONNECTOR-400-005 ",
+            "There are no more records to read from file {0}",
+            "The record iterator has already returned every record in the file.",
+            "Call hasNext() before calling next() on the record iterator."),
+    UNKNOWN_COLUMN(400, "STRUCTURED-FILE-CONNECTOR-400-006 ",
+            "Column {0} is not one of the columns {1} of file {2}",
+            "The connector is unable to scan the file because one of the requested columns is not known.",
+            "Correct the column names passed on the request.  Method getColumnNames will provide the list of valid column names."),
+    INVALID_COLUMN_VALUE(400, "STRUCTURED-FILE-CONNECTOR-400-007 ",
+            "Value {0} in column {1} of file {2} can not be decoded as {3}",
+            "The connector is unable to decode a value from the file into the requested type.",
+            "Correct the requested column type or the value in the file and retry the request."),
     FILE_NOT_FOUND(404, "STRUCTURED-FILE-CONNECTOR-404-001 ",
              "The file named {0} in the Connection object {1} does not exist",
              "The connector is unable to open the structure file.",
@@ -52,6 +64,10 @@ public enum StructuredFileConnectorErrorCode
     UNEXPECTED_IO_EXCEPTION(500, "STRUCTURED-FILE-CONNECTOR-500-001 ",
              "The connector received an unexpected IO exception when reading the file named {0}; the error message was: {1}",
              "The connector is unable to process the structure file.",
+             "Use details from the error message to determine the cause of the error and retry the request once it is resolved."),
+    UNEXPECTED_SCAN_EXCEPTION(500, "STRUCTURED-FILE-CONNECTOR-500-002 ",
+             "The connector received an unexpected {0} exception when scanning the file named {1}; the error message was: {2}",
+             "The connector is unable to complete the scan of the structure file.",
              "Use details from the error message to determine the cause of the error and retry the request once it is resolved.");
 
 
@@ -9,8 +9,16 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -86,6 +94,19 @@ public class StructuredFileStoreConnectorTest
     }
 
 
+    private ConnectionProperties getConnectionProperties(String   fileName,
+                                                         String   rowIndexFileName)
+    {
+        Connection           connection           = getConnection(fileName);
+        Map<String, Object>  additionalProperties = new HashMap<>();
+
+        additionalProperties.put(StructuredFileStoreProvider.rowIndexFileProperty, rowIndexFileName);
+        connection.setAdditionalProperties(additionalProperties);
+
+        return new ConnectionProperties(connection);
+    }
+
+
     private void scanFile(StructuredFileStoreConnector connector) throws FileReadException
     {
         List<String>   columnNames = connector.getColumnNames();
@@ -115,6 +136,31 @@ public class StructuredFileStoreConnectorTest
         }
     }
 
+    private void iterateFile(StructuredFileStoreConnector connector) throws FileReadException
+    {
+        long  recordNumber = 0;
+
+        StructuredFileRecordIterator iterator = connector.getRecordIterator();
+
+        while (iterator.hasNext())
+        {
+            assertEquals(iterator.next(), connector.readRecord((int)recordNumber));
+            recordNumber++;
+        }
+
+        assertEquals(recordNumber, connector.getRecordCount());
+    }
+
+
+    private void writeFile(File  file, String  contents) throws IOException
+    {
+        try (FileWriter writer = new FileWriter(file))
+        {
+            writer.write(contents);
+        }
+    }
+
+
     @Test public void testSimpleColumns()
     {
         StructuredFileStoreConnector connector = new StructuredFileStoreConnector();
@@ -129,6 +175,7 @@ public class StructuredFileStoreConnectorTest
 
             connector.getFileName();
             scanFile(connector);
+            iterateFile(connector);
 
             connector.disconnect();
             assertFalse(connector.isActive());
@@ -204,6 +251,262 @@ public class StructuredFileStoreConnectorTest
         }
     }
 
+    @Test public void testRowIndex()
+    {
+        StructuredFileStoreConnector connector = new StructuredFileStoreConnector();
+
+        try
+        {
+            File  testFile  = new File(resourcesDirectory + "RowIndexTest.csv");
+            File  indexFile = new File(resourcesDirectory + "RowIndexTest.csv.rowindex");
+
+            writeFile(testFile, "Col1,Col2\r\nA,1\r\n\r\nB,2\nC,3  \n  \n\n");
+            indexFile.delete();
+
+            /*
+             * By default the index is kept in memory.
+             */
+            StructuredFileStoreConnector inMemoryConnector = new StructuredFileStoreConnector();
+            inMemoryConnector.initialize(UUID.randomUUID().toString(), getConnectionProperties(testFile.getPath()));
+            inMemoryConnector.start();
+            assertEquals(inMemoryConnector.getRecordCount(), 4);
+            assertEquals(inMemoryConnector.readRecord(3), Arrays.asList("C", "3  "));
+            assertFalse(indexFile.exists());
+            inMemoryConnector.disconnect();
+
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(testFile.getPath(), indexFile.getPath()));
+            connector.start();
+
+            assertEquals(connector.getRecordCount(), 4);
+            assertTrue(indexFile.exists());
+            assertEquals(connector.readRecord(0), Arrays.asList("A", "1"));
+            assertTrue(connector.readRecord(1) == null);
+            assertEquals(connector.readRecord(2), Arrays.asList("B", "2"));
+            assertEquals(connector.readRecord(3), Arrays.asList("C", "3  "));
+            iterateFile(connector);
+
+            /*
+             * A second connector uses the saved index.
+             */
+            StructuredFileStoreConnector secondConnector = new StructuredFileStoreConnector();
+            secondConnector.initialize(UUID.randomUUID().toString(), getConnectionProperties(testFile.getPath(), indexFile.getPath()));
+            secondConnector.start();
+            assertEquals(secondConnector.getRecordCount(), 4);
+            assertEquals(secondConnector.readRecord(3), Arrays.asList("C", "3  "));
+            secondConnector.disconnect();
+
+            /*
+             * Changing the file invalidates the index.
+             */
+            writeFile(testFile, "Col1,Col2\nD,4\n");
+            assertTrue(testFile.setLastModified(testFile.lastModified() + 2000));
+
+            assertEquals(connector.getRecordCount(), 1);
+            assertEquals(connector.readRecord(0), Arrays.asList("D", "4"));
+            iterateFile(connector);
+
+            connector.disconnect();
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false, error.toString());
+        }
+    }
+
+    @Test public void testSegmentedRowIndex()
+    {
+        try
+        {
+            File          testFile  = new File(resourcesDirectory + "SegmentedRowIndexTest.csv");
+            File          indexFile = new File(resourcesDirectory + "SegmentedRowIndexTest.csv.rowindex");
+            StringBuilder contents  = new StringBuilder();
+
+            for (int row = 0; row < 21; row++)
+            {
+                contents.append("Row").append(row).append("\n");
+            }
+
+            writeFile(testFile, contents.toString());
+            indexFile.delete();
+
+            /*
+             * Segments of four offsets so the 22 offsets span six segments, the last one partly filled.
+             * The first index is built in memory, the second is saved and mapped, the third reuses the mapping.
+             */
+            List<StructuredFileRowIndex> indexes = Arrays.asList(StructuredFileRowIndex.getIndex(testFile, null, 2),
+                                                                 StructuredFileRowIndex.getIndex(testFile, indexFile, 2),
+                                                                 StructuredFileRowIndex.getIndex(testFile, indexFile, 2));
+
+            assertTrue(indexFile.exists());
+
+            try (FileChannel fileChannel = FileChannel.open(testFile.toPath()))
+            {
+                for (StructuredFileRowIndex index : indexes)
+                {
+                    assertEquals(index.getRowCount(), 21);
+
+                    for (int row = 0; row < 21; row++)
+                    {
+                        assertEquals(index.readRow(fileChannel, Charset.defaultCharset(), row), "Row" + row);
+                    }
+
+                    assertTrue(index.readRow(fileChannel, Charset.defaultCharset(), 21) == null);
+                }
+            }
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false, error.toString());
+        }
+    }
+
+    @Test public void testParallelScan()
+    {
+        StructuredFileStoreConnector connector = new StructuredFileStoreConnector();
+
+        try
+        {
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(resourcesDirectory + complexColumnsWithColumnNamesFile));
+            connector.start();
+
+            List<String>  columnNames = connector.getColumnNames();
+            int           nameColumn  = columnNames.indexOf("LastName");
+            int           locationColumn = columnNames.indexOf("WorkLocation");
+
+            List<Object[]> expectedRecords = new ArrayList<>();
+            StructuredFileRecordIterator iterator = connector.getRecordIterator();
+
+            while (iterator.hasNext())
+            {
+                List<String>  record = iterator.next();
+                expectedRecords.add(new Object[]{ record.get(nameColumn), Integer.parseInt(record.get(locationColumn)) });
+            }
+
+            List<String>                   requestedColumns = Arrays.asList("LastName", "WorkLocation");
+            List<StructuredFileColumnType> columnTypes      = Arrays.asList(StructuredFileColumnType.STRING, StructuredFileColumnType.INT);
+
+            /*
+             * Ordered scan returns the records in file order.
+             */
+            List<Object[]> orderedRecords = new ArrayList<>();
+
+            assertEquals(connector.scanRecords(requestedColumns, columnTypes, true, orderedRecords::add), expectedRecords.size());
+            assertEquals(orderedRecords.size(), expectedRecords.size());
+
+            for (int i = 0; i < expectedRecords.size(); i++)
+            {
+                assertEquals(orderedRecords.get(i), expectedRecords.get(i));
+            }
+
+            /*
+             * Unordered scan returns the same records.
+             */
+            Queue<Object[]> unorderedRecords = new ConcurrentLinkedQueue<>();
+
+            assertEquals(connector.scanRecords(requestedColumns, columnTypes, false, unorderedRecords::add), expectedRecords.size());
+            assertEquals(unorderedRecords.size(), expectedRecords.size());
+
+            /*
+             * Requesting all columns returns the same values as the iterator.
+             */
+            List<Object[]> allColumnRecords = new ArrayList<>();
+
+            connector.scanRecords(null, null, true, allColumnRecords::add);
+            assertEquals(Arrays.asList((Object[])allColumnRecords.get(0)), new ArrayList<Object>(connector.readRecord(0)));
+
+            /*
+             * Unknown columns and values that do not match the type are rejected.
+             */
+            try
+            {
+                connector.scanRecords(Collections.singletonList("NotAColumn"), null, true, allColumnRecords::add);
+                assertTrue(false);
+            }
+            catch (FileReadException error)
+            {
+                assertTrue(error.getErrorMessage().contains("STRUCTURED-FILE-CONNECTOR-400-006"));
+            }
+
+            try
+            {
+                connector.scanRecords(Collections.singletonList("LastName"),
+                                      Collections.singletonList(StructuredFileColumnType.LONG),
+                                      false,
+                                      unorderedRecords::add);
+                assertTrue(false);
+            }
+            catch (FileReadException error)
+            {
+                assertTrue(error.getErrorMessage().contains("STRUCTURED-FILE-CONNECTOR-400-007"));
+            }
+
+            connector.disconnect();
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false, error.toString());
+        }
+    }
+
+    @Test public void testScanChunkBoundaries()
+    {
+        try
+        {
+            File  testFile  = new File(resourcesDirectory + "ScanChunkTest.csv");
+
+            writeFile(testFile, "Col1,Col2,Col3\r\nA,1,\"x,y\"\r\n\r\nB,2,z\nCC,33,zz\r  \n\nDDD,444,\"\"\"q\"\"\"\r\nE,5");
+
+            StructuredFileRecordParser parser   = new StructuredFileRecordParser(',', '"');
+            List<String>               names    = Arrays.asList("Col1", "Col2", "Col3");
+            int[]                      positions = new int[]{ 2, 1 };
+            StructuredFileColumnType[] types    = new StructuredFileColumnType[]{ StructuredFileColumnType.STRING,
+                                                                                  StructuredFileColumnType.LONG };
+
+            /*
+             * The projected columns must match the values from parsing the whole row.
+             */
+            List<Object[]> expectedRecords = new ArrayList<>();
+            String[]       dataRows        = new String[]{ "A,1,\"x,y\"", "B,2,z", "CC,33,zz", "DDD,444,\"\"\"q\"\"\"", "E,5" };
+
+            for (String dataRow : dataRows)
+            {
+                List<String> columns = parser.parseRecord(dataRow);
+                expectedRecords.add(new Object[]{ columns.size() > 2 ? columns.get(2) : null, Long.parseLong(columns.get(1)) });
+            }
+
+            /*
+             * Every chunk size places chunk boundaries at a different point in the rows.
+             */
+            for (long chunkSize = 1; chunkSize <= testFile.length(); chunkSize++)
+            {
+                StructuredFileParallelScanner scanner = new StructuredFileParallelScanner(testFile.getPath(),
+                                                                                          testFile,
+                                                                                          Charset.forName("UTF-8"),
+                                                                                          parser,
+                                                                                          true,
+                                                                                          names,
+                                                                                          positions,
+                                                                                          types,
+                                                                                          ForkJoinPool.commonPool(),
+                                                                                          chunkSize);
+                List<Object[]> records = new ArrayList<>();
+
+                assertEquals(scanner.scan(true, records::add), expectedRecords.size(), "Chunk size " + chunkSize);
+
+                for (int i = 0; i < expectedRecords.size(); i++)
+                {
+                    assertEquals(records.get(i), expectedRecords.get(i), "Chunk size " + chunkSize);
+                }
+
+                assertEquals(scanner.scan(false, record -> {}), expectedRecords.size(), "Chunk size " + chunkSize);
+            }
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false, error.toString());
+        }
+    }
+
     @Test public void testNullFileName()
     {
         StructuredFileStoreConnector connector = new StructuredFileStoreConnector();
@@ -13,6 +13,8 @@ import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineMonitor;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineStage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -100,19 +102,49 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
             try
             {
                 log.debug("Found records: " + records.count());
+
+                int remainingRecords = records.count();
+
                 for (ConsumerRecord<String, String> record : records)
                 {
                     String json = record.value();
                     log.debug("Received message: " + json);
 
-                    if (! localServerId.equals(record.key()))
+                    /*
+                     * The records left in the batch are the events waiting behind this one.  Kafka 0.10 does not
+                     * return the end offset of the partition so the lag is measured from the event's timestamp.
+                     */
+                    remainingRecords--;
+                    OMRSEventPipelineMonitor.recordQueueDepth(OMRSEventPipelineStage.EVENT_BUS_CONSUMER,
+                                                              topicToSubscribe,
+                                                              remainingRecords);
+                    OMRSEventPipelineMonitor.recordPartitionPosition(record.topic(),
+                                                                     record.partition(),
+                                                                     record.offset(),
+                                                                     record.timestamp());
+
+                    if (! localServerId.equals(KafkaOpenMetadataEventKey.getServerId(record.key())))
                     {
+                        long startTime = OMRSEventPipelineMonitor.startTimer();
+
                         try
                         {
                             connector.distributeToListeners(json);
+
+                            OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.EVENT_BUS_CONSUMER,
+                                                                 topicToSubscribe,
+                                                                 startTime,
+                                                                 false,
+                                                                 auditLog);
                         }
                         catch (Exception error)
                         {
+                            OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.EVENT_BUS_CONSUMER,
+                                                                 topicToSubscribe,
+                                                                 startTime,
+                                                                 true,
+                                                                 auditLog);
+
                             log.error(String.format("Error distributing inbound event: %s", error.getMessage()), error);
                             auditCode = KafkaOpenMetadataTopicConnectorAuditCode.EXCEPTION_DISTRIBUTING_EVENT;
                             auditLog.logRecord(actionDescription,
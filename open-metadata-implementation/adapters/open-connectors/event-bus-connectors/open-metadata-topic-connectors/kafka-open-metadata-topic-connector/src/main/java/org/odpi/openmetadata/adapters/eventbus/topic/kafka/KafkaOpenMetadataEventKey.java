@@ -0,0 +1,83 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+/**
+ * KafkaOpenMetadataEventKey builds and decodes the keys of the records sent by the KafkaOpenMetadataTopicConnector.
+ * The key always starts with the identifier of the server that sent the event so a server can ignore its own
+ * events.  When events are keyed by instance, the GUID of the instance follows, separated by a unit separator
+ * character.  The KafkaOpenMetadataEventPartitioner uses only the instance GUID to choose the partition so
+ * the events for an instance from every server go to the same partition, and events without an instance GUID
+ * go to the control partition.
+ */
+class KafkaOpenMetadataEventKey
+{
+    private static final char separator = '\u001F';
+
+
+    /**
+     * Return the key for a record.
+     *
+     * @param serverId identifier of the local server
+     * @param instanceGUID unique identifier of the instance that the event describes (may be null)
+     * @return record key
+     */
+    static String getRecordKey(String serverId,
+                               String instanceGUID)
+    {
+        if (instanceGUID == null)
+        {
+            return serverId;
+        }
+
+        return serverId + separator + instanceGUID;
+    }
+
+
+    /**
+     * Return the identifier of the server that sent a record.
+     *
+     * @param recordKey key of the record
+     * @return server identifier (or null if the record has no key)
+     */
+    static String getServerId(String recordKey)
+    {
+        if (recordKey == null)
+        {
+            return null;
+        }
+
+        int separatorIndex = recordKey.indexOf(separator);
+
+        if (separatorIndex < 0)
+        {
+            return recordKey;
+        }
+
+        return recordKey.substring(0, separatorIndex);
+    }
+
+
+    /**
+     * Return the GUID of the instance that a record describes.
+     *
+     * @param recordKey key of the record
+     * @return instance GUID or null if the record is not keyed by instance
+     */
+    static String getInstanceGUID(String recordKey)
+    {
+        if (recordKey == null)
+        {
+            return null;
+        }
+
+        int separatorIndex = recordKey.indexOf(separator);
+
+        if (separatorIndex < 0)
+        {
+            return null;
+        }
+
+        return recordKey.substring(separatorIndex + 1);
+    }
+}
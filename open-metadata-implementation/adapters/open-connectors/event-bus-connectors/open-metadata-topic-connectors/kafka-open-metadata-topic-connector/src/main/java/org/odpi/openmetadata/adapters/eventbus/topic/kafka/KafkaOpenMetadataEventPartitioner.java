@@ -0,0 +1,86 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.utils.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * KafkaOpenMetadataEventPartitioner chooses the partition for the records sent by the
+ * KafkaOpenMetadataTopicConnector when events are keyed by instance.  Instance events are spread over the
+ * partitions of the topic by the hash of the instance GUID, so all of the events for an instance are on one
+ * partition whichever server sent them.  Registry and TypeDef events, which must be processed in the order
+ * they are sent, always go to the control partition (partition 0).
+ */
+public class KafkaOpenMetadataEventPartitioner implements Partitioner
+{
+    private static final int controlPartition = 0;
+
+
+    /**
+     * Default constructor used by the Kafka producer.
+     */
+    public KafkaOpenMetadataEventPartitioner()
+    {
+    }
+
+
+    /**
+     * Nothing to configure.
+     *
+     * @param configs producer configuration
+     */
+    @Override
+    public void configure(Map<String, ?> configs)
+    {
+    }
+
+
+    /**
+     * Return the partition for a record.
+     *
+     * @param topic topic name
+     * @param key record key
+     * @param keyBytes serialized record key
+     * @param value record value
+     * @param valueBytes serialized record value
+     * @param cluster current cluster metadata
+     * @return partition number
+     */
+    @Override
+    public int partition(String  topic,
+                         Object  key,
+                         byte[]  keyBytes,
+                         Object  value,
+                         byte[]  valueBytes,
+                         Cluster cluster)
+    {
+        String  instanceGUID   = null;
+        Integer partitionCount = cluster.partitionCountForTopic(topic);
+
+        if (key instanceof String)
+        {
+            instanceGUID = KafkaOpenMetadataEventKey.getInstanceGUID((String) key);
+        }
+
+        if ((instanceGUID == null) || (partitionCount == null) || (partitionCount <= 1))
+        {
+            return controlPartition;
+        }
+
+        return (Utils.murmur2(instanceGUID.getBytes(StandardCharsets.UTF_8)) & 0x7fffffff) % partitionCount;
+    }
+
+
+    /**
+     * Nothing to close.
+     */
+    @Override
+    public void close()
+    {
+    }
+}
@@ -37,6 +37,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     private Thread                         consumerThread = null;
     private String                         outTopic = null;
     private String                         serverId = null;
+    private boolean                        keyByInstance = false;
     private KafkaOpenMetadataEventConsumer consumer = null;
     private List<String>                   incomingEventsList = Collections.synchronizedList(new ArrayList<>());
 
@@ -107,6 +108,22 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
                 serverId = (String) additionalProperties.getProperty(KafkaOpenMetadataTopicProvider.serverIdPropertyName);
                 consumerProperties.put("group.id", serverId);
 
+                /*
+                 * When events are keyed by instance, the partitioner sends the events for each instance to the
+                 * partition chosen by its GUID, so the topic can have many partitions and consumers.
+                 */
+                Object eventKeyStrategy = additionalProperties.getProperty(KafkaOpenMetadataTopicProvider.eventKeyStrategyPropertyName);
+
+                if (KafkaOpenMetadataTopicProvider.instanceGUIDEventKeyStrategy.equals(eventKeyStrategy))
+                {
+                    keyByInstance = true;
+
+                    if (! producerProperties.containsKey("partitioner.class"))
+                    {
+                        producerProperties.put("partitioner.class", KafkaOpenMetadataEventPartitioner.class.getName());
+                    }
+                }
+
                 auditCode = KafkaOpenMetadataTopicConnectorAuditCode.SERVICE_INITIALIZING;
                 auditLog.logRecord(actionDescription,
                                    auditCode.getLogMessageId(),
@@ -229,15 +246,38 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
      * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
      */
     public void sendEvent(String event) throws ConnectorCheckedException
+    {
+        this.sendEvent(event, null);
+    }
+
+
+    /**
+     * Sends the supplied event to the topic.  The record key identifies this server so it can ignore its own
+     * events.  If events are keyed by instance, the key also includes the GUID of the instance that the
+     * event describes.
+     *
+     * @param event object containing the event properties.
+     * @param eventKey unique identifier of the instance that the event describes (may be null)
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     */
+    @Override
+    public void sendEvent(String event, String eventKey) throws ConnectorCheckedException
     {
         final String methodName = "sendEvent";
 
+        String recordKey = serverId;
+
+        if (keyByInstance)
+        {
+            recordKey = KafkaOpenMetadataEventKey.getRecordKey(serverId, eventKey);
+        }
+
         Producer<String, String> producer = new KafkaProducer<>(producerProperties);
 
         try
         {
             log.debug("Sending message {0}" + event);
-            ProducerRecord<String, String> record = new ProducerRecord<>(outTopic, serverId, event);
+            ProducerRecord<String, String> record = new ProducerRecord<>(outTopic, recordKey, event);
             producer.send(record).get();
         }
         catch (InterruptedException | ExecutionException error)
@@ -20,6 +20,15 @@ public class KafkaOpenMetadataTopicProvider extends OpenMetadataTopicProvider
     public static final String  producerPropertyName = "producer";
     public static final String  consumerPropertyName = "consumer";
     public static final String  serverIdPropertyName = "local.server.id";
+    public static final String  eventKeyStrategyPropertyName = "eventKeyStrategy";
+
+    /*
+     * Values for the event key strategy.  With the serverId strategy all of the events from a server are sent
+     * to one partition.  With the instanceGUID strategy, instance events are spread over the partitions
+     * by instance GUID and other events are sent to the control partition.
+     */
+    public static final String  serverIdEventKeyStrategy = "serverId";
+    public static final String  instanceGUIDEventKeyStrategy = "instanceGUID";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -43,6 +52,7 @@ public class KafkaOpenMetadataTopicProvider extends OpenMetadataTopicProvider
         recognizedPropertyNames.add(producerPropertyName);
         recognizedPropertyNames.add(consumerPropertyName);
         recognizedPropertyNames.add(serverIdPropertyName);
+        recognizedPropertyNames.add(eventKeyStrategyPropertyName);
 
         connectorType.setRecognizedAdditionalProperties(recognizedPropertyNames);
 
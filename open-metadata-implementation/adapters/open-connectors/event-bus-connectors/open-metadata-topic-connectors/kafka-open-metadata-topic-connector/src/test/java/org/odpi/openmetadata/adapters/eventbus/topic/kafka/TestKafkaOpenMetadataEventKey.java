@@ -0,0 +1,52 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Validate that the record keys carry the server id and the instance GUID.
+ */
+public class TestKafkaOpenMetadataEventKey
+{
+    private static final String serverId     = "3f3a4e22-7b2e-4f5b-9a5e-0c3c1a6d9b11";
+    private static final String instanceGUID = "a2c1f8e0-51d4-4c0b-8f47-6f1f2f0d2c3e";
+
+
+    /**
+     * The key of an instance event decodes back to its server id and instance GUID, and is the same every time.
+     */
+    @Test public void testInstanceKey()
+    {
+        String recordKey = KafkaOpenMetadataEventKey.getRecordKey(serverId, instanceGUID);
+
+        assertEquals(KafkaOpenMetadataEventKey.getRecordKey(serverId, instanceGUID), recordKey);
+        assertEquals(KafkaOpenMetadataEventKey.getServerId(recordKey), serverId);
+        assertEquals(KafkaOpenMetadataEventKey.getInstanceGUID(recordKey), instanceGUID);
+
+        assertNotEquals(KafkaOpenMetadataEventKey.getRecordKey("OtherServer", instanceGUID), recordKey);
+        assertEquals(KafkaOpenMetadataEventKey.getInstanceGUID(KafkaOpenMetadataEventKey.getRecordKey("OtherServer", instanceGUID)),
+                     instanceGUID);
+    }
+
+
+    /**
+     * Events that do not describe an instance are keyed by the server id alone, as are the records from
+     * servers that do not key their events by instance.
+     */
+    @Test public void testNonInstanceKey()
+    {
+        String recordKey = KafkaOpenMetadataEventKey.getRecordKey(serverId, null);
+
+        assertEquals(recordKey, serverId);
+        assertEquals(KafkaOpenMetadataEventKey.getServerId(recordKey), serverId);
+        assertNull(KafkaOpenMetadataEventKey.getInstanceGUID(recordKey));
+
+        assertNull(KafkaOpenMetadataEventKey.getServerId(null));
+        assertNull(KafkaOpenMetadataEventKey.getInstanceGUID(null));
+    }
+}
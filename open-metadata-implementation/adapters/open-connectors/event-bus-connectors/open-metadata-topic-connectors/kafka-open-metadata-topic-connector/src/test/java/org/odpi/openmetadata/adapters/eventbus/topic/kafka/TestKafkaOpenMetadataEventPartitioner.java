@@ -0,0 +1,113 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the partitioner sends the events for an instance to one partition and the other events
+ * to the control partition.
+ */
+public class TestKafkaOpenMetadataEventPartitioner
+{
+    private static final String topicName = "TestTopic";
+
+
+    /**
+     * Return the cluster metadata for a topic.
+     *
+     * @param partitionCount number of partitions in the topic
+     * @return cluster
+     */
+    private Cluster getCluster(int partitionCount)
+    {
+        Node                node       = new Node(0, "localhost", 9092);
+        List<PartitionInfo> partitions = new ArrayList<>();
+
+        for (int partition = 0; partition < partitionCount; partition++)
+        {
+            partitions.add(new PartitionInfo(topicName, partition, node, new Node[]{node}, new Node[]{node}));
+        }
+
+        return new Cluster(Collections.singletonList(node), partitions, Collections.emptySet());
+    }
+
+
+    /**
+     * Return the partition for a record key.
+     *
+     * @param partitioner partitioner to test
+     * @param key record key
+     * @param cluster cluster metadata
+     * @return partition number
+     */
+    private int getPartition(KafkaOpenMetadataEventPartitioner partitioner,
+                             String                            key,
+                             Cluster                           cluster)
+    {
+        return partitioner.partition(topicName, key, null, "event", null, cluster);
+    }
+
+
+    /**
+     * The events for an instance always go to the same partition, whichever server sends them.
+     */
+    @Test public void testInstancePartition()
+    {
+        KafkaOpenMetadataEventPartitioner partitioner = new KafkaOpenMetadataEventPartitioner();
+        Cluster                           cluster     = getCluster(8);
+        Set<Integer>                      used        = new HashSet<>();
+
+        for (int instance = 0; instance < 50; instance++)
+        {
+            String instanceGUID = "instance-" + instance;
+            int    partition    = getPartition(partitioner, KafkaOpenMetadataEventKey.getRecordKey("Server1", instanceGUID), cluster);
+
+            assertTrue((partition >= 0) && (partition < 8));
+            assertEquals(getPartition(partitioner, KafkaOpenMetadataEventKey.getRecordKey("Server1", instanceGUID), cluster), partition);
+            assertEquals(getPartition(partitioner, KafkaOpenMetadataEventKey.getRecordKey("Server2", instanceGUID), cluster), partition);
+            assertEquals(getPartition(new KafkaOpenMetadataEventPartitioner(),
+                                      KafkaOpenMetadataEventKey.getRecordKey("Server1", instanceGUID),
+                                      cluster), partition);
+
+            used.add(partition);
+        }
+
+        /*
+         * The instances are spread over the partitions.
+         */
+        assertTrue(used.size() > 1);
+    }
+
+
+    /**
+     * Events without an instance GUID, and topics with a single partition or unknown metadata, use the
+     * control partition.
+     */
+    @Test public void testControlPartition()
+    {
+        KafkaOpenMetadataEventPartitioner partitioner = new KafkaOpenMetadataEventPartitioner();
+        Cluster                           cluster     = getCluster(8);
+
+        assertEquals(getPartition(partitioner, KafkaOpenMetadataEventKey.getRecordKey("Server1", null), cluster), 0);
+        assertEquals(getPartition(partitioner, null, cluster), 0);
+        assertEquals(partitioner.partition(topicName, 42, null, "event", null, cluster), 0);
+
+        String instanceKey = KafkaOpenMetadataEventKey.getRecordKey("Server1", "instance-1");
+
+        assertEquals(getPartition(partitioner, instanceKey, getCluster(1)), 0);
+        assertEquals(getPartition(partitioner, instanceKey, Cluster.empty()), 0);
+    }
+}
@@ -1,19 +1,43 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * FileBasedOpenMetadataArchiveStoreConnector stores an open metadata archive as a JSON file.  When the archive
+ * is loaded into a repository, the file is read incrementally with the Jackson streaming API so the entities and
+ * relationships are passed to the repository in batches rather than building the whole archive in memory.
+ * The batches can optionally be applied by a pool of threads.
+ */
 public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
 {
     /*
@@ -21,11 +45,26 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
      */
     private static final String defaultFilename = "open.metadata.archive";
 
+    /*
+     * These are the names of the fields of the archive that are read incrementally.
+     */
+    private static final String archivePropertiesFieldName    = "archiveProperties";
+    private static final String archiveTypeStoreFieldName     = "archiveTypeStore";
+    private static final String archiveInstanceStoreFieldName = "archiveInstanceStore";
+    private static final String entitiesFieldName             = "entities";
+    private static final String relationshipsFieldName        = "relationships";
+
     /*
      * Variables used in writing to the file.
      */
     private String archiveStoreName = null;
 
+    /*
+     * Variables used when the archive is read incrementally.
+     */
+    private int    loadBatchSize    = FileBasedOpenMetadataArchiveStoreProvider.defaultLoadBatchSize;
+    private int    loadParallelism  = FileBasedOpenMetadataArchiveStoreProvider.defaultLoadParallelism;
+
     /*
      * Variables used for logging and debug.
      */
@@ -56,6 +95,18 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
         {
             archiveStoreName = defaultFilename;
         }
+
+        AdditionalProperties additionalProperties = connectionProperties.getAdditionalProperties();
+
+        if (additionalProperties != null)
+        {
+            loadBatchSize = getIntProperty(additionalProperties,
+                                           FileBasedOpenMetadataArchiveStoreProvider.loadBatchSizeProperty,
+                                           loadBatchSize);
+            loadParallelism = getIntProperty(additionalProperties,
+                                             FileBasedOpenMetadataArchiveStoreProvider.loadParallelismProperty,
+                                             loadParallelism);
+        }
     }
 
 
@@ -100,6 +151,267 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Pass the contents of the archive to a processor as the file is read.  The archive properties and the type
+     * store are read as single objects.  The entities and relationships are read one at a time and passed to
+     * the processor in batches.
+     * <p>
+     * The file is scanned before any of it is passed to the processor to check that it is complete and that its
+     * sections are in the order that the processor needs them.  If the archive properties are not the first field
+     * in the file, or the instance store comes before the type store (for example because it was written by a
+     * different tool) the whole archive is read before it is processed.
+     *
+     * @param processor receiver of the contents of the archive
+     * @return false if the archive has no contents
+     * @throws RepositoryErrorException the file could not be read, or the processor failed to process a batch of
+     *                                  instances.  Some of its contents may have been passed to the processor.
+     */
+    @Override
+    public boolean processArchiveContents(OpenMetadataArchiveContentProcessor   processor) throws RepositoryErrorException
+    {
+        final String   methodName       = "processArchiveContents";
+        File           archiveStoreFile = new File(archiveStoreName);
+
+        if (! this.isStreamable(archiveStoreFile, methodName))
+        {
+            return super.processArchiveContents(processor);
+        }
+
+        ObjectMapper   objectMapper     = new ObjectMapper();
+        BatchProcessor batchProcessor   = new BatchProcessor(processor);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(archiveStoreFile))
+        {
+            if (log.isDebugEnabled())
+            {
+                log.debug("Streaming open metadata archive " + archiveStoreName);
+            }
+
+            parser.nextToken();
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+
+                parser.nextToken();
+
+                if (archivePropertiesFieldName.equals(fieldName))
+                {
+                    processor.processArchiveProperties(parser.readValueAs(OpenMetadataArchiveProperties.class));
+                }
+                else if (archiveTypeStoreFieldName.equals(fieldName))
+                {
+                    OpenMetadataArchiveTypeStore archiveTypeStore = parser.readValueAs(OpenMetadataArchiveTypeStore.class);
+
+                    if (archiveTypeStore != null)
+                    {
+                        processor.processTypeStore(archiveTypeStore);
+                    }
+                }
+                else if (archiveInstanceStoreFieldName.equals(fieldName))
+                {
+                    readInstanceStore(parser, batchProcessor);
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            /*
+             * An error part way through the file means only some of the archive has been processed.
+             */
+            throw this.getReadException(ioException, methodName);
+        }
+        finally
+        {
+            batchProcessor.shutdown();
+        }
+
+        batchProcessor.throwBatchError(methodName);
+
+        return true;
+    }
+
+
+    /**
+     * Scan the file without building any objects to check that it is valid JSON and that the archive properties
+     * come first, followed by the type store (if any) and then the instance store (if any).  This is the order
+     * that the archive is written in by this connector.
+     *
+     * @param archiveStoreFile file to scan
+     * @param methodName calling method
+     * @return true if the archive can be streamed, false if it is missing or its sections are in a different order
+     * @throws RepositoryErrorException the file exists but could not be read
+     */
+    private boolean isStreamable(File     archiveStoreFile,
+                                 String   methodName) throws RepositoryErrorException
+    {
+        try (JsonParser parser = new ObjectMapper().getFactory().createParser(archiveStoreFile))
+        {
+            if ((parser.nextToken() != JsonToken.START_OBJECT) ||
+                (parser.nextToken() != JsonToken.FIELD_NAME) ||
+                (! archivePropertiesFieldName.equals(parser.getCurrentName())))
+            {
+                return false;
+            }
+
+            boolean isInOrder           = true;
+            boolean instanceStoreIsRead = false;
+
+            do
+            {
+                String fieldName = parser.getCurrentName();
+
+                if (archiveTypeStoreFieldName.equals(fieldName) && instanceStoreIsRead)
+                {
+                    isInOrder = false;
+                }
+                else if (archiveInstanceStoreFieldName.equals(fieldName))
+                {
+                    instanceStoreIsRead = true;
+                }
+
+                parser.nextToken();
+                parser.skipChildren();
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME);
+
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT)
+            {
+                throw new IOException("Unexpected end of open metadata archive");
+            }
+
+            return isInOrder;
+        }
+        catch (FileNotFoundException notFound)
+        {
+            /*
+             * A missing file is treated as an empty archive as it is by getArchiveContents().
+             */
+            if (log.isDebugEnabled())
+            {
+                log.debug("Unable to stream open metadata archive " + archiveStoreName, notFound);
+            }
+
+            return false;
+        }
+        catch (IOException ioException)
+        {
+            throw this.getReadException(ioException, methodName);
+        }
+    }
+
+
+    /**
+     * Return the exception for a file that could not be read.
+     *
+     * @param ioException error from reading the file
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private RepositoryErrorException getReadException(IOException   ioException,
+                                                      String        methodName)
+    {
+        log.error("Unable to read open metadata archive " + archiveStoreName, ioException);
+
+        OMRSErrorCode errorCode    = OMRSErrorCode.ARCHIVE_READ_FAILED;
+        String        errorMessage = errorCode.getErrorMessageId()
+                                   + errorCode.getFormattedErrorMessage(archiveStoreName, ioException.getMessage());
+
+        return new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            errorMessage,
+                                            errorCode.getSystemAction(),
+                                            errorCode.getUserAction(),
+                                            ioException);
+    }
+
+
+    /**
+     * Read the instance store of the archive, passing the entities and relationships to the batch processor
+     * as they are read.
+     *
+     * @param parser parser positioned at the start of the instance store
+     * @param batchProcessor receiver of the batches
+     * @throws IOException the file is not valid
+     */
+    private void readInstanceStore(JsonParser       parser,
+                                   BatchProcessor   batchProcessor) throws IOException
+    {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String    fieldName = parser.getCurrentName();
+            JsonToken token     = parser.nextToken();
+
+            if ((entitiesFieldName.equals(fieldName)) && (token == JsonToken.START_ARRAY))
+            {
+                List<EntityDetail> entities = new ArrayList<>();
+
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    EntityDetail entity = parser.readValueAs(EntityDetail.class);
+
+                    if (entity != null)
+                    {
+                        entities.add(entity);
+                    }
+
+                    if (entities.size() >= loadBatchSize)
+                    {
+                        batchProcessor.submitEntities(entities);
+                        entities = new ArrayList<>();
+                    }
+                }
+
+                batchProcessor.submitEntities(entities);
+            }
+            else if ((relationshipsFieldName.equals(fieldName)) && (token == JsonToken.START_ARRAY))
+            {
+                /*
+                 * Relationships refer to the entities so all of the entities must be in place first.
+                 */
+                batchProcessor.waitForBatches();
+
+                List<Relationship> relationships = new ArrayList<>();
+
+                while (parser.nextToken() != JsonToken.END_ARRAY)
+                {
+                    Relationship relationship = parser.readValueAs(Relationship.class);
+
+                    if (relationship != null)
+                    {
+                        relationships.add(relationship);
+                    }
+
+                    if (relationships.size() >= loadBatchSize)
+                    {
+                        batchProcessor.submitRelationships(relationships);
+                        relationships = new ArrayList<>();
+                    }
+                }
+
+                batchProcessor.submitRelationships(relationships);
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+
+        batchProcessor.waitForBatches();
+    }
+
+
     /**
      * Set new contents into the archive.  This overrides any content previously stored.
      *
@@ -139,6 +451,45 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Return a numeric additional property, or the default value if it is not set or not a positive number.
+     *
+     * @param additionalProperties additional properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is missing or invalid
+     * @return property value
+     */
+    private int getIntProperty(AdditionalProperties additionalProperties,
+                               String               propertyName,
+                               int                  defaultValue)
+    {
+        Object propertyValue = additionalProperties.getProperty(propertyName);
+
+        if (propertyValue != null)
+        {
+            try
+            {
+                int value = Integer.parseInt(propertyValue.toString());
+
+                if (value > 0)
+                {
+                    return value;
+                }
+            }
+            catch (NumberFormatException  error)
+            {
+                /*
+                 * Logged below.
+                 */
+            }
+
+            log.error("Ignoring invalid " + propertyName + " property: " + propertyValue);
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
@@ -164,4 +515,186 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
             log.debug("Closing Config Store.");
         }
     }
+
+
+    /**
+     * BatchProcessor passes the batches of instances to the processor.  With the default parallelism of 1
+     * each batch is processed on the reading thread.  Otherwise the batches are processed by a pool of threads
+     * and the number of batches waiting to be processed is limited so the memory used stays bounded.
+     * The first batch that fails is remembered and no more batches are passed to the processor.
+     */
+    private class BatchProcessor
+    {
+        private final OpenMetadataArchiveContentProcessor processor;
+        private final ExecutorService                     executor;
+        private final Semaphore                           pendingBatches;
+        private final int                                 maxPendingBatches;
+        private final AtomicReference<Throwable>          batchError = new AtomicReference<>();
+
+
+        /**
+         * Constructor
+         *
+         * @param processor receiver of the contents of the archive
+         */
+        BatchProcessor(OpenMetadataArchiveContentProcessor   processor)
+        {
+            this.processor = processor;
+            this.maxPendingBatches = loadParallelism * 2;
+            this.pendingBatches = new Semaphore(maxPendingBatches);
+
+            if (loadParallelism > 1)
+            {
+                this.executor = Executors.newFixedThreadPool(loadParallelism);
+            }
+            else
+            {
+                this.executor = null;
+            }
+        }
+
+
+        /**
+         * Pass a batch of entities to the processor.
+         *
+         * @param entities list of entities
+         */
+        void submitEntities(List<EntityDetail>   entities)
+        {
+            if (! entities.isEmpty())
+            {
+                submit(() -> processor.processEntities(entities));
+            }
+        }
+
+
+        /**
+         * Pass a batch of relationships to the processor.
+         *
+         * @param relationships list of relationships
+         */
+        void submitRelationships(List<Relationship>   relationships)
+        {
+            if (! relationships.isEmpty())
+            {
+                submit(() -> processor.processRelationships(relationships));
+            }
+        }
+
+
+        /**
+         * Run a batch on the reading thread or pass it to the thread pool.
+         *
+         * @param batch processing of the batch
+         */
+        private void submit(Runnable   batch)
+        {
+            if (batchError.get() != null)
+            {
+                return;
+            }
+
+            if (executor == null)
+            {
+                run(batch);
+                return;
+            }
+
+            pendingBatches.acquireUninterruptibly();
+
+            executor.execute(() ->
+                             {
+                                 try
+                                 {
+                                     run(batch);
+                                 }
+                                 finally
+                                 {
+                                     pendingBatches.release();
+                                 }
+                             });
+        }
+
+
+        /**
+         * Run a batch, remembering the error if it is the first batch to fail.
+         *
+         * @param batch processing of the batch
+         */
+        private void run(Runnable   batch)
+        {
+            try
+            {
+                batch.run();
+            }
+            catch (Throwable error)
+            {
+                log.error("Unable to process batch from open metadata archive " + archiveStoreName, error);
+
+                batchError.compareAndSet(null, error);
+            }
+        }
+
+
+        /**
+         * Throw an exception if a batch has failed.  This is called once all of the batches have completed.
+         *
+         * @param methodName calling method
+         * @throws RepositoryErrorException a batch failed
+         */
+        void throwBatchError(String   methodName) throws RepositoryErrorException
+        {
+            Throwable error = batchError.get();
+
+            if (error != null)
+            {
+                OMRSErrorCode errorCode    = OMRSErrorCode.ARCHIVE_BATCH_FAILED;
+                String        errorMessage = errorCode.getErrorMessageId()
+                                           + errorCode.getFormattedErrorMessage(archiveStoreName, error.getMessage());
+
+                throw new RepositoryErrorException(errorCode.getHTTPErrorCode(),
+                                                   FileBasedOpenMetadataArchiveStoreConnector.class.getName(),
+                                                   methodName,
+                                                   errorMessage,
+                                                   errorCode.getSystemAction(),
+                                                   errorCode.getUserAction(),
+                                                   error);
+            }
+        }
+
+
+        /**
+         * Wait for the batches that have been passed to the thread pool to complete.
+         */
+        void waitForBatches()
+        {
+            if (executor != null)
+            {
+                pendingBatches.acquireUninterruptibly(maxPendingBatches);
+                pendingBatches.release(maxPendingBatches);
+            }
+        }
+
+
+        /**
+         * Wait for the outstanding batches and stop the thread pool.
+         */
+        void shutdown()
+        {
+            if (executor != null)
+            {
+                waitForBatches();
+                executor.shutdown();
+
+                try
+                {
+                    executor.awaitTermination(1, TimeUnit.MINUTES);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
 }
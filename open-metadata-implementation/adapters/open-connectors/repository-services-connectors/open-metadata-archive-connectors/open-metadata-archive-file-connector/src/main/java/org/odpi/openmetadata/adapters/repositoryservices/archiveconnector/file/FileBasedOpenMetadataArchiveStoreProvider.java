@@ -5,6 +5,9 @@ package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * FileBasedOpenMetadataArchiveStoreProvider is the OCF connector provider for the file based server configuration store.
  */
@@ -14,6 +17,11 @@ public class FileBasedOpenMetadataArchiveStoreProvider extends OpenMetadataArchi
     static final String  connectorTypeName = "File Based Open Metadata Archive Store Connector";
     static final String  connectorTypeDescription = "Connector supports storing of an open metadata archive in a file.";
 
+    static final String  loadBatchSizeProperty = "loadBatchSize";
+    static final int     defaultLoadBatchSize = 500;
+    static final String  loadParallelismProperty = "loadParallelism";
+    static final int     defaultLoadParallelism = 1;
+
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
      * configuration store implementation.
@@ -32,6 +40,12 @@ public class FileBasedOpenMetadataArchiveStoreProvider extends OpenMetadataArchi
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedAdditionalProperties = new ArrayList<>();
+        recognizedAdditionalProperties.add(loadBatchSizeProperty);
+        recognizedAdditionalProperties.add(loadParallelismProperty);
+
+        connectorType.setRecognizedAdditionalProperties(recognizedAdditionalProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
@@ -0,0 +1,444 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.archiveconnector.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test that the FileBasedOpenMetadataArchiveStoreConnector passes the contents of an archive file to
+ * the processor in the right order, and reports the files that it is unable to read.
+ */
+public class TestFileBasedOpenMetadataArchiveStoreConnector
+{
+    private File archiveFile = null;
+
+
+    /**
+     * Set up a new file name for each test.
+     *
+     * @throws Exception unable to create the temporary file
+     */
+    @BeforeMethod public void createArchiveFile() throws Exception
+    {
+        archiveFile = File.createTempFile("TestArchive", ".json");
+    }
+
+
+    /**
+     * Remove the archive file.
+     */
+    @AfterMethod public void deleteArchiveFile()
+    {
+        archiveFile.delete();
+    }
+
+
+    /**
+     * Return a connector for the archive file that passes the instances in batches of two on the reading thread.
+     *
+     * @return connector
+     */
+    private FileBasedOpenMetadataArchiveStoreConnector getConnector()
+    {
+        return getConnector(1);
+    }
+
+
+    /**
+     * Return a connector for the archive file that passes the instances in batches of two.
+     *
+     * @param loadParallelism number of threads processing the batches
+     * @return connector
+     */
+    private FileBasedOpenMetadataArchiveStoreConnector getConnector(int loadParallelism)
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setType(Endpoint.getEndpointType());
+        endpoint.setAddress(archiveFile.getAbsolutePath());
+
+        ConnectorType connectorType = new ConnectorType();
+
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setConnectorProviderClassName(FileBasedOpenMetadataArchiveStoreProvider.class.getName());
+
+        Map<String, Object> additionalProperties = new HashMap<>();
+
+        additionalProperties.put(FileBasedOpenMetadataArchiveStoreProvider.loadBatchSizeProperty, "2");
+        additionalProperties.put(FileBasedOpenMetadataArchiveStoreProvider.loadParallelismProperty, Integer.toString(loadParallelism));
+
+        Connection connection = new Connection();
+
+        connection.setType(Connection.getConnectionType());
+        connection.setEndpoint(endpoint);
+        connection.setConnectorType(connectorType);
+        connection.setAdditionalProperties(additionalProperties);
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = new FileBasedOpenMetadataArchiveStoreConnector();
+
+        connector.initialize("TestConnector", new ConnectionProperties(connection));
+
+        return connector;
+    }
+
+
+    /**
+     * Return the sections of an archive with three entities and two relationships.
+     *
+     * @return map of field name to section in the order they are written by the connector
+     */
+    private Map<String, Object> getArchiveSections()
+    {
+        OpenMetadataArchiveProperties archiveProperties = new OpenMetadataArchiveProperties();
+
+        archiveProperties.setArchiveGUID("TestArchiveGUID");
+        archiveProperties.setArchiveName("TestArchive");
+
+        OpenMetadataArchiveTypeStore archiveTypeStore = new OpenMetadataArchiveTypeStore();
+
+        archiveTypeStore.setNewTypeDefs(new ArrayList<>());
+
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 1; i <= 3; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID("Entity" + i);
+            entities.add(entity);
+        }
+
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (int i = 1; i <= 2; i++)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID("Relationship" + i);
+            relationships.add(relationship);
+        }
+
+        OpenMetadataArchiveInstanceStore archiveInstanceStore = new OpenMetadataArchiveInstanceStore();
+
+        archiveInstanceStore.setEntities(entities);
+        archiveInstanceStore.setRelationships(relationships);
+
+        Map<String, Object> sections = new LinkedHashMap<>();
+
+        sections.put("archiveProperties", archiveProperties);
+        sections.put("archiveTypeStore", archiveTypeStore);
+        sections.put("archiveInstanceStore", archiveInstanceStore);
+
+        return sections;
+    }
+
+
+    /**
+     * Write the sections of an archive to the archive file in the requested order.
+     *
+     * @param sections map of field name to section
+     * @param fieldNames order of the sections
+     * @throws Exception unable to write the file
+     */
+    private void writeArchiveFile(Map<String, Object> sections, String... fieldNames) throws Exception
+    {
+        Map<String, Object> archive = new LinkedHashMap<>();
+
+        for (String fieldName : fieldNames)
+        {
+            archive.put(fieldName, sections.get(fieldName));
+        }
+
+        new ObjectMapper().writeValue(archiveFile, archive);
+    }
+
+
+    /**
+     * An archive written by the connector is streamed in order, with the instances in batches.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testStreamedArchive() throws Exception
+    {
+        Map<String, Object> sections = getArchiveSections();
+        OpenMetadataArchive archive  = new OpenMetadataArchive();
+
+        archive.setArchiveProperties((OpenMetadataArchiveProperties) sections.get("archiveProperties"));
+        archive.setArchiveTypeStore((OpenMetadataArchiveTypeStore) sections.get("archiveTypeStore"));
+        archive.setArchiveInstanceStore((OpenMetadataArchiveInstanceStore) sections.get("archiveInstanceStore"));
+
+        FileBasedOpenMetadataArchiveStoreConnector connector = getConnector();
+        RecordingProcessor                         processor = new RecordingProcessor();
+
+        connector.setArchiveContents(archive);
+
+        assertTrue(connector.processArchiveContents(processor));
+        assertEquals(processor.calls, Arrays.asList("properties:TestArchive",
+                                                    "types",
+                                                    "entities:Entity1,Entity2",
+                                                    "entities:Entity3",
+                                                    "relationships:Relationship1,Relationship2"));
+    }
+
+
+    /**
+     * An archive with the instance store before the type store is read whole so the types are still
+     * processed before the instances.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInstancesBeforeTypes() throws Exception
+    {
+        writeArchiveFile(getArchiveSections(), "archiveProperties", "archiveInstanceStore", "archiveTypeStore");
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        assertTrue(getConnector().processArchiveContents(processor));
+        assertEquals(processor.calls, Arrays.asList("properties:TestArchive",
+                                                    "types",
+                                                    "entities:Entity1,Entity2,Entity3",
+                                                    "relationships:Relationship1,Relationship2"));
+    }
+
+
+    /**
+     * An archive that does not start with its properties is read whole.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testPropertiesNotFirst() throws Exception
+    {
+        writeArchiveFile(getArchiveSections(), "archiveTypeStore", "archiveInstanceStore", "archiveProperties");
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        assertTrue(getConnector().processArchiveContents(processor));
+        assertEquals(processor.calls, Arrays.asList("properties:TestArchive",
+                                                    "types",
+                                                    "entities:Entity1,Entity2,Entity3",
+                                                    "relationships:Relationship1,Relationship2"));
+    }
+
+
+    /**
+     * A truncated archive is rejected before any of it is processed.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testTruncatedArchive() throws Exception
+    {
+        writeArchiveFile(getArchiveSections(), "archiveProperties", "archiveTypeStore", "archiveInstanceStore");
+
+        String contents = FileUtils.readFileToString(archiveFile, "UTF-8");
+
+        FileUtils.writeStringToFile(archiveFile, contents.substring(0, contents.indexOf("Entity3")), "UTF-8");
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        try
+        {
+            getConnector().processArchiveContents(processor);
+            fail("Truncated archive accepted");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(error.getErrorMessage().contains("OMRS-ARCHIVE-STORE-500-001"));
+        }
+
+        assertEquals(processor.calls, Collections.emptyList());
+    }
+
+
+    /**
+     * An instance that can not be read part way through the archive stops the processing with an exception
+     * after the earlier batches are processed.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testUnreadableInstance() throws Exception
+    {
+        writeArchiveFile(getArchiveSections(), "archiveProperties", "archiveTypeStore", "archiveInstanceStore");
+
+        String contents = FileUtils.readFileToString(archiveFile, "UTF-8");
+
+        FileUtils.writeStringToFile(archiveFile, contents.replace("\"Entity3\"", "[\"Entity3\"]"), "UTF-8");
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        try
+        {
+            getConnector().processArchiveContents(processor);
+            fail("Unreadable archive accepted");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(error.getErrorMessage().contains("OMRS-ARCHIVE-STORE-500-001"));
+        }
+
+        assertEquals(processor.calls, Arrays.asList("properties:TestArchive",
+                                                    "types",
+                                                    "entities:Entity1,Entity2"));
+    }
+
+
+    /**
+     * Process an archive with a processor that fails on the batch holding Entity3, and check that the failure
+     * is reported and that the relationships are not processed.
+     *
+     * @param loadParallelism number of threads processing the batches
+     * @throws Exception unexpected error
+     */
+    private void validateFailedBatch(int loadParallelism) throws Exception
+    {
+        writeArchiveFile(getArchiveSections(), "archiveProperties", "archiveTypeStore", "archiveInstanceStore");
+
+        RecordingProcessor processor = new RecordingProcessor()
+        {
+            @Override
+            public void processEntities(List<EntityDetail> entities)
+            {
+                if (entities.get(0).getGUID().equals("Entity3"))
+                {
+                    throw new IllegalStateException("Test batch failure");
+                }
+
+                super.processEntities(entities);
+            }
+        };
+
+        try
+        {
+            getConnector(loadParallelism).processArchiveContents(processor);
+            fail("Failed batch not reported");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(error.getErrorMessage().contains("OMRS-ARCHIVE-STORE-500-002"));
+            assertTrue(error.getErrorMessage().contains("Test batch failure"));
+        }
+
+        assertEquals(processor.calls, Arrays.asList("properties:TestArchive",
+                                                    "types",
+                                                    "entities:Entity1,Entity2"));
+    }
+
+
+    /**
+     * A batch that fails on the reading thread stops the processing with an exception.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testFailedBatch() throws Exception
+    {
+        validateFailedBatch(1);
+    }
+
+
+    /**
+     * A batch that fails in the thread pool stops the processing with an exception once the other batches
+     * have completed.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testFailedParallelBatch() throws Exception
+    {
+        validateFailedBatch(3);
+    }
+
+
+    /**
+     * A missing archive file has no contents.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testMissingArchive() throws Exception
+    {
+        archiveFile.delete();
+
+        RecordingProcessor processor = new RecordingProcessor();
+
+        getConnector().processArchiveContents(processor);
+
+        assertEquals(processor.calls, Collections.emptyList());
+    }
+
+
+    /**
+     * RecordingProcessor keeps a list of the calls made to it.
+     */
+    private class RecordingProcessor implements OpenMetadataArchiveContentProcessor
+    {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+
+        @Override
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            calls.add("properties:" + archiveProperties.getArchiveName());
+        }
+
+
+        @Override
+        public void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore)
+        {
+            calls.add("types");
+        }
+
+
+        @Override
+        public void processEntities(List<EntityDetail> entities)
+        {
+            List<String> guids = new ArrayList<>();
+
+            for (EntityDetail entity : entities)
+            {
+                guids.add(entity.getGUID());
+            }
+
+            calls.add("entities:" + String.join(",", guids));
+        }
+
+
+        @Override
+        public void processRelationships(List<Relationship> relationships)
+        {
+            List<String> guids = new ArrayList<>();
+
+            for (Relationship relationship : relationships)
+            {
+                guids.add(relationship.getGUID());
+            }
+
+            calls.add("relationships:" + String.join(",", guids));
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * InMemoryOMRSInstanceCompactor reduces the memory used by the instances held in the InMemoryOMRSMetadataStore.
+ * Every instance of a type shares one copy of its InstanceType, the properties of each instance are held in an
+ * InMemoryOMRSPropertyMap that uses the slot layout of its type, and the strings that are repeated across many
+ * instances (user ids, metadata collection ids and the type names of property values) are shared.  The shared
+ * strings are held weakly so a string is dropped from the dictionary once no stored instance uses it.
+ * <p>
+ * The instances remain normal OMRS beans so the search methods of the metadata collection work on them
+ * unchanged.  The compacted properties are installed as shared maps, so an instance is only expanded back into
+ * a HashMap when a caller updates a copy of it.  The dictionaries are not thread-safe: the store only calls the
+ * compactor from its synchronized methods.
+ */
+class InMemoryOMRSInstanceCompactor
+{
+    private Map<String, InstanceType>                    types   = new HashMap<>();
+    private Map<String, InMemoryOMRSPropertyMap.Layout>  layouts = new HashMap<>();
+    private Map<String, WeakReference<String>>           strings = new WeakHashMap<>();
+
+
+    /**
+     * Default constructor
+     */
+    InMemoryOMRSInstanceCompactor()
+    {
+    }
+
+
+    /**
+     * Compact an entity before it is saved in the store.
+     *
+     * @param entity entity to compact
+     */
+    void compactEntity(EntityDetail   entity)
+    {
+        if (entity != null)
+        {
+            InstanceType type = compactHeader(entity);
+
+            entity.setProperties(compactProperties(type, entity.getProperties()));
+            compactClassifications(entity);
+        }
+    }
+
+
+    /**
+     * Compact an entity proxy before it is saved in the store.
+     *
+     * @param entityProxy entity proxy to compact
+     */
+    void compactEntityProxy(EntityProxy   entityProxy)
+    {
+        if (entityProxy != null)
+        {
+            InstanceType type = compactHeader(entityProxy);
+
+            entityProxy.setUniqueProperties(compactProperties(type, entityProxy.getUniqueProperties()));
+            compactClassifications(entityProxy);
+        }
+    }
+
+
+    /**
+     * Compact a relationship, and the proxies of the entities at each end, before it is saved in the store.
+     *
+     * @param relationship relationship to compact
+     */
+    void compactRelationship(Relationship   relationship)
+    {
+        if (relationship != null)
+        {
+            InstanceType type = compactHeader(relationship);
+
+            relationship.setProperties(compactProperties(type, relationship.getProperties()));
+
+            EntityProxy entityOneProxy = relationship.getEntityOneProxy();
+            EntityProxy entityTwoProxy = relationship.getEntityTwoProxy();
+
+            compactEntityProxy(entityOneProxy);
+            compactEntityProxy(entityTwoProxy);
+
+            relationship.setEntityOneProxy(entityOneProxy);
+            relationship.setEntityTwoProxy(entityTwoProxy);
+        }
+    }
+
+
+    /**
+     * Share the type and the repeated strings of the instance header.
+     *
+     * @param instance instance to compact
+     * @return shared type of the instance (may be null)
+     */
+    private InstanceType compactHeader(InstanceHeader   instance)
+    {
+        instance.setMetadataCollectionId(compactString(instance.getMetadataCollectionId()));
+
+        return compactAuditHeader(instance);
+    }
+
+
+    /**
+     * Share the type and the user ids of an instance or classification.
+     *
+     * @param instance instance or classification to compact
+     * @return shared type of the instance (may be null)
+     */
+    private InstanceType compactAuditHeader(InstanceAuditHeader   instance)
+    {
+        InstanceType type = compactType(instance.getType());
+
+        instance.setType(type);
+        instance.setCreatedBy(compactString(instance.getCreatedBy()));
+        instance.setUpdatedBy(compactString(instance.getUpdatedBy()));
+
+        return type;
+    }
+
+
+    /**
+     * Compact the classifications of an entity in place.  The list itself already belongs to the entity.
+     *
+     * @param entity entity or entity proxy
+     */
+    private void compactClassifications(EntitySummary   entity)
+    {
+        List<Classification> classifications = entity.getReadOnlyClassifications();
+
+        if (classifications != null)
+        {
+            for (Classification classification : classifications)
+            {
+                if (classification != null)
+                {
+                    InstanceType type = compactAuditHeader(classification);
+
+                    classification.setProperties(compactProperties(type, classification.getProperties()));
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the shared copy of an instance type.  If the type has changed (for example because the TypeDef was
+     * updated without a new version number) the new type replaces the old one, along with its layout.
+     *
+     * @param type type from an instance
+     * @return shared type
+     */
+    private InstanceType compactType(InstanceType   type)
+    {
+        if ((type == null) || (type.getTypeDefGUID() == null))
+        {
+            return type;
+        }
+
+        String       typeKey        = getTypeKey(type);
+        InstanceType sharedType     = types.get(typeKey);
+
+        if (type.equals(sharedType))
+        {
+            return sharedType;
+        }
+
+        type.setTypeDefGUID(compactString(type.getTypeDefGUID()));
+        type.setTypeDefName(compactString(type.getTypeDefName()));
+
+        types.put(typeKey, type);
+        layouts.remove(typeKey);
+
+        return type;
+    }
+
+
+    /**
+     * Return the properties of an instance held in an InMemoryOMRSPropertyMap.  The original properties are
+     * returned if they do not fit the layout of the type, so an instance is never changed by compacting it.
+     *
+     * @param type shared type of the instance
+     * @param properties properties of the instance
+     * @return compacted properties
+     */
+    private InstanceProperties compactProperties(InstanceType         type,
+                                                 InstanceProperties   properties)
+    {
+        if ((type == null) || (properties == null))
+        {
+            return properties;
+        }
+
+        Map<String, InstancePropertyValue> propertyMap = properties.getReadOnlyInstanceProperties();
+        InMemoryOMRSPropertyMap.Layout     layout      = getLayout(type);
+
+        if ((layout == null) || (propertyMap.size() > layout.getSlotCount()))
+        {
+            return properties;
+        }
+
+        InstancePropertyValue[] slots         = new InstancePropertyValue[layout.getSlotCount()];
+        int                     propertyCount = 0;
+
+        for (Map.Entry<String, InstancePropertyValue> property : propertyMap.entrySet())
+        {
+            int slot = layout.getSlot(property.getKey());
+
+            if (slot < 0)
+            {
+                return properties;
+            }
+
+            InstancePropertyValue value = property.getValue();
+
+            if (value != null)
+            {
+                value.setTypeGUID(compactString(value.getTypeGUID()));
+                value.setTypeName(compactString(value.getTypeName()));
+                propertyCount++;
+            }
+
+            slots[slot] = value;
+        }
+
+        /*
+         * The copy keeps the effectivity dates of the original properties.
+         */
+        InstanceProperties compactedProperties = new InstanceProperties(properties);
+
+        compactedProperties.setSharedInstanceProperties(new InMemoryOMRSPropertyMap(layout, slots, propertyCount));
+
+        return compactedProperties;
+    }
+
+
+    /**
+     * Return the slot layout for a type, building it the first time the type is seen.
+     *
+     * @param type shared type
+     * @return layout or null if the type does not list its properties
+     */
+    private InMemoryOMRSPropertyMap.Layout getLayout(InstanceType   type)
+    {
+        String                         typeKey = getTypeKey(type);
+        InMemoryOMRSPropertyMap.Layout layout  = layouts.get(typeKey);
+
+        if (layout == null)
+        {
+            List<String> propertyNames = type.getValidInstanceProperties();
+
+            if (propertyNames == null)
+            {
+                return null;
+            }
+
+            layout = new InMemoryOMRSPropertyMap.Layout(propertyNames);
+            layouts.put(typeKey, layout);
+        }
+
+        return layout;
+    }
+
+
+    /**
+     * Return the key of a type in the dictionaries.
+     *
+     * @param type instance type
+     * @return guid and version of the type
+     */
+    private String getTypeKey(InstanceType   type)
+    {
+        return type.getTypeDefGUID() + ":" + type.getTypeDefVersion();
+    }
+
+
+    /**
+     * Return the shared copy of a string.
+     *
+     * @param value string from an instance
+     * @return shared string
+     */
+    private String compactString(String   value)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+
+        WeakReference<String> sharedReference = strings.get(value);
+        String                sharedValue     = null;
+
+        if (sharedReference != null)
+        {
+            sharedValue = sharedReference.get();
+        }
+
+        if (sharedValue == null)
+        {
+            /*
+             * The dictionary value must not refer strongly to its key or the entry would never be dropped.
+             */
+            strings.put(value, new WeakReference<>(value));
+
+            return value;
+        }
+
+        return sharedValue;
+    }
+}
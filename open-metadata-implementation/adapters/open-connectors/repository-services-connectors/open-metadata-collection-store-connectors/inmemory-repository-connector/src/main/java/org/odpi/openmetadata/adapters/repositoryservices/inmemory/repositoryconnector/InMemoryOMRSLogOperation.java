@@ -0,0 +1,100 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+
+/**
+ * InMemoryOMRSLogOperation identifies the change to the InMemoryOMRSMetadataStore that is recorded in each
+ * record of the write-ahead log.  There is one operation for each method that changes the store, and the payload
+ * of the record is the parameter that was passed to the method.  The code is written into the log so it must
+ * not change once it is in use.
+ */
+enum InMemoryOMRSLogOperation
+{
+    PUT_ATTRIBUTE_TYPEDEF        (1,  AttributeTypeDef.class),
+    PUT_TYPEDEF                  (2,  TypeDef.class),
+    CREATE_ENTITY                (3,  EntityDetail.class),
+    UPDATE_ENTITY                (4,  EntityDetail.class),
+    SAVE_REFERENCE_ENTITY        (5,  EntityDetail.class),
+    RESTORE_ENTITY               (6,  String.class),
+    REMOVE_ENTITY                (7,  EntityDetail.class),
+    REMOVE_REFERENCE_ENTITY      (8,  String.class),
+    PUT_ENTITY_PROXY             (9,  EntityProxy.class),
+    REMOVE_ENTITY_PROXY          (10, String.class),
+    CREATE_RELATIONSHIP          (11, Relationship.class),
+    UPDATE_RELATIONSHIP          (12, Relationship.class),
+    SAVE_REFERENCE_RELATIONSHIP  (13, Relationship.class),
+    RESTORE_RELATIONSHIP         (14, String.class),
+    REMOVE_RELATIONSHIP          (15, Relationship.class),
+    REMOVE_REFERENCE_RELATIONSHIP(16, String.class);
+
+    private static final InMemoryOMRSLogOperation[] operationsByCode = new InMemoryOMRSLogOperation[17];
+
+    static
+    {
+        for (InMemoryOMRSLogOperation operation : InMemoryOMRSLogOperation.values())
+        {
+            operationsByCode[operation.code] = operation;
+        }
+    }
+
+    private int      code;
+    private Class<?> payloadClass;
+
+
+    /**
+     * Default constructor sets up the specific values for this enum instance.
+     *
+     * @param code code written to the log
+     * @param payloadClass class of the parameter stored in the log record
+     */
+    InMemoryOMRSLogOperation(int code, Class<?> payloadClass)
+    {
+        this.code = code;
+        this.payloadClass = payloadClass;
+    }
+
+
+    /**
+     * Return the code that is written to the log for this operation.
+     *
+     * @return byte code
+     */
+    byte getCode()
+    {
+        return (byte) code;
+    }
+
+
+    /**
+     * Return the class of the payload stored with this operation.
+     *
+     * @return class
+     */
+    Class<?> getPayloadClass()
+    {
+        return payloadClass;
+    }
+
+
+    /**
+     * Return the operation for the code read from the log.
+     *
+     * @param code code from the log
+     * @return operation or null if the code is not recognized
+     */
+    static InMemoryOMRSLogOperation getOperation(int code)
+    {
+        if ((code > 0) && (code < operationsByCode.length))
+        {
+            return operationsByCode[code];
+        }
+
+        return null;
+    }
+}
@@ -12,6 +12,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * The InMemoryOMRSMetadataCollection represents a metadata repository that supports an in-memory repository.
@@ -50,6 +51,17 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the store that holds the types and instances of this metadata collection.
+     *
+     * @return repository store
+     */
+    InMemoryOMRSMetadataStore getRepositoryStore()
+    {
+        return repositoryStore;
+    }
+
+
     /* ======================================================================
      * Group 1: Confirm the identity of the metadata repository being called.
      */
@@ -1582,6 +1594,58 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  The parameters are validated
+     * once and then each entity is read directly from the store.
+     *
+     * @param userId - unique identifier for requesting user.
+     * @param guids - String unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Entities that are not known, deleted or only stored as a
+     *         proxy are skipped.  Null means none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        this.validateGUIDList(guids, methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        /*
+         * Perform operation
+         */
+        Map<String, EntityDetail> entities = new LinkedHashMap<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = repositoryStore.getEntity(guid);
+
+            if ((entity != null) && (entity.getStatus() != InstanceStatus.DELETED))
+            {
+                entities.put(guid, entity);
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            return null;
+        }
+
+        return new ArrayList<>(entities.values());
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1696,6 +1760,157 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the relationships for a list of entities together with the entities at the other end of each
+     * relationship.  The relationship store is scanned once for all of the requested entities.
+     *
+     * @param userId - unique identifier for requesting user.
+     * @param entityGUIDs - unique identifiers for the entities of interest.  Entities that are not known in the
+     *                    metadata collection are skipped.
+     * @param relationshipTypeGUID - String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus - By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime - Requests a historical query of the relationships for the entities.  Null means return the
+     *                 present values.
+     * @param pageSize - the maximum number of relationships that can be returned for each entity.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the relationships and the entities at the far end of the relationships.
+     *         Null means no relationships associated with the entities.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getRelationshipsAndRelatedEntities(String               userId,
+                                                            List<String>         entityGUIDs,
+                                                            String               relationshipTypeGUID,
+                                                            List<InstanceStatus> limitResultsByStatus,
+                                                            Date                 asOfTime,
+                                                            int                  pageSize) throws InvalidParameterException,
+                                                                                                  TypeErrorException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationshipsAndRelatedEntities";
+        final String  guidParameterName = "entityGUIDs";
+        final String  typeGUIDParameterName = "relationshipTypeGUID";
+        final String  asOfTimeParameter = "asOfTime";
+        final String  pageSizeParameter = "pageSize";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if ((entityGUIDs == null) || (entityGUIDs.isEmpty()))
+        {
+            repositoryValidator.validateGUID(repositoryName, guidParameterName, null, methodName);
+        }
+        else
+        {
+            for (String entityGUID : entityGUIDs)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidParameterName, entityGUID, methodName);
+            }
+        }
+
+        repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
+
+        this.validateTypeGUID(repositoryName, typeGUIDParameterName, relationshipTypeGUID, methodName);
+
+        /*
+         * Perform operation - work out which of the requested entities are known, then scan the relationships once.
+         */
+        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        Map<String, Integer>       relationshipCounts = new HashMap<>();
+
+        for (String entityGUID : entityGUIDs)
+        {
+            EntityDetail entity = entityStore.get(entityGUID);
+
+            if ((entity != null) && (entity.getStatus() != InstanceStatus.DELETED))
+            {
+                relationshipCounts.put(entityGUID, 0);
+            }
+        }
+
+        Map<String, Relationship> entityRelationships = new LinkedHashMap<>();
+
+        for (Relationship  storedRelationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
+        {
+            if ((storedRelationship != null) &&
+                (storedRelationship.getStatus() != InstanceStatus.DELETED) &&
+                (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, storedRelationship)) &&
+                ((relationshipTypeGUID == null) || (relationshipTypeGUID.equals(storedRelationship.getType().getTypeDefGUID()))))
+            {
+                repositoryValidator.validRelationship(repositoryName, storedRelationship);
+
+                String entityOneGUID = storedRelationship.getEntityOneProxy().getGUID();
+                String entityTwoGUID = storedRelationship.getEntityTwoProxy().getGUID();
+
+                if (this.countRelationship(relationshipCounts, entityOneGUID, pageSize) |
+                    this.countRelationship(relationshipCounts, entityTwoGUID, pageSize))
+                {
+                    entityRelationships.put(storedRelationship.getGUID(), storedRelationship);
+                }
+            }
+        }
+
+        if (entityRelationships.isEmpty())
+        {
+            return null;
+        }
+
+        List<EntityDetail> relatedEntities = new ArrayList<>();
+
+        for (String relatedEntityGUID : this.getFarEndEntityGUIDs(new ArrayList<>(relationshipCounts.keySet()),
+                                                                  entityRelationships.values()))
+        {
+            EntityDetail relatedEntity = entityStore.get(relatedEntityGUID);
+
+            if ((relatedEntity != null) && (relatedEntity.getStatus() != InstanceStatus.DELETED))
+            {
+                relatedEntities.add(relatedEntity);
+            }
+        }
+
+        return new InstanceGraph(relatedEntities, new ArrayList<>(entityRelationships.values()));
+    }
+
+
+    /**
+     * Count a relationship against one of the requested entities if there is room in its page.
+     *
+     * @param relationshipCounts number of relationships found so far for each requested entity
+     * @param entityGUID unique identifier of the entity at one end of the relationship
+     * @param pageSize maximum number of relationships for each entity (zero means unlimited)
+     * @return true if the relationship is included for this entity
+     */
+    private boolean countRelationship(Map<String, Integer> relationshipCounts,
+                                      String               entityGUID,
+                                      int                  pageSize)
+    {
+        Integer count = relationshipCounts.get(entityGUID);
+
+        if ((count == null) || ((pageSize > 0) && (count >= pageSize)))
+        {
+            return false;
+        }
+
+        relationshipCounts.put(entityGUID, count + 1);
+
+        return true;
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1910,25 +2125,24 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * Current entities are located through the classification index.  A historical query iterates through
+         * all of the entities as they were at the asOfTime.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<String>                    classificationList = new ArrayList<>();
         List<EntityDetail>              foundEntities = new ArrayList<>();
 
-        for (EntityDetail  entity : entityStore.values())
+        classificationList.add(classificationName);
+
+        for (EntityDetail  entity : this.getClassifiedEntities(classificationList, false, asOfTime))
         {
             if (entity != null)
             {
-                List<String>     classificationList = new ArrayList<>();
-                classificationList.add(classificationName);
-
-                if ((entity.getStatusOnDelete() != InstanceStatus.DELETED) &&
+                if ((entity.getStatus() != InstanceStatus.DELETED) &&
                     (repositoryValidator.verifyInstanceType(entityTypeGUID, entity)) &&
                     (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
                     (repositoryValidator.verifyEntityIsClassified(classificationList, entity)))
                 {
-                    List<Classification>   entityClassifications = entity.getClassifications();
+                    List<Classification>   entityClassifications = entity.getReadOnlyClassifications();
 
                     if (entityClassifications != null)
                     {
@@ -1963,6 +2177,148 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a list of entities that have any, or all, of the requested classifications attached.  Each
+     * classification may have its own properties to match.  The candidate entities are located in one pass
+     * through the classification index.
+     *
+     * @param userId - unique identifier for requesting user.
+     * @param entityTypeGUID - unique identifier for the type of entity requested.  Null means any type of entity.
+     * @param matchClassifications - map of classification name to the classification properties used to narrow
+     *                             the search for that classification.  A null properties value matches any
+     *                             classification of that name.
+     * @param matchClassificationCriteria - ANY if an entity is returned when it matches any of the classifications,
+     *                                    ALL if it must match all of them.
+     * @param matchPropertiesCriteria - Enum defining how the properties should be matched to each classification
+     *                                in the repository.
+     * @param fromEntityElement - the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus - By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime - Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty - String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @param pageSize - the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria - null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException one of the classifications is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  List<EntityDetail> findEntitiesByClassifications(String                          userId,
+                                                             String                          entityTypeGUID,
+                                                             Map<String, InstanceProperties> matchClassifications,
+                                                             MatchCriteria                   matchClassificationCriteria,
+                                                             MatchCriteria                   matchPropertiesCriteria,
+                                                             int                             fromEntityElement,
+                                                             List<InstanceStatus>            limitResultsByStatus,
+                                                             Date                            asOfTime,
+                                                             String                          sequencingProperty,
+                                                             SequencingOrder                 sequencingOrder,
+                                                             int                             pageSize) throws InvalidParameterException,
+                                                                                                              TypeErrorException,
+                                                                                                              RepositoryErrorException,
+                                                                                                              ClassificationErrorException,
+                                                                                                              PropertyErrorException,
+                                                                                                              PagingErrorException,
+                                                                                                              UserNotAuthorizedException
+    {
+        final String  methodName                   = "findEntitiesByClassifications";
+        final String  entityTypeGUIDParameterName  = "entityTypeGUID";
+        final String  asOfTimeParameter            = "asOfTime";
+        final String  pageSizeParameter            = "pageSize";
+
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+        repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
+        this.validateTypeGUID(repositoryName, entityTypeGUIDParameterName, entityTypeGUID, methodName);
+
+        /*
+         * Validate TypeDef
+         */
+        String  entityTypeName = null;
+
+        if (entityTypeGUID != null)
+        {
+            TypeDef entityTypeDef = repositoryStore.getTypeDef(entityTypeGUID);
+
+            repositoryValidator.validateTypeDefForInstance(repositoryName,
+                                                           entityTypeGUIDParameterName,
+                                                           entityTypeDef,
+                                                           methodName);
+
+            entityTypeName = entityTypeDef.getName();
+        }
+
+        this.validateClassificationMatch(matchClassifications,
+                                         matchClassificationCriteria,
+                                         matchPropertiesCriteria,
+                                         entityTypeName,
+                                         methodName);
+
+        /*
+         * Perform operation
+         *
+         * Each candidate entity is checked against every requested classification that it has.
+         */
+        boolean             matchAll      = (matchClassificationCriteria == MatchCriteria.ALL);
+        List<EntityDetail>  foundEntities = new ArrayList<>();
+
+        for (EntityDetail  entity : this.getClassifiedEntities(matchClassifications.keySet(), matchAll, asOfTime))
+        {
+            if ((entity != null) &&
+                (entity.getStatus() != InstanceStatus.DELETED) &&
+                (repositoryValidator.verifyInstanceType(entityTypeGUID, entity)) &&
+                (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)))
+            {
+                List<Classification>   entityClassifications = entity.getReadOnlyClassifications();
+                int                    matchCount            = 0;
+
+                if (entityClassifications != null)
+                {
+                    for (Classification entityClassification : entityClassifications)
+                    {
+                        if ((entityClassification != null) &&
+                            (matchClassifications.containsKey(entityClassification.getName())) &&
+                            (repositoryValidator.verifyMatchingInstancePropertyValues(matchClassifications.get(entityClassification.getName()),
+                                                                                      null,
+                                                                                      entityClassification,
+                                                                                      entityClassification.getProperties(),
+                                                                                      matchPropertiesCriteria)))
+                        {
+                            matchCount++;
+                        }
+                    }
+                }
+
+                if ((matchCount > 0) && ((! matchAll) || (matchCount == matchClassifications.size())))
+                {
+                    foundEntities.add(entity);
+                }
+            }
+        }
+
+        return formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+    }
+
+
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -2184,6 +2540,58 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a list of relationships.  The parameters are validated once and then each relationship is read
+     * directly from the store.
+     *
+     * @param userId - unique identifier for requesting user.
+     * @param guids - String unique identifiers for the relationships.
+     * @return list of relationships.  Relationships that are not known or are deleted are skipped.
+     *         Null means none of the relationships are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationships";
+
+        /*
+         * Validate parameters
+         */
+        this.validateGUIDList(guids, methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        /*
+         * Process operation
+         */
+        Map<String, Relationship> relationships = new LinkedHashMap<>();
+
+        for (String guid : guids)
+        {
+            Relationship relationship = repositoryStore.getRelationship(guid);
+
+            if ((relationship != null) && (relationship.getStatus() != InstanceStatus.DELETED))
+            {
+                relationships.put(guid, relationship);
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
+
+        return new ArrayList<>(relationships.values());
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -2686,7 +3094,142 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
                                                                                    StatusNotSupportedException,
                                                                                    UserNotAuthorizedException
     {
-        final String  methodName                    = "addEntity";
+        final String  methodName = "addEntity";
+
+        EntityDetail   newEntity = this.getNewEntity(userId,
+                                                     entityTypeGUID,
+                                                     initialProperties,
+                                                     initialClassifications,
+                                                     initialStatus,
+                                                     methodName);
+
+        newEntity = repositoryStore.createEntityInStore(newEntity);
+
+        /*
+         * The repository store maintains an entity proxy for use with relationships.
+         */
+        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, newEntity);
+
+        repositoryStore.addEntityProxyToStore(entityProxy);
+
+
+        return newEntity;
+    }
+
+
+    /**
+     * Return the entity with the qualifiedName supplied in the initial properties, creating it if no such
+     * entity exists.  The repository store keeps an index of the entities by qualifiedName within each type
+     * family so the existing entity is located without a search, and the check and create are one step.
+     *
+     * @param userId - unique identifier for requesting user.
+     * @param entityTypeGUID - unique identifier (guid) for the new entity's type.
+     * @param initialProperties - initial list of properties for the new entity - must include the qualifiedName.
+     * @param initialClassifications - initial list of classifications for the new entity - null means no classifications.
+     * @param initialStatus - initial status - typically DRAFT, PREPARED or ACTIVE.
+     * @param entityCreated - set to true if the entity is created by this request - may be null.
+     * @return EntityDetail for the existing entity or the new entity.
+     * @throws InvalidParameterException one of the parameters is invalid or null, or there is no qualifiedName
+     *                                   in the initial properties.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type, or the qualifiedName
+     *                                  is used by an entity that is not of the requested type or one of its subtypes.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for this entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail findOrAddEntity(String                     userId,
+                                        String                     entityTypeGUID,
+                                        InstanceProperties         initialProperties,
+                                        List<Classification>       initialClassifications,
+                                        InstanceStatus             initialStatus,
+                                        AtomicBoolean              entityCreated) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         PropertyErrorException,
+                                                                                         ClassificationErrorException,
+                                                                                         StatusNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String  methodName = "findOrAddEntity";
+
+        EntityDetail   newEntity = this.getNewEntity(userId,
+                                                     entityTypeGUID,
+                                                     initialProperties,
+                                                     initialClassifications,
+                                                     initialStatus,
+                                                     methodName);
+
+        String         typeName      = newEntity.getType().getTypeDefName();
+        String         qualifiedName = this.validateQualifiedName(typeName, initialProperties, methodName);
+
+        EntityDetail   storedEntity = repositoryStore.createUniqueEntityInStore(newEntity);
+
+        if (storedEntity != newEntity)
+        {
+            this.validateExistingEntityType(typeName, qualifiedName, storedEntity, methodName);
+        }
+        else
+        {
+            /*
+             * The repository store maintains an entity proxy for use with relationships.
+             */
+            EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, newEntity);
+
+            repositoryStore.addEntityProxyToStore(entityProxy);
+        }
+
+        if (entityCreated != null)
+        {
+            entityCreated.set(storedEntity == newEntity);
+        }
+
+        return storedEntity;
+    }
+
+
+    /**
+     * Validate the parameters for a new entity and build it ready to be saved in the repository store.
+     *
+     * @param userId - unique identifier for requesting user.
+     * @param entityTypeGUID - unique identifier (guid) for the new entity's type.
+     * @param initialProperties - initial list of properties for the new entity - null means no properties.
+     * @param initialClassifications - initial list of classifications for the new entity - null means no classifications.
+     * @param initialStatus - initial status - typically DRAFT, PREPARED or ACTIVE.
+     * @param methodName - calling method
+     * @return new entity
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for this entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private EntityDetail getNewEntity(String                     userId,
+                                      String                     entityTypeGUID,
+                                      InstanceProperties         initialProperties,
+                                      List<Classification>       initialClassifications,
+                                      InstanceStatus             initialStatus,
+                                      String                     methodName) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    TypeErrorException,
+                                                                                    PropertyErrorException,
+                                                                                    ClassificationErrorException,
+                                                                                    StatusNotSupportedException,
+                                                                                    UserNotAuthorizedException
+    {
         final String  entityGUIDParameterName       = "entityTypeGUID";
         final String  propertiesParameterName       = "initialProperties";
         final String  classificationsParameterName  = "initialClassifications";
@@ -2740,16 +3283,6 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
             newEntity.setStatus(initialStatus);
         }
 
-        newEntity = repositoryStore.createEntityInStore(newEntity);
-
-        /*
-         * The repository store maintains an entity proxy for use with relationships.
-         */
-        EntityProxy entityProxy = repositoryHelper.getNewEntityProxy(repositoryName, newEntity);
-
-        repositoryStore.addEntityProxyToStore(entityProxy);
-
-
         return newEntity;
     }
 
@@ -4900,6 +5433,29 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
 
 
 
+    /**
+     * Return the candidate entities for a search by classification.  Current entities are located through the
+     * classification index.  A historical query returns all of the entities as they were at the asOfTime, since
+     * the index only covers the current entities.
+     *
+     * @param classificationNames - names of the classifications
+     * @param matchAll - true if the entities must have all of the classifications; false for any of them
+     * @param asOfTime - time for the search (or null means now)
+     * @return candidate entities - each one must still be checked against the search criteria
+     */
+    private Collection<EntityDetail>  getClassifiedEntities(Collection<String>   classificationNames,
+                                                            boolean              matchAll,
+                                                            Date                 asOfTime)
+    {
+        if (asOfTime == null)
+        {
+            return repositoryStore.getClassifiedEntities(classificationNames, matchAll);
+        }
+
+        return repositoryStore.timeWarpEntityStore(asOfTime).values();
+    }
+
+
     /**
      * Use the paging and sequencing parameters to format the results for a repository call that returns a list of
      * entity instances.
@@ -4934,7 +5490,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
 
-        if (fromElement > fullResults.size())
+        if (fromElement >= fullResults.size())
         {
             return null;
         }
@@ -4942,12 +5498,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         List<EntityDetail>  sortedResults = fullResults;
         // todo sort list according to properties
 
-        if ((pageSize == 0) || (pageSize > sortedResults.size()))
+        int  endElement = sortedResults.size();
+
+        if ((pageSize > 0) && (fromElement + pageSize < endElement))
+        {
+            endElement = fromElement + pageSize;
+        }
+
+        if ((fromElement == 0) && (endElement == sortedResults.size()))
         {
             return sortedResults;
         }
 
-        return new ArrayList<>(fullResults.subList(fromElement, fromElement + pageSize - 1));
+        return new ArrayList<>(sortedResults.subList(fromElement, endElement));
     }
 
 
@@ -4985,7 +5548,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
             return null;
         }
 
-        if (fromElement > fullResults.size())
+        if (fromElement >= fullResults.size())
         {
             return null;
         }
@@ -4993,12 +5556,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSMetadataCollection
         List<Relationship>  sortedResults = fullResults;
         // todo sort list according to properties
 
-        if ((pageSize == 0) || (pageSize > sortedResults.size()))
+        int  endElement = sortedResults.size();
+
+        if ((pageSize > 0) && (fromElement + pageSize < endElement))
+        {
+            endElement = fromElement + pageSize;
+        }
+
+        if ((fromElement == 0) && (endElement == sortedResults.size()))
         {
             return sortedResults;
         }
 
-        return new ArrayList<>(fullResults.subList(fromElement, fromElement + pageSize - 1));
+        return new ArrayList<>(sortedResults.subList(fromElement, endElement));
     }
 
 
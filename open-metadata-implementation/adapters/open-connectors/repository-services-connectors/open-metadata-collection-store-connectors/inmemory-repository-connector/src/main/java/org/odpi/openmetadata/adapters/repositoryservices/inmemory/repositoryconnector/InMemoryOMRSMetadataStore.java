@@ -2,19 +2,39 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 
 import java.util.*;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.
+ * The entity store is indexed by qualifiedName within each type family (the types that share the same
+ * top-level super type).  The index is maintained by the methods that change the entity store, which are
+ * synchronized so that findOrAddEntity can check the index and add the new entity as one step.  The entity
+ * store is also indexed by the names of the classifications attached to each entity, so that the entities with a
+ * set of classifications can be found without scanning the whole store.
+ * <p>
+ * When persistence is configured, each method that changes the store also passes the change to the
+ * InMemoryOMRSMetadataStorePersistence so it is written to the write-ahead log in the order it was made.
+ * <p>
+ * The instances are compacted by the InMemoryOMRSInstanceCompactor as they are saved, so instances of the same
+ * type share their type information and hold their properties in a layout shared by the type.
  */
 public class InMemoryOMRSMetadataStore
 {
+    private static final String           qualifiedNamePropertyName = "qualifiedName";
+
     private String                        repositoryName           = null;
     private Map<String, TypeDef>          typeDefStore             = new HashMap<>();
     private Map<String, AttributeTypeDef> attributeTypeDefStore    = new HashMap<>();
@@ -23,6 +43,11 @@ public class InMemoryOMRSMetadataStore
     private List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
     private Map<String, Relationship>     relationshipStore        = new HashMap<>();
     private List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private Map<String, Set<String>>      qualifiedNameIndex       = new HashMap<>();
+    private Map<String, Set<String>>      classificationIndex      = new HashMap<>();
+
+    private InMemoryOMRSMetadataStorePersistence persistence = null;
+    private InMemoryOMRSInstanceCompactor        compactor   = new InMemoryOMRSInstanceCompactor();
 
 
     /**
@@ -44,6 +69,17 @@ public class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Set up the component that logs the changes to the store.
+     *
+     * @param persistence - persistence component (null means changes are not logged)
+     */
+    protected synchronized void  setPersistence(InMemoryOMRSMetadataStorePersistence    persistence)
+    {
+        this.persistence = persistence;
+    }
+
+
     /**
      * Return a list of all of the defined AttributeTypeDefs.
      *
@@ -72,9 +108,10 @@ public class InMemoryOMRSMetadataStore
      *
      * @param attributeTypeDef - type to add
      */
-    protected void  putAttributeTypeDef(AttributeTypeDef   attributeTypeDef)
+    protected synchronized void  putAttributeTypeDef(AttributeTypeDef   attributeTypeDef)
     {
         attributeTypeDefStore.put(attributeTypeDef.getGUID(), attributeTypeDef);
+        logMutation(InMemoryOMRSLogOperation.PUT_ATTRIBUTE_TYPEDEF, attributeTypeDef);
     }
 
 
@@ -106,9 +143,10 @@ public class InMemoryOMRSMetadataStore
      *
      * @param typeDef - type definition
      */
-    protected void  putTypeDef(TypeDef   typeDef)
+    protected synchronized void  putTypeDef(TypeDef   typeDef)
     {
         typeDefStore.put(typeDef.getGUID(), typeDef);
+        logMutation(InMemoryOMRSLogOperation.PUT_TYPEDEF, typeDef);
     }
 
 
@@ -147,6 +185,87 @@ public class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Return the current entities that have any, or all, of the named classifications attached.
+     *
+     * @param classificationNames - names of the classifications
+     * @param matchAll - true if the entities must have all of the classifications; false for any of them
+     * @return list of entities
+     */
+    protected synchronized List<EntityDetail>  getClassifiedEntities(Collection<String>   classificationNames,
+                                                                     boolean              matchAll)
+    {
+        List<EntityDetail>  classifiedEntities = new ArrayList<>();
+
+        if ((classificationNames == null) || (classificationNames.isEmpty()))
+        {
+            return classifiedEntities;
+        }
+
+        Set<String>  guids = null;
+
+        if (matchAll)
+        {
+            /*
+             * Start from the smallest index entry so the intersection is as cheap as possible.
+             */
+            List<Set<String>>  indexEntries = new ArrayList<>();
+
+            for (String classificationName : classificationNames)
+            {
+                Set<String>  classifiedGUIDs = classificationIndex.get(classificationName);
+
+                if (classifiedGUIDs == null)
+                {
+                    return classifiedEntities;
+                }
+
+                indexEntries.add(classifiedGUIDs);
+            }
+
+            indexEntries.sort(Comparator.comparingInt(Set::size));
+
+            for (Set<String> classifiedGUIDs : indexEntries)
+            {
+                if (guids == null)
+                {
+                    guids = new LinkedHashSet<>(classifiedGUIDs);
+                }
+                else
+                {
+                    guids.retainAll(classifiedGUIDs);
+                }
+            }
+        }
+        else
+        {
+            guids = new LinkedHashSet<>();
+
+            for (String classificationName : classificationNames)
+            {
+                Set<String>  classifiedGUIDs = classificationIndex.get(classificationName);
+
+                if (classifiedGUIDs != null)
+                {
+                    guids.addAll(classifiedGUIDs);
+                }
+            }
+        }
+
+        for (String guid : guids)
+        {
+            EntityDetail  entity = entityStore.get(guid);
+
+            if (entity != null)
+            {
+                classifiedEntities.add(entity);
+            }
+        }
+
+        return classifiedEntities;
+    }
+
+
     /**
      * Return an entity store that contains entities as they were at the time supplied in the asOfTime
      * parameter
@@ -342,8 +461,10 @@ public class InMemoryOMRSMetadataStore
      * @param entity - new version of the entity
      * @return entity with potentially updated GUID
      */
-    protected EntityDetail createEntityInStore(EntityDetail    entity)
+    protected synchronized EntityDetail createEntityInStore(EntityDetail    entity)
     {
+        compactor.compactEntity(entity);
+
         /*
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
@@ -356,18 +477,43 @@ public class InMemoryOMRSMetadataStore
             existingEntity = entityStore.put(entity.getGUID(), entity);
         }
 
+        indexEntity(null, entity);
+        logMutation(InMemoryOMRSLogOperation.CREATE_ENTITY, entity);
+
         return entity;
     }
 
 
+    /**
+     * Create a new entity in the entity store unless there is already an entity with the same qualifiedName in
+     * its type family.  Deleted entities are ignored.
+     *
+     * @param entity - new entity
+     * @return the existing entity or the new entity with potentially updated GUID
+     */
+    protected synchronized EntityDetail createUniqueEntityInStore(EntityDetail    entity)
+    {
+        EntityDetail existingEntity = getEntityByQualifiedName(getQualifiedNameKey(entity));
+
+        if (existingEntity != null)
+        {
+            return existingEntity;
+        }
+
+        return createEntityInStore(entity);
+    }
+
+
     /**
      * Create a new relationship in the relationship store.
      *
      * @param relationship - new version of the relationship
      * @return relationship with potentially updated GUID
      */
-    protected Relationship createRelationshipInStore(Relationship    relationship)
+    protected synchronized Relationship createRelationshipInStore(Relationship    relationship)
     {
+        compactor.compactRelationship(relationship);
+
         /*
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
@@ -380,6 +526,8 @@ public class InMemoryOMRSMetadataStore
             existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
 
+        logMutation(InMemoryOMRSLogOperation.CREATE_RELATIONSHIP, relationship);
+
         return relationship;
     }
 
@@ -389,9 +537,11 @@ public class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    protected void addEntityProxyToStore(EntityProxy    entityProxy)
+    protected synchronized void addEntityProxyToStore(EntityProxy    entityProxy)
     {
+        compactor.compactEntityProxy(entityProxy);
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+        logMutation(InMemoryOMRSLogOperation.PUT_ENTITY_PROXY, entityProxy);
     }
 
 
@@ -401,14 +551,20 @@ public class InMemoryOMRSMetadataStore
      *
      * @param entity - new version of the entity
      */
-    protected void updateEntityInStore(EntityDetail    entity)
+    protected synchronized void updateEntityInStore(EntityDetail    entity)
     {
+        compactor.compactEntity(entity);
+
         EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
 
+        indexEntity(oldEntity, entity);
+
         if (oldEntity != null)
         {
             entityHistoryStore.add(0, oldEntity);
         }
+
+        logMutation(InMemoryOMRSLogOperation.UPDATE_ENTITY, entity);
     }
 
 
@@ -417,9 +573,11 @@ public class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    protected void updateEntityProxyInStore(EntityProxy    entityProxy)
+    protected synchronized void updateEntityProxyInStore(EntityProxy    entityProxy)
     {
+        compactor.compactEntityProxy(entityProxy);
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+        logMutation(InMemoryOMRSLogOperation.PUT_ENTITY_PROXY, entityProxy);
     }
 
 
@@ -429,14 +587,18 @@ public class InMemoryOMRSMetadataStore
      *
      * @param relationship - new version of the relationship
      */
-    protected void updateRelationshipInStore(Relationship    relationship)
+    protected synchronized void updateRelationshipInStore(Relationship    relationship)
     {
+        compactor.compactRelationship(relationship);
+
         Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
 
         if (oldRelationship != null)
         {
             relationshipHistoryStore.add(0, oldRelationship);
         }
+
+        logMutation(InMemoryOMRSLogOperation.UPDATE_RELATIONSHIP, relationship);
     }
 
 
@@ -446,9 +608,14 @@ public class InMemoryOMRSMetadataStore
      *
      * @param entity - object to save
      */
-    protected void saveReferenceEntityToStore(EntityDetail    entity)
+    protected synchronized void saveReferenceEntityToStore(EntityDetail    entity)
     {
-        entityStore.put(entity.getGUID(), entity);
+        compactor.compactEntity(entity);
+
+        EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
+
+        indexEntity(oldEntity, entity);
+        logMutation(InMemoryOMRSLogOperation.SAVE_REFERENCE_ENTITY, entity);
     }
 
 
@@ -458,9 +625,11 @@ public class InMemoryOMRSMetadataStore
      *
      * @param relationship - object to save
      */
-    protected void saveReferenceRelationshipToStore(Relationship    relationship)
+    protected synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
     {
+        compactor.compactRelationship(relationship);
         relationshipStore.put(relationship.getGUID(), relationship);
+        logMutation(InMemoryOMRSLogOperation.SAVE_REFERENCE_RELATIONSHIP, relationship);
     }
 
 
@@ -471,7 +640,7 @@ public class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
      */
-    protected Relationship retrievePreviousVersionOfRelationship(String   guid)
+    protected synchronized Relationship retrievePreviousVersionOfRelationship(String   guid)
     {
         if (guid != null)
         {
@@ -499,6 +668,7 @@ public class InMemoryOMRSMetadataStore
                         relationship.setVersion(versionNumber);
                         relationshipHistoryStore.remove(elementPosition);
                         relationshipStore.put(guid, relationship);
+                        logMutation(InMemoryOMRSLogOperation.RESTORE_RELATIONSHIP, guid);
                         return relationship;
                     }
                 }
@@ -518,7 +688,7 @@ public class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
      */
-    protected EntityDetail retrievePreviousVersionOfEntity(String   guid)
+    protected synchronized EntityDetail retrievePreviousVersionOfEntity(String   guid)
     {
         if (guid != null)
         {
@@ -546,6 +716,8 @@ public class InMemoryOMRSMetadataStore
                         entity.setVersion(versionNumber);
                         entityHistoryStore.remove(elementPosition);
                         entityStore.put(guid, entity);
+                        indexEntity(currentVersionOfEntity, entity);
+                        logMutation(InMemoryOMRSLogOperation.RESTORE_ENTITY, guid);
                         return entity;
                     }
                 }
@@ -563,10 +735,15 @@ public class InMemoryOMRSMetadataStore
      *
      * @param entity - entity to remove
      */
-    protected void removeEntityFromStore(EntityDetail     entity)
+    protected synchronized void removeEntityFromStore(EntityDetail     entity)
     {
-        entityStore.remove(entity.getGUID());
+        compactor.compactEntity(entity);
+
+        EntityDetail oldEntity = entityStore.remove(entity.getGUID());
+
+        indexEntity(oldEntity, null);
         entityHistoryStore.add(0, entity);
+        logMutation(InMemoryOMRSLogOperation.REMOVE_ENTITY, entity);
     }
 
 
@@ -575,13 +752,15 @@ public class InMemoryOMRSMetadataStore
      *
      * @param guid - entity to remove
      */
-    protected void removeReferenceEntityFromStore(String     guid)
+    protected synchronized void removeReferenceEntityFromStore(String     guid)
     {
         EntityDetail entity = entityStore.remove(guid);
 
         if (entity != null)
         {
+            indexEntity(entity, null);
             entityHistoryStore.add(0, entity);
+            logMutation(InMemoryOMRSLogOperation.REMOVE_REFERENCE_ENTITY, guid);
         }
     }
 
@@ -591,9 +770,12 @@ public class InMemoryOMRSMetadataStore
      *
      * @param guid - entity proxy to remove
      */
-    protected void removeEntityProxyFromStore(String     guid)
+    protected synchronized void removeEntityProxyFromStore(String     guid)
     {
-        entityProxyStore.remove(guid);
+        if (entityProxyStore.remove(guid) != null)
+        {
+            logMutation(InMemoryOMRSLogOperation.REMOVE_ENTITY_PROXY, guid);
+        }
     }
 
 
@@ -602,10 +784,12 @@ public class InMemoryOMRSMetadataStore
      *
      * @param relationship - relationship to remove
      */
-    protected void removeRelationshipFromStore(Relationship     relationship)
+    protected synchronized void removeRelationshipFromStore(Relationship     relationship)
     {
+        compactor.compactRelationship(relationship);
         relationshipStore.remove(relationship.getGUID());
         relationshipHistoryStore.add(0, relationship);
+        logMutation(InMemoryOMRSLogOperation.REMOVE_RELATIONSHIP, relationship);
     }
 
 
@@ -614,14 +798,357 @@ public class InMemoryOMRSMetadataStore
      *
      * @param guid - relationship to remove
      */
-    protected void removeReferenceRelationshipFromStore(String     guid)
+    protected synchronized void removeReferenceRelationshipFromStore(String     guid)
     {
         Relationship  relationship = relationshipStore.remove(guid);
 
         if (relationship != null)
         {
             relationshipHistoryStore.add(0, relationship);
+            logMutation(InMemoryOMRSLogOperation.REMOVE_REFERENCE_RELATIONSHIP, guid);
+        }
+    }
+
+
+    /**
+     * Return a copy of the contents of the store for a snapshot.  The instances themselves are shared with the
+     * store.
+     *
+     * @return copy of the stores
+     */
+    protected synchronized InMemoryOMRSMetadataStorePersistence.StoreContent getStoreContent()
+    {
+        InMemoryOMRSMetadataStorePersistence.StoreContent content = new InMemoryOMRSMetadataStorePersistence.StoreContent();
+
+        content.attributeTypeDefs = new ArrayList<>(attributeTypeDefStore.values());
+        content.typeDefs = new ArrayList<>(typeDefStore.values());
+        content.entities = new ArrayList<>(entityStore.values());
+        content.entityProxies = new ArrayList<>(entityProxyStore.values());
+        content.entityHistory = new ArrayList<>(entityHistoryStore);
+        content.relationships = new ArrayList<>(relationshipStore.values());
+        content.relationshipHistory = new ArrayList<>(relationshipHistoryStore);
+
+        return content;
+    }
+
+
+    /**
+     * Replace the contents of the store with the contents of a snapshot and rebuild the indexes.
+     *
+     * @param content copy of the stores
+     */
+    protected synchronized void loadStoreContent(InMemoryOMRSMetadataStorePersistence.StoreContent    content)
+    {
+        typeDefStore.clear();
+        attributeTypeDefStore.clear();
+        entityStore.clear();
+        entityProxyStore.clear();
+        relationshipStore.clear();
+        qualifiedNameIndex.clear();
+        classificationIndex.clear();
+
+        for (AttributeTypeDef attributeTypeDef : content.attributeTypeDefs)
+        {
+            attributeTypeDefStore.put(attributeTypeDef.getGUID(), attributeTypeDef);
+        }
+
+        for (TypeDef typeDef : content.typeDefs)
+        {
+            typeDefStore.put(typeDef.getGUID(), typeDef);
+        }
+
+        for (EntityDetail entity : content.entities)
+        {
+            compactor.compactEntity(entity);
+            entityStore.put(entity.getGUID(), entity);
+            indexEntity(null, entity);
         }
+
+        for (EntityProxy entityProxy : content.entityProxies)
+        {
+            compactor.compactEntityProxy(entityProxy);
+            entityProxyStore.put(entityProxy.getGUID(), entityProxy);
+        }
+
+        for (Relationship relationship : content.relationships)
+        {
+            compactor.compactRelationship(relationship);
+            relationshipStore.put(relationship.getGUID(), relationship);
+        }
+
+        for (EntityDetail entity : content.entityHistory)
+        {
+            compactor.compactEntity(entity);
+        }
+
+        for (Relationship relationship : content.relationshipHistory)
+        {
+            compactor.compactRelationship(relationship);
+        }
+
+        entityHistoryStore = new ArrayList<>(content.entityHistory);
+        relationshipHistoryStore = new ArrayList<>(content.relationshipHistory);
     }
 
+
+    /**
+     * Repeat a change read from the write-ahead log.  The change is made through the same method that made it
+     * originally.
+     *
+     * @param operation type of change
+     * @param payload parameter of the change
+     */
+    protected synchronized void applyLogRecord(InMemoryOMRSLogOperation    operation,
+                                               Object                      payload)
+    {
+        switch (operation)
+        {
+            case PUT_ATTRIBUTE_TYPEDEF:
+                putAttributeTypeDef((AttributeTypeDef) payload);
+                break;
+
+            case PUT_TYPEDEF:
+                putTypeDef((TypeDef) payload);
+                break;
+
+            case CREATE_ENTITY:
+                createEntityInStore((EntityDetail) payload);
+                break;
+
+            case UPDATE_ENTITY:
+                updateEntityInStore((EntityDetail) payload);
+                break;
+
+            case SAVE_REFERENCE_ENTITY:
+                saveReferenceEntityToStore((EntityDetail) payload);
+                break;
+
+            case RESTORE_ENTITY:
+                retrievePreviousVersionOfEntity((String) payload);
+                break;
+
+            case REMOVE_ENTITY:
+                removeEntityFromStore((EntityDetail) payload);
+                break;
+
+            case REMOVE_REFERENCE_ENTITY:
+                removeReferenceEntityFromStore((String) payload);
+                break;
+
+            case PUT_ENTITY_PROXY:
+                updateEntityProxyInStore((EntityProxy) payload);
+                break;
+
+            case REMOVE_ENTITY_PROXY:
+                removeEntityProxyFromStore((String) payload);
+                break;
+
+            case CREATE_RELATIONSHIP:
+                createRelationshipInStore((Relationship) payload);
+                break;
+
+            case UPDATE_RELATIONSHIP:
+                updateRelationshipInStore((Relationship) payload);
+                break;
+
+            case SAVE_REFERENCE_RELATIONSHIP:
+                saveReferenceRelationshipToStore((Relationship) payload);
+                break;
+
+            case RESTORE_RELATIONSHIP:
+                retrievePreviousVersionOfRelationship((String) payload);
+                break;
+
+            case REMOVE_RELATIONSHIP:
+                removeRelationshipFromStore((Relationship) payload);
+                break;
+
+            case REMOVE_REFERENCE_RELATIONSHIP:
+                removeReferenceRelationshipFromStore((String) payload);
+                break;
+        }
+    }
+
+
+    /**
+     * Pass a change to the persistence component if there is one.
+     *
+     * @param operation type of change
+     * @param payload parameter of the change
+     */
+    private void logMutation(InMemoryOMRSLogOperation    operation,
+                             Object                      payload)
+    {
+        if (persistence != null)
+        {
+            persistence.logMutation(operation, payload);
+        }
+    }
+
+
+    /**
+     * Return the first entity in the qualifiedName index entry that is not deleted.  Usually there is only one
+     * entity in the entry but reference copies and updates may introduce duplicates.
+     *
+     * @param qualifiedNameKey - key built from the type family and qualifiedName
+     * @return entity or null if none found
+     */
+    private EntityDetail getEntityByQualifiedName(String   qualifiedNameKey)
+    {
+        if (qualifiedNameKey != null)
+        {
+            Set<String> guids = qualifiedNameIndex.get(qualifiedNameKey);
+
+            if (guids != null)
+            {
+                for (String guid : guids)
+                {
+                    EntityDetail entity = entityStore.get(guid);
+
+                    if ((entity != null) && (entity.getStatus() != InstanceStatus.DELETED))
+                    {
+                        return entity;
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Move an entity from the qualifiedName index entry of its old version to the entry of its new version, and
+     * from the classification index entries of its old classifications to those of its new classifications.
+     *
+     * @param oldEntity - version of the entity that is being replaced (null if the entity is new)
+     * @param newEntity - version of the entity that is being stored (null if the entity is removed)
+     */
+    private void indexEntity(EntityDetail   oldEntity,
+                             EntityDetail   newEntity)
+    {
+        String  oldKey = getQualifiedNameKey(oldEntity);
+        String  newKey = getQualifiedNameKey(newEntity);
+
+        if ((oldKey != null) && (! oldKey.equals(newKey)))
+        {
+            Set<String> guids = qualifiedNameIndex.get(oldKey);
+
+            if (guids != null)
+            {
+                guids.remove(oldEntity.getGUID());
+
+                if (guids.isEmpty())
+                {
+                    qualifiedNameIndex.remove(oldKey);
+                }
+            }
+        }
+
+        if (newKey != null)
+        {
+            qualifiedNameIndex.computeIfAbsent(newKey, key -> new LinkedHashSet<>()).add(newEntity.getGUID());
+        }
+
+        Set<String>  oldClassificationNames = getClassificationNames(oldEntity);
+        Set<String>  newClassificationNames = getClassificationNames(newEntity);
+
+        for (String classificationName : oldClassificationNames)
+        {
+            if (! newClassificationNames.contains(classificationName))
+            {
+                Set<String> guids = classificationIndex.get(classificationName);
+
+                if (guids != null)
+                {
+                    guids.remove(oldEntity.getGUID());
+
+                    if (guids.isEmpty())
+                    {
+                        classificationIndex.remove(classificationName);
+                    }
+                }
+            }
+        }
+
+        for (String classificationName : newClassificationNames)
+        {
+            classificationIndex.computeIfAbsent(classificationName, key -> new LinkedHashSet<>()).add(newEntity.getGUID());
+        }
+    }
+
+
+    /**
+     * Return the names of the classifications attached to an entity.
+     *
+     * @param entity - entity to index
+     * @return set of classification names - empty if the entity is null or not classified
+     */
+    private Set<String> getClassificationNames(EntityDetail   entity)
+    {
+        Set<String>  classificationNames = new HashSet<>();
+
+        if ((entity != null) && (entity.getGUID() != null))
+        {
+            List<Classification>  classifications = entity.getReadOnlyClassifications();
+
+            if (classifications != null)
+            {
+                for (Classification classification : classifications)
+                {
+                    if ((classification != null) && (classification.getName() != null))
+                    {
+                        classificationNames.add(classification.getName());
+                    }
+                }
+            }
+        }
+
+        return classificationNames;
+    }
+
+
+    /**
+     * Return the key for the qualifiedName index.  This is the name of the top-level super type of the entity's
+     * type followed by its qualifiedName.  Type names do not contain colons so the key is unique.
+     *
+     * @param entity - entity to index
+     * @return key or null if the entity does not have a qualifiedName
+     */
+    private String getQualifiedNameKey(EntityDetail   entity)
+    {
+        if ((entity == null) || (entity.getGUID() == null) || (entity.getType() == null))
+        {
+            return null;
+        }
+
+        InstanceProperties    properties    = entity.getProperties();
+        InstancePropertyValue propertyValue = null;
+
+        if (properties != null)
+        {
+            propertyValue = properties.getPropertyValue(qualifiedNamePropertyName);
+        }
+
+        if (propertyValue instanceof PrimitivePropertyValue)
+        {
+            Object  qualifiedName = ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+
+            if (qualifiedName instanceof String)
+            {
+                InstanceType      type       = entity.getType();
+                List<TypeDefLink> superTypes = type.getTypeDefSuperTypes();
+                String            familyName = type.getTypeDefName();
+
+                if ((superTypes != null) && (! superTypes.isEmpty()))
+                {
+                    familyName = superTypes.get(superTypes.size() - 1).getName();
+                }
+
+                return familyName + ":" + qualifiedName;
+            }
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,882 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.wireformat.OMRSWireFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * InMemoryOMRSMetadataStorePersistence keeps a copy of the contents of an InMemoryOMRSMetadataStore in a
+ * directory so that they survive a restart of the server.  It has two parts:
+ * <ul>
+ *     <li>
+ *         A write-ahead log.  Each change to the store is encoded as a log record while the store is locked
+ *         and queued for a background writer.  The writer collects the records that arrive within the commit
+ *         interval and appends them to the current log segment with a single write and a single force to disk,
+ *         so the cost of the force is shared by all of the changes in the batch (group commit).
+ *     </li>
+ *     <li>
+ *         Snapshots.  At each snapshot interval the contents of the store are copied and a new log segment is
+ *         started as one step.  The copy is written to a snapshot file in the background and, once it is safely
+ *         on disk, the older snapshot and log segments are deleted.
+ *     </li>
+ * </ul>
+ * When the repository starts, the latest snapshot is loaded and the log segments written after it are replayed.
+ * The snapshot elements and log records are independent of one another so they are decoded in parallel before
+ * they are applied to the store in order.
+ * <p>
+ * Log records and snapshot elements use the SMILE binary encoding of the JSON data model used on the OMRS
+ * REST API and topic.  Changes made within the commit interval before the server fails may be lost.
+ * Reference copies lost this way are refreshed from the cohort in the normal way.
+ */
+class InMemoryOMRSMetadataStorePersistence
+{
+    private static final Logger       log      = LoggerFactory.getLogger(InMemoryOMRSMetadataStorePersistence.class);
+    private static final OMRSAuditLog auditLog = new OMRSAuditLog(OMRSAuditingComponent.LOCAL_REPOSITORY_CONNECTOR);
+
+    private static final String actionDescription   = "In-memory Repository Persistence";
+    private static final String snapshotFilePrefix  = "snapshot-";
+    private static final String snapshotFileSuffix  = ".snap";
+    private static final String logFilePrefix       = "wal-";
+    private static final String logFileSuffix       = ".log";
+    private static final String tempFileSuffix      = ".tmp";
+    private static final int    snapshotMagicNumber = 0x4F4D5253;
+    private static final int    snapshotVersion     = 1;
+    private static final int    bufferSize          = 65536;
+
+    private static final ObjectMapper objectMapper = OMRSWireFormat.SMILE.getObjectMapper();
+
+    private final String                  repositoryName;
+    private final File                    directory;
+    private final long                    commitIntervalMillis;
+    private final long                    snapshotIntervalSeconds;
+    private final BlockingQueue<LogEntry> pendingEntries       = new LinkedBlockingQueue<>();
+    private final AtomicLong              recordsSinceSnapshot = new AtomicLong();
+
+    private InMemoryOMRSMetadataStore     store          = null;
+    private long                          currentSegment = 0;
+    private FileChannel                   logChannel     = null;
+    private long                          lastForceTime  = 0;
+    private Thread                        logWriter      = null;
+    private ScheduledExecutorService      snapshotWriter = null;
+    private volatile boolean              active         = false;
+
+
+    /**
+     * Constructor
+     *
+     * @param repositoryName name of the repository for messages
+     * @param directoryName name of the directory for the snapshot and log files
+     * @param commitIntervalMillis time the log writer waits to collect records before forcing them to disk
+     * @param snapshotIntervalSeconds time between snapshots
+     */
+    InMemoryOMRSMetadataStorePersistence(String repositoryName,
+                                         String directoryName,
+                                         long   commitIntervalMillis,
+                                         long   snapshotIntervalSeconds)
+    {
+        this.repositoryName = repositoryName;
+        this.directory = new File(directoryName);
+        this.commitIntervalMillis = Math.max(commitIntervalMillis, 1L);
+        this.snapshotIntervalSeconds = Math.max(snapshotIntervalSeconds, 1L);
+    }
+
+
+    /**
+     * Load the store from the latest snapshot and log segments and then start logging its changes.
+     *
+     * @param store store to recover and persist
+     * @throws IOException the directory can not be created or the snapshot is damaged
+     */
+    void start(InMemoryOMRSMetadataStore store) throws IOException
+    {
+        long startTime = System.currentTimeMillis();
+
+        if ((! directory.isDirectory()) && (! directory.mkdirs()))
+        {
+            throw new IOException("Unable to create directory " + directory.getPath());
+        }
+
+        /*
+         * Temporary files are snapshots that were being written when the server stopped.
+         */
+        File[] tempFiles = directory.listFiles((dir, name) -> name.endsWith(tempFileSuffix));
+
+        if (tempFiles != null)
+        {
+            for (File tempFile : tempFiles)
+            {
+                Files.deleteIfExists(tempFile.toPath());
+            }
+        }
+
+        SortedMap<Long, File> snapshotFiles = getSegmentFiles(snapshotFilePrefix, snapshotFileSuffix);
+        SortedMap<Long, File> logFiles      = getSegmentFiles(logFilePrefix, logFileSuffix);
+        long                  firstSegment  = 0;
+        int                   typeCount     = 0;
+        int                   instanceCount = 0;
+        long                  recordCount   = 0;
+
+        if (! snapshotFiles.isEmpty())
+        {
+            firstSegment = snapshotFiles.lastKey();
+
+            StoreContent content = readSnapshot(snapshotFiles.get(firstSegment));
+
+            store.loadStoreContent(content);
+
+            typeCount = content.attributeTypeDefs.size() + content.typeDefs.size();
+            instanceCount = content.entities.size() + content.entityProxies.size() + content.relationships.size();
+        }
+
+        for (File logFile : logFiles.tailMap(firstSegment).values())
+        {
+            if (logFile.length() == 0)
+            {
+                Files.deleteIfExists(logFile.toPath());
+            }
+            else
+            {
+                recordCount = recordCount + replayLog(store, logFile);
+            }
+        }
+
+        /*
+         * New records always go to a new segment so they are never appended after a damaged record.
+         */
+        if (! logFiles.isEmpty())
+        {
+            firstSegment = Math.max(firstSegment, logFiles.lastKey());
+        }
+
+        this.store = store;
+        this.currentSegment = firstSegment + 1;
+        this.recordsSinceSnapshot.set(recordCount);
+
+        openLogSegment(currentSegment);
+
+        active = true;
+
+        logWriter = new Thread(this::writeLog, "InMemoryRepositoryLogWriter-" + repositoryName);
+        logWriter.setDaemon(true);
+        logWriter.start();
+
+        snapshotWriter = Executors.newSingleThreadScheduledExecutor(runnable ->
+                                                                    {
+                                                                        Thread thread = new Thread(runnable, "InMemoryRepositorySnapshotWriter-" + repositoryName);
+                                                                        thread.setDaemon(true);
+                                                                        return thread;
+                                                                    });
+        snapshotWriter.scheduleWithFixedDelay(this::takeSnapshot, snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+
+        store.setPersistence(this);
+
+        OMRSAuditCode auditCode = OMRSAuditCode.IN_MEMORY_STORE_RECOVERED;
+        auditLog.logRecord(actionDescription,
+                           auditCode.getLogMessageId(),
+                           auditCode.getSeverity(),
+                           auditCode.getFormattedLogMessage(repositoryName,
+                                                            Integer.toString(typeCount),
+                                                            Integer.toString(instanceCount),
+                                                            Long.toString(recordCount),
+                                                            directory.getPath(),
+                                                            Long.toString(System.currentTimeMillis() - startTime)),
+                           null,
+                           auditCode.getSystemAction(),
+                           auditCode.getUserAction());
+    }
+
+
+    /**
+     * Write a final snapshot, flush the outstanding log records and stop the background threads.
+     */
+    void stop()
+    {
+        if (active)
+        {
+            snapshotWriter.shutdown();
+
+            try
+            {
+                snapshotWriter.awaitTermination(snapshotIntervalSeconds, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            store.setPersistence(null);
+            takeSnapshot();
+
+            active = false;
+
+            try
+            {
+                logWriter.join();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Queue a change to the store for the log writer.  This is called while the store is locked so the records
+     * are queued in the order that the changes are made.
+     *
+     * @param operation type of change
+     * @param payload parameter of the change
+     */
+    void logMutation(InMemoryOMRSLogOperation operation,
+                     Object                   payload)
+    {
+        if (active)
+        {
+            try
+            {
+                byte[]     payloadBytes = objectMapper.writeValueAsBytes(payload);
+                ByteBuffer record       = ByteBuffer.allocate(payloadBytes.length + 9);
+                CRC32      checksum     = new CRC32();
+
+                checksum.update(operation.getCode());
+                checksum.update(payloadBytes);
+
+                record.putInt(payloadBytes.length);
+                record.putInt((int) checksum.getValue());
+                record.put(operation.getCode());
+                record.put(payloadBytes);
+                record.flip();
+
+                pendingEntries.add(new LogEntry(record, 0));
+                recordsSinceSnapshot.incrementAndGet();
+            }
+            catch (IOException error)
+            {
+                logPersistenceError("encode a " + operation.name() + " log record", error);
+            }
+        }
+    }
+
+
+    /**
+     * Body of the log writer thread.  It waits for a record and then for the rest of the commit interval so that
+     * all of the records that arrive in the meantime are written and forced together.  It continues until it is
+     * stopped and the queue is empty.
+     */
+    private void writeLog()
+    {
+        List<LogEntry> batch = new ArrayList<>();
+
+        while (active || (! pendingEntries.isEmpty()))
+        {
+            try
+            {
+                LogEntry firstEntry = pendingEntries.poll(commitIntervalMillis, TimeUnit.MILLISECONDS);
+
+                if (firstEntry != null)
+                {
+                    long waitTime = lastForceTime + commitIntervalMillis - System.currentTimeMillis();
+
+                    if (active && (waitTime > 0))
+                    {
+                        Thread.sleep(waitTime);
+                    }
+
+                    batch.add(firstEntry);
+                    pendingEntries.drainTo(batch);
+
+                    writeBatch(batch);
+                    batch.clear();
+                }
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Log writer interrupted");
+            }
+        }
+
+        closeLogSegment();
+    }
+
+
+    /**
+     * Write a batch of log entries.  The records are written to the current segment until an entry requests a
+     * new segment.
+     *
+     * @param batch list of entries
+     */
+    private void writeBatch(List<LogEntry> batch)
+    {
+        List<ByteBuffer> records = new ArrayList<>();
+
+        for (LogEntry entry : batch)
+        {
+            if (entry.record != null)
+            {
+                records.add(entry.record);
+            }
+            else
+            {
+                writeRecords(records);
+                records.clear();
+
+                closeLogSegment();
+                openLogSegment(entry.newSegment);
+            }
+        }
+
+        writeRecords(records);
+    }
+
+
+    /**
+     * Append records to the current log segment and force them to disk.
+     *
+     * @param records list of encoded records
+     */
+    private void writeRecords(List<ByteBuffer> records)
+    {
+        if ((logChannel != null) && (! records.isEmpty()))
+        {
+            ByteBuffer[] buffers = records.toArray(new ByteBuffer[0]);
+
+            try
+            {
+                while (buffers[buffers.length - 1].hasRemaining())
+                {
+                    logChannel.write(buffers);
+                }
+
+                logChannel.force(false);
+                lastForceTime = System.currentTimeMillis();
+            }
+            catch (IOException error)
+            {
+                logPersistenceError("write to the log", error);
+            }
+        }
+    }
+
+
+    /**
+     * Open a new log segment.
+     *
+     * @param segment segment number
+     */
+    private void openLogSegment(long segment)
+    {
+        try
+        {
+            logChannel = FileChannel.open(getSegmentFile(logFilePrefix, logFileSuffix, segment).toPath(),
+                                          StandardOpenOption.CREATE,
+                                          StandardOpenOption.WRITE,
+                                          StandardOpenOption.APPEND);
+        }
+        catch (IOException error)
+        {
+            logChannel = null;
+            logPersistenceError("open log segment " + segment, error);
+        }
+    }
+
+
+    /**
+     * Close the current log segment.
+     */
+    private void closeLogSegment()
+    {
+        if (logChannel != null)
+        {
+            try
+            {
+                logChannel.close();
+            }
+            catch (IOException error)
+            {
+                logPersistenceError("close the log", error);
+            }
+
+            logChannel = null;
+        }
+    }
+
+
+    /**
+     * Copy the store and write it to a new snapshot if it has changed since the last one.  The copy and the
+     * switch to a new log segment are made while the store is locked so the log records in the new segment
+     * are exactly the changes made after the copy.
+     */
+    private void takeSnapshot()
+    {
+        try
+        {
+            if (recordsSinceSnapshot.get() > 0)
+            {
+                StoreContent content;
+                long         segment;
+
+                synchronized (store)
+                {
+                    content = store.getStoreContent();
+                    segment = ++currentSegment;
+
+                    recordsSinceSnapshot.set(0);
+                    pendingEntries.add(new LogEntry(null, segment));
+                }
+
+                try
+                {
+                    writeSnapshot(segment, content);
+                }
+                catch (IOException | RuntimeException error)
+                {
+                    /*
+                     * The log segments are kept so nothing is lost.  Try again at the next interval.
+                     */
+                    recordsSinceSnapshot.incrementAndGet();
+                    logPersistenceError("write snapshot " + segment, error);
+                    return;
+                }
+
+                for (File oldFile : getSegmentFiles(snapshotFilePrefix, snapshotFileSuffix).headMap(segment).values())
+                {
+                    Files.deleteIfExists(oldFile.toPath());
+                }
+
+                for (File oldFile : getSegmentFiles(logFilePrefix, logFileSuffix).headMap(segment).values())
+                {
+                    Files.deleteIfExists(oldFile.toPath());
+                }
+            }
+        }
+        catch (Throwable error)
+        {
+            logPersistenceError("take a snapshot", error);
+        }
+    }
+
+
+    /**
+     * Write the contents of the store to a snapshot file.  The file is written under a temporary name and renamed
+     * once it is on disk so a partly written snapshot is never loaded.
+     *
+     * @param segment number of the first log segment that is not included in the snapshot
+     * @param content copy of the store
+     * @throws IOException unable to write the file
+     */
+    private void writeSnapshot(long         segment,
+                               StoreContent content) throws IOException
+    {
+        File  snapshotFile = getSegmentFile(snapshotFilePrefix, snapshotFileSuffix, segment);
+        File  tempFile     = new File(snapshotFile.getPath() + tempFileSuffix);
+        CRC32 checksum     = new CRC32();
+
+        try (FileOutputStream fileStream = new FileOutputStream(tempFile))
+        {
+            DataOutputStream snapshotStream = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(fileStream, bufferSize),
+                                                                                           checksum));
+
+            snapshotStream.writeInt(snapshotMagicNumber);
+            snapshotStream.writeInt(snapshotVersion);
+
+            writeSection(snapshotStream, content.attributeTypeDefs);
+            writeSection(snapshotStream, content.typeDefs);
+            writeSection(snapshotStream, content.entities);
+            writeSection(snapshotStream, content.entityProxies);
+            writeSection(snapshotStream, content.entityHistory);
+            writeSection(snapshotStream, content.relationships);
+            writeSection(snapshotStream, content.relationshipHistory);
+
+            snapshotStream.writeInt((int) checksum.getValue());
+            snapshotStream.flush();
+            fileStream.getFD().sync();
+        }
+
+        Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+
+    /**
+     * Write the elements of one of the stores to the snapshot as a count followed by a length-prefixed
+     * encoding of each element.
+     *
+     * @param snapshotStream stream to write to
+     * @param elements list of elements
+     * @throws IOException unable to encode or write an element
+     */
+    private void writeSection(DataOutputStream snapshotStream,
+                              List<?>          elements) throws IOException
+    {
+        snapshotStream.writeInt(elements.size());
+
+        for (Object element : elements)
+        {
+            byte[] elementBytes = objectMapper.writeValueAsBytes(element);
+
+            snapshotStream.writeInt(elementBytes.length);
+            snapshotStream.write(elementBytes);
+        }
+    }
+
+
+    /**
+     * Read the contents of the store from a snapshot file.
+     *
+     * @param snapshotFile file to read
+     * @return copy of the store
+     * @throws IOException the file is damaged
+     */
+    private StoreContent readSnapshot(File snapshotFile) throws IOException
+    {
+        StoreContent content  = new StoreContent();
+        CRC32        checksum = new CRC32();
+
+        try (DataInputStream snapshotStream = new DataInputStream(new CheckedInputStream(new BufferedInputStream(new FileInputStream(snapshotFile), bufferSize),
+                                                                                         checksum)))
+        {
+            if ((snapshotStream.readInt() != snapshotMagicNumber) || (snapshotStream.readInt() != snapshotVersion))
+            {
+                throw new IOException("Unrecognized snapshot format in " + snapshotFile.getPath());
+            }
+
+            List<byte[]> attributeTypeDefs   = readSection(snapshotStream);
+            List<byte[]> typeDefs            = readSection(snapshotStream);
+            List<byte[]> entities            = readSection(snapshotStream);
+            List<byte[]> entityProxies       = readSection(snapshotStream);
+            List<byte[]> entityHistory       = readSection(snapshotStream);
+            List<byte[]> relationships       = readSection(snapshotStream);
+            List<byte[]> relationshipHistory = readSection(snapshotStream);
+            int          expectedChecksum    = (int) checksum.getValue();
+
+            if (snapshotStream.readInt() != expectedChecksum)
+            {
+                throw new IOException("Checksum mismatch in " + snapshotFile.getPath());
+            }
+
+            content.attributeTypeDefs = decodeElements(attributeTypeDefs, AttributeTypeDef.class);
+            content.typeDefs = decodeElements(typeDefs, TypeDef.class);
+            content.entities = decodeElements(entities, EntityDetail.class);
+            content.entityProxies = decodeElements(entityProxies, EntityProxy.class);
+            content.entityHistory = decodeElements(entityHistory, EntityDetail.class);
+            content.relationships = decodeElements(relationships, Relationship.class);
+            content.relationshipHistory = decodeElements(relationshipHistory, Relationship.class);
+        }
+
+        return content;
+    }
+
+
+    /**
+     * Read the encoded elements of one of the stores from the snapshot.
+     *
+     * @param snapshotStream stream to read from
+     * @return list of encoded elements
+     * @throws IOException the snapshot is truncated
+     */
+    private List<byte[]> readSection(DataInputStream snapshotStream) throws IOException
+    {
+        int          elementCount = snapshotStream.readInt();
+        List<byte[]> elements     = new ArrayList<>();
+
+        for (int i = 0; i < elementCount; i++)
+        {
+            byte[] elementBytes = new byte[snapshotStream.readInt()];
+
+            snapshotStream.readFully(elementBytes);
+            elements.add(elementBytes);
+        }
+
+        return elements;
+    }
+
+
+    /**
+     * Decode a list of elements in parallel, keeping their order.
+     *
+     * @param encodedElements list of encoded elements
+     * @param elementClass class of the elements
+     * @param <T> type of the elements
+     * @return list of decoded elements
+     * @throws IOException an element could not be decoded
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> decodeElements(List<byte[]> encodedElements,
+                                       Class<T>     elementClass) throws IOException
+    {
+        Object[] elements = new Object[encodedElements.size()];
+
+        try
+        {
+            IntStream.range(0, elements.length).parallel().forEach(index -> elements[index] = decodeElement(encodedElements.get(index), elementClass));
+        }
+        catch (UncheckedIOException error)
+        {
+            throw error.getCause();
+        }
+
+        return (List<T>) Arrays.asList(elements);
+    }
+
+
+    /**
+     * Decode a single element.
+     *
+     * @param elementBytes encoded element
+     * @param elementClass class of the element
+     * @return decoded element
+     */
+    private Object decodeElement(byte[]   elementBytes,
+                                 Class<?> elementClass)
+    {
+        try
+        {
+            return objectMapper.readValue(elementBytes, elementClass);
+        }
+        catch (IOException error)
+        {
+            throw new UncheckedIOException(error);
+        }
+    }
+
+
+    /**
+     * Replay the records from a log segment into the store.  Reading stops at the first incomplete or damaged
+     * record, which is where the writer was when the server stopped.
+     *
+     * @param store store to update
+     * @param logFile log segment
+     * @return number of records replayed
+     * @throws IOException unable to read the file or decode a record
+     */
+    private long replayLog(InMemoryOMRSMetadataStore store,
+                           File                      logFile) throws IOException
+    {
+        List<InMemoryOMRSLogOperation> operations = new ArrayList<>();
+        List<byte[]>                   payloads   = new ArrayList<>();
+        long                           fileLength = logFile.length();
+
+        try (DataInputStream logStream = new DataInputStream(new BufferedInputStream(new FileInputStream(logFile), bufferSize)))
+        {
+            while (true)
+            {
+                int payloadLength;
+
+                try
+                {
+                    payloadLength = logStream.readInt();
+                }
+                catch (EOFException endOfLog)
+                {
+                    break;
+                }
+
+                try
+                {
+                    if ((payloadLength < 0) || (payloadLength > fileLength))
+                    {
+                        log.warn("Ignoring damaged record at the end of " + logFile.getPath());
+                        break;
+                    }
+
+                    int    expectedChecksum = logStream.readInt();
+                    byte   code             = logStream.readByte();
+                    byte[] payload          = new byte[payloadLength];
+                    CRC32  checksum         = new CRC32();
+
+                    logStream.readFully(payload);
+                    checksum.update(code);
+                    checksum.update(payload);
+
+                    InMemoryOMRSLogOperation operation = InMemoryOMRSLogOperation.getOperation(code);
+
+                    if ((operation == null) || ((int) checksum.getValue() != expectedChecksum))
+                    {
+                        log.warn("Ignoring damaged record at the end of " + logFile.getPath());
+                        break;
+                    }
+
+                    operations.add(operation);
+                    payloads.add(payload);
+                }
+                catch (EOFException incompleteRecord)
+                {
+                    log.warn("Ignoring incomplete record at the end of " + logFile.getPath());
+                    break;
+                }
+            }
+        }
+
+        Object[] decodedPayloads = new Object[payloads.size()];
+
+        try
+        {
+            IntStream.range(0, decodedPayloads.length).parallel().forEach(index -> decodedPayloads[index] = decodeElement(payloads.get(index),
+                                                                                                                           operations.get(index).getPayloadClass()));
+        }
+        catch (UncheckedIOException error)
+        {
+            throw error.getCause();
+        }
+
+        for (int index = 0; index < decodedPayloads.length; index++)
+        {
+            store.applyLogRecord(operations.get(index), decodedPayloads[index]);
+        }
+
+        return decodedPayloads.length;
+    }
+
+
+    /**
+     * Return the files of one kind in the directory, keyed by segment number.
+     *
+     * @param prefix start of the file name
+     * @param suffix end of the file name
+     * @return sorted map of segment number to file
+     */
+    private SortedMap<Long, File> getSegmentFiles(String prefix,
+                                                  String suffix)
+    {
+        SortedMap<Long, File> segmentFiles = new TreeMap<>();
+        File[]                files        = directory.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(suffix));
+
+        if (files != null)
+        {
+            for (File file : files)
+            {
+                String name = file.getName();
+
+                try
+                {
+                    segmentFiles.put(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())), file);
+                }
+                catch (NumberFormatException error)
+                {
+                    log.debug("Ignoring unrecognized file " + file.getPath());
+                }
+            }
+        }
+
+        return segmentFiles;
+    }
+
+
+    /**
+     * Return the file for a segment.
+     *
+     * @param prefix start of the file name
+     * @param suffix end of the file name
+     * @param segment segment number
+     * @return file
+     */
+    private File getSegmentFile(String prefix,
+                                String suffix,
+                                long   segment)
+    {
+        return new File(directory, prefix + String.format("%016d", segment) + suffix);
+    }
+
+
+    /**
+     * Log an error writing to the directory.  The store carries on without it.
+     *
+     * @param activity what was being attempted
+     * @param error exception
+     */
+    private void logPersistenceError(String    activity,
+                                     Throwable error)
+    {
+        OMRSAuditCode auditCode = OMRSAuditCode.IN_MEMORY_STORE_PERSISTENCE_ERROR;
+        auditLog.logRecord(actionDescription,
+                           auditCode.getLogMessageId(),
+                           auditCode.getSeverity(),
+                           auditCode.getFormattedLogMessage(repositoryName, activity, directory.getPath(), error.getMessage()),
+                           null,
+                           auditCode.getSystemAction(),
+                           auditCode.getUserAction());
+    }
+
+
+    /**
+     * LogEntry is an item on the queue for the log writer.  It is either an encoded record or a request to
+     * start a new log segment.
+     */
+    private static class LogEntry
+    {
+        private final ByteBuffer record;
+        private final long       newSegment;
+
+
+        /**
+         * Constructor
+         *
+         * @param record encoded record (null for a new segment)
+         * @param newSegment number of the new segment
+         */
+        LogEntry(ByteBuffer record,
+                 long       newSegment)
+        {
+            this.record = record;
+            this.newSegment = newSegment;
+        }
+    }
+
+
+    /**
+     * StoreContent is a copy of the stores that make up an InMemoryOMRSMetadataStore.  The history lists are in
+     * the order they are held by the store, which is latest first.
+     */
+    static class StoreContent
+    {
+        List<AttributeTypeDef> attributeTypeDefs   = new ArrayList<>();
+        List<TypeDef>          typeDefs            = new ArrayList<>();
+        List<EntityDetail>     entities            = new ArrayList<>();
+        List<EntityProxy>      entityProxies       = new ArrayList<>();
+        List<EntityDetail>     entityHistory       = new ArrayList<>();
+        List<Relationship>     relationships       = new ArrayList<>();
+        List<Relationship>     relationshipHistory = new ArrayList<>();
+    }
+}
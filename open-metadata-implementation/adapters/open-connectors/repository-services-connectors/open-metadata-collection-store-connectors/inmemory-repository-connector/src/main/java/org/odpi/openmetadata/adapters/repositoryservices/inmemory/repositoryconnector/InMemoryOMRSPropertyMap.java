@@ -0,0 +1,254 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * InMemoryOMRSPropertyMap is the read-only map that holds the properties of an instance in the
+ * InMemoryOMRSMetadataStore.  The property names of a type are held once in a shared Layout, taken from the
+ * list of valid property names of the type.  Each instance holds an array of values in the order of the layout,
+ * rather than a hash table with its own copy of every property name.  The map is installed in the instance's
+ * InstanceProperties as a shared map, so any update to the properties takes a normal private copy first.
+ */
+class InMemoryOMRSPropertyMap extends AbstractMap<String, InstancePropertyValue> implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private final Layout                  layout;
+    private final InstancePropertyValue[] slots;
+    private final int                     propertyCount;
+
+
+    /**
+     * Constructor
+     *
+     * @param layout shared layout of the type
+     * @param slots values in layout order (null for a property that is not set)
+     * @param propertyCount number of values that are not null
+     */
+    InMemoryOMRSPropertyMap(Layout                  layout,
+                            InstancePropertyValue[] slots,
+                            int                     propertyCount)
+    {
+        this.layout = layout;
+        this.slots = slots;
+        this.propertyCount = propertyCount;
+    }
+
+
+    /**
+     * Return the value of the named property.
+     *
+     * @param propertyName name of the property
+     * @return value or null if it is not set
+     */
+    @Override
+    public InstancePropertyValue get(Object propertyName)
+    {
+        int slot = layout.getSlot(propertyName);
+
+        if (slot < 0)
+        {
+            return null;
+        }
+
+        return slots[slot];
+    }
+
+
+    /**
+     * Test whether the named property is set.
+     *
+     * @param propertyName name of the property
+     * @return boolean flag
+     */
+    @Override
+    public boolean containsKey(Object propertyName)
+    {
+        return get(propertyName) != null;
+    }
+
+
+    /**
+     * Return the number of properties that are set.
+     *
+     * @return count
+     */
+    @Override
+    public int size()
+    {
+        return propertyCount;
+    }
+
+
+    /**
+     * Return the properties that are set, in layout order.
+     *
+     * @return read-only set of entries
+     */
+    @Override
+    public Set<Entry<String, InstancePropertyValue>> entrySet()
+    {
+        return new AbstractSet<Entry<String, InstancePropertyValue>>()
+        {
+            @Override
+            public Iterator<Entry<String, InstancePropertyValue>> iterator()
+            {
+                return new SlotIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return propertyCount;
+            }
+        };
+    }
+
+
+    /**
+     * SlotIterator steps through the slots that hold a value.
+     */
+    private class SlotIterator implements Iterator<Entry<String, InstancePropertyValue>>
+    {
+        private int nextSlot = findSlot(0);
+
+
+        /**
+         * Return the index of the first slot from the supplied index that holds a value.
+         *
+         * @param startSlot index to start from
+         * @return index of slot or the length of the array if there are no more values
+         */
+        private int findSlot(int startSlot)
+        {
+            int slot = startSlot;
+
+            while ((slot < slots.length) && (slots[slot] == null))
+            {
+                slot++;
+            }
+
+            return slot;
+        }
+
+
+        /**
+         * Test whether there are more values.
+         *
+         * @return boolean flag
+         */
+        @Override
+        public boolean hasNext()
+        {
+            return nextSlot < slots.length;
+        }
+
+
+        /**
+         * Return the next property.
+         *
+         * @return name and value
+         */
+        @Override
+        public Entry<String, InstancePropertyValue> next()
+        {
+            if (nextSlot >= slots.length)
+            {
+                throw new NoSuchElementException();
+            }
+
+            Entry<String, InstancePropertyValue> entry = new SimpleImmutableEntry<>(layout.getPropertyName(nextSlot),
+                                                                                    slots[nextSlot]);
+
+            nextSlot = findSlot(nextSlot + 1);
+
+            return entry;
+        }
+    }
+
+
+    /**
+     * Layout maps the property names of a type to slot numbers.  There is one layout for each version of each
+     * type in the store and it is shared by all of the instances of that type.
+     */
+    static class Layout implements Serializable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final String[]             propertyNames;
+        private final Map<String, Integer> slotNumbers = new HashMap<>();
+
+
+        /**
+         * Constructor
+         *
+         * @param propertyNames names of the properties of the type
+         */
+        Layout(List<String> propertyNames)
+        {
+            this.propertyNames = new String[propertyNames.size()];
+
+            for (int slot = 0; slot < this.propertyNames.length; slot++)
+            {
+                String propertyName = propertyNames.get(slot);
+
+                this.propertyNames[slot] = propertyName;
+                slotNumbers.put(propertyName, slot);
+            }
+        }
+
+
+        /**
+         * Return the number of slots in the layout.
+         *
+         * @return slot count
+         */
+        int getSlotCount()
+        {
+            return propertyNames.length;
+        }
+
+
+        /**
+         * Return the slot of the named property.
+         *
+         * @param propertyName name of the property
+         * @return slot number or -1 if the property is not part of the layout
+         */
+        int getSlot(Object propertyName)
+        {
+            Integer slot = slotNumbers.get(propertyName);
+
+            if (slot == null)
+            {
+                return -1;
+            }
+
+            return slot;
+        }
+
+
+        /**
+         * Return the property name of a slot.
+         *
+         * @param slot slot number
+         * @return property name
+         */
+        String getPropertyName(int slot)
+        {
+            return propertyNames[slot];
+        }
+    }
+}
@@ -2,15 +2,34 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
 
 /**
  * The InMemoryOMRSRepositoryConnector is a connector to a local in memory repository.  It is used for test,
  * small scale fixed or temporary repositories where the initial content comes from open metadata archives and
- * other members of connected open metadata repository cohorts.
+ * other members of connected open metadata repository cohorts.  If its connection has an endpoint, the
+ * contents of the repository are also written to a snapshot and write-ahead log in the directory named by the
+ * endpoint's address, and recovered from there when the connector starts.
  */
 public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
 {
+    private static final Logger log = LoggerFactory.getLogger(InMemoryOMRSRepositoryConnector.class);
+
+    private String                               persistenceDirectory    = null;
+    private long                                 commitIntervalMillis    = InMemoryOMRSRepositoryConnectorProvider.defaultCommitIntervalMillis;
+    private long                                 snapshotIntervalSeconds = InMemoryOMRSRepositoryConnectorProvider.defaultSnapshotIntervalSeconds;
+    private InMemoryOMRSMetadataStorePersistence persistence             = null;
+
+
     /**
      * Default constructor used by the OCF Connector Provider.
      */
@@ -22,6 +41,37 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
     }
 
 
+    /**
+     * Initialize the connector.
+     *
+     * @param connectorInstanceId - unique id for the connector instance - useful for messages etc
+     * @param connectionProperties - POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String connectorInstanceId, ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        EndpointProperties   endpoint             = connectionProperties.getEndpoint();
+        AdditionalProperties additionalProperties = connectionProperties.getAdditionalProperties();
+
+        if (endpoint != null)
+        {
+            persistenceDirectory = endpoint.getAddress();
+        }
+
+        if (additionalProperties != null)
+        {
+            commitIntervalMillis = getLongProperty(additionalProperties,
+                                                   InMemoryOMRSRepositoryConnectorProvider.commitIntervalProperty,
+                                                   commitIntervalMillis);
+            snapshotIntervalSeconds = getLongProperty(additionalProperties,
+                                                      InMemoryOMRSRepositoryConnectorProvider.snapshotIntervalProperty,
+                                                      snapshotIntervalSeconds);
+        }
+    }
+
+
     /**
      * Set up the unique Id for this metadata collection.
      *
@@ -43,4 +93,103 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
                                                                           metadataCollectionId);
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Indicates that the connector is completely configured and can begin processing.  If persistence is
+     * configured, the contents of the repository are recovered before the connector becomes active.
+     *
+     * @throws ConnectorCheckedException the repository could not be recovered
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        final String methodName = "start";
+
+        if ((persistenceDirectory != null) && (super.metadataCollection instanceof InMemoryOMRSMetadataCollection))
+        {
+            persistence = new InMemoryOMRSMetadataStorePersistence(super.serverName,
+                                                                   persistenceDirectory,
+                                                                   commitIntervalMillis,
+                                                                   snapshotIntervalSeconds);
+
+            try
+            {
+                persistence.start(((InMemoryOMRSMetadataCollection) super.metadataCollection).getRepositoryStore());
+            }
+            catch (IOException | RuntimeException error)
+            {
+                persistence = null;
+
+                OMRSErrorCode errorCode = OMRSErrorCode.IN_MEMORY_STORE_RECOVERY_FAILED;
+                String        errorMessage = errorCode.getErrorMessageId()
+                                           + errorCode.getFormattedErrorMessage(super.serverName,
+                                                                                persistenceDirectory,
+                                                                                error.getMessage());
+
+                throw new ConnectorCheckedException(errorCode.getHTTPErrorCode(),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    errorMessage,
+                                                    errorCode.getSystemAction(),
+                                                    errorCode.getUserAction(),
+                                                    error);
+            }
+        }
+
+        super.start();
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.  The final changes are written to
+     * the snapshot before the connector stops.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        if (persistence != null)
+        {
+            persistence.stop();
+            persistence = null;
+        }
+
+        super.disconnect();
+    }
+
+
+    /**
+     * Return a numeric additional property, or the default value if it is not set or not a number.
+     *
+     * @param additionalProperties additional properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is missing or invalid
+     * @return property value
+     */
+    private long getLongProperty(AdditionalProperties additionalProperties,
+                                 String               propertyName,
+                                 long                 defaultValue)
+    {
+        Object propertyValue = additionalProperties.getProperty(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number) propertyValue).longValue();
+        }
+        else if (propertyValue != null)
+        {
+            try
+            {
+                return Long.parseLong(propertyValue.toString());
+            }
+            catch (NumberFormatException  error)
+            {
+                log.error("Ignoring invalid " + propertyName + " property: " + propertyValue);
+            }
+        }
+
+        return defaultValue;
+    }
+}
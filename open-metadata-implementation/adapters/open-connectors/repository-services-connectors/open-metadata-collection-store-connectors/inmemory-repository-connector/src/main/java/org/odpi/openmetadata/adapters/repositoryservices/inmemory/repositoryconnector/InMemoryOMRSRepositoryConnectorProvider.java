@@ -5,6 +5,9 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnectorProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * In the Open Connector Framework (OCF), a ConnectorProvider is a factory for a specific type of connector.
  * The InMemoryOMRSRepositoryConnectorProvider is the connector provider for the InMemoryOMRSRepositoryConnector.
@@ -14,6 +17,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
  * The InMemoryOMRSRepositoryConnectorProvider must initialize ConnectorProviderBase with the Java class
  * name of the OMRS Connector implementation (by calling super.setConnectorClassName(className)).
  * Then the connector provider will work.
+ *
+ * The in-memory repository is persisted to a directory if the connection has an endpoint.  The endpoint's address
+ * is the directory name.  The commitIntervalMillis and snapshotIntervalSeconds additional properties control how
+ * often changes are forced to the write-ahead log and how often a snapshot is written.
  */
 public class InMemoryOMRSRepositoryConnectorProvider extends OMRSRepositoryConnectorProviderBase
 {
@@ -21,6 +28,11 @@ public class InMemoryOMRSRepositoryConnectorProvider extends OMRSRepositoryConne
     static final String  connectorTypeName = "OMRS In Memory Repository Connector";
     static final String  connectorTypeDescription = "OMRS Repository Connector that uses an in-memory store.";
 
+    static final String  commitIntervalProperty = "commitIntervalMillis";
+    static final long    defaultCommitIntervalMillis = 50L;
+    static final String  snapshotIntervalProperty = "snapshotIntervalSeconds";
+    static final long    defaultSnapshotIntervalSeconds = 600L;
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -40,6 +52,12 @@ public class InMemoryOMRSRepositoryConnectorProvider extends OMRSRepositoryConne
         connectorType.setDescription(connectorTypeDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedAdditionalProperties = new ArrayList<>();
+        recognizedAdditionalProperties.add(commitIntervalProperty);
+        recognizedAdditionalProperties.add(snapshotIntervalProperty);
+
+        connectorType.setRecognizedAdditionalProperties(recognizedAdditionalProperties);
+
         super.connectorTypeBean = connectorType;
     }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the classification index of InMemoryOMRSMetadataStore follows the changes to the entities.
+ */
+public class TestInMemoryOMRSMetadataStore
+{
+    private InstanceType assetType = new InstanceType(TypeDefCategory.ENTITY_DEF,
+                                                      "AssetGUID",
+                                                      "Asset",
+                                                      1,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      null);
+
+
+    /**
+     * Return an entity of type Asset.
+     *
+     * @param guid unique identifier
+     * @param version version of the entity
+     * @param classificationNames names of the classifications attached to the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String    guid,
+                                   long      version,
+                                   String... classificationNames)
+    {
+        EntityDetail         entity          = new EntityDetail();
+        List<Classification> classifications = new ArrayList<>();
+
+        for (String classificationName : classificationNames)
+        {
+            Classification classification = new Classification();
+
+            classification.setName(classificationName);
+            classifications.add(classification);
+        }
+
+        entity.setGUID(guid);
+        entity.setType(new InstanceType(assetType));
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setVersion(version);
+        entity.setClassifications(classifications);
+
+        return entity;
+    }
+
+
+    /**
+     * Return the GUIDs of the entities returned by a classification lookup.
+     *
+     * @param store store to search
+     * @param matchAll true for entities with all of the classifications
+     * @param classificationNames names of the classifications
+     * @return sorted set of GUIDs
+     */
+    private Set<String> getClassifiedGUIDs(InMemoryOMRSMetadataStore store,
+                                           boolean                   matchAll,
+                                           String...                 classificationNames)
+    {
+        Set<String> guids = new TreeSet<>();
+
+        for (EntityDetail entity : store.getClassifiedEntities(Arrays.asList(classificationNames), matchAll))
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return a sorted set of GUIDs.
+     *
+     * @param guids unique identifiers
+     * @return sorted set
+     */
+    private Set<String> getGUIDs(String... guids)
+    {
+        return new TreeSet<>(Arrays.asList(guids));
+    }
+
+
+    /**
+     * Return a store with three classified entities.
+     *
+     * @return store
+     */
+    private InMemoryOMRSMetadataStore getStore()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("Entity1", 1, "Confidential"));
+        store.createEntityInStore(getEntity("Entity2", 1, "Confidential", "Critical"));
+        store.createEntityInStore(getEntity("Entity3", 1, "Critical"));
+
+        return store;
+    }
+
+
+    /**
+     * Under ANY the entities with any of the classifications are returned.  Under ALL only the entities with
+     * every classification are returned.
+     */
+    @Test public void testAnyAndAll()
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential"), getGUIDs("Entity1", "Entity2"));
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential", "Critical"), getGUIDs("Entity1", "Entity2", "Entity3"));
+        assertEquals(getClassifiedGUIDs(store, true, "Confidential", "Critical"), getGUIDs("Entity2"));
+        assertEquals(getClassifiedGUIDs(store, false, "Unknown"), getGUIDs());
+        assertEquals(getClassifiedGUIDs(store, false, "Unknown", "Critical"), getGUIDs("Entity2", "Entity3"));
+        assertEquals(getClassifiedGUIDs(store, true, "Unknown", "Critical"), getGUIDs());
+        assertEquals(getClassifiedGUIDs(store, false), getGUIDs());
+        assertTrue(store.getClassifiedEntities(null, false).isEmpty());
+    }
+
+
+    /**
+     * Classifying and declassifying an entity updates the index.
+     */
+    @Test public void testClassifyAndDeclassify()
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        store.updateEntityInStore(getEntity("Entity1", 2, "Confidential", "Critical"));
+
+        assertEquals(getClassifiedGUIDs(store, true, "Confidential", "Critical"), getGUIDs("Entity1", "Entity2"));
+
+        store.updateEntityInStore(getEntity("Entity2", 2, "Critical"));
+        store.updateEntityInStore(getEntity("Entity3", 2));
+
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential"), getGUIDs("Entity1"));
+        assertEquals(getClassifiedGUIDs(store, false, "Critical"), getGUIDs("Entity1", "Entity2"));
+
+        /*
+         * Reference copies are indexed too.
+         */
+        store.saveReferenceEntityToStore(getEntity("Reference1", 1, "Confidential"));
+
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential"), getGUIDs("Entity1", "Reference1"));
+
+        store.removeReferenceEntityFromStore("Reference1");
+
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential"), getGUIDs("Entity1"));
+    }
+
+
+    /**
+     * A soft-deleted entity keeps its classifications so it stays in the index until it is purged.  The
+     * metadata collection filters out deleted entities.  Restoring a version brings back its classifications.
+     */
+    @Test public void testDeleteRestoreAndPurge()
+    {
+        InMemoryOMRSMetadataStore store         = getStore();
+        EntityDetail              deletedEntity = getEntity("Entity2", 2, "Confidential", "Critical");
+
+        deletedEntity.setStatus(InstanceStatus.DELETED);
+        deletedEntity.setStatusOnDelete(InstanceStatus.ACTIVE);
+        store.updateEntityInStore(deletedEntity);
+
+        assertEquals(getClassifiedGUIDs(store, true, "Confidential", "Critical"), getGUIDs("Entity2"));
+
+        /*
+         * Restore the version before the delete, then declassify and restore again.
+         */
+        store.retrievePreviousVersionOfEntity("Entity2");
+
+        assertEquals(store.getEntity("Entity2").getStatus(), InstanceStatus.ACTIVE);
+        assertEquals(getClassifiedGUIDs(store, true, "Confidential", "Critical"), getGUIDs("Entity2"));
+
+        store.updateEntityInStore(getEntity("Entity2", 4));
+
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential", "Critical"), getGUIDs("Entity1", "Entity3"));
+
+        store.retrievePreviousVersionOfEntity("Entity2");
+
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential", "Critical"), getGUIDs("Entity1", "Entity2", "Entity3"));
+
+        /*
+         * Purge the entities.
+         */
+        store.removeEntityFromStore(store.getEntity("Entity2"));
+        store.removeEntityFromStore(store.getEntity("Entity3"));
+
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential", "Critical"), getGUIDs("Entity1"));
+        assertEquals(getClassifiedGUIDs(store, false, "Critical"), getGUIDs());
+
+        /*
+         * A purged entity can be restored from the history.
+         */
+        store.retrievePreviousVersionOfEntity("Entity3");
+
+        assertEquals(getClassifiedGUIDs(store, false, "Critical"), getGUIDs("Entity3"));
+    }
+
+
+    /**
+     * The index is rebuilt when the content of a store is loaded from a snapshot.
+     */
+    @Test public void testSnapshotLoad()
+    {
+        InMemoryOMRSMetadataStore store = getStore();
+
+        store.updateEntityInStore(getEntity("Entity3", 2, "Confidential"));
+        store.removeEntityFromStore(store.getEntity("Entity1"));
+
+        InMemoryOMRSMetadataStore loadedStore = new InMemoryOMRSMetadataStore();
+
+        loadedStore.createEntityInStore(getEntity("Replaced", 1, "Confidential", "Critical"));
+        loadedStore.loadStoreContent(store.getStoreContent());
+
+        assertEquals(getClassifiedGUIDs(loadedStore, false, "Confidential"), getGUIDs("Entity2", "Entity3"));
+        assertEquals(getClassifiedGUIDs(loadedStore, false, "Critical"), getGUIDs("Entity2"));
+        assertEquals(getClassifiedGUIDs(loadedStore, true, "Confidential", "Critical"), getGUIDs("Entity2"));
+
+        /*
+         * The history is loaded too.
+         */
+        loadedStore.retrievePreviousVersionOfEntity("Entity1");
+
+        assertEquals(getClassifiedGUIDs(loadedStore, false, "Confidential"), getGUIDs("Entity1", "Entity2", "Entity3"));
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential"), getGUIDs("Entity2", "Entity3"));
+        assertEquals(loadedStore.getClassifiedEntities(Collections.singletonList("Critical"), false).size(), 1);
+    }
+}
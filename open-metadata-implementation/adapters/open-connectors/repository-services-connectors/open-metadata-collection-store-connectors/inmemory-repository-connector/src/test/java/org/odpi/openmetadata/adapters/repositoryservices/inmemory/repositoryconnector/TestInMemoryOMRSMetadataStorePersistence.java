@@ -0,0 +1,730 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that InMemoryOMRSMetadataStorePersistence recovers the contents of the store, and its indexes, from
+ * the snapshot and the write-ahead log.  A server failure is simulated by copying the directory while the
+ * persistence component is still running.
+ */
+public class TestInMemoryOMRSMetadataStorePersistence
+{
+    private static final String repositoryName = "TestRepository";
+    private static final long   commitInterval = 1;
+    private static final long   neverSnapshot  = 3600;
+
+    private List<File>                                                        directories  = new ArrayList<>();
+    private Map<InMemoryOMRSMetadataStore, InMemoryOMRSMetadataStorePersistence> persistences = new IdentityHashMap<>();
+
+    private InstanceType assetType        = new InstanceType(TypeDefCategory.ENTITY_DEF,
+                                                             "AssetGUID",
+                                                             "Asset",
+                                                             1,
+                                                             null,
+                                                             null,
+                                                             Collections.singletonList(new TypeDefLink("ReferenceableGUID", "Referenceable")),
+                                                             null,
+                                                             Arrays.asList("qualifiedName", "name"));
+    private InstanceType relationshipType = new InstanceType(TypeDefCategory.RELATIONSHIP_DEF,
+                                                             "AssetLinkGUID",
+                                                             "AssetLink",
+                                                             1,
+                                                             null,
+                                                             null,
+                                                             null,
+                                                             null,
+                                                             null);
+
+
+    /**
+     * Start each test with a new directory.
+     *
+     * @throws IOException unable to create the directory
+     */
+    @BeforeMethod public void createDirectory() throws IOException
+    {
+        directories.add(Files.createTempDirectory("TestInMemoryRepository").toFile());
+    }
+
+
+    /**
+     * Stop the persistence components and remove the directories.
+     *
+     * @throws IOException unable to remove a directory
+     */
+    @AfterMethod public void removeDirectories() throws IOException
+    {
+        for (InMemoryOMRSMetadataStorePersistence persistence : persistences.values())
+        {
+            persistence.stop();
+        }
+
+        for (File directory : directories)
+        {
+            FileUtils.deleteDirectory(directory);
+        }
+
+        persistences.clear();
+        directories.clear();
+    }
+
+
+    /**
+     * Return a new store recovered from a directory.
+     *
+     * @param directory directory for the snapshot and log files
+     * @return store
+     * @throws IOException the directory could not be read
+     */
+    private InMemoryOMRSMetadataStore startStore(File directory) throws IOException
+    {
+        InMemoryOMRSMetadataStore            store       = new InMemoryOMRSMetadataStore();
+        InMemoryOMRSMetadataStorePersistence persistence = new InMemoryOMRSMetadataStorePersistence(repositoryName,
+                                                                                                    directory.getPath(),
+                                                                                                    commitInterval,
+                                                                                                    neverSnapshot);
+
+        store.setRepositoryName(repositoryName);
+        persistence.start(store);
+        persistences.put(store, persistence);
+
+        return store;
+    }
+
+
+    /**
+     * Stop the persistence component of a store, which writes a final snapshot.
+     *
+     * @param store store started by startStore()
+     */
+    private void stopStore(InMemoryOMRSMetadataStore store)
+    {
+        persistences.remove(store).stop();
+    }
+
+
+    /**
+     * Return an entity of type Asset.
+     *
+     * @param guid unique identifier
+     * @param qualifiedName unique name
+     * @param classificationNames names of the classifications attached to the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String    guid,
+                                   String    qualifiedName,
+                                   String... classificationNames)
+    {
+        EntityDetail       entity     = new EntityDetail();
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("qualifiedName", getStringValue(qualifiedName));
+        properties.setProperty("name", getStringValue("Name of " + qualifiedName));
+
+        List<Classification> classifications = new ArrayList<>();
+
+        for (String classificationName : classificationNames)
+        {
+            Classification classification = new Classification();
+
+            classification.setName(classificationName);
+            classifications.add(classification);
+        }
+
+        entity.setGUID(guid);
+        entity.setType(new InstanceType(assetType));
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setVersion(1);
+        entity.setMetadataCollectionId("TestMetadataCollection");
+        entity.setCreatedBy("TestUser");
+        entity.setProperties(properties);
+        entity.setClassifications(classifications);
+
+        return entity;
+    }
+
+
+    /**
+     * Return a new version of an entity.
+     *
+     * @param entity current version
+     * @param qualifiedName unique name of the new version
+     * @param classificationNames names of the classifications attached to the new version
+     * @return entity
+     */
+    private EntityDetail getNewVersion(EntityDetail  entity,
+                                       String        qualifiedName,
+                                       String...     classificationNames)
+    {
+        EntityDetail newVersion = getEntity(entity.getGUID(), qualifiedName, classificationNames);
+
+        newVersion.setVersion(entity.getVersion() + 1);
+
+        return newVersion;
+    }
+
+
+    /**
+     * Return a string property value.
+     *
+     * @param value string value
+     * @return property value
+     */
+    private PrimitivePropertyValue getStringValue(String value)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(value);
+
+        return propertyValue;
+    }
+
+
+    /**
+     * Return a relationship between two entities.
+     *
+     * @param guid unique identifier
+     * @param entityOne entity at end 1
+     * @param entityTwo entity at end 2
+     * @return relationship
+     */
+    private Relationship getRelationship(String       guid,
+                                         EntityDetail entityOne,
+                                         EntityDetail entityTwo)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setType(new InstanceType(relationshipType));
+        relationship.setStatus(InstanceStatus.ACTIVE);
+        relationship.setVersion(1);
+        relationship.setEntityOneProxy(new EntityProxy(entityOne));
+        relationship.setEntityTwoProxy(new EntityProxy(entityTwo));
+
+        return relationship;
+    }
+
+
+    /**
+     * Make the first set of changes to the store.  The result is Entity1 (Confidential), Entity2 at version 2
+     * renamed to Asset2b and declassified, Entity3 (Confidential, Critical), Entity4 purged, a relationship
+     * between Entity1 and Entity3 and the Asset TypeDef.
+     *
+     * @param store store to change
+     * @return number of changes logged
+     */
+    private int makeFirstChanges(InMemoryOMRSMetadataStore store)
+    {
+        EntityDef assetDef = new EntityDef();
+
+        assetDef.setGUID("AssetGUID");
+        assetDef.setName("Asset");
+        store.putTypeDef(assetDef);
+
+        EntityDetail entity1 = store.createEntityInStore(getEntity("Entity1", "Asset1", "Confidential"));
+        EntityDetail entity2 = store.createEntityInStore(getEntity("Entity2", "Asset2", "Confidential"));
+        EntityDetail entity3 = store.createEntityInStore(getEntity("Entity3", "Asset3", "Confidential", "Critical"));
+        EntityDetail entity4 = store.createEntityInStore(getEntity("Entity4", "Asset4", "Critical"));
+
+        store.updateEntityInStore(getNewVersion(entity2, "Asset2b"));
+        store.removeEntityFromStore(entity4);
+        store.createRelationshipInStore(getRelationship("Relationship1", entity1, entity3));
+
+        return 8;
+    }
+
+
+    /**
+     * Make the second set of changes to the store.  Entity1 is declassified and deleted (soft delete), Entity3
+     * loses Confidential, Entity5 is added with the Confidential classification and the update to Entity2 is
+     * undone.
+     *
+     * @param store store to change
+     * @return number of changes logged
+     */
+    private int makeSecondChanges(InMemoryOMRSMetadataStore store)
+    {
+        EntityDetail deletedEntity1 = getNewVersion(store.getEntity("Entity1"), "Asset1");
+
+        deletedEntity1.setStatus(InstanceStatus.DELETED);
+
+        store.updateEntityInStore(deletedEntity1);
+        store.updateEntityInStore(getNewVersion(store.getEntity("Entity3"), "Asset3", "Critical"));
+        store.createEntityInStore(getEntity("Entity5", "Asset5", "Confidential"));
+        store.retrievePreviousVersionOfEntity("Entity2");
+
+        return 4;
+    }
+
+
+    /**
+     * Return a description of each of the entities in the store, the entity history and the relationships.
+     *
+     * @param store store to describe
+     * @return sorted set of descriptions
+     */
+    private Set<String> describeStore(InMemoryOMRSMetadataStore store)
+    {
+        InMemoryOMRSMetadataStorePersistence.StoreContent content      = store.getStoreContent();
+        Set<String>                                       descriptions = new TreeSet<>();
+
+        for (EntityDetail entity : content.entities)
+        {
+            descriptions.add(describeEntity("entity", entity));
+        }
+
+        for (EntityDetail entity : content.entityHistory)
+        {
+            descriptions.add(describeEntity("history", entity));
+        }
+
+        for (Relationship relationship : content.relationships)
+        {
+            descriptions.add("relationship:" + relationship.getGUID() + ":" + relationship.getVersion()
+                                     + ":" + relationship.getEntityOneProxy().getGUID()
+                                     + ":" + relationship.getEntityTwoProxy().getGUID());
+        }
+
+        for (TypeDef typeDef : content.typeDefs)
+        {
+            descriptions.add("typeDef:" + typeDef.getName());
+        }
+
+        return descriptions;
+    }
+
+
+    /**
+     * Return a description of an entity.
+     *
+     * @param prefix where the entity is stored
+     * @param entity entity to describe
+     * @return description
+     */
+    private String describeEntity(String       prefix,
+                                  EntityDetail entity)
+    {
+        Set<String> classificationNames = new TreeSet<>();
+
+        if (entity.getClassifications() != null)
+        {
+            for (Classification classification : entity.getClassifications())
+            {
+                classificationNames.add(classification.getName());
+            }
+        }
+
+        return prefix + ":" + entity.getGUID() + ":" + entity.getVersion() + ":" + entity.getStatus().getName()
+                      + ":" + ((PrimitivePropertyValue) entity.getProperties().getPropertyValue("qualifiedName")).getPrimitiveValue()
+                      + ":" + classificationNames;
+    }
+
+
+    /**
+     * Return the GUIDs of the entities returned by a classification lookup.
+     *
+     * @param store store to search
+     * @param matchAll true for entities with all of the classifications
+     * @param classificationNames names of the classifications
+     * @return sorted set of GUIDs
+     */
+    private Set<String> getClassifiedGUIDs(InMemoryOMRSMetadataStore store,
+                                           boolean                   matchAll,
+                                           String...                 classificationNames)
+    {
+        Set<String> guids = new TreeSet<>();
+
+        for (EntityDetail entity : store.getClassifiedEntities(Arrays.asList(classificationNames), matchAll))
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the log segment files in a directory, oldest first.
+     *
+     * @param directory directory to list
+     * @return list of files
+     */
+    private List<File> getLogFiles(File directory)
+    {
+        File[] logFiles = directory.listFiles((dir, name) -> name.startsWith("wal-") && name.endsWith(".log"));
+
+        assertNotNull(logFiles);
+        Arrays.sort(logFiles);
+
+        return Arrays.asList(logFiles);
+    }
+
+
+    /**
+     * Return the snapshot files in a directory.
+     *
+     * @param directory directory to list
+     * @return list of files
+     */
+    private List<File> getSnapshotFiles(File directory)
+    {
+        File[] snapshotFiles = directory.listFiles((dir, name) -> name.startsWith("snapshot-") && name.endsWith(".snap"));
+
+        assertNotNull(snapshotFiles);
+        Arrays.sort(snapshotFiles);
+
+        return Arrays.asList(snapshotFiles);
+    }
+
+
+    /**
+     * Count the complete records in the log segments of a directory.  Each record is a payload length,
+     * a checksum, an operation code and the payload.
+     *
+     * @param directory directory to read
+     * @return number of records
+     * @throws IOException unable to read a file
+     */
+    private int countLogRecords(File directory) throws IOException
+    {
+        int recordCount = 0;
+
+        for (File logFile : getLogFiles(directory))
+        {
+            long remaining = logFile.length();
+
+            try (DataInputStream logStream = new DataInputStream(new FileInputStream(logFile)))
+            {
+                while (remaining >= 9)
+                {
+                    int payloadLength = logStream.readInt();
+
+                    if (remaining < payloadLength + 9)
+                    {
+                        break;
+                    }
+
+                    logStream.skipBytes(payloadLength + 5);
+                    remaining = remaining - payloadLength - 9;
+                    recordCount++;
+                }
+            }
+        }
+
+        return recordCount;
+    }
+
+
+    /**
+     * Wait for the log writer to write the expected number of records and then copy the directory.  The copy is
+     * what would be found if the server failed at this point.
+     *
+     * @param directory directory in use by the persistence component
+     * @param recordCount number of records expected in the log
+     * @return copy of the directory
+     * @throws Exception the records are not written
+     */
+    private File getCrashImage(File directory,
+                               int  recordCount) throws Exception
+    {
+        long timeout = System.currentTimeMillis() + 10000;
+
+        while (countLogRecords(directory) < recordCount)
+        {
+            if (System.currentTimeMillis() > timeout)
+            {
+                fail("Log records not written: " + countLogRecords(directory) + " of " + recordCount);
+            }
+
+            Thread.sleep(10);
+        }
+
+        File crashImage = Files.createTempDirectory("TestInMemoryRepositoryCrash").toFile();
+
+        directories.add(crashImage);
+        FileUtils.copyDirectory(directory, crashImage);
+
+        return crashImage;
+    }
+
+
+    /**
+     * Check the indexes of a store that holds the result of the first and second changes.
+     *
+     * @param store recovered store
+     */
+    private void validateIndexes(InMemoryOMRSMetadataStore store)
+    {
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential"), new TreeSet<>(Arrays.asList("Entity2", "Entity5")));
+        assertEquals(getClassifiedGUIDs(store, false, "Critical"), new TreeSet<>(Collections.singletonList("Entity3")));
+        assertEquals(getClassifiedGUIDs(store, false, "Confidential", "Critical"),
+                     new TreeSet<>(Arrays.asList("Entity2", "Entity3", "Entity5")));
+        assertEquals(getClassifiedGUIDs(store, true, "Confidential", "Critical"), Collections.emptySet());
+
+        /*
+         * Entity2 is back to Asset2 after the restore, Entity1 is deleted and Entity4 is purged so new entities
+         * can use their names.
+         */
+        assertSame(store.createUniqueEntityInStore(getEntity("New2", "Asset2")), store.getEntity("Entity2"));
+        assertSame(store.createUniqueEntityInStore(getEntity("New3", "Asset3")), store.getEntity("Entity3"));
+        assertNotSame(store.createUniqueEntityInStore(getEntity("New1", "Asset1")), store.getEntity("Entity1"));
+        assertNotSame(store.createUniqueEntityInStore(getEntity("New2b", "Asset2b")), store.getEntity("Entity2"));
+        assertNotNull(store.getEntity("New1"));
+        assertNotNull(store.getEntity("New2b"));
+        assertNull(store.getEntity("New2"));
+        assertNull(store.getEntity("New3"));
+    }
+
+
+    /**
+     * The contents of the store survive a clean stop and restart.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testRoundTrip() throws Exception
+    {
+        File                      directory = directories.get(0);
+        InMemoryOMRSMetadataStore store     = startStore(directory);
+
+        makeFirstChanges(store);
+        makeSecondChanges(store);
+
+        Set<String> expectedContent = describeStore(store);
+
+        stopStore(store);
+
+        assertEquals(getSnapshotFiles(directory).size(), 1);
+
+        InMemoryOMRSMetadataStore recoveredStore = startStore(directory);
+
+        assertEquals(describeStore(recoveredStore), expectedContent);
+        assertTrue(expectedContent.contains("history:Entity4:1:Active:Asset4:[Critical]"));
+    }
+
+
+    /**
+     * The changes made since the start are replayed from the log after a failure.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testLogReplay() throws Exception
+    {
+        InMemoryOMRSMetadataStore store       = startStore(directories.get(0));
+        int                       recordCount = makeFirstChanges(store) + makeSecondChanges(store);
+        File                      crashImage  = getCrashImage(directories.get(0), recordCount);
+
+        assertEquals(getSnapshotFiles(crashImage).size(), 0);
+        assertEquals(describeStore(startStore(crashImage)), describeStore(store));
+    }
+
+
+    /**
+     * A record that was only partly written when the server failed is ignored and the records before it are
+     * recovered.  New records go to a new log segment so they are not lost behind the damaged record.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testTornLastRecord() throws Exception
+    {
+        InMemoryOMRSMetadataStore store       = startStore(directories.get(0));
+        int                       recordCount = makeFirstChanges(store);
+
+        Set<String> expectedContent = describeStore(store);
+
+        store.createEntityInStore(getEntity("Entity9", "Asset9"));
+
+        File       crashImage = getCrashImage(directories.get(0), recordCount + 1);
+        List<File> logFiles   = getLogFiles(crashImage);
+        File       lastLog    = logFiles.get(logFiles.size() - 1);
+
+        try (RandomAccessFile logFile = new RandomAccessFile(lastLog, "rw"))
+        {
+            logFile.setLength(logFile.length() - 3);
+        }
+
+        InMemoryOMRSMetadataStore recoveredStore = startStore(crashImage);
+
+        assertEquals(describeStore(recoveredStore), expectedContent);
+        assertNull(recoveredStore.getEntity("Entity9"));
+
+        /*
+         * A change after the recovery is written to a new segment and recovered after a second failure.
+         */
+        recoveredStore.createEntityInStore(getEntity("Entity10", "Asset10"));
+
+        File       secondCrashImage = getCrashImage(crashImage, recordCount + 1);
+        List<File> secondLogFiles   = getLogFiles(secondCrashImage);
+
+        assertTrue(secondLogFiles.size() > logFiles.size());
+
+        InMemoryOMRSMetadataStore secondRecoveredStore = startStore(secondCrashImage);
+
+        assertNotNull(secondRecoveredStore.getEntity("Entity10"));
+        assertNull(secondRecoveredStore.getEntity("Entity9"));
+    }
+
+
+    /**
+     * A last record with a bad checksum is ignored and the records before it are recovered.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testDamagedLastRecord() throws Exception
+    {
+        InMemoryOMRSMetadataStore store       = startStore(directories.get(0));
+        int                       recordCount = makeFirstChanges(store);
+
+        Set<String> expectedContent = describeStore(store);
+
+        store.createEntityInStore(getEntity("Entity9", "Asset9"));
+
+        File       crashImage = getCrashImage(directories.get(0), recordCount + 1);
+        List<File> logFiles   = getLogFiles(crashImage);
+
+        try (RandomAccessFile logFile = new RandomAccessFile(logFiles.get(logFiles.size() - 1), "rw"))
+        {
+            logFile.seek(logFile.length() - 1);
+
+            int lastByte = logFile.read();
+
+            logFile.seek(logFile.length() - 1);
+            logFile.write(lastByte ^ 0xFF);
+        }
+
+        assertEquals(describeStore(startStore(crashImage)), expectedContent);
+    }
+
+
+    /**
+     * After a failure the latest snapshot is loaded and the log segments written after it are replayed.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testSnapshotAndLogReplay() throws Exception
+    {
+        File                      directory = directories.get(0);
+        InMemoryOMRSMetadataStore store     = startStore(directory);
+
+        makeFirstChanges(store);
+        stopStore(store);
+
+        InMemoryOMRSMetadataStore restartedStore = startStore(directory);
+        int                       recordCount    = makeSecondChanges(restartedStore);
+        File                      crashImage     = getCrashImage(directory, recordCount);
+
+        assertEquals(getSnapshotFiles(crashImage).size(), 1);
+        assertEquals(countLogRecords(crashImage), recordCount);
+
+        assertEquals(describeStore(startStore(crashImage)), describeStore(restartedStore));
+    }
+
+
+    /**
+     * The qualifiedName and classification indexes are rebuilt when the store is recovered, from the log and
+     * from a snapshot.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testIndexRebuild() throws Exception
+    {
+        File                      directory   = directories.get(0);
+        InMemoryOMRSMetadataStore store       = startStore(directory);
+        int                       recordCount = makeFirstChanges(store) + makeSecondChanges(store);
+        File                      crashImage  = getCrashImage(directory, recordCount);
+
+        InMemoryOMRSMetadataStore replayedStore = startStore(crashImage);
+
+        validateIndexes(replayedStore);
+
+        /*
+         * Now recover from the snapshot written by a clean stop of the original store.
+         */
+        stopStore(replayedStore);
+        stopStore(store);
+
+        assertEquals(getSnapshotFiles(directory).size(), 1);
+
+        validateIndexes(startStore(directory));
+    }
+
+
+    /**
+     * A damaged snapshot stops the recovery rather than starting with part of the store.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testDamagedSnapshot() throws Exception
+    {
+        File                      directory = directories.get(0);
+        InMemoryOMRSMetadataStore store     = startStore(directory);
+
+        makeFirstChanges(store);
+        stopStore(store);
+
+        File snapshotFile = getSnapshotFiles(directory).get(0);
+
+        try (RandomAccessFile snapshot = new RandomAccessFile(snapshotFile, "rw"))
+        {
+            snapshot.seek(snapshot.length() / 2);
+
+            int middleByte = snapshot.read();
+
+            snapshot.seek(snapshot.length() / 2);
+            snapshot.write(middleByte ^ 0xFF);
+        }
+
+        try
+        {
+            startStore(directory);
+            fail("Damaged snapshot loaded");
+        }
+        catch (IOException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+}
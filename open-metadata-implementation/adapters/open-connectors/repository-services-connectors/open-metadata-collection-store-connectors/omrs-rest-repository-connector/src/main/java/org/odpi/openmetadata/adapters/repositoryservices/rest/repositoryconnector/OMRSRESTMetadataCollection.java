@@ -1,6 +1,9 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
@@ -13,8 +16,13 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.rest.properties.*;
+import org.odpi.openmetadata.repositoryservices.wireformat.OMRSWireFormat;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -22,6 +30,11 @@ import java.util.List;
  * The OMRSRESTMetadataCollection represents a remote metadata repository that supports the OMRS REST API.
  * Requests to this metadata collection are translated one-for-one to requests to the remote repository since
  * the OMRS REST API has a one-to-one correspondence with the metadata collection.
+ * <p>
+ * The payloads are encoded in JSON unless the connection's "wireFormat" additional property selects
+ * the binary SMILE encoding.  With SMILE, the remote server is asked to respond in SMILE but may still respond
+ * in JSON if it does not support the binary encoding.
+ * </p>
  */
 public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
 {
@@ -29,6 +42,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     static final private  String  urlPathRoot           = "/open-metadata/repository-services/";
 
     private String                restURLRoot;                /* Initialized in constructor */
+    private RestTemplate          restTemplate;               /* Initialized in constructor */
 
     /**
      * Default constructor.
@@ -56,6 +70,7 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         ConnectionProperties connection      = parentConnector.getConnection();
         String               endpointAddress = null;
+        OMRSWireFormat       wireFormat      = OMRSWireFormat.JSON;
 
         if (connection != null)
         {
@@ -65,10 +80,46 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
             {
                 endpointAddress = endpoint.getAddress();
             }
+
+            AdditionalProperties additionalProperties = connection.getAdditionalProperties();
+
+            if (additionalProperties != null)
+            {
+                wireFormat = OMRSWireFormat.getWireFormat(additionalProperties.getProperty(OMRSWireFormat.WIRE_FORMAT_PROPERTY_NAME));
+            }
         }
 
         super.repositoryName = defaultRepositoryName + endpointAddress;
         this.restURLRoot = endpointAddress + urlPathRoot;
+        this.restTemplate = this.getRestTemplate(wireFormat);
+    }
+
+
+    /**
+     * Build the RestTemplate used for all calls to the remote repository.  RestTemplate is thread-safe so a single
+     * instance is shared by all calls.  For the SMILE wire format, the SMILE message converter is placed
+     * first so that it is used for the request bodies and is listed first in the Accept header.  The JSON converter
+     * remains available for servers that respond in JSON.  Both converters ignore unknown properties in the
+     * responses, which is the default behavior of RestTemplate.
+     *
+     * @param wireFormat wire format to use
+     * @return configured RestTemplate
+     */
+    private RestTemplate getRestTemplate(OMRSWireFormat  wireFormat)
+    {
+        List<HttpMessageConverter<?>> messageConverters = new ArrayList<>();
+
+        if (wireFormat == OMRSWireFormat.SMILE)
+        {
+            ObjectMapper smileMapper = wireFormat.getObjectMapper().copy();
+
+            smileMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            messageConverters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+        }
+
+        messageConverters.add(new MappingJackson2HttpMessageConverter());
+
+        return new RestTemplate(messageConverters);
     }
 
 
@@ -93,7 +144,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
 
         try
         {
-            RestTemplate    restTemplate = new RestTemplate();
 
             restResult = restTemplate.getForObject(restURLRoot + urlTemplate, MetadataCollectionIdResponse.class);
         }
@@ -1140,6 +1190,43 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  All of the entities are
+     * retrieved on a single call to the remote server.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Entities that are not known in the metadata collection, or are
+     *         only known as a proxy, are skipped.  Null means none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String    methodName  = "getEntityDetails";
+        final String    urlTemplate = "users/{0}/instances/entities/by-guids";
+        GUIDListRequest guidListRequest = new GUIDListRequest();
+
+        guidListRequest.setGUIDs(guids);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + urlTemplate,
+                                                                        guidListRequest,
+                                                                        userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
 
     /**
      * Return the relationships for a specific entity.
@@ -1243,6 +1330,74 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the relationships for a list of entities together with the entities at the other end of each
+     * relationship.  All of the entities are retrieved on a single call to the remote server.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers for the entities of interest.  Entities that are not known in the
+     *                    metadata collection are skipped.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entities.  Null means return the
+     *                 present values.
+     * @param pageSize the maximum number of relationships that can be returned for each entity.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the relationships and the entities at the far end of the relationships.
+     *         Null means no relationships associated with the entities.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the relationships.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getRelationshipsAndRelatedEntities(String               userId,
+                                                            List<String>         entityGUIDs,
+                                                            String               relationshipTypeGUID,
+                                                            List<InstanceStatus> limitResultsByStatus,
+                                                            Date                 asOfTime,
+                                                            int                  pageSize) throws InvalidParameterException,
+                                                                                                  TypeErrorException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  PropertyErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String                  methodName  = "getRelationshipsAndRelatedEntities";
+        final String                  urlTemplate = "users/{0}/instances/entities/relationships";
+        EntityRelationshipsFindRequest findRequestParameters = new EntityRelationshipsFindRequest();
+        InstanceGraphResponse          restResult;
+
+        findRequestParameters.setEntityGUIDs(entityGUIDs);
+        findRequestParameters.setTypeGUID(relationshipTypeGUID);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setPageSize(pageSize);
+
+        restResult = this.callInstanceGraphPostRESTCall(methodName,
+                                                        restURLRoot + urlTemplate,
+                                                        findRequestParameters,
+                                                        userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return this.getInstanceGraphFromRESTResult(restResult);
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1681,6 +1836,43 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a list of relationships.  All of the relationships are retrieved on a single call to the
+     * remote server.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the relationships.
+     * @return list of relationships.  Relationships that are not known in the metadata collection are skipped.
+     *         Null means none of the relationships are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String    methodName  = "getRelationships";
+        final String    urlTemplate = "users/{0}/instances/relationships/by-guids";
+        GUIDListRequest guidListRequest = new GUIDListRequest();
+
+        guidListRequest.setGUIDs(guids);
+
+        RelationshipListResponse restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                                                    restURLRoot + urlTemplate,
+                                                                                    guidListRequest,
+                                                                                    userId);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getRelationships();
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -3754,7 +3946,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -3798,7 +3989,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
         }
@@ -3844,7 +4034,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -3890,7 +4079,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -3934,7 +4122,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
         }
@@ -3980,7 +4167,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -4024,7 +4210,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
         }
@@ -4068,7 +4253,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
         }
@@ -4114,7 +4298,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -4161,7 +4344,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -4207,7 +4389,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -4252,7 +4433,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -4296,7 +4476,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate  restTemplate  = new RestTemplate();
 
             restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
         }
@@ -4340,7 +4519,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
 
             restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
         }
@@ -4386,7 +4564,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -4430,7 +4607,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
 
             restResult = restTemplate.getForObject(urlTemplate, restResult.getClass(), params);
         }
@@ -4476,7 +4652,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -4522,7 +4697,6 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollection
          */
         try
         {
-            RestTemplate restTemplate = new RestTemplate();
 
             restResult = restTemplate.postForObject(urlTemplate, request, restResult.getClass(), params);
         }
@@ -7,6 +7,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorExc
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSMetricsMetadataCollection;
 
 /**
  * The OMRSRESTRepositoryConnector is a connector to a remote Apache Atlas repository (or any other metadata repository
@@ -15,7 +16,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
  */
 public class OMRSRESTRepositoryConnector extends OMRSRepositoryConnector
 {
-    private OMRSRESTMetadataCollection  metadataCollection   = null;
+    private OMRSMetadataCollection  metadataCollection   = null;
 
     /**
      * Default constructor used by the OCF Connector Provider.
@@ -38,13 +39,19 @@ public class OMRSRESTRepositoryConnector extends OMRSRepositoryConnector
         this.metadataCollectionId = metadataCollectionId;
 
         /*
-         * Initialize the metadata collection.
+         * Initialize the metadata collection.  It is wrapped so that the time spent on each call to the
+         * remote repository is measured when metrics are enabled.
          */
-        metadataCollection = new OMRSRESTMetadataCollection(this,
-                                                            super.repositoryName,
-                                                            repositoryHelper,
-                                                            repositoryValidator,
-                                                            metadataCollectionId);
+        metadataCollection = new OMRSMetricsMetadataCollection(this,
+                                                               super.repositoryName,
+                                                               metadataCollectionId,
+                                                               repositoryHelper,
+                                                               repositoryValidator,
+                                                               new OMRSRESTMetadataCollection(this,
+                                                                                              super.repositoryName,
+                                                                                              repositoryHelper,
+                                                                                              repositoryValidator,
+                                                                                              metadataCollectionId));
     }
 
 
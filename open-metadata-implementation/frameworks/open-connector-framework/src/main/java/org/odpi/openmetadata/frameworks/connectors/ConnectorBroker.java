@@ -13,17 +13,34 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.VirtualConnection;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The ConnectorBroker is a generic factory for Open Connector Framework (OCF) Connectors.
  * The OCF provides a default implementation because all of the implementation that is specific to a
  * particular type of connector is delegated to the connector provider specified in the connection.
+ *
+ * The ConnectorBroker can also return a shared connector for a connection.  Shared connectors are started
+ * by the ConnectorBroker and reused by all callers that request the same version of the connection
+ * (identified by the connection's qualified name and properties).  A caller using a shared connector
+ * calls releaseSharedConnector() rather than disconnect() when it has finished with it.
  */
 public class ConnectorBroker
 {
     private static final Logger log      = LoggerFactory.getLogger(ConnectorBroker.class);
     private final        int    hashCode = UUID.randomUUID().hashCode();
 
+    /*
+     * Connector provider classes that have already been loaded, keyed by class name.  This saves the class
+     * loader lookup each time a connector is created.
+     */
+    private static final Map<String, Class<?>> connectorProviderClasses = new ConcurrentHashMap<>();
+
+    /*
+     * Connectors shared between the callers of getSharedConnector.
+     */
+    private static final SharedConnectorCache  sharedConnectors = new SharedConnectorCache();
+
 
     /**
      * Typical constructor
@@ -166,7 +183,14 @@ public class ConnectorBroker
 
         try
         {
-            Class      connectorProviderClass = Class.forName(connectorProviderClassName);
+            Class<?>   connectorProviderClass = connectorProviderClasses.get(connectorProviderClassName);
+
+            if (connectorProviderClass == null)
+            {
+                connectorProviderClass = Class.forName(connectorProviderClassName);
+                connectorProviderClasses.put(connectorProviderClassName, connectorProviderClass);
+            }
+
             Object     potentialConnectorProvider = connectorProviderClass.newInstance();
 
             connectorProvider = (ConnectorProvider)potentialConnectorProvider;
@@ -516,6 +540,110 @@ public class ConnectorBroker
     }
 
 
+    /**
+     * Return a started connector for the supplied connection that is shared with the other callers using the
+     * same version of the connection.  The connector is created the first time the connection is requested.
+     * The caller must not call start() or disconnect() on the shared connector.  Instead it calls
+     * releaseSharedConnector() when it has finished with the connector.
+     *
+     * @param connection   properties for the connector and connector provider.
+     * @return shared connector instance.
+     * @throws ConnectionCheckedException an error with the connection.
+     * @throws ConnectorCheckedException an error initializing or starting the connector.
+     */
+    public Connector getSharedConnector(Connection connection) throws ConnectionCheckedException,
+                                                                      ConnectorCheckedException
+    {
+        if (connection == null)
+        {
+            return this.getConnector((ConnectionProperties)null);
+        }
+
+        return this.getSharedConnector(connection, null);
+    }
+
+
+    /**
+     * Return a started connector for the supplied connection that is only shared with the other callers using the
+     * same version of the connection and the same sharing scope.  This is used when the caller sets up state in
+     * the connector that must not be seen by other callers, such as the connected asset properties for a user.
+     * The caller calls releaseSharedConnector() when it has finished with the connector.
+     *
+     * @param connection   properties for the connector and connector provider.
+     * @param sharingScope name of the group of callers that may share the connector; null means all callers.
+     * @return shared connector instance.
+     * @throws ConnectionCheckedException an error with the connection.
+     * @throws ConnectorCheckedException an error initializing or starting the connector.
+     */
+    public Connector getSharedConnector(Connection connection,
+                                        String     sharingScope) throws ConnectionCheckedException,
+                                                                        ConnectorCheckedException
+    {
+        if (connection == null)
+        {
+            return this.getConnector((ConnectionProperties)null);
+        }
+
+        return sharedConnectors.borrowConnector(connection, sharingScope, this);
+    }
+
+
+    /**
+     * Release a connector returned by getSharedConnector().  A shared connector with no more callers using it is
+     * disconnected once it has been idle for the shared connector idle timeout.
+     *
+     * @param connector connector returned by getSharedConnector()
+     */
+    public void releaseSharedConnector(Connector connector)
+    {
+        sharedConnectors.releaseConnector(connector);
+    }
+
+
+    /**
+     * Set up the time that a shared connector with no callers using it remains available for reuse
+     * before it is disconnected.
+     *
+     * @param idleTimeout time in milliseconds; 0 means disconnect as soon as the last caller releases it
+     */
+    public static void setSharedConnectorIdleTimeout(long idleTimeout)
+    {
+        sharedConnectors.setIdleTimeout(idleTimeout);
+    }
+
+
+    /**
+     * Return the time that a shared connector with no callers using it remains available for reuse.
+     *
+     * @return time in milliseconds
+     */
+    public static long getSharedConnectorIdleTimeout()
+    {
+        return sharedConnectors.getIdleTimeout();
+    }
+
+
+    /**
+     * Disconnect all of the shared connectors, whether they are in use or not.  This is called when
+     * the process is shutting down.
+     */
+    public static void disconnectSharedConnectors()
+    {
+        sharedConnectors.disconnectAll();
+    }
+
+
+    /**
+     * Return the number of shared connectors that are currently connected.
+     *
+     * @return count
+     */
+    static int getSharedConnectorCount()
+    {
+        return sharedConnectors.getConnectorCount();
+    }
+
+
     /**
      * Provide an implementation of hashCode for all OCF Connector Broker objects.  The UUID is unique and
      * is randomly assigned and so its hashCode is as good as anything to describe the hash code of the connector
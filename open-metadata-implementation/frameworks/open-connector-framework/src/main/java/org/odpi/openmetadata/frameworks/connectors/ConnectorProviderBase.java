@@ -12,7 +12,9 @@ import org.odpi.openmetadata.frameworks.connectors.properties.ConnectorTypePrope
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ConnectorProviderBase is a base class for a connector provider.  It manages all of the class loading
@@ -35,6 +37,12 @@ public abstract class ConnectorProviderBase extends ConnectorProvider
 
     private static final Logger     log = LoggerFactory.getLogger(ConnectorProviderBase.class);
 
+    /*
+     * Connector classes that have already been loaded, keyed by class name.  This saves the class loader
+     * lookup each time a connector is created.
+     */
+    private static final Map<String, Class<?>> connectorClasses = new ConcurrentHashMap<>();
+
     /**
      * Typical constructor
      */
@@ -218,7 +226,14 @@ public abstract class ConnectorProviderBase extends ConnectorProvider
          */
         try
         {
-            Class      connectorClass = Class.forName(connectorClassName);
+            Class<?>   connectorClass = connectorClasses.get(connectorClassName);
+
+            if (connectorClass == null)
+            {
+                connectorClass = Class.forName(connectorClassName);
+                connectorClasses.put(connectorClassName, connectorClass);
+            }
+
             Object     potentialConnector = connectorClass.newInstance();
 
             connector = (Connector)potentialConnector;
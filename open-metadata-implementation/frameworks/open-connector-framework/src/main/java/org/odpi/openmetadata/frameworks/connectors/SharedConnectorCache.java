@@ -0,0 +1,534 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectionCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+
+
+/**
+ * SharedConnectorCache holds the connectors that are shared between the callers of
+ * ConnectorBroker.getSharedConnector().  There is one shared connector for each connection qualified name
+ * within each sharing scope.  A caller that puts its own state into the connector (for example, the connected
+ * asset properties of a user) supplies a sharing scope so that its connectors are only shared with callers
+ * using the same scope.
+ * If the definition of the connection changes (that is, a connection with the same qualified name but
+ * different properties is requested) a new connector is created for the new version of the connection and
+ * the old connector is retired.
+ * <p>
+ * A shared connector is started when it is created.  Each caller borrows the connector and then releases it
+ * when it is finished.  A connector that has no borrowers stays in the cache until it has been idle for the idle
+ * timeout.  It is then disconnected.  Retired connectors are disconnected as soon as their last borrower
+ * releases them.
+ * </p>
+ * <p>
+ * A connection without a qualified name can not be shared so each caller gets its own connector, which is
+ * disconnected when it is released.  Releasing a connector that was not issued by the cache, or releasing a
+ * connector more times than it was borrowed, is ignored.
+ * </p>
+ */
+class SharedConnectorCache
+{
+    private static final Logger log = LoggerFactory.getLogger(SharedConnectorCache.class);
+
+    private static final long   defaultIdleTimeout = 60000;
+
+    private Map<List<String>, SharedConnector> sharedConnectors   = new HashMap<>();
+    private List<SharedConnector>              retiredConnectors  = new ArrayList<>();
+    private Set<Connector>                     unsharedConnectors = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long                               idleTimeout        = defaultIdleTimeout;
+    private Timer                              evictionTimer      = null;
+
+
+    /**
+     * Set up the time that a connector with no borrowers stays in the cache.
+     *
+     * @param idleTimeout time in milliseconds; 0 means disconnect a connector as soon as it has no borrowers
+     */
+    void setIdleTimeout(long idleTimeout)
+    {
+        synchronized (this)
+        {
+            this.idleTimeout = Math.max(idleTimeout, 0);
+        }
+
+        this.evictIdleConnectors();
+    }
+
+
+    /**
+     * Return the time that a connector with no borrowers stays in the cache.
+     *
+     * @return time in milliseconds
+     */
+    synchronized long getIdleTimeout()
+    {
+        return idleTimeout;
+    }
+
+
+    /**
+     * Return the shared connector for the supplied connection.  A new connector is created and started using
+     * the connector broker if there is no connector for this version of the connection in the sharing scope.
+     *
+     * @param connection connection for the connector
+     * @param sharingScope name of the group of callers that may share the connector; null means all callers
+     * @param connectorBroker connector broker used to create a new connector
+     * @return started connector
+     * @throws ConnectionCheckedException an error with the connection.
+     * @throws ConnectorCheckedException an error initializing or starting the connector.
+     */
+    Connector borrowConnector(Connection      connection,
+                              String          sharingScope,
+                              ConnectorBroker connectorBroker) throws ConnectionCheckedException,
+                                                                      ConnectorCheckedException
+    {
+        String       qualifiedName = connection.getQualifiedName();
+        List<String> cacheKey      = Arrays.asList(sharingScope, qualifiedName);
+        Connector    connector     = null;
+
+        if (qualifiedName != null)
+        {
+            connector = this.borrowExistingConnector(cacheKey, connection);
+        }
+
+        if (connector != null)
+        {
+            return connector;
+        }
+
+        /*
+         * The connector is created and started outside of the lock so that a slow connector does not hold up
+         * the callers using other connections.
+         */
+        Connector newConnector = connectorBroker.getConnector(connection);
+
+        newConnector.start();
+
+        if (qualifiedName == null)
+        {
+            /*
+             * A connection without a name can not be shared.  The connector is disconnected when it is released.
+             */
+            synchronized (this)
+            {
+                unsharedConnectors.add(newConnector);
+            }
+
+            return newConnector;
+        }
+
+        Connector unusedConnector;
+
+        synchronized (this)
+        {
+            connector = this.borrowExistingConnector(cacheKey, connection);
+
+            if (connector == null)
+            {
+                SharedConnector oldSharedConnector = sharedConnectors.put(cacheKey,
+                                                                          new SharedConnector(cacheKey, connection, newConnector));
+
+                log.debug("New shared connector " + newConnector.getConnectorInstanceId() + " for connection " + cacheKey);
+
+                connector = newConnector;
+                unusedConnector = this.retireConnector(cacheKey, oldSharedConnector);
+            }
+            else
+            {
+                /*
+                 * Another caller created the connector first.
+                 */
+                unusedConnector = newConnector;
+            }
+        }
+
+        if (unusedConnector != null)
+        {
+            this.disconnectConnector(qualifiedName, unusedConnector);
+        }
+
+        return connector;
+    }
+
+
+    /**
+     * Return the connector for the supplied version of the connection if it is in the cache.
+     *
+     * @param cacheKey sharing scope and unique name of the connection
+     * @param connection connection for the connector
+     * @return borrowed connector or null
+     */
+    private synchronized Connector borrowExistingConnector(List<String> cacheKey,
+                                                           Connection   connection)
+    {
+        SharedConnector sharedConnector = sharedConnectors.get(cacheKey);
+
+        if ((sharedConnector != null) && (sharedConnector.connection.equals(connection)))
+        {
+            sharedConnector.referenceCount++;
+            sharedConnector.idleSince = 0;
+
+            return sharedConnector.connector;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Release a connector returned by borrowConnector.  Connectors that were not issued by the cache, or have
+     * already been released by all of their borrowers, are ignored.
+     *
+     * @param connector connector to release
+     */
+    void releaseConnector(Connector connector)
+    {
+        if (connector == null)
+        {
+            return;
+        }
+
+        String qualifiedName = null;
+
+        synchronized (this)
+        {
+            SharedConnector sharedConnector = this.findConnector(connector);
+
+            if (sharedConnector != null)
+            {
+                sharedConnector.referenceCount--;
+                qualifiedName = sharedConnector.connection.getQualifiedName();
+
+                if (sharedConnector.referenceCount > 0)
+                {
+                    return;
+                }
+
+                if (sharedConnectors.get(sharedConnector.cacheKey) == sharedConnector)
+                {
+                    if (idleTimeout > 0)
+                    {
+                        sharedConnector.idleSince = System.currentTimeMillis();
+                        this.scheduleEviction();
+
+                        return;
+                    }
+
+                    sharedConnectors.remove(sharedConnector.cacheKey);
+                }
+                else
+                {
+                    retiredConnectors.remove(sharedConnector);
+                }
+            }
+            else if (! unsharedConnectors.remove(connector))
+            {
+                log.debug("Ignoring release of connector " + connector.getConnectorInstanceId() + " that is not borrowed from the shared connector cache");
+
+                return;
+            }
+        }
+
+        this.disconnectConnector(qualifiedName, connector);
+    }
+
+
+    /**
+     * Return the cache entry for a connector that has at least one borrower.  The caller holds the lock.
+     *
+     * @param connector connector to find
+     * @return current or retired cache entry, or null if the connector is not borrowed
+     */
+    private SharedConnector findConnector(Connector connector)
+    {
+        for (SharedConnector sharedConnector : sharedConnectors.values())
+        {
+            if ((sharedConnector.connector == connector) && (sharedConnector.referenceCount > 0))
+            {
+                return sharedConnector;
+            }
+        }
+
+        for (SharedConnector sharedConnector : retiredConnectors)
+        {
+            if (sharedConnector.connector == connector)
+            {
+                return sharedConnector;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the number of borrowers of a connector.
+     *
+     * @param connector shared connector
+     * @return count (0 if the connector is not in the cache)
+     */
+    synchronized int getReferenceCount(Connector connector)
+    {
+        for (SharedConnector sharedConnector : sharedConnectors.values())
+        {
+            if (sharedConnector.connector == connector)
+            {
+                return sharedConnector.referenceCount;
+            }
+        }
+
+        for (SharedConnector sharedConnector : retiredConnectors)
+        {
+            if (sharedConnector.connector == connector)
+            {
+                return sharedConnector.referenceCount;
+            }
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Return the number of connectors in the cache (including the retired connectors that are still borrowed).
+     *
+     * @return count
+     */
+    synchronized int getConnectorCount()
+    {
+        return sharedConnectors.size() + retiredConnectors.size();
+    }
+
+
+    /**
+     * Disconnect the connectors that have had no borrowers for the idle timeout.
+     */
+    void evictIdleConnectors()
+    {
+        Map<Connector, String> idleConnectors = new IdentityHashMap<>();
+
+        synchronized (this)
+        {
+            long evictionTime = System.currentTimeMillis() - idleTimeout;
+
+            Iterator<SharedConnector> iterator = sharedConnectors.values().iterator();
+
+            while (iterator.hasNext())
+            {
+                SharedConnector sharedConnector = iterator.next();
+
+                if ((sharedConnector.referenceCount == 0) && (sharedConnector.idleSince <= evictionTime))
+                {
+                    iterator.remove();
+                    idleConnectors.put(sharedConnector.connector, sharedConnector.connection.getQualifiedName());
+                }
+            }
+
+            if (! this.hasIdleConnectors())
+            {
+                this.cancelEviction();
+            }
+        }
+
+        for (Map.Entry<Connector, String> entry : idleConnectors.entrySet())
+        {
+            this.disconnectConnector(entry.getValue(), entry.getKey());
+        }
+    }
+
+
+    /**
+     * Disconnect all of the connectors in the cache whatever their borrow count.  The process is shutting down.
+     */
+    void disconnectAll()
+    {
+        List<SharedConnector> allConnectors;
+        List<Connector>       allUnsharedConnectors;
+
+        synchronized (this)
+        {
+            allConnectors = new ArrayList<>(sharedConnectors.values());
+            allConnectors.addAll(retiredConnectors);
+            allUnsharedConnectors = new ArrayList<>(unsharedConnectors);
+
+            sharedConnectors.clear();
+            retiredConnectors.clear();
+            unsharedConnectors.clear();
+
+            this.cancelEviction();
+        }
+
+        for (SharedConnector sharedConnector : allConnectors)
+        {
+            this.disconnectConnector(sharedConnector.connection.getQualifiedName(), sharedConnector.connector);
+        }
+
+        for (Connector connector : allUnsharedConnectors)
+        {
+            this.disconnectConnector(null, connector);
+        }
+    }
+
+
+    /**
+     * Move a connector for an old version of a connection to the retired list.  It is disconnected when its
+     * last borrower releases it.  The caller holds the lock.
+     *
+     * @param cacheKey sharing scope and unique name of the connection
+     * @param sharedConnector connector for the old version of the connection (may be null)
+     * @return connector to disconnect now because it has no borrowers
+     */
+    private Connector retireConnector(List<String>    cacheKey,
+                                      SharedConnector sharedConnector)
+    {
+        if (sharedConnector == null)
+        {
+            return null;
+        }
+
+        log.debug("Retired shared connector " + sharedConnector.connector.getConnectorInstanceId() + " for connection " + cacheKey);
+
+        if (sharedConnector.referenceCount > 0)
+        {
+            retiredConnectors.add(sharedConnector);
+
+            return null;
+        }
+
+        return sharedConnector.connector;
+    }
+
+
+    /**
+     * Return whether any of the connectors in the cache have no borrowers.  The caller holds the lock.
+     *
+     * @return boolean flag
+     */
+    private boolean hasIdleConnectors()
+    {
+        for (SharedConnector sharedConnector : sharedConnectors.values())
+        {
+            if (sharedConnector.referenceCount == 0)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Make sure there is an eviction check after the idle timeout.  The caller holds the lock.
+     */
+    private void scheduleEviction()
+    {
+        this.getEvictionTimer().schedule(new TimerTask()
+        {
+            @Override
+            public void run()
+            {
+                evictIdleConnectors();
+            }
+        }, idleTimeout);
+    }
+
+
+    /**
+     * Return the timer used to evict idle connectors.  It runs on a daemon thread that is only created when
+     * it is needed.  The caller holds the lock.
+     *
+     * @return timer
+     */
+    private Timer getEvictionTimer()
+    {
+        if (evictionTimer == null)
+        {
+            evictionTimer = new Timer("SharedConnectorCacheEviction", true);
+        }
+
+        return evictionTimer;
+    }
+
+
+    /**
+     * Stop the eviction timer since there is nothing to evict.  The caller holds the lock.
+     */
+    private void cancelEviction()
+    {
+        if (evictionTimer != null)
+        {
+            evictionTimer.cancel();
+            evictionTimer = null;
+        }
+    }
+
+
+    /**
+     * Issue a disconnect call on the supplied connector.
+     *
+     * @param qualifiedName unique name of the connection
+     * @param connector connector to disconnect
+     */
+    private void disconnectConnector(String    qualifiedName,
+                                     Connector connector)
+    {
+        try
+        {
+            connector.disconnect();
+
+            log.debug("Disconnected shared connector " + connector.getConnectorInstanceId() + " for connection " + qualifiedName);
+        }
+        catch (Throwable  error)
+        {
+            log.error("Exception from disconnect of shared connector for connection:" + qualifiedName + "  Error message was: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * SharedConnector holds a shared connector, its key in the cache, the version of the connection it was
+     * created from and its count of borrowers.
+     */
+    private class SharedConnector
+    {
+        private List<String> cacheKey;
+        private Connection   connection;
+        private Connector    connector;
+        private int          referenceCount = 1;
+        private long         idleSince      = 0;
+
+
+        /**
+         * Constructor for a connector with one borrower.
+         *
+         * @param cacheKey sharing scope and unique name of the connection
+         * @param connection connection used to create the connector
+         * @param connector new connector
+         */
+        SharedConnector(List<String> cacheKey,
+                        Connection   connection,
+                        Connector    connector)
+        {
+            this.cacheKey = cacheKey;
+            this.connection = connection;
+            this.connector = connector;
+        }
+    }
+}
@@ -11,6 +11,12 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * PagingIterator supports an iterator over a list of objects that extend AssetPropertyBase.
@@ -42,6 +48,17 @@ import java.util.List;
  * the first two would have 10 elements in them and the third will have 5 elements.
  * In the first 2 retrieves, maxCacheSize and cachedElementList.size() are set to 10.
  * In the last one, maxCacheSize==10 and cachedElementList.size()==5.
+ *
+ * Adaptive paging can be enabled with enableAdaptivePaging().  The maxCacheSize then doubles after each
+ * retrieve (up to the supplied limit) while the caller continues to step through the list, and the next cache of
+ * elements is retrieved in the background while the caller works through the current one.  At most two caches are
+ * held in memory so the memory used by the iterator is capped at twice the limit.  The background retrieves run on a
+ * small pool of threads shared by all of the iterators.  When the pool is busy, the next cache is retrieved on the
+ * caller's thread when it is needed.  If a background retrieve fails, the error is reported to the caller when it
+ * reaches that cache, just as if the cache had been retrieved on the caller's thread.
+ *
+ * If the first cache of elements has already been retrieved, for example along with the asset itself, it can be
+ * passed to setFirstCache() so it is used instead of calling the property server for it.
  */
 public class AssetPagingIterator extends AssetPropertyBase implements Iterator<AssetPropertyBase>
 {
@@ -54,8 +71,48 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
 
     protected AssetPropertyIteratorBase iterator = null;
 
+    private int                             maxAdaptiveCacheSize = 0;
+    private Future<List<AssetPropertyBase>> prefetchedCache      = null;
+    private List<AssetPropertyBase>         firstCache           = null;
+
     private static final Logger log = LoggerFactory.getLogger(AssetPagingIterator.class);
 
+    /*
+     * Threads that retrieve the next cache of elements for the iterators using adaptive paging.  The number of
+     * threads and waiting retrieves is bounded; a retrieve that does not fit is not started.  The threads are daemon
+     * threads so they do not hold up the shutdown of the JVM, and are removed once they have been idle for a minute
+     * so the pool holds no threads while no iterator is retrieving in the background.
+     */
+    private static final int                prefetchThreadCount = 4;
+    private static final int                prefetchQueueSize   = 16;
+    private static final ThreadPoolExecutor prefetchExecutor    = getPrefetchExecutor();
+
+
+    /**
+     * Create the pool of threads that retrieve the next cache of elements in the background.
+     *
+     * @return thread pool
+     */
+    private static ThreadPoolExecutor getPrefetchExecutor()
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(prefetchThreadCount,
+                                                             prefetchThreadCount,
+                                                             60L,
+                                                             TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(prefetchQueueSize),
+                                                             (runnable) ->
+                                                             {
+                                                                 Thread thread = new Thread(runnable, "AssetPagingIteratorPrefetch");
+
+                                                                 thread.setDaemon(true);
+                                                                 return thread;
+                                                             });
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
 
 
     /**
@@ -142,6 +199,9 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
                 this.maxCacheSize = templateIterator.maxCacheSize;
             }
 
+            this.maxAdaptiveCacheSize = templateIterator.maxAdaptiveCacheSize;
+            this.firstCache = templateIterator.firstCache;
+
             if (iterator != null)
             {
                 this.iterator = iterator;
@@ -165,10 +225,12 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
                                               errorCode.getUserAction());
             }
 
-            if (templateIterator.cachedElementStart <= templateIterator.maxCacheSize)
+            if (templateIterator.cachedElementStart == templateIterator.cachedElementPointer)
             {
                 /*
-                 * The template's cache starts at the beginning of the total list so ok to copy it.
+                 * The template's cache starts at element cachedElementStart - cachedElementPointer of the total list.
+                 * When this is 0, the cache starts at the beginning of the total list so ok to copy it.  The size of
+                 * the caches varies with adaptive paging so maxCacheSize can not be used to make this test.
                  */
                 for (AssetPropertyBase templateElement : templateIterator.cachedElementList)
                 {
@@ -179,6 +241,44 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
     }
 
 
+    /**
+     * Switch on adaptive paging.  Each retrieve from the property server doubles the maxCacheSize up to the
+     * supplied limit, and the next cache is retrieved in the background while the current one is in use.
+     *
+     * @param maxAdaptiveCacheSize largest number of elements to retrieve in one call.  If a number less than the
+     *                             current maxCacheSize is supplied, the cache size stays fixed but the next
+     *                             cache is still retrieved in the background.
+     */
+    public void enableAdaptivePaging(int maxAdaptiveCacheSize)
+    {
+        this.maxAdaptiveCacheSize = Math.max(maxAdaptiveCacheSize, maxCacheSize);
+    }
+
+
+    /**
+     * Supply the elements at the start of the list that have already been retrieved.  They are used as the
+     * first cache instead of calling the property server.  Later caches are retrieved as normal.
+     *
+     * @param firstCache list of elements starting at element 0; null or empty means retrieve the first cache
+     *                   from the property server.
+     */
+    public void setFirstCache(List<AssetPropertyBase> firstCache)
+    {
+        this.firstCache = firstCache;
+    }
+
+
+    /**
+     * Return whether adaptive paging is switched on.
+     *
+     * @return boolean flag
+     */
+    public boolean isAdaptivePaging()
+    {
+        return maxAdaptiveCacheSize > 0;
+    }
+
+
     /**
      * The iterator can only be used once to step through the elements.  This method returns
      * a boolean to indicate if it has got to the end of the list yet.
@@ -217,7 +317,7 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
             {
                 try
                 {
-                    cachedElementList = iterator.getCachedList(cachedElementStart, maxCacheSize);
+                    cachedElementList = this.getNextCache();
                     cachedElementPointer = 0;
                 }
                 catch (PropertyServerException error)
@@ -273,6 +373,110 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
     }
 
 
+    /**
+     * Retrieve the cache of elements that starts at cachedElementStart.  The first cache may have been supplied
+     * with setFirstCache().  With adaptive paging, the cache may already have been retrieved in the background.
+     * The retrieve of the following cache is then started.
+     *
+     * @return list of elements
+     * @throws PropertyServerException there is a problem retrieving elements from the property (metadata) server.
+     */
+    private List<AssetPropertyBase> getNextCache() throws PropertyServerException
+    {
+        List<AssetPropertyBase> nextCache = null;
+
+        if ((cachedElementStart == 0) && (firstCache != null) && (! firstCache.isEmpty()))
+        {
+            nextCache = firstCache;
+        }
+        else if (prefetchedCache != null)
+        {
+            Future<List<AssetPropertyBase>> cache = prefetchedCache;
+
+            prefetchedCache = null;
+
+            /*
+             * A retrieve that is still waiting for a thread is removed from the pool and run on the caller's thread.
+             */
+            if (! prefetchExecutor.remove((Runnable) cache))
+            {
+                nextCache = this.getPrefetchedCache(cache);
+            }
+        }
+
+        if (nextCache == null)
+        {
+            nextCache = iterator.getCachedList(cachedElementStart, maxCacheSize);
+        }
+
+        if ((maxAdaptiveCacheSize > 0) && (nextCache != null))
+        {
+            final int nextCacheStart = cachedElementStart + nextCache.size();
+
+            maxCacheSize = Math.min(maxCacheSize * 2, maxAdaptiveCacheSize);
+
+            if ((! nextCache.isEmpty()) && (nextCacheStart < totalElementCount))
+            {
+                final int nextCacheSize = maxCacheSize;
+
+                try
+                {
+                    prefetchedCache = prefetchExecutor.submit(() -> iterator.getCachedList(nextCacheStart, nextCacheSize));
+                }
+                catch (RejectedExecutionException error)
+                {
+                    log.debug("No thread to retrieve cache at " + nextCacheStart + "; it is retrieved when needed");
+                }
+            }
+        }
+
+        return nextCache;
+    }
+
+
+    /**
+     * Wait for the cache that is being retrieved in the background.  An error from the retrieve is passed on to the
+     * caller.
+     *
+     * @param cache result of the background retrieve
+     * @return list of elements or null if the caller's thread is interrupted
+     * @throws PropertyServerException there is a problem retrieving elements from the property (metadata) server.
+     */
+    private List<AssetPropertyBase> getPrefetchedCache(Future<List<AssetPropertyBase>> cache) throws PropertyServerException
+    {
+        try
+        {
+            return cache.get();
+        }
+        catch (InterruptedException error)
+        {
+            cache.cancel(true);
+            Thread.currentThread().interrupt();
+
+            return null;
+        }
+        catch (ExecutionException error)
+        {
+            Throwable cause = error.getCause();
+
+            log.debug("Prefetch of cache at " + cachedElementStart + " failed: " + cause.getMessage());
+
+            if (cause instanceof PropertyServerException)
+            {
+                throw (PropertyServerException) cause;
+            }
+            else if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            else
+            {
+                throw (Error) cause;
+            }
+        }
+    }
+
+
     /**
      * Return the number of elements in the list.
      *
@@ -316,6 +520,7 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
     {
         return "AssetPagingIterator{" +
                 "maxCacheSize=" + maxCacheSize +
+                ", maxAdaptiveCacheSize=" + maxAdaptiveCacheSize +
                 ", totalElementCount=" + totalElementCount +
                 ", cachedElementStart=" + cachedElementStart +
                 ", cachedElementList=" + cachedElementList +
@@ -64,6 +64,36 @@ public abstract class AssetPropertyIteratorBase extends AssetPropertyBase
     }
 
 
+    /**
+     * Switch on adaptive paging.  The number of elements retrieved from the property server on each call grows
+     * as the caller steps through the list, and the next set of elements is retrieved in the background.
+     *
+     * @param maxCacheSize largest number of elements to retrieve in one call.
+     */
+    protected void enableAdaptivePaging(int maxCacheSize)
+    {
+        if (pagingIterator != null)
+        {
+            pagingIterator.enableAdaptivePaging(maxCacheSize);
+        }
+    }
+
+
+    /**
+     * Supply the elements at the start of the list that have already been retrieved so that the first call to
+     * getCachedList() is not needed.
+     *
+     * @param firstCache list of elements starting at element 0; null or empty means call getCachedList().
+     */
+    public void setFirstCache(List<AssetPropertyBase> firstCache)
+    {
+        if (pagingIterator != null)
+        {
+            pagingIterator.setFirstCache(firstCache);
+        }
+    }
+
+
     /**
      * Method implemented by a subclass that ensures the cloning process is a deep clone.
      *
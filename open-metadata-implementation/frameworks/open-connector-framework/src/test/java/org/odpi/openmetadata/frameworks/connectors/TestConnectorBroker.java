@@ -594,4 +594,239 @@ public class TestConnectorBroker
     {
         assertTrue(new ConnectorBroker().toString().contains("ConnectorBroker"));
     }
+
+
+    /**
+     * Return a valid connection for the mock connector.
+     *
+     * @param qualifiedName name of the connection
+     * @param displayName display name of the connection
+     * @return connection
+     */
+    private Connection getMockConnection(String qualifiedName,
+                                         String displayName)
+    {
+        ConnectorType testConnType = new ConnectorType();
+
+        testConnType.setQualifiedName("Test.ConnectorType");
+        testConnType.setDisplayName("TestCT");
+        testConnType.setConnectorProviderClassName(MockConnectorProvider.class.getName());
+
+        Connection      testConnection = new Connection();
+
+        testConnection.setQualifiedName(qualifiedName);
+        testConnection.setDisplayName(displayName);
+        testConnection.setConnectorType(testConnType);
+
+        return testConnection;
+    }
+
+
+    /**
+     * Validate that callers using the same connection share a started connector that is disconnected when idle.
+     */
+    @Test public void testSharedConnector()
+    {
+        ConnectorBroker cb          = new ConnectorBroker();
+        long            idleTimeout = ConnectorBroker.getSharedConnectorIdleTimeout();
+
+        try
+        {
+            ConnectorBroker.setSharedConnectorIdleTimeout(0);
+
+            MockConnector first  = (MockConnector)cb.getSharedConnector(getMockConnection("Test.SharedConnection", "Test"));
+            MockConnector second = (MockConnector)new ConnectorBroker().getSharedConnector(getMockConnection("Test.SharedConnection", "Test"));
+
+            assertTrue(first == second);
+            assertTrue(first.isActive());
+
+            cb.releaseSharedConnector(first);
+            assertTrue(first.isActive());
+
+            cb.releaseSharedConnector(second);
+            assertFalse(first.isActive());
+
+            MockConnector third = (MockConnector)cb.getSharedConnector(getMockConnection("Test.SharedConnection", "Test"));
+
+            assertTrue(third != first);
+            assertTrue(third.isActive());
+
+            cb.releaseSharedConnector(third);
+            assertFalse(third.isActive());
+        }
+        catch (Throwable error)
+        {
+            assertTrue(false, "Exception: " + error.getMessage());
+        }
+        finally
+        {
+            ConnectorBroker.setSharedConnectorIdleTimeout(idleTimeout);
+        }
+    }
+
+
+    /**
+     * Validate that a shared connector is only shared by callers using the same sharing scope.
+     */
+    @Test public void testScopedSharedConnector()
+    {
+        ConnectorBroker cb          = new ConnectorBroker();
+        long            idleTimeout = ConnectorBroker.getSharedConnectorIdleTimeout();
+
+        try
+        {
+            ConnectorBroker.setSharedConnectorIdleTimeout(0);
+
+            MockConnector first  = (MockConnector)cb.getSharedConnector(getMockConnection("Test.ScopedConnection", "Test"), "user1");
+            MockConnector second = (MockConnector)cb.getSharedConnector(getMockConnection("Test.ScopedConnection", "Test"), "user1");
+            MockConnector third  = (MockConnector)cb.getSharedConnector(getMockConnection("Test.ScopedConnection", "Test"), "user2");
+            MockConnector fourth = (MockConnector)cb.getSharedConnector(getMockConnection("Test.ScopedConnection", "Test"));
+
+            assertTrue(first == second);
+            assertTrue(first != third);
+            assertTrue(first != fourth);
+            assertTrue(third != fourth);
+
+            cb.releaseSharedConnector(third);
+            assertFalse(third.isActive());
+            assertTrue(first.isActive());
+            assertTrue(fourth.isActive());
+
+            cb.releaseSharedConnector(first);
+            cb.releaseSharedConnector(second);
+            cb.releaseSharedConnector(fourth);
+            assertFalse(first.isActive());
+            assertFalse(fourth.isActive());
+        }
+        catch (Throwable error)
+        {
+            assertTrue(false, "Exception: " + error.getMessage());
+        }
+        finally
+        {
+            ConnectorBroker.setSharedConnectorIdleTimeout(idleTimeout);
+        }
+    }
+
+
+    /**
+     * Validate that an idle shared connector is reused until the idle timeout passes.
+     */
+    @Test public void testIdleSharedConnector()
+    {
+        ConnectorBroker cb          = new ConnectorBroker();
+        long            idleTimeout = ConnectorBroker.getSharedConnectorIdleTimeout();
+
+        try
+        {
+            ConnectorBroker.setSharedConnectorIdleTimeout(60000);
+
+            MockConnector first = (MockConnector)cb.getSharedConnector(getMockConnection("Test.IdleConnection", "Test"));
+
+            cb.releaseSharedConnector(first);
+            assertTrue(first.isActive());
+
+            MockConnector second = (MockConnector)cb.getSharedConnector(getMockConnection("Test.IdleConnection", "Test"));
+
+            assertTrue(first == second);
+
+            cb.releaseSharedConnector(second);
+            assertTrue(first.isActive());
+
+            ConnectorBroker.setSharedConnectorIdleTimeout(0);
+            assertFalse(first.isActive());
+        }
+        catch (Throwable error)
+        {
+            assertTrue(false, "Exception: " + error.getMessage());
+        }
+        finally
+        {
+            ConnectorBroker.setSharedConnectorIdleTimeout(idleTimeout);
+        }
+    }
+
+
+    /**
+     * Validate that a change to the connection retires the old shared connector once it is released.
+     */
+    @Test public void testChangedSharedConnection()
+    {
+        ConnectorBroker cb = new ConnectorBroker();
+
+        try
+        {
+            MockConnector first  = (MockConnector)cb.getSharedConnector(getMockConnection("Test.ChangedConnection", "Test"));
+            MockConnector second = (MockConnector)cb.getSharedConnector(getMockConnection("Test.ChangedConnection", "Changed"));
+
+            assertTrue(first != second);
+            assertTrue(first.isActive());
+
+            cb.releaseSharedConnector(first);
+            assertFalse(first.isActive());
+            assertTrue(second.isActive());
+
+            ConnectorBroker.disconnectSharedConnectors();
+            assertFalse(second.isActive());
+            assertTrue(ConnectorBroker.getSharedConnectorCount() == 0);
+        }
+        catch (Throwable error)
+        {
+            assertTrue(false, "Exception: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * Validate that releasing a connector the cache did not issue, or releasing a connector twice, is ignored.
+     */
+    @Test public void testUnknownSharedConnectorRelease()
+    {
+        ConnectorBroker cb          = new ConnectorBroker();
+        long            idleTimeout = ConnectorBroker.getSharedConnectorIdleTimeout();
+
+        try
+        {
+            ConnectorBroker.setSharedConnectorIdleTimeout(60000);
+
+            MockConnector unknown = (MockConnector)cb.getConnector(getMockConnection("Test.UnknownConnection", "Test"));
+
+            unknown.start();
+            cb.releaseSharedConnector(unknown);
+            assertTrue(unknown.isActive());
+
+            MockConnector first  = (MockConnector)cb.getSharedConnector(getMockConnection("Test.ReleasedConnection", "Test"));
+
+            cb.releaseSharedConnector(first);
+            cb.releaseSharedConnector(first);
+            assertTrue(first.isActive());
+
+            MockConnector second = (MockConnector)cb.getSharedConnector(getMockConnection("Test.ReleasedConnection", "Test"));
+
+            assertTrue(first == second);
+            assertTrue(cb.getSharedConnector(getMockConnection("Test.ReleasedConnection", "Test")) == first);
+
+            cb.releaseSharedConnector(second);
+            assertTrue(first.isActive());
+
+            MockConnector unnamed = (MockConnector)cb.getSharedConnector(getMockConnection(null, "Test"));
+
+            assertTrue(unnamed.isActive());
+
+            cb.releaseSharedConnector(unnamed);
+            assertFalse(unnamed.isActive());
+
+            cb.releaseSharedConnector(first);
+            ConnectorBroker.setSharedConnectorIdleTimeout(0);
+            assertFalse(first.isActive());
+        }
+        catch (Throwable error)
+        {
+            assertTrue(false, "Exception: " + error.getMessage());
+        }
+        finally
+        {
+            ConnectorBroker.setSharedConnectorIdleTimeout(idleTimeout);
+        }
+    }
 }
@@ -2,6 +2,8 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.frameworks.connectors.properties;
 
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -114,7 +116,7 @@ public class MockAssetPropertyIterator extends AssetPropertyIteratorBase impleme
      * @return list of elements corresponding to the supplied cache pointers.
      */
     protected List<AssetPropertyBase> getCachedList(int  cacheStartPointer,
-                                                    int  maximumSize)
+                                                    int  maximumSize) throws PropertyServerException
     {
         int                            numberOfEntries;
         List<AssetPropertyBase>        propertyBaseArrayList = new ArrayList<>();
@@ -3,9 +3,17 @@
 package org.odpi.openmetadata.frameworks.connectors.properties;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 
 /**
@@ -93,6 +101,159 @@ public class TestAssetPagingIterator
         assertTrue(elementCount == 10);
     }
 
+
+    /**
+     * Create an iterator that records the start of each cache it retrieves.
+     *
+     * @param template iterator to copy or null for a new iterator
+     * @param cacheStarts list to add the start of each cache to
+     * @return iterator over 25 elements with a cache size of 10
+     */
+    private MockAssetPropertyIterator getRecordingIterator(MockAssetPropertyIterator template,
+                                                           final List<Integer>       cacheStarts)
+    {
+        if (template == null)
+        {
+            return new MockAssetPropertyIterator(null, 25, 10)
+            {
+                @Override
+                protected List<AssetPropertyBase> getCachedList(int cacheStartPointer,
+                                                                int maximumSize) throws PropertyServerException
+                {
+                    cacheStarts.add(cacheStartPointer);
+
+                    return super.getCachedList(cacheStartPointer, maximumSize);
+                }
+            };
+        }
+        else
+        {
+            return new MockAssetPropertyIterator(null, template)
+            {
+                @Override
+                protected List<AssetPropertyBase> getCachedList(int cacheStartPointer,
+                                                                int maximumSize) throws PropertyServerException
+                {
+                    cacheStarts.add(cacheStartPointer);
+
+                    return super.getCachedList(cacheStartPointer, maximumSize);
+                }
+            };
+        }
+    }
+
+
+    /**
+     * Copy an iterator after stepping through some of its elements and check the copy returns every element.
+     *
+     * @param elementsRead number of elements to read before the copy
+     * @param adaptivePaging whether the iterator uses adaptive paging
+     * @return start of each cache retrieved by the copy
+     */
+    private List<Integer> validateCopy(int     elementsRead,
+                                       boolean adaptivePaging)
+    {
+        List<Integer>             templateCacheStarts = Collections.synchronizedList(new ArrayList<>());
+        List<Integer>             copyCacheStarts     = Collections.synchronizedList(new ArrayList<>());
+        MockAssetPropertyIterator template            = getRecordingIterator(null, templateCacheStarts);
+
+        if (adaptivePaging)
+        {
+            template.enableAdaptivePaging(100);
+        }
+
+        for (int i = 0; i < elementsRead; i++)
+        {
+            template.next();
+        }
+
+        MockAssetPropertyIterator copy = getRecordingIterator(template, copyCacheStarts);
+
+        int elementCount = 0;
+        while (copy.hasNext())
+        {
+            assertTrue(copy.next() != null);
+            elementCount ++;
+        }
+
+        assertEquals(elementCount, 25);
+
+        return copyCacheStarts;
+    }
+
+
+    /**
+     * A copy made part way through the first cache reuses the template's cache.
+     */
+    @Test public void testCopyInFirstCache()
+    {
+        assertEquals(validateCopy(3, false), Arrays.asList(10, 20));
+    }
+
+
+    /**
+     * A copy made part way through the second cache retrieves the list from the start.
+     */
+    @Test public void testCopyInSecondCache()
+    {
+        assertEquals(validateCopy(13, false), Arrays.asList(0, 10, 20));
+    }
+
+
+    /**
+     * A copy of an adaptive iterator made part way through the first cache reuses the template's cache.
+     */
+    @Test public void testAdaptiveCopyInFirstCache()
+    {
+        assertEquals(validateCopy(3, true).get(0), Integer.valueOf(10));
+    }
+
+
+    /**
+     * A copy of an adaptive iterator made part way through the second cache retrieves the list from the start.
+     * The second cache is smaller than the template's maxCacheSize at this point.
+     */
+    @Test public void testAdaptiveCopyInSecondCache()
+    {
+        assertEquals(validateCopy(13, true).get(0), Integer.valueOf(0));
+    }
+
+
+    /**
+     * A first cache supplied by the caller is used instead of retrieving the first cache.  A copy made part way
+     * through the second cache also starts with the supplied first cache.
+     *
+     * @throws PropertyServerException unexpected error
+     */
+    @Test public void testFirstCache() throws PropertyServerException
+    {
+        List<Integer>             cacheStarts = Collections.synchronizedList(new ArrayList<>());
+        MockAssetPropertyIterator iterator    = getRecordingIterator(null, cacheStarts);
+
+        iterator.setFirstCache(new MockAssetPropertyIterator(null, 25, 10).getCachedList(0, 10));
+
+        for (int i = 0; i < 13; i++)
+        {
+            assertTrue(iterator.next() != null);
+        }
+
+        assertEquals(cacheStarts, Collections.singletonList(10));
+
+        List<Integer>             copyCacheStarts = Collections.synchronizedList(new ArrayList<>());
+        MockAssetPropertyIterator copy            = getRecordingIterator(iterator, copyCacheStarts);
+
+        int elementCount = 0;
+        while (copy.hasNext())
+        {
+            assertTrue(copy.next() != null);
+            elementCount ++;
+        }
+
+        assertEquals(elementCount, 25);
+        assertEquals(copyCacheStarts, Arrays.asList(10, 20));
+    }
+
+
     /**
      * Validate that the paging iterator handles an error reading from the server.
      */
@@ -246,6 +407,88 @@ public class TestAssetPagingIterator
     }
 
 
+    /**
+     * Test that adaptive paging grows the cache size up to the limit and returns every element.
+     */
+    @Test public void testAdaptiveIterator()
+    {
+        final List<Integer> cacheSizes = Collections.synchronizedList(new ArrayList<>());
+
+        MockAssetPropertyIterator iterator = new MockAssetPropertyIterator(null, 500, 10)
+        {
+            @Override
+            protected List<AssetPropertyBase> getCachedList(int cacheStartPointer,
+                                                            int maximumSize) throws PropertyServerException
+            {
+                cacheSizes.add(maximumSize);
+
+                return super.getCachedList(cacheStartPointer, maximumSize);
+            }
+        };
+
+        iterator.enableAdaptivePaging(100);
+
+        assertTrue(iterator.pagingIterator.isAdaptivePaging());
+
+        int elementCount = 0;
+        while (iterator.hasNext())
+        {
+            assertTrue(iterator.next() != null);
+            elementCount ++;
+        }
+
+        assertEquals(elementCount, 500);
+        assertEquals(cacheSizes.subList(0, 5), Arrays.asList(10, 20, 40, 80, 100));
+        assertEquals(cacheSizes.size(), 8);
+    }
+
+
+    /**
+     * Test that a failure retrieving the next cache in the background is reported when the cache is needed
+     * and the cache is not retrieved again.
+     */
+    @Test public void testAdaptiveIteratorPrefetchFailure()
+    {
+        final List<Integer> cacheStarts = Collections.synchronizedList(new ArrayList<>());
+
+        MockAssetPropertyIterator iterator = new MockAssetPropertyIterator(null, 30, 10)
+        {
+            @Override
+            protected List<AssetPropertyBase> getCachedList(int cacheStartPointer,
+                                                            int maximumSize) throws PropertyServerException
+            {
+                cacheStarts.add(cacheStartPointer);
+
+                if (cacheStartPointer > 0)
+                {
+                    throw new PropertyServerException(400, "Disconnected", "", "", "", "");
+                }
+
+                return super.getCachedList(cacheStartPointer, maximumSize);
+            }
+        };
+
+        iterator.enableAdaptivePaging(100);
+
+        for (int i = 0; i < 10; i++)
+        {
+            assertTrue(iterator.next() != null);
+        }
+
+        try
+        {
+            iterator.next();
+            fail("Prefetch failure was not reported");
+        }
+        catch (OCFRuntimeException err)
+        {
+            assertTrue(err.getMessage().contains("OCF-PROPERTIES-404-002 "));
+        }
+
+        assertEquals(cacheStarts, Arrays.asList(0, 10));
+    }
+
+
     /**
      * Validate that element count is set.
      */
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.adminservices.configuration.registration.AccessServ
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceRegistration;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
@@ -34,6 +35,7 @@ public class AccessServiceConfig implements Serializable
     private Connection                     accessServiceInTopic           = null;
     private Connection                     accessServiceOutTopic          = null;
     private Map<String, Object>            accessServiceOptions           = null;
+    private List<String>                   accessServiceDependencies      = null;
 
     /**
      * Default constructor for use with Jackson libraries
@@ -271,4 +273,38 @@ public class AccessServiceConfig implements Serializable
     {
         this.accessServiceOptions = accessServiceOptions;
     }
+
+
+    /**
+     * Return the names of the access services that must be initialized before this access service.
+     * Access services that do not depend on one another are initialized concurrently when the server starts.
+     *
+     * @return list of access service names
+     */
+    public List<String> getAccessServiceDependencies()
+    {
+        if (accessServiceDependencies == null)
+        {
+            return null;
+        }
+        else if (accessServiceDependencies.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return accessServiceDependencies;
+        }
+    }
+
+
+    /**
+     * Set up the names of the access services that must be initialized before this access service.
+     *
+     * @param accessServiceDependencies list of access service names
+     */
+    public void setAccessServiceDependencies(List<String> accessServiceDependencies)
+    {
+        this.accessServiceDependencies = accessServiceDependencies;
+    }
 }
@@ -105,6 +105,31 @@ public enum OMAGErrorCode
             "The OMAG server {0} is unable to add open metadata services until the event bus is configured",
             "No change has occurred in this server's configuration document.",
             "Add the event bus configuration using the administration services and retry the request."),
+
+    UNKNOWN_ACCESS_SERVICE_DEPENDENCY(400, "OMAG-ADMIN-400-017 ",
+            "The OMAG server {0} is unable to initialize access service {1} because it depends on access service {2} which is not configured",
+            "The system is unable to initialize the access services.",
+            "Add the configuration for the missing access service or remove the dependency from the configuration of the access service, and restart the server instance."),
+
+    ACCESS_SERVICE_DEPENDENCY_LOOP(400, "OMAG-ADMIN-400-018 ",
+            "The OMAG server {0} is unable to initialize access services {1} because their dependencies form a loop",
+            "The system is unable to initialize the access services.",
+            "Correct the dependencies in the configuration of the access services and restart the server instance."),
+
+    ACCESS_SERVICE_INITIALIZATION_FAILED(400, "OMAG-ADMIN-400-019 ",
+            "The OMAG server {0} is unable to initialize access service {1}; the {2} exception was returned with message {3}",
+            "The system is unable to initialize the access services.  Any access services that had been initialized are shutdown.",
+            "Use the message to correct the cause of the error and restart the server instance."),
+
+    BAD_SLOW_EVENT_THRESHOLD(400, "OMAG-ADMIN-400-020 ",
+            "The OMAG server platform has been passed an invalid slow event threshold of {0}",
+            "The system has ignored this value.",
+            "The slow event threshold must be a number of milliseconds greater than or equal to zero.  Zero turns off the logging of slow events.  Retry the request with a valid value."),
+
+    DUPLICATE_ACCESS_SERVICE(400, "OMAG-ADMIN-400-021 ",
+            "The OMAG server {0} is unable to initialize access services because access service {1} is configured more than once",
+            "The system is unable to initialize the access services.",
+            "Remove the duplicate configuration for the access service and restart the server instance."),
     ;
 
     private int    httpErrorCode;
@@ -0,0 +1,466 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
+import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGErrorCode;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * OMAGAccessServiceStartup initializes the access services for a server.  Each access service may list the
+ * access services it depends on in its configuration.  These dependencies form a graph and each access service
+ * is initialized as soon as the access services it depends on are initialized.  Access services that do not
+ * depend on one another are initialized concurrently.
+ * <p>
+ * If any access service fails to initialize, no more access services are started, the access services
+ * that have been initialized are shutdown and the error from the first failing access service (in the order
+ * of the configuration) is returned.  This means the server either has all of its access services or none of them.
+ * </p>
+ * <p>
+ * The time taken to initialize each access service is logged.  Dependencies are identified by access service name
+ * so each access service may only be configured once.
+ * </p>
+ */
+class OMAGAccessServiceStartup
+{
+    private static final Logger log = LoggerFactory.getLogger(OMAGAccessServiceStartup.class);
+
+    private static final int  minimumThreadCount = 4;
+
+    private String                            serverName;
+    private String                            serverUserId;
+    private OMRSTopicConnector                enterpriseTopicConnector;
+    private Map<String, AccessServiceStartup> accessServices = new LinkedHashMap<>();
+    private List<String>                      duplicates     = new ArrayList<>();
+    private AtomicBoolean                     startupFailed  = new AtomicBoolean(false);
+
+
+    /**
+     * Constructor supplies the values shared by all of the access services.
+     *
+     * @param serverName name of the server for error messages
+     * @param serverUserId userId for the server
+     * @param enterpriseTopicConnector connector for the enterprise OMRS topic (may be null)
+     */
+    OMAGAccessServiceStartup(String              serverName,
+                             String              serverUserId,
+                             OMRSTopicConnector  enterpriseTopicConnector)
+    {
+        this.serverName = serverName;
+        this.serverUserId = serverUserId;
+        this.enterpriseTopicConnector = enterpriseTopicConnector;
+    }
+
+
+    /**
+     * Add an access service to initialize.
+     *
+     * @param accessServiceConfig configuration for the access service
+     * @param accessServiceAdmin admin object for the access service
+     * @param repositoryConnector enterprise repository connector for the access service
+     * @param auditLog audit log for the access service
+     */
+    void addAccessService(AccessServiceConfig      accessServiceConfig,
+                          AccessServiceAdmin       accessServiceAdmin,
+                          OMRSRepositoryConnector  repositoryConnector,
+                          OMRSAuditLog             auditLog)
+    {
+        String accessServiceName = accessServiceConfig.getAccessServiceName();
+
+        if (accessServices.containsKey(accessServiceName))
+        {
+            /*
+             * Keep the first configuration - the duplicate is reported by initialize().
+             */
+            duplicates.add(accessServiceName);
+        }
+        else
+        {
+            accessServices.put(accessServiceName,
+                               new AccessServiceStartup(accessServiceConfig, accessServiceAdmin, repositoryConnector, auditLog));
+        }
+    }
+
+
+    /**
+     * Initialize the access services.
+     *
+     * @return list of initialized access service admin objects in the order they were added
+     * @throws OMAGConfigurationErrorException the dependencies are not valid or an access service failed to initialize
+     */
+    List<AccessServiceAdmin> initialize() throws OMAGConfigurationErrorException
+    {
+        final String  methodName = "activateWithSuppliedConfig";
+
+        List<AccessServiceStartup> startupOrder = getStartupOrder(methodName);
+        List<AccessServiceAdmin>   results      = new ArrayList<>();
+
+        if (startupOrder.isEmpty())
+        {
+            return results;
+        }
+
+        long            startTime   = System.currentTimeMillis();
+        int             threadCount = Math.min(startupOrder.size(),
+                                               Math.max(minimumThreadCount, Runtime.getRuntime().availableProcessors() * 2));
+        AtomicInteger   threadNumber = new AtomicInteger(0);
+        ExecutorService executor    = Executors.newFixedThreadPool(threadCount, (runnable) ->
+        {
+            Thread thread = new Thread(runnable, serverName + "-AccessServiceStartup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try
+        {
+            /*
+             * The futures are created in dependency order so the futures of the dependencies always exist.
+             * A future only runs when the futures of its dependencies have completed successfully.
+             */
+            Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+
+            for (AccessServiceStartup accessService : startupOrder)
+            {
+                List<CompletableFuture<Void>> dependencyFutures = new ArrayList<>();
+
+                for (String dependency : accessService.dependencies)
+                {
+                    dependencyFutures.add(futures.get(dependency));
+                }
+
+                CompletableFuture<Void> future = CompletableFuture.allOf(dependencyFutures.toArray(new CompletableFuture[0]))
+                                                                  .thenRunAsync(accessService::initialize, executor);
+
+                futures.put(accessService.accessServiceName, future);
+            }
+
+            /*
+             * Wait for every access service to either complete or be skipped.
+             */
+            for (CompletableFuture<Void> future : futures.values())
+            {
+                try
+                {
+                    future.join();
+                }
+                catch (CompletionException  error)
+                {
+                    log.debug("Access service startup did not complete: " + error.getMessage());
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        Map<String, Long> startupTimes = new LinkedHashMap<>();
+
+        for (AccessServiceStartup accessService : startupOrder)
+        {
+            startupTimes.put(accessService.accessServiceName, accessService.startupTime);
+        }
+
+        log.info("Access services for server " + serverName + " initialized in " + (System.currentTimeMillis() - startTime) +
+                         " ms using " + threadCount + " threads: " + startupTimes);
+
+        if (startupFailed.get())
+        {
+            shutdownInitializedAccessServices();
+            throw getStartupException(methodName);
+        }
+
+        for (AccessServiceStartup accessService : accessServices.values())
+        {
+            results.add(accessService.accessServiceAdmin);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Sort the access services so that every access service follows the access services it depends on.
+     *
+     * @param methodName calling method
+     * @return sorted list
+     * @throws OMAGConfigurationErrorException an access service is configured twice, a dependency is not configured
+     *                                         or the dependencies form a loop
+     */
+    private List<AccessServiceStartup> getStartupOrder(String methodName) throws OMAGConfigurationErrorException
+    {
+        if (! duplicates.isEmpty())
+        {
+            OMAGErrorCode errorCode    = OMAGErrorCode.DUPLICATE_ACCESS_SERVICE;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(serverName, duplicates.get(0));
+
+            throw new OMAGConfigurationErrorException(errorCode.getHTTPErrorCode(),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      errorMessage,
+                                                      errorCode.getSystemAction(),
+                                                      errorCode.getUserAction());
+        }
+
+        Map<String, Integer>      unmetDependencyCounts = new HashMap<>();
+        Map<String, List<String>> dependents            = new HashMap<>();
+        Deque<String>             readyAccessServices   = new ArrayDeque<>();
+
+        for (AccessServiceStartup accessService : accessServices.values())
+        {
+            for (String dependency : accessService.dependencies)
+            {
+                if (! accessServices.containsKey(dependency))
+                {
+                    OMAGErrorCode errorCode    = OMAGErrorCode.UNKNOWN_ACCESS_SERVICE_DEPENDENCY;
+                    String        errorMessage = errorCode.getErrorMessageId()
+                                               + errorCode.getFormattedErrorMessage(serverName,
+                                                                                    accessService.accessServiceName,
+                                                                                    dependency);
+
+                    throw new OMAGConfigurationErrorException(errorCode.getHTTPErrorCode(),
+                                                              this.getClass().getName(),
+                                                              methodName,
+                                                              errorMessage,
+                                                              errorCode.getSystemAction(),
+                                                              errorCode.getUserAction());
+                }
+
+                dependents.computeIfAbsent(dependency, (key) -> new ArrayList<>()).add(accessService.accessServiceName);
+            }
+
+            unmetDependencyCounts.put(accessService.accessServiceName, accessService.dependencies.size());
+
+            if (accessService.dependencies.isEmpty())
+            {
+                readyAccessServices.add(accessService.accessServiceName);
+            }
+        }
+
+        List<AccessServiceStartup> startupOrder = new ArrayList<>();
+
+        while (! readyAccessServices.isEmpty())
+        {
+            String accessServiceName = readyAccessServices.poll();
+
+            startupOrder.add(accessServices.get(accessServiceName));
+
+            for (String dependent : dependents.getOrDefault(accessServiceName, Collections.emptyList()))
+            {
+                if (unmetDependencyCounts.merge(dependent, -1, Integer::sum) == 0)
+                {
+                    readyAccessServices.add(dependent);
+                }
+            }
+        }
+
+        if (startupOrder.size() < accessServices.size())
+        {
+            List<String> loopedAccessServices = new ArrayList<>();
+
+            for (Map.Entry<String, Integer> unmetDependencyCount : unmetDependencyCounts.entrySet())
+            {
+                if (unmetDependencyCount.getValue() > 0)
+                {
+                    loopedAccessServices.add(unmetDependencyCount.getKey());
+                }
+            }
+
+            Collections.sort(loopedAccessServices);
+
+            OMAGErrorCode errorCode    = OMAGErrorCode.ACCESS_SERVICE_DEPENDENCY_LOOP;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(serverName, loopedAccessServices.toString());
+
+            throw new OMAGConfigurationErrorException(errorCode.getHTTPErrorCode(),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      errorMessage,
+                                                      errorCode.getSystemAction(),
+                                                      errorCode.getUserAction());
+        }
+
+        return startupOrder;
+    }
+
+
+    /**
+     * Shutdown the access services that initialized successfully, in the reverse order of the configuration.
+     */
+    private void shutdownInitializedAccessServices()
+    {
+        List<AccessServiceStartup> initializedAccessServices = new ArrayList<>();
+
+        for (AccessServiceStartup accessService : accessServices.values())
+        {
+            if (accessService.initialized)
+            {
+                initializedAccessServices.add(accessService);
+            }
+        }
+
+        Collections.reverse(initializedAccessServices);
+
+        for (AccessServiceStartup accessService : initializedAccessServices)
+        {
+            try
+            {
+                accessService.accessServiceAdmin.shutdown();
+            }
+            catch (Throwable  error)
+            {
+                log.debug("Ignoring exception from shutdown of " + accessService.accessServiceName + ": " + error.getMessage());
+            }
+        }
+    }
+
+
+    /**
+     * Return the exception for the first access service (in configuration order) that failed.
+     *
+     * @param methodName calling method
+     * @return exception to throw
+     */
+    private OMAGConfigurationErrorException getStartupException(String  methodName)
+    {
+        for (AccessServiceStartup accessService : accessServices.values())
+        {
+            Throwable error = accessService.error;
+
+            if (error instanceof OMAGConfigurationErrorException)
+            {
+                return (OMAGConfigurationErrorException)error;
+            }
+            else if (error != null)
+            {
+                OMAGErrorCode errorCode    = OMAGErrorCode.ACCESS_SERVICE_INITIALIZATION_FAILED;
+                String        errorMessage = errorCode.getErrorMessageId()
+                                           + errorCode.getFormattedErrorMessage(serverName,
+                                                                                accessService.accessServiceName,
+                                                                                error.getClass().getName(),
+                                                                                error.getMessage());
+
+                return new OMAGConfigurationErrorException(errorCode.getHTTPErrorCode(),
+                                                           this.getClass().getName(),
+                                                           methodName,
+                                                           errorMessage,
+                                                           errorCode.getSystemAction(),
+                                                           errorCode.getUserAction(),
+                                                           error);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * AccessServiceStartup holds the parameters and the outcome of the initialization of one access service.
+     */
+    private class AccessServiceStartup
+    {
+        private String                   accessServiceName;
+        private AccessServiceConfig      accessServiceConfig;
+        private AccessServiceAdmin       accessServiceAdmin;
+        private OMRSRepositoryConnector  repositoryConnector;
+        private OMRSAuditLog             auditLog;
+        private List<String>             dependencies = new ArrayList<>();
+
+        private volatile boolean         initialized  = false;
+        private volatile Throwable       error        = null;
+        private volatile long            startupTime  = 0;
+
+
+        /**
+         * Constructor saves the parameters for initialize.
+         *
+         * @param accessServiceConfig configuration for the access service
+         * @param accessServiceAdmin admin object for the access service
+         * @param repositoryConnector enterprise repository connector for the access service
+         * @param auditLog audit log for the access service
+         */
+        AccessServiceStartup(AccessServiceConfig      accessServiceConfig,
+                             AccessServiceAdmin       accessServiceAdmin,
+                             OMRSRepositoryConnector  repositoryConnector,
+                             OMRSAuditLog             auditLog)
+        {
+            this.accessServiceName = accessServiceConfig.getAccessServiceName();
+            this.accessServiceConfig = accessServiceConfig;
+            this.accessServiceAdmin = accessServiceAdmin;
+            this.repositoryConnector = repositoryConnector;
+            this.auditLog = auditLog;
+
+            if (accessServiceConfig.getAccessServiceDependencies() != null)
+            {
+                for (String dependency : accessServiceConfig.getAccessServiceDependencies())
+                {
+                    if ((dependency != null) && (! dependencies.contains(dependency)))
+                    {
+                        dependencies.add(dependency);
+                    }
+                }
+            }
+        }
+
+
+        /**
+         * Initialize the access service unless another access service has already failed.
+         *
+         * @throws CompletionException the access service failed or was skipped so its dependents must not start
+         */
+        void initialize()
+        {
+            if (startupFailed.get())
+            {
+                throw new CompletionException(new IllegalStateException("Access service " + accessServiceName + " skipped"));
+            }
+
+            long startTime = System.currentTimeMillis();
+
+            try
+            {
+                accessServiceAdmin.initialize(accessServiceConfig,
+                                              enterpriseTopicConnector,
+                                              repositoryConnector,
+                                              auditLog,
+                                              serverUserId);
+                initialized = true;
+            }
+            catch (Throwable  initializeError)
+            {
+                error = initializeError;
+                startupFailed.set(true);
+
+                throw new CompletionException(initializeError);
+            }
+            finally
+            {
+                startupTime = System.currentTimeMillis() - startTime;
+                log.debug("Access service " + accessServiceName + " for server " + serverName + " took " + startupTime + " ms to initialize");
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.odpi.openmetadata.adminservices.ffdc.OMAGErrorCode;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGInvalidParameterException;
+import org.odpi.openmetadata.adminservices.properties.EventPipelineMetricsResponse;
+import org.odpi.openmetadata.adminservices.properties.OMAGAPIResponse;
+import org.odpi.openmetadata.adminservices.properties.VoidResponse;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineMonitor;
+
+/**
+ * OMAGEventPipelineServices provides access to the measurements of the event pipeline.  The event pipeline
+ * monitor is shared by all of the servers running on the OMAG server platform, so these services are called
+ * for the platform rather than for an individual server.  The measurements cover the events received by every
+ * server on the platform and the slow event threshold applies to all of them.
+ */
+public class OMAGEventPipelineServices
+{
+    /**
+     * Return the measurements of the event pipeline.  This is the number of events processed by each stage of the
+     * pipeline, the time spent processing them, the number of events waiting and the lag of each partition of the
+     * topics that the platform is consuming.
+     *
+     * @param userId  user that is issuing the request
+     * @return event pipeline metrics response
+     */
+    public EventPipelineMetricsResponse getEventPipelineMetrics(String  userId)
+    {
+        EventPipelineMetricsResponse response = new EventPipelineMetricsResponse();
+
+        response.setEventPipelineMetrics(OMRSEventPipelineMonitor.getMetrics());
+
+        return response;
+    }
+
+
+    /**
+     * Discard the measurements of the event pipeline so that a new set of measurements can be taken.
+     *
+     * @param userId  user that is issuing the request
+     * @return void response
+     */
+    public VoidResponse resetEventPipelineMetrics(String  userId)
+    {
+        OMRSEventPipelineMonitor.reset();
+
+        return new VoidResponse();
+    }
+
+
+    /**
+     * Set up the time that a component of the event pipeline may spend processing an event before the event
+     * is logged as slow in the audit log.  The default value is 1000 milliseconds.  Zero turns off the logging
+     * of slow events.
+     *
+     * @param userId  user that is issuing the request
+     * @param thresholdMillis  slow event threshold in milliseconds
+     * @return void response or
+     * OMAGInvalidParameterException invalid thresholdMillis parameter.
+     */
+    public VoidResponse setSlowEventThreshold(String  userId,
+                                              long    thresholdMillis)
+    {
+        final String methodName = "setSlowEventThreshold";
+
+        VoidResponse response = new VoidResponse();
+
+        if (thresholdMillis >= 0)
+        {
+            OMRSEventPipelineMonitor.setSlowEventThresholdMillis(thresholdMillis);
+        }
+        else
+        {
+            OMAGErrorCode errorCode    = OMAGErrorCode.BAD_SLOW_EVENT_THRESHOLD;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(Long.toString(thresholdMillis));
+
+            captureInvalidParameterException(response, new OMAGInvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                                                          this.getClass().getName(),
+                                                                                          methodName,
+                                                                                          errorMessage,
+                                                                                          errorCode.getSystemAction(),
+                                                                                          errorCode.getUserAction()));
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Set the exception information into the response.
+     *
+     * @param response  REST Response
+     * @param error returned response.
+     */
+    private void captureInvalidParameterException(OMAGAPIResponse response, OMAGInvalidParameterException error)
+    {
+        response.setRelatedHTTPCode(error.getReportedHTTPCode());
+        response.setExceptionClassName(error.getClass().getName());
+        response.setExceptionErrorMessage(error.getErrorMessage());
+        response.setExceptionSystemAction(error.getReportedSystemAction());
+        response.setExceptionUserAction(error.getReportedUserAction());
+    }
+}
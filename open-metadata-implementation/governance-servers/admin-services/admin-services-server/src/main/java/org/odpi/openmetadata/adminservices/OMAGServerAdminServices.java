@@ -1435,10 +1435,15 @@ public class OMAGServerAdminServices
             operationalServices.initialize(repositoryServicesConfig);
 
             /*
-             * Now initialize the open metadata access services
+             * Now initialize the open metadata access services.  The admin objects and their connectors are
+             * created here so that configuration errors are reported before any access service starts.
+             * The access services are then initialized concurrently, in the order of their dependencies.
              */
             List<AccessServiceConfig> accessServiceConfigList  = configuration.getAccessServicesConfig();
             OMRSTopicConnector        enterpriseTopicConnector = operationalServices.getEnterpriseOMRSTopicConnector();
+            OMAGAccessServiceStartup  accessServiceStartup     = new OMAGAccessServiceStartup(serverName,
+                                                                                              configuration.getLocalServerUserId(),
+                                                                                              enterpriseTopicConnector);
 
             if (accessServiceConfigList != null)
             {
@@ -1450,19 +1455,11 @@ public class OMAGServerAdminServices
 
                         if (accessServiceAdminClassName != null)
                         {
+                            AccessServiceAdmin   accessServiceAdmin;
+
                             try
                             {
-                                AccessServiceAdmin   accessServiceAdmin = (AccessServiceAdmin)Class.forName(accessServiceAdminClassName).newInstance();
-
-                                accessServiceAdmin.initialize(accessServiceConfig,
-                                                              enterpriseTopicConnector,
-                                                              operationalServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceName()),
-                                                              operationalServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
-                                                                                              accessServiceConfig.getAccessServiceName(),
-                                                                                              accessServiceConfig.getAccessServiceDescription(),
-                                                                                              accessServiceConfig.getAccessServiceWiki()),
-                                                              configuration.getLocalServerUserId());
-                                accessServiceAdminList.add(accessServiceAdmin);
+                                accessServiceAdmin = (AccessServiceAdmin)Class.forName(accessServiceAdminClassName).newInstance();
                             }
                             catch (Throwable  error)
                             {
@@ -1479,6 +1476,14 @@ public class OMAGServerAdminServices
                                                                           errorCode.getSystemAction(),
                                                                           errorCode.getUserAction());
                             }
+
+                            accessServiceStartup.addAccessService(accessServiceConfig,
+                                                                  accessServiceAdmin,
+                                                                  operationalServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceName()),
+                                                                  operationalServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
+                                                                                                  accessServiceConfig.getAccessServiceName(),
+                                                                                                  accessServiceConfig.getAccessServiceDescription(),
+                                                                                                  accessServiceConfig.getAccessServiceWiki()));
                         }
                         else
                         {
@@ -1498,6 +1503,8 @@ public class OMAGServerAdminServices
                 }
             }
 
+            accessServiceAdminList.addAll(accessServiceStartup.initialize());
+
             if (enterpriseTopicConnector != null)
             {
                 try
@@ -94,7 +94,8 @@ public class OMAGServerAdminStoreServices
 
 
     /**
-     * Retrieve the connection to the config file.
+     * Retrieve the connector to the config file.  The connector is shared with the other requests for the
+     * same server and must be passed to releaseServerConfigStore when the request is finished with it.
      *
      * @param serverName  name of the server
      * @param methodName  method requesting the server details
@@ -110,7 +111,7 @@ public class OMAGServerAdminStoreServices
         {
             ConnectorBroker connectorBroker = new ConnectorBroker();
 
-            Connector connector = connectorBroker.getConnector(connection);
+            Connector connector = connectorBroker.getSharedConnector(connection);
 
             return (OMAGServerConfigStore) connector;
         }
@@ -131,6 +132,22 @@ public class OMAGServerAdminStoreServices
     }
 
 
+    /**
+     * Return the connector to the config file to the shared connectors.
+     *
+     * @param serverConfigStore connector returned by getServerConfigStore
+     */
+    private void releaseServerConfigStore(OMAGServerConfigStore   serverConfigStore)
+    {
+        if (serverConfigStore != null)
+        {
+            ConnectorBroker connectorBroker = new ConnectorBroker();
+
+            connectorBroker.releaseSharedConnector((Connector) serverConfigStore);
+        }
+    }
+
+
     /**
      * Retrieve any saved configuration for this server.
      *
@@ -148,7 +165,14 @@ public class OMAGServerAdminStoreServices
 
         if (serverConfigStore != null)
         {
-            serverConfig = serverConfigStore.retrieveServerConfig();
+            try
+            {
+                serverConfig = serverConfigStore.retrieveServerConfig();
+            }
+            finally
+            {
+                releaseServerConfigStore(serverConfigStore);
+            }
         }
 
         if (serverConfig == null)
@@ -179,16 +203,23 @@ public class OMAGServerAdminStoreServices
 
         if (serverConfigStore != null)
         {
-            if (serverConfig != null)
+            try
             {
-                serverConfigStore.saveServerConfig(serverConfig);
+                if (serverConfig != null)
+                {
+                    serverConfigStore.saveServerConfig(serverConfig);
+                }
+                else
+                {
+                    /*
+                     * If the server config is null we delete the file rather than have an empty file hanging around.
+                     */
+                    serverConfigStore.removeServerConfig();
+                }
             }
-            else
+            finally
             {
-                /*
-                 * If the server config is null we delete the file rather than have an empty file hanging around.
-                 */
-                serverConfigStore.removeServerConfig();
+                releaseServerConfigStore(serverConfigStore);
             }
         }
     }
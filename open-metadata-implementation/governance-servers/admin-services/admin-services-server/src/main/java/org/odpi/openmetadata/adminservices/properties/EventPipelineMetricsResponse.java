@@ -0,0 +1,120 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineMetrics;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * EventPipelineMetricsResponse is the response structure used on the OMAG REST API calls that return the
+ * measurements of the event pipeline of the server.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class EventPipelineMetricsResponse extends OMAGAPIResponse
+{
+    private OMRSEventPipelineMetrics eventPipelineMetrics = null;
+
+    /**
+     * Default constructor
+     */
+    public EventPipelineMetricsResponse()
+    {
+    }
+
+
+    /**
+     * Return the measurements of the event pipeline.
+     *
+     * @return OMRSEventPipelineMetrics object
+     */
+    public OMRSEventPipelineMetrics getEventPipelineMetrics()
+    {
+        if (eventPipelineMetrics == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new OMRSEventPipelineMetrics(eventPipelineMetrics);
+        }
+    }
+
+
+    /**
+     * Set up the measurements of the event pipeline.
+     *
+     * @param eventPipelineMetrics - OMRSEventPipelineMetrics object
+     */
+    public void setEventPipelineMetrics(OMRSEventPipelineMetrics eventPipelineMetrics)
+    {
+        this.eventPipelineMetrics = eventPipelineMetrics;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "EventPipelineMetricsResponse{" +
+                "eventPipelineMetrics=" + eventPipelineMetrics +
+                ", relatedHTTPCode=" + relatedHTTPCode +
+                ", exceptionClassName='" + exceptionClassName + '\'' +
+                ", exceptionErrorMessage='" + exceptionErrorMessage + '\'' +
+                ", exceptionSystemAction='" + exceptionSystemAction + '\'' +
+                ", exceptionUserAction='" + exceptionUserAction + '\'' +
+                ", exceptionProperties=" + exceptionProperties +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof EventPipelineMetricsResponse))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        EventPipelineMetricsResponse that = (EventPipelineMetricsResponse) objectToCompare;
+        return Objects.equals(eventPipelineMetrics, that.eventPipelineMetrics);
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), eventPipelineMetrics);
+    }
+}
@@ -0,0 +1,234 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
+import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that OMAGAccessServiceStartup initializes access services concurrently, respects their dependencies
+ * and fails consistently.
+ */
+public class TestOMAGAccessServiceStartup
+{
+    private List<String>  events = new CopyOnWriteArrayList<>();
+
+
+    /**
+     * Clear the events from the previous test.
+     */
+    @BeforeMethod public void clearEvents()
+    {
+        events.clear();
+    }
+
+
+    /**
+     * TestAccessServiceAdmin records when it is initialized and shutdown.
+     */
+    private class TestAccessServiceAdmin implements AccessServiceAdmin
+    {
+        private String          name;
+        private CountDownLatch  latch;
+        private boolean         fail;
+
+        TestAccessServiceAdmin(String name, CountDownLatch latch, boolean fail)
+        {
+            this.name = name;
+            this.latch = latch;
+            this.fail = fail;
+        }
+
+        public void initialize(AccessServiceConfig     accessServiceConfigurationProperties,
+                               OMRSTopicConnector      enterpriseOMRSTopicConnector,
+                               OMRSRepositoryConnector enterpriseOMRSRepositoryConnector,
+                               OMRSAuditLog            auditLog,
+                               String                  serverUserName) throws OMAGConfigurationErrorException
+        {
+            if (latch != null)
+            {
+                /*
+                 * Wait for the other access services sharing the latch - this only completes if they run concurrently.
+                 */
+                latch.countDown();
+
+                try
+                {
+                    assertTrue(latch.await(10, TimeUnit.SECONDS));
+                }
+                catch (InterruptedException error)
+                {
+                    throw new IllegalStateException(error);
+                }
+            }
+
+            if (fail)
+            {
+                throw new OMAGConfigurationErrorException(400, this.getClass().getName(), "initialize", "Test failure " + name, null, null);
+            }
+
+            events.add("initialize " + name);
+        }
+
+        public void shutdown()
+        {
+            events.add("shutdown " + name);
+        }
+    }
+
+
+    /**
+     * Return the configuration for an access service.
+     *
+     * @param name name of the access service
+     * @param dependencies names of the access services it depends on
+     * @return configuration
+     */
+    private AccessServiceConfig getConfig(String name, String... dependencies)
+    {
+        AccessServiceConfig config = new AccessServiceConfig();
+
+        config.setAccessServiceName(name);
+        config.setAccessServiceDependencies(Arrays.asList(dependencies));
+
+        return config;
+    }
+
+
+    /**
+     * Independent access services start concurrently and dependent access services start after their dependencies.
+     */
+    @Test public void testDependencyOrder()
+    {
+        OMAGAccessServiceStartup startup = new OMAGAccessServiceStartup("TestServer", "TestUser", null);
+        CountDownLatch           latch   = new CountDownLatch(3);
+
+        startup.addAccessService(getConfig("C", "A", "B"), new TestAccessServiceAdmin("C", null, false), null, null);
+        startup.addAccessService(getConfig("A"), new TestAccessServiceAdmin("A", latch, false), null, null);
+        startup.addAccessService(getConfig("B"), new TestAccessServiceAdmin("B", latch, false), null, null);
+        startup.addAccessService(getConfig("D"), new TestAccessServiceAdmin("D", latch, false), null, null);
+        startup.addAccessService(getConfig("E", "C"), new TestAccessServiceAdmin("E", null, false), null, null);
+
+        try
+        {
+            List<AccessServiceAdmin> admins = startup.initialize();
+
+            assertEquals(admins.size(), 5);
+            assertEquals(events.size(), 5);
+            assertTrue(events.indexOf("initialize C") > events.indexOf("initialize A"));
+            assertTrue(events.indexOf("initialize C") > events.indexOf("initialize B"));
+            assertTrue(events.indexOf("initialize E") > events.indexOf("initialize C"));
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false, "Exception: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * A failing access service stops its dependents and causes the initialized access services to be shutdown.
+     */
+    @Test public void testFailure()
+    {
+        OMAGAccessServiceStartup startup = new OMAGAccessServiceStartup("TestServer", "TestUser", null);
+
+        startup.addAccessService(getConfig("A"), new TestAccessServiceAdmin("A", null, false), null, null);
+        startup.addAccessService(getConfig("B", "A"), new TestAccessServiceAdmin("B", null, true), null, null);
+        startup.addAccessService(getConfig("C", "B"), new TestAccessServiceAdmin("C", null, false), null, null);
+
+        try
+        {
+            startup.initialize();
+            assertTrue(false);
+        }
+        catch (OMAGConfigurationErrorException  error)
+        {
+            assertTrue(error.getErrorMessage().contains("Test failure B"));
+            assertFalse(events.contains("initialize C"));
+            assertEquals(events, Arrays.asList("initialize A", "shutdown A"));
+        }
+    }
+
+
+    /**
+     * Dependencies must name configured access services and must not form a loop.
+     */
+    @Test public void testInvalidDependencies()
+    {
+        OMAGAccessServiceStartup startup = new OMAGAccessServiceStartup("TestServer", "TestUser", null);
+
+        startup.addAccessService(getConfig("A", "Unknown"), new TestAccessServiceAdmin("A", null, false), null, null);
+
+        try
+        {
+            startup.initialize();
+            assertTrue(false);
+        }
+        catch (OMAGConfigurationErrorException  error)
+        {
+            assertTrue(error.getErrorMessage().contains("OMAG-ADMIN-400-017"));
+        }
+
+        startup = new OMAGAccessServiceStartup("TestServer", "TestUser", null);
+
+        startup.addAccessService(getConfig("A", "B"), new TestAccessServiceAdmin("A", null, false), null, null);
+        startup.addAccessService(getConfig("B", "A"), new TestAccessServiceAdmin("B", null, false), null, null);
+        startup.addAccessService(getConfig("C"), new TestAccessServiceAdmin("C", null, false), null, null);
+
+        try
+        {
+            startup.initialize();
+            assertTrue(false);
+        }
+        catch (OMAGConfigurationErrorException  error)
+        {
+            assertTrue(error.getErrorMessage().contains("OMAG-ADMIN-400-018"));
+            assertTrue(error.getErrorMessage().contains("[A, B]"));
+        }
+
+        assertTrue(events.isEmpty());
+    }
+
+
+    /**
+     * An access service configured twice is rejected rather than one configuration silently replacing the other.
+     */
+    @Test public void testDuplicateAccessService()
+    {
+        OMAGAccessServiceStartup startup = new OMAGAccessServiceStartup("TestServer", "TestUser", null);
+
+        startup.addAccessService(getConfig("A"), new TestAccessServiceAdmin("A", null, false), null, null);
+        startup.addAccessService(getConfig("B", "A"), new TestAccessServiceAdmin("B", null, false), null, null);
+        startup.addAccessService(getConfig("A"), new TestAccessServiceAdmin("A2", null, false), null, null);
+
+        try
+        {
+            startup.initialize();
+            assertTrue(false);
+        }
+        catch (OMAGConfigurationErrorException  error)
+        {
+            assertTrue(error.getErrorMessage().contains("OMAG-ADMIN-400-021"));
+            assertTrue(error.getErrorMessage().contains("access service A "));
+        }
+
+        assertTrue(events.isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.odpi.openmetadata.adminservices.properties.EventPipelineMetricsResponse;
+import org.odpi.openmetadata.adminservices.properties.VoidResponse;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineMonitor;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineStage;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate the platform services for the event pipeline metrics.
+ */
+public class TestOMAGEventPipelineServices
+{
+    private OMAGEventPipelineServices eventPipelineServices = new OMAGEventPipelineServices();
+
+
+    /**
+     * Restore the shared monitor for the other tests.
+     */
+    @AfterMethod public void resetMonitor()
+    {
+        OMRSEventPipelineMonitor.reset();
+        OMRSEventPipelineMonitor.setSlowEventThresholdMillis(OMRSEventPipelineMonitor.defaultSlowEventThresholdMillis);
+    }
+
+
+    /**
+     * The metrics are returned and reset for the platform.
+     */
+    @Test public void testMetrics()
+    {
+        OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.OMRS_TOPIC_CONNECTOR,
+                                             "TestConnection",
+                                             OMRSEventPipelineMonitor.startTimer(),
+                                             false,
+                                             null);
+
+        EventPipelineMetricsResponse response = eventPipelineServices.getEventPipelineMetrics("TestUser");
+
+        assertNull(response.getExceptionClassName());
+        assertEquals(response.getEventPipelineMetrics().getStageMetrics().size(), 1);
+        assertEquals(response.getEventPipelineMetrics().getStageMetrics().get(0).getComponentName(), "TestConnection");
+
+        assertNull(eventPipelineServices.resetEventPipelineMetrics("TestUser").getExceptionClassName());
+        assertNull(eventPipelineServices.getEventPipelineMetrics("TestUser").getEventPipelineMetrics().getStageMetrics());
+    }
+
+
+    /**
+     * A negative slow event threshold is rejected and the existing threshold is kept.
+     */
+    @Test public void testSlowEventThreshold()
+    {
+        VoidResponse response = eventPipelineServices.setSlowEventThreshold("TestUser", 250);
+
+        assertNull(response.getExceptionClassName());
+        assertEquals(OMRSEventPipelineMonitor.getSlowEventThresholdMillis(), 250);
+
+        response = eventPipelineServices.setSlowEventThreshold("TestUser", -1);
+
+        assertEquals(response.getRelatedHTTPCode(), 400);
+        assertTrue(response.getExceptionErrorMessage().contains("OMAG-ADMIN-400-020"));
+        assertEquals(OMRSEventPipelineMonitor.getSlowEventThresholdMillis(), 250);
+    }
+}
@@ -0,0 +1,68 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.spring;
+
+import org.odpi.openmetadata.adminservices.OMAGEventPipelineServices;
+import org.odpi.openmetadata.adminservices.properties.EventPipelineMetricsResponse;
+import org.odpi.openmetadata.adminservices.properties.VoidResponse;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * OMAGEventPipelineResource provides the API to measure the event pipeline of the OMAG server platform.
+ * The measurements cover all of the servers running on the platform.
+ */
+@RestController
+@RequestMapping("/open-metadata/admin-services/users/{userId}/event-pipeline")
+public class OMAGEventPipelineResource
+{
+    private static OMAGEventPipelineServices  eventPipelineAPI = new OMAGEventPipelineServices();
+
+
+    /**
+     * Return the measurements of the event pipeline.  This is the number of events processed by each stage of the
+     * pipeline, the time spent processing them, the number of events waiting and the lag of each partition of the
+     * topics that the platform is consuming.
+     *
+     * @param userId  user that is issuing the request
+     * @return event pipeline metrics response
+     */
+    @RequestMapping(method = RequestMethod.GET, path = "/metrics")
+
+    public EventPipelineMetricsResponse getEventPipelineMetrics(@PathVariable String  userId)
+    {
+        return eventPipelineAPI.getEventPipelineMetrics(userId);
+    }
+
+
+    /**
+     * Discard the measurements of the event pipeline so that a new set of measurements can be taken.
+     *
+     * @param userId  user that is issuing the request
+     * @return void response
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/metrics/reset")
+
+    public VoidResponse resetEventPipelineMetrics(@PathVariable String  userId)
+    {
+        return eventPipelineAPI.resetEventPipelineMetrics(userId);
+    }
+
+
+    /**
+     * Set up the time that a component of the event pipeline may spend processing an event before the event
+     * is logged as slow in the audit log.  The default value is 1000 milliseconds.  Zero turns off the logging
+     * of slow events.
+     *
+     * @param userId  user that is issuing the request
+     * @param thresholdMillis  slow event threshold in milliseconds
+     * @return void response or
+     * OMAGInvalidParameterException invalid thresholdMillis parameter.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/slow-event-threshold")
+
+    public VoidResponse setSlowEventThreshold(@PathVariable String  userId,
+                                              @RequestParam long    thresholdMillis)
+    {
+        return eventPipelineAPI.setSlowEventThreshold(userId, thresholdMillis);
+    }
+}
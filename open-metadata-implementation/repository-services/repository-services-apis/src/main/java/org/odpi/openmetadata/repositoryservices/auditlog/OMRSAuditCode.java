@@ -270,6 +270,13 @@ public enum OMRSAuditCode
                        "The local server has completed the processing of the open metadata archive.",
                        "No action is required.  This is part of the normal operation of the server."),
 
+    INCOMPLETE_ARCHIVE("OMRS-AUDIT-0054",
+                       OMRSAuditLogRecordSeverity.ERROR,
+                       "The Open Metadata Repository Services (OMRS) loaded {0} types and {1} instances from an open metadata archive before the archive store failed with this error: {2}",
+                       "The local server has stopped processing the open metadata archive.  Only some of its contents may be loaded.",
+                       "Review the error message to determine why the archive could not be read.  " +
+                          "Correct or replace the archive and restart the server."),
+
     REGISTERED_WITH_COHORT("OMRS-AUDIT-0060",
                            OMRSAuditLogRecordSeverity.INFO,
                            "Registering with open metadata repository cohort {0} using metadata collection id {1}",
@@ -435,6 +442,23 @@ public enum OMRSAuditCode
                                         "local cohort registry store.",
                       "Verify that there are no issues with writing to the cohort registry store."),
 
+    SLOW_EVENT_PROCESSING("OMRS-AUDIT-0119",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} {1} took {2} milliseconds to process an event which is longer than the slow event " +
+                                          "threshold of {3} milliseconds",
+                      "The event was processed but the events that follow it in the event pipeline were delayed.",
+                      "Use the event pipeline metrics to determine whether this component is consistently slow.  " +
+                                          "If it is, review the work it performs for each event or the resources " +
+                                          "it calls."),
+
+    IN_MEMORY_STORE_RECOVERED("OMRS-AUDIT-0120",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The in-memory repository {0} has recovered {1} type definitions and {2} instances from its " +
+                                          "snapshot and replayed {3} log records from directory {4} in {5} milliseconds",
+                      "The local server has restored the contents of the in-memory repository from the last " +
+                                          "snapshot and the write-ahead log.  Changes are logged from this point on.",
+                      "No action is required.  This is part of the normal operation of the server."),
+
     INCOMING_CONFLICTING_TYPEDEFS("OMRS-AUDIT-0201",
                       OMRSAuditLogRecordSeverity.ACTION,
                       "Server {1} in cohort {0} that hosts metadata collection {2} has detected that " +
@@ -590,7 +614,13 @@ public enum OMRSAuditCode
                        OMRSAuditLogRecordSeverity.EXCEPTION,
                        "Disconnecting from the enterprise topic connector generated an exception with message {0}",
                        "The server may not have disconnected from the topic cleanly.",
-                       "Review the exception and resolve the issue it documents.")
+                       "Review the exception and resolve the issue it documents."),
+    IN_MEMORY_STORE_PERSISTENCE_ERROR("OMRS-AUDIT-9013",
+                       OMRSAuditLogRecordSeverity.EXCEPTION,
+                       "The in-memory repository {0} was unable to {1} in directory {2}.  The exception message was {3}",
+                       "The change is held in memory and the local server continues to run.  It is written out " +
+                               "with the next successful snapshot but will be lost if the server stops before then.",
+                       "Review the exception and ensure the directory is writable and has space.")
 
     ;
 
@@ -31,6 +31,17 @@ public interface OMRSTopic
     void registerListener(OMRSTopicListener  newListener);
 
 
+    /**
+     * Register a listener object with a filter.  This object will be supplied with the events
+     * received on the topic that pass the filter.  Events that do not pass the filter are skipped before
+     * they are parsed.
+     *
+     * @param newListener object implementing the OMRSTopicListener interface
+     * @param filter description of the events that the listener processes - null means all events
+     */
+    void registerListener(OMRSTopicListener  newListener, OMRSTopicListenerFilter  filter);
+
+
     /**
      * Sends the supplied event to the topic.
      *
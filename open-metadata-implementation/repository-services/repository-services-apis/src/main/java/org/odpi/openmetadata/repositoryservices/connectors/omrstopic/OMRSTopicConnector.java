@@ -1,13 +1,14 @@
 /* SPDX-License-Identifier: Apache-2.0 */
 package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.VirtualConnectorExtension;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.AdditionalProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -17,11 +18,16 @@ import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.Ope
 import org.odpi.openmetadata.repositoryservices.events.*;
 import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
 import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineMonitor;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineStage;
+import org.odpi.openmetadata.repositoryservices.wireformat.OMRSWireFormat;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -59,11 +65,15 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
     private static final String connectorName    = "OMRSTopicListener";
 
-    private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
+    /*
+     * Listeners are registered by access services as they initialize, possibly concurrently.
+     */
+    private List<RegisteredListener>         internalTopicListeners = new CopyOnWriteArrayList<>();
     private List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
 
     private String                    connectionName       = connectorName;
     private OMRSEventProtocolVersion  eventProtocolVersion = OMRSEventProtocolVersion.V1;
+    private OMRSWireFormat            eventWireFormat      = OMRSWireFormat.JSON;
 
     /**
      * Default constructor
@@ -74,6 +84,31 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Call made by the ConnectorProvider to initialize the Connector with the base services.
+     * The wire format for outbound events is picked up from the connection's additional properties.
+     *
+     * @param connectorInstanceId   unique id for the connector instance   useful for messages etc
+     * @param connectionProperties   POJO for the configuration used to create the connector.
+     */
+    @Override
+    public void initialize(String               connectorInstanceId,
+                           ConnectionProperties connectionProperties)
+    {
+        super.initialize(connectorInstanceId, connectionProperties);
+
+        if (connectionProperties != null)
+        {
+            AdditionalProperties additionalProperties = connectionProperties.getAdditionalProperties();
+
+            if (additionalProperties != null)
+            {
+                this.setEventWireFormat(OMRSWireFormat.getWireFormat(additionalProperties.getProperty(OMRSWireFormat.WIRE_FORMAT_PROPERTY_NAME)));
+            }
+        }
+    }
+
+
     /**
      * Registers itself as a listener of any OpenMetadataTopicConnectors that are passed as
      * embedded connectors.
@@ -157,6 +192,21 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         }
     }
 
+
+    /**
+     * Setup the wire format used to encode outbound events.  Inbound events are decoded in whichever
+     * format they arrive in.
+     *
+     * @param eventWireFormat wire format enum
+     */
+    public void setEventWireFormat(OMRSWireFormat eventWireFormat)
+    {
+        if (eventWireFormat != null)
+        {
+            this.eventWireFormat = eventWireFormat;
+        }
+    }
+
     /**
      * Register an OMRSTopicListener object.  This object will be supplied with all of the OMRS events
      * received on the topic.
@@ -164,10 +214,24 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
      * @param topicListener object implementing the OMRSTopicListener interface
      */
     public void registerListener(OMRSTopicListener  topicListener)
+    {
+        this.registerListener(topicListener, null);
+    }
+
+
+    /**
+     * Register an OMRSTopicListener object with a filter.  This object will be supplied with the OMRS events
+     * received on the topic that pass the filter.
+     *
+     * @param topicListener object implementing the OMRSTopicListener interface
+     * @param topicListenerFilter description of the events that the listener processes - null means all events
+     */
+    public void registerListener(OMRSTopicListener        topicListener,
+                                 OMRSTopicListenerFilter  topicListenerFilter)
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(topicListener);
+            internalTopicListeners.add(new RegisteredListener(topicListener, topicListenerFilter));
         }
         else
         {
@@ -337,13 +401,14 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         {
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
+                String encodedEvent = eventWireFormat.writeValueAsString(event);
+                String eventKey     = getEventKey(event);
 
                 for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
                 {
                     if (eventBusConnector != null)
                     {
-                        eventBusConnector.sendEvent(objectMapper.writeValueAsString(event));
+                        eventBusConnector.sendEvent(encodedEvent, eventKey);
                     }
                 }
             }
@@ -390,9 +455,93 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the key for an outbound event.  Instance events are keyed by the GUID of the instance they
+     * describe so the events for an instance stay in order when the event bus spreads the events
+     * over several partitions.  Registry, TypeDef and error events, and instance events that are not about a
+     * single instance (such as batch events), have no key.
+     *
+     * @param event event to send
+     * @return instance GUID or null
+     */
+    private String getEventKey(OMRSEventV1 event)
+    {
+        OMRSEventV1InstanceSection instanceSection = event.getInstanceEventSection();
+
+        if ((event.getEventCategory() != OMRSEventCategory.INSTANCE) || (instanceSection == null))
+        {
+            return null;
+        }
+
+        if (instanceSection.getEntity() != null)
+        {
+            return instanceSection.getEntity().getGUID();
+        }
+        else if (instanceSection.getRelationship() != null)
+        {
+            return instanceSection.getRelationship().getGUID();
+        }
+        else if (instanceSection.getOriginalEntity() != null)
+        {
+            return instanceSection.getOriginalEntity().getGUID();
+        }
+        else if (instanceSection.getOriginalRelationship() != null)
+        {
+            return instanceSection.getOriginalRelationship().getGUID();
+        }
+
+        return instanceSection.getInstanceGUID();
+    }
+
+
+    /**
+     * Return the registered listeners that want to receive an inbound event.  If any of the listeners has a
+     * filter, the header fields of the event are read to check it against the filters.  An event whose
+     * header can not be read goes to every listener so the normal parsing reports the error.
+     *
+     * @param event inbound event
+     * @return list of listeners
+     */
+    private List<RegisteredListener> getInterestedListeners(String event)
+    {
+        OMRSTopicEventHeader     eventHeader         = null;
+        List<RegisteredListener> interestedListeners = new ArrayList<>();
+
+        for (RegisteredListener registeredListener : internalTopicListeners)
+        {
+            OMRSTopicListenerFilter filter = registeredListener.getFilter();
+
+            if (filter != null)
+            {
+                if (eventHeader == null)
+                {
+                    eventHeader = OMRSTopicEventHeader.peek(event);
+
+                    if (eventHeader == null)
+                    {
+                        return new ArrayList<>(internalTopicListeners);
+                    }
+                }
+
+                if (filter.accepts(eventHeader))
+                {
+                    interestedListeners.add(registeredListener);
+                }
+            }
+            else
+            {
+                interestedListeners.add(registeredListener);
+            }
+        }
+
+        return interestedListeners;
+    }
+
+
     /**
      * Receives events from the real topic, parses them into event objects and passes them on to
-     * the OMRSTopicListeners registered with this connector.
+     * the OMRSTopicListeners registered with this connector.  The event is only parsed if at least one of
+     * the listeners wants to receive it.
      *
      * @param event inbound event
      */
@@ -401,18 +550,43 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         if (event != null)
         {
             OMRSEventBean   eventBean = null;
+            long            startTime = OMRSEventPipelineMonitor.startTimer();
+
+            List<RegisteredListener> interestedListeners = this.getInterestedListeners(event);
+
+            if (interestedListeners.isEmpty())
+            {
+                log.debug("Event skipped since it does not pass the filter of any listener");
+
+                OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.OMRS_TOPIC_CONNECTOR,
+                                                     connectionName,
+                                                     startTime,
+                                                     false,
+                                                     auditLog);
+                return;
+            }
 
             /*
-             * Parse the string (JSON) event into a bean.
+             * Parse the string (JSON or encoded binary) event into a bean.
              */
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
+                eventBean = OMRSWireFormat.readValueFromString(event, OMRSEventBean.class);
 
-                eventBean = objectMapper.readValue(event, OMRSEventBean.class);
+                OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.OMRS_TOPIC_CONNECTOR,
+                                                     connectionName,
+                                                     startTime,
+                                                     false,
+                                                     auditLog);
             }
             catch (Throwable   exception)
             {
+                OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.OMRS_TOPIC_CONNECTOR,
+                                                     connectionName,
+                                                     startTime,
+                                                     true,
+                                                     auditLog);
+
                 OMRSAuditCode auditCode = OMRSAuditCode.EVENT_PARSING_ERROR;
 
                 auditLog.logException(connectorName,
@@ -431,15 +605,32 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             if ((eventBean != null) && (eventBean instanceof OMRSEventV1))
             {
-                for (OMRSTopicListener  topicListener : internalTopicListeners)
+                for (RegisteredListener  registeredListener : interestedListeners)
                 {
+                    OMRSTopicListener topicListener = registeredListener.getListener();
+                    String            listenerName = connectionName + ": " + topicListener.getClass().getSimpleName();
+
+                    startTime = OMRSEventPipelineMonitor.startTimer();
+
                     try
                     {
                         this.processOMRSEvent((OMRSEventV1)eventBean,
                                               topicListener);
+
+                        OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.OMRS_TOPIC_LISTENER,
+                                                             listenerName,
+                                                             startTime,
+                                                             false,
+                                                             auditLog);
                     }
                     catch (Throwable  error)
                     {
+                        OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.OMRS_TOPIC_LISTENER,
+                                                             listenerName,
+                                                             startTime,
+                                                             true,
+                                                             auditLog);
+
                         log.debug("Unable to pass event to one of the topic listeners");
 
                         OMRSAuditCode auditCode = OMRSAuditCode.EVENT_PROCESSING_ERROR;
@@ -571,4 +762,50 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                            auditCode.getSystemAction(),
                            auditCode.getUserAction());
     }
+
+
+    /**
+     * RegisteredListener holds a listener with the filter it was registered with.
+     */
+    private static class RegisteredListener
+    {
+        private final OMRSTopicListener       listener;
+        private final OMRSTopicListenerFilter filter;
+
+
+        /**
+         * Constructor
+         *
+         * @param listener registered listener
+         * @param filter filter for the listener or null for all events
+         */
+        RegisteredListener(OMRSTopicListener        listener,
+                           OMRSTopicListenerFilter  filter)
+        {
+            this.listener = listener;
+            this.filter = filter;
+        }
+
+
+        /**
+         * Return the registered listener.
+         *
+         * @return listener
+         */
+        OMRSTopicListener getListener()
+        {
+            return listener;
+        }
+
+
+        /**
+         * Return the filter of the listener.
+         *
+         * @return filter or null for all events
+         */
+        OMRSTopicListenerFilter getFilter()
+        {
+            return filter;
+        }
+    }
 }
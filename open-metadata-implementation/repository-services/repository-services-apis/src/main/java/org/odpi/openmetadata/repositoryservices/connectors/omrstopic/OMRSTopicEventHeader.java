@@ -0,0 +1,294 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.wireformat.OMRSWireFormat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OMRSTopicEventHeader holds the few fields of an inbound event that are needed to check it against the
+ * OMRSTopicListenerFilters: the event category, the instance event type and the type (with its super types)
+ * of the instance.  The fields are read with a streaming parser that skips over everything else, so no beans
+ * are created for the event.
+ */
+class OMRSTopicEventHeader
+{
+    private OMRSEventCategory     eventCategory     = null;
+    private OMRSInstanceEventType instanceEventType = null;
+    private String                typeDefGUID       = null;
+    private String                typeDefName       = null;
+    private boolean               superTypesKnown   = false;
+    private List<String>          superTypeGUIDs    = new ArrayList<>();
+    private List<String>          superTypeNames    = new ArrayList<>();
+
+
+    /**
+     * Default constructor
+     */
+    OMRSTopicEventHeader()
+    {
+    }
+
+
+    /**
+     * Read the header fields from an event received on the topic.
+     *
+     * @param event encoded event
+     * @return header or null if the event can not be read, or is from a version of the protocol that
+     * this server does not understand
+     */
+    static OMRSTopicEventHeader peek(String   event)
+    {
+        OMRSTopicEventHeader eventHeader = new OMRSTopicEventHeader();
+
+        try (JsonParser parser = OMRSWireFormat.createParser(event))
+        {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String    fieldName = parser.getCurrentName();
+                JsonToken token     = parser.nextToken();
+
+                if (("eventCategory".equals(fieldName)) && (token == JsonToken.VALUE_STRING))
+                {
+                    eventHeader.eventCategory = OMRSEventCategory.valueOf(parser.getText());
+                }
+                else if (("instanceEventSection".equals(fieldName)) && (token == JsonToken.START_OBJECT))
+                {
+                    eventHeader.peekInstanceSection(parser);
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+        }
+        catch (IOException | IllegalArgumentException  error)
+        {
+            return null;
+        }
+
+        if (eventHeader.eventCategory == null)
+        {
+            return null;
+        }
+
+        return eventHeader;
+    }
+
+
+    /**
+     * Read the instance event type and the type of the instance from the instance section of an event.
+     * The parser is positioned on the start of the section and is left on its end.
+     *
+     * @param parser streaming parser
+     * @throws IOException the event can not be read
+     */
+    private void peekInstanceSection(JsonParser   parser) throws IOException
+    {
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String    fieldName = parser.getCurrentName();
+            JsonToken token     = parser.nextToken();
+
+            if (token == JsonToken.VALUE_STRING)
+            {
+                if ("eventType".equals(fieldName))
+                {
+                    instanceEventType = OMRSInstanceEventType.valueOf(parser.getText());
+                }
+                else if ("typeDefGUID".equals(fieldName))
+                {
+                    typeDefGUID = parser.getText();
+                }
+                else if ("typeDefName".equals(fieldName))
+                {
+                    typeDefName = parser.getText();
+                }
+            }
+            else if ((token == JsonToken.START_OBJECT) && (("entity".equals(fieldName)) || ("relationship".equals(fieldName))))
+            {
+                peekInstance(parser);
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+
+
+    /**
+     * Read the super types from the type of the entity or relationship in an instance event.
+     * The parser is positioned on the start of the instance and is left on its end.
+     *
+     * @param parser streaming parser
+     * @throws IOException the event can not be read
+     */
+    private void peekInstance(JsonParser   parser) throws IOException
+    {
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String    fieldName = parser.getCurrentName();
+            JsonToken token     = parser.nextToken();
+
+            if (("type".equals(fieldName)) && (token == JsonToken.START_OBJECT))
+            {
+                superTypesKnown = true;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String    typeFieldName = parser.getCurrentName();
+                    JsonToken typeToken     = parser.nextToken();
+
+                    if (("typeDefSuperTypes".equals(typeFieldName)) && (typeToken == JsonToken.START_ARRAY))
+                    {
+                        peekSuperTypes(parser);
+                    }
+                    else
+                    {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+
+
+    /**
+     * Read the guids and names from the list of super types of an instance type.  The parser is positioned on
+     * the start of the list and is left on its end.
+     *
+     * @param parser streaming parser
+     * @throws IOException the event can not be read
+     */
+    private void peekSuperTypes(JsonParser   parser) throws IOException
+    {
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY)
+        {
+            if (token == JsonToken.START_OBJECT)
+            {
+                while (parser.nextToken() == JsonToken.FIELD_NAME)
+                {
+                    String    fieldName = parser.getCurrentName();
+                    JsonToken linkToken = parser.nextToken();
+
+                    if (("guid".equals(fieldName)) && (linkToken == JsonToken.VALUE_STRING))
+                    {
+                        superTypeGUIDs.add(parser.getText());
+                    }
+                    else if (("name".equals(fieldName)) && (linkToken == JsonToken.VALUE_STRING))
+                    {
+                        superTypeNames.add(parser.getText());
+                    }
+                    else
+                    {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            else if (token == null)
+            {
+                throw new IOException("Unexpected end of event");
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+        }
+    }
+
+
+    /**
+     * Return the category of the event.
+     *
+     * @return event category enum
+     */
+    OMRSEventCategory getEventCategory()
+    {
+        return eventCategory;
+    }
+
+
+    /**
+     * Return the type of an instance event.
+     *
+     * @return instance event type enum or null
+     */
+    OMRSInstanceEventType getInstanceEventType()
+    {
+        return instanceEventType;
+    }
+
+
+    /**
+     * Return the unique identifier of the type of the instance in an instance event.
+     *
+     * @return guid or null
+     */
+    String getTypeDefGUID()
+    {
+        return typeDefGUID;
+    }
+
+
+    /**
+     * Return the name of the type of the instance in an instance event.
+     *
+     * @return name or null
+     */
+    String getTypeDefName()
+    {
+        return typeDefName;
+    }
+
+
+    /**
+     * Return whether the event includes the full type of the instance, so the list of super types is complete.
+     *
+     * @return boolean flag
+     */
+    boolean isSuperTypesKnown()
+    {
+        return superTypesKnown;
+    }
+
+
+    /**
+     * Return the unique identifiers of the super types of the instance.
+     *
+     * @return list of guids
+     */
+    List<String> getSuperTypeGUIDs()
+    {
+        return superTypeGUIDs;
+    }
+
+
+    /**
+     * Return the names of the super types of the instance.
+     *
+     * @return list of names
+     */
+    List<String> getSuperTypeNames()
+    {
+        return superTypeNames;
+    }
+}
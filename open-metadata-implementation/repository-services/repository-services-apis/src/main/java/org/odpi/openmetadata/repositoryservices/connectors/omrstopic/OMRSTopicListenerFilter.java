@@ -0,0 +1,320 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * OMRSTopicListenerFilter describes the events that an OMRSTopicListener wants to receive.  It is passed to
+ * OMRSTopic.registerListener() alongside the listener.  The OMRSTopicConnector checks each inbound event
+ * against the filters of its listeners before the event is parsed, so a listener is not called for events it
+ * would ignore, and an event that no listener wants is never parsed at all.
+ * <p>
+ * A filter has three parts.  Each part that is not set matches every event.
+ * </p>
+ * <ul>
+ *     <li>
+ *         The event categories (registry, TypeDef or instance) that the listener processes.
+ *     </li>
+ *     <li>
+ *         The instance event types (new entity, deleted relationship, ...) that the listener processes.
+ *         This part only applies to instance events.
+ *     </li>
+ *     <li>
+ *         The names and/or unique identifiers of the TypeDefs of the instances that the listener processes.
+ *         An instance matches if its own type, or any of its super types, is listed, so listing "Asset" selects
+ *         the events for every kind of asset.  This part only applies to instance events.
+ *     </li>
+ * </ul>
+ * <p>
+ * The filter only ever removes events that the listener would ignore.  An instance event that is not about a
+ * single instance of a known type (such as a batch event) is always passed to a listener that accepts its
+ * category and event type.
+ * </p>
+ */
+public class OMRSTopicListenerFilter
+{
+    private Set<OMRSEventCategory>     eventCategories    = null;
+    private Set<OMRSInstanceEventType> instanceEventTypes = null;
+    private Set<String>                typeDefGUIDs       = null;
+    private Set<String>                typeDefNames       = null;
+
+
+    /**
+     * Default constructor creates a filter that accepts every event.
+     */
+    public OMRSTopicListenerFilter()
+    {
+    }
+
+
+    /**
+     * Constructor for a filter that accepts every event of the requested categories.
+     *
+     * @param eventCategories list of event categories
+     */
+    public OMRSTopicListenerFilter(List<OMRSEventCategory>   eventCategories)
+    {
+        this.setEventCategories(eventCategories);
+    }
+
+
+    /**
+     * Return the categories of event that pass the filter.
+     *
+     * @return list of event categories or null for all categories
+     */
+    public List<OMRSEventCategory> getEventCategories()
+    {
+        return copyList(eventCategories);
+    }
+
+
+    /**
+     * Set up the categories of event that pass the filter.
+     *
+     * @param eventCategories list of event categories or null for all categories
+     */
+    public void setEventCategories(List<OMRSEventCategory>   eventCategories)
+    {
+        if (eventCategories == null)
+        {
+            this.eventCategories = null;
+        }
+        else
+        {
+            this.eventCategories = EnumSet.noneOf(OMRSEventCategory.class);
+            this.eventCategories.addAll(eventCategories);
+        }
+    }
+
+
+    /**
+     * Return the types of instance event that pass the filter.
+     *
+     * @return list of instance event types or null for all instance event types
+     */
+    public List<OMRSInstanceEventType> getInstanceEventTypes()
+    {
+        return copyList(instanceEventTypes);
+    }
+
+
+    /**
+     * Set up the types of instance event that pass the filter.
+     *
+     * @param instanceEventTypes list of instance event types or null for all instance event types
+     */
+    public void setInstanceEventTypes(List<OMRSInstanceEventType>   instanceEventTypes)
+    {
+        if (instanceEventTypes == null)
+        {
+            this.instanceEventTypes = null;
+        }
+        else
+        {
+            this.instanceEventTypes = EnumSet.noneOf(OMRSInstanceEventType.class);
+            this.instanceEventTypes.addAll(instanceEventTypes);
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the TypeDefs whose instances (and the instances of their subtypes)
+     * pass the filter.
+     *
+     * @return list of TypeDef guids or null
+     */
+    public List<String> getTypeDefGUIDs()
+    {
+        return copyList(typeDefGUIDs);
+    }
+
+
+    /**
+     * Set up the unique identifiers of the TypeDefs whose instances (and the instances of their subtypes)
+     * pass the filter.  If neither TypeDef guids nor TypeDef names are set, instances of every type pass.
+     *
+     * @param typeDefGUIDs list of TypeDef guids or null
+     */
+    public void setTypeDefGUIDs(List<String>   typeDefGUIDs)
+    {
+        this.typeDefGUIDs = copySet(typeDefGUIDs);
+    }
+
+
+    /**
+     * Return the names of the TypeDefs whose instances (and the instances of their subtypes) pass the filter.
+     *
+     * @return list of TypeDef names or null
+     */
+    public List<String> getTypeDefNames()
+    {
+        return copyList(typeDefNames);
+    }
+
+
+    /**
+     * Set up the names of the TypeDefs whose instances (and the instances of their subtypes) pass the filter.
+     * If neither TypeDef guids nor TypeDef names are set, instances of every type pass.
+     *
+     * @param typeDefNames list of TypeDef names or null
+     */
+    public void setTypeDefNames(List<String>   typeDefNames)
+    {
+        this.typeDefNames = copySet(typeDefNames);
+    }
+
+
+    /**
+     * Test whether an event passes the filter based on the header fields read from its payload.
+     *
+     * @param eventHeader fields from the event
+     * @return boolean flag
+     */
+    boolean accepts(OMRSTopicEventHeader   eventHeader)
+    {
+        OMRSEventCategory eventCategory = eventHeader.getEventCategory();
+
+        if ((eventCategories != null) && (! eventCategories.contains(eventCategory)))
+        {
+            return false;
+        }
+
+        if (eventCategory != OMRSEventCategory.INSTANCE)
+        {
+            return true;
+        }
+
+        OMRSInstanceEventType instanceEventType = eventHeader.getInstanceEventType();
+
+        if ((instanceEventTypes != null) && (instanceEventType != null) && (! instanceEventTypes.contains(instanceEventType)))
+        {
+            return false;
+        }
+
+        if ((typeDefGUIDs == null) && (typeDefNames == null))
+        {
+            return true;
+        }
+
+        if ((eventHeader.getTypeDefGUID() == null) && (eventHeader.getTypeDefName() == null))
+        {
+            /*
+             * The event is not about an instance of a single type.
+             */
+            return true;
+        }
+
+        if (matchesType(eventHeader.getTypeDefGUID(), eventHeader.getTypeDefName()))
+        {
+            return true;
+        }
+
+        if (! eventHeader.isSuperTypesKnown())
+        {
+            /*
+             * The event (for example a purge event) does not carry the type hierarchy of the instance so it may
+             * be an instance of a subtype of one of the requested types.
+             */
+            return true;
+        }
+
+        for (String superTypeGUID : eventHeader.getSuperTypeGUIDs())
+        {
+            if (matchesType(superTypeGUID, null))
+            {
+                return true;
+            }
+        }
+
+        for (String superTypeName : eventHeader.getSuperTypeNames())
+        {
+            if (matchesType(null, superTypeName))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Test whether a type is one of the requested types.
+     *
+     * @param typeDefGUID unique identifier of the type (may be null)
+     * @param typeDefName name of the type (may be null)
+     * @return boolean flag
+     */
+    private boolean matchesType(String   typeDefGUID,
+                                String   typeDefName)
+    {
+        if ((typeDefGUID != null) && (typeDefGUIDs != null) && (typeDefGUIDs.contains(typeDefGUID)))
+        {
+            return true;
+        }
+
+        return (typeDefName != null) && (typeDefNames != null) && (typeDefNames.contains(typeDefName));
+    }
+
+
+    /**
+     * Return a copy of a set as a list.
+     *
+     * @param values set to copy
+     * @param <T> type of the values
+     * @return list or null
+     */
+    private static <T> List<T> copyList(Collection<T>   values)
+    {
+        if (values == null)
+        {
+            return null;
+        }
+
+        return new ArrayList<>(values);
+    }
+
+
+    /**
+     * Return a copy of a list as a set.
+     *
+     * @param values list to copy
+     * @return set or null
+     */
+    private static Set<String> copySet(List<String>   values)
+    {
+        if (values == null)
+        {
+            return null;
+        }
+
+        return new HashSet<>(values);
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSTopicListenerFilter{" +
+                "eventCategories=" + eventCategories +
+                ", instanceEventTypes=" + instanceEventTypes +
+                ", typeDefGUIDs=" + typeDefGUIDs +
+                ", typeDefNames=" + typeDefNames +
+                '}';
+    }
+}
@@ -28,4 +28,17 @@ public interface OpenMetadataTopic
      * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
      */
     void sendEvent(String event) throws ConnectorCheckedException;
+
+
+    /**
+     * Sends the supplied event to the topic with a key that identifies the metadata instance that the event
+     * describes.  An event bus that partitions its topics can use the key to spread events over the partitions
+     * while the events for one instance are kept in order.  A null key means the event is not about a
+     * particular instance.
+     *
+     * @param event  object containing the event properties.
+     * @param eventKey  unique identifier of the instance that the event describes (may be null)
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     */
+    void sendEvent(String event, String eventKey) throws ConnectorCheckedException;
 }
@@ -193,6 +193,21 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Sends the supplied event to the topic with a key that identifies the metadata instance that the event
+     * describes.  This implementation ignores the key.  Connectors for event buses that partition their
+     * topics override this method.
+     *
+     * @param event  object containing the event properties.
+     * @param eventKey  unique identifier of the instance that the event describes (may be null)
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     */
+    public void sendEvent(String event, String eventKey) throws ConnectorCheckedException
+    {
+        this.sendEvent(event);
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
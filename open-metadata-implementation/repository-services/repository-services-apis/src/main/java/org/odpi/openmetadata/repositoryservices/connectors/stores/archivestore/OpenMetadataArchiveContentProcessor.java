@@ -0,0 +1,55 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.List;
+
+/**
+ * OpenMetadataArchiveContentProcessor receives the contents of an open metadata archive section by section
+ * from OpenMetadataArchiveStoreConnector.processArchiveContents().  This means an archive store connector
+ * can pass the instances of a large archive in batches as it reads them rather than building the whole
+ * archive in memory first.
+ * <p>
+ * The archive properties are always passed first, followed by the type store and then the batches of
+ * entities and relationships.  If the archive has no properties, the other sections are not passed.
+ * A connector may pass several batches of entities (or several batches of relationships) at the same time
+ * from different threads, but all of the entities are processed before the first batch of relationships.
+ */
+public interface OpenMetadataArchiveContentProcessor
+{
+    /**
+     * Process the header of the archive.
+     *
+     * @param archiveProperties properties of the archive
+     */
+    void processArchiveProperties(OpenMetadataArchiveProperties   archiveProperties);
+
+
+    /**
+     * Process the type definitions in the archive.
+     *
+     * @param archiveTypeStore type store from the archive
+     */
+    void processTypeStore(OpenMetadataArchiveTypeStore   archiveTypeStore);
+
+
+    /**
+     * Process a batch of entities from the instance store of the archive.
+     *
+     * @param entities list of entities
+     */
+    void processEntities(List<EntityDetail>   entities);
+
+
+    /**
+     * Process a batch of relationships from the instance store of the archive.
+     *
+     * @param relationships list of relationships
+     */
+    void processRelationships(List<Relationship>   relationships);
+}
@@ -2,10 +2,62 @@
 package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
 
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
 /**
  * OpenMetadataArchiveStoreConnector is the base class for connectors that support the OpenMetadataArchiveStore
  */
 public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase implements OpenMetadataArchiveStore
 {
+    /**
+     * Pass the contents of the archive to a processor.  This implementation retrieves the whole archive with
+     * getArchiveContents() and passes each section in turn.  Connectors for large archives override this
+     * method to read the archive incrementally.
+     *
+     * @param processor receiver of the contents of the archive
+     * @return false if the archive has no contents
+     * @throws RepositoryErrorException the archive could not be read.  Some of its contents may have been passed
+     *                                  to the processor.
+     */
+    public boolean processArchiveContents(OpenMetadataArchiveContentProcessor   processor) throws RepositoryErrorException
+    {
+        OpenMetadataArchive archiveContents = this.getArchiveContents();
+
+        if (archiveContents == null)
+        {
+            return false;
+        }
+
+        OpenMetadataArchiveProperties archiveProperties = archiveContents.getArchiveProperties();
+
+        if (archiveProperties != null)
+        {
+            processor.processArchiveProperties(archiveProperties);
+
+            if (archiveContents.getArchiveTypeStore() != null)
+            {
+                processor.processTypeStore(archiveContents.getArchiveTypeStore());
+            }
+
+            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContents.getArchiveInstanceStore();
+
+            if (archiveInstanceStore != null)
+            {
+                if (archiveInstanceStore.getEntities() != null)
+                {
+                    processor.processEntities(archiveInstanceStore.getEntities());
+                }
+
+                if (archiveInstanceStore.getRelationships() != null)
+                {
+                    processor.processRelationships(archiveInstanceStore.getRelationships());
+                }
+            }
+        }
+
+        return true;
+    }
 }
@@ -12,8 +12,17 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
-import java.util.List;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
 
 /**
  * <p>
@@ -62,7 +71,8 @@ import java.util.Date;
  */
 public abstract class OMRSMetadataCollection
 {
-    static final private String       defaultRepositoryName = "Open Metadata Repository";
+    static final private String       defaultRepositoryName     = "Open Metadata Repository";
+    static final protected String     qualifiedNamePropertyName = "qualifiedName";
 
     protected String                  metadataCollectionId;                         /* Initialized in constructor */
     protected OMRSRepositoryHelper    repositoryHelper    = null;                   /* Initialized in constructor */
@@ -762,6 +772,93 @@ public abstract class OMRSMetadataCollection
                                                                              UserNotAuthorizedException;
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.  This replaces a call to
+     * getEntityDetail() for each entity.  Repositories that can retrieve many entities in one call should
+     * override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Entities that are not known in the metadata collection, or are
+     *         only known as a proxy, are skipped.  Null means none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        this.validateGUIDList(guids, methodName);
+
+        Map<String, EntityDetail> entities = new LinkedHashMap<>();
+
+        for (String guid : guids)
+        {
+            if (! entities.containsKey(guid))
+            {
+                try
+                {
+                    EntityDetail entity = this.getEntityDetail(userId, guid);
+
+                    if (entity != null)
+                    {
+                        entities.put(guid, entity);
+                    }
+                }
+                catch (EntityNotKnownException | EntityProxyOnlyException error)
+                {
+                    /*
+                     * Entity not stored in this metadata collection so it is skipped.
+                     */
+                }
+            }
+        }
+
+        if (entities.isEmpty())
+        {
+            return null;
+        }
+
+        return new ArrayList<>(entities.values());
+    }
+
+
+    /**
+     * Validate that a list of guids passed on a bulk request is not empty and does not contain nulls.
+     *
+     * @param guids list of unique identifiers
+     * @param methodName calling method
+     * @throws InvalidParameterException the list is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException the metadata collection is not set up properly.
+     */
+    protected void validateGUIDList(List<String> guids,
+                                    String       methodName) throws InvalidParameterException,
+                                                                    RepositoryErrorException
+    {
+        final String  guidParameterName = "guids";
+
+        this.validateRepositoryConnector(methodName);
+
+        if ((guids == null) || (guids.isEmpty()))
+        {
+            repositoryValidator.validateGUID(repositoryName, guidParameterName, null, methodName);
+        }
+        else
+        {
+            for (String guid : guids)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidParameterName, guid, methodName);
+            }
+        }
+    }
+
+
+
 
     /**
      * Return the relationships for a specific entity.
@@ -811,6 +908,178 @@ public abstract class OMRSMetadataCollection
                                                                                                              UserNotAuthorizedException;
 
 
+    /**
+     * Return the relationships for a list of entities together with the entities at the other end of each
+     * relationship.  This replaces a call to getRelationshipsForEntity() for each entity followed by a call to
+     * getEntityDetail() for the far end of each relationship.  Repositories that can retrieve this information in
+     * fewer calls should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers for the entities of interest.  Entities that are not known in the
+     *                    metadata collection are skipped.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entities.  Null means return the
+     *                 present values.
+     * @param pageSize the maximum number of relationships that can be returned for each entity.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the relationships and the entities at the far end of the relationships.
+     *         An entity that is only known as a proxy in this metadata collection is not returned.
+     *         Null means no relationships associated with the entities.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the relationships.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getRelationshipsAndRelatedEntities(String               userId,
+                                                            List<String>         entityGUIDs,
+                                                            String               relationshipTypeGUID,
+                                                            List<InstanceStatus> limitResultsByStatus,
+                                                            Date                 asOfTime,
+                                                            int                  pageSize) throws InvalidParameterException,
+                                                                                                  TypeErrorException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  PropertyErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationshipsAndRelatedEntities";
+        final String  guidParameterName = "entityGUIDs";
+
+        this.validateRepositoryConnector(methodName);
+
+        if ((entityGUIDs == null) || (entityGUIDs.isEmpty()))
+        {
+            repositoryValidator.validateGUID(repositoryName, guidParameterName, null, methodName);
+        }
+
+        Map<String, Relationship> relationships = new LinkedHashMap<>();
+
+        for (String entityGUID : entityGUIDs)
+        {
+            try
+            {
+                List<Relationship> entityRelationships = this.getRelationshipsForEntity(userId,
+                                                                                        entityGUID,
+                                                                                        relationshipTypeGUID,
+                                                                                        0,
+                                                                                        limitResultsByStatus,
+                                                                                        asOfTime,
+                                                                                        null,
+                                                                                        null,
+                                                                                        pageSize);
+                if (entityRelationships != null)
+                {
+                    for (Relationship relationship : entityRelationships)
+                    {
+                        if (relationship != null)
+                        {
+                            relationships.put(relationship.getGUID(), relationship);
+                        }
+                    }
+                }
+            }
+            catch (EntityNotKnownException error)
+            {
+                /*
+                 * Entity not known in this metadata collection so it is skipped.
+                 */
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
+
+        List<EntityDetail> relatedEntities = new ArrayList<>();
+
+        for (String relatedEntityGUID : this.getFarEndEntityGUIDs(entityGUIDs, relationships.values()))
+        {
+            try
+            {
+                EntityDetail relatedEntity;
+
+                if (asOfTime == null)
+                {
+                    relatedEntity = this.getEntityDetail(userId, relatedEntityGUID);
+                }
+                else
+                {
+                    relatedEntity = this.getEntityDetail(userId, relatedEntityGUID, asOfTime);
+                }
+
+                if (relatedEntity != null)
+                {
+                    relatedEntities.add(relatedEntity);
+                }
+            }
+            catch (EntityNotKnownException | EntityProxyOnlyException error)
+            {
+                /*
+                 * The far end of the relationship is not stored in this metadata collection.
+                 */
+            }
+        }
+
+        return new InstanceGraph(relatedEntities, new ArrayList<>(relationships.values()));
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities at the far end of the supplied relationships.  When both
+     * ends of a relationship are in the list of requested entities, both ends are returned.
+     *
+     * @param entityGUIDs unique identifiers of the requested entities
+     * @param relationships relationships retrieved for the requested entities
+     * @return set of unique identifiers (in the order they were found)
+     */
+    protected Set<String> getFarEndEntityGUIDs(List<String>             entityGUIDs,
+                                               Collection<Relationship> relationships)
+    {
+        Set<String> requestedGUIDs = new HashSet<>(entityGUIDs);
+        Set<String> farEndGUIDs    = new LinkedHashSet<>();
+
+        for (Relationship relationship : relationships)
+        {
+            if (relationship != null)
+            {
+                String entityOneGUID = null;
+                String entityTwoGUID = null;
+
+                if (relationship.getEntityOneProxy() != null)
+                {
+                    entityOneGUID = relationship.getEntityOneProxy().getGUID();
+                }
+
+                if (relationship.getEntityTwoProxy() != null)
+                {
+                    entityTwoGUID = relationship.getEntityTwoProxy().getGUID();
+                }
+
+                if ((entityOneGUID != null) && (requestedGUIDs.contains(entityTwoGUID)))
+                {
+                    farEndGUIDs.add(entityOneGUID);
+                }
+
+                if ((entityTwoGUID != null) && (requestedGUIDs.contains(entityOneGUID)))
+                {
+                    farEndGUIDs.add(entityTwoGUID);
+                }
+            }
+        }
+
+        return farEndGUIDs;
+    }
+
+
 
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
@@ -920,6 +1189,242 @@ public abstract class OMRSMetadataCollection
                                                                                                                UserNotAuthorizedException;
 
 
+    /**
+     * Return a list of entities that have any, or all, of the requested classifications attached.  Each
+     * classification may have its own properties to match.  This replaces a findEntitiesByClassification() call
+     * for each of the classifications.
+     * <p>
+     * When any of the classifications may match, a classification that is not valid for the requested type of
+     * entity is skipped since no entity can match it.  When all of the classifications must match, such a
+     * classification is an error.
+     * <p>
+     * This default implementation issues those calls and combines the results.  Repositories that can look up
+     * entities by classification should override this method so that the request is satisfied in a single pass.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param matchClassifications map of classification name to the classification properties used to narrow the
+     *                             search for that classification.  A null properties value matches any
+     *                             classification of that name.  The map must contain at least one name.
+     * @param matchClassificationCriteria ANY if an entity is returned when it matches any of the classifications,
+     *                                    ALL if it must match all of them.
+     * @param matchPropertiesCriteria Enum defining how the properties should be matched to each classification in
+     *                                the repository.  Needed if any classification properties are supplied.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException one of the classifications is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByClassifications(String                          userId,
+                                                            String                          entityTypeGUID,
+                                                            Map<String, InstanceProperties> matchClassifications,
+                                                            MatchCriteria                   matchClassificationCriteria,
+                                                            MatchCriteria                   matchPropertiesCriteria,
+                                                            int                             fromEntityElement,
+                                                            List<InstanceStatus>            limitResultsByStatus,
+                                                            Date                            asOfTime,
+                                                            String                          sequencingProperty,
+                                                            SequencingOrder                 sequencingOrder,
+                                                            int                             pageSize) throws InvalidParameterException,
+                                                                                                             TypeErrorException,
+                                                                                                             RepositoryErrorException,
+                                                                                                             ClassificationErrorException,
+                                                                                                             PropertyErrorException,
+                                                                                                             PagingErrorException,
+                                                                                                             FunctionNotSupportedException,
+                                                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesByClassifications";
+
+        this.validateRepositoryConnector(methodName);
+        this.validateClassificationMatch(matchClassifications,
+                                         matchClassificationCriteria,
+                                         matchPropertiesCriteria,
+                                         null,
+                                         methodName);
+
+        /*
+         * The results for each classification are combined by guid.  For ALL, the combined results are
+         * narrowed to the entities found for every classification.
+         */
+        Map<String, EntityDetail>  combinedResults = null;
+
+        for (String classificationName : matchClassifications.keySet())
+        {
+            InstanceProperties  matchProperties = matchClassifications.get(classificationName);
+            List<EntityDetail>  results;
+
+            try
+            {
+                results = this.findEntitiesByClassification(userId,
+                                                            entityTypeGUID,
+                                                            classificationName,
+                                                            matchProperties,
+                                                            matchProperties == null ? null : matchPropertiesCriteria,
+                                                            0,
+                                                            limitResultsByStatus,
+                                                            asOfTime,
+                                                            sequencingProperty,
+                                                            sequencingOrder,
+                                                            0);
+            }
+            catch (ClassificationErrorException error)
+            {
+                if (matchClassificationCriteria == MatchCriteria.ALL)
+                {
+                    throw error;
+                }
+
+                continue;
+            }
+
+            Map<String, EntityDetail>  classifiedEntities = new LinkedHashMap<>();
+
+            if (results != null)
+            {
+                for (EntityDetail entity : results)
+                {
+                    if ((entity != null) && (entity.getGUID() != null))
+                    {
+                        classifiedEntities.put(entity.getGUID(), entity);
+                    }
+                }
+            }
+
+            if (combinedResults == null)
+            {
+                combinedResults = classifiedEntities;
+            }
+            else if (matchClassificationCriteria == MatchCriteria.ALL)
+            {
+                combinedResults.keySet().retainAll(classifiedEntities.keySet());
+            }
+            else
+            {
+                for (EntityDetail entity : classifiedEntities.values())
+                {
+                    combinedResults.putIfAbsent(entity.getGUID(), entity);
+                }
+            }
+
+            if ((matchClassificationCriteria == MatchCriteria.ALL) && (combinedResults.isEmpty()))
+            {
+                break;
+            }
+        }
+
+        if ((combinedResults == null) || (combinedResults.isEmpty()) || (fromEntityElement >= combinedResults.size()))
+        {
+            return null;
+        }
+
+        List<EntityDetail>  foundEntities = new ArrayList<>(combinedResults.values());
+        int                 endElement    = foundEntities.size();
+
+        if ((pageSize > 0) && (fromEntityElement + pageSize < endElement))
+        {
+            endElement = fromEntityElement + pageSize;
+        }
+
+        return new ArrayList<>(foundEntities.subList(fromEntityElement, endElement));
+    }
+
+
+    /**
+     * Validate the classifications and criteria passed to findEntitiesByClassifications().  The classifications
+     * are only checked against the type of entity when all of them must match.
+     *
+     * @param matchClassifications map of classification name to the classification properties to match.
+     * @param matchClassificationCriteria whether any or all of the classifications must match.
+     * @param matchPropertiesCriteria how the properties should be matched to each classification.
+     * @param entityTypeName name of the type of entity requested - or null for any type.
+     * @param methodName calling method
+     * @throws InvalidParameterException there are no classifications or one of the criteria is invalid.
+     * @throws ClassificationErrorException one of the classifications is not valid for the type of entity.
+     */
+    protected void validateClassificationMatch(Map<String, InstanceProperties> matchClassifications,
+                                               MatchCriteria                   matchClassificationCriteria,
+                                               MatchCriteria                   matchPropertiesCriteria,
+                                               String                          entityTypeName,
+                                               String                          methodName) throws InvalidParameterException,
+                                                                                                  ClassificationErrorException
+    {
+        final String  classificationsParameterName         = "matchClassifications";
+        final String  classificationCriteriaParameterName  = "matchClassificationCriteria";
+        final String  propertiesCriteriaParameterName      = "matchPropertiesCriteria";
+
+        if ((matchClassifications == null) || (matchClassifications.isEmpty()))
+        {
+            repositoryValidator.validateClassification(repositoryName,
+                                                       classificationsParameterName,
+                                                       null,
+                                                       entityTypeName,
+                                                       methodName);
+            return;
+        }
+
+        if ((matchClassificationCriteria != MatchCriteria.ANY) && (matchClassificationCriteria != MatchCriteria.ALL))
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.INVALID_CLASSIFICATION_MATCH_CRITERIA;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(classificationCriteriaParameterName,
+                                                                            methodName,
+                                                                            repositoryName,
+                                                                            String.valueOf(matchClassificationCriteria));
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+
+        for (String classificationName : matchClassifications.keySet())
+        {
+            repositoryValidator.validateClassification(repositoryName,
+                                                       classificationsParameterName,
+                                                       classificationName,
+                                                       matchClassificationCriteria == MatchCriteria.ALL ? entityTypeName : null,
+                                                       methodName);
+
+            InstanceProperties  matchProperties = matchClassifications.get(classificationName);
+
+            if (matchProperties != null)
+            {
+                repositoryValidator.validateMatchCriteria(repositoryName,
+                                                          propertiesCriteriaParameterName,
+                                                          classificationsParameterName,
+                                                          matchPropertiesCriteria,
+                                                          matchProperties,
+                                                          methodName);
+            }
+        }
+    }
+
+
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -1033,6 +1538,61 @@ public abstract class OMRSMetadataCollection
                                                                             UserNotAuthorizedException;
 
 
+    /**
+     * Return a list of relationships.  This replaces a call to getRelationship() for each relationship.
+     * Repositories that can retrieve many relationships in one call should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the relationships.
+     * @return list of relationships.  Relationships that are not known in the metadata collection are skipped.
+     *         Null means none of the relationships are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationships";
+
+        this.validateGUIDList(guids, methodName);
+
+        Map<String, Relationship> relationships = new LinkedHashMap<>();
+
+        for (String guid : guids)
+        {
+            if (! relationships.containsKey(guid))
+            {
+                try
+                {
+                    Relationship relationship = this.getRelationship(userId, guid);
+
+                    if (relationship != null)
+                    {
+                        relationships.put(guid, relationship);
+                    }
+                }
+                catch (RelationshipNotKnownException error)
+                {
+                    /*
+                     * Relationship not stored in this metadata collection so it is skipped.
+                     */
+                }
+            }
+        }
+
+        if (relationships.isEmpty())
+        {
+            return null;
+        }
+
+        return new ArrayList<>(relationships.values());
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -1306,6 +1866,305 @@ public abstract class OMRSMetadataCollection
                                                                                             UserNotAuthorizedException;
 
 
+    /**
+     * Return the entity with the qualifiedName supplied in the initial properties, creating it if no such
+     * entity exists.  The qualifiedName is unique within a type family, that is, all of the types that share
+     * the same top-level super type.  An existing entity is returned unchanged if it is of the requested type
+     * or one of its subtypes.  If it is of another type in the family, PropertyErrorException is thrown rather
+     * than returning an entity the caller did not ask for.  Deleted entities are ignored.
+     * <p>
+     * This replaces a call to findEntitiesByProperty() followed by a call to addEntity().
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier (guid) for the new entity's type.
+     * @param initialProperties initial list of properties for the new entity; must include the qualifiedName.
+     * @param initialClassifications initial list of classifications for the new entity null means no classifications.
+     * @param initialStatus initial status typically DRAFT, PREPARED or ACTIVE.
+     * @return EntityDetail for the existing entity or the new entity.
+     * @throws InvalidParameterException one of the parameters is invalid or null, or there is no qualifiedName
+     *                                   in the initial properties.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type, or the qualifiedName
+     *                                  is used by an entity that is not of the requested type or one of its subtypes.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for this entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws PagingErrorException the search for the existing entity failed.
+     * @throws FunctionNotSupportedException the repository does not support searching by property.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail findOrAddEntity(String                     userId,
+                                        String                     entityTypeGUID,
+                                        InstanceProperties         initialProperties,
+                                        List<Classification>       initialClassifications,
+                                        InstanceStatus             initialStatus) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         PropertyErrorException,
+                                                                                         ClassificationErrorException,
+                                                                                         StatusNotSupportedException,
+                                                                                         PagingErrorException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        return this.findOrAddEntity(userId,
+                                    entityTypeGUID,
+                                    initialProperties,
+                                    initialClassifications,
+                                    initialStatus,
+                                    null);
+    }
+
+
+    /**
+     * Return the entity with the qualifiedName supplied in the initial properties, creating it if no such
+     * entity exists, and report whether the entity was created by this request.  This is the method that
+     * repositories override.
+     * <p>
+     * This default implementation issues findEntitiesByProperty() followed by addEntity() and so is not atomic.
+     * Repositories that can maintain a unique index on qualifiedName should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier (guid) for the new entity's type.
+     * @param initialProperties initial list of properties for the new entity; must include the qualifiedName.
+     * @param initialClassifications initial list of classifications for the new entity null means no classifications.
+     * @param initialStatus initial status typically DRAFT, PREPARED or ACTIVE.
+     * @param entityCreated set to true if the entity is created by this request and false if an existing
+     *                      entity is returned.  May be null.
+     * @return EntityDetail for the existing entity or the new entity.
+     * @throws InvalidParameterException one of the parameters is invalid or null, or there is no qualifiedName
+     *                                   in the initial properties.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type, or the qualifiedName
+     *                                  is used by an entity that is not of the requested type or one of its subtypes.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for this entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws PagingErrorException the search for the existing entity failed.
+     * @throws FunctionNotSupportedException the repository does not support searching by property.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail findOrAddEntity(String                     userId,
+                                        String                     entityTypeGUID,
+                                        InstanceProperties         initialProperties,
+                                        List<Classification>       initialClassifications,
+                                        InstanceStatus             initialStatus,
+                                        AtomicBoolean              entityCreated) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         PropertyErrorException,
+                                                                                         ClassificationErrorException,
+                                                                                         StatusNotSupportedException,
+                                                                                         PagingErrorException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String  methodName              = "findOrAddEntity";
+        final String  entityGUIDParameterName = "entityTypeGUID";
+
+        this.validateRepositoryConnector(methodName);
+
+        repositoryValidator.validateTypeGUID(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
+
+        TypeDef  typeDef = repositoryHelper.getTypeDef(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
+
+        String   qualifiedName = this.validateQualifiedName(typeDef.getName(), initialProperties, methodName);
+
+        EntityDetail existingEntity = this.findEntityByQualifiedName(userId, typeDef, qualifiedName, methodName);
+
+        if (existingEntity != null)
+        {
+            this.validateExistingEntityType(typeDef.getName(), qualifiedName, existingEntity, methodName);
+
+            if (entityCreated != null)
+            {
+                entityCreated.set(false);
+            }
+
+            return existingEntity;
+        }
+
+        EntityDetail newEntity = this.addEntity(userId, entityTypeGUID, initialProperties, initialClassifications, initialStatus);
+
+        if (entityCreated != null)
+        {
+            entityCreated.set(newEntity != null);
+        }
+
+        return newEntity;
+    }
+
+
+    /**
+     * Return the entity in the type family of the supplied type that has exactly the supplied qualifiedName.
+     * The search is issued against the top-level super type so that it covers the whole type family.
+     * The qualifiedName is quoted since findEntitiesByProperty() treats string values as regular expressions,
+     * and the qualifiedName of each returned entity is checked because some repositories match more loosely.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param typeDef type of the new entity
+     * @param qualifiedName unique name of the entity
+     * @param methodName calling method
+     * @return the existing entity or null if there is no active entity with this qualifiedName
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the type family is not known to the metadata repository.
+     * @throws PropertyErrorException the qualifiedName property is not defined for the type family.
+     * @throws PagingErrorException the search for the existing entity failed.
+     * @throws FunctionNotSupportedException the repository does not support searching by property.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    protected EntityDetail findEntityByQualifiedName(String   userId,
+                                                     TypeDef  typeDef,
+                                                     String   qualifiedName,
+                                                     String   methodName) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 TypeErrorException,
+                                                                                 PropertyErrorException,
+                                                                                 PagingErrorException,
+                                                                                 FunctionNotSupportedException,
+                                                                                 UserNotAuthorizedException
+    {
+        String              familyTypeGUID  = typeDef.getGUID();
+        List<TypeDefLink>   superTypes      = repositoryHelper.getNewInstanceType(repositoryName, typeDef).getTypeDefSuperTypes();
+        InstanceProperties  matchProperties = repositoryHelper.addStringPropertyToInstance(repositoryName,
+                                                                                           null,
+                                                                                           qualifiedNamePropertyName,
+                                                                                           Pattern.quote(qualifiedName),
+                                                                                           methodName);
+
+        if ((superTypes != null) && (! superTypes.isEmpty()))
+        {
+            familyTypeGUID = superTypes.get(superTypes.size() - 1).getGUID();
+        }
+
+        List<EntityDetail> existingEntities = this.findEntitiesByProperty(userId,
+                                                                          familyTypeGUID,
+                                                                          matchProperties,
+                                                                          MatchCriteria.ALL,
+                                                                          0,
+                                                                          null,
+                                                                          null,
+                                                                          null,
+                                                                          null,
+                                                                          null,
+                                                                          0);
+        if (existingEntities != null)
+        {
+            for (EntityDetail existingEntity : existingEntities)
+            {
+                if ((existingEntity != null) &&
+                    (existingEntity.getStatus() != InstanceStatus.DELETED) &&
+                    (qualifiedName.equals(repositoryHelper.getStringProperty(repositoryName,
+                                                                             qualifiedNamePropertyName,
+                                                                             existingEntity.getProperties(),
+                                                                             methodName))))
+                {
+                    return existingEntity;
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the qualifiedName from the initial properties of a new entity.
+     *
+     * @param typeName name of the type of the new entity
+     * @param initialProperties initial list of properties for the new entity
+     * @param methodName calling method
+     * @return qualifiedName
+     * @throws InvalidParameterException there is no qualifiedName in the initial properties.
+     */
+    protected String validateQualifiedName(String             typeName,
+                                           InstanceProperties initialProperties,
+                                           String             methodName) throws InvalidParameterException
+    {
+        final String  propertiesParameterName = "initialProperties";
+
+        String qualifiedName = repositoryHelper.getStringProperty(repositoryName,
+                                                                  qualifiedNamePropertyName,
+                                                                  initialProperties,
+                                                                  methodName);
+
+        if (qualifiedName == null)
+        {
+            OMRSErrorCode errorCode = OMRSErrorCode.NULL_QUALIFIED_NAME;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(methodName,
+                                                                            repositoryName,
+                                                                            typeName,
+                                                                            propertiesParameterName);
+
+            throw new InvalidParameterException(errorCode.getHTTPErrorCode(),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                errorMessage,
+                                                errorCode.getSystemAction(),
+                                                errorCode.getUserAction());
+        }
+
+        return qualifiedName;
+    }
+
+
+    /**
+     * Validate that the entity found by findOrAddEntity() with the requested qualifiedName is of the requested
+     * type or one of its subtypes.  The qualifiedName is unique within the whole type family, so the entity
+     * may be of an unrelated type in the same family.
+     *
+     * @param typeName name of the requested type
+     * @param qualifiedName requested qualifiedName
+     * @param existingEntity entity with the qualifiedName
+     * @param methodName calling method
+     * @throws PropertyErrorException the existing entity is not of the requested type or one of its subtypes.
+     */
+    protected void validateExistingEntityType(String       typeName,
+                                              String       qualifiedName,
+                                              EntityDetail existingEntity,
+                                              String       methodName) throws PropertyErrorException
+    {
+        if (! repositoryValidator.isATypeOf(repositoryName, existingEntity, typeName, methodName))
+        {
+            String existingTypeName = null;
+
+            if (existingEntity.getType() != null)
+            {
+                existingTypeName = existingEntity.getType().getTypeDefName();
+            }
+
+            OMRSErrorCode errorCode = OMRSErrorCode.QUALIFIED_NAME_TYPE_CONFLICT;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(methodName,
+                                                                            repositoryName,
+                                                                            typeName,
+                                                                            qualifiedName,
+                                                                            existingEntity.getGUID(),
+                                                                            existingTypeName);
+
+            throw new PropertyErrorException(errorCode.getHTTPErrorCode(),
+                                             this.getClass().getName(),
+                                             methodName,
+                                             errorMessage,
+                                             errorCode.getSystemAction(),
+                                             errorCode.getUserAction());
+        }
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
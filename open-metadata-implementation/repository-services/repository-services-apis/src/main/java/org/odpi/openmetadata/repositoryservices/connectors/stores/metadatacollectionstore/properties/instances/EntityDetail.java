@@ -45,7 +45,8 @@ public class EntityDetail extends EntitySummary
 
 
     /**
-     * Return a copy of all of the properties for this entity.  Null means no properties exist.
+     * Return a copy of all of the properties for this entity.  The copy shares its property map with the
+     * entity until one of them is updated.  Null means no properties exist.
      *
      * @return InstanceProperties
      */
@@ -55,10 +56,6 @@ public class EntityDetail extends EntitySummary
         {
             return null;
         }
-        else if (entityProperties.getInstanceProperties() == null)
-        {
-            return null;
-        }
         else
         {
             return new InstanceProperties(entityProperties);
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacolle
 import com.fasterxml.jackson.annotation.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -30,7 +31,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 public class EntitySummary extends InstanceHeader
 {
     /*
-     * Details of classifications.
+     * Details of classifications.  The list is never changed once it is stored, so copies of the
+     * entity can share it.
      */
     private List<Classification> classifications = null;
 
@@ -57,7 +59,7 @@ public class EntitySummary extends InstanceHeader
 
         if (templateElement != null)
         {
-            this.setClassifications(templateElement.getClassifications());
+            this.classifications = templateElement.classifications;
         }
     }
 
@@ -86,13 +88,46 @@ public class EntitySummary extends InstanceHeader
 
 
     /**
-     * Set up the classifications for an entity.  This is stored as an iterator.
+     * Return the classifications for the entity as a read-only list.  Unlike getClassifications(), the list
+     * is not copied so this method is intended for code that reads the classifications of many entities,
+     * such as the search methods of a repository.
+     *
+     * @return unmodifiable Classifications list or null if the entity is not classified
+     */
+    @JsonIgnore
+    public List<Classification> getReadOnlyClassifications()
+    {
+        if (classifications == null)
+        {
+            return null;
+        }
+        else if (classifications.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return Collections.unmodifiableList(classifications);
+        }
+    }
+
+
+    /**
+     * Set up the classifications for an entity.  The list is copied so later changes to the supplied list
+     * do not affect the entity.
      *
      * @param classifications Classification list
      */
     public void setClassifications(List<Classification> classifications)
     {
-        this.classifications = classifications;
+        if (classifications == null)
+        {
+            this.classifications = null;
+        }
+        else
+        {
+            this.classifications = new ArrayList<>(classifications);
+        }
     }
 
 
@@ -144,7 +179,7 @@ public class EntitySummary extends InstanceHeader
             return false;
         }
         EntitySummary that = (EntitySummary) objectToCompare;
-        return Objects.equals(getClassifications(), that.getClassifications());
+        return Objects.equals(getReadOnlyClassifications(), that.getReadOnlyClassifications());
     }
 
 
@@ -157,6 +192,6 @@ public class EntitySummary extends InstanceHeader
     public int hashCode()
     {
 
-        return Objects.hash(super.hashCode(), getClassifications());
+        return Objects.hash(super.hashCode(), getReadOnlyClassifications());
     }
 }
@@ -2,6 +2,7 @@
 package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
@@ -55,6 +56,9 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         This is an ordered list of values of the same type.
  *     </li>
  * </ul>
+ * The map is copied on write.  The copy constructor shares the template's map and whichever object is updated
+ * first takes its own copy of the map.  This means the defensive copies returned by the getters of the
+ * instances are cheap to create and only cost a map copy if they are actually changed.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -65,6 +69,12 @@ public class InstanceProperties extends InstanceElementHeader
     private Date                                effectiveToTime = null;
     private Map<String, InstancePropertyValue>  instanceProperties = new HashMap<>();
 
+    /*
+     * Set when the map is shared with another InstanceProperties object.  It is not serialized because
+     * a deserialized object always has its own map.
+     */
+    private transient volatile boolean          sharedMap = false;
+
 
     /**
      * Typical constructor
@@ -91,18 +101,13 @@ public class InstanceProperties extends InstanceElementHeader
         {
             this.effectiveFromTime = templateProperties.getEffectiveFromTime();
             this.effectiveToTime = templateProperties.getEffectiveToTime();
-            Iterator<String> propertyNames = templateProperties.getPropertyNames();
 
-            if (propertyNames != null)
-            {
-                while (propertyNames.hasNext())
-                {
-                    String                 newPropertyName  = propertyNames.next();
-                    InstancePropertyValue  newPropertyValue = templateProperties.getPropertyValue(newPropertyName);
-
-                    instanceProperties.put(newPropertyName, newPropertyValue);
-                }
-            }
+            /*
+             * The template's map is shared until one of the two objects is updated.
+             */
+            templateProperties.sharedMap = true;
+            this.instanceProperties = templateProperties.instanceProperties;
+            this.sharedMap = true;
         }
     }
 
@@ -184,7 +189,22 @@ public class InstanceProperties extends InstanceElementHeader
 
 
     /**
-     * Set up the instance properties map.
+     * Return the instance properties as a read-only map.  Unlike getInstanceProperties(), the map is not
+     * copied so this method is intended for code that reads the properties of many instances, such as
+     * the search methods of a repository.
+     *
+     * @return unmodifiable instance properties map.
+     */
+    @JsonIgnore
+    public Map<String, InstancePropertyValue> getReadOnlyInstanceProperties()
+    {
+        return Collections.unmodifiableMap(instanceProperties);
+    }
+
+
+    /**
+     * Set up the instance properties map.  The map is copied so later changes to the supplied map
+     * do not affect this object.
      *
      * @param instanceProperties map of name valued properties
      */
@@ -195,8 +215,33 @@ public class InstanceProperties extends InstanceElementHeader
             this.instanceProperties = new HashMap<>();
         }
         else
+        {
+            this.instanceProperties = new HashMap<>(instanceProperties);
+        }
+
+        this.sharedMap = false;
+    }
+
+
+    /**
+     * Set up the instance properties with a map that is shared with the caller.  The map is not copied and
+     * this object never changes it: the first update takes a private copy.  This lets a repository hold the
+     * properties of its instances in a compact map implementation of its own.
+     *
+     * @param instanceProperties map of name valued properties that is not changed after this call
+     */
+    @JsonIgnore
+    public void setSharedInstanceProperties(Map<String, InstancePropertyValue> instanceProperties)
+    {
+        if (instanceProperties == null)
+        {
+            this.instanceProperties = new HashMap<>();
+            this.sharedMap = false;
+        }
+        else
         {
             this.instanceProperties = instanceProperties;
+            this.sharedMap = true;
         }
     }
 
@@ -209,7 +254,7 @@ public class InstanceProperties extends InstanceElementHeader
      */
     public Iterator<String> getPropertyNames()
     {
-        return instanceProperties.keySet().iterator();
+        return Collections.unmodifiableSet(instanceProperties.keySet()).iterator();
     }
 
 
@@ -254,15 +299,36 @@ public class InstanceProperties extends InstanceElementHeader
         }
         else if (newPropertyValue == null)
         {
-            instanceProperties.remove(newPropertyName);
+            if (instanceProperties.containsKey(newPropertyName))
+            {
+                this.getWritableMap().remove(newPropertyName);
+            }
         }
         else
         {
-            instanceProperties.put(newPropertyName, newPropertyValue);
+            this.getWritableMap().put(newPropertyName, newPropertyValue);
         }
     }
 
 
+    /**
+     * Return a map that can be updated.  If the map is shared with another object, this object takes its
+     * own copy first.
+     *
+     * @return map of name valued properties
+     */
+    private Map<String, InstancePropertyValue> getWritableMap()
+    {
+        if (sharedMap)
+        {
+            instanceProperties = new HashMap<>(instanceProperties);
+            sharedMap = false;
+        }
+
+        return instanceProperties;
+    }
+
+
     /**
      * Return the number of properties stored.
      *
@@ -310,7 +376,7 @@ public class InstanceProperties extends InstanceElementHeader
         InstanceProperties that = (InstanceProperties) objectToCompare;
         return Objects.equals(getEffectiveFromTime(), that.getEffectiveFromTime()) &&
                 Objects.equals(getEffectiveToTime(), that.getEffectiveToTime()) &&
-                Objects.equals(getInstanceProperties(), that.getInstanceProperties());
+                Objects.equals(instanceProperties, that.instanceProperties);
     }
 
 
@@ -323,7 +389,7 @@ public class InstanceProperties extends InstanceElementHeader
     public int hashCode()
     {
 
-        return Objects.hash(getEffectiveFromTime(), getEffectiveToTime(), getInstanceProperties());
+        return Objects.hash(getEffectiveFromTime(), getEffectiveToTime(), instanceProperties);
     }
 }
 
@@ -16,6 +16,8 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 
 /**
  * InstanceType contains information from the instance's TypeDef that are useful for processing the instance.
+ * The lists are copied when they are set and never changed after that, so the copy constructor shares them
+ * with the template.  This keeps the copy returned by the getType() method of each instance cheap.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -71,9 +73,9 @@ public class InstanceType extends InstanceElementHeader
         this.typeDefVersion = typeDefVersion;
         this.typeDefDescription = typeDefDescription;
         this.typeDefDescriptionGUID = typeDefDescriptionGUID;
-        this.typeDefSuperTypes = typeDefSuperTypes;
-        this.validStatusList = validStatusList;
-        this.validInstanceProperties = validInstanceProperties;
+        this.typeDefSuperTypes = copyList(typeDefSuperTypes);
+        this.validStatusList = copyList(validStatusList);
+        this.validInstanceProperties = copyList(validInstanceProperties);
     }
 
 
@@ -94,9 +96,29 @@ public class InstanceType extends InstanceElementHeader
             this.typeDefVersion = template.getTypeDefVersion();
             this.typeDefDescription = template.getTypeDefDescription();
             this.typeDefDescriptionGUID = template.getTypeDefDescriptionGUID();
-            this.typeDefSuperTypes = template.getTypeDefSuperTypes();
-            this.validStatusList = template.getValidStatusList();
-            this.validInstanceProperties = template.getValidInstanceProperties();
+            this.typeDefSuperTypes = template.typeDefSuperTypes;
+            this.validStatusList = template.validStatusList;
+            this.validInstanceProperties = template.validInstanceProperties;
+        }
+    }
+
+
+    /**
+     * Return a private copy of a supplied list so later changes to the supplied list do not affect this object.
+     *
+     * @param list list to copy
+     * @param <T> type of the list elements
+     * @return copy of the list or null
+     */
+    private static <T> List<T> copyList(List<T> list)
+    {
+        if (list == null)
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(list);
         }
     }
 
@@ -212,7 +234,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setTypeDefSuperTypes(List<TypeDefLink> typeDefSuperTypes)
     {
-        this.typeDefSuperTypes = typeDefSuperTypes;
+        this.typeDefSuperTypes = copyList(typeDefSuperTypes);
     }
 
 
@@ -289,7 +311,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setValidStatusList(List<InstanceStatus> validStatusList)
     {
-        this.validStatusList = validStatusList;
+        this.validStatusList = copyList(validStatusList);
     }
 
 
@@ -322,7 +344,7 @@ public class InstanceType extends InstanceElementHeader
      */
     public void setValidInstanceProperties(List<String> validInstanceProperties)
     {
-        this.validInstanceProperties = validInstanceProperties;
+        this.validInstanceProperties = copyList(validInstanceProperties);
     }
 
 
@@ -128,7 +128,8 @@ public class Relationship extends InstanceHeader
 
 
     /**
-     * Return a copy of all of the properties for this relationship.  Null means no properties exist.
+     * Return a copy of all of the properties for this relationship.  The copy shares its property map with the
+     * relationship until one of them is updated.  Null means no properties exist.
      *
      * @return InstanceProperties
      */
@@ -138,10 +139,6 @@ public class Relationship extends InstanceHeader
         {
             return null;
         }
-        else if (relationshipProperties.getInstanceProperties() == null)
-        {
-            return null;
-        }
         else
         {
             return new InstanceProperties(relationshipProperties);
@@ -283,6 +283,18 @@ public enum OMRSErrorCode
             "An invalid instance has been detected by repository helper method {0}.  The instance is {1}",
             "The system is unable to work with the supplied instance because key values are missing from its contents.",
             "This is probably a logic error in Egeria. Raise a git issue to get this investigated and fixed."),
+    NULL_QUALIFIED_NAME(400, "OMRS-REPOSITORY-400-062 ",
+            "A {0} request to open metadata repository {1} for an entity of type {2} does not include a qualifiedName in the {3} parameter",
+            "The system is unable to process the request because the qualifiedName is used to locate an existing entity before a new one is created.",
+            "The initial properties are supplied by the caller to the API. Add the qualifiedName to the initial properties and retry the request."),
+    INVALID_CLASSIFICATION_MATCH_CRITERIA(400, "OMRS-REPOSITORY-400-063 ",
+            "The {0} parameter passed on a {1} request to open metadata repository {2} is {3} rather than ANY or ALL",
+            "The system is unable to process the request because it does not know whether the entities must have any or all of the requested classifications.",
+            "The match criteria is supplied by the caller to the API. Set it to ANY or ALL and retry the request."),
+    QUALIFIED_NAME_TYPE_CONFLICT(400, "OMRS-REPOSITORY-400-064 ",
+            "A {0} request to open metadata repository {1} for an entity of type {2} with qualifiedName {3} found existing entity {4} of type {5}",
+            "The system is unable to process the request because the qualifiedName is already used by an entity that is not of the requested type or one of its subtypes.",
+            "Correct the type or the qualifiedName in the request, or use the existing entity, and retry the request."),
     NULL_USER_NAME(400, "OMRS-REST-API-400-001 ",
             "The OMRS REST API for server {0} has been called with a null user name (userId)",
             "The system is unable to access the local metadata repository.",
@@ -569,6 +581,10 @@ public enum OMRSErrorCode
            "During the {0} operation, open metadata repository {1} retrieved an instance (guid={2}) from its metadata store that has an inactive type called {3} (type guid = {4})",
            "There is an internal error in the OMRS repository connector.",
            "Raise a Github issue to get this fixed."),
+    IN_MEMORY_STORE_RECOVERY_FAILED(500, "OMRS-METADATA-COLLECTION-500-012 ",
+           "Open metadata repository {0} was unable to recover its contents from directory {1}.  The exception message was {2}",
+           "The in-memory repository did not start because its snapshot or write-ahead log could not be read.",
+           "Review the exception.  If the files are damaged, move them out of the directory to start with an empty repository."),
     NULL_COHORT_NAME(500, "OMRS-COHORT-MANAGER-500-001 ",
             "OMRSCohortManager has been initialized with a null cohort name",
             "There is an internal error in the OMRS initialization.",
@@ -601,6 +617,14 @@ public enum OMRSErrorCode
             "The archive builder failed to initialize.",
             "There is an internal error in the OMRS initialization.",
             "Raise a Github issue to get this fixed."),
+    ARCHIVE_READ_FAILED(500, "OMRS-ARCHIVE-STORE-500-001 ",
+            "Open metadata archive {0} could not be read.  The exception message was {1}",
+            "The archive store stopped passing the contents of the archive to the server so some or all of its types and instances are not loaded.",
+            "Review the exception.  Correct or replace the archive and restart the server.  Instances that were loaded before the error are skipped as duplicates."),
+    ARCHIVE_BATCH_FAILED(500, "OMRS-ARCHIVE-STORE-500-002 ",
+            "A batch of instances from open metadata archive {0} could not be processed.  The exception message was {1}",
+            "The archive store stopped passing the instances in the archive to the server so some of its instances are not loaded.",
+            "Review the exception.  Correct the cause and restart the server.  Instances that were loaded before the error are skipped as duplicates."),
     NULL_EXCHANGE_RULE(500, "OMRS-EVENT-MANAGEMENT-500-001 ",
             "A null exchange rule has been passed to one of the event management components on method {0}.",
             "There is an internal error in the OMRS initialization.",
@@ -0,0 +1,278 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * OMRSEventPartitionLag records how far the event bus consumer is behind the producers for one partition of a topic.
+ * The lag is the time between an event being written to the topic and the consumer receiving it.  It is zero if
+ * the event bus does not timestamp its events.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class OMRSEventPartitionLag implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private String topicName        = null;
+    private int    partition        = 0;
+    private long   lastOffset       = 0;
+    private long   lastEventTime    = 0;
+    private long   lastReceivedTime = 0;
+    private long   lagMillis        = 0;
+    private long   maxLagMillis     = 0;
+
+
+    /**
+     * Default constructor
+     */
+    public OMRSEventPartitionLag()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public OMRSEventPartitionLag(OMRSEventPartitionLag template)
+    {
+        if (template != null)
+        {
+            topicName = template.getTopicName();
+            partition = template.getPartition();
+            lastOffset = template.getLastOffset();
+            lastEventTime = template.getLastEventTime();
+            lastReceivedTime = template.getLastReceivedTime();
+            lagMillis = template.getLagMillis();
+            maxLagMillis = template.getMaxLagMillis();
+        }
+    }
+
+
+    /**
+     * Return the name of the topic.
+     *
+     * @return topic name
+     */
+    public String getTopicName()
+    {
+        return topicName;
+    }
+
+
+    /**
+     * Set up the name of the topic.
+     *
+     * @param topicName topic name
+     */
+    public void setTopicName(String topicName)
+    {
+        this.topicName = topicName;
+    }
+
+
+    /**
+     * Return the partition number within the topic.
+     *
+     * @return partition number
+     */
+    public int getPartition()
+    {
+        return partition;
+    }
+
+
+    /**
+     * Set up the partition number within the topic.
+     *
+     * @param partition partition number
+     */
+    public void setPartition(int partition)
+    {
+        this.partition = partition;
+    }
+
+
+    /**
+     * Return the offset of the last event received from the partition.
+     *
+     * @return offset
+     */
+    public long getLastOffset()
+    {
+        return lastOffset;
+    }
+
+
+    /**
+     * Set up the offset of the last event received from the partition.
+     *
+     * @param lastOffset offset
+     */
+    public void setLastOffset(long lastOffset)
+    {
+        this.lastOffset = lastOffset;
+    }
+
+
+    /**
+     * Return the time that the last event received from the partition was written to the topic.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getLastEventTime()
+    {
+        return lastEventTime;
+    }
+
+
+    /**
+     * Set up the time that the last event received from the partition was written to the topic.
+     *
+     * @param lastEventTime milliseconds since the epoch
+     */
+    public void setLastEventTime(long lastEventTime)
+    {
+        this.lastEventTime = lastEventTime;
+    }
+
+
+    /**
+     * Return the time that the last event was received from the partition.
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getLastReceivedTime()
+    {
+        return lastReceivedTime;
+    }
+
+
+    /**
+     * Set up the time that the last event was received from the partition.
+     *
+     * @param lastReceivedTime milliseconds since the epoch
+     */
+    public void setLastReceivedTime(long lastReceivedTime)
+    {
+        this.lastReceivedTime = lastReceivedTime;
+    }
+
+
+    /**
+     * Return the lag of the last event received from the partition.
+     *
+     * @return milliseconds
+     */
+    public long getLagMillis()
+    {
+        return lagMillis;
+    }
+
+
+    /**
+     * Set up the lag of the last event received from the partition.
+     *
+     * @param lagMillis milliseconds
+     */
+    public void setLagMillis(long lagMillis)
+    {
+        this.lagMillis = lagMillis;
+    }
+
+
+    /**
+     * Return the largest lag seen for the partition.
+     *
+     * @return milliseconds
+     */
+    public long getMaxLagMillis()
+    {
+        return maxLagMillis;
+    }
+
+
+    /**
+     * Set up the largest lag seen for the partition.
+     *
+     * @param maxLagMillis milliseconds
+     */
+    public void setMaxLagMillis(long maxLagMillis)
+    {
+        this.maxLagMillis = maxLagMillis;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventPartitionLag{" +
+                "topicName='" + topicName + '\'' +
+                ", partition=" + partition +
+                ", lastOffset=" + lastOffset +
+                ", lastEventTime=" + lastEventTime +
+                ", lastReceivedTime=" + lastReceivedTime +
+                ", lagMillis=" + lagMillis +
+                ", maxLagMillis=" + maxLagMillis +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof OMRSEventPartitionLag))
+        {
+            return false;
+        }
+        OMRSEventPartitionLag that = (OMRSEventPartitionLag) objectToCompare;
+        return getPartition() == that.getPartition() &&
+                getLastOffset() == that.getLastOffset() &&
+                getLastEventTime() == that.getLastEventTime() &&
+                getLastReceivedTime() == that.getLastReceivedTime() &&
+                getLagMillis() == that.getLagMillis() &&
+                getMaxLagMillis() == that.getMaxLagMillis() &&
+                Objects.equals(getTopicName(), that.getTopicName());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getTopicName(), getPartition(), getLastOffset(), getLastEventTime(),
+                            getLastReceivedTime(), getLagMillis(), getMaxLagMillis());
+    }
+}
@@ -0,0 +1,197 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * OMRSEventPipelineMetrics is a snapshot of the measurements of the event pipeline of the server.  It lists the
+ * measurements for each component of each stage in the order that the events pass through them, followed by the
+ * lag for each partition that the event bus consumers are reading.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class OMRSEventPipelineMetrics implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private long                        slowEventThresholdMillis = 0;
+    private List<OMRSEventStageMetrics> stageMetrics             = null;
+    private List<OMRSEventPartitionLag> partitionLags            = null;
+
+
+    /**
+     * Default constructor
+     */
+    public OMRSEventPipelineMetrics()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public OMRSEventPipelineMetrics(OMRSEventPipelineMetrics template)
+    {
+        if (template != null)
+        {
+            slowEventThresholdMillis = template.getSlowEventThresholdMillis();
+            stageMetrics = template.getStageMetrics();
+            partitionLags = template.getPartitionLags();
+        }
+    }
+
+
+    /**
+     * Return the processing time above which an event is logged as slow (zero means slow events are not logged).
+     *
+     * @return milliseconds
+     */
+    public long getSlowEventThresholdMillis()
+    {
+        return slowEventThresholdMillis;
+    }
+
+
+    /**
+     * Set up the processing time above which an event is logged as slow (zero means slow events are not logged).
+     *
+     * @param slowEventThresholdMillis milliseconds
+     */
+    public void setSlowEventThresholdMillis(long slowEventThresholdMillis)
+    {
+        this.slowEventThresholdMillis = slowEventThresholdMillis;
+    }
+
+
+    /**
+     * Return the measurements for each component of each stage.
+     *
+     * @return list of measurements
+     */
+    public List<OMRSEventStageMetrics> getStageMetrics()
+    {
+        if (stageMetrics == null)
+        {
+            return null;
+        }
+        else if (stageMetrics.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(stageMetrics);
+        }
+    }
+
+
+    /**
+     * Set up the measurements for each component of each stage.
+     *
+     * @param stageMetrics list of measurements
+     */
+    public void setStageMetrics(List<OMRSEventStageMetrics> stageMetrics)
+    {
+        this.stageMetrics = stageMetrics;
+    }
+
+
+    /**
+     * Return the lag for each partition of each topic.
+     *
+     * @return list of partition lags
+     */
+    public List<OMRSEventPartitionLag> getPartitionLags()
+    {
+        if (partitionLags == null)
+        {
+            return null;
+        }
+        else if (partitionLags.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(partitionLags);
+        }
+    }
+
+
+    /**
+     * Set up the lag for each partition of each topic.
+     *
+     * @param partitionLags list of partition lags
+     */
+    public void setPartitionLags(List<OMRSEventPartitionLag> partitionLags)
+    {
+        this.partitionLags = partitionLags;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventPipelineMetrics{" +
+                "slowEventThresholdMillis=" + slowEventThresholdMillis +
+                ", stageMetrics=" + stageMetrics +
+                ", partitionLags=" + partitionLags +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof OMRSEventPipelineMetrics))
+        {
+            return false;
+        }
+        OMRSEventPipelineMetrics that = (OMRSEventPipelineMetrics) objectToCompare;
+        return getSlowEventThresholdMillis() == that.getSlowEventThresholdMillis() &&
+                Objects.equals(getStageMetrics(), that.getStageMetrics()) &&
+                Objects.equals(getPartitionLags(), that.getPartitionLags());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getSlowEventThresholdMillis(), getStageMetrics(), getPartitionLags());
+    }
+}
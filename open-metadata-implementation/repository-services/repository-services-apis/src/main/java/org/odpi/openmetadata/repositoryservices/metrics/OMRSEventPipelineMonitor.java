@@ -0,0 +1,396 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * OMRSEventPipelineMonitor is the point where the components that process inbound events record their work.
+ * Each component is identified by the stage of the event pipeline it runs in and a component name that is unique
+ * within the stage.  The monitor counts the events each component processes, the time it spends on them and
+ * the number of events waiting behind them.  It also keeps the lag of each partition read by the event bus
+ * consumers.
+ * <p>
+ * Unlike the metadata collection metrics, the event pipeline metrics are always on.  Events arrive at a much lower
+ * rate than API calls and recording an event does not lock, so the overhead is small compared with the work of
+ * processing the event.  Any event that takes longer than the slow event threshold to process is written to the
+ * audit log of the component that processed it.
+ * </p>
+ * <p>
+ * There is one monitor for the process, so its measurements and slow event threshold are shared by all of the
+ * servers running on the OMAG server platform.  The admin services expose it through platform calls rather than
+ * through the calls for an individual server.
+ * </p>
+ */
+public class OMRSEventPipelineMonitor
+{
+    public static final long defaultSlowEventThresholdMillis = 1000L;
+
+    private static final String actionDescription = "Process Event";
+
+    private static volatile long slowEventThresholdMillis = defaultSlowEventThresholdMillis;
+
+    private static final Map<OMRSEventPipelineStage, Map<String, StageAccumulator>> stages     = new EnumMap<>(OMRSEventPipelineStage.class);
+    private static final Map<String, PartitionAccumulator>                          partitions = new ConcurrentHashMap<>();
+
+    static
+    {
+        for (OMRSEventPipelineStage stage : OMRSEventPipelineStage.values())
+        {
+            stages.put(stage, new ConcurrentHashMap<>());
+        }
+    }
+
+
+    /**
+     * Private constructor since all of the methods are static.
+     */
+    private OMRSEventPipelineMonitor()
+    {
+    }
+
+
+    /**
+     * Return the processing time above which an event is logged as slow.
+     *
+     * @return milliseconds (zero means slow events are not logged)
+     */
+    public static long getSlowEventThresholdMillis()
+    {
+        return slowEventThresholdMillis;
+    }
+
+
+    /**
+     * Set up the processing time above which an event is logged as slow.  Zero turns off the logging of slow
+     * events.  The events are still counted and timed.
+     *
+     * @param thresholdMillis milliseconds
+     */
+    public static void setSlowEventThresholdMillis(long thresholdMillis)
+    {
+        slowEventThresholdMillis = Math.max(thresholdMillis, 0L);
+    }
+
+
+    /**
+     * Return the start time for processing an event.
+     *
+     * @return start time in nanoseconds
+     */
+    public static long startTimer()
+    {
+        return System.nanoTime();
+    }
+
+
+    /**
+     * Record the processing of an event by a component.  If it took longer than the slow event threshold,
+     * it is also written to the supplied audit log.
+     *
+     * @param stage stage of the event pipeline
+     * @param componentName name of the component that processed the event
+     * @param startTime value returned by startTimer when the component started processing the event
+     * @param failed the component returned an exception
+     * @param auditLog audit log of the component (null means slow events are only counted)
+     */
+    public static void recordEvent(OMRSEventPipelineStage stage,
+                                   String                 componentName,
+                                   long                   startTime,
+                                   boolean                failed,
+                                   OMRSAuditLog           auditLog)
+    {
+        long    elapsedNanos = System.nanoTime() - startTime;
+        long    threshold    = slowEventThresholdMillis;
+        boolean slow         = (threshold > 0) && (elapsedNanos > threshold * 1000000L);
+
+        getStageAccumulator(stage, componentName).record(elapsedNanos, failed, slow);
+
+        if (slow && (auditLog != null))
+        {
+            OMRSAuditCode auditCode = OMRSAuditCode.SLOW_EVENT_PROCESSING;
+
+            auditLog.logRecord(actionDescription,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(stage.getName(),
+                                                                componentName,
+                                                                Long.toString(elapsedNanos / 1000000L),
+                                                                Long.toString(threshold)),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+    }
+
+
+    /**
+     * Record the number of events waiting to be processed by a component.
+     *
+     * @param stage stage of the event pipeline
+     * @param componentName name of the component
+     * @param queueDepth number of events waiting
+     */
+    public static void recordQueueDepth(OMRSEventPipelineStage stage,
+                                        String                 componentName,
+                                        long                   queueDepth)
+    {
+        getStageAccumulator(stage, componentName).setQueueDepth(queueDepth);
+    }
+
+
+    /**
+     * Record the receipt of an event from a partition of a topic on the event bus.
+     *
+     * @param topicName name of the topic
+     * @param partition partition number within the topic
+     * @param offset offset of the event within the partition
+     * @param eventTime time the event was written to the topic in milliseconds since the epoch
+     *                  (zero or less if the event bus does not timestamp its events)
+     */
+    public static void recordPartitionPosition(String topicName,
+                                               int    partition,
+                                               long   offset,
+                                               long   eventTime)
+    {
+        partitions.computeIfAbsent(topicName + ":" + partition,
+                                   key -> new PartitionAccumulator(topicName, partition)).record(offset, eventTime);
+    }
+
+
+    /**
+     * Return a snapshot of the measurements accumulated since the server started or the monitor was last reset.
+     *
+     * @return metrics bean
+     */
+    public static OMRSEventPipelineMetrics getMetrics()
+    {
+        OMRSEventPipelineMetrics    metrics       = new OMRSEventPipelineMetrics();
+        List<OMRSEventStageMetrics> stageMetrics  = new ArrayList<>();
+        List<OMRSEventPartitionLag> partitionLags = new ArrayList<>();
+
+        for (OMRSEventPipelineStage stage : OMRSEventPipelineStage.values())
+        {
+            Map<String, StageAccumulator> components = new TreeMap<>(stages.get(stage));
+
+            for (Map.Entry<String, StageAccumulator> component : components.entrySet())
+            {
+                stageMetrics.add(component.getValue().getMetrics(stage, component.getKey()));
+            }
+        }
+
+        for (PartitionAccumulator partition : new TreeMap<>(partitions).values())
+        {
+            partitionLags.add(partition.getPartitionLag());
+        }
+
+        metrics.setSlowEventThresholdMillis(slowEventThresholdMillis);
+        metrics.setStageMetrics(stageMetrics);
+        metrics.setPartitionLags(partitionLags);
+
+        return metrics;
+    }
+
+
+    /**
+     * Discard the accumulated measurements.  The slow event threshold is not changed.
+     */
+    public static void reset()
+    {
+        for (Map<String, StageAccumulator> components : stages.values())
+        {
+            components.clear();
+        }
+
+        partitions.clear();
+    }
+
+
+    /**
+     * Return the accumulator for a component, creating it if this is the first time the component has been seen.
+     *
+     * @param stage stage of the event pipeline
+     * @param componentName name of the component
+     * @return accumulator
+     */
+    private static StageAccumulator getStageAccumulator(OMRSEventPipelineStage stage,
+                                                        String                 componentName)
+    {
+        return stages.get(stage).computeIfAbsent(String.valueOf(componentName), name -> new StageAccumulator());
+    }
+
+
+    /**
+     * StageAccumulator keeps the running totals for one component in one stage of the event pipeline.
+     */
+    private static class StageAccumulator
+    {
+        private LongAdder       eventCount     = new LongAdder();
+        private LongAdder       errorCount     = new LongAdder();
+        private LongAdder       slowEventCount = new LongAdder();
+        private LongAdder       totalNanos     = new LongAdder();
+        private AtomicLong      maxNanos       = new AtomicLong();
+        private AtomicLongArray bucketCounts   = new AtomicLongArray(OMRSInMemoryMetricsRegistry.getBucketCount());
+        private volatile long   queueDepth     = 0;
+        private AtomicLong      maxQueueDepth  = new AtomicLong();
+
+
+        /**
+         * Add an event to the totals.
+         *
+         * @param elapsedNanos time spent processing the event
+         * @param failed the component returned an exception
+         * @param slow the event took longer than the slow event threshold
+         */
+        void record(long    elapsedNanos,
+                    boolean failed,
+                    boolean slow)
+        {
+            eventCount.increment();
+
+            if (failed)
+            {
+                errorCount.increment();
+            }
+
+            if (slow)
+            {
+                slowEventCount.increment();
+            }
+
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            bucketCounts.incrementAndGet(OMRSInMemoryMetricsRegistry.getBucketIndex(elapsedNanos));
+        }
+
+
+        /**
+         * Save the latest queue depth.
+         *
+         * @param depth number of events waiting
+         */
+        void setQueueDepth(long depth)
+        {
+            queueDepth = depth;
+            maxQueueDepth.accumulateAndGet(depth, Math::max);
+        }
+
+
+        /**
+         * Return the totals as a bean.
+         *
+         * @param stage stage of the event pipeline
+         * @param componentName name of the component
+         * @return metrics bean
+         */
+        OMRSEventStageMetrics getMetrics(OMRSEventPipelineStage stage,
+                                         String                 componentName)
+        {
+            OMRSEventStageMetrics metrics = new OMRSEventStageMetrics();
+            long                  events  = eventCount.sum();
+            long                  nanos   = totalNanos.sum();
+
+            metrics.setStageName(stage.getName());
+            metrics.setComponentName(componentName);
+            metrics.setEventCount(events);
+            metrics.setErrorCount(errorCount.sum());
+            metrics.setSlowEventCount(slowEventCount.sum());
+            metrics.setTotalProcessingMillis(OMRSInMemoryMetricsRegistry.toMillis(nanos));
+            metrics.setMeanProcessingMillis(events == 0 ? 0 : OMRSInMemoryMetricsRegistry.toMillis(nanos / events));
+            metrics.setMaxProcessingMillis(OMRSInMemoryMetricsRegistry.toMillis(maxNanos.get()));
+            metrics.setProcessingTimeHistogram(OMRSInMemoryMetricsRegistry.getLatencyHistogram(bucketCounts));
+            metrics.setQueueDepth(queueDepth);
+            metrics.setMaxQueueDepth(maxQueueDepth.get());
+
+            return metrics;
+        }
+    }
+
+
+    /**
+     * PartitionAccumulator keeps the position and lag of one partition of a topic.  Each partition is read by
+     * a single consumer thread so the latest values are simply overwritten.
+     */
+    private static class PartitionAccumulator
+    {
+        private final String  topicName;
+        private final int     partition;
+        private volatile long lastOffset       = 0;
+        private volatile long lastEventTime    = 0;
+        private volatile long lastReceivedTime = 0;
+        private volatile long lagMillis        = 0;
+        private AtomicLong    maxLagMillis     = new AtomicLong();
+
+
+        /**
+         * Constructor
+         *
+         * @param topicName name of the topic
+         * @param partition partition number
+         */
+        PartitionAccumulator(String topicName,
+                             int    partition)
+        {
+            this.topicName = topicName;
+            this.partition = partition;
+        }
+
+
+        /**
+         * Save the position of the latest event.
+         *
+         * @param offset offset of the event within the partition
+         * @param eventTime time the event was written to the topic
+         */
+        void record(long offset,
+                    long eventTime)
+        {
+            long receivedTime = System.currentTimeMillis();
+
+            lastOffset = offset;
+            lastReceivedTime = receivedTime;
+
+            if (eventTime > 0)
+            {
+                long lag = Math.max(receivedTime - eventTime, 0L);
+
+                lastEventTime = eventTime;
+                lagMillis = lag;
+                maxLagMillis.accumulateAndGet(lag, Math::max);
+            }
+        }
+
+
+        /**
+         * Return the position and lag as a bean.
+         *
+         * @return partition lag bean
+         */
+        OMRSEventPartitionLag getPartitionLag()
+        {
+            OMRSEventPartitionLag partitionLag = new OMRSEventPartitionLag();
+
+            partitionLag.setTopicName(topicName);
+            partitionLag.setPartition(partition);
+            partitionLag.setLastOffset(lastOffset);
+            partitionLag.setLastEventTime(lastEventTime);
+            partitionLag.setLastReceivedTime(lastReceivedTime);
+            partitionLag.setLagMillis(lagMillis);
+            partitionLag.setMaxLagMillis(maxLagMillis.get());
+
+            return partitionLag;
+        }
+    }
+}
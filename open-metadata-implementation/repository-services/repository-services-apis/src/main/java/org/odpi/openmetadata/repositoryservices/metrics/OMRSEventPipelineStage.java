@@ -0,0 +1,107 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * OMRSEventPipelineStage identifies the stages that an inbound event passes through on its way from the
+ * event bus to the components that process it.  It is used to label the event pipeline metrics.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum OMRSEventPipelineStage implements Serializable
+{
+    EVENT_BUS_CONSUMER       (0, "Event Bus Consumer",
+                                 "Receives events from a topic on the event bus and passes them to the " +
+                                         "OMRS Topic Connector."),
+    OMRS_TOPIC_CONNECTOR     (1, "OMRS Topic Connector",
+                                 "Parses each inbound event and passes it to the registered OMRS Topic Listeners."),
+    OMRS_TOPIC_LISTENER      (2, "OMRS Topic Listener",
+                                 "Processes a parsed event.  The cohort event listeners and the listeners of the " +
+                                         "Open Metadata Access Services (OMASs) run in this stage."),
+    REPOSITORY_EVENT_MANAGER (3, "Repository Event Manager",
+                                 "Passes TypeDef and instance events to each of the event processors registered " +
+                                         "with the event manager.");
+
+    private static final long serialVersionUID = 1L;
+
+
+    private  int    ordinal;
+    private  String name;
+    private  String description;
+
+
+    /**
+     * Default constructor sets up the specific values for this enum instance.
+     *
+     * @param ordinal int identifier for the enum, used for indexing arrays etc with the enum.
+     * @param name String name for the enum, used for message content.
+     * @param description String default description for the enum, used when there is not natural
+     *                             language resource bundle available.
+     */
+    OMRSEventPipelineStage(int ordinal, String name, String description)
+    {
+        this.ordinal = ordinal;
+        this.name = name;
+        this.description = description;
+    }
+
+
+    /**
+     * Return the identifier for the enum, used for indexing arrays etc with the enum.
+     *
+     * @return int identifier
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the name for the enum, used for message content.
+     *
+     * @return String name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the default description for the enum, used when there is not natural
+     * language resource bundle available.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventPipelineStage{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
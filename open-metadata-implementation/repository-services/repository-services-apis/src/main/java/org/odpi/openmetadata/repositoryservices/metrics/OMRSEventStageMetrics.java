@@ -0,0 +1,398 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * OMRSEventStageMetrics holds the measurements of one component in one stage of the event pipeline.  For example,
+ * one OMRS Topic Listener registered with a cohort's OMRS Topic Connector.  The processing time histogram uses
+ * the same buckets as the metadata collection metrics.  The queue depth is the number of events that were waiting
+ * behind the most recent event when it was received by the component.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class OMRSEventStageMetrics implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private String            stageName               = null;
+    private String            componentName           = null;
+    private long              eventCount              = 0;
+    private long              errorCount              = 0;
+    private long              slowEventCount          = 0;
+    private double            totalProcessingMillis   = 0;
+    private double            meanProcessingMillis    = 0;
+    private double            maxProcessingMillis     = 0;
+    private Map<String, Long> processingTimeHistogram = null;
+    private long              queueDepth              = 0;
+    private long              maxQueueDepth           = 0;
+
+
+    /**
+     * Default constructor
+     */
+    public OMRSEventStageMetrics()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public OMRSEventStageMetrics(OMRSEventStageMetrics template)
+    {
+        if (template != null)
+        {
+            stageName = template.getStageName();
+            componentName = template.getComponentName();
+            eventCount = template.getEventCount();
+            errorCount = template.getErrorCount();
+            slowEventCount = template.getSlowEventCount();
+            totalProcessingMillis = template.getTotalProcessingMillis();
+            meanProcessingMillis = template.getMeanProcessingMillis();
+            maxProcessingMillis = template.getMaxProcessingMillis();
+            processingTimeHistogram = template.getProcessingTimeHistogram();
+            queueDepth = template.getQueueDepth();
+            maxQueueDepth = template.getMaxQueueDepth();
+        }
+    }
+
+
+    /**
+     * Return the name of the stage in the event pipeline.
+     *
+     * @return stage name
+     */
+    public String getStageName()
+    {
+        return stageName;
+    }
+
+
+    /**
+     * Set up the name of the stage in the event pipeline.
+     *
+     * @param stageName stage name
+     */
+    public void setStageName(String stageName)
+    {
+        this.stageName = stageName;
+    }
+
+
+    /**
+     * Return the name of the component that processed the events.
+     *
+     * @return component name
+     */
+    public String getComponentName()
+    {
+        return componentName;
+    }
+
+
+    /**
+     * Set up the name of the component that processed the events.
+     *
+     * @param componentName component name
+     */
+    public void setComponentName(String componentName)
+    {
+        this.componentName = componentName;
+    }
+
+
+    /**
+     * Return the number of events processed, including those that failed.
+     *
+     * @return count
+     */
+    public long getEventCount()
+    {
+        return eventCount;
+    }
+
+
+    /**
+     * Set up the number of events processed, including those that failed.
+     *
+     * @param eventCount count
+     */
+    public void setEventCount(long eventCount)
+    {
+        this.eventCount = eventCount;
+    }
+
+
+    /**
+     * Return the number of events that returned an exception.
+     *
+     * @return count
+     */
+    public long getErrorCount()
+    {
+        return errorCount;
+    }
+
+
+    /**
+     * Set up the number of events that returned an exception.
+     *
+     * @param errorCount count
+     */
+    public void setErrorCount(long errorCount)
+    {
+        this.errorCount = errorCount;
+    }
+
+
+    /**
+     * Return the number of events that took longer than the slow event threshold to process.
+     *
+     * @return count
+     */
+    public long getSlowEventCount()
+    {
+        return slowEventCount;
+    }
+
+
+    /**
+     * Set up the number of events that took longer than the slow event threshold to process.
+     *
+     * @param slowEventCount count
+     */
+    public void setSlowEventCount(long slowEventCount)
+    {
+        this.slowEventCount = slowEventCount;
+    }
+
+
+    /**
+     * Return the total time spent processing the events.
+     *
+     * @return milliseconds
+     */
+    public double getTotalProcessingMillis()
+    {
+        return totalProcessingMillis;
+    }
+
+
+    /**
+     * Set up the total time spent processing the events.
+     *
+     * @param totalProcessingMillis milliseconds
+     */
+    public void setTotalProcessingMillis(double totalProcessingMillis)
+    {
+        this.totalProcessingMillis = totalProcessingMillis;
+    }
+
+
+    /**
+     * Return the average time spent processing an event.
+     *
+     * @return milliseconds
+     */
+    public double getMeanProcessingMillis()
+    {
+        return meanProcessingMillis;
+    }
+
+
+    /**
+     * Set up the average time spent processing an event.
+     *
+     * @param meanProcessingMillis milliseconds
+     */
+    public void setMeanProcessingMillis(double meanProcessingMillis)
+    {
+        this.meanProcessingMillis = meanProcessingMillis;
+    }
+
+
+    /**
+     * Return the time spent processing the slowest event.
+     *
+     * @return milliseconds
+     */
+    public double getMaxProcessingMillis()
+    {
+        return maxProcessingMillis;
+    }
+
+
+    /**
+     * Set up the time spent processing the slowest event.
+     *
+     * @param maxProcessingMillis milliseconds
+     */
+    public void setMaxProcessingMillis(double maxProcessingMillis)
+    {
+        this.maxProcessingMillis = maxProcessingMillis;
+    }
+
+
+    /**
+     * Return the number of events in each processing time bucket.
+     *
+     * @return map of bucket upper bound to count
+     */
+    public Map<String, Long> getProcessingTimeHistogram()
+    {
+        if (processingTimeHistogram == null)
+        {
+            return null;
+        }
+        else if (processingTimeHistogram.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new LinkedHashMap<>(processingTimeHistogram);
+        }
+    }
+
+
+    /**
+     * Set up the number of events in each processing time bucket.
+     *
+     * @param processingTimeHistogram map of bucket upper bound to count
+     */
+    public void setProcessingTimeHistogram(Map<String, Long> processingTimeHistogram)
+    {
+        this.processingTimeHistogram = processingTimeHistogram;
+    }
+
+
+    /**
+     * Return the number of events waiting to be processed when the last event was received.
+     *
+     * @return count
+     */
+    public long getQueueDepth()
+    {
+        return queueDepth;
+    }
+
+
+    /**
+     * Set up the number of events waiting to be processed when the last event was received.
+     *
+     * @param queueDepth count
+     */
+    public void setQueueDepth(long queueDepth)
+    {
+        this.queueDepth = queueDepth;
+    }
+
+
+    /**
+     * Return the largest number of events seen waiting to be processed.
+     *
+     * @return count
+     */
+    public long getMaxQueueDepth()
+    {
+        return maxQueueDepth;
+    }
+
+
+    /**
+     * Set up the largest number of events seen waiting to be processed.
+     *
+     * @param maxQueueDepth count
+     */
+    public void setMaxQueueDepth(long maxQueueDepth)
+    {
+        this.maxQueueDepth = maxQueueDepth;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSEventStageMetrics{" +
+                "stageName='" + stageName + '\'' +
+                ", componentName='" + componentName + '\'' +
+                ", eventCount=" + eventCount +
+                ", errorCount=" + errorCount +
+                ", slowEventCount=" + slowEventCount +
+                ", totalProcessingMillis=" + totalProcessingMillis +
+                ", meanProcessingMillis=" + meanProcessingMillis +
+                ", maxProcessingMillis=" + maxProcessingMillis +
+                ", processingTimeHistogram=" + processingTimeHistogram +
+                ", queueDepth=" + queueDepth +
+                ", maxQueueDepth=" + maxQueueDepth +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof OMRSEventStageMetrics))
+        {
+            return false;
+        }
+        OMRSEventStageMetrics that = (OMRSEventStageMetrics) objectToCompare;
+        return getEventCount() == that.getEventCount() &&
+                getErrorCount() == that.getErrorCount() &&
+                getSlowEventCount() == that.getSlowEventCount() &&
+                Double.compare(that.getTotalProcessingMillis(), getTotalProcessingMillis()) == 0 &&
+                Double.compare(that.getMeanProcessingMillis(), getMeanProcessingMillis()) == 0 &&
+                Double.compare(that.getMaxProcessingMillis(), getMaxProcessingMillis()) == 0 &&
+                getQueueDepth() == that.getQueueDepth() &&
+                getMaxQueueDepth() == that.getMaxQueueDepth() &&
+                Objects.equals(getStageName(), that.getStageName()) &&
+                Objects.equals(getComponentName(), that.getComponentName()) &&
+                Objects.equals(getProcessingTimeHistogram(), that.getProcessingTimeHistogram());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getStageName(), getComponentName(), getEventCount(), getErrorCount(),
+                            getSlowEventCount(), getTotalProcessingMillis(), getMeanProcessingMillis(),
+                            getMaxProcessingMillis(), getProcessingTimeHistogram(), getQueueDepth(),
+                            getMaxQueueDepth());
+    }
+}
@@ -0,0 +1,226 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * OMRSInMemoryMetricsRegistry is the default metrics registry.  It keeps running totals for each operation
+ * of each member in memory.  Recording a call does not lock, so many threads can record calls at the same
+ * time without waiting for one another.  The latencies are counted in a fixed set of buckets rather than
+ * stored individually so the memory used does not grow with the number of calls.
+ */
+public class OMRSInMemoryMetricsRegistry implements OMRSMetricsRegistry
+{
+    private static final double nanosPerMilli      = 1000000.0;
+    private static final long[] bucketBoundsMillis = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+    private static final String overflowBucketName = "overflow";
+
+    private Map<String, Map<String, OperationAccumulator>> members = new ConcurrentHashMap<>();
+
+
+    /**
+     * Default constructor
+     */
+    public OMRSInMemoryMetricsRegistry()
+    {
+    }
+
+
+    /**
+     * Record a call to an operation of a metadata collection.
+     *
+     * @param memberName name of the repository (cohort member) that handled the call
+     * @param operationName name of the metadata collection method
+     * @param elapsedNanos elapsed time of the call
+     * @param resultSize number of elements returned by the call
+     * @param failed the call returned an exception
+     */
+    public void recordCall(String  memberName,
+                           String  operationName,
+                           long    elapsedNanos,
+                           long    resultSize,
+                           boolean failed)
+    {
+        Map<String, OperationAccumulator> operations = members.computeIfAbsent(String.valueOf(memberName),
+                                                                               name -> new ConcurrentHashMap<>());
+
+        operations.computeIfAbsent(String.valueOf(operationName),
+                                   name -> new OperationAccumulator()).record(elapsedNanos, resultSize, failed);
+    }
+
+
+    /**
+     * Return a snapshot of the measurements accumulated since the registry was created or last reset.
+     *
+     * @return list of measurements for each operation of each member
+     */
+    public List<OMRSOperationMetrics> getOperationMetrics()
+    {
+        List<OMRSOperationMetrics> results = new ArrayList<>();
+
+        for (Map.Entry<String, Map<String, OperationAccumulator>> member : members.entrySet())
+        {
+            for (Map.Entry<String, OperationAccumulator> operation : member.getValue().entrySet())
+            {
+                results.add(operation.getValue().getMetrics(member.getKey(), operation.getKey()));
+            }
+        }
+
+        results.sort((metrics1, metrics2) -> Double.compare(metrics2.getTotalLatencyMillis(),
+                                                            metrics1.getTotalLatencyMillis()));
+
+        return results;
+    }
+
+
+    /**
+     * Discard the accumulated measurements.
+     */
+    public void reset()
+    {
+        members.clear();
+    }
+
+
+    /**
+     * Return the index of the latency bucket for a call.
+     *
+     * @param elapsedNanos elapsed time of the call
+     * @return index into the bucket counts
+     */
+    static int getBucketIndex(long elapsedNanos)
+    {
+        for (int i = 0; i < bucketBoundsMillis.length; i++)
+        {
+            if (elapsedNanos <= bucketBoundsMillis[i] * 1000000L)
+            {
+                return i;
+            }
+        }
+
+        return bucketBoundsMillis.length;
+    }
+
+
+    /**
+     * Return the number of latency buckets, including the overflow bucket.
+     *
+     * @return count of buckets
+     */
+    static int getBucketCount()
+    {
+        return bucketBoundsMillis.length + 1;
+    }
+
+
+    /**
+     * Return the bucket counts as a map of the upper bound of each bucket to its count.
+     *
+     * @param bucketCounts counts indexed by the result of getBucketIndex
+     * @return histogram
+     */
+    static Map<String, Long> getLatencyHistogram(AtomicLongArray bucketCounts)
+    {
+        Map<String, Long> histogram = new LinkedHashMap<>();
+
+        for (int i = 0; i < bucketBoundsMillis.length; i++)
+        {
+            histogram.put(bucketBoundsMillis[i] + "ms", bucketCounts.get(i));
+        }
+        histogram.put(overflowBucketName, bucketCounts.get(bucketBoundsMillis.length));
+
+        return histogram;
+    }
+
+
+    /**
+     * Convert nanoseconds to milliseconds.
+     *
+     * @param nanos elapsed time
+     * @return milliseconds rounded to three decimal places
+     */
+    static double toMillis(long nanos)
+    {
+        return Math.round((nanos / nanosPerMilli) * 1000.0) / 1000.0;
+    }
+
+
+    /**
+     * OperationAccumulator keeps the running totals for one operation of one member.
+     */
+    private static class OperationAccumulator
+    {
+        private LongAdder       callCount       = new LongAdder();
+        private LongAdder       errorCount      = new LongAdder();
+        private LongAdder       totalNanos      = new LongAdder();
+        private LongAdder       totalResultSize = new LongAdder();
+        private AtomicLong      maxNanos        = new AtomicLong();
+        private AtomicLong      maxResultSize   = new AtomicLong();
+        private AtomicLongArray bucketCounts    = new AtomicLongArray(getBucketCount());
+
+
+        /**
+         * Add a call to the totals.
+         *
+         * @param elapsedNanos elapsed time of the call
+         * @param resultSize number of elements returned by the call
+         * @param failed the call returned an exception
+         */
+        void record(long    elapsedNanos,
+                    long    resultSize,
+                    boolean failed)
+        {
+            callCount.increment();
+
+            if (failed)
+            {
+                errorCount.increment();
+            }
+
+            totalNanos.add(elapsedNanos);
+            totalResultSize.add(resultSize);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            maxResultSize.accumulateAndGet(resultSize, Math::max);
+            bucketCounts.incrementAndGet(getBucketIndex(elapsedNanos));
+        }
+
+
+        /**
+         * Return the totals as a bean.  The totals are read one at a time while calls are being recorded so
+         * they may differ very slightly from one another.
+         *
+         * @param memberName name of the member
+         * @param operationName name of the operation
+         * @return metrics bean
+         */
+        OMRSOperationMetrics getMetrics(String memberName,
+                                        String operationName)
+        {
+            OMRSOperationMetrics metrics = new OMRSOperationMetrics();
+            long                 calls = callCount.sum();
+            long                 nanos = totalNanos.sum();
+
+            metrics.setMemberName(memberName);
+            metrics.setOperationName(operationName);
+            metrics.setCallCount(calls);
+            metrics.setErrorCount(errorCount.sum());
+            metrics.setTotalLatencyMillis(toMillis(nanos));
+            metrics.setMeanLatencyMillis(calls == 0 ? 0 : toMillis(nanos / calls));
+            metrics.setMaxLatencyMillis(toMillis(maxNanos.get()));
+            metrics.setLatencyHistogram(getLatencyHistogram(bucketCounts));
+            metrics.setTotalResultSize(totalResultSize.sum());
+            metrics.setMaxResultSize(maxResultSize.get());
+
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+
+import java.util.Collection;
+
+
+/**
+ * OMRSMetrics is the point where the metadata collections record their calls.  It holds the metrics registry
+ * for the server.  Metrics are disabled until a registry is set up.  While they are disabled, recording a call
+ * costs a single read of the registry field, so the instrumentation can stay in place in production.
+ */
+public class OMRSMetrics
+{
+    private static final long disabledStartTime = 0L;
+
+    private static volatile OMRSMetricsRegistry registry = null;
+
+
+    /**
+     * Private constructor since all of the methods are static.
+     */
+    private OMRSMetrics()
+    {
+    }
+
+
+    /**
+     * Return the registry that is accumulating the measurements.
+     *
+     * @return registry or null if metrics are disabled
+     */
+    public static OMRSMetricsRegistry getRegistry()
+    {
+        return registry;
+    }
+
+
+    /**
+     * Set up the registry that accumulates the measurements.  Passing null disables the metrics.
+     *
+     * @param newRegistry registry or null
+     */
+    public static void setRegistry(OMRSMetricsRegistry newRegistry)
+    {
+        registry = newRegistry;
+    }
+
+
+    /**
+     * Return whether the calls are being measured.
+     *
+     * @return boolean flag
+     */
+    public static boolean isEnabled()
+    {
+        return registry != null;
+    }
+
+
+    /**
+     * Return the start time for a call.  Zero is returned if metrics are disabled, which means
+     * the call is not recorded when it completes.
+     *
+     * @return start time in nanoseconds
+     */
+    public static long startTimer()
+    {
+        if (registry == null)
+        {
+            return disabledStartTime;
+        }
+
+        return System.nanoTime();
+    }
+
+
+    /**
+     * Record a call that returned a result.
+     *
+     * @param memberName name of the repository (cohort member) that handled the call
+     * @param operationName name of the metadata collection method
+     * @param startTime value returned by startTimer when the call began
+     * @param result result of the call (null for void methods)
+     */
+    public static void recordSuccess(String memberName,
+                                     String operationName,
+                                     long   startTime,
+                                     Object result)
+    {
+        OMRSMetricsRegistry currentRegistry = registry;
+
+        if ((currentRegistry != null) && (startTime != disabledStartTime))
+        {
+            currentRegistry.recordCall(memberName,
+                                       operationName,
+                                       System.nanoTime() - startTime,
+                                       getResultSize(result),
+                                       false);
+        }
+    }
+
+
+    /**
+     * Record a call that returned an exception.
+     *
+     * @param memberName name of the repository (cohort member) that handled the call
+     * @param operationName name of the metadata collection method
+     * @param startTime value returned by startTimer when the call began
+     */
+    public static void recordFailure(String memberName,
+                                     String operationName,
+                                     long   startTime)
+    {
+        OMRSMetricsRegistry currentRegistry = registry;
+
+        if ((currentRegistry != null) && (startTime != disabledStartTime))
+        {
+            currentRegistry.recordCall(memberName,
+                                       operationName,
+                                       System.nanoTime() - startTime,
+                                       0,
+                                       true);
+        }
+    }
+
+
+    /**
+     * Return the number of elements in the result of a call.  Lists count their elements, type galleries
+     * count their types and instance graphs count their entities and relationships.
+     *
+     * @param result result of the call
+     * @return count
+     */
+    static long getResultSize(Object result)
+    {
+        if (result == null)
+        {
+            return 0;
+        }
+        else if (result instanceof Collection)
+        {
+            return ((Collection<?>) result).size();
+        }
+        else if (result instanceof TypeDefGallery)
+        {
+            TypeDefGallery gallery = (TypeDefGallery) result;
+
+            return getResultSize(gallery.getTypeDefs()) + getResultSize(gallery.getAttributeTypeDefs());
+        }
+        else if (result instanceof InstanceGraph)
+        {
+            InstanceGraph graph = (InstanceGraph) result;
+
+            return getResultSize(graph.getEntities()) + getResultSize(graph.getRelationships());
+        }
+
+        return 1;
+    }
+}
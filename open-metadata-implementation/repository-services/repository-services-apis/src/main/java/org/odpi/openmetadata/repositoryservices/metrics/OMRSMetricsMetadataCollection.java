@@ -0,0 +1,3642 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * OMRSMetricsMetadataCollection wraps another metadata collection and records the latency, outcome and
+ * result size of each call in OMRSMetrics before passing the result (or exception) back to the caller.
+ * The repository services wrap the local repository's metadata collection, the enterprise metadata collection
+ * and the metadata collection of each remote cohort member so the measurements show both the cost of the
+ * federated call and the share of it spent in each member.  The calls are recorded against the repository name
+ * of the wrapped metadata collection, or its metadata collection id if it has no name.
+ */
+public class OMRSMetricsMetadataCollection extends OMRSMetadataCollection
+{
+    private OMRSMetadataCollection metadataCollection;
+    private String                 memberName;
+
+
+    /**
+     * Constructor saves the wrapped metadata collection along with the information needed by the super class.
+     *
+     * @param parentConnector connector that this metadata collection supports.
+     * @param repositoryName name of the repository used in the measurements.
+     * @param metadataCollectionId unique identifier for the metadata collection.
+     * @param repositoryHelper helper class for building types and instances.
+     * @param repositoryValidator validator class for checking open metadata repository objects and parameters.
+     * @param metadataCollection metadata collection that does the work.
+     */
+    public OMRSMetricsMetadataCollection(OMRSRepositoryConnector parentConnector,
+                                         String                  repositoryName,
+                                         String                  metadataCollectionId,
+                                         OMRSRepositoryHelper    repositoryHelper,
+                                         OMRSRepositoryValidator repositoryValidator,
+                                         OMRSMetadataCollection  metadataCollection)
+    {
+        super(parentConnector, repositoryName, metadataCollectionId, repositoryHelper, repositoryValidator);
+
+        if (metadataCollection == null)
+        {
+            final String      actionDescription = "OMRS Metrics Metadata Collection Constructor";
+
+            OMRSErrorCode errorCode = OMRSErrorCode.NULL_METADATA_COLLECTION;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage(repositoryName);
+
+            throw new OMRSLogicErrorException(errorCode.getHTTPErrorCode(),
+                                              this.getClass().getName(),
+                                              actionDescription,
+                                              errorMessage,
+                                              errorCode.getSystemAction(),
+                                              errorCode.getUserAction());
+        }
+
+        this.metadataCollection = metadataCollection;
+        this.memberName = (repositoryName == null) ? metadataCollectionId : repositoryName;
+    }
+
+
+    /**
+     * Return the metadata collection that does the work.
+     *
+     * @return wrapped metadata collection
+     */
+    public OMRSMetadataCollection getWrappedMetadataCollection()
+    {
+        return metadataCollection;
+    }
+
+
+    /**
+     * Returns the identifier of the metadata repository.  This is the identifier used to register the
+     * metadata repository with the metadata repository cohort.  It is also the identifier used to
+     * identify the home repository of a metadata instance.
+     *
+     * @return String  metadata collection id.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository.
+     */
+    public String      getMetadataCollectionId() throws RepositoryErrorException
+    {
+        return metadataCollection.getMetadataCollectionId();
+    }
+
+
+    /**
+     * Returns the list of different types of metadata organized into two groups.  The first are the
+     * attribute type definitions (AttributeTypeDefs).  These provide types for properties in full
+     * type definitions.  Full type definitions (TypeDefs) describe types for entities, relationships
+     * and classifications.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @return TypeDefGallery  List of different categories of type definitions.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository.
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation.
+     */
+    public TypeDefGallery getAllTypes(String  userId) throws RepositoryErrorException,
+                                                             UserNotAuthorizedException
+    {
+        final String methodName = "getAllTypes";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            TypeDefGallery result = metadataCollection.getAllTypes(userId);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Returns a list of type definitions that have the specified name.  Type names should be unique.  This
+     * method allows wildcard character to be included in the name.  These are * (asterisk) for an
+     * arbitrary string of characters and ampersand for an arbitrary character.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param name name of the TypeDefs to return (including wildcard characters).
+     * @return TypeDefGallery List of different categories of type definitions.
+     * @throws InvalidParameterException the name of the TypeDef is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public TypeDefGallery findTypesByName(String userId,
+                                          String name) throws InvalidParameterException,
+                                                              RepositoryErrorException,
+                                                              UserNotAuthorizedException
+    {
+        final String methodName = "findTypesByName";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            TypeDefGallery result = metadataCollection.findTypesByName(userId, name);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Returns all of the TypeDefs for a specific category.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param category  enum value for the category of TypeDef to return.
+     * @return TypeDefs list.
+     * @throws InvalidParameterException  the TypeDefCategory is null.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository.
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation.
+     */
+    public List<TypeDef> findTypeDefsByCategory(String          userId,
+                                                TypeDefCategory category) throws InvalidParameterException,
+                                                                                 RepositoryErrorException,
+                                                                                 UserNotAuthorizedException
+    {
+        final String methodName = "findTypeDefsByCategory";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<TypeDef> result = metadataCollection.findTypeDefsByCategory(userId, category);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Returns all of the AttributeTypeDefs for a specific category.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param category  enum value for the category of an AttributeTypeDef to return.
+     * @return AttributeTypeDefs list.
+     * @throws InvalidParameterException  the TypeDefCategory is null.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository.
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation.
+     */
+    public List<AttributeTypeDef> findAttributeTypeDefsByCategory(String                   userId,
+                                                                  AttributeTypeDefCategory category) throws InvalidParameterException,
+                                                                                                            RepositoryErrorException,
+                                                                                                            UserNotAuthorizedException
+    {
+        final String methodName = "findAttributeTypeDefsByCategory";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<AttributeTypeDef> result = metadataCollection.findAttributeTypeDefsByCategory(userId, category);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the TypeDefs that have the properties matching the supplied match criteria.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param matchCriteria  TypeDefProperties a list of property names.
+     * @return TypeDefs list.
+     * @throws InvalidParameterException  the matchCriteria is null.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository.
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation.
+     */
+    public List<TypeDef> findTypeDefsByProperty(String            userId,
+                                                TypeDefProperties matchCriteria) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String methodName = "findTypeDefsByProperty";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<TypeDef> result = metadataCollection.findTypeDefsByProperty(userId, matchCriteria);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the types that are linked to the elements from the specified standard.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param standard  name of the standard null means any.
+     * @param organization  name of the organization null means any.
+     * @param identifier  identifier of the element in the standard null means any.
+     * @return TypeDefs list  each entry in the list contains a TypeDef.  This is is a structure
+     * describing the TypeDef's category and properties.
+     * @throws InvalidParameterException  all attributes of the external id are null.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository.
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation.
+     */
+    public List<TypeDef> findTypesByExternalID(String    userId,
+                                               String    standard,
+                                               String    organization,
+                                               String    identifier) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String methodName = "findTypesByExternalID";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<TypeDef> result = metadataCollection.findTypesByExternalID(userId, standard, organization, identifier);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the TypeDefs that match the search criteria.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param searchCriteria  String search criteria.
+     * @return TypeDefs list each entry in the list contains a TypeDef.  This is is a structure
+     * describing the TypeDef's category and properties.
+     * @throws InvalidParameterException  the searchCriteria is null.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository.
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation.
+     */
+    public List<TypeDef> searchForTypeDefs(String userId,
+                                           String searchCriteria) throws InvalidParameterException,
+                                                                         RepositoryErrorException,
+                                                                         UserNotAuthorizedException
+    {
+        final String methodName = "searchForTypeDefs";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<TypeDef> result = metadataCollection.searchForTypeDefs(userId, searchCriteria);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the TypeDef identified by the GUID.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param guid  String unique id of the TypeDef
+     * @return TypeDef structure describing its category and properties.
+     * @throws InvalidParameterException  the guid is null.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeDefNotKnownException  The requested TypeDef is not known in the metadata collection.
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation.
+     */
+    public TypeDef getTypeDefByGUID(String    userId,
+                                    String    guid) throws InvalidParameterException,
+                                                           RepositoryErrorException,
+                                                           TypeDefNotKnownException,
+                                                           UserNotAuthorizedException
+    {
+        final String methodName = "getTypeDefByGUID";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            TypeDef result = metadataCollection.getTypeDefByGUID(userId, guid);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the AttributeTypeDef identified by the GUID.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param guid  String unique id of the TypeDef
+     * @return TypeDef structure describing its category and properties.
+     * @throws InvalidParameterException  the guid is null.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeDefNotKnownException  The requested TypeDef is not known in the metadata collection.
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation.
+     */
+    public AttributeTypeDef getAttributeTypeDefByGUID(String    userId,
+                                                      String    guid) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             TypeDefNotKnownException,
+                                                                             UserNotAuthorizedException
+    {
+        final String methodName = "getAttributeTypeDefByGUID";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            AttributeTypeDef result = metadataCollection.getAttributeTypeDefByGUID(userId, guid);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the TypeDef identified by the unique name.
+     *
+     * @param userId  unique identifier for requesting user.
+     * @param name  String name of the TypeDef.
+     * @return TypeDef structure describing its category and properties.
+     * @throws InvalidParameterException  the name is null.
+     * @throws RepositoryErrorException  there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeDefNotKnownException  the requested TypeDef is not found in the metadata collection.
+     * @throws UserNotAuthorizedException  the userId is not permitted to perform this operation.
+     */
+    public TypeDef getTypeDefByName(String    userId,
+                                    String    name) throws InvalidParameterException,
+                                                           RepositoryErrorException,
+                                                           TypeDefNotKnownException,
+                                                           UserNotAuthorizedException
+    {
+        final String methodName = "getTypeDefByName";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            TypeDef result = metadataCollection.getTypeDefByName(userId, name);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the AttributeTypeDef identified by the unique name.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param name String name of the TypeDef.
+     * @return TypeDef structure describing its category and properties.
+     * @throws InvalidParameterException the name is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeDefNotKnownException the requested TypeDef is not found in the metadata collection.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public AttributeTypeDef getAttributeTypeDefByName(String    userId,
+                                                      String    name) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             TypeDefNotKnownException,
+                                                                             UserNotAuthorizedException
+    {
+        final String methodName = "getAttributeTypeDefByName";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            AttributeTypeDef result = metadataCollection.getAttributeTypeDefByName(userId, name);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Create a collection of related types.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newTypes TypeDefGalleryResponse structure describing the new AttributeTypeDefs and TypeDefs.
+     * @throws InvalidParameterException the new TypeDef is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeDefNotSupportedException the repository is not able to support this TypeDef.
+     * @throws TypeDefKnownException the TypeDef is already stored in the repository.
+     * @throws TypeDefConflictException the new TypeDef conflicts with an existing TypeDef.
+     * @throws InvalidTypeDefException the new TypeDef has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void addTypeDefGallery(String          userId,
+                                  TypeDefGallery  newTypes) throws InvalidParameterException,
+                                                                   RepositoryErrorException,
+                                                                   TypeDefNotSupportedException,
+                                                                   TypeDefKnownException,
+                                                                   TypeDefConflictException,
+                                                                   InvalidTypeDefException,
+                                                                   FunctionNotSupportedException,
+                                                                   UserNotAuthorizedException
+    {
+        final String methodName = "addTypeDefGallery";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.addTypeDefGallery(userId, newTypes);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Create a definition of a new TypeDef.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newTypeDef TypeDef structure describing the new TypeDef.
+     * @throws InvalidParameterException the new TypeDef is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeDefNotSupportedException the repository is not able to support this TypeDef.
+     * @throws TypeDefKnownException the TypeDef is already stored in the repository.
+     * @throws TypeDefConflictException the new TypeDef conflicts with an existing TypeDef.
+     * @throws InvalidTypeDefException the new TypeDef has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void addTypeDef(String       userId,
+                           TypeDef      newTypeDef) throws InvalidParameterException,
+                                                           RepositoryErrorException,
+                                                           TypeDefNotSupportedException,
+                                                           TypeDefKnownException,
+                                                           TypeDefConflictException,
+                                                           InvalidTypeDefException,
+                                                           FunctionNotSupportedException,
+                                                           UserNotAuthorizedException
+    {
+        final String methodName = "addTypeDef";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.addTypeDef(userId, newTypeDef);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Create a definition of a new AttributeTypeDef.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param newAttributeTypeDef TypeDef structure describing the new TypeDef.
+     * @throws InvalidParameterException the new TypeDef is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeDefNotSupportedException the repository is not able to support this TypeDef.
+     * @throws TypeDefKnownException the TypeDef is already stored in the repository.
+     * @throws TypeDefConflictException the new TypeDef conflicts with an existing TypeDef.
+     * @throws InvalidTypeDefException the new TypeDef has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void addAttributeTypeDef(String             userId,
+                                    AttributeTypeDef   newAttributeTypeDef) throws InvalidParameterException,
+                                                                                   RepositoryErrorException,
+                                                                                   TypeDefNotSupportedException,
+                                                                                   TypeDefKnownException,
+                                                                                   TypeDefConflictException,
+                                                                                   InvalidTypeDefException,
+                                                                                   FunctionNotSupportedException,
+                                                                                   UserNotAuthorizedException
+    {
+        final String methodName = "addAttributeTypeDef";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.addAttributeTypeDef(userId, newAttributeTypeDef);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Verify that a definition of a TypeDef is either new or matches the definition already stored.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param typeDef TypeDef structure describing the TypeDef to test.
+     * @return boolean true means the TypeDef matches the local definition; false means the TypeDef is not known.
+     * @throws InvalidParameterException the TypeDef is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeDefNotSupportedException the repository is not able to support this TypeDef.
+     * @throws TypeDefConflictException the new TypeDef conflicts with an existing TypeDef.
+     * @throws InvalidTypeDefException the new TypeDef has invalid contents.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public boolean verifyTypeDef(String       userId,
+                                 TypeDef      typeDef) throws InvalidParameterException,
+                                                              RepositoryErrorException,
+                                                              TypeDefNotSupportedException,
+                                                              TypeDefConflictException,
+                                                              InvalidTypeDefException,
+                                                              UserNotAuthorizedException
+    {
+        final String methodName = "verifyTypeDef";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            boolean result = metadataCollection.verifyTypeDef(userId, typeDef);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Verify that a definition of an AttributeTypeDef is either new or matches the definition already stored.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param attributeTypeDef TypeDef structure describing the TypeDef to test.
+     * @return boolean where true means the TypeDef matches the local definition; false means the TypeDef is not known.
+     * @throws InvalidParameterException the TypeDef is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws TypeDefNotSupportedException the repository is not able to support this TypeDef.
+     * @throws TypeDefConflictException the new TypeDef conflicts with an existing TypeDef.
+     * @throws InvalidTypeDefException the new TypeDef has invalid contents.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public boolean verifyAttributeTypeDef(String            userId,
+                                          AttributeTypeDef  attributeTypeDef) throws InvalidParameterException,
+                                                                                     RepositoryErrorException,
+                                                                                     TypeDefNotSupportedException,
+                                                                                     TypeDefConflictException,
+                                                                                     InvalidTypeDefException,
+                                                                                     UserNotAuthorizedException
+    {
+        final String methodName = "verifyAttributeTypeDef";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            boolean result = metadataCollection.verifyAttributeTypeDef(userId, attributeTypeDef);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Update one or more properties of the TypeDef.  The TypeDefPatch controls what types of updates
+     * are safe to make to the TypeDef.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param typeDefPatch TypeDef patch describing change to TypeDef.
+     * @return updated TypeDef
+     * @throws InvalidParameterException the TypeDefPatch is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeDefNotKnownException the requested TypeDef is not found in the metadata collection.
+     * @throws PatchErrorException the TypeDef can not be updated because the supplied patch is incompatible
+     *                               with the stored TypeDef.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public TypeDef updateTypeDef(String         userId,
+                                 TypeDefPatch   typeDefPatch) throws InvalidParameterException,
+                                                                     RepositoryErrorException,
+                                                                     TypeDefNotKnownException,
+                                                                     PatchErrorException,
+                                                                     FunctionNotSupportedException,
+                                                                     UserNotAuthorizedException
+    {
+        final String methodName = "updateTypeDef";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            TypeDef result = metadataCollection.updateTypeDef(userId, typeDefPatch);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Delete the TypeDef.  This is only possible if the TypeDef has never been used to create instances or any
+     * instances of this TypeDef have been purged from the metadata collection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param obsoleteTypeDefGUID String unique identifier for the TypeDef.
+     * @param obsoleteTypeDefName String unique name for the TypeDef.
+     * @throws InvalidParameterException the one of TypeDef identifiers is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeDefNotKnownException the requested TypeDef is not found in the metadata collection.
+     * @throws TypeDefInUseException the TypeDef can not be deleted because there are instances of this type in the
+     *                                 the metadata collection.  These instances need to be purged before the
+     *                                 TypeDef can be deleted.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void deleteTypeDef(String    userId,
+                              String    obsoleteTypeDefGUID,
+                              String    obsoleteTypeDefName) throws InvalidParameterException,
+                                                                    RepositoryErrorException,
+                                                                    TypeDefNotKnownException,
+                                                                    TypeDefInUseException,
+                                                                    FunctionNotSupportedException,
+                                                                    UserNotAuthorizedException
+    {
+        final String methodName = "deleteTypeDef";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.deleteTypeDef(userId, obsoleteTypeDefGUID, obsoleteTypeDefName);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Delete an AttributeTypeDef.  This is only possible if the AttributeTypeDef has never been used to create
+     * instances or any instances of this AttributeTypeDef have been purged from the metadata collection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param obsoleteTypeDefGUID String unique identifier for the AttributeTypeDef.
+     * @param obsoleteTypeDefName String unique name for the AttributeTypeDef.
+     * @throws InvalidParameterException the one of AttributeTypeDef identifiers is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeDefNotKnownException the requested AttributeTypeDef is not found in the metadata collection.
+     * @throws TypeDefInUseException the AttributeTypeDef can not be deleted because there are instances of this type in the
+     *                                 the metadata collection.  These instances need to be purged before the
+     *                                 AttributeTypeDef can be deleted.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void deleteAttributeTypeDef(String    userId,
+                                       String    obsoleteTypeDefGUID,
+                                       String    obsoleteTypeDefName) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             TypeDefNotKnownException,
+                                                                             TypeDefInUseException,
+                                                                             FunctionNotSupportedException,
+                                                                             UserNotAuthorizedException
+    {
+        final String methodName = "deleteAttributeTypeDef";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.deleteAttributeTypeDef(userId, obsoleteTypeDefGUID, obsoleteTypeDefName);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Change the guid or name of an existing TypeDef to a new value.  This is used if two different
+     * TypeDefs are discovered to have the same guid.  This is extremely unlikely but not impossible so
+     * the open metadata protocol has provision for this.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param originalTypeDefGUID the original guid of the TypeDef.
+     * @param originalTypeDefName the original name of the TypeDef.
+     * @param newTypeDefGUID the new identifier for the TypeDef.
+     * @param newTypeDefName new name for this TypeDef.
+     * @return typeDef new values for this TypeDef, including the new guid/name.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeDefNotKnownException the TypeDef identified by the original guid/name is not found
+     *                                    in the metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public TypeDef reIdentifyTypeDef(String     userId,
+                                     String     originalTypeDefGUID,
+                                     String     originalTypeDefName,
+                                     String     newTypeDefGUID,
+                                     String     newTypeDefName) throws InvalidParameterException,
+                                                                       RepositoryErrorException,
+                                                                       TypeDefNotKnownException,
+                                                                       FunctionNotSupportedException,
+                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "reIdentifyTypeDef";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            TypeDef result = metadataCollection.reIdentifyTypeDef(userId, originalTypeDefGUID, originalTypeDefName, newTypeDefGUID, newTypeDefName);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Change the guid or name of an existing TypeDef to a new value.  This is used if two different
+     * TypeDefs are discovered to have the same guid.  This is extremely unlikely but not impossible so
+     * the open metadata protocol has provision for this.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param originalAttributeTypeDefGUID the original guid of the AttributeTypeDef.
+     * @param originalAttributeTypeDefName the original name of the AttributeTypeDef.
+     * @param newAttributeTypeDefGUID the new identifier for the AttributeTypeDef.
+     * @param newAttributeTypeDefName new name for this AttributeTypeDef.
+     * @return attributeTypeDef contains new values for this AttributeTypeDef, including the new guid/name.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeDefNotKnownException the AttributeTypeDef identified by the original guid/name is not
+     *                                    found in the metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public AttributeTypeDef reIdentifyAttributeTypeDef(String     userId,
+                                                       String     originalAttributeTypeDefGUID,
+                                                       String     originalAttributeTypeDefName,
+                                                       String     newAttributeTypeDefGUID,
+                                                       String     newAttributeTypeDefName) throws InvalidParameterException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  TypeDefNotKnownException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "reIdentifyAttributeTypeDef";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            AttributeTypeDef result = metadataCollection.reIdentifyAttributeTypeDef(userId, originalAttributeTypeDefGUID, originalAttributeTypeDefName, newAttributeTypeDefGUID, newAttributeTypeDefName);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Returns the entity if the entity is stored in the metadata collection, otherwise null.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid String unique identifier for the entity
+     * @return the entity details if the entity is found in the metadata collection; otherwise return null
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail isEntityKnown(String     userId,
+                                      String     guid) throws InvalidParameterException,
+                                                              RepositoryErrorException,
+                                                              UserNotAuthorizedException
+    {
+        final String methodName = "isEntityKnown";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.isEntityKnown(userId, guid);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the header and classifications for a specific entity.  The returned entity summary may be from
+     * a full entity object or an entity proxy.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid String unique identifier for the entity
+     * @return EntitySummary structure
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntitySummary getEntitySummary(String     userId,
+                                          String     guid) throws InvalidParameterException,
+                                                                  RepositoryErrorException,
+                                                                  EntityNotKnownException,
+                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "getEntitySummary";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntitySummary result = metadataCollection.getEntitySummary(userId, guid);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a specific entity.  This requires the full entity
+     * object to be available.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid String unique identifier for the entity.
+     * @return EntityDetail structure.
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws EntityProxyOnlyException the requested entity instance is only a proxy in the metadata collection.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail getEntityDetail(String     userId,
+                                        String     guid) throws InvalidParameterException,
+                                                                RepositoryErrorException,
+                                                                EntityNotKnownException,
+                                                                EntityProxyOnlyException,
+                                                                UserNotAuthorizedException
+    {
+        final String methodName = "getEntityDetail";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.getEntityDetail(userId, guid);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return a historical version of an entity.  Thi includes the header, classifications and properties of the entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid String unique identifier for the entity.
+     * @param asOfTime the time used to determine which version of the entity that is desired.
+     * @return EntityDetail structure.
+     * @throws InvalidParameterException the guid or date is null or date is for future time
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection
+     *                                   at the time requested.
+     * @throws EntityProxyOnlyException the requested entity instance is only a proxy in the metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail getEntityDetail(String     userId,
+                                        String     guid,
+                                        Date       asOfTime) throws InvalidParameterException,
+                                                                    RepositoryErrorException,
+                                                                    EntityNotKnownException,
+                                                                    EntityProxyOnlyException,
+                                                                    FunctionNotSupportedException,
+                                                                    UserNotAuthorizedException
+    {
+        final String methodName = "getEntityDetail";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.getEntityDetail(userId, guid, asOfTime);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the header, classifications and properties of a list of entities.  This replaces a call to
+     * getEntityDetail() for each entity.  Repositories that can retrieve many entities in one call should
+     * override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Entities that are not known in the metadata collection, or are
+     *         only known as a proxy, are skipped.  Null means none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String methodName = "getEntityDetails";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<EntityDetail> result = metadataCollection.getEntityDetails(userId, guids);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the relationships for a specific entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param fromRelationshipElement the starting element number of the relationships to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize -- the maximum number of result classifications that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return Relationships list.  Null means no relationships associated with the entity.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationshipsForEntity(String                     userId,
+                                                        String                     entityGUID,
+                                                        String                     relationshipTypeGUID,
+                                                        int                        fromRelationshipElement,
+                                                        List<InstanceStatus>       limitResultsByStatus,
+                                                        Date                       asOfTime,
+                                                        String                     sequencingProperty,
+                                                        SequencingOrder            sequencingOrder,
+                                                        int                        pageSize) throws InvalidParameterException,
+                                                                                                    TypeErrorException,
+                                                                                                    RepositoryErrorException,
+                                                                                                    EntityNotKnownException,
+                                                                                                    PropertyErrorException,
+                                                                                                    PagingErrorException,
+                                                                                                    FunctionNotSupportedException,
+                                                                                                    UserNotAuthorizedException
+    {
+        final String methodName = "getRelationshipsForEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<Relationship> result = metadataCollection.getRelationshipsForEntity(userId, entityGUID, relationshipTypeGUID, fromRelationshipElement, limitResultsByStatus, asOfTime, sequencingProperty, sequencingOrder, pageSize);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the relationships for a list of entities together with the entities at the other end of each
+     * relationship.  This replaces a call to getRelationshipsForEntity() for each entity followed by a call to
+     * getEntityDetail() for the far end of each relationship.  Repositories that can retrieve this information in
+     * fewer calls should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers for the entities of interest.  Entities that are not known in the
+     *                    metadata collection are skipped.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entities.  Null means return the
+     *                 present values.
+     * @param pageSize the maximum number of relationships that can be returned for each entity.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the relationships and the entities at the far end of the relationships.
+     *         An entity that is only known as a proxy in this metadata collection is not returned.
+     *         Null means no relationships associated with the entities.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the relationships.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getRelationshipsAndRelatedEntities(String               userId,
+                                                            List<String>         entityGUIDs,
+                                                            String               relationshipTypeGUID,
+                                                            List<InstanceStatus> limitResultsByStatus,
+                                                            Date                 asOfTime,
+                                                            int                  pageSize) throws InvalidParameterException,
+                                                                                                  TypeErrorException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  PropertyErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "getRelationshipsAndRelatedEntities";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            InstanceGraph result = metadataCollection.getRelationshipsAndRelatedEntities(userId, entityGUIDs, relationshipTypeGUID, limitResultsByStatus, asOfTime, pageSize);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return a list of entities that match the supplied properties according to the match criteria.  The results
+     * can be returned over many pages.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param matchProperties List of entity properties to match to (null means match on entityTypeGUID only).
+     * @param matchCriteria Enum defining how the properties should be matched to the entities in the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByProperty(String                    userId,
+                                                     String                    entityTypeGUID,
+                                                     InstanceProperties        matchProperties,
+                                                     MatchCriteria             matchCriteria,
+                                                     int                       fromEntityElement,
+                                                     List<InstanceStatus>      limitResultsByStatus,
+                                                     List<String>              limitResultsByClassification,
+                                                     Date                      asOfTime,
+                                                     String                    sequencingProperty,
+                                                     SequencingOrder           sequencingOrder,
+                                                     int                       pageSize) throws InvalidParameterException,
+                                                                                                RepositoryErrorException,
+                                                                                                TypeErrorException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        final String methodName = "findEntitiesByProperty";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<EntityDetail> result = metadataCollection.findEntitiesByProperty(userId, entityTypeGUID, matchProperties, matchCriteria, fromEntityElement, limitResultsByStatus, limitResultsByClassification, asOfTime, sequencingProperty, sequencingOrder, pageSize);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return a list of entities that have the requested type of classifications attached.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity
+     *                       (but could be slow so not recommended.
+     * @param classificationName name of the classification, note a null is not valid.
+     * @param matchClassificationProperties list of classification properties used to narrow the search.
+     * @param matchCriteria Enum defining how the properties should be matched to the classifications in the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException the classification request is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByClassification(String                    userId,
+                                                           String                    entityTypeGUID,
+                                                           String                    classificationName,
+                                                           InstanceProperties        matchClassificationProperties,
+                                                           MatchCriteria             matchCriteria,
+                                                           int                       fromEntityElement,
+                                                           List<InstanceStatus>      limitResultsByStatus,
+                                                           Date                      asOfTime,
+                                                           String                    sequencingProperty,
+                                                           SequencingOrder           sequencingOrder,
+                                                           int                       pageSize) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      ClassificationErrorException,
+                                                                                                      PropertyErrorException,
+                                                                                                      PagingErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        final String methodName = "findEntitiesByClassification";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<EntityDetail> result = metadataCollection.findEntitiesByClassification(userId, entityTypeGUID, classificationName, matchClassificationProperties, matchCriteria, fromEntityElement, limitResultsByStatus, asOfTime, sequencingProperty, sequencingOrder, pageSize);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return a list of entities that have any, or all, of the requested classifications attached.  Each
+     * classification may have its own properties to match.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity.
+     * @param matchClassifications map of classification name to the classification properties used to narrow the
+     *                             search for that classification.  A null properties value matches any
+     *                             classification of that name.
+     * @param matchClassificationCriteria ANY if an entity is returned when it matches any of the classifications,
+     *                                    ALL if it must match all of them.
+     * @param matchPropertiesCriteria Enum defining how the properties should be matched to each classification in
+     *                                the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException one of the classifications is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByClassifications(String                          userId,
+                                                            String                          entityTypeGUID,
+                                                            Map<String, InstanceProperties> matchClassifications,
+                                                            MatchCriteria                   matchClassificationCriteria,
+                                                            MatchCriteria                   matchPropertiesCriteria,
+                                                            int                             fromEntityElement,
+                                                            List<InstanceStatus>            limitResultsByStatus,
+                                                            Date                            asOfTime,
+                                                            String                          sequencingProperty,
+                                                            SequencingOrder                 sequencingOrder,
+                                                            int                             pageSize) throws InvalidParameterException,
+                                                                                                             TypeErrorException,
+                                                                                                             RepositoryErrorException,
+                                                                                                             ClassificationErrorException,
+                                                                                                             PropertyErrorException,
+                                                                                                             PagingErrorException,
+                                                                                                             FunctionNotSupportedException,
+                                                                                                             UserNotAuthorizedException
+    {
+        final String methodName = "findEntitiesByClassifications";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<EntityDetail> result = metadataCollection.findEntitiesByClassifications(userId, entityTypeGUID, matchClassifications, matchClassificationCriteria, matchPropertiesCriteria, fromEntityElement, limitResultsByStatus, asOfTime, sequencingProperty, sequencingOrder, pageSize);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return a list of entities whose string based property values match the search criteria.  The
+     * search criteria may include regex style wild cards.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String expression contained in any of the property values within the entities
+     *                       of the supplied type.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> findEntitiesByPropertyValue(String                userId,
+                                                          String                entityTypeGUID,
+                                                          String                searchCriteria,
+                                                          int                   fromEntityElement,
+                                                          List<InstanceStatus>  limitResultsByStatus,
+                                                          List<String>          limitResultsByClassification,
+                                                          Date                  asOfTime,
+                                                          String                sequencingProperty,
+                                                          SequencingOrder       sequencingOrder,
+                                                          int                   pageSize) throws InvalidParameterException,
+                                                                                                 TypeErrorException,
+                                                                                                 RepositoryErrorException,
+                                                                                                 PropertyErrorException,
+                                                                                                 PagingErrorException,
+                                                                                                 FunctionNotSupportedException,
+                                                                                                 UserNotAuthorizedException
+    {
+        final String methodName = "findEntitiesByPropertyValue";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<EntityDetail> result = metadataCollection.findEntitiesByPropertyValue(userId, entityTypeGUID, searchCriteria, fromEntityElement, limitResultsByStatus, limitResultsByClassification, asOfTime, sequencingProperty, sequencingOrder, pageSize);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Returns a boolean indicating if the relationship is stored in the metadata collection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid String unique identifier for the relationship.
+     * @return relationship if the relationship is found in the metadata collection; otherwise return null.
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship  isRelationshipKnown(String     userId,
+                                             String     guid) throws InvalidParameterException,
+                                                                     RepositoryErrorException,
+                                                                     UserNotAuthorizedException
+    {
+        final String methodName = "isRelationshipKnown";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.isRelationshipKnown(userId, guid);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the current version of a requested relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid String unique identifier for the relationship.
+     * @return a relationship structure.
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws RelationshipNotKnownException the metadata collection does not have a relationship with
+     *                                         the requested GUID stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship getRelationship(String    userId,
+                                        String    guid) throws InvalidParameterException,
+                                                               RepositoryErrorException,
+                                                               RelationshipNotKnownException,
+                                                               UserNotAuthorizedException
+    {
+        final String methodName = "getRelationship";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.getRelationship(userId, guid);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return a historical version of a relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guid String unique identifier for the relationship.
+     * @param asOfTime the time used to determine which version of the entity that is desired.
+     * @return Relationship structure.
+     * @throws InvalidParameterException the guid or date is null or date is for a future time
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws RelationshipNotKnownException the requested entity instance is not known in the metadata collection
+     *                                   at the time requested.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship getRelationship(String    userId,
+                                        String    guid,
+                                        Date      asOfTime) throws InvalidParameterException,
+                                                                   RepositoryErrorException,
+                                                                   RelationshipNotKnownException,
+                                                                   FunctionNotSupportedException,
+                                                                   UserNotAuthorizedException
+    {
+        final String methodName = "getRelationship";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.getRelationship(userId, guid, asOfTime);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return a list of relationships.  This replaces a call to getRelationship() for each relationship.
+     * Repositories that can retrieve many relationships in one call should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the relationships.
+     * @return list of relationships.  Relationships that are not known in the metadata collection are skipped.
+     *         Null means none of the relationships are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String methodName = "getRelationships";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<Relationship> result = metadataCollection.getRelationships(userId, guids);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return a list of relationships that match the requested properties by the matching criteria.   The results
+     * can be received as a series of pages.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param matchProperties list of properties used to narrow the search.  The property values may include
+     *                        regex style wild cards.
+     * @param matchCriteria Enum defining how the properties should be matched to the relationships in the repository.
+     * @param fromRelationshipElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> findRelationshipsByProperty(String                    userId,
+                                                          String                    relationshipTypeGUID,
+                                                          InstanceProperties        matchProperties,
+                                                          MatchCriteria             matchCriteria,
+                                                          int                       fromRelationshipElement,
+                                                          List<InstanceStatus>      limitResultsByStatus,
+                                                          Date                      asOfTime,
+                                                          String                    sequencingProperty,
+                                                          SequencingOrder           sequencingOrder,
+                                                          int                       pageSize) throws InvalidParameterException,
+                                                                                                     TypeErrorException,
+                                                                                                     RepositoryErrorException,
+                                                                                                     PropertyErrorException,
+                                                                                                     PagingErrorException,
+                                                                                                     FunctionNotSupportedException,
+                                                                                                     UserNotAuthorizedException
+    {
+        final String methodName = "findRelationshipsByProperty";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<Relationship> result = metadataCollection.findRelationshipsByProperty(userId, relationshipTypeGUID, matchProperties, matchCriteria, fromRelationshipElement, limitResultsByStatus, asOfTime, sequencingProperty, sequencingOrder, pageSize);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return a list of relationships whose string based property values match the search criteria.  The
+     * search criteria may include regex style wild cards.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID GUID of the type of entity to search for. Null means all types will
+     *                       be searched (could be slow so not recommended).
+     * @param searchCriteria String expression contained in any of the property values within the entities
+     *                       of the supplied type.
+     * @param fromRelationshipElement Element number of the results to skip to when building the results list
+     *                                to return.  Zero means begin at the start of the results.  This is used
+     *                                to retrieve the results over a number of pages.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of relationships.  Null means no matching relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> findRelationshipsByPropertyValue(String                    userId,
+                                                               String                    relationshipTypeGUID,
+                                                               String                    searchCriteria,
+                                                               int                       fromRelationshipElement,
+                                                               List<InstanceStatus>      limitResultsByStatus,
+                                                               Date                      asOfTime,
+                                                               String                    sequencingProperty,
+                                                               SequencingOrder           sequencingOrder,
+                                                               int                       pageSize) throws InvalidParameterException,
+                                                                                                          TypeErrorException,
+                                                                                                          RepositoryErrorException,
+                                                                                                          PropertyErrorException,
+                                                                                                          PagingErrorException,
+                                                                                                          FunctionNotSupportedException,
+                                                                                                          UserNotAuthorizedException
+    {
+        final String methodName = "findRelationshipsByPropertyValue";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<Relationship> result = metadataCollection.findRelationshipsByPropertyValue(userId, relationshipTypeGUID, searchCriteria, fromRelationshipElement, limitResultsByStatus, asOfTime, sequencingProperty, sequencingOrder, pageSize);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return all of the relationships and intermediate entities that connect the startEntity with the endEntity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param startEntityGUID The entity that is used to anchor the query.
+     * @param endEntityGUID the other entity that defines the scope of the query.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by either the startEntityGUID or the endEntityGUID
+     *                                   is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getLinkingEntities(String                    userId,
+                                            String                    startEntityGUID,
+                                            String                    endEntityGUID,
+                                            List<InstanceStatus>      limitResultsByStatus,
+                                            Date                      asOfTime) throws InvalidParameterException,
+                                                                                       RepositoryErrorException,
+                                                                                       EntityNotKnownException,
+                                                                                       PropertyErrorException,
+                                                                                       FunctionNotSupportedException,
+                                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "getLinkingEntities";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            InstanceGraph result = metadataCollection.getLinkingEntities(userId, startEntityGUID, endEntityGUID, limitResultsByStatus, asOfTime);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the entities and relationships that radiate out from the supplied entity GUID.
+     * The results are scoped both the instance type guids and the level.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the starting point of the query.
+     * @param entityTypeGUIDs list of entity types to include in the query results.  Null means include
+     *                          all entities found, irrespective of their type.
+     * @param relationshipTypeGUIDs list of relationship types to include in the query results.  Null means include
+     *                                all relationships found, irrespective of their type.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param level the number of the relationships out from the starting entity that the query will traverse to
+     *              gather results.
+     * @return InstanceGraph the sub-graph that represents the returned linked entities and their relationships.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one of the type guids passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the entityGUID is not found in the metadata collection.
+     * @throws PropertyErrorException there is a problem with one of the other parameters.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getEntityNeighborhood(String               userId,
+                                               String               entityGUID,
+                                               List<String>         entityTypeGUIDs,
+                                               List<String>         relationshipTypeGUIDs,
+                                               List<InstanceStatus> limitResultsByStatus,
+                                               List<String>         limitResultsByClassification,
+                                               Date                 asOfTime,
+                                               int                  level) throws InvalidParameterException,
+                                                                                  TypeErrorException,
+                                                                                  RepositoryErrorException,
+                                                                                  EntityNotKnownException,
+                                                                                  PropertyErrorException,
+                                                                                  FunctionNotSupportedException,
+                                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "getEntityNeighborhood";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            InstanceGraph result = metadataCollection.getEntityNeighborhood(userId, entityGUID, entityTypeGUIDs, relationshipTypeGUIDs, limitResultsByStatus, limitResultsByClassification, asOfTime, level);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the list of entities that are of the types listed in entityTypeGUIDs and are connected, either directly or
+     * indirectly to the entity identified by startEntityGUID.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param startEntityGUID unique identifier of the starting entity.
+     * @param entityTypeGUIDs list of guids for types to search for.  Null means any type.
+     * @param fromEntityElement starting element for results list.  Used in paging.  Zero means first element.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param limitResultsByClassification List of classifications that must be present on all returned entities.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return list of entities either directly or indirectly connected to the start entity
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException one of the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the startEntityGUID
+     *                                   is not found in the metadata collection.
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getRelatedEntities(String                    userId,
+                                                 String                    startEntityGUID,
+                                                 List<String>              entityTypeGUIDs,
+                                                 int                       fromEntityElement,
+                                                 List<InstanceStatus>      limitResultsByStatus,
+                                                 List<String>              limitResultsByClassification,
+                                                 Date                      asOfTime,
+                                                 String                    sequencingProperty,
+                                                 SequencingOrder           sequencingOrder,
+                                                 int                       pageSize) throws InvalidParameterException,
+                                                                                            TypeErrorException,
+                                                                                            RepositoryErrorException,
+                                                                                            EntityNotKnownException,
+                                                                                            PropertyErrorException,
+                                                                                            PagingErrorException,
+                                                                                            FunctionNotSupportedException,
+                                                                                            UserNotAuthorizedException
+    {
+        final String methodName = "getRelatedEntities";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            List<EntityDetail> result = metadataCollection.getRelatedEntities(userId, startEntityGUID, entityTypeGUIDs, fromEntityElement, limitResultsByStatus, limitResultsByClassification, asOfTime, sequencingProperty, sequencingOrder, pageSize);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Create a new entity and put it in the requested state.  The new entity is returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier (guid) for the new entity's type.
+     * @param initialProperties initial list of properties for the new entity; null means no properties.
+     * @param initialClassifications initial list of classifications for the new entity null means no classifications.
+     * @param initialStatus initial status typically DRAFT, PREPARED or ACTIVE.
+     * @return EntityDetail showing the new header plus the requested properties and classifications.  The entity will
+     * not have any relationships at this stage.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for this entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail addEntity(String                     userId,
+                                  String                     entityTypeGUID,
+                                  InstanceProperties         initialProperties,
+                                  List<Classification>       initialClassifications,
+                                  InstanceStatus             initialStatus) throws InvalidParameterException,
+                                                                                   RepositoryErrorException,
+                                                                                   TypeErrorException,
+                                                                                   PropertyErrorException,
+                                                                                   ClassificationErrorException,
+                                                                                   StatusNotSupportedException,
+                                                                                   UserNotAuthorizedException
+    {
+        final String methodName = "addEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.addEntity(userId, entityTypeGUID, initialProperties, initialClassifications, initialStatus);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the entity with the qualifiedName supplied in the initial properties, creating it if no such
+     * entity exists, and report whether the entity was created by this request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier (guid) for the new entity's type.
+     * @param initialProperties initial list of properties for the new entity; must include the qualifiedName.
+     * @param initialClassifications initial list of classifications for the new entity null means no classifications.
+     * @param initialStatus initial status typically DRAFT, PREPARED or ACTIVE.
+     * @param entityCreated set to true if the entity is created by this request.  May be null.
+     * @return EntityDetail for the existing entity or the new entity.
+     * @throws InvalidParameterException one of the parameters is invalid or null, or there is no qualifiedName
+     *                                   in the initial properties.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type, or the qualifiedName
+     *                                  is used by an entity that is not of the requested type or one of its subtypes.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for this entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws PagingErrorException the search for the existing entity failed.
+     * @throws FunctionNotSupportedException the repository does not support searching by property.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail findOrAddEntity(String                     userId,
+                                        String                     entityTypeGUID,
+                                        InstanceProperties         initialProperties,
+                                        List<Classification>       initialClassifications,
+                                        InstanceStatus             initialStatus,
+                                        AtomicBoolean              entityCreated) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         PropertyErrorException,
+                                                                                         ClassificationErrorException,
+                                                                                         StatusNotSupportedException,
+                                                                                         PagingErrorException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String methodName = "findOrAddEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.findOrAddEntity(userId,
+                                                                     entityTypeGUID,
+                                                                     initialProperties,
+                                                                     initialClassifications,
+                                                                     initialStatus,
+                                                                     entityCreated);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
+     * repositories.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityProxy details of entity to add.
+     * @throws InvalidParameterException the entity proxy is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws FunctionNotSupportedException the repository does not support entity proxies as first class elements.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void addEntityProxy(String       userId,
+                               EntityProxy  entityProxy) throws InvalidParameterException,
+                                                                RepositoryErrorException,
+                                                                FunctionNotSupportedException,
+                                                                UserNotAuthorizedException
+    {
+        final String methodName = "addEntityProxy";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.addEntityProxy(userId, entityProxy);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Update the status for a specific entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID unique identifier (guid) for the requested entity.
+     * @param newStatus new InstanceStatus for the entity.
+     * @return EntityDetail showing the current entity header, properties and classifications.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                      the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail updateEntityStatus(String           userId,
+                                           String           entityGUID,
+                                           InstanceStatus   newStatus) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              EntityNotKnownException,
+                                                                              StatusNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String methodName = "updateEntityStatus";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.updateEntityStatus(userId, entityGUID, newStatus);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Update selected properties in an entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier (guid) for the entity.
+     * @param properties a list of properties to change.
+     * @return EntityDetail showing the resulting entity header, properties and classifications.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for this entity's type
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail updateEntityProperties(String               userId,
+                                               String               entityGUID,
+                                               InstanceProperties   properties) throws InvalidParameterException,
+                                                                                       RepositoryErrorException,
+                                                                                       EntityNotKnownException,
+                                                                                       PropertyErrorException,
+                                                                                       UserNotAuthorizedException
+    {
+        final String methodName = "updateEntityProperties";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.updateEntityProperties(userId, entityGUID, properties);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Undo the last update to an entity and return the previous content.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier (guid) for the entity.
+     * @return EntityDetail showing the resulting entity header, properties and classifications.
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support undo.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail undoEntityUpdate(String  userId,
+                                         String  entityGUID) throws InvalidParameterException,
+                                                                    RepositoryErrorException,
+                                                                    EntityNotKnownException,
+                                                                    FunctionNotSupportedException,
+                                                                    UserNotAuthorizedException
+    {
+        final String methodName = "undoEntityUpdate";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.undoEntityUpdate(userId, entityGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Delete an entity.  The entity is soft deleted.  This means it is still in the graph but it is no longer returned
+     * on queries.  All relationships to the entity are also soft-deleted and will no longer be usable.
+     * To completely eliminate the entity from the graph requires a call to the purgeEntity() method after the delete call.
+     * The restoreEntity() method will switch an entity back to Active status to restore the entity to normal use.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param typeDefGUID unique identifier of the type of the entity to delete.
+     * @param typeDefName unique name of the type of the entity to delete.
+     * @param obsoleteEntityGUID String unique identifier (guid) for the entity
+     * @return deleted entity
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection.
+     * @throws FunctionNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       soft-deletes use purgeEntity() to remove the entity permanently.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail  deleteEntity(String    userId,
+                                      String    typeDefGUID,
+                                      String    typeDefName,
+                                      String    obsoleteEntityGUID) throws InvalidParameterException,
+                                                                           RepositoryErrorException,
+                                                                           EntityNotKnownException,
+                                                                           FunctionNotSupportedException,
+                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "deleteEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.deleteEntity(userId, typeDefGUID, typeDefName, obsoleteEntityGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Permanently removes a deleted entity from the metadata collection.  This request can not be undone.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param typeDefGUID unique identifier of the type of the entity to purge.
+     * @param typeDefName unique name of the type of the entity to purge.
+     * @param deletedEntityGUID String unique identifier (guid) for the entity.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection
+     * @throws EntityNotDeletedException the entity is not in DELETED status and so can not be purged
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void purgeEntity(String    userId,
+                            String    typeDefGUID,
+                            String    typeDefName,
+                            String    deletedEntityGUID) throws InvalidParameterException,
+                                                                RepositoryErrorException,
+                                                                EntityNotKnownException,
+                                                                EntityNotDeletedException,
+                                                                UserNotAuthorizedException
+    {
+        final String methodName = "purgeEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.purgeEntity(userId, typeDefGUID, typeDefName, deletedEntityGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Restore the requested entity to the state it was before it was deleted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param deletedEntityGUID String unique identifier (guid) for the entity.
+     * @return EntityDetail showing the restored entity header, properties and classifications.
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     * the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection
+     * @throws EntityNotDeletedException the entity is currently not in DELETED status and so it can not be restored
+     * @throws FunctionNotSupportedException the repository does not support soft-deletes.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail restoreEntity(String    userId,
+                                      String    deletedEntityGUID) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          EntityNotKnownException,
+                                                                          EntityNotDeletedException,
+                                                                          FunctionNotSupportedException,
+                                                                          UserNotAuthorizedException
+    {
+        final String methodName = "restoreEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.restoreEntity(userId, deletedEntityGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Add the requested classification to a specific entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier (guid) for the entity.
+     * @param classificationName String name for the classification.
+     * @param classificationProperties list of properties to set in the classification.
+     * @return EntityDetail showing the resulting entity header, properties and classifications.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection
+     * @throws ClassificationErrorException the requested classification is either not known or not valid
+     *                                         for the entity.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for this classification type
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail classifyEntity(String               userId,
+                                       String               entityGUID,
+                                       String               classificationName,
+                                       InstanceProperties   classificationProperties) throws InvalidParameterException,
+                                                                                             RepositoryErrorException,
+                                                                                             EntityNotKnownException,
+                                                                                             ClassificationErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String methodName = "classifyEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.classifyEntity(userId, entityGUID, classificationName, classificationProperties);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Remove a specific classification from an entity.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier (guid) for the entity.
+     * @param classificationName String name for the classification.
+     * @return EntityDetail showing the resulting entity header, properties and classifications.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection
+     * @throws ClassificationErrorException the requested classification is not set on the entity.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail declassifyEntity(String  userId,
+                                         String  entityGUID,
+                                         String  classificationName) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            EntityNotKnownException,
+                                                                            ClassificationErrorException,
+                                                                            UserNotAuthorizedException
+    {
+        final String methodName = "declassifyEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.declassifyEntity(userId, entityGUID, classificationName);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Update one or more properties in one of an entity's classifications.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier (guid) for the entity.
+     * @param classificationName String name for the classification.
+     * @param properties list of properties for the classification.
+     * @return EntityDetail showing the resulting entity header, properties and classifications.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection
+     * @throws ClassificationErrorException the requested classification is not attached to the classification.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for this classification type
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail updateEntityClassification(String               userId,
+                                                   String               entityGUID,
+                                                   String               classificationName,
+                                                   InstanceProperties   properties) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           EntityNotKnownException,
+                                                                                           ClassificationErrorException,
+                                                                                           PropertyErrorException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "updateEntityClassification";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.updateEntityClassification(userId, entityGUID, classificationName, properties);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Add a new relationship between two entities to the metadata collection.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.
+     * @param initialProperties initial list of properties for the new entity; null means no properties.
+     * @param entityOneGUID the unique identifier of one of the entities that the relationship is connecting together.
+     * @param entityTwoGUID the unique identifier of the other entity that the relationship is connecting together.
+     * @param initialStatus initial status; typically DRAFT, PREPARED or ACTIVE.
+     * @return Relationship structure with the new header, requested entities and properties.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityNotKnownException one of the requested entities is not known in the metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship addRelationship(String               userId,
+                                        String               relationshipTypeGUID,
+                                        InstanceProperties   initialProperties,
+                                        String               entityOneGUID,
+                                        String               entityTwoGUID,
+                                        InstanceStatus       initialStatus) throws InvalidParameterException,
+                                                                                   RepositoryErrorException,
+                                                                                   TypeErrorException,
+                                                                                   PropertyErrorException,
+                                                                                   EntityNotKnownException,
+                                                                                   StatusNotSupportedException,
+                                                                                   UserNotAuthorizedException
+    {
+        final String methodName = "addRelationship";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.addRelationship(userId, relationshipTypeGUID, initialProperties, entityOneGUID, entityTwoGUID, initialStatus);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Update the status of a specific relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUID String unique identifier (guid) for the relationship.
+     * @param newStatus new InstanceStatus for the relationship.
+     * @return Resulting relationship structure with the new status set.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws RelationshipNotKnownException the requested relationship is not known in the metadata collection.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     the requested status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship updateRelationshipStatus(String           userId,
+                                                 String           relationshipGUID,
+                                                 InstanceStatus   newStatus) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    RelationshipNotKnownException,
+                                                                                    StatusNotSupportedException,
+                                                                                    UserNotAuthorizedException
+    {
+        final String methodName = "updateRelationshipStatus";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.updateRelationshipStatus(userId, relationshipGUID, newStatus);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Update the properties of a specific relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUID String unique identifier (guid) for the relationship.
+     * @param properties list of the properties to update.
+     * @return Resulting relationship structure with the new properties set.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws RelationshipNotKnownException the requested relationship is not known in the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                characteristics in the TypeDef for this relationship's type.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship updateRelationshipProperties(String               userId,
+                                                     String               relationshipGUID,
+                                                     InstanceProperties   properties) throws InvalidParameterException,
+                                                                                             RepositoryErrorException,
+                                                                                             RelationshipNotKnownException,
+                                                                                             PropertyErrorException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String methodName = "updateRelationshipProperties";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.updateRelationshipProperties(userId, relationshipGUID, properties);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Undo the latest change to a relationship (either a change of properties or status).
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUID String unique identifier (guid) for the relationship.
+     * @return Relationship structure with the new current header, requested entities and properties.
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws RelationshipNotKnownException the requested relationship is not known in the metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support undo.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship undoRelationshipUpdate(String  userId,
+                                               String  relationshipGUID) throws InvalidParameterException,
+                                                                                RepositoryErrorException,
+                                                                                RelationshipNotKnownException,
+                                                                                FunctionNotSupportedException,
+                                                                                UserNotAuthorizedException
+    {
+        final String methodName = "undoRelationshipUpdate";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.undoRelationshipUpdate(userId, relationshipGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Delete a specific relationship.  This is a soft-delete which means the relationship's status is updated to
+     * DELETED and it is no longer available for queries.  To remove the relationship permanently from the
+     * metadata collection, use purgeRelationship().
+     *
+     * @param userId unique identifier for requesting user.
+     * @param typeDefGUID unique identifier of the type of the relationship to delete.
+     * @param typeDefName unique name of the type of the relationship to delete.
+     * @param obsoleteRelationshipGUID String unique identifier (guid) for the relationship.
+     * @return deleted relationship
+     * @throws InvalidParameterException one of the parameters is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     * the metadata collection is stored.
+     * @throws RelationshipNotKnownException the requested relationship is not known in the metadata collection.
+     * @throws FunctionNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                     soft-deletes.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship deleteRelationship(String userId,
+                                           String typeDefGUID,
+                                           String typeDefName,
+                                           String obsoleteRelationshipGUID) throws InvalidParameterException,
+                                                                                   RepositoryErrorException,
+                                                                                   RelationshipNotKnownException,
+                                                                                   FunctionNotSupportedException,
+                                                                                   UserNotAuthorizedException
+    {
+        final String methodName = "deleteRelationship";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.deleteRelationship(userId, typeDefGUID, typeDefName, obsoleteRelationshipGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Permanently delete the relationship from the repository.  There is no means to undo this request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param typeDefGUID unique identifier of the type of the relationship to purge.
+     * @param typeDefName unique name of the type of the relationship to purge.
+     * @param deletedRelationshipGUID String unique identifier (guid) for the relationship.
+     * @throws InvalidParameterException one of the parameters is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws RelationshipNotKnownException the requested relationship is not known in the metadata collection.
+     * @throws RelationshipNotDeletedException the requested relationship is not in DELETED status.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void purgeRelationship(String    userId,
+                                  String    typeDefGUID,
+                                  String    typeDefName,
+                                  String    deletedRelationshipGUID) throws InvalidParameterException,
+                                                                            RepositoryErrorException,
+                                                                            RelationshipNotKnownException,
+                                                                            RelationshipNotDeletedException,
+                                                                            UserNotAuthorizedException
+    {
+        final String methodName = "purgeRelationship";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.purgeRelationship(userId, typeDefGUID, typeDefName, deletedRelationshipGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Restore a deleted relationship into the metadata collection.  The new status will be ACTIVE and the
+     * restored details of the relationship are returned to the caller.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param deletedRelationshipGUID String unique identifier (guid) for the relationship.
+     * @return Relationship structure with the restored header, requested entities and properties.
+     * @throws InvalidParameterException the guid is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     * the metadata collection is stored.
+     * @throws RelationshipNotKnownException the requested relationship is not known in the metadata collection.
+     * @throws RelationshipNotDeletedException the requested relationship is not in DELETED status.
+     * @throws FunctionNotSupportedException the repository does not support soft-deletes.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship restoreRelationship(String    userId,
+                                            String    deletedRelationshipGUID) throws InvalidParameterException,
+                                                                                      RepositoryErrorException,
+                                                                                      RelationshipNotKnownException,
+                                                                                      RelationshipNotDeletedException,
+                                                                                      FunctionNotSupportedException,
+                                                                                      UserNotAuthorizedException
+    {
+        final String methodName = "restoreRelationship";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.restoreRelationship(userId, deletedRelationshipGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Change the guid of an existing entity to a new value.  This is used if two different
+     * entities are discovered to have the same guid.  This is extremely unlikely but not impossible so
+     * the open metadata protocol has provision for this.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param typeDefGUID the guid of the TypeDef for the entity used to verify the entity identity.
+     * @param typeDefName the name of the TypeDef for the entity used to verify the entity identity.
+     * @param entityGUID the existing identifier for the entity.
+     * @param newEntityGUID new unique identifier for this entity.
+     * @return entity new values for this entity, including the new guid.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support the re-identification of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail reIdentifyEntity(String     userId,
+                                         String     typeDefGUID,
+                                         String     typeDefName,
+                                         String     entityGUID,
+                                         String     newEntityGUID) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          EntityNotKnownException,
+                                                                          FunctionNotSupportedException,
+                                                                          UserNotAuthorizedException
+    {
+        final String methodName = "reIdentifyEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.reIdentifyEntity(userId, typeDefGUID, typeDefName, entityGUID, newEntityGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Change the type of an existing entity.  Typically this action is taken to move an entity's
+     * type to either a super type (so the subtype can be deleted) or a new subtype (so additional properties can be
+     * added.)  However, the type can be changed to any compatible type and the properties adjusted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the unique identifier for the entity to change.
+     * @param currentTypeDefSummary the current details of the TypeDef for the entity used to verify the entity identity
+     * @param newTypeDefSummary details of this entity's new TypeDef.
+     * @return entity new values for this entity, including the new type information.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException The properties in the instance are incompatible with the requested type.
+     * @throws ClassificationErrorException the entity's classifications are not valid for the new type.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support the re-typing of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail reTypeEntity(String         userId,
+                                     String         entityGUID,
+                                     TypeDefSummary currentTypeDefSummary,
+                                     TypeDefSummary newTypeDefSummary) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              PropertyErrorException,
+                                                                              ClassificationErrorException,
+                                                                              EntityNotKnownException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String methodName = "reTypeEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.reTypeEntity(userId, entityGUID, currentTypeDefSummary, newTypeDefSummary);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Change the home of an existing entity.  This action is taken for example, if the original home repository
+     * becomes permanently unavailable, or if the user community updating this entity move to working
+     * from a different repository in the open metadata repository cohort.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID the unique identifier for the entity to change.
+     * @param typeDefGUID the guid of the TypeDef for the entity used to verify the entity identity.
+     * @param typeDefName the name of the TypeDef for the entity used to verify the entity identity.
+     * @param homeMetadataCollectionId the existing identifier for this entity's home.
+     * @param newHomeMetadataCollectionId unique identifier for the new home metadata collection/repository.
+     * @return entity new values for this entity, including the new home information.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support the re-homing of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail reHomeEntity(String         userId,
+                                     String         entityGUID,
+                                     String         typeDefGUID,
+                                     String         typeDefName,
+                                     String         homeMetadataCollectionId,
+                                     String         newHomeMetadataCollectionId) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        EntityNotKnownException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String methodName = "reHomeEntity";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            EntityDetail result = metadataCollection.reHomeEntity(userId, entityGUID, typeDefGUID, typeDefName, homeMetadataCollectionId, newHomeMetadataCollectionId);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Change the guid of an existing relationship.  This is used if two different
+     * relationships are discovered to have the same guid.  This is extremely unlikely but not impossible so
+     * the open metadata protocol has provision for this.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param typeDefGUID the guid of the TypeDef for the relationship used to verify the relationship identity.
+     * @param typeDefName the name of the TypeDef for the relationship used to verify the relationship identity.
+     * @param relationshipGUID the existing identifier for the relationship.
+     * @param newRelationshipGUID the new unique identifier for the relationship.
+     * @return relationship new values for this relationship, including the new guid.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws RelationshipNotKnownException the relationship identified by the guid is not found in the
+     *                                         metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support the re-identification of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship reIdentifyRelationship(String     userId,
+                                               String     typeDefGUID,
+                                               String     typeDefName,
+                                               String     relationshipGUID,
+                                               String     newRelationshipGUID) throws InvalidParameterException,
+                                                                                      RepositoryErrorException,
+                                                                                      RelationshipNotKnownException,
+                                                                                      FunctionNotSupportedException,
+                                                                                      UserNotAuthorizedException
+    {
+        final String methodName = "reIdentifyRelationship";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.reIdentifyRelationship(userId, typeDefGUID, typeDefName, relationshipGUID, newRelationshipGUID);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Change the type of an existing relationship.  Typically this action is taken to move a relationship's
+     * type to either a super type (so the subtype can be deleted) or a new subtype (so additional properties can be
+     * added.)  However, the type can be changed to any compatible type.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUID the unique identifier for the relationship.
+     * @param currentTypeDefSummary the details of the TypeDef for the relationship used to verify the relationship identity.
+     * @param newTypeDefSummary details of this relationship's new TypeDef.
+     * @return relationship new values for this relationship, including the new type information.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException The properties in the instance are incompatible with the requested type.
+     * @throws RelationshipNotKnownException the relationship identified by the guid is not found in the
+     *                                         metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support the re-typing of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship reTypeRelationship(String         userId,
+                                           String         relationshipGUID,
+                                           TypeDefSummary currentTypeDefSummary,
+                                           TypeDefSummary newTypeDefSummary) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    TypeErrorException,
+                                                                                    PropertyErrorException,
+                                                                                    RelationshipNotKnownException,
+                                                                                    FunctionNotSupportedException,
+                                                                                    UserNotAuthorizedException
+    {
+        final String methodName = "reTypeRelationship";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.reTypeRelationship(userId, relationshipGUID, currentTypeDefSummary, newTypeDefSummary);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Change the home of an existing relationship.  This action is taken for example, if the original home repository
+     * becomes permanently unavailable, or if the user community updating this relationship move to working
+     * from a different repository in the open metadata repository cohort.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipGUID the unique identifier for the relationship.
+     * @param typeDefGUID the guid of the TypeDef for the relationship used to verify the relationship identity.
+     * @param typeDefName the name of the TypeDef for the relationship used to verify the relationship identity.
+     * @param homeMetadataCollectionId the existing identifier for this relationship's home.
+     * @param newHomeMetadataCollectionId unique identifier for the new home metadata collection/repository.
+     * @return relationship new values for this relationship, including the new home information.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws RelationshipNotKnownException the relationship identified by the guid is not found in the
+     *                                         metadata collection.
+     * @throws FunctionNotSupportedException the repository does not support the re-homing of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public Relationship reHomeRelationship(String   userId,
+                                           String   relationshipGUID,
+                                           String   typeDefGUID,
+                                           String   typeDefName,
+                                           String   homeMetadataCollectionId,
+                                           String   newHomeMetadataCollectionId) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        RelationshipNotKnownException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String methodName = "reHomeRelationship";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            Relationship result = metadataCollection.reHomeRelationship(userId, relationshipGUID, typeDefGUID, typeDefName, homeMetadataCollectionId, newHomeMetadataCollectionId);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, result);
+
+            return result;
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Save the entity as a reference copy.  The id of the home metadata collection is already set up in the
+     * entity.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param entity details of the entity to save.
+     * @throws InvalidParameterException the entity is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type.
+     * @throws HomeEntityException the entity belongs to the local repository so creating a reference
+     *                               copy would be invalid.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveEntityReferenceCopy(String         userId,
+                                        EntityDetail   entity) throws InvalidParameterException,
+                                                                      RepositoryErrorException,
+                                                                      TypeErrorException,
+                                                                      PropertyErrorException,
+                                                                      HomeEntityException,
+                                                                      EntityConflictException,
+                                                                      InvalidEntityException,
+                                                                      FunctionNotSupportedException,
+                                                                      UserNotAuthorizedException
+    {
+        final String methodName = "saveEntityReferenceCopy";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.saveEntityReferenceCopy(userId, entity);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Remove a reference copy of the the entity from the local repository.  This method can be used to
+     * remove reference copies from the local cohort, repositories that have left the cohort,
+     * or entities that have come from open metadata archives.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param entityGUID the unique identifier for the entity.
+     * @param typeDefGUID the guid of the TypeDef for the relationship used to verify the relationship identity.
+     * @param typeDefName the name of the TypeDef for the relationship used to verify the relationship identity.
+     * @param homeMetadataCollectionId identifier of the metadata collection that is the home to this entity.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection.
+     * @throws HomeEntityException the entity belongs to the local repository so creating a reference
+     *                               copy would be invalid.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void purgeEntityReferenceCopy(String   userId,
+                                         String   entityGUID,
+                                         String   typeDefGUID,
+                                         String   typeDefName,
+                                         String   homeMetadataCollectionId) throws InvalidParameterException,
+                                                                                   RepositoryErrorException,
+                                                                                   EntityNotKnownException,
+                                                                                   HomeEntityException,
+                                                                                   FunctionNotSupportedException,
+                                                                                   UserNotAuthorizedException
+    {
+        final String methodName = "purgeEntityReferenceCopy";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.purgeEntityReferenceCopy(userId, entityGUID, typeDefGUID, typeDefName, homeMetadataCollectionId);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * The local repository has requested that the repository that hosts the home metadata collection for the
+     * specified entity sends out the details of this entity so the local repository can create a reference copy.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param entityGUID unique identifier of requested entity.
+     * @param typeDefGUID unique identifier of requested entity's TypeDef.
+     * @param typeDefName unique name of requested entity's TypeDef.
+     * @param homeMetadataCollectionId identifier of the metadata collection that is the home to this entity.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws EntityNotKnownException the entity identified by the guid is not found in the metadata collection.
+     * @throws HomeEntityException the entity belongs to the local repository so creating a reference
+     *                               copy would be invalid.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void refreshEntityReferenceCopy(String   userId,
+                                           String   entityGUID,
+                                           String   typeDefGUID,
+                                           String   typeDefName,
+                                           String   homeMetadataCollectionId) throws InvalidParameterException,
+                                                                                     RepositoryErrorException,
+                                                                                     EntityNotKnownException,
+                                                                                     HomeEntityException,
+                                                                                     FunctionNotSupportedException,
+                                                                                     UserNotAuthorizedException
+    {
+        final String methodName = "refreshEntityReferenceCopy";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.refreshEntityReferenceCopy(userId, entityGUID, typeDefGUID, typeDefName, homeMetadataCollectionId);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Save the relationship as a reference copy.  The id of the home metadata collection is already set up in the
+     * relationship.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param relationship relationship to save.
+     * @throws InvalidParameterException the relationship is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws HomeRelationshipException the relationship belongs to the local repository so creating a reference
+     *                                     copy would be invalid.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveRelationshipReferenceCopy(String         userId,
+                                              Relationship   relationship) throws InvalidParameterException,
+                                                                                  RepositoryErrorException,
+                                                                                  TypeErrorException,
+                                                                                  EntityNotKnownException,
+                                                                                  PropertyErrorException,
+                                                                                  HomeRelationshipException,
+                                                                                  RelationshipConflictException,
+                                                                                  InvalidRelationshipException,
+                                                                                  FunctionNotSupportedException,
+                                                                                  UserNotAuthorizedException
+    {
+        final String methodName = "saveRelationshipReferenceCopy";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.saveRelationshipReferenceCopy(userId, relationship);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Remove the reference copy of the relationship from the local repository. This method can be used to
+     * remove reference copies from the local cohort, repositories that have left the cohort,
+     * or relationships that have come from open metadata archives.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param relationshipGUID the unique identifier for the relationship.
+     * @param typeDefGUID the guid of the TypeDef for the relationship used to verify the relationship identity.
+     * @param typeDefName the name of the TypeDef for the relationship used to verify the relationship identity.
+     * @param homeMetadataCollectionId unique identifier for the home repository for this relationship.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws RelationshipNotKnownException the relationship identifier is not recognized.
+     * @throws HomeRelationshipException the relationship belongs to the local repository so creating a reference
+     *                                     copy would be invalid.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void purgeRelationshipReferenceCopy(String   userId,
+                                               String   relationshipGUID,
+                                               String   typeDefGUID,
+                                               String   typeDefName,
+                                               String   homeMetadataCollectionId) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         RelationshipNotKnownException,
+                                                                                         HomeRelationshipException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String methodName = "purgeRelationshipReferenceCopy";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.purgeRelationshipReferenceCopy(userId, relationshipGUID, typeDefGUID, typeDefName, homeMetadataCollectionId);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * The local repository has requested that the repository that hosts the home metadata collection for the
+     * specified relationship sends out the details of this relationship so the local repository can create a
+     * reference copy.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param relationshipGUID unique identifier of the relationship.
+     * @param typeDefGUID the guid of the TypeDef for the relationship used to verify the relationship identity.
+     * @param typeDefName the name of the TypeDef for the relationship used to verify the relationship identity.
+     * @param homeMetadataCollectionId unique identifier for the home repository for this relationship.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws RelationshipNotKnownException the relationship identifier is not recognized.
+     * @throws HomeRelationshipException the relationship belongs to the local repository so creating a reference
+     *                                     copy would be invalid.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void refreshRelationshipReferenceCopy(String   userId,
+                                                 String   relationshipGUID,
+                                                 String   typeDefGUID,
+                                                 String   typeDefName,
+                                                 String   homeMetadataCollectionId) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           RelationshipNotKnownException,
+                                                                                           HomeRelationshipException,
+                                                                                           FunctionNotSupportedException,
+                                                                                           UserNotAuthorizedException
+    {
+        final String methodName = "refreshRelationshipReferenceCopy";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.refreshRelationshipReferenceCopy(userId, relationshipGUID, typeDefGUID, typeDefName, homeMetadataCollectionId);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Save the entities and relationships supplied in the instance graph as a reference copies.
+     * The id of the home metadata collection is already set up in the instances.
+     * Any instances from the home metadata collection are ignored.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param instances instances to save.
+     * @throws InvalidParameterException the relationship is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              EntityNotKnownException,
+                                                                              PropertyErrorException,
+                                                                              EntityConflictException,
+                                                                              RelationshipConflictException,
+                                                                              InvalidEntityException,
+                                                                              InvalidRelationshipException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String methodName = "saveInstanceReferenceCopies";
+
+        long startTime = OMRSMetrics.startTimer();
+
+        try
+        {
+            metadataCollection.saveInstanceReferenceCopies(userId, instances);
+
+            OMRSMetrics.recordSuccess(memberName, methodName, startTime, null);
+        }
+        catch (Throwable error)
+        {
+            OMRSMetrics.recordFailure(memberName, methodName, startTime);
+
+            throw error;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import java.util.List;
+
+
+/**
+ * OMRSMetricsRegistry is the interface to the component that accumulates the measurements of the calls
+ * made to the metadata collections.  OMRSInMemoryMetricsRegistry is the default implementation.  An alternative
+ * implementation can be plugged in through OMRSMetrics to pass the measurements to an external
+ * monitoring system.  Implementations must be thread-safe since the calls are recorded from many threads at once.
+ */
+public interface OMRSMetricsRegistry
+{
+    /**
+     * Record a call to an operation of a metadata collection.
+     *
+     * @param memberName name of the repository (cohort member) that handled the call
+     * @param operationName name of the metadata collection method
+     * @param elapsedNanos elapsed time of the call
+     * @param resultSize number of elements returned by the call
+     * @param failed the call returned an exception
+     */
+    void recordCall(String  memberName,
+                    String  operationName,
+                    long    elapsedNanos,
+                    long    resultSize,
+                    boolean failed);
+
+
+    /**
+     * Return a snapshot of the measurements accumulated since the registry was created or last reset.
+     *
+     * @return list of measurements for each operation of each member
+     */
+    List<OMRSOperationMetrics> getOperationMetrics();
+
+
+    /**
+     * Discard the accumulated measurements.
+     */
+    void reset();
+}
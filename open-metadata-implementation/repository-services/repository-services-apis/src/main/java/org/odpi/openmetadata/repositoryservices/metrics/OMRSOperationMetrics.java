@@ -0,0 +1,371 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * OMRSOperationMetrics holds the measurements of the calls to one operation (metadata collection method)
+ * of one cohort member.  The latency histogram maps the upper bound of each bucket (for example "5ms")
+ * to the number of calls that completed within that bound and above the bound of the previous bucket.
+ * Calls slower than the largest bound are counted in the "overflow" bucket.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class OMRSOperationMetrics implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private String            memberName         = null;
+    private String            operationName      = null;
+    private long              callCount          = 0;
+    private long              errorCount         = 0;
+    private double            totalLatencyMillis = 0;
+    private double            meanLatencyMillis  = 0;
+    private double            maxLatencyMillis   = 0;
+    private Map<String, Long> latencyHistogram   = null;
+    private long              totalResultSize    = 0;
+    private long              maxResultSize      = 0;
+
+
+    /**
+     * Default constructor
+     */
+    public OMRSOperationMetrics()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public OMRSOperationMetrics(OMRSOperationMetrics template)
+    {
+        if (template != null)
+        {
+            memberName = template.getMemberName();
+            operationName = template.getOperationName();
+            callCount = template.getCallCount();
+            errorCount = template.getErrorCount();
+            totalLatencyMillis = template.getTotalLatencyMillis();
+            meanLatencyMillis = template.getMeanLatencyMillis();
+            maxLatencyMillis = template.getMaxLatencyMillis();
+            latencyHistogram = template.getLatencyHistogram();
+            totalResultSize = template.getTotalResultSize();
+            maxResultSize = template.getMaxResultSize();
+        }
+    }
+
+
+    /**
+     * Return the name of the repository (cohort member) that handled the calls.
+     *
+     * @return repository name
+     */
+    public String getMemberName()
+    {
+        return memberName;
+    }
+
+
+    /**
+     * Set up the name of the repository (cohort member) that handled the calls.
+     *
+     * @param memberName repository name
+     */
+    public void setMemberName(String memberName)
+    {
+        this.memberName = memberName;
+    }
+
+
+    /**
+     * Return the name of the metadata collection method.
+     *
+     * @return method name
+     */
+    public String getOperationName()
+    {
+        return operationName;
+    }
+
+
+    /**
+     * Set up the name of the metadata collection method.
+     *
+     * @param operationName method name
+     */
+    public void setOperationName(String operationName)
+    {
+        this.operationName = operationName;
+    }
+
+
+    /**
+     * Return the number of calls, including those that failed.
+     *
+     * @return count
+     */
+    public long getCallCount()
+    {
+        return callCount;
+    }
+
+
+    /**
+     * Set up the number of calls, including those that failed.
+     *
+     * @param callCount count
+     */
+    public void setCallCount(long callCount)
+    {
+        this.callCount = callCount;
+    }
+
+
+    /**
+     * Return the number of calls that returned an exception.
+     *
+     * @return count
+     */
+    public long getErrorCount()
+    {
+        return errorCount;
+    }
+
+
+    /**
+     * Set up the number of calls that returned an exception.
+     *
+     * @param errorCount count
+     */
+    public void setErrorCount(long errorCount)
+    {
+        this.errorCount = errorCount;
+    }
+
+
+    /**
+     * Return the total time spent in the calls.
+     *
+     * @return milliseconds
+     */
+    public double getTotalLatencyMillis()
+    {
+        return totalLatencyMillis;
+    }
+
+
+    /**
+     * Set up the total time spent in the calls.
+     *
+     * @param totalLatencyMillis milliseconds
+     */
+    public void setTotalLatencyMillis(double totalLatencyMillis)
+    {
+        this.totalLatencyMillis = totalLatencyMillis;
+    }
+
+
+    /**
+     * Return the average time spent in a call.
+     *
+     * @return milliseconds
+     */
+    public double getMeanLatencyMillis()
+    {
+        return meanLatencyMillis;
+    }
+
+
+    /**
+     * Set up the average time spent in a call.
+     *
+     * @param meanLatencyMillis milliseconds
+     */
+    public void setMeanLatencyMillis(double meanLatencyMillis)
+    {
+        this.meanLatencyMillis = meanLatencyMillis;
+    }
+
+
+    /**
+     * Return the time spent in the slowest call.
+     *
+     * @return milliseconds
+     */
+    public double getMaxLatencyMillis()
+    {
+        return maxLatencyMillis;
+    }
+
+
+    /**
+     * Set up the time spent in the slowest call.
+     *
+     * @param maxLatencyMillis milliseconds
+     */
+    public void setMaxLatencyMillis(double maxLatencyMillis)
+    {
+        this.maxLatencyMillis = maxLatencyMillis;
+    }
+
+
+    /**
+     * Return the number of calls in each latency bucket.
+     *
+     * @return map of bucket upper bound to count
+     */
+    public Map<String, Long> getLatencyHistogram()
+    {
+        if (latencyHistogram == null)
+        {
+            return null;
+        }
+        else if (latencyHistogram.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new LinkedHashMap<>(latencyHistogram);
+        }
+    }
+
+
+    /**
+     * Set up the number of calls in each latency bucket.
+     *
+     * @param latencyHistogram map of bucket upper bound to count
+     */
+    public void setLatencyHistogram(Map<String, Long> latencyHistogram)
+    {
+        this.latencyHistogram = latencyHistogram;
+    }
+
+
+    /**
+     * Return the total number of elements (types, entities, relationships) returned by the calls.
+     *
+     * @return count
+     */
+    public long getTotalResultSize()
+    {
+        return totalResultSize;
+    }
+
+
+    /**
+     * Set up the total number of elements (types, entities, relationships) returned by the calls.
+     *
+     * @param totalResultSize count
+     */
+    public void setTotalResultSize(long totalResultSize)
+    {
+        this.totalResultSize = totalResultSize;
+    }
+
+
+    /**
+     * Return the largest number of elements returned by a single call.
+     *
+     * @return count
+     */
+    public long getMaxResultSize()
+    {
+        return maxResultSize;
+    }
+
+
+    /**
+     * Set up the largest number of elements returned by a single call.
+     *
+     * @param maxResultSize count
+     */
+    public void setMaxResultSize(long maxResultSize)
+    {
+        this.maxResultSize = maxResultSize;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSOperationMetrics{" +
+                "memberName='" + memberName + '\'' +
+                ", operationName='" + operationName + '\'' +
+                ", callCount=" + callCount +
+                ", errorCount=" + errorCount +
+                ", totalLatencyMillis=" + totalLatencyMillis +
+                ", meanLatencyMillis=" + meanLatencyMillis +
+                ", maxLatencyMillis=" + maxLatencyMillis +
+                ", latencyHistogram=" + latencyHistogram +
+                ", totalResultSize=" + totalResultSize +
+                ", maxResultSize=" + maxResultSize +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof OMRSOperationMetrics))
+        {
+            return false;
+        }
+        OMRSOperationMetrics that = (OMRSOperationMetrics) objectToCompare;
+        return getCallCount() == that.getCallCount() &&
+                getErrorCount() == that.getErrorCount() &&
+                Double.compare(that.getTotalLatencyMillis(), getTotalLatencyMillis()) == 0 &&
+                Double.compare(that.getMeanLatencyMillis(), getMeanLatencyMillis()) == 0 &&
+                Double.compare(that.getMaxLatencyMillis(), getMaxLatencyMillis()) == 0 &&
+                getTotalResultSize() == that.getTotalResultSize() &&
+                getMaxResultSize() == that.getMaxResultSize() &&
+                Objects.equals(getMemberName(), that.getMemberName()) &&
+                Objects.equals(getOperationName(), that.getOperationName()) &&
+                Objects.equals(getLatencyHistogram(), that.getLatencyHistogram());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getMemberName(), getOperationName(), getCallCount(), getErrorCount(),
+                            getTotalLatencyMillis(), getMeanLatencyMillis(), getMaxLatencyMillis(),
+                            getLatencyHistogram(), getTotalResultSize(), getMaxResultSize());
+    }
+}
@@ -0,0 +1,170 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSOperationMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * OperationMetricsResponse is the response structure used on the OMRS REST API call that returns the
+ * measurements of the calls made to the metadata collections of the server.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class OperationMetricsResponse extends OMRSAPIResponse
+{
+    private boolean                    metricsEnabled   = false;
+    private List<OMRSOperationMetrics> operationMetrics = null;
+
+
+    /**
+     * Default constructor
+     */
+    public OperationMetricsResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public OperationMetricsResponse(OperationMetricsResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            metricsEnabled = template.isMetricsEnabled();
+            operationMetrics = template.getOperationMetrics();
+        }
+    }
+
+
+    /**
+     * Return whether the calls are currently being measured.
+     *
+     * @return boolean flag
+     */
+    public boolean isMetricsEnabled()
+    {
+        return metricsEnabled;
+    }
+
+
+    /**
+     * Set up whether the calls are currently being measured.
+     *
+     * @param metricsEnabled boolean flag
+     */
+    public void setMetricsEnabled(boolean metricsEnabled)
+    {
+        this.metricsEnabled = metricsEnabled;
+    }
+
+
+    /**
+     * Return the measurements for each operation of each member.
+     *
+     * @return list of measurements
+     */
+    public List<OMRSOperationMetrics> getOperationMetrics()
+    {
+        if (operationMetrics == null)
+        {
+            return null;
+        }
+        else if (operationMetrics.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(operationMetrics);
+        }
+    }
+
+
+    /**
+     * Set up the measurements for each operation of each member.
+     *
+     * @param operationMetrics list of measurements
+     */
+    public void setOperationMetrics(List<OMRSOperationMetrics> operationMetrics)
+    {
+        this.operationMetrics = operationMetrics;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OperationMetricsResponse{" +
+                "metricsEnabled=" + metricsEnabled +
+                ", operationMetrics=" + operationMetrics +
+                ", relatedHTTPCode=" + relatedHTTPCode +
+                ", exceptionClassName='" + exceptionClassName + '\'' +
+                ", exceptionErrorMessage='" + exceptionErrorMessage + '\'' +
+                ", exceptionSystemAction='" + exceptionSystemAction + '\'' +
+                ", exceptionUserAction='" + exceptionUserAction + '\'' +
+                ", exceptionProperties=" + exceptionProperties +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof OperationMetricsResponse))
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        OperationMetricsResponse that = (OperationMetricsResponse) objectToCompare;
+        return isMetricsEnabled() == that.isMetricsEnabled() &&
+                Objects.equals(getOperationMetrics(), that.getOperationMetrics());
+    }
+
+
+    /**
+     * Create a hash code for this element type.
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), isMetricsEnabled(), getOperationMetrics());
+    }
+}
@@ -0,0 +1,297 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.wireformat;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * OMRSWireFormat defines the encodings that can be used for the payloads of the OMRS REST API and
+ * the events sent over the OMRS Topic.
+ * <ul>
+ *     <li>
+ *         JSON: the default text encoding.  Every server in the cohort understands it.
+ *     </li>
+ *     <li>
+ *         SMILE: a binary encoding of the same JSON data model.  Property names and repeated string values
+ *         (such as type names and property categories) are written once and then back-referenced
+ *         so payloads are smaller and quicker to parse.
+ *     </li>
+ * </ul>
+ * The wire format is selected through the "wireFormat" additional property of the connection for the
+ * OMRS Topic connector or the OMRS REST repository connector.  Inbound payloads are always decoded according to
+ * the format they are received in, so servers using different wire formats can be members of the same cohort.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum OMRSWireFormat implements Serializable
+{
+    JSON (0, "JSON",  "application/json",          "Text-based JSON encoding"),
+    SMILE(1, "SMILE", "application/x-jackson-smile", "Binary JSON encoding with shared property names and values");
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Name of the connection's additional property used to select the wire format.
+     */
+    public static final String WIRE_FORMAT_PROPERTY_NAME = "wireFormat";
+
+    private int    ordinal;
+    private String name;
+    private String contentType;
+    private String description;
+
+
+    /**
+     * Default constructor.
+     *
+     * @param ordinal int code number
+     * @param name String name
+     * @param contentType String HTTP media type
+     * @param description String description
+     */
+    OMRSWireFormat(int    ordinal,
+                   String name,
+                   String contentType,
+                   String description)
+    {
+        this.ordinal = ordinal;
+        this.name = name;
+        this.contentType = contentType;
+        this.description = description;
+    }
+
+
+    /**
+     * Return the code number for the wire format.
+     *
+     * @return int code number
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the name of the wire format.
+     *
+     * @return String name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the HTTP content type (media type) used for this wire format.
+     *
+     * @return String content type
+     */
+    public String getContentType()
+    {
+        return contentType;
+    }
+
+
+    /**
+     * Return the description of the wire format.
+     *
+     * @return String description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the object mapper that reads and writes this wire format.  The mappers are created once and shared
+     * since they are thread-safe and expensive to build.
+     *
+     * @return configured ObjectMapper
+     */
+    public ObjectMapper getObjectMapper()
+    {
+        if (this == SMILE)
+        {
+            return MapperHolder.smileMapper;
+        }
+
+        return MapperHolder.jsonMapper;
+    }
+
+
+    /**
+     * Return the wire format that matches the supplied name.  The match is case-insensitive and
+     * JSON is returned if the name is null or not recognized.
+     *
+     * @param wireFormatName name of the wire format (typically from a connection's additional properties)
+     * @return OMRSWireFormat enum
+     */
+    public static OMRSWireFormat getWireFormat(Object wireFormatName)
+    {
+        if (wireFormatName != null)
+        {
+            for (OMRSWireFormat wireFormat : OMRSWireFormat.values())
+            {
+                if (wireFormat.getName().equalsIgnoreCase(wireFormatName.toString()))
+                {
+                    return wireFormat;
+                }
+            }
+        }
+
+        return JSON;
+    }
+
+
+    /**
+     * Encode an object as a string suitable for a text-based event bus.  JSON payloads are returned as is.
+     * Binary payloads are base64 encoded.
+     *
+     * @param payload object to encode
+     * @return encoded string
+     * @throws IOException the object can not be serialized
+     */
+    public String writeValueAsString(Object payload) throws IOException
+    {
+        if (this == SMILE)
+        {
+            return Base64.getEncoder().encodeToString(MapperHolder.smileMapper.writeValueAsBytes(payload));
+        }
+
+        return MapperHolder.jsonMapper.writeValueAsString(payload);
+    }
+
+
+    /**
+     * Decode a string created by writeValueAsString.  The wire format is detected from the content of
+     * the string so the receiver does not need to know the format used by the sender.
+     *
+     * @param payload encoded string
+     * @param valueType class of object to return
+     * @param <T> type of object to return
+     * @return decoded object
+     * @throws IOException the string is not a valid encoding of the requested class
+     */
+    public static <T> T readValueFromString(String payload, Class<T> valueType) throws IOException
+    {
+        if (isJSON(payload))
+        {
+            return MapperHolder.jsonMapper.readValue(payload, valueType);
+        }
+
+        try
+        {
+            byte[] binaryPayload = Base64.getDecoder().decode(payload.getBytes(StandardCharsets.US_ASCII));
+
+            return MapperHolder.smileMapper.readValue(binaryPayload, valueType);
+        }
+        catch (IllegalArgumentException notBase64)
+        {
+            /*
+             * Not a binary payload so let the JSON parser report the error.
+             */
+            return MapperHolder.jsonMapper.readValue(payload, valueType);
+        }
+    }
+
+
+    /**
+     * Return a streaming parser over a string created by writeValueAsString.  This lets a receiver look at
+     * a few fields of a payload without building the whole object.  As for readValueFromString, the wire format
+     * is detected from the content of the string.
+     *
+     * @param payload encoded string
+     * @return parser positioned before the first token
+     * @throws IOException the string can not be read
+     */
+    public static JsonParser createParser(String payload) throws IOException
+    {
+        if (isJSON(payload))
+        {
+            return MapperHolder.jsonMapper.getFactory().createParser(payload);
+        }
+
+        try
+        {
+            byte[] binaryPayload = Base64.getDecoder().decode(payload.getBytes(StandardCharsets.US_ASCII));
+
+            return MapperHolder.smileMapper.getFactory().createParser(binaryPayload);
+        }
+        catch (IllegalArgumentException notBase64)
+        {
+            return MapperHolder.jsonMapper.getFactory().createParser(payload);
+        }
+    }
+
+
+    /**
+     * Test whether a string payload is JSON text.  JSON objects begin with a brace, possibly after whitespace.
+     * Base64 text never contains either.
+     *
+     * @param payload encoded string
+     * @return boolean flag
+     */
+    private static boolean isJSON(String payload)
+    {
+        for (int i = 0; i < payload.length(); i++)
+        {
+            char character = payload.charAt(i);
+
+            if (! Character.isWhitespace(character))
+            {
+                return (character == '{') || (character == '[');
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSWireFormat{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", contentType='" + contentType + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+
+
+    /**
+     * MapperHolder lazily creates the shared object mappers.  The SMILE mapper is configured to back-reference
+     * repeated property names and string values, which act as a dictionary for the type names, property names and
+     * category names that are repeated throughout the OMRS payloads.
+     */
+    private static class MapperHolder
+    {
+        private static final ObjectMapper jsonMapper  = new ObjectMapper();
+        private static final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory()
+                                                                                 .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                                                                                 .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES));
+    }
+}
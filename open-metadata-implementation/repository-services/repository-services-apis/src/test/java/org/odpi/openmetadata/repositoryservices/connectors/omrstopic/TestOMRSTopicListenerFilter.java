@@ -0,0 +1,192 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.wireformat.OMRSWireFormat;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the header of an event can be read in each wire format and that OMRSTopicListenerFilter
+ * selects events by category, instance event type and type, including subtypes.
+ */
+public class TestOMRSTopicListenerFilter
+{
+    /**
+     * Return an encoded new entity event for an entity whose type has a super type.
+     *
+     * @param wireFormat wire format to encode the event in
+     * @param typeDefName name of the entity's type
+     * @param superTypeName name of the super type
+     * @return encoded event
+     * @throws Exception the event can not be encoded
+     */
+    private String getEntityEvent(OMRSWireFormat wireFormat,
+                                  String         typeDefName,
+                                  String         superTypeName) throws Exception
+    {
+        List<TypeDefLink> superTypes = new ArrayList<>();
+        superTypes.add(new TypeDefLink(superTypeName + "GUID", superTypeName));
+        superTypes.add(new TypeDefLink("ReferenceableGUID", "Referenceable"));
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName(typeDefName);
+        instanceType.setTypeDefGUID(typeDefName + "GUID");
+        instanceType.setTypeDefSuperTypes(superTypes);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID("TestGUID");
+        entity.setType(instanceType);
+
+        OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+
+        return wireFormat.writeValueAsString(instanceEvent.getOMRSEventV1());
+    }
+
+
+    /**
+     * Return an encoded purge event.  Purge events only carry the name of the type.
+     *
+     * @param typeDefName name of the entity's type
+     * @return encoded event
+     * @throws Exception the event can not be encoded
+     */
+    private String getPurgeEvent(String   typeDefName) throws Exception
+    {
+        OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                                typeDefName + "GUID",
+                                                                typeDefName,
+                                                                "TestGUID");
+
+        return OMRSWireFormat.JSON.writeValueAsString(instanceEvent.getOMRSEventV1());
+    }
+
+
+    /**
+     * Validate the header fields read from an event in each wire format.
+     *
+     * @throws Exception the event can not be encoded
+     */
+    @Test public void testPeek() throws Exception
+    {
+        for (OMRSWireFormat wireFormat : OMRSWireFormat.values())
+        {
+            OMRSTopicEventHeader eventHeader = OMRSTopicEventHeader.peek(getEntityEvent(wireFormat, "DataFile", "Asset"));
+
+            assertTrue(eventHeader != null);
+            assertEquals(eventHeader.getEventCategory(), OMRSEventCategory.INSTANCE);
+            assertEquals(eventHeader.getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+            assertEquals(eventHeader.getTypeDefGUID(), "DataFileGUID");
+            assertEquals(eventHeader.getTypeDefName(), "DataFile");
+            assertTrue(eventHeader.isSuperTypesKnown());
+            assertTrue(eventHeader.getSuperTypeNames().contains("Asset"));
+            assertTrue(eventHeader.getSuperTypeGUIDs().contains("ReferenceableGUID"));
+        }
+
+        assertNull(OMRSTopicEventHeader.peek("Not an event"));
+        assertFalse(OMRSTopicEventHeader.peek(getPurgeEvent("DataFile")).isSuperTypesKnown());
+    }
+
+
+    /**
+     * Validate the matching of events against filters.
+     *
+     * @throws Exception the event can not be encoded
+     */
+    @Test public void testAccepts() throws Exception
+    {
+        OMRSTopicEventHeader dataFileEvent = OMRSTopicEventHeader.peek(getEntityEvent(OMRSWireFormat.JSON, "DataFile", "Asset"));
+        OMRSTopicEventHeader glossaryEvent = OMRSTopicEventHeader.peek(getEntityEvent(OMRSWireFormat.JSON, "GlossaryTerm", "Glossary"));
+        OMRSTopicEventHeader purgeEvent    = OMRSTopicEventHeader.peek(getPurgeEvent("GlossaryTerm"));
+
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter();
+        assertTrue(filter.accepts(dataFileEvent));
+
+        filter.setEventCategories(Collections.singletonList(OMRSEventCategory.REGISTRY));
+        assertFalse(filter.accepts(dataFileEvent));
+
+        filter.setEventCategories(Collections.singletonList(OMRSEventCategory.INSTANCE));
+        filter.setInstanceEventTypes(Collections.singletonList(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT));
+        assertFalse(filter.accepts(dataFileEvent));
+
+        filter.setInstanceEventTypes(null);
+        filter.setTypeDefNames(Collections.singletonList("Asset"));
+        assertTrue(filter.accepts(dataFileEvent));
+        assertFalse(filter.accepts(glossaryEvent));
+        assertTrue(filter.accepts(purgeEvent));
+
+        filter.setTypeDefNames(null);
+        filter.setTypeDefGUIDs(Collections.singletonList("GlossaryTermGUID"));
+        assertFalse(filter.accepts(dataFileEvent));
+        assertTrue(filter.accepts(glossaryEvent));
+    }
+
+
+    /**
+     * Validate that the topic connector only passes events to the listeners whose filters accept them.
+     *
+     * @throws Exception the event can not be encoded
+     */
+    @Test public void testDispatch() throws Exception
+    {
+        CountingListener allEvents   = new CountingListener();
+        CountingListener assetEvents = new CountingListener();
+        CountingListener noEvents    = new CountingListener();
+
+        OMRSTopicListenerFilter assetFilter = new OMRSTopicListenerFilter(Collections.singletonList(OMRSEventCategory.INSTANCE));
+        assetFilter.setTypeDefNames(Collections.singletonList("Asset"));
+
+        OMRSTopicConnector topicConnector = new OMRSTopicConnector();
+        topicConnector.registerListener(allEvents);
+        topicConnector.registerListener(assetEvents, assetFilter);
+        topicConnector.registerListener(noEvents, new OMRSTopicListenerFilter(Collections.emptyList()));
+
+        topicConnector.processEvent(getEntityEvent(OMRSWireFormat.SMILE, "DataFile", "Asset"));
+        topicConnector.processEvent(getEntityEvent(OMRSWireFormat.JSON, "GlossaryTerm", "Glossary"));
+
+        assertEquals(allEvents.instanceEventCount, 2);
+        assertEquals(assetEvents.instanceEventCount, 1);
+        assertEquals(noEvents.instanceEventCount, 0);
+    }
+
+
+    /**
+     * CountingListener counts the instance events it receives.
+     */
+    private static class CountingListener implements OMRSTopicListener
+    {
+        private int instanceEventCount = 0;
+
+        @Override
+        public void processRegistryEvent(OMRSRegistryEvent event)
+        {
+        }
+
+        @Override
+        public void processTypeDefEvent(OMRSTypeDefEvent event)
+        {
+        }
+
+        @Override
+        public void processInstanceEvent(OMRSInstanceEvent event)
+        {
+            instanceEventCount++;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipNotKnownException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate the default implementations of getEntityDetails() and getRelationships() that call
+ * getEntityDetail() and getRelationship() for each requested instance.
+ */
+public class TestOMRSMetadataCollectionBulkRetrieval
+{
+    private static final String repositoryName = "TestRepository";
+    private static final String userId         = "TestUser";
+
+    private OMRSRepositoryValidator repositoryValidator;
+    private OMRSMetadataCollection  metadataCollection;
+
+
+    /**
+     * Create a metadata collection that only has the methods of OMRSMetadataCollection.  The abstract
+     * methods are stubbed by each test.
+     */
+    @BeforeMethod public void createMetadataCollection()
+    {
+        repositoryValidator = mock(OMRSRepositoryValidator.class);
+        metadataCollection = mock(OMRSMetadataCollection.class,
+                                  withSettings().useConstructor(mock(OMRSRepositoryConnector.class),
+                                                                repositoryName,
+                                                                "TestMetadataCollection",
+                                                                mock(OMRSRepositoryHelper.class),
+                                                                repositoryValidator)
+                                                .defaultAnswer(CALLS_REAL_METHODS));
+    }
+
+
+    /**
+     * Set up getEntityDetail() to return an entity.
+     *
+     * @param guid unique identifier of the entity
+     * @throws Exception unexpected error
+     */
+    private void setEntity(String guid) throws Exception
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        doReturn(entity).when(metadataCollection).getEntityDetail(userId, guid);
+    }
+
+
+    /**
+     * Set up getRelationship() to return a relationship.
+     *
+     * @param guid unique identifier of the relationship
+     * @throws Exception unexpected error
+     */
+    private void setRelationship(String guid) throws Exception
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+
+        doReturn(relationship).when(metadataCollection).getRelationship(userId, guid);
+    }
+
+
+    /**
+     * Return the guids of a list of instances.
+     *
+     * @param instances retrieved instances
+     * @return list of guids in the order they were returned
+     */
+    private List<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (InstanceHeader instance : instances)
+        {
+            guids.add(instance.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Known entities are returned once, in the order they were requested.  Unknown entities and
+     * proxies are skipped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testEntityDetails() throws Exception
+    {
+        setEntity("Entity1");
+        setEntity("Entity2");
+        doThrow(new EntityNotKnownException(404, this.getClass().getName(), "getEntityDetail", "Unknown", null, null))
+                .when(metadataCollection).getEntityDetail(userId, "UnknownEntity");
+        doThrow(new EntityProxyOnlyException(404, this.getClass().getName(), "getEntityDetail", "Proxy", null, null))
+                .when(metadataCollection).getEntityDetail(userId, "ProxyEntity");
+
+        List<EntityDetail> entities = metadataCollection.getEntityDetails(userId,
+                                                                          Arrays.asList("Entity2",
+                                                                                        "UnknownEntity",
+                                                                                        "Entity1",
+                                                                                        "ProxyEntity",
+                                                                                        "Entity2"));
+
+        assertEquals(getGUIDs(entities), Arrays.asList("Entity2", "Entity1"));
+        verify(metadataCollection, times(1)).getEntityDetail(userId, "Entity2");
+    }
+
+
+    /**
+     * Null is returned when none of the entities are known.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testNoEntityDetails() throws Exception
+    {
+        doThrow(new EntityNotKnownException(404, this.getClass().getName(), "getEntityDetail", "Unknown", null, null))
+                .when(metadataCollection).getEntityDetail(userId, "UnknownEntity");
+        doThrow(new EntityProxyOnlyException(404, this.getClass().getName(), "getEntityDetail", "Proxy", null, null))
+                .when(metadataCollection).getEntityDetail(userId, "ProxyEntity");
+
+        assertNull(metadataCollection.getEntityDetails(userId, Arrays.asList("UnknownEntity", "ProxyEntity", "UnknownEntity")));
+    }
+
+
+    /**
+     * Known relationships are returned once, in the order they were requested.  Unknown relationships are
+     * skipped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testRelationships() throws Exception
+    {
+        setRelationship("Relationship1");
+        setRelationship("Relationship2");
+        doThrow(new RelationshipNotKnownException(404, this.getClass().getName(), "getRelationship", "Unknown", null, null))
+                .when(metadataCollection).getRelationship(userId, "UnknownRelationship");
+
+        List<Relationship> relationships = metadataCollection.getRelationships(userId,
+                                                                               Arrays.asList("Relationship1",
+                                                                                             "UnknownRelationship",
+                                                                                             "Relationship1",
+                                                                                             "Relationship2"));
+
+        assertEquals(getGUIDs(relationships), Arrays.asList("Relationship1", "Relationship2"));
+        verify(metadataCollection, times(1)).getRelationship(userId, "Relationship1");
+
+        assertNull(metadataCollection.getRelationships(userId, Collections.singletonList("UnknownRelationship")));
+    }
+
+
+    /**
+     * A null or empty list of guids, or a null guid in the list, is rejected before any instance is retrieved.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInvalidGUIDLists() throws Exception
+    {
+        doThrow(new InvalidParameterException(400, this.getClass().getName(), "validateGUID", "Null guid", null, null))
+                .when(repositoryValidator).validateGUID(eq(repositoryName), eq("guids"), isNull(), anyString());
+
+        for (List<String> guids : Arrays.asList(null, Collections.<String>emptyList(), Arrays.asList("Entity1", null)))
+        {
+            try
+            {
+                metadataCollection.getEntityDetails(userId, guids);
+                fail("getEntityDetails accepted " + guids);
+            }
+            catch (InvalidParameterException error)
+            {
+                /*
+                 * Expected
+                 */
+            }
+
+            try
+            {
+                metadataCollection.getRelationships(userId, guids);
+                fail("getRelationships accepted " + guids);
+            }
+            catch (InvalidParameterException error)
+            {
+                /*
+                 * Expected
+                 */
+            }
+        }
+
+        verify(metadataCollection, never()).getEntityDetail(eq(userId), anyString());
+        verify(metadataCollection, never()).getRelationship(eq(userId), anyString());
+    }
+}
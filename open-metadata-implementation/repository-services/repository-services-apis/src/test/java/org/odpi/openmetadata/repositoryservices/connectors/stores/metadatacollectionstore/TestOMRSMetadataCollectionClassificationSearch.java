@@ -0,0 +1,482 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate the default implementation of findEntitiesByClassifications() that combines the results of a
+ * findEntitiesByClassification() call for each classification, and the validation of its parameters.
+ */
+public class TestOMRSMetadataCollectionClassificationSearch
+{
+    private static final String repositoryName = "TestRepository";
+    private static final String userId         = "TestUser";
+    private static final String entityTypeGUID = "TestEntityTypeGUID";
+    private static final String entityTypeName = "TestEntityType";
+
+    private OMRSRepositoryValidator repositoryValidator;
+    private OMRSMetadataCollection  metadataCollection;
+
+
+    /**
+     * Create a metadata collection that only has the methods of OMRSMetadataCollection.  The abstract
+     * methods are stubbed by each test.
+     */
+    @BeforeMethod public void createMetadataCollection()
+    {
+        repositoryValidator = mock(OMRSRepositoryValidator.class);
+        metadataCollection = mock(OMRSMetadataCollection.class,
+                                  withSettings().useConstructor(mock(OMRSRepositoryConnector.class),
+                                                                repositoryName,
+                                                                "TestMetadataCollection",
+                                                                mock(OMRSRepositoryHelper.class),
+                                                                repositoryValidator)
+                                                .defaultAnswer(CALLS_REAL_METHODS));
+    }
+
+
+    /**
+     * Return entities with the requested guids.
+     *
+     * @param guids unique identifiers
+     * @return list of entities
+     */
+    private List<EntityDetail> getEntities(String... guids)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the guids of a list of entities.
+     *
+     * @param entities list of entities - may be null
+     * @return list of guids - null if the list of entities is null
+     */
+    private List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        if (entities == null)
+        {
+            return null;
+        }
+
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Set up the results of findEntitiesByClassification() for a classification.
+     *
+     * @param classificationName name of the classification
+     * @param guids unique identifiers of the classified entities
+     * @throws Exception unexpected error
+     */
+    private void setClassifiedEntities(String    classificationName,
+                                       String... guids) throws Exception
+    {
+        doReturn(guids.length == 0 ? null : getEntities(guids)).when(metadataCollection)
+                                                               .findEntitiesByClassification(eq(userId),
+                                                                                             eq(entityTypeGUID),
+                                                                                             eq(classificationName),
+                                                                                             any(),
+                                                                                             any(),
+                                                                                             anyInt(),
+                                                                                             any(),
+                                                                                             any(),
+                                                                                             any(),
+                                                                                             any(),
+                                                                                             anyInt());
+    }
+
+
+    /**
+     * Set up findEntitiesByClassification() to reject a classification that is not valid for the type of entity.
+     *
+     * @param classificationName name of the classification
+     * @throws Exception unexpected error
+     */
+    private void setInvalidClassification(String classificationName) throws Exception
+    {
+        doThrow(new ClassificationErrorException(400,
+                                                 this.getClass().getName(),
+                                                 "findEntitiesByClassification",
+                                                 "Classification " + classificationName + " is not valid",
+                                                 null,
+                                                 null)).when(metadataCollection)
+                                                       .findEntitiesByClassification(eq(userId),
+                                                                                     eq(entityTypeGUID),
+                                                                                     eq(classificationName),
+                                                                                     any(),
+                                                                                     any(),
+                                                                                     anyInt(),
+                                                                                     any(),
+                                                                                     any(),
+                                                                                     any(),
+                                                                                     any(),
+                                                                                     anyInt());
+    }
+
+
+    /**
+     * Return a map of classification name to null properties.
+     *
+     * @param classificationNames names of the classifications
+     * @return map
+     */
+    private Map<String, InstanceProperties> getMatchClassifications(String... classificationNames)
+    {
+        Map<String, InstanceProperties> matchClassifications = new LinkedHashMap<>();
+
+        for (String classificationName : classificationNames)
+        {
+            matchClassifications.put(classificationName, null);
+        }
+
+        return matchClassifications;
+    }
+
+
+    /**
+     * Call findEntitiesByClassifications() and return the guids of the entities found.
+     *
+     * @param matchClassificationCriteria ANY or ALL
+     * @param fromEntityElement first element to return
+     * @param pageSize maximum number of elements to return
+     * @param classificationNames names of the classifications
+     * @return guids - or null
+     * @throws Exception unexpected error
+     */
+    private List<String> findEntities(MatchCriteria matchClassificationCriteria,
+                                      int           fromEntityElement,
+                                      int           pageSize,
+                                      String...     classificationNames) throws Exception
+    {
+        return getGUIDs(metadataCollection.findEntitiesByClassifications(userId,
+                                                                         entityTypeGUID,
+                                                                         getMatchClassifications(classificationNames),
+                                                                         matchClassificationCriteria,
+                                                                         null,
+                                                                         fromEntityElement,
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         pageSize));
+    }
+
+
+    /**
+     * Under ANY the entities found for each classification are combined without duplicates.  Under ALL only
+     * the entities found for every classification are returned.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testAnyAndAll() throws Exception
+    {
+        setClassifiedEntities("Confidential", "Entity1", "Entity2");
+        setClassifiedEntities("Critical", "Entity2", "Entity3");
+
+        assertEquals(findEntities(MatchCriteria.ANY, 0, 0, "Confidential", "Critical"),
+                     Arrays.asList("Entity1", "Entity2", "Entity3"));
+        assertEquals(findEntities(MatchCriteria.ALL, 0, 0, "Confidential", "Critical"),
+                     Arrays.asList("Entity2"));
+        assertEquals(findEntities(MatchCriteria.ALL, 0, 0, "Critical", "Confidential"),
+                     Arrays.asList("Entity2"));
+    }
+
+
+    /**
+     * No matching entities is returned as null.  Under ALL, the search stops at the first classification
+     * with no entities.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testNoMatches() throws Exception
+    {
+        setClassifiedEntities("Confidential", "Entity1");
+        setClassifiedEntities("Critical", "Entity2");
+        setClassifiedEntities("Unused");
+
+        assertNull(findEntities(MatchCriteria.ANY, 0, 0, "Unused"));
+        assertNull(findEntities(MatchCriteria.ALL, 0, 0, "Confidential", "Critical"));
+        assertNull(findEntities(MatchCriteria.ALL, 0, 0, "Unused", "Confidential"));
+
+        verify(metadataCollection).findEntitiesByClassification(eq(userId),
+                                                                eq(entityTypeGUID),
+                                                                eq("Confidential"),
+                                                                any(),
+                                                                any(),
+                                                                anyInt(),
+                                                                any(),
+                                                                any(),
+                                                                any(),
+                                                                any(),
+                                                                anyInt());
+    }
+
+
+    /**
+     * A classification that is not valid for the type of entity is skipped under ANY and rejected under ALL.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInvalidForType() throws Exception
+    {
+        setClassifiedEntities("Confidential", "Entity1");
+        setInvalidClassification("MobileAsset");
+
+        assertEquals(findEntities(MatchCriteria.ANY, 0, 0, "MobileAsset", "Confidential"),
+                     Arrays.asList("Entity1"));
+        assertNull(findEntities(MatchCriteria.ANY, 0, 0, "MobileAsset"));
+
+        try
+        {
+            findEntities(MatchCriteria.ALL, 0, 0, "Confidential", "MobileAsset");
+            fail("Invalid classification accepted under ALL");
+        }
+        catch (ClassificationErrorException error)
+        {
+            assertTrue(error.getErrorMessage().contains("MobileAsset"));
+        }
+    }
+
+
+    /**
+     * The combined results are paged after they are merged.  Each classification is searched without paging.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testPaging() throws Exception
+    {
+        setClassifiedEntities("Confidential", "Entity1", "Entity2", "Entity3");
+        setClassifiedEntities("Critical", "Entity3", "Entity4", "Entity5");
+
+        assertEquals(findEntities(MatchCriteria.ANY, 0, 2, "Confidential", "Critical"),
+                     Arrays.asList("Entity1", "Entity2"));
+        assertEquals(findEntities(MatchCriteria.ANY, 2, 2, "Confidential", "Critical"),
+                     Arrays.asList("Entity3", "Entity4"));
+        assertEquals(findEntities(MatchCriteria.ANY, 4, 2, "Confidential", "Critical"),
+                     Arrays.asList("Entity5"));
+        assertNull(findEntities(MatchCriteria.ANY, 5, 2, "Confidential", "Critical"));
+        assertEquals(findEntities(MatchCriteria.ANY, 1, 0, "Confidential", "Critical"),
+                     Arrays.asList("Entity2", "Entity3", "Entity4", "Entity5"));
+
+        verify(metadataCollection, never()).findEntitiesByClassification(any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         eq(2),
+                                                                         any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         anyInt());
+        verify(metadataCollection, never()).findEntitiesByClassification(any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         anyInt(),
+                                                                         any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         any(),
+                                                                         eq(2));
+    }
+
+
+    /**
+     * The properties match criteria is only passed with the classifications that have properties to match.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testMatchProperties() throws Exception
+    {
+        InstanceProperties              matchProperties      = new InstanceProperties();
+        Map<String, InstanceProperties> matchClassifications = getMatchClassifications("Confidential", "Critical");
+
+        matchClassifications.put("Critical", matchProperties);
+        setClassifiedEntities("Confidential", "Entity1");
+        setClassifiedEntities("Critical", "Entity1");
+
+        metadataCollection.findEntitiesByClassifications(userId,
+                                                         entityTypeGUID,
+                                                         matchClassifications,
+                                                         MatchCriteria.ALL,
+                                                         MatchCriteria.NONE,
+                                                         0,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         0);
+
+        verify(metadataCollection).findEntitiesByClassification(eq(userId),
+                                                                eq(entityTypeGUID),
+                                                                eq("Confidential"),
+                                                                isNull(),
+                                                                isNull(),
+                                                                anyInt(),
+                                                                any(),
+                                                                any(),
+                                                                any(),
+                                                                any(),
+                                                                anyInt());
+        verify(metadataCollection).findEntitiesByClassification(eq(userId),
+                                                                eq(entityTypeGUID),
+                                                                eq("Critical"),
+                                                                eq(matchProperties),
+                                                                eq(MatchCriteria.NONE),
+                                                                anyInt(),
+                                                                any(),
+                                                                any(),
+                                                                any(),
+                                                                any(),
+                                                                anyInt());
+        verify(repositoryValidator).validateMatchCriteria(eq(repositoryName),
+                                                          any(),
+                                                          any(),
+                                                          eq(MatchCriteria.NONE),
+                                                          eq(matchProperties),
+                                                          eq("findEntitiesByClassifications"));
+    }
+
+
+    /**
+     * The classifications are only validated against the type of entity under ALL.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testValidateClassificationMatch() throws Exception
+    {
+        final String methodName = "testValidateClassificationMatch";
+
+        metadataCollection.validateClassificationMatch(getMatchClassifications("Confidential"),
+                                                       MatchCriteria.ANY,
+                                                       null,
+                                                       entityTypeName,
+                                                       methodName);
+        metadataCollection.validateClassificationMatch(getMatchClassifications("Critical"),
+                                                       MatchCriteria.ALL,
+                                                       null,
+                                                       entityTypeName,
+                                                       methodName);
+
+        verify(repositoryValidator).validateClassification(eq(repositoryName),
+                                                           any(),
+                                                           eq("Confidential"),
+                                                           isNull(),
+                                                           eq(methodName));
+        verify(repositoryValidator).validateClassification(eq(repositoryName),
+                                                           any(),
+                                                           eq("Critical"),
+                                                           eq(entityTypeName),
+                                                           eq(methodName));
+        verify(repositoryValidator, never()).validateMatchCriteria(any(),
+                                                                   any(),
+                                                                   any(),
+                                                                   any(MatchCriteria.class),
+                                                                   any(),
+                                                                   any());
+    }
+
+
+    /**
+     * A match criteria other than ANY or ALL is rejected, as are missing classifications.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInvalidClassificationMatch() throws Exception
+    {
+        final String methodName = "testInvalidClassificationMatch";
+
+        for (MatchCriteria matchCriteria : new MatchCriteria[]{ MatchCriteria.NONE, null })
+        {
+            try
+            {
+                metadataCollection.validateClassificationMatch(getMatchClassifications("Confidential"),
+                                                               matchCriteria,
+                                                               null,
+                                                               null,
+                                                               methodName);
+                fail("Match criteria accepted: " + matchCriteria);
+            }
+            catch (InvalidParameterException error)
+            {
+                assertTrue(error.getErrorMessage().startsWith("OMRS-REPOSITORY-400-063"));
+            }
+        }
+
+        doThrow(new InvalidParameterException(400,
+                                              this.getClass().getName(),
+                                              methodName,
+                                              "No classification",
+                                              null,
+                                              null)).when(repositoryValidator)
+                                                    .validateClassification(any(), any(), isNull(), any(), any());
+
+        try
+        {
+            metadataCollection.validateClassificationMatch(getMatchClassifications(),
+                                                           MatchCriteria.ANY,
+                                                           null,
+                                                           null,
+                                                           methodName);
+            fail("Empty classifications accepted");
+        }
+        catch (InvalidParameterException error)
+        {
+            assertEquals(error.getErrorMessage(), "No classification");
+        }
+    }
+}
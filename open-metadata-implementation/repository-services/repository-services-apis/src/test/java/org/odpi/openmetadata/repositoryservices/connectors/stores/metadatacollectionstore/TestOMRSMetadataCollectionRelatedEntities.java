@@ -0,0 +1,328 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate the default implementation of getRelationshipsAndRelatedEntities() that combines a
+ * getRelationshipsForEntity() call for each requested entity with a getEntityDetail() call for each far end.
+ */
+public class TestOMRSMetadataCollectionRelatedEntities
+{
+    private static final String repositoryName       = "TestRepository";
+    private static final String userId               = "TestUser";
+    private static final String relationshipTypeGUID = "TestRelationshipTypeGUID";
+
+    private OMRSRepositoryValidator repositoryValidator;
+    private OMRSMetadataCollection  metadataCollection;
+
+
+    /**
+     * Create a metadata collection that only has the methods of OMRSMetadataCollection.  The abstract
+     * methods are stubbed by each test.
+     */
+    @BeforeMethod public void createMetadataCollection()
+    {
+        repositoryValidator = mock(OMRSRepositoryValidator.class);
+        metadataCollection = mock(OMRSMetadataCollection.class,
+                                  withSettings().useConstructor(mock(OMRSRepositoryConnector.class),
+                                                                repositoryName,
+                                                                "TestMetadataCollection",
+                                                                mock(OMRSRepositoryHelper.class),
+                                                                repositoryValidator)
+                                                .defaultAnswer(CALLS_REAL_METHODS));
+    }
+
+
+    /**
+     * Return a relationship between two entities.
+     *
+     * @param guid unique identifier of the relationship
+     * @param entityOneGUID unique identifier of the entity at end 1
+     * @param entityTwoGUID unique identifier of the entity at end 2
+     * @return relationship
+     */
+    private Relationship getRelationship(String guid,
+                                         String entityOneGUID,
+                                         String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+
+        relationship.setGUID(guid);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+
+
+    /**
+     * Set up the results of getRelationshipsForEntity() for an entity.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @param relationships relationships of the entity
+     * @throws Exception unexpected error
+     */
+    private void setRelationships(String          entityGUID,
+                                  Relationship... relationships) throws Exception
+    {
+        doReturn(relationships.length == 0 ? null : Arrays.asList(relationships)).when(metadataCollection)
+                                                                                .getRelationshipsForEntity(eq(userId),
+                                                                                                           eq(entityGUID),
+                                                                                                           any(),
+                                                                                                           anyInt(),
+                                                                                                           any(),
+                                                                                                           any(),
+                                                                                                           any(),
+                                                                                                           any(),
+                                                                                                           anyInt());
+    }
+
+
+    /**
+     * Set up getEntityDetail() to return an entity.
+     *
+     * @param guid unique identifier of the entity
+     * @throws Exception unexpected error
+     */
+    private void setEntity(String guid) throws Exception
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        doReturn(entity).when(metadataCollection).getEntityDetail(userId, guid);
+        doReturn(entity).when(metadataCollection).getEntityDetail(eq(userId), eq(guid), any(Date.class));
+    }
+
+
+    /**
+     * Return the guids of the entities in a graph.
+     *
+     * @param instanceGraph graph
+     * @return list of guids
+     */
+    private List<String> getEntityGUIDs(InstanceGraph instanceGraph)
+    {
+        List<String> guids = new ArrayList<>();
+
+        if (instanceGraph.getEntities() != null)
+        {
+            for (EntityDetail entity : instanceGraph.getEntities())
+            {
+                guids.add(entity.getGUID());
+            }
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the guids of the relationships in a graph.
+     *
+     * @param instanceGraph graph
+     * @return list of guids
+     */
+    private List<String> getRelationshipGUIDs(InstanceGraph instanceGraph)
+    {
+        List<String> guids = new ArrayList<>();
+
+        if (instanceGraph.getRelationships() != null)
+        {
+            for (Relationship relationship : instanceGraph.getRelationships())
+            {
+                guids.add(relationship.getGUID());
+            }
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * The relationships of each entity are combined with duplicates removed.  The far end of each relationship
+     * is returned once.  When both ends of a relationship were requested, both ends are returned.  The type,
+     * status and page size are passed to each getRelationshipsForEntity() call.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testRelationshipsAndFarEnds() throws Exception
+    {
+        Relationship relationship1 = getRelationship("Relationship1", "Entity1", "FarEnd1");
+        Relationship relationship2 = getRelationship("Relationship2", "Entity1", "Entity2");
+        Relationship relationship3 = getRelationship("Relationship3", "FarEnd2", "Entity2");
+        Relationship relationship4 = getRelationship("Relationship4", "FarEnd1", "Entity2");
+
+        setRelationships("Entity1", relationship1, relationship2);
+        setRelationships("Entity2", relationship2, relationship3, relationship4);
+        setEntity("Entity1");
+        setEntity("Entity2");
+        setEntity("FarEnd1");
+        setEntity("FarEnd2");
+
+        List<InstanceStatus> limitResultsByStatus = Collections.singletonList(InstanceStatus.ACTIVE);
+        InstanceGraph        instanceGraph        = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                                          Arrays.asList("Entity1", "Entity2"),
+                                                                                                          relationshipTypeGUID,
+                                                                                                          limitResultsByStatus,
+                                                                                                          null,
+                                                                                                          5);
+
+        assertEquals(getRelationshipGUIDs(instanceGraph), Arrays.asList("Relationship1", "Relationship2", "Relationship3", "Relationship4"));
+        assertEquals(getEntityGUIDs(instanceGraph), Arrays.asList("FarEnd1", "Entity1", "Entity2", "FarEnd2"));
+
+        verify(metadataCollection).getRelationshipsForEntity(userId, "Entity1", relationshipTypeGUID, 0, limitResultsByStatus, null, null, null, 5);
+        verify(metadataCollection).getRelationshipsForEntity(userId, "Entity2", relationshipTypeGUID, 0, limitResultsByStatus, null, null, null, 5);
+        verify(metadataCollection).getEntityDetail(userId, "FarEnd1");
+        verify(metadataCollection, never()).getEntityDetail(eq(userId), anyString(), any(Date.class));
+    }
+
+
+    /**
+     * Requested entities that are not known are skipped, as are far ends that are unknown or only known as
+     * proxies.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testUnknownEntitiesAndProxies() throws Exception
+    {
+        setRelationships("Entity1",
+                         getRelationship("Relationship1", "Entity1", "FarEnd1"),
+                         getRelationship("Relationship2", "Entity1", "Proxy1"),
+                         getRelationship("Relationship3", "Unknown1", "Entity1"));
+        setEntity("FarEnd1");
+
+        doThrow(new EntityNotKnownException(404, this.getClass().getName(), "getRelationshipsForEntity", "Unknown", null, null))
+                .when(metadataCollection).getRelationshipsForEntity(eq(userId), eq("Unknown2"), any(), anyInt(), any(), any(), any(), any(), anyInt());
+        doThrow(new EntityProxyOnlyException(400, this.getClass().getName(), "getEntityDetail", "Proxy", null, null))
+                .when(metadataCollection).getEntityDetail(userId, "Proxy1");
+        doThrow(new EntityNotKnownException(404, this.getClass().getName(), "getEntityDetail", "Unknown", null, null))
+                .when(metadataCollection).getEntityDetail(userId, "Unknown1");
+
+        InstanceGraph instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                           Arrays.asList("Unknown2", "Entity1"),
+                                                                                           null,
+                                                                                           null,
+                                                                                           null,
+                                                                                           0);
+
+        assertEquals(getRelationshipGUIDs(instanceGraph), Arrays.asList("Relationship1", "Relationship2", "Relationship3"));
+        assertEquals(getEntityGUIDs(instanceGraph), Collections.singletonList("FarEnd1"));
+    }
+
+
+    /**
+     * A historical query retrieves the far ends as they were at the requested time.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testAsOfTime() throws Exception
+    {
+        Date asOfTime = new Date();
+
+        setRelationships("Entity1", getRelationship("Relationship1", "Entity1", "FarEnd1"));
+        setEntity("FarEnd1");
+
+        InstanceGraph instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                           Collections.singletonList("Entity1"),
+                                                                                           null,
+                                                                                           null,
+                                                                                           asOfTime,
+                                                                                           0);
+
+        assertEquals(getEntityGUIDs(instanceGraph), Collections.singletonList("FarEnd1"));
+
+        verify(metadataCollection).getRelationshipsForEntity(userId, "Entity1", null, 0, null, asOfTime, null, null, 0);
+        verify(metadataCollection).getEntityDetail(userId, "FarEnd1", asOfTime);
+        verify(metadataCollection, never()).getEntityDetail(userId, "FarEnd1");
+    }
+
+
+    /**
+     * Null is returned when none of the entities have relationships.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testNoRelationships() throws Exception
+    {
+        setRelationships("Entity1");
+        setRelationships("Entity2");
+
+        assertNull(metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                         Arrays.asList("Entity1", "Entity2"),
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         0));
+
+        verify(metadataCollection, never()).getEntityDetail(eq(userId), anyString());
+    }
+
+
+    /**
+     * A null or empty list of entities is rejected by the validator.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testNoEntities() throws Exception
+    {
+        doThrow(new InvalidParameterException(400, this.getClass().getName(), "validateGUID", "Null guid", null, null))
+                .when(repositoryValidator).validateGUID(eq(repositoryName), eq("entityGUIDs"), isNull(), anyString());
+
+        for (List<String> entityGUIDs : Arrays.asList(null, new ArrayList<String>()))
+        {
+            try
+            {
+                metadataCollection.getRelationshipsAndRelatedEntities(userId, entityGUIDs, null, null, null, 0);
+                fail("InvalidParameterException expected");
+            }
+            catch (InvalidParameterException error)
+            {
+                /*
+                 * Expected
+                 */
+            }
+        }
+    }
+}
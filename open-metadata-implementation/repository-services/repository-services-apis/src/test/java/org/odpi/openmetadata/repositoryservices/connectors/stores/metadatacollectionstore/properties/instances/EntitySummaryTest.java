@@ -217,6 +217,41 @@ public class EntitySummaryTest
     }
 
 
+    /**
+     * Validate that the classifications of a copy are independent of the original and the supplied list.
+     */
+    @Test public void testClassificationsCopy()
+    {
+        EntitySummary testObject = getTestObject();
+        EntitySummary copyObject = new EntitySummary(testObject);
+
+        assertTrue(copyObject.getReadOnlyClassifications().equals(classifications));
+
+        List<Classification> updatedClassifications = copyObject.getClassifications();
+
+        updatedClassifications.add(new Classification());
+        copyObject.setClassifications(updatedClassifications);
+        updatedClassifications.add(new Classification());
+
+        assertTrue(testObject.getReadOnlyClassifications().size() == 1);
+        assertTrue(copyObject.getReadOnlyClassifications().size() == 2);
+
+        try
+        {
+            testObject.getReadOnlyClassifications().clear();
+            assertTrue(false, "Read-only classifications updated");
+        }
+        catch (UnsupportedOperationException exc)
+        {
+            assertTrue(testObject.getReadOnlyClassifications().size() == 1);
+        }
+
+        testObject.setClassifications(new ArrayList<>());
+
+        assertTrue(testObject.getReadOnlyClassifications() == null);
+    }
+
+
     /**
      * Test that hashcode is consistent
      */
@@ -0,0 +1,202 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * InstancePropertiesTest provides test of InstanceProperties, in particular that copies share the property map
+ * until one of them is updated.
+ */
+public class InstancePropertiesTest
+{
+    private Date effectiveFromTime = new Date(23);
+    private Date effectiveToTime   = new Date(45);
+
+
+    public InstancePropertiesTest()
+    {
+    }
+
+
+    /**
+     * Return a string property value
+     *
+     * @param value string value
+     * @return property value
+     */
+    private PrimitivePropertyValue getStringValue(String value)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(value);
+
+        return propertyValue;
+    }
+
+
+    /**
+     * Return a filled in test object
+     *
+     * @return test object
+     */
+    private InstanceProperties getTestObject()
+    {
+        InstanceProperties testObject = new InstanceProperties();
+
+        testObject.setEffectiveFromTime(effectiveFromTime);
+        testObject.setEffectiveToTime(effectiveToTime);
+        testObject.setProperty("name", getStringValue("TestName"));
+        testObject.setProperty("description", getStringValue("TestDescription"));
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate that a copy matches the template and that updates to either one do not affect the other.
+     */
+    @Test public void testCopyOnWrite()
+    {
+        InstanceProperties testObject = getTestObject();
+        InstanceProperties copyObject = new InstanceProperties(testObject);
+
+        assertEquals(copyObject, testObject);
+        assertEquals(copyObject.getEffectiveFromTime(), effectiveFromTime);
+        assertEquals(copyObject.getEffectiveToTime(), effectiveToTime);
+
+        copyObject.setProperty("name", getStringValue("NewName"));
+
+        assertEquals(testObject.getPropertyValue("name"), getStringValue("TestName"));
+        assertEquals(copyObject.getPropertyValue("name"), getStringValue("NewName"));
+
+        InstanceProperties secondCopy = new InstanceProperties(testObject);
+
+        testObject.setProperty("description", null);
+
+        assertEquals(testObject.getPropertyCount(), 1);
+        assertEquals(secondCopy.getPropertyCount(), 2);
+        assertEquals(copyObject.getPropertyCount(), 2);
+
+        /*
+         * Removing a property that is not there does not need a copy of the map.
+         */
+        secondCopy.setProperty("unknown", null);
+
+        assertEquals(secondCopy, new InstanceProperties(secondCopy));
+        assertFalse(secondCopy.equals(testObject));
+    }
+
+
+    /**
+     * Validate that the supplied map is copied and that the read-only map can not be updated.
+     */
+    @Test public void testMaps()
+    {
+        InstanceProperties                 testObject  = getTestObject();
+        Map<String, InstancePropertyValue> propertyMap = new HashMap<>();
+
+        propertyMap.put("name", getStringValue("MapName"));
+        testObject.setInstanceProperties(propertyMap);
+        propertyMap.put("description", getStringValue("MapDescription"));
+
+        assertEquals(testObject.getPropertyCount(), 1);
+        assertEquals(testObject.getReadOnlyInstanceProperties().get("name"), getStringValue("MapName"));
+
+        testObject.getInstanceProperties().clear();
+
+        assertEquals(testObject.getPropertyCount(), 1);
+
+        try
+        {
+            testObject.getReadOnlyInstanceProperties().clear();
+            assertTrue(false, "Read-only properties updated");
+        }
+        catch (UnsupportedOperationException exc)
+        {
+            assertEquals(testObject.getPropertyCount(), 1);
+        }
+
+        testObject.setInstanceProperties(null);
+
+        assertTrue(testObject.getReadOnlyInstanceProperties().isEmpty());
+        assertNull(testObject.getPropertyValue("name"));
+    }
+
+
+    /**
+     * Validate that a map supplied by the caller is shared until the object is updated and is never changed.
+     */
+    @Test public void testSharedMap()
+    {
+        Map<String, InstancePropertyValue> sharedMap = new HashMap<>();
+
+        sharedMap.put("name", getStringValue("value"));
+
+        InstanceProperties testObject = new InstanceProperties();
+
+        testObject.setSharedInstanceProperties(Collections.unmodifiableMap(sharedMap));
+
+        assertEquals(testObject.getPropertyCount(), 1);
+        assertEquals(testObject.getPropertyValue("name"), getStringValue("value"));
+
+        InstanceProperties copyObject = new InstanceProperties(testObject);
+
+        testObject.setProperty("name", getStringValue("newValue"));
+        testObject.setProperty("other", getStringValue("otherValue"));
+
+        assertEquals(sharedMap.size(), 1);
+        assertEquals(sharedMap.get("name"), getStringValue("value"));
+        assertEquals(copyObject.getPropertyValue("name"), getStringValue("value"));
+        assertEquals(testObject.getPropertyValue("name"), getStringValue("newValue"));
+        assertEquals(testObject.getPropertyCount(), 2);
+
+        testObject.setSharedInstanceProperties(null);
+
+        assertEquals(testObject.getPropertyCount(), 0);
+    }
+
+
+    /**
+     * Validate that an object that shares its map can be serialized and deserialized.
+     */
+    @Test public void testJSON()
+    {
+        InstanceProperties testObject   = new InstanceProperties(getTestObject());
+        ObjectMapper       objectMapper = new ObjectMapper();
+        String             jsonString   = null;
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(testObject);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        assertFalse(jsonString.contains("readOnlyInstanceProperties"));
+
+        try
+        {
+            assertEquals(objectMapper.readValue(jsonString, InstanceProperties.class), testObject);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that OMRSEventPipelineMonitor accumulates the events, queue depths and partition positions
+ * for each component of the event pipeline.
+ */
+public class TestOMRSEventPipelineMonitor
+{
+    private static final String topicName     = "TestTopic";
+    private static final String componentName = "TestComponent";
+
+
+    /**
+     * Default constructor
+     */
+    public TestOMRSEventPipelineMonitor()
+    {
+    }
+
+
+    /**
+     * Leave the monitor empty for the other tests.
+     */
+    @AfterMethod public void resetMonitor()
+    {
+        OMRSEventPipelineMonitor.reset();
+        OMRSEventPipelineMonitor.setSlowEventThresholdMillis(OMRSEventPipelineMonitor.defaultSlowEventThresholdMillis);
+    }
+
+
+    /**
+     * Validate that events are counted for each stage and listed in pipeline order.
+     */
+    @Test public void testRecordEvents()
+    {
+        OMRSEventPipelineMonitor.setSlowEventThresholdMillis(0);
+
+        /*
+         * Events are started a second ago so they would count as slow if the threshold was in use.
+         */
+        long startTime = OMRSEventPipelineMonitor.startTimer() - 1000000000L;
+
+        OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.OMRS_TOPIC_LISTENER, componentName, startTime, false, null);
+        OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.OMRS_TOPIC_LISTENER, componentName, startTime, true, null);
+        OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.EVENT_BUS_CONSUMER, topicName, startTime, false, null);
+
+        List<OMRSEventStageMetrics> stageMetrics = OMRSEventPipelineMonitor.getMetrics().getStageMetrics();
+
+        assertEquals(stageMetrics.size(), 2);
+        assertEquals(stageMetrics.get(0).getStageName(), OMRSEventPipelineStage.EVENT_BUS_CONSUMER.getName());
+        assertEquals(stageMetrics.get(0).getComponentName(), topicName);
+
+        OMRSEventStageMetrics listenerMetrics = stageMetrics.get(1);
+
+        assertEquals(listenerMetrics.getStageName(), OMRSEventPipelineStage.OMRS_TOPIC_LISTENER.getName());
+        assertEquals(listenerMetrics.getEventCount(), 2);
+        assertEquals(listenerMetrics.getErrorCount(), 1);
+        assertEquals(listenerMetrics.getSlowEventCount(), 0);
+        assertTrue(listenerMetrics.getMaxProcessingMillis() >= 1000);
+        assertEquals(listenerMetrics.getProcessingTimeHistogram().get("1000ms"), Long.valueOf(0));
+
+        OMRSEventPipelineMonitor.reset();
+
+        assertNull(OMRSEventPipelineMonitor.getMetrics().getStageMetrics());
+    }
+
+
+    /**
+     * Validate that events over the threshold are counted as slow.
+     */
+    @Test public void testSlowEvents()
+    {
+        OMRSEventPipelineMonitor.setSlowEventThresholdMillis(500);
+
+        OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.REPOSITORY_EVENT_MANAGER,
+                                             componentName,
+                                             OMRSEventPipelineMonitor.startTimer() - 1000000000L,
+                                             false,
+                                             null);
+        OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.REPOSITORY_EVENT_MANAGER,
+                                             componentName,
+                                             OMRSEventPipelineMonitor.startTimer(),
+                                             false,
+                                             null);
+
+        OMRSEventPipelineMetrics metrics = OMRSEventPipelineMonitor.getMetrics();
+
+        assertEquals(metrics.getSlowEventThresholdMillis(), 500);
+        assertEquals(metrics.getStageMetrics().get(0).getEventCount(), 2);
+        assertEquals(metrics.getStageMetrics().get(0).getSlowEventCount(), 1);
+
+        OMRSEventPipelineMonitor.setSlowEventThresholdMillis(-1);
+
+        assertEquals(OMRSEventPipelineMonitor.getSlowEventThresholdMillis(), 0);
+    }
+
+
+    /**
+     * Validate that the latest and largest queue depth is kept.
+     */
+    @Test public void testQueueDepth()
+    {
+        OMRSEventPipelineMonitor.recordQueueDepth(OMRSEventPipelineStage.EVENT_BUS_CONSUMER, topicName, 7);
+        OMRSEventPipelineMonitor.recordQueueDepth(OMRSEventPipelineStage.EVENT_BUS_CONSUMER, topicName, 3);
+
+        OMRSEventStageMetrics metrics = OMRSEventPipelineMonitor.getMetrics().getStageMetrics().get(0);
+
+        assertEquals(metrics.getQueueDepth(), 3);
+        assertEquals(metrics.getMaxQueueDepth(), 7);
+        assertEquals(metrics.getEventCount(), 0);
+    }
+
+
+    /**
+     * Validate that the lag is measured for each partition.
+     */
+    @Test public void testPartitionLag()
+    {
+        long now = System.currentTimeMillis();
+
+        OMRSEventPipelineMonitor.recordPartitionPosition(topicName, 1, 10, now - 5000);
+        OMRSEventPipelineMonitor.recordPartitionPosition(topicName, 1, 11, now);
+        OMRSEventPipelineMonitor.recordPartitionPosition(topicName, 0, 4, -1);
+
+        List<OMRSEventPartitionLag> partitionLags = OMRSEventPipelineMonitor.getMetrics().getPartitionLags();
+
+        assertEquals(partitionLags.size(), 2);
+        assertEquals(partitionLags.get(0).getPartition(), 0);
+        assertEquals(partitionLags.get(0).getLastOffset(), 4);
+        assertEquals(partitionLags.get(0).getLagMillis(), 0);
+
+        OMRSEventPartitionLag partitionLag = partitionLags.get(1);
+
+        assertEquals(partitionLag.getTopicName(), topicName);
+        assertEquals(partitionLag.getLastOffset(), 11);
+        assertEquals(partitionLag.getLastEventTime(), now);
+        assertTrue(partitionLag.getLagMillis() < 5000);
+        assertTrue(partitionLag.getMaxLagMillis() >= 5000);
+    }
+
+
+    /**
+     * Validate that the metrics bean can be serialized and deserialized.
+     */
+    @Test public void testJSON()
+    {
+        OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.OMRS_TOPIC_CONNECTOR,
+                                             componentName,
+                                             OMRSEventPipelineMonitor.startTimer(),
+                                             false,
+                                             null);
+        OMRSEventPipelineMonitor.recordPartitionPosition(topicName, 0, 1, System.currentTimeMillis());
+
+        OMRSEventPipelineMetrics metrics      = OMRSEventPipelineMonitor.getMetrics();
+        ObjectMapper             objectMapper = new ObjectMapper();
+        String                   jsonString   = null;
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(metrics);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            assertEquals(objectMapper.readValue(jsonString, OMRSEventPipelineMetrics.class), metrics);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        assertEquals(new OMRSEventPipelineMetrics(metrics), metrics);
+    }
+}
@@ -0,0 +1,196 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that OMRSMetrics only records calls while a registry is set up and that OMRSInMemoryMetricsRegistry
+ * accumulates the calls correctly.
+ */
+public class TestOMRSMetrics
+{
+    private static final String memberName    = "TestMember";
+    private static final String operationName = "findEntitiesByProperty";
+
+
+    /**
+     * Default constructor
+     */
+    public TestOMRSMetrics()
+    {
+    }
+
+
+    /**
+     * Leave metrics disabled for the other tests.
+     */
+    @AfterMethod public void disableMetrics()
+    {
+        OMRSMetrics.setRegistry(null);
+    }
+
+
+    /**
+     * Validate that nothing is recorded while metrics are disabled.
+     */
+    @Test public void testDisabled()
+    {
+        OMRSInMemoryMetricsRegistry registry = new OMRSInMemoryMetricsRegistry();
+
+        assertFalse(OMRSMetrics.isEnabled());
+
+        long startTime = OMRSMetrics.startTimer();
+
+        assertEquals(startTime, 0L);
+
+        /*
+         * The registry is set up part way through the call so this call must still be ignored.
+         */
+        OMRSMetrics.setRegistry(registry);
+        OMRSMetrics.recordSuccess(memberName, operationName, startTime, null);
+
+        assertTrue(registry.getOperationMetrics().isEmpty());
+    }
+
+
+    /**
+     * Validate that successful and failed calls are accumulated for each member and operation.
+     */
+    @Test public void testRecordCalls()
+    {
+        OMRSInMemoryMetricsRegistry registry = new OMRSInMemoryMetricsRegistry();
+
+        OMRSMetrics.setRegistry(registry);
+
+        List<EntityDetail> result = Arrays.asList(new EntityDetail(), new EntityDetail(), new EntityDetail());
+
+        OMRSMetrics.recordSuccess(memberName, operationName, OMRSMetrics.startTimer(), result);
+        OMRSMetrics.recordSuccess(memberName, operationName, OMRSMetrics.startTimer(), null);
+        OMRSMetrics.recordFailure(memberName, operationName, OMRSMetrics.startTimer());
+        OMRSMetrics.recordSuccess("OtherMember", operationName, OMRSMetrics.startTimer(), result);
+
+        List<OMRSOperationMetrics> metricsList = registry.getOperationMetrics();
+
+        assertEquals(metricsList.size(), 2);
+
+        OMRSOperationMetrics metrics = null;
+        for (OMRSOperationMetrics operationMetrics : metricsList)
+        {
+            if (memberName.equals(operationMetrics.getMemberName()))
+            {
+                metrics = operationMetrics;
+            }
+        }
+
+        assertTrue(metrics != null);
+        assertEquals(metrics.getOperationName(), operationName);
+        assertEquals(metrics.getCallCount(), 3);
+        assertEquals(metrics.getErrorCount(), 1);
+        assertEquals(metrics.getTotalResultSize(), 3);
+        assertEquals(metrics.getMaxResultSize(), 3);
+        assertTrue(metrics.getMaxLatencyMillis() <= metrics.getTotalLatencyMillis());
+
+        long bucketTotal = 0;
+        for (Long count : metrics.getLatencyHistogram().values())
+        {
+            bucketTotal = bucketTotal + count;
+        }
+        assertEquals(bucketTotal, 3);
+
+        registry.reset();
+
+        assertTrue(registry.getOperationMetrics().isEmpty());
+    }
+
+
+    /**
+     * Validate that the calls are placed in the right latency bucket.
+     */
+    @Test public void testLatencyBuckets()
+    {
+        OMRSInMemoryMetricsRegistry registry = new OMRSInMemoryMetricsRegistry();
+
+        registry.recordCall(memberName, operationName, 500000L, 0, false);
+        registry.recordCall(memberName, operationName, 3000000L, 0, false);
+        registry.recordCall(memberName, operationName, 60000000000L, 0, false);
+
+        Map<String, Long> histogram = registry.getOperationMetrics().get(0).getLatencyHistogram();
+
+        assertEquals(histogram.get("1ms"), Long.valueOf(1));
+        assertEquals(histogram.get("2ms"), Long.valueOf(0));
+        assertEquals(histogram.get("5ms"), Long.valueOf(1));
+        assertEquals(histogram.get("overflow"), Long.valueOf(1));
+    }
+
+
+    /**
+     * Validate that the size of each kind of result is counted.
+     */
+    @Test public void testResultSize()
+    {
+        InstanceGraph      graph         = new InstanceGraph();
+        List<Relationship> relationships = new ArrayList<>();
+
+        relationships.add(new Relationship());
+        graph.setEntities(Arrays.asList(new EntityDetail(), new EntityDetail()));
+        graph.setRelationships(relationships);
+
+        assertEquals(OMRSMetrics.getResultSize(null), 0);
+        assertEquals(OMRSMetrics.getResultSize(new EntityDetail()), 1);
+        assertEquals(OMRSMetrics.getResultSize(new ArrayList<>()), 0);
+        assertEquals(OMRSMetrics.getResultSize(graph), 3);
+    }
+
+
+    /**
+     * Validate that the metrics bean can be serialized and deserialized.
+     */
+    @Test public void testJSON()
+    {
+        OMRSInMemoryMetricsRegistry registry = new OMRSInMemoryMetricsRegistry();
+
+        registry.recordCall(memberName, operationName, 1500000L, 10, false);
+
+        OMRSOperationMetrics metrics = registry.getOperationMetrics().get(0);
+        ObjectMapper         objectMapper = new ObjectMapper();
+        String               jsonString   = null;
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(metrics);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            assertEquals(objectMapper.readValue(jsonString, OMRSOperationMetrics.class), metrics);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        assertNull(new OMRSOperationMetrics().getLatencyHistogram());
+        assertEquals(new OMRSOperationMetrics(metrics), metrics);
+    }
+}
@@ -0,0 +1,178 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.wireformat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify the OMRSWireFormat enum contains unique ordinals, non-null names and descriptions and that
+ * events can be encoded and decoded in each wire format.
+ */
+public class TestOMRSWireFormat
+{
+    private List<Integer> existingOrdinals = null;
+
+    /**
+     * Validate that a supplied ordinal is unique.
+     *
+     * @param ordinal value to test
+     * @return boolean result
+     */
+    private boolean isUniqueOrdinal(int  ordinal)
+    {
+        Integer       newOrdinal = ordinal;
+
+        if (existingOrdinals.contains(newOrdinal))
+        {
+            return false;
+        }
+        else
+        {
+            existingOrdinals.add(newOrdinal);
+            return true;
+        }
+    }
+
+
+    /**
+     * Return a populated instance event.
+     *
+     * @return event bean
+     */
+    private OMRSEventV1 getInstanceEvent()
+    {
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName("TestType");
+        instanceType.setTypeDefGUID("TestTypeGUID");
+
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue("TestValue");
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty("qualifiedName", propertyValue);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID("TestGUID");
+        entity.setType(instanceType);
+        entity.setProperties(properties);
+
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+        instanceSection.setEntity(entity);
+
+        OMRSEventV1 event = new OMRSEventV1();
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+        event.setInstanceEventSection(instanceSection);
+
+        return event;
+    }
+
+
+    /**
+     * Validated the values of the enum.
+     */
+    @Test public void testEnumValues()
+    {
+        existingOrdinals = new ArrayList<>();
+
+        for (OMRSWireFormat testValue : OMRSWireFormat.values())
+        {
+            assertTrue(isUniqueOrdinal(testValue.getOrdinal()));
+            assertTrue(testValue.getName() != null);
+            assertTrue(testValue.getContentType() != null);
+            assertTrue(testValue.getDescription() != null);
+            assertTrue(testValue.getObjectMapper() != null);
+            assertTrue(OMRSWireFormat.getWireFormat(testValue.getName().toLowerCase()) == testValue);
+        }
+
+        assertTrue(OMRSWireFormat.getWireFormat(null) == OMRSWireFormat.JSON);
+        assertTrue(OMRSWireFormat.getWireFormat("Unknown") == OMRSWireFormat.JSON);
+    }
+
+
+    /**
+     * Validate that an event encoded in each wire format decodes to the same content.
+     */
+    @Test public void testEventEncoding()
+    {
+        OMRSEventV1 event = this.getInstanceEvent();
+
+        for (OMRSWireFormat wireFormat : OMRSWireFormat.values())
+        {
+            try
+            {
+                String        encodedEvent = wireFormat.writeValueAsString(event);
+                OMRSEventBean decodedEvent = OMRSWireFormat.readValueFromString(encodedEvent, OMRSEventBean.class);
+
+                assertTrue(decodedEvent instanceof OMRSEventV1);
+
+                OMRSEventV1 decodedEventV1 = (OMRSEventV1)decodedEvent;
+                EntityDetail entity = decodedEventV1.getInstanceEventSection().getEntity();
+
+                assertEquals(decodedEventV1.getEventCategory(), OMRSEventCategory.INSTANCE);
+                assertEquals(entity.getGUID(), "TestGUID");
+                assertEquals(entity.getType().getTypeDefName(), "TestType");
+                assertEquals(((PrimitivePropertyValue)entity.getProperties().getPropertyValue("qualifiedName")).getPrimitiveValue(),
+                             "TestValue");
+            }
+            catch (Throwable  exc)
+            {
+                assertTrue(false, "Exception: " + exc.getMessage());
+            }
+        }
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String has the same content as the object used to
+     * create the JSON String.
+     */
+    @Test public void testJSON()
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String       jsonString   = null;
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(OMRSWireFormat.SMILE);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            assertTrue(objectMapper.readValue(jsonString, OMRSWireFormat.class) == OMRSWireFormat.SMILE);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(OMRSWireFormat.SMILE.toString().contains("OMRSWireFormat"));
+    }
+}
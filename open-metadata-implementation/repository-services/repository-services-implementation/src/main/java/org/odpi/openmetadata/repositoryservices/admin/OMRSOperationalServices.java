@@ -313,7 +313,8 @@ public class OMRSOperationalServices
             localRepositoryEventManager =
                     new OMRSRepositoryEventManager("local repository outbound",
                             new OMRSRepositoryEventExchangeRule(localRepositoryConfig.getEventsToSendRule(),
-                                                                localRepositoryConfig.getSelectedTypesToSend()),
+                                                                localRepositoryConfig.getSelectedTypesToSend(),
+                                                                localRepositoryContentManager),
                             new OMRSRepositoryContentValidator(localRepositoryContentManager));
 
             /*
@@ -562,7 +563,8 @@ public class OMRSOperationalServices
                                                    localRepositoryEventManager,
                                                    localRepositoryContentManager,
                                                    new OMRSRepositoryEventExchangeRule(localRepositoryConfig.getEventsToSaveRule(),
-                                                                                       localRepositoryConfig.getSelectedTypesToSave()));
+                                                                                       localRepositoryConfig.getSelectedTypesToSave(),
+                                                                                       localRepositoryContentManager));
 
 
             /*
@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.repositoryservices.archivemanager;
 
 import org.odpi.openmetadata.repositoryservices.archivemanager.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.repositoryservices.archivemanager.opentypes.OpenMetadataTypesSnapshot;
 
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
@@ -10,6 +11,7 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessor;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventProcessor;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentProcessor;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
@@ -21,9 +23,11 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * OMRSArchiveManager manages the loading and unloading of open metadata archives from the local OMRS repository.
@@ -125,15 +129,28 @@ public class OMRSArchiveManager
 
     /**
      * Unpack and process the contents an open metadata archive store, passing its contents to the local
-     * repository (if it exists).
+     * repository (if it exists).  The open metadata types are loaded from the snapshot generated during the build
+     * if it matches this level of the code, since these types have already been validated.  Otherwise the
+     * archive is built and its types are validated as they are loaded.
      */
     private void processOpenMetadataTypes()
     {
-        OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
-        OpenMetadataArchive      openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
+        OpenMetadataArchive openMetadataTypes = OpenMetadataTypesSnapshot.loadSnapshot();
+
+        if ((openMetadataTypes != null) && (openMetadataTypes.getArchiveProperties() != null))
+        {
+            repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypes.getArchiveProperties().getArchiveGUID());
+            processOpenMetadataArchive(openMetadataTypes, repositoryContentManager, localInstanceEventProcessor, true);
+        }
+        else
+        {
+            OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
+
+            openMetadataTypes = openMetadataTypesArchive.getOpenMetadataArchive();
 
-        repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
-        processOpenMetadataArchive(openMetadataTypes, repositoryContentManager, localInstanceEventProcessor);
+            repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
+            processOpenMetadataArchive(openMetadataTypes, repositoryContentManager, localInstanceEventProcessor);
+        }
     }
 
     /**
@@ -152,26 +169,34 @@ public class OMRSArchiveManager
         {
             /*
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
-             * metadata instances.
+             * metadata instances.  The archive store passes the sections to the loader as it reads them
+             * so a large archive does not need to be held in memory.
              */
-            OpenMetadataArchive archiveContent = archiveStore.getArchiveContents();
+            ArchiveLoader archiveLoader = new ArchiveLoader(typeDefProcessor, instanceProcessor, false);
 
-            if (archiveContent == null)
+            try
             {
-                final String     actionDescription = "Process Open Metadata Archive";
-
-                OMRSAuditCode auditCode = OMRSAuditCode.EMPTY_ARCHIVE;
-                auditLog.logRecord(actionDescription,
-                                   auditCode.getLogMessageId(),
-                                   auditCode.getSeverity(),
-                                   auditCode.getFormattedLogMessage(),
-                                   null,
-                                   auditCode.getSystemAction(),
-                                   auditCode.getUserAction());
+                if (archiveStore.processArchiveContents(archiveLoader))
+                {
+                    archiveLoader.logCompletion();
+                }
+                else
+                {
+                    final String     actionDescription = "Process Open Metadata Archive";
+
+                    OMRSAuditCode auditCode = OMRSAuditCode.EMPTY_ARCHIVE;
+                    auditLog.logRecord(actionDescription,
+                                       auditCode.getLogMessageId(),
+                                       auditCode.getSeverity(),
+                                       auditCode.getFormattedLogMessage(),
+                                       null,
+                                       auditCode.getSystemAction(),
+                                       auditCode.getUserAction());
+                }
             }
-            else
+            catch (RepositoryErrorException  error)
             {
-                processOpenMetadataArchive(archiveContent, typeDefProcessor, instanceProcessor);
+                archiveLoader.logFailure(error);
             }
         }
     }
@@ -187,62 +212,47 @@ public class OMRSArchiveManager
                                             OMRSTypeDefEventProcessor    typeDefProcessor,
                                             OMRSInstanceEventProcessor   instanceProcessor)
     {
-        OMRSAuditCode    auditCode;
-        final String     actionDescription = "Process Open Metadata Archive";
+        processOpenMetadataArchive(archiveContent, typeDefProcessor, instanceProcessor, false);
+    }
 
+
+    /**
+     * Step through the content of an open metadata archive, passing its contents to the local repository (if it
+     * exists).
+     *
+     * @param archiveContent open metadata archive to process
+     * @param typeDefProcessor receiver of new TypeDefs
+     * @param instanceProcessor receiver of new instances
+     * @param isPrevalidated the new types in the archive have already been validated
+     */
+    private void processOpenMetadataArchive(OpenMetadataArchive          archiveContent,
+                                            OMRSTypeDefEventProcessor    typeDefProcessor,
+                                            OMRSInstanceEventProcessor   instanceProcessor,
+                                            boolean                      isPrevalidated)
+    {
+        ArchiveLoader                 archiveLoader     = new ArchiveLoader(typeDefProcessor, instanceProcessor, isPrevalidated);
         OpenMetadataArchiveProperties archiveProperties = archiveContent.getArchiveProperties();
 
         if (archiveProperties != null)
         {
-            auditCode = OMRSAuditCode.PROCESSING_ARCHIVE;
-            auditLog.logRecord(actionDescription,
-                               auditCode.getLogMessageId(),
-                               auditCode.getSeverity(),
-                               auditCode.getFormattedLogMessage(archiveProperties.getArchiveName()),
-                               null,
-                               auditCode.getSystemAction(),
-                               auditCode.getUserAction());
-
+            archiveLoader.processArchiveProperties(archiveProperties);
 
             OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
             OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
 
-            int                              typeCount            = 0;
-            int                              instanceCount        = 0;
-
-
             if (archiveTypeStore != null)
             {
-                typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
+                archiveLoader.processTypeStore(archiveTypeStore);
             }
 
             if (archiveInstanceStore != null)
             {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
+                archiveLoader.processEntities(archiveInstanceStore.getEntities());
+                archiveLoader.processRelationships(archiveInstanceStore.getRelationships());
             }
-
-            auditCode = OMRSAuditCode.COMPLETED_ARCHIVE;
-            auditLog.logRecord(actionDescription,
-                               auditCode.getLogMessageId(),
-                               auditCode.getSeverity(),
-                               auditCode.getFormattedLogMessage(Integer.toString(typeCount),
-                                                                Integer.toString(instanceCount),
-                                                                archiveProperties.getArchiveName()),
-                               null,
-                               auditCode.getSystemAction(),
-                               auditCode.getUserAction());
-        }
-        else
-        {
-            auditCode = OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE;
-            auditLog.logRecord(actionDescription,
-                               auditCode.getLogMessageId(),
-                               auditCode.getSeverity(),
-                               auditCode.getFormattedLogMessage(),
-                               null,
-                               auditCode.getSystemAction(),
-                               auditCode.getUserAction());
         }
+
+        archiveLoader.logCompletion();
     }
 
 
@@ -254,11 +264,15 @@ public class OMRSArchiveManager
      *
      * @param archiveProperties properties of the archive used for logging
      * @param archiveTypeStore TypeStore from the archive
+     * @param typeDefProcessor receiver of new TypeDefs
+     * @param isPrevalidated the new types have already been validated and can be loaded directly into the
+     *                       repository content manager
      * @return type count
      */
     private int  processTypeDefStore(OpenMetadataArchiveProperties    archiveProperties,
                                      OpenMetadataArchiveTypeStore     archiveTypeStore,
-                                     OMRSTypeDefEventProcessor        typeDefProcessor)
+                                     OMRSTypeDefEventProcessor        typeDefProcessor,
+                                     boolean                          isPrevalidated)
     {
         List<TypeDefPatch>     typeDefPatches       = archiveTypeStore.getTypeDefPatches();
         List<AttributeTypeDef> newAttributeTypeDefs = archiveTypeStore.getAttributeTypeDefs();
@@ -304,6 +318,15 @@ public class OMRSArchiveManager
                 }
             }
 
+            if (isPrevalidated && (typeDefProcessor == repositoryContentManager))
+            {
+                typeCount += repositoryContentManager.addPrevalidatedTypes(originatorName,
+                                                                           originatorMetadataCollectionId,
+                                                                           newAttributeTypeDefs,
+                                                                           newTypeDefs);
+                return typeCount;
+            }
+
             if (newAttributeTypeDefs != null)
             {
                 for (AttributeTypeDef newAttributeTypeDef : newAttributeTypeDefs)
@@ -346,22 +369,22 @@ public class OMRSArchiveManager
 
     /**
      * The InstanceStore is in two parts: an optional list of entities followed by an optional list
-     * of relationships.  It is possible that this archive has been processed before
-     * and so any duplicates detected are ignored.  However, conflicting instances are detected.
-     * Any problems found in applying the archive contents are recorded on the audit log.
+     * of relationships.  The lists are passed a batch at a time from the archive store.  It is possible that
+     * this archive has been processed before and so any duplicates detected are ignored.  However, conflicting
+     * instances are detected.  Any problems found in applying the archive contents are recorded on the audit log.
      *
      * @param archiveProperties properties describing the archive used in logging
-     * @param archiveInstanceStore the instance store to process
+     * @param entities batch of entities to process (may be null)
+     * @param relationships batch of relationships to process (may be null)
      * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
      *                          if there is no local repository configured for this server.
      * @return instance count
      */
-    private int  processInstanceStore(OpenMetadataArchiveProperties    archiveProperties,
-                                      OpenMetadataArchiveInstanceStore archiveInstanceStore,
-                                      OMRSInstanceEventProcessor       instanceProcessor)
+    private int  processInstances(OpenMetadataArchiveProperties    archiveProperties,
+                                  List<EntityDetail>               entities,
+                                  List<Relationship>               relationships,
+                                  OMRSInstanceEventProcessor       instanceProcessor)
     {
-        List<EntityDetail> entities      = archiveInstanceStore.getEntities();
-        List<Relationship> relationships = archiveInstanceStore.getRelationships();
         int                instanceCount = 0;
 
         if (instanceProcessor != null)
@@ -417,4 +440,167 @@ public class OMRSArchiveManager
 
         return instanceCount;
     }
+
+
+    /**
+     * ArchiveLoader receives the sections of an open metadata archive and passes them to the local repository.
+     * The counts are updated atomically because an archive store may pass several batches of instances at
+     * the same time.
+     */
+    private class ArchiveLoader implements OpenMetadataArchiveContentProcessor
+    {
+        private final OMRSTypeDefEventProcessor  typeDefProcessor;
+        private final OMRSInstanceEventProcessor instanceProcessor;
+        private final boolean                    isPrevalidated;
+
+        private volatile OpenMetadataArchiveProperties archiveProperties = null;
+        private final AtomicInteger                    typeCount         = new AtomicInteger(0);
+        private final AtomicInteger                    instanceCount     = new AtomicInteger(0);
+
+
+        /**
+         * Constructor
+         *
+         * @param typeDefProcessor receiver of new TypeDefs
+         * @param instanceProcessor receiver of new instances
+         * @param isPrevalidated the new types in the archive have already been validated
+         */
+        ArchiveLoader(OMRSTypeDefEventProcessor    typeDefProcessor,
+                      OMRSInstanceEventProcessor   instanceProcessor,
+                      boolean                      isPrevalidated)
+        {
+            this.typeDefProcessor = typeDefProcessor;
+            this.instanceProcessor = instanceProcessor;
+            this.isPrevalidated = isPrevalidated;
+        }
+
+
+        /**
+         * Save the archive properties and log the start of processing.
+         *
+         * @param archiveProperties properties of the archive
+         */
+        @Override
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            final String     actionDescription = "Process Open Metadata Archive";
+
+            this.archiveProperties = archiveProperties;
+
+            if (archiveProperties != null)
+            {
+                OMRSAuditCode auditCode = OMRSAuditCode.PROCESSING_ARCHIVE;
+                auditLog.logRecord(actionDescription,
+                                   auditCode.getLogMessageId(),
+                                   auditCode.getSeverity(),
+                                   auditCode.getFormattedLogMessage(archiveProperties.getArchiveName()),
+                                   null,
+                                   auditCode.getSystemAction(),
+                                   auditCode.getUserAction());
+            }
+        }
+
+
+        /**
+         * Pass the TypeDefs to the local repository.
+         *
+         * @param archiveTypeStore type store from the archive
+         */
+        @Override
+        public void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore)
+        {
+            if ((archiveProperties != null) && (archiveTypeStore != null))
+            {
+                typeCount.addAndGet(processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor, isPrevalidated));
+            }
+        }
+
+
+        /**
+         * Pass a batch of entities to the local repository.
+         *
+         * @param entities list of entities
+         */
+        @Override
+        public void processEntities(List<EntityDetail> entities)
+        {
+            if ((archiveProperties != null) && (entities != null))
+            {
+                instanceCount.addAndGet(processInstances(archiveProperties, entities, null, instanceProcessor));
+            }
+        }
+
+
+        /**
+         * Pass a batch of relationships to the local repository.
+         *
+         * @param relationships list of relationships
+         */
+        @Override
+        public void processRelationships(List<Relationship> relationships)
+        {
+            if ((archiveProperties != null) && (relationships != null))
+            {
+                instanceCount.addAndGet(processInstances(archiveProperties, null, relationships, instanceProcessor));
+            }
+        }
+
+
+        /**
+         * Log the result of processing the archive.
+         */
+        void logCompletion()
+        {
+            final String     actionDescription = "Process Open Metadata Archive";
+
+            OMRSAuditCode auditCode;
+
+            if (archiveProperties != null)
+            {
+                auditCode = OMRSAuditCode.COMPLETED_ARCHIVE;
+                auditLog.logRecord(actionDescription,
+                                   auditCode.getLogMessageId(),
+                                   auditCode.getSeverity(),
+                                   auditCode.getFormattedLogMessage(Integer.toString(typeCount.get()),
+                                                                    Integer.toString(instanceCount.get()),
+                                                                    archiveProperties.getArchiveName()),
+                                   null,
+                                   auditCode.getSystemAction(),
+                                   auditCode.getUserAction());
+            }
+            else
+            {
+                auditCode = OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE;
+                auditLog.logRecord(actionDescription,
+                                   auditCode.getLogMessageId(),
+                                   auditCode.getSeverity(),
+                                   auditCode.getFormattedLogMessage(),
+                                   null,
+                                   auditCode.getSystemAction(),
+                                   auditCode.getUserAction());
+            }
+        }
+
+
+        /**
+         * Log that the archive store was unable to pass all of the archive.
+         *
+         * @param error exception from the archive store
+         */
+        void logFailure(RepositoryErrorException   error)
+        {
+            final String     actionDescription = "Process Open Metadata Archive";
+
+            OMRSAuditCode auditCode = OMRSAuditCode.INCOMPLETE_ARCHIVE;
+            auditLog.logRecord(actionDescription,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(Integer.toString(typeCount.get()),
+                                                                Integer.toString(instanceCount.get()),
+                                                                error.getErrorMessage()),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+    }
 }
@@ -0,0 +1,1286 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.archivemanager.OMRSArchiveBuilder;
+import org.odpi.openmetadata.repositoryservices.archivemanager.OMRSArchiveHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+
+/**
+ * OpenMetadataTypesSnapshot is a compact binary copy of the archive built by OpenMetadataTypesArchive.
+ * The snapshot is generated during the build (see the main method) and stored alongside the classes of this
+ * module.  Loading the snapshot avoids running the archive builder, and its validation of every type, each time a
+ * server starts.
+ * <p>
+ * The snapshot header holds a checksum of the class files that build the archive.  If these classes have
+ * changed since the snapshot was generated, or the payload checksum does not match, the snapshot is ignored and
+ * the caller builds the archive in the usual way.
+ * </p>
+ */
+public class OpenMetadataTypesSnapshot
+{
+    private static final Logger log = LoggerFactory.getLogger(OpenMetadataTypesSnapshot.class);
+
+    static final String snapshotResourceName = "OpenMetadataTypesArchive.snapshot";
+
+    private static final int snapshotMagicNumber   = 0x4F4D5453;  /* "OMTS" */
+    private static final int snapshotFormatVersion = 1;
+    private static final int headerLength          = 28;
+
+    /*
+     * Markers used in the payload.
+     */
+    private static final int nullValue       = -1;
+    private static final int newString       = -2;
+    private static final int inlineAttribute = -2;
+    private static final int inlineLink      = -2;
+
+    /*
+     * The classes that determine the content of the open metadata types archive and the enums that are
+     * stored by ordinal.
+     */
+    private static final Class<?>[] sourceClasses = { OpenMetadataTypesArchive.class,
+                                                      OMRSArchiveBuilder.class,
+                                                      OMRSArchiveHelper.class,
+                                                      OpenMetadataTypesSnapshot.class,
+                                                      OpenMetadataArchiveType.class,
+                                                      InstanceStatus.class,
+                                                      AttributeCardinality.class,
+                                                      AttributeTypeDefCategory.class,
+                                                      ClassificationPropagationRule.class,
+                                                      CollectionDefCategory.class,
+                                                      PrimitiveDefCategory.class,
+                                                      RelationshipEndCardinality.class,
+                                                      TypeDefCategory.class,
+                                                      TypeDefPatchAction.class };
+
+
+    /**
+     * Generate the snapshot during the build.
+     *
+     * @param args the first argument is the directory of the compiled classes of this module
+     * @throws IOException unable to write the snapshot
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if (args.length != 1)
+        {
+            throw new IllegalArgumentException("Usage: OpenMetadataTypesSnapshot <output-classes-directory>");
+        }
+
+        String packageDirectory = OpenMetadataTypesSnapshot.class.getPackage().getName().replace('.', File.separatorChar);
+        File   snapshotFile     = new File(new File(args[0], packageDirectory), snapshotResourceName);
+
+        try (OutputStream outputStream = new FileOutputStream(snapshotFile))
+        {
+            outputStream.write(createSnapshot(new OpenMetadataTypesArchive().getOpenMetadataArchive()));
+        }
+
+        log.info("Open metadata types snapshot written to " + snapshotFile.getPath());
+    }
+
+
+    /**
+     * Return the open metadata types archive from the snapshot.
+     *
+     * @return archive or null if the snapshot is missing, out of date or damaged
+     */
+    public static OpenMetadataArchive loadSnapshot()
+    {
+        URL snapshotURL = OpenMetadataTypesSnapshot.class.getResource(snapshotResourceName);
+
+        if (snapshotURL == null)
+        {
+            log.debug("No open metadata types snapshot");
+            return null;
+        }
+
+        try
+        {
+            long sourceChecksum = getSourceChecksum();
+
+            if (sourceChecksum == nullValue)
+            {
+                return null;
+            }
+
+            return readSnapshot(readResource(snapshotURL), sourceChecksum);
+        }
+        catch (Throwable error)
+        {
+            log.debug("Unable to load open metadata types snapshot: " + error.getMessage());
+            return null;
+        }
+    }
+
+
+    /**
+     * Return the snapshot of an archive.
+     *
+     * @param archive archive built by OpenMetadataTypesArchive
+     * @return snapshot bytes
+     * @throws IOException unable to encode the archive
+     */
+    static byte[] createSnapshot(OpenMetadataArchive archive) throws IOException
+    {
+        long sourceChecksum = getSourceChecksum();
+
+        if (sourceChecksum == nullValue)
+        {
+            throw new IOException("Unable to read the class files of the open metadata types archive");
+        }
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(256 * 1024);
+
+        try (DataOutputStream payloadStream = new DataOutputStream(payload))
+        {
+            new SnapshotWriter(payloadStream).writeArchive(archive);
+        }
+
+        byte[] payloadBytes = payload.toByteArray();
+        CRC32  payloadCRC   = new CRC32();
+
+        payloadCRC.update(payloadBytes);
+
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream(headerLength + payloadBytes.length);
+
+        try (DataOutputStream snapshotStream = new DataOutputStream(snapshot))
+        {
+            snapshotStream.writeInt(snapshotMagicNumber);
+            snapshotStream.writeInt(snapshotFormatVersion);
+            snapshotStream.writeLong(sourceChecksum);
+            snapshotStream.writeLong(payloadCRC.getValue());
+            snapshotStream.writeInt(payloadBytes.length);
+            snapshotStream.write(payloadBytes);
+        }
+
+        return snapshot.toByteArray();
+    }
+
+
+    /**
+     * Decode a snapshot if it matches the current classes.
+     *
+     * @param snapshot snapshot bytes
+     * @param sourceChecksum checksum of the current classes
+     * @return archive or null if the snapshot is out of date or damaged
+     */
+    static OpenMetadataArchive readSnapshot(ByteBuffer snapshot,
+                                            long       sourceChecksum)
+    {
+        if ((snapshot.remaining() < headerLength) ||
+            (snapshot.getInt() != snapshotMagicNumber) ||
+            (snapshot.getInt() != snapshotFormatVersion))
+        {
+            log.debug("Open metadata types snapshot has an unknown format");
+            return null;
+        }
+
+        if (snapshot.getLong() != sourceChecksum)
+        {
+            log.debug("Open metadata types snapshot is out of date");
+            return null;
+        }
+
+        long payloadChecksum = snapshot.getLong();
+        int  payloadLength   = snapshot.getInt();
+
+        if (snapshot.remaining() != payloadLength)
+        {
+            log.debug("Open metadata types snapshot is truncated");
+            return null;
+        }
+
+        ByteBuffer payload    = snapshot.slice();
+        CRC32      payloadCRC = new CRC32();
+
+        payloadCRC.update(payload.duplicate());
+
+        if (payloadCRC.getValue() != payloadChecksum)
+        {
+            log.debug("Open metadata types snapshot is damaged");
+            return null;
+        }
+
+        return new SnapshotReader(payload).readArchive();
+    }
+
+
+    /**
+     * Return a checksum of the class files that build the archive.
+     *
+     * @return checksum or -1 if a class file can not be read
+     */
+    static long getSourceChecksum()
+    {
+        CRC32 checksum = new CRC32();
+
+        for (Class<?> sourceClass : sourceClasses)
+        {
+            String simpleName = sourceClass.getName().substring(sourceClass.getName().lastIndexOf('.') + 1);
+
+            try (InputStream classStream = sourceClass.getResourceAsStream(simpleName + ".class"))
+            {
+                if (classStream == null)
+                {
+                    return nullValue;
+                }
+
+                byte[] buffer = new byte[8192];
+                int    bytesRead;
+
+                while ((bytesRead = classStream.read(buffer)) > 0)
+                {
+                    checksum.update(buffer, 0, bytesRead);
+                }
+            }
+            catch (IOException error)
+            {
+                return nullValue;
+            }
+        }
+
+        return checksum.getValue();
+    }
+
+
+    /**
+     * Read the snapshot resource.  A snapshot in the file system is memory-mapped, otherwise (for example in a jar)
+     * it is read into memory.
+     *
+     * @param snapshotURL location of the snapshot
+     * @return buffer containing the snapshot
+     * @throws IOException unable to read the snapshot
+     */
+    private static ByteBuffer readResource(URL snapshotURL) throws IOException
+    {
+        if ("file".equals(snapshotURL.getProtocol()))
+        {
+            try (RandomAccessFile snapshotFile    = new RandomAccessFile(new File(snapshotURL.toURI()), "r");
+                 FileChannel      snapshotChannel = snapshotFile.getChannel())
+            {
+                /*
+                 * The mapping remains valid after the channel is closed.
+                 */
+                return snapshotChannel.map(FileChannel.MapMode.READ_ONLY, 0, snapshotChannel.size());
+            }
+            catch (URISyntaxException error)
+            {
+                throw new IOException(error);
+            }
+        }
+
+        try (InputStream snapshotStream = snapshotURL.openStream())
+        {
+            ByteArrayOutputStream snapshot = new ByteArrayOutputStream(256 * 1024);
+            byte[]                buffer   = new byte[8192];
+            int                   bytesRead;
+
+            while ((bytesRead = snapshotStream.read(buffer)) > 0)
+            {
+                snapshot.write(buffer, 0, bytesRead);
+            }
+
+            return ByteBuffer.wrap(snapshot.toByteArray());
+        }
+    }
+
+
+    /**
+     * SnapshotWriter encodes the archive.  Each string is written once; later uses refer to the first by
+     * number.  Attributes whose type matches an entry in the archive's AttributeTypeDef list refer to that entry, and
+     * links to TypeDefs that are the TypeDefs themselves (such as super types) refer to the earlier TypeDef, so
+     * the decoded archive shares objects in the same way as the archive from the archive builder.
+     */
+    private static class SnapshotWriter
+    {
+        private DataOutputStream      output;
+        private Map<String, Integer>  stringTable           = new HashMap<>();
+        private Map<String, Integer>  attributeTypeDefTable = new HashMap<>();
+        private List<AttributeTypeDef> attributeTypeDefs    = new ArrayList<>();
+        private Map<String, Integer>  typeDefTable          = new HashMap<>();
+        private List<TypeDef>         typeDefs              = new ArrayList<>();
+
+
+        SnapshotWriter(DataOutputStream output)
+        {
+            this.output = output;
+        }
+
+
+        void writeArchive(OpenMetadataArchive archive) throws IOException
+        {
+            OpenMetadataArchiveProperties properties = archive.getArchiveProperties();
+            OpenMetadataArchiveTypeStore  typeStore  = archive.getArchiveTypeStore();
+
+            output.writeBoolean(properties != null);
+            if (properties != null)
+            {
+                writeString(properties.getArchiveGUID());
+                writeString(properties.getArchiveName());
+                writeString(properties.getArchiveDescription());
+                writeEnum(properties.getArchiveType());
+                writeString(properties.getOriginatorName());
+                writeString(properties.getOriginatorOrganization());
+                writeDate(properties.getCreationDate());
+                writeStringList(properties.getDependsOnArchives());
+            }
+
+            output.writeBoolean(typeStore != null);
+            if (typeStore != null)
+            {
+                List<AttributeTypeDef> archiveAttributeTypeDefs = typeStore.getAttributeTypeDefs();
+
+                if (archiveAttributeTypeDefs == null)
+                {
+                    output.writeInt(nullValue);
+                }
+                else
+                {
+                    output.writeInt(archiveAttributeTypeDefs.size());
+                    for (AttributeTypeDef attributeTypeDef : archiveAttributeTypeDefs)
+                    {
+                        writeAttributeTypeDef(attributeTypeDef);
+
+                        if ((attributeTypeDef != null) && (attributeTypeDef.getGUID() != null))
+                        {
+                            attributeTypeDefTable.putIfAbsent(attributeTypeDef.getGUID(), attributeTypeDefs.size());
+                        }
+                        attributeTypeDefs.add(attributeTypeDef);
+                    }
+                }
+
+                List<TypeDefPatch> typeDefPatches = typeStore.getTypeDefPatches();
+
+                if (typeDefPatches == null)
+                {
+                    output.writeInt(nullValue);
+                }
+                else
+                {
+                    output.writeInt(typeDefPatches.size());
+                    for (TypeDefPatch typeDefPatch : typeDefPatches)
+                    {
+                        writeTypeDefPatch(typeDefPatch);
+                    }
+                }
+
+                List<TypeDef> archiveTypeDefs = typeStore.getNewTypeDefs();
+
+                if (archiveTypeDefs == null)
+                {
+                    output.writeInt(nullValue);
+                }
+                else
+                {
+                    output.writeInt(archiveTypeDefs.size());
+                    for (TypeDef typeDef : archiveTypeDefs)
+                    {
+                        writeTypeDef(typeDef);
+
+                        if ((typeDef != null) && (typeDef.getGUID() != null))
+                        {
+                            typeDefTable.putIfAbsent(typeDef.getGUID(), typeDefs.size());
+                        }
+                        typeDefs.add(typeDef);
+                    }
+                }
+            }
+        }
+
+
+        private void writeAttributeTypeDef(AttributeTypeDef attributeTypeDef) throws IOException
+        {
+            if (attributeTypeDef == null)
+            {
+                writeEnum(null);
+                return;
+            }
+
+            writeEnum(attributeTypeDef.getCategory());
+            output.writeLong(attributeTypeDef.getVersion());
+            writeString(attributeTypeDef.getVersionName());
+            writeString(attributeTypeDef.getGUID());
+            writeString(attributeTypeDef.getName());
+            writeString(attributeTypeDef.getDescription());
+            writeString(attributeTypeDef.getDescriptionGUID());
+
+            if (attributeTypeDef instanceof PrimitiveDef)
+            {
+                writeEnum(((PrimitiveDef) attributeTypeDef).getPrimitiveDefCategory());
+            }
+            else if (attributeTypeDef instanceof CollectionDef)
+            {
+                CollectionDef collectionDef = (CollectionDef) attributeTypeDef;
+
+                writeEnum(collectionDef.getCollectionDefCategory());
+                output.writeInt(collectionDef.getArgumentCount());
+                writeEnumList(collectionDef.getArgumentTypes());
+            }
+            else if (attributeTypeDef instanceof EnumDef)
+            {
+                EnumDef              enumDef     = (EnumDef) attributeTypeDef;
+                List<EnumElementDef> elementDefs = enumDef.getElementDefs();
+
+                if (elementDefs == null)
+                {
+                    output.writeInt(nullValue);
+                }
+                else
+                {
+                    output.writeInt(elementDefs.size());
+                    for (EnumElementDef elementDef : elementDefs)
+                    {
+                        writeEnumElementDef(elementDef);
+                    }
+                }
+
+                writeEnumElementDef(enumDef.getDefaultValue());
+            }
+            else
+            {
+                throw new IOException("Unsupported AttributeTypeDef class " + attributeTypeDef.getClass().getName());
+            }
+        }
+
+
+        private void writeEnumElementDef(EnumElementDef elementDef) throws IOException
+        {
+            output.writeBoolean(elementDef != null);
+            if (elementDef != null)
+            {
+                output.writeInt(elementDef.getOrdinal());
+                writeString(elementDef.getValue());
+                writeString(elementDef.getDescription());
+                writeString(elementDef.getDescriptionGUID());
+            }
+        }
+
+
+        private void writeTypeDefPatch(TypeDefPatch typeDefPatch) throws IOException
+        {
+            output.writeBoolean(typeDefPatch != null);
+            if (typeDefPatch != null)
+            {
+                writeEnum(typeDefPatch.getAction());
+                writeString(typeDefPatch.getTypeDefGUID());
+                writeString(typeDefPatch.getTypeName());
+                output.writeLong(typeDefPatch.getApplyToVersion());
+                output.writeLong(typeDefPatch.getUpdateToVersion());
+                writeString(typeDefPatch.getNewVersionName());
+                writeString(typeDefPatch.getDescription());
+                writeString(typeDefPatch.getDescriptionGUID());
+                writeAttributeList(typeDefPatch.getTypeDefAttributes());
+                writeStringMap(typeDefPatch.getTypeDefOptions());
+                writeMappingList(typeDefPatch.getExternalStandardMappings());
+                writeEnumList(typeDefPatch.getValidInstanceStatusList());
+            }
+        }
+
+
+        private void writeTypeDef(TypeDef typeDef) throws IOException
+        {
+            if (typeDef == null)
+            {
+                writeEnum(null);
+                return;
+            }
+
+            writeEnum(typeDef.getCategory());
+            output.writeLong(typeDef.getVersion());
+            writeString(typeDef.getVersionName());
+            writeString(typeDef.getGUID());
+            writeString(typeDef.getName());
+            writeTypeDefLink(typeDef.getSuperType());
+            writeString(typeDef.getDescription());
+            writeString(typeDef.getDescriptionGUID());
+            writeString(typeDef.getOrigin());
+            writeString(typeDef.getCreatedBy());
+            writeString(typeDef.getUpdatedBy());
+            writeDate(typeDef.getCreateTime());
+            writeDate(typeDef.getUpdateTime());
+            writeStringMap(typeDef.getOptions());
+            writeMappingList(typeDef.getExternalStandardMappings());
+            writeEnumList(typeDef.getValidInstanceStatusList());
+            writeEnum(typeDef.getInitialStatus());
+            writeAttributeList(typeDef.getPropertiesDefinition());
+
+            if (typeDef instanceof RelationshipDef)
+            {
+                RelationshipDef relationshipDef = (RelationshipDef) typeDef;
+
+                writeEnum(relationshipDef.getPropagationRule());
+                writeRelationshipEndDef(relationshipDef.getEndDef1());
+                writeRelationshipEndDef(relationshipDef.getEndDef2());
+            }
+            else if (typeDef instanceof ClassificationDef)
+            {
+                ClassificationDef classificationDef = (ClassificationDef) typeDef;
+                List<TypeDefLink> validEntityDefs   = classificationDef.getValidEntityDefs();
+
+                if (validEntityDefs == null)
+                {
+                    output.writeInt(nullValue);
+                }
+                else
+                {
+                    output.writeInt(validEntityDefs.size());
+                    for (TypeDefLink validEntityDef : validEntityDefs)
+                    {
+                        writeTypeDefLink(validEntityDef);
+                    }
+                }
+
+                output.writeBoolean(classificationDef.isPropagatable());
+            }
+            else if (! (typeDef instanceof EntityDef))
+            {
+                throw new IOException("Unsupported TypeDef class " + typeDef.getClass().getName());
+            }
+        }
+
+
+        private void writeRelationshipEndDef(RelationshipEndDef endDef) throws IOException
+        {
+            output.writeBoolean(endDef != null);
+            if (endDef != null)
+            {
+                writeTypeDefLink(endDef.getEntityType());
+                writeString(endDef.getAttributeName());
+                writeString(endDef.getAttributeDescription());
+                writeString(endDef.getAttributeDescriptionGUID());
+                writeEnum(endDef.getAttributeCardinality());
+            }
+        }
+
+
+        private void writeTypeDefLink(TypeDefLink typeDefLink) throws IOException
+        {
+            if (typeDefLink == null)
+            {
+                output.writeInt(nullValue);
+                return;
+            }
+
+            Integer tableIndex = typeDefTable.get(typeDefLink.getGUID());
+
+            if ((tableIndex != null) && (typeDefs.get(tableIndex) == typeDefLink))
+            {
+                output.writeInt(tableIndex);
+            }
+            else if (typeDefLink.getClass() == TypeDefLink.class)
+            {
+                output.writeInt(inlineLink);
+                writeString(typeDefLink.getGUID());
+                writeString(typeDefLink.getName());
+            }
+            else
+            {
+                throw new IOException("Unsupported TypeDefLink " + typeDefLink.getName());
+            }
+        }
+
+
+        private void writeAttributeList(List<TypeDefAttribute> attributes) throws IOException
+        {
+            if (attributes == null)
+            {
+                output.writeInt(nullValue);
+                return;
+            }
+
+            output.writeInt(attributes.size());
+            for (TypeDefAttribute attribute : attributes)
+            {
+                output.writeBoolean(attribute != null);
+                if (attribute != null)
+                {
+                    writeString(attribute.getAttributeName());
+                    writeAttributeType(attribute.getAttributeType());
+                    writeString(attribute.getAttributeDescription());
+                    writeString(attribute.getAttributeDescriptionGUID());
+                    writeEnum(attribute.getAttributeCardinality());
+                    output.writeInt(attribute.getValuesMinCount());
+                    output.writeInt(attribute.getValuesMaxCount());
+                    output.writeBoolean(attribute.isIndexable());
+                    output.writeBoolean(attribute.isUnique());
+                    writeString(attribute.getDefaultValue());
+                    writeMappingList(attribute.getExternalStandardMappings());
+                }
+            }
+        }
+
+
+        private void writeAttributeType(AttributeTypeDef attributeType) throws IOException
+        {
+            if (attributeType == null)
+            {
+                output.writeInt(nullValue);
+                return;
+            }
+
+            Integer tableIndex = attributeTypeDefTable.get(attributeType.getGUID());
+
+            if ((tableIndex != null) && (attributeType.equals(attributeTypeDefs.get(tableIndex))))
+            {
+                output.writeInt(tableIndex);
+            }
+            else
+            {
+                output.writeInt(inlineAttribute);
+                writeAttributeTypeDef(attributeType);
+            }
+        }
+
+
+        private void writeMappingList(List<ExternalStandardMapping> mappings) throws IOException
+        {
+            if (mappings == null)
+            {
+                output.writeInt(nullValue);
+                return;
+            }
+
+            output.writeInt(mappings.size());
+            for (ExternalStandardMapping mapping : mappings)
+            {
+                output.writeBoolean(mapping != null);
+                if (mapping != null)
+                {
+                    writeString(mapping.getStandardName());
+                    writeString(mapping.getStandardOrganization());
+                    writeString(mapping.getStandardTypeName());
+                }
+            }
+        }
+
+
+        private void writeStringMap(Map<String, String> map) throws IOException
+        {
+            if (map == null)
+            {
+                output.writeInt(nullValue);
+                return;
+            }
+
+            output.writeInt(map.size());
+            for (Map.Entry<String, String> entry : map.entrySet())
+            {
+                writeString(entry.getKey());
+                writeString(entry.getValue());
+            }
+        }
+
+
+        private void writeStringList(List<String> strings) throws IOException
+        {
+            if (strings == null)
+            {
+                output.writeInt(nullValue);
+                return;
+            }
+
+            output.writeInt(strings.size());
+            for (String string : strings)
+            {
+                writeString(string);
+            }
+        }
+
+
+        private void writeEnumList(List<? extends Enum<?>> values) throws IOException
+        {
+            if (values == null)
+            {
+                output.writeInt(nullValue);
+                return;
+            }
+
+            output.writeInt(values.size());
+            for (Enum<?> value : values)
+            {
+                writeEnum(value);
+            }
+        }
+
+
+        private void writeEnum(Enum<?> value) throws IOException
+        {
+            output.writeInt(value == null ? nullValue : value.ordinal());
+        }
+
+
+        private void writeDate(Date date) throws IOException
+        {
+            output.writeBoolean(date != null);
+            if (date != null)
+            {
+                output.writeLong(date.getTime());
+            }
+        }
+
+
+        private void writeString(String string) throws IOException
+        {
+            if (string == null)
+            {
+                output.writeInt(nullValue);
+                return;
+            }
+
+            Integer stringIndex = stringTable.get(string);
+
+            if (stringIndex != null)
+            {
+                output.writeInt(stringIndex);
+            }
+            else
+            {
+                byte[] stringBytes = string.getBytes(StandardCharsets.UTF_8);
+
+                output.writeInt(newString);
+                output.writeInt(stringBytes.length);
+                output.write(stringBytes);
+
+                stringTable.put(string, stringTable.size());
+            }
+        }
+    }
+
+
+    /**
+     * SnapshotReader decodes the payload written by SnapshotWriter.
+     */
+    private static class SnapshotReader
+    {
+        private ByteBuffer             input;
+        private List<String>           stringTable       = new ArrayList<>();
+        private List<AttributeTypeDef> attributeTypeDefs = new ArrayList<>();
+        private List<TypeDef>          typeDefs          = new ArrayList<>();
+
+
+        SnapshotReader(ByteBuffer input)
+        {
+            this.input = input;
+        }
+
+
+        OpenMetadataArchive readArchive()
+        {
+            OpenMetadataArchive archive = new OpenMetadataArchive();
+
+            if (readBoolean())
+            {
+                OpenMetadataArchiveProperties properties = new OpenMetadataArchiveProperties();
+
+                properties.setArchiveGUID(readString());
+                properties.setArchiveName(readString());
+                properties.setArchiveDescription(readString());
+                properties.setArchiveType(readEnum(OpenMetadataArchiveType.values()));
+                properties.setOriginatorName(readString());
+                properties.setOriginatorOrganization(readString());
+                properties.setCreationDate(readDate());
+                properties.setDependsOnArchives(readStringList());
+
+                archive.setArchiveProperties(properties);
+            }
+
+            if (readBoolean())
+            {
+                OpenMetadataArchiveTypeStore typeStore = new OpenMetadataArchiveTypeStore();
+
+                int attributeTypeDefCount = input.getInt();
+                if (attributeTypeDefCount != nullValue)
+                {
+                    for (int i = 0; i < attributeTypeDefCount; i++)
+                    {
+                        attributeTypeDefs.add(readAttributeTypeDef());
+                    }
+                    typeStore.setAttributeTypeDefs(new ArrayList<>(attributeTypeDefs));
+                }
+
+                int typeDefPatchCount = input.getInt();
+                if (typeDefPatchCount != nullValue)
+                {
+                    List<TypeDefPatch> typeDefPatches = new ArrayList<>(typeDefPatchCount);
+
+                    for (int i = 0; i < typeDefPatchCount; i++)
+                    {
+                        typeDefPatches.add(readTypeDefPatch());
+                    }
+                    typeStore.setTypeDefPatches(typeDefPatches);
+                }
+
+                int typeDefCount = input.getInt();
+                if (typeDefCount != nullValue)
+                {
+                    for (int i = 0; i < typeDefCount; i++)
+                    {
+                        typeDefs.add(readTypeDef());
+                    }
+                    typeStore.setNewTypeDefs(new ArrayList<>(typeDefs));
+                }
+
+                archive.setArchiveTypeStore(typeStore);
+            }
+
+            return archive;
+        }
+
+
+        private AttributeTypeDef readAttributeTypeDef()
+        {
+            AttributeTypeDefCategory category = readEnum(AttributeTypeDefCategory.values());
+            AttributeTypeDef         attributeTypeDef;
+
+            if (category == null)
+            {
+                return null;
+            }
+
+            long   version         = input.getLong();
+            String versionName     = readString();
+            String guid            = readString();
+            String name            = readString();
+            String description     = readString();
+            String descriptionGUID = readString();
+
+            switch (category)
+            {
+                case PRIMITIVE:
+                    PrimitiveDef primitiveDef = new PrimitiveDef();
+
+                    primitiveDef.setPrimitiveDefCategory(readEnum(PrimitiveDefCategory.values()));
+                    attributeTypeDef = primitiveDef;
+                    break;
+
+                case COLLECTION:
+                    CollectionDef collectionDef = new CollectionDef();
+
+                    collectionDef.setCollectionDefCategory(readEnum(CollectionDefCategory.values()));
+                    collectionDef.setArgumentCount(input.getInt());
+                    collectionDef.setArgumentTypes(readEnumList(PrimitiveDefCategory.values()));
+                    attributeTypeDef = collectionDef;
+                    break;
+
+                case ENUM_DEF:
+                    EnumDef enumDef          = new EnumDef();
+                    int     elementDefCount  = input.getInt();
+
+                    if (elementDefCount != nullValue)
+                    {
+                        List<EnumElementDef> elementDefs = new ArrayList<>(elementDefCount);
+
+                        for (int i = 0; i < elementDefCount; i++)
+                        {
+                            elementDefs.add(readEnumElementDef());
+                        }
+                        enumDef.setElementDefs(elementDefs);
+                    }
+
+                    enumDef.setDefaultValue(readEnumElementDef());
+                    attributeTypeDef = enumDef;
+                    break;
+
+                default:
+                    throw new IllegalStateException("Unsupported AttributeTypeDef category " + category);
+            }
+
+            attributeTypeDef.setCategory(category);
+            attributeTypeDef.setVersion(version);
+            attributeTypeDef.setVersionName(versionName);
+            attributeTypeDef.setGUID(guid);
+            attributeTypeDef.setName(name);
+            attributeTypeDef.setDescription(description);
+            attributeTypeDef.setDescriptionGUID(descriptionGUID);
+
+            return attributeTypeDef;
+        }
+
+
+        private EnumElementDef readEnumElementDef()
+        {
+            if (! readBoolean())
+            {
+                return null;
+            }
+
+            EnumElementDef elementDef = new EnumElementDef();
+
+            elementDef.setOrdinal(input.getInt());
+            elementDef.setValue(readString());
+            elementDef.setDescription(readString());
+            elementDef.setDescriptionGUID(readString());
+
+            return elementDef;
+        }
+
+
+        private TypeDefPatch readTypeDefPatch()
+        {
+            if (! readBoolean())
+            {
+                return null;
+            }
+
+            TypeDefPatch typeDefPatch = new TypeDefPatch();
+
+            typeDefPatch.setAction(readEnum(TypeDefPatchAction.values()));
+            typeDefPatch.setTypeDefGUID(readString());
+            typeDefPatch.setTypeName(readString());
+            typeDefPatch.setApplyToVersion(input.getLong());
+            typeDefPatch.setUpdateToVersion(input.getLong());
+            typeDefPatch.setNewVersionName(readString());
+            typeDefPatch.setDescription(readString());
+            typeDefPatch.setDescriptionGUID(readString());
+            typeDefPatch.setTypeDefAttributes(readAttributeList());
+            typeDefPatch.setTypeDefOptions(readStringMap());
+            typeDefPatch.setExternalStandardMappings(readMappingList());
+            typeDefPatch.setValidInstanceStatusList(readEnumList(InstanceStatus.values()));
+
+            return typeDefPatch;
+        }
+
+
+        private TypeDef readTypeDef()
+        {
+            TypeDefCategory category = readEnum(TypeDefCategory.values());
+            TypeDef         typeDef;
+
+            if (category == null)
+            {
+                return null;
+            }
+
+            switch (category)
+            {
+                case ENTITY_DEF:
+                    typeDef = new EntityDef();
+                    break;
+
+                case RELATIONSHIP_DEF:
+                    typeDef = new RelationshipDef();
+                    break;
+
+                case CLASSIFICATION_DEF:
+                    typeDef = new ClassificationDef();
+                    break;
+
+                default:
+                    throw new IllegalStateException("Unsupported TypeDef category " + category);
+            }
+
+            typeDef.setCategory(category);
+            typeDef.setVersion(input.getLong());
+            typeDef.setVersionName(readString());
+            typeDef.setGUID(readString());
+            typeDef.setName(readString());
+            typeDef.setSuperType(readTypeDefLink());
+            typeDef.setDescription(readString());
+            typeDef.setDescriptionGUID(readString());
+            typeDef.setOrigin(readString());
+            typeDef.setCreatedBy(readString());
+            typeDef.setUpdatedBy(readString());
+            typeDef.setCreateTime(readDate());
+            typeDef.setUpdateTime(readDate());
+            typeDef.setOptions(readStringMap());
+            typeDef.setExternalStandardMappings(readMappingList());
+            typeDef.setValidInstanceStatusList(readEnumList(InstanceStatus.values()));
+            typeDef.setInitialStatus(readEnum(InstanceStatus.values()));
+            typeDef.setPropertiesDefinition(readAttributeList());
+
+            if (typeDef instanceof RelationshipDef)
+            {
+                RelationshipDef relationshipDef = (RelationshipDef) typeDef;
+
+                relationshipDef.setPropagationRule(readEnum(ClassificationPropagationRule.values()));
+                relationshipDef.setEndDef1(readRelationshipEndDef());
+                relationshipDef.setEndDef2(readRelationshipEndDef());
+            }
+            else if (typeDef instanceof ClassificationDef)
+            {
+                ClassificationDef classificationDef    = (ClassificationDef) typeDef;
+                int               validEntityDefCount  = input.getInt();
+
+                if (validEntityDefCount != nullValue)
+                {
+                    List<TypeDefLink> validEntityDefs = new ArrayList<>(validEntityDefCount);
+
+                    for (int i = 0; i < validEntityDefCount; i++)
+                    {
+                        validEntityDefs.add(readTypeDefLink());
+                    }
+                    classificationDef.setValidEntityDefs(validEntityDefs);
+                }
+
+                classificationDef.setPropagatable(readBoolean());
+            }
+
+            return typeDef;
+        }
+
+
+        private RelationshipEndDef readRelationshipEndDef()
+        {
+            if (! readBoolean())
+            {
+                return null;
+            }
+
+            RelationshipEndDef endDef = new RelationshipEndDef();
+
+            endDef.setEntityType(readTypeDefLink());
+            endDef.setAttributeName(readString());
+            endDef.setAttributeDescription(readString());
+            endDef.setAttributeDescriptionGUID(readString());
+            endDef.setAttributeCardinality(readEnum(RelationshipEndCardinality.values()));
+
+            return endDef;
+        }
+
+
+        private TypeDefLink readTypeDefLink()
+        {
+            int tableIndex = input.getInt();
+
+            if (tableIndex == nullValue)
+            {
+                return null;
+            }
+            else if (tableIndex != inlineLink)
+            {
+                return typeDefs.get(tableIndex);
+            }
+
+            TypeDefLink typeDefLink = new TypeDefLink();
+
+            typeDefLink.setGUID(readString());
+            typeDefLink.setName(readString());
+
+            return typeDefLink;
+        }
+
+
+        private List<TypeDefAttribute> readAttributeList()
+        {
+            int attributeCount = input.getInt();
+
+            if (attributeCount == nullValue)
+            {
+                return null;
+            }
+
+            List<TypeDefAttribute> attributes = new ArrayList<>(attributeCount);
+
+            for (int i = 0; i < attributeCount; i++)
+            {
+                if (! readBoolean())
+                {
+                    attributes.add(null);
+                    continue;
+                }
+
+                TypeDefAttribute attribute = new TypeDefAttribute();
+
+                attribute.setAttributeName(readString());
+                attribute.setAttributeType(readAttributeType());
+                attribute.setAttributeDescription(readString());
+                attribute.setAttributeDescriptionGUID(readString());
+                attribute.setAttributeCardinality(readEnum(AttributeCardinality.values()));
+                attribute.setValuesMinCount(input.getInt());
+                attribute.setValuesMaxCount(input.getInt());
+                attribute.setIndexable(readBoolean());
+                attribute.setUnique(readBoolean());
+                attribute.setDefaultValue(readString());
+                attribute.setExternalStandardMappings(readMappingList());
+
+                attributes.add(attribute);
+            }
+
+            return attributes;
+        }
+
+
+        private AttributeTypeDef readAttributeType()
+        {
+            int tableIndex = input.getInt();
+
+            if (tableIndex == nullValue)
+            {
+                return null;
+            }
+            else if (tableIndex == inlineAttribute)
+            {
+                return readAttributeTypeDef();
+            }
+
+            return attributeTypeDefs.get(tableIndex);
+        }
+
+
+        private List<ExternalStandardMapping> readMappingList()
+        {
+            int mappingCount = input.getInt();
+
+            if (mappingCount == nullValue)
+            {
+                return null;
+            }
+
+            List<ExternalStandardMapping> mappings = new ArrayList<>(mappingCount);
+
+            for (int i = 0; i < mappingCount; i++)
+            {
+                if (! readBoolean())
+                {
+                    mappings.add(null);
+                    continue;
+                }
+
+                ExternalStandardMapping mapping = new ExternalStandardMapping();
+
+                mapping.setStandardName(readString());
+                mapping.setStandardOrganization(readString());
+                mapping.setStandardTypeName(readString());
+
+                mappings.add(mapping);
+            }
+
+            return mappings;
+        }
+
+
+        private Map<String, String> readStringMap()
+        {
+            int entryCount = input.getInt();
+
+            if (entryCount == nullValue)
+            {
+                return null;
+            }
+
+            Map<String, String> map = new LinkedHashMap<>();
+
+            for (int i = 0; i < entryCount; i++)
+            {
+                map.put(readString(), readString());
+            }
+
+            return map;
+        }
+
+
+        private List<String> readStringList()
+        {
+            int stringCount = input.getInt();
+
+            if (stringCount == nullValue)
+            {
+                return null;
+            }
+
+            List<String> strings = new ArrayList<>(stringCount);
+
+            for (int i = 0; i < stringCount; i++)
+            {
+                strings.add(readString());
+            }
+
+            return strings;
+        }
+
+
+        private <E extends Enum<E>> List<E> readEnumList(E[] values)
+        {
+            int valueCount = input.getInt();
+
+            if (valueCount == nullValue)
+            {
+                return null;
+            }
+
+            List<E> enumValues = new ArrayList<>(valueCount);
+
+            for (int i = 0; i < valueCount; i++)
+            {
+                enumValues.add(readEnum(values));
+            }
+
+            return enumValues;
+        }
+
+
+        private <E extends Enum<E>> E readEnum(E[] values)
+        {
+            int ordinal = input.getInt();
+
+            return ordinal == nullValue ? null : values[ordinal];
+        }
+
+
+        private Date readDate()
+        {
+            return readBoolean() ? new Date(input.getLong()) : null;
+        }
+
+
+        private boolean readBoolean()
+        {
+            return input.get() != 0;
+        }
+
+
+        private String readString()
+        {
+            int stringIndex = input.getInt();
+
+            if (stringIndex == nullValue)
+            {
+                return null;
+            }
+            else if (stringIndex != newString)
+            {
+                return stringTable.get(stringIndex);
+            }
+
+            byte[] stringBytes = new byte[input.getInt()];
+
+            input.get(stringBytes);
+
+            String string = new String(stringBytes, StandardCharsets.UTF_8);
+
+            stringTable.add(string);
+
+            return string;
+        }
+    }
+}
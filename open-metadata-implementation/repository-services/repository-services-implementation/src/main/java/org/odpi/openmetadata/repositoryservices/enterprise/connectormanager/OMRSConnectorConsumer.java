@@ -22,7 +22,8 @@ public interface OMRSConnectorConsumer
 
 
     /**
-     * Pass the connector to one of the remote repositories in the metadata repository cohort.
+     * Pass the connector to one of the remote repositories in the metadata repository cohort.  The connector
+     * is shared with the other connector consumers so it must not be disconnected by the connector consumer.
      *
      * @param metadataCollectionId Unique identifier for the metadata collection
      * @param remoteConnector OMRSRepositoryConnector object providing access to the remote repository.
@@ -40,7 +41,8 @@ public interface OMRSConnectorConsumer
 
 
     /**
-     * Call disconnect on all registered connectors and stop calling them.  The OMRS is about to shutdown.
+     * Call disconnect on the local connector and stop calling the registered connectors.  The OMRS is about to
+     * shutdown.  The shared remote connectors are disconnected by the connector manager.
      */
     void disconnectAllConnectors();
 }
@@ -16,8 +16,10 @@ import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconten
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -60,6 +62,11 @@ import java.util.UUID;
  * the EnterpriseOMRSRepositoryConnector instances.
  * </p>
  * <p>
+ * The connector consumers share a single connector for each remote repository.  These connectors are
+ * borrowed from an OMRSRemoteConnectorPool and released when the repository leaves the cohort or the
+ * consumer unregisters, so the connector consumers must not disconnect the remote connectors themselves.
+ * </p>
+ * <p>
  * Note: this class uses synchronized methods to ensure that no registration information is lost when the
  * server is operating multi-threaded.
  * </p>
@@ -74,6 +81,7 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
     private OMRSRepositoryContentManager      repositoryContentManager;
     private List<RegisteredConnector>         registeredRemoteConnectors   = new ArrayList<>();
     private List<RegisteredConnectorConsumer> registeredConnectorConsumers = new ArrayList<>();
+    private OMRSRemoteConnectorPool           remoteConnectorPool          = new OMRSRemoteConnectorPool();
 
 
     /**
@@ -99,6 +107,7 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
     /**
      * The disconnect processing involved unregistering all repositories with each of the connector consumers.
      * Each connector consumer will pass the disconnect() request to each of their repository connector instances.
+     * The shared remote connectors are then disconnected.
      */
     public void disconnect()
     {
@@ -109,6 +118,8 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
         {
             registeredConnectorConsumer.getConnectorConsumer().disconnectAllConnectors();
         }
+
+        remoteConnectorPool.disconnectAll();
     }
 
 
@@ -160,15 +171,19 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
                                                   String         metadataCollectionId,
                                                   Connection     remoteConnection) throws ConnectionCheckedException, ConnectorCheckedException
     {
+        RegisteredConnector registeredConnector = new RegisteredConnector(cohortName,
+                                                                          remoteServerName,
+                                                                          remoteServerType,
+                                                                          owningOrganizationName,
+                                                                          metadataCollectionId,
+                                                                          remoteConnection);
+
         /*
          * First test that this connection represents an OMRSRepositoryConnector.  If it does not then an exception
-         * is thrown by getOMRSRepositoryConnector() to tell the caller there is a problem.
+         * is thrown by getOMRSRepositoryConnector() to tell the caller there is a problem.  The connector is
+         * borrowed from the pool so it can be shared with the connector consumers.
          */
-        OMRSRepositoryConnector remoteConnector = this.getOMRSRepositoryConnector(remoteConnection,
-                                                                                  remoteServerName,
-                                                                                  remoteServerType,
-                                                                                  owningOrganizationName,
-                                                                                  metadataCollectionId);
+        OMRSRepositoryConnector remoteConnector = this.borrowRemoteConnector(registeredConnector);
 
 
         if (remoteConnector != null)
@@ -187,16 +202,13 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
                 metadataCollection = null;
             }
 
-            /*
-             * Don't need to connector any more.
-             */
-            remoteConnector.disconnect();
-
             /*
              * Now test the metadata collection.
              */
             if (metadataCollection == null)
             {
+                remoteConnectorPool.releaseConnector(metadataCollectionId, remoteConnector);
+
                 final String   methodName = "addRemoteConnection()";
 
                 OMRSErrorCode errorCode = OMRSErrorCode.NULL_COHORT_METADATA_COLLECTION;
@@ -216,12 +228,7 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
         /*
          * Connector is ok so save the connection and metadata collection Id.
          */
-        registeredRemoteConnectors.add(new RegisteredConnector(cohortName,
-                                                               remoteServerName,
-                                                               remoteServerType,
-                                                               owningOrganizationName,
-                                                               metadataCollectionId,
-                                                               remoteConnection));
+        registeredRemoteConnectors.add(registeredConnector);
 
         /*
          * Pass the remote connector to each registered connector consumer if enterprise access is enabled.
@@ -230,14 +237,15 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
         {
             for (RegisteredConnectorConsumer registeredConnectorConsumer : registeredConnectorConsumers)
             {
-                registeredConnectorConsumer.getConnectorConsumer().addRemoteConnector(metadataCollectionId,
-                                                                                      this.getOMRSRepositoryConnector(remoteConnection,
-                                                                                                                      remoteServerName,
-                                                                                                                      remoteServerType,
-                                                                                                                      owningOrganizationName,
-                                                                                                                      metadataCollectionId));
+                this.passRemoteConnector(registeredConnectorConsumer, registeredConnector);
             }
         }
+
+        /*
+         * The connector consumers have their own reference to the shared connector so the test reference
+         * is released.  If there are no connector consumers, the connector is disconnected.
+         */
+        remoteConnectorPool.releaseConnector(metadataCollectionId, remoteConnector);
     }
 
 
@@ -289,6 +297,11 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
             for (RegisteredConnectorConsumer registeredConnectorConsumer : registeredConnectorConsumers)
             {
                 registeredConnectorConsumer.getConnectorConsumer().removeRemoteConnector(metadataCollectionId);
+
+                for (OMRSRepositoryConnector remoteConnector : registeredConnectorConsumer.removeBorrowedConnectors(metadataCollectionId))
+                {
+                    remoteConnectorPool.releaseConnector(metadataCollectionId, remoteConnector);
+                }
             }
         }
     }
@@ -368,12 +381,7 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
         {
             for (RegisteredConnector registeredConnector : registeredRemoteConnectors)
             {
-                connectorConsumer.addRemoteConnector(registeredConnector.getMetadataCollectionId(),
-                                                     getOMRSRepositoryConnector(registeredConnector.getConnection(),
-                                                                                registeredConnector.getServerName(),
-                                                                                registeredConnector.getServerType(),
-                                                                                registeredConnector.getOwningOrganizationName(),
-                                                                                registeredConnector.getMetadataCollectionId()));
+                this.passRemoteConnector(registeredConnectorConsumer, registeredConnector);
             }
         }
 
@@ -383,7 +391,7 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
 
     /**
      * Unregister a connector consumer from the connector manager so it is no longer informed of
-     * changes to the metadata repository cluster.
+     * changes to the metadata repository cluster.  The remote connectors it was using are released.
      *
      * @param connectorConsumerId String identifier of the connector consumer returned on the
      *                             registerConnectorConsumer.
@@ -402,12 +410,56 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
             if (registeredConnectorConsumer.getConnectorConsumerId().equals(connectorConsumerId))
             {
                 iterator.remove();
+
+                for (Map.Entry<String, List<OMRSRepositoryConnector>> borrowedConnectors : registeredConnectorConsumer.removeAllBorrowedConnectors().entrySet())
+                {
+                    for (OMRSRepositoryConnector remoteConnector : borrowedConnectors.getValue())
+                    {
+                        remoteConnectorPool.releaseConnector(borrowedConnectors.getKey(), remoteConnector);
+                    }
+                }
                 break;
             }
         }
     }
 
 
+    /**
+     * Borrow the shared connector for a remote repository from the pool and pass it to a connector consumer.
+     * The connector is recorded against the connector consumer so it can be released later.
+     *
+     * @param registeredConnectorConsumer connector consumer
+     * @param registeredConnector details of the remote repository
+     */
+    private void passRemoteConnector(RegisteredConnectorConsumer registeredConnectorConsumer,
+                                     RegisteredConnector         registeredConnector)
+    {
+        OMRSRepositoryConnector remoteConnector = this.borrowRemoteConnector(registeredConnector);
+
+        registeredConnectorConsumer.addBorrowedConnector(registeredConnector.getMetadataCollectionId(), remoteConnector);
+        registeredConnectorConsumer.getConnectorConsumer().addRemoteConnector(registeredConnector.getMetadataCollectionId(),
+                                                                              remoteConnector);
+    }
+
+
+    /**
+     * Return the shared connector for a remote repository, creating it if it is not already in the pool.
+     *
+     * @param registeredConnector details of the remote repository
+     * @return OMRSRepositoryConnector for the connection
+     */
+    private OMRSRepositoryConnector borrowRemoteConnector(RegisteredConnector registeredConnector)
+    {
+        return remoteConnectorPool.borrowConnector(registeredConnector.getMetadataCollectionId(),
+                                                   registeredConnector.getConnection(),
+                                                   () -> this.getOMRSRepositoryConnector(registeredConnector.getConnection(),
+                                                                                         registeredConnector.getServerName(),
+                                                                                         registeredConnector.getServerType(),
+                                                                                         registeredConnector.getOwningOrganizationName(),
+                                                                                         registeredConnector.getMetadataCollectionId()));
+    }
+
+
     /**
      * Private method to convert a Connection into an OMRS repository connector using the OCF ConnectorBroker.
      * The OCF ConnectorBroker is needed because the implementation of the OMRS connector is unknown and
@@ -583,8 +635,9 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
      */
     private class RegisteredConnectorConsumer
     {
-        private String                   connectorConsumerId;
-        private OMRSConnectorConsumer    connectorConsumer;
+        private String                                     connectorConsumerId;
+        private OMRSConnectorConsumer                      connectorConsumer;
+        private Map<String, List<OMRSRepositoryConnector>> borrowedConnectors = new HashMap<>();
 
 
         /**
@@ -632,5 +685,47 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
         {
             return connectorConsumer;
         }
+
+
+        /**
+         * Record a remote connector borrowed from the pool for this connector consumer.
+         *
+         * @param metadataCollectionId unique identifier for the remote repository's metadata collection
+         * @param remoteConnector shared connector
+         */
+        void addBorrowedConnector(String                  metadataCollectionId,
+                                  OMRSRepositoryConnector remoteConnector)
+        {
+            borrowedConnectors.computeIfAbsent(metadataCollectionId, key -> new ArrayList<>()).add(remoteConnector);
+        }
+
+
+        /**
+         * Remove and return the remote connectors borrowed for a metadata collection.
+         *
+         * @param metadataCollectionId unique identifier for the remote repository's metadata collection
+         * @return list of connectors (may be empty)
+         */
+        List<OMRSRepositoryConnector> removeBorrowedConnectors(String metadataCollectionId)
+        {
+            List<OMRSRepositoryConnector> remoteConnectors = borrowedConnectors.remove(metadataCollectionId);
+
+            return (remoteConnectors == null) ? new ArrayList<>() : remoteConnectors;
+        }
+
+
+        /**
+         * Remove and return all of the remote connectors borrowed for this connector consumer.
+         *
+         * @return map of metadata collection id to connectors
+         */
+        Map<String, List<OMRSRepositoryConnector>> removeAllBorrowedConnectors()
+        {
+            Map<String, List<OMRSRepositoryConnector>> remoteConnectors = borrowedConnectors;
+
+            borrowedConnectors = new HashMap<>();
+
+            return remoteConnectors;
+        }
     }
 }
@@ -0,0 +1,227 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.connectormanager;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+
+/**
+ * OMRSRemoteConnectorPool holds a single connector for each remote repository (identified by its metadata
+ * collection id and connection) that is shared by all of the connector consumers of the
+ * OMRSEnterpriseConnectorManager.  This means the client state of the connector (such as its connection pool and
+ * caches) is shared and the number of connectors (and sockets) does not grow with the number of access services.
+ * <p>
+ * Each user of a connector borrows it from the pool and releases it when it is no longer needed.  The pool
+ * counts the borrowers and disconnects the connector when the last one releases it.  The users of a shared
+ * connector must not call disconnect() on it themselves.
+ * </p>
+ */
+class OMRSRemoteConnectorPool
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSRemoteConnectorPool.class);
+
+    private Map<String, List<PooledConnector>> pooledConnectors = new HashMap<>();
+
+
+    /**
+     * Return the shared connector for a remote repository.  The connector is created using the supplied
+     * factory if it is not already in the pool.
+     *
+     * @param metadataCollectionId unique identifier for the remote repository's metadata collection
+     * @param connection connection used to create the connector
+     * @param connectorFactory creates and starts a new connector; exceptions are passed to the caller
+     * @return shared connector
+     */
+    synchronized OMRSRepositoryConnector borrowConnector(String                            metadataCollectionId,
+                                                         Connection                        connection,
+                                                         Supplier<OMRSRepositoryConnector> connectorFactory)
+    {
+        List<PooledConnector> connectorsForCollection = pooledConnectors.get(metadataCollectionId);
+
+        if (connectorsForCollection != null)
+        {
+            for (PooledConnector pooledConnector : connectorsForCollection)
+            {
+                if (pooledConnector.connection.equals(connection))
+                {
+                    pooledConnector.referenceCount++;
+
+                    return pooledConnector.connector;
+                }
+            }
+        }
+
+        OMRSRepositoryConnector connector = connectorFactory.get();
+
+        if (connector != null)
+        {
+            pooledConnectors.computeIfAbsent(metadataCollectionId, key -> new ArrayList<>())
+                            .add(new PooledConnector(connection, connector));
+
+            log.debug("New shared connector for metadata collection " + metadataCollectionId);
+        }
+
+        return connector;
+    }
+
+
+    /**
+     * Release a connector returned by borrowConnector.  The connector is disconnected when it has no more
+     * borrowers.
+     *
+     * @param metadataCollectionId unique identifier for the remote repository's metadata collection
+     * @param connector connector to release
+     */
+    synchronized void releaseConnector(String                  metadataCollectionId,
+                                       OMRSRepositoryConnector connector)
+    {
+        List<PooledConnector> connectorsForCollection = pooledConnectors.get(metadataCollectionId);
+
+        if ((connectorsForCollection == null) || (connector == null))
+        {
+            return;
+        }
+
+        Iterator<PooledConnector> iterator = connectorsForCollection.iterator();
+
+        while (iterator.hasNext())
+        {
+            PooledConnector pooledConnector = iterator.next();
+
+            if (pooledConnector.connector == connector)
+            {
+                pooledConnector.referenceCount--;
+
+                if (pooledConnector.referenceCount <= 0)
+                {
+                    iterator.remove();
+                    disconnectConnector(metadataCollectionId, connector);
+                }
+
+                break;
+            }
+        }
+
+        if (connectorsForCollection.isEmpty())
+        {
+            pooledConnectors.remove(metadataCollectionId);
+        }
+    }
+
+
+    /**
+     * Return the number of borrowers of a connector.
+     *
+     * @param metadataCollectionId unique identifier for the remote repository's metadata collection
+     * @param connector pooled connector
+     * @return count (0 if the connector is not in the pool)
+     */
+    synchronized int getReferenceCount(String                  metadataCollectionId,
+                                       OMRSRepositoryConnector connector)
+    {
+        List<PooledConnector> connectorsForCollection = pooledConnectors.get(metadataCollectionId);
+
+        if (connectorsForCollection != null)
+        {
+            for (PooledConnector pooledConnector : connectorsForCollection)
+            {
+                if (pooledConnector.connector == connector)
+                {
+                    return pooledConnector.referenceCount;
+                }
+            }
+        }
+
+        return 0;
+    }
+
+
+    /**
+     * Return the number of connectors in the pool.
+     *
+     * @return count
+     */
+    synchronized int getConnectorCount()
+    {
+        int connectorCount = 0;
+
+        for (List<PooledConnector> connectorsForCollection : pooledConnectors.values())
+        {
+            connectorCount += connectorsForCollection.size();
+        }
+
+        return connectorCount;
+    }
+
+
+    /**
+     * Disconnect all of the connectors in the pool whatever their borrow count.  The server is shutting down.
+     */
+    synchronized void disconnectAll()
+    {
+        for (Map.Entry<String, List<PooledConnector>> entry : pooledConnectors.entrySet())
+        {
+            for (PooledConnector pooledConnector : entry.getValue())
+            {
+                disconnectConnector(entry.getKey(), pooledConnector.connector);
+            }
+        }
+
+        pooledConnectors.clear();
+    }
+
+
+    /**
+     * Issue a disconnect call on the supplied connector.
+     *
+     * @param metadataCollectionId unique identifier for the remote repository's metadata collection
+     * @param connector connector to disconnect
+     */
+    private void disconnectConnector(String                  metadataCollectionId,
+                                     OMRSRepositoryConnector connector)
+    {
+        try
+        {
+            connector.disconnect();
+        }
+        catch (Throwable  error)
+        {
+            log.error("Exception from disconnect of connector to metadata collection:" + metadataCollectionId + "  Error message was: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * PooledConnector holds a shared connector and its count of borrowers.
+     */
+    private class PooledConnector
+    {
+        private Connection              connection;
+        private OMRSRepositoryConnector connector;
+        private int                     referenceCount = 1;
+
+
+        /**
+         * Constructor for a connector with one borrower.
+         *
+         * @param connection connection used to create the connector
+         * @param connector new connector
+         */
+        PooledConnector(Connection              connection,
+                        OMRSRepositoryConnector connector)
+        {
+            this.connection = connection;
+            this.connector = connector;
+        }
+    }
+}
@@ -13,10 +13,13 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -1967,6 +1970,130 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a list of entities.  Each member of the cohort is sent one request containing the entities
+     * that have not been retrieved from the members before it, so the entities are returned from the same
+     * member as they would be by getEntityDetail() and a batch costs at most one request for each member.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Entities that are not known in the cohort, or are
+     *         only known as proxies, are skipped.  Null means none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        this.validateGUIDList(guids, methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        /*
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        /*
+         * Ready to process the request.  The entities that are not yet retrieved are requested from each
+         * member of the cohort in turn.  Some repositories may produce exceptions.  These exceptions are saved
+         * and one selected to be returned if there are no results from any repository.
+         */
+        Set<String>                remainingGUIDs             = new LinkedHashSet<>(guids);
+        Map<String, EntityDetail>  retrievedResults           = new HashMap<>();
+        InvalidParameterException  invalidParameterException  = null;
+        UserNotAuthorizedException userNotAuthorizedException = null;
+        RepositoryErrorException   repositoryErrorException   = null;
+        Throwable                  anotherException           = null;
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if ((cohortConnector != null) && (! remainingGUIDs.isEmpty()))
+            {
+                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+
+                validateMetadataCollection(metadataCollection, methodName);
+
+                try
+                {
+                    /*
+                     * Issue the request
+                     */
+                    List<EntityDetail> results = metadataCollection.getEntityDetails(userId, new ArrayList<>(remainingGUIDs));
+
+                    if (results != null)
+                    {
+                        for (EntityDetail entity : results)
+                        {
+                            if ((entity != null) && (remainingGUIDs.remove(entity.getGUID())))
+                            {
+                                String sourceMetadataCollectionId = cohortConnector.getMetadataCollectionId();
+
+                                retrievedResults.put(entity.getGUID(),
+                                                     enterpriseParentConnector.processRetrievedEntityDetail(sourceMetadataCollectionId, entity));
+                            }
+                        }
+                    }
+                }
+                catch (InvalidParameterException error)
+                {
+                    invalidParameterException = error;
+                }
+                catch (RepositoryErrorException error)
+                {
+                    repositoryErrorException = error;
+                }
+                catch (UserNotAuthorizedException error)
+                {
+                    userNotAuthorizedException = error;
+                }
+                catch (Throwable error)
+                {
+                    anotherException = error;
+                }
+            }
+        }
+
+        if (retrievedResults.isEmpty())
+        {
+            throwCapturedRepositoryErrorException(repositoryErrorException);
+            throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
+            throwCapturedThrowableException(anotherException, methodName);
+            throwCapturedInvalidParameterException(invalidParameterException);
+
+            return null;
+        }
+
+        /*
+         * Return the results in the order they were requested.
+         */
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = retrievedResults.remove(guid);
+
+            if (entity != null)
+            {
+                results.add(entity);
+            }
+        }
+
+        return results;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -2146,6 +2273,236 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the relationships for a list of entities together with the entities at the other end of each
+     * relationship.  The request is issued once to each member of the cohort rather than once for each entity
+     * and each related entity.  A related entity that is not returned by the repository that returned the
+     * relationship (for example because it only holds a proxy for it) is retrieved from the rest of the cohort.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers for the entities of interest.  Entities that are not known in the
+     *                    cohort are skipped.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entities.  Null means return the
+     *                 present values.
+     * @param pageSize the maximum number of relationships that can be returned for each entity.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the relationships and the entities at the far end of the relationships.
+     *         Null means no relationships associated with the entities.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the relationships.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getRelationshipsAndRelatedEntities(String               userId,
+                                                            List<String>         entityGUIDs,
+                                                            String               relationshipTypeGUID,
+                                                            List<InstanceStatus> limitResultsByStatus,
+                                                            Date                 asOfTime,
+                                                            int                  pageSize) throws InvalidParameterException,
+                                                                                                  TypeErrorException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  PropertyErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String  methodName        = "getRelationshipsAndRelatedEntities";
+        final String  guidParameterName = "entityGUIDs";
+        final String  asOfTimeParameter = "asOfTime";
+        final String  typeGUIDParameter = "relationshipTypeGUID";
+        final String  pageSizeParameter = "pageSize";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if ((entityGUIDs == null) || (entityGUIDs.isEmpty()))
+        {
+            repositoryValidator.validateGUID(repositoryName, guidParameterName, null, methodName);
+        }
+        else
+        {
+            for (String entityGUID : entityGUIDs)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidParameterName, entityGUID, methodName);
+            }
+        }
+
+        repositoryValidator.validateOptionalTypeGUID(repositoryName, typeGUIDParameter, relationshipTypeGUID, methodName);
+        repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
+
+        /*
+         * Perform operation
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        /*
+         * Ready to process the request.  Results need to come from all members of the cohort.
+         * They need to be combined and then duplicates removed to create the final list of results.
+         * Some repositories may produce exceptions.  These exceptions are saved and one selected to
+         * be returned if there are no results from any repository.
+         */
+        Map<String, EntityDetail>     combinedEntityResults         = new HashMap<>();
+        Map<String, Relationship>     combinedRelationshipResults   = new HashMap<>();
+
+        InvalidParameterException     invalidParameterException     = null;
+        TypeErrorException            typeErrorException            = null;
+        FunctionNotSupportedException functionNotSupportedException = null;
+        PropertyErrorException        propertyErrorException        = null;
+        PagingErrorException          pagingErrorException          = null;
+        UserNotAuthorizedException    userNotAuthorizedException    = null;
+        RepositoryErrorException      repositoryErrorException      = null;
+        Throwable                     anotherException              = null;
+
+        /*
+         * Loop through the metadata collections extracting the relationships and related entities from each
+         * repository.
+         */
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+
+                validateMetadataCollection(metadataCollection, methodName);
+
+                try
+                {
+                    /*
+                     * Issue the request
+                     */
+                    InstanceGraph results = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                                  entityGUIDs,
+                                                                                                  relationshipTypeGUID,
+                                                                                                  limitResultsByStatus,
+                                                                                                  asOfTime,
+                                                                                                  pageSize);
+
+                    /*
+                     * Step through the returned instances and remove duplicates.
+                     */
+                    if (results != null)
+                    {
+                        combinedEntityResults = this.addUniqueEntities(combinedEntityResults,
+                                                                       results.getEntities(),
+                                                                       cohortConnector.getServerName(),
+                                                                       cohortConnector.getMetadataCollectionId(),
+                                                                       methodName);
+                        combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
+                                                                                  results.getRelationships(),
+                                                                                  cohortConnector.getServerName(),
+                                                                                  cohortConnector.getMetadataCollectionId(),
+                                                                                  methodName);
+                    }
+                }
+                catch (InvalidParameterException error)
+                {
+                    invalidParameterException = error;
+                }
+                catch (TypeErrorException error)
+                {
+                    typeErrorException = error;
+                }
+                catch (FunctionNotSupportedException error)
+                {
+                    functionNotSupportedException = error;
+                }
+                catch (PropertyErrorException error)
+                {
+                    propertyErrorException = error;
+                }
+                catch (PagingErrorException error)
+                {
+                    pagingErrorException = error;
+                }
+                catch (RepositoryErrorException error)
+                {
+                    repositoryErrorException = error;
+                }
+                catch (UserNotAuthorizedException error)
+                {
+                    userNotAuthorizedException = error;
+                }
+                catch (Throwable error)
+                {
+                    anotherException = error;
+                }
+            }
+        }
+
+        if (combinedRelationshipResults.isEmpty())
+        {
+            throwCapturedRepositoryErrorException(repositoryErrorException);
+            throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
+            throwCapturedThrowableException(anotherException, methodName);
+            throwCapturedPropertyErrorException(propertyErrorException);
+            throwCapturedInvalidParameterException(invalidParameterException);
+            throwCapturedTypeErrorException(typeErrorException);
+            throwCapturedFunctionNotSupportedException(functionNotSupportedException);
+
+            if (pagingErrorException != null)
+            {
+                throw pagingErrorException;
+            }
+
+            return null;
+        }
+
+        /*
+         * Retrieve the related entities that no repository returned alongside the relationship.
+         */
+        for (String relatedEntityGUID : this.getFarEndEntityGUIDs(entityGUIDs, combinedRelationshipResults.values()))
+        {
+            if (! combinedEntityResults.containsKey(relatedEntityGUID))
+            {
+                try
+                {
+                    EntityDetail relatedEntity;
+
+                    if (asOfTime == null)
+                    {
+                        relatedEntity = this.getEntityDetail(userId, relatedEntityGUID);
+                    }
+                    else
+                    {
+                        relatedEntity = this.getEntityDetail(userId, relatedEntityGUID, asOfTime);
+                    }
+
+                    if (relatedEntity != null)
+                    {
+                        combinedEntityResults.put(relatedEntityGUID, relatedEntity);
+                    }
+                }
+                catch (EntityNotKnownException | EntityProxyOnlyException error)
+                {
+                    /*
+                     * The related entity is not available anywhere in the cohort.
+                     */
+                }
+            }
+        }
+
+        return new InstanceGraph(new ArrayList<>(combinedEntityResults.values()),
+                                 new ArrayList<>(combinedRelationshipResults.values()));
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -2479,17 +2836,232 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
                     /*
                      * Issue the request
                      */
-                    List<EntityDetail> results = metadataCollection.findEntitiesByClassification(userId,
-                                                                                                 entityTypeGUID,
-                                                                                                 classificationName,
-                                                                                                 matchClassificationProperties,
-                                                                                                 matchCriteria,
-                                                                                                 fromEntityElement,
-                                                                                                 limitResultsByStatus,
-                                                                                                 asOfTime,
-                                                                                                 sequencingProperty,
-                                                                                                 sequencingOrder,
-                                                                                                 pageSize);
+                    List<EntityDetail> results = metadataCollection.findEntitiesByClassification(userId,
+                                                                                                 entityTypeGUID,
+                                                                                                 classificationName,
+                                                                                                 matchClassificationProperties,
+                                                                                                 matchCriteria,
+                                                                                                 fromEntityElement,
+                                                                                                 limitResultsByStatus,
+                                                                                                 asOfTime,
+                                                                                                 sequencingProperty,
+                                                                                                 sequencingOrder,
+                                                                                                 pageSize);
+
+                    /*
+                     * Step through the list of returned TypeDefs and remove duplicates.
+                     */
+                    combinedResults = this.addUniqueEntities(combinedResults,
+                                                             results,
+                                                             cohortConnector.getServerName(),
+                                                             cohortConnector.getMetadataCollectionId(),
+                                                             methodName);
+                }
+                catch (InvalidParameterException error)
+                {
+                    invalidParameterException = error;
+                }
+                catch (FunctionNotSupportedException error)
+                {
+                    functionNotSupportedException = error;
+                }
+                catch (TypeErrorException error)
+                {
+                    typeErrorException = error;
+                }
+                catch (PropertyErrorException error)
+                {
+                    propertyErrorException = error;
+                }
+                catch (RepositoryErrorException error)
+                {
+                    repositoryErrorException = error;
+                }
+                catch (UserNotAuthorizedException error)
+                {
+                    userNotAuthorizedException = error;
+                }
+                catch (Throwable error)
+                {
+                    anotherException = error;
+                }
+            }
+        }
+
+
+        if (combinedResults.isEmpty())
+        {
+            throwCapturedRepositoryErrorException(repositoryErrorException);
+            throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
+            throwCapturedThrowableException(anotherException, methodName);
+            throwCapturedTypeErrorException(typeErrorException);
+            throwCapturedPropertyErrorException(propertyErrorException);
+            throwCapturedInvalidParameterException(invalidParameterException);
+            throwCapturedFunctionNotSupportedException(functionNotSupportedException);
+
+            return null;
+        }
+
+        return validatedEntityListResults(repositoryName,
+                                          combinedResults,
+                                          sequencingProperty,
+                                          sequencingOrder,
+                                          pageSize,
+                                          methodName);
+    }
+
+
+    /**
+     * Return a list of entities that have any, or all, of the requested classifications attached.  Each
+     * classification may have its own properties to match.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity.
+     * @param matchClassifications map of classification name to the classification properties used to narrow the
+     *                             search for that classification.  A null properties value matches any
+     *                             classification of that name.
+     * @param matchClassificationCriteria ANY if an entity is returned when it matches any of the classifications,
+     *                                    ALL if it must match all of them.
+     * @param matchPropertiesCriteria Enum defining how the properties should be matched to each classification in
+     *                                the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException one of the classifications is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  List<EntityDetail> findEntitiesByClassifications(String                          userId,
+                                                             String                          entityTypeGUID,
+                                                             Map<String, InstanceProperties> matchClassifications,
+                                                             MatchCriteria                   matchClassificationCriteria,
+                                                             MatchCriteria                   matchPropertiesCriteria,
+                                                             int                             fromEntityElement,
+                                                             List<InstanceStatus>            limitResultsByStatus,
+                                                             Date                            asOfTime,
+                                                             String                          sequencingProperty,
+                                                             SequencingOrder                 sequencingOrder,
+                                                             int                             pageSize) throws InvalidParameterException,
+                                                                                                              TypeErrorException,
+                                                                                                              RepositoryErrorException,
+                                                                                                              ClassificationErrorException,
+                                                                                                              PropertyErrorException,
+                                                                                                              PagingErrorException,
+                                                                                                              FunctionNotSupportedException,
+                                                                                                              UserNotAuthorizedException
+    {
+        final String  methodName                   = "findEntitiesByClassifications";
+        final String  entityTypeGUIDParameterName  = "entityTypeGUID";
+        final String  asOfTimeParameter            = "asOfTime";
+        final String  pageSizeParameter            = "pageSize";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+        repositoryValidator.validateOptionalTypeGUID(repositoryName, entityTypeGUIDParameterName, entityTypeGUID, methodName);
+        repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
+
+        /*
+         * Validate TypeDef
+         */
+        String  entityTypeName = null;
+
+        if (entityTypeGUID != null)
+        {
+            TypeDef entityTypeDef = repositoryHelper.getTypeDef(repositoryName,
+                                                                entityTypeGUIDParameterName,
+                                                                entityTypeGUID,
+                                                                methodName);
+
+            repositoryValidator.validateTypeDefForInstance(repositoryName,
+                                                           entityTypeGUIDParameterName,
+                                                           entityTypeDef,
+                                                           methodName);
+
+            entityTypeName = entityTypeDef.getName();
+        }
+
+        this.validateClassificationMatch(matchClassifications,
+                                         matchClassificationCriteria,
+                                         matchPropertiesCriteria,
+                                         entityTypeName,
+                                         methodName);
+
+        /*
+         * Perform operation
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        /*
+         * Ready to process the request.  Search results need to come from all members of the cohort.
+         * They need to be combined and then duplicates removed to create the final list of results.
+         * Some repositories may produce exceptions.  These exceptions are saved and one selected to
+         * be returned if there are no results from any repository.
+         */
+        Map<String, EntityDetail>     combinedResults               = new HashMap<>();
+
+        InvalidParameterException     invalidParameterException     = null;
+        FunctionNotSupportedException functionNotSupportedException = null;
+        TypeErrorException            typeErrorException            = null;
+        PropertyErrorException        propertyErrorException        = null;
+        UserNotAuthorizedException    userNotAuthorizedException    = null;
+        RepositoryErrorException      repositoryErrorException      = null;
+        Throwable                     anotherException              = null;
+
+        /*
+         * Loop through the metadata collections extracting the typedefs from each repository.
+         */
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+
+                validateMetadataCollection(metadataCollection, methodName);
+
+                try
+                {
+                    /*
+                     * Issue the request
+                     */
+                    List<EntityDetail> results = metadataCollection.findEntitiesByClassifications(userId,
+                                                                                                  entityTypeGUID,
+                                                                                                  matchClassifications,
+                                                                                                  matchClassificationCriteria,
+                                                                                                  matchPropertiesCriteria,
+                                                                                                  fromEntityElement,
+                                                                                                  limitResultsByStatus,
+                                                                                                  asOfTime,
+                                                                                                  sequencingProperty,
+                                                                                                  sequencingOrder,
+                                                                                                  pageSize);
 
                     /*
                      * Step through the list of returned TypeDefs and remove duplicates.
@@ -3040,6 +3612,130 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a list of relationships.  Each member of the cohort is sent one request containing the relationships
+     * that have not been retrieved from the members before it, so the relationships are returned from the same
+     * member as they would be by getRelationship() and a batch costs at most one request for each member.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the relationships.
+     * @return list of relationships.  Relationships that are not known in the cohort are skipped.
+     *         Null means none of the relationships are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationships";
+
+        /*
+         * Validate parameters
+         */
+        this.validateGUIDList(guids, methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        /*
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        /*
+         * Ready to process the request.  The relationships that are not yet retrieved are requested from each
+         * member of the cohort in turn.  Some repositories may produce exceptions.  These exceptions are saved
+         * and one selected to be returned if there are no results from any repository.
+         */
+        Set<String>                remainingGUIDs             = new LinkedHashSet<>(guids);
+        Map<String, Relationship>  retrievedResults           = new HashMap<>();
+        InvalidParameterException  invalidParameterException  = null;
+        UserNotAuthorizedException userNotAuthorizedException = null;
+        RepositoryErrorException   repositoryErrorException   = null;
+        Throwable                  anotherException           = null;
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if ((cohortConnector != null) && (! remainingGUIDs.isEmpty()))
+            {
+                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+
+                validateMetadataCollection(metadataCollection, methodName);
+
+                try
+                {
+                    /*
+                     * Issue the request
+                     */
+                    List<Relationship> results = metadataCollection.getRelationships(userId, new ArrayList<>(remainingGUIDs));
+
+                    if (results != null)
+                    {
+                        for (Relationship relationship : results)
+                        {
+                            if ((relationship != null) && (remainingGUIDs.remove(relationship.getGUID())))
+                            {
+                                String sourceMetadataCollectionId = cohortConnector.getMetadataCollectionId();
+
+                                retrievedResults.put(relationship.getGUID(),
+                                                     enterpriseParentConnector.processRetrievedRelationship(sourceMetadataCollectionId, relationship));
+                            }
+                        }
+                    }
+                }
+                catch (InvalidParameterException error)
+                {
+                    invalidParameterException = error;
+                }
+                catch (RepositoryErrorException error)
+                {
+                    repositoryErrorException = error;
+                }
+                catch (UserNotAuthorizedException error)
+                {
+                    userNotAuthorizedException = error;
+                }
+                catch (Throwable error)
+                {
+                    anotherException = error;
+                }
+            }
+        }
+
+        if (retrievedResults.isEmpty())
+        {
+            throwCapturedRepositoryErrorException(repositoryErrorException);
+            throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
+            throwCapturedThrowableException(anotherException, methodName);
+            throwCapturedInvalidParameterException(invalidParameterException);
+
+            return null;
+        }
+
+        /*
+         * Return the results in the order they were requested.
+         */
+        List<Relationship> results = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            Relationship relationship = retrievedResults.remove(guid);
+
+            if (relationship != null)
+            {
+                results.add(relationship);
+            }
+        }
+
+        return results;
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -4113,6 +4809,206 @@ public class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the entity with the qualifiedName supplied in the initial properties, creating it if no such
+     * entity exists.  The entity is first searched for across all members of the cohort so that an entity homed
+     * in any member is found.  Only if there is no such entity is the request passed to the first repository in
+     * the cohort that accepts it, which is normally the local repository.  That repository checks again before
+     * it creates the entity so that requests issued at the same time through this server do not create duplicates.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier (guid) for the new entity's type.
+     * @param initialProperties initial list of properties for the new entity; must include the qualifiedName.
+     * @param initialClassifications initial list of classifications for the new entity null means no classifications.
+     * @param initialStatus initial status typically DRAFT, PREPARED or ACTIVE.
+     * @param entityCreated set to true if the entity is created by this request.  May be null.
+     * @return EntityDetail for the existing entity or the new entity.
+     * @throws InvalidParameterException one of the parameters is invalid or null, or there is no qualifiedName
+     *                                   in the initial properties.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type, or the qualifiedName
+     *                                  is used by an entity that is not of the requested type or one of its subtypes.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for this entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws PagingErrorException the search for the existing entity failed.
+     * @throws FunctionNotSupportedException the repository does not support searching by property.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail findOrAddEntity(String                     userId,
+                                        String                     entityTypeGUID,
+                                        InstanceProperties         initialProperties,
+                                        List<Classification>       initialClassifications,
+                                        InstanceStatus             initialStatus,
+                                        AtomicBoolean              entityCreated) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         PropertyErrorException,
+                                                                                         ClassificationErrorException,
+                                                                                         StatusNotSupportedException,
+                                                                                         PagingErrorException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String  methodName                    = "findOrAddEntity";
+        final String  entityGUIDParameterName       = "entityTypeGUID";
+        final String  propertiesParameterName       = "initialProperties";
+        final String  classificationsParameterName  = "initialClassifications";
+        final String  initialStatusParameterName    = "initialStatus";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+        repositoryValidator.validateTypeGUID(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
+
+        TypeDef  typeDef = repositoryHelper.getTypeDef(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
+
+        repositoryValidator.validateTypeDefForInstance(repositoryName, entityGUIDParameterName, typeDef, methodName);
+        repositoryValidator.validateClassificationList(repositoryName,
+                                                       classificationsParameterName,
+                                                       initialClassifications,
+                                                       typeDef.getName(),
+                                                       methodName);
+
+        repositoryValidator.validatePropertiesForType(repositoryName,
+                                                      propertiesParameterName,
+                                                      typeDef,
+                                                      initialProperties,
+                                                      methodName);
+
+        repositoryValidator.validateInstanceStatus(repositoryName,
+                                                   initialStatusParameterName,
+                                                   initialStatus,
+                                                   typeDef,
+                                                   methodName);
+
+        String   qualifiedName = this.validateQualifiedName(typeDef.getName(), initialProperties, methodName);
+
+        /*
+         * Validation complete.  The search is a federated query across the cohort.
+         */
+        EntityDetail existingEntity = this.findEntityByQualifiedName(userId, typeDef, qualifiedName, methodName);
+
+        if (existingEntity != null)
+        {
+            this.validateExistingEntityType(typeDef.getName(), qualifiedName, existingEntity, methodName);
+
+            if (entityCreated != null)
+            {
+                entityCreated.set(false);
+            }
+
+            return existingEntity;
+        }
+
+        /*
+         * There is no entity with this qualifiedName, ok to create new instance
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        /*
+         * Ready to process the request.  Create requests occur in the first repository that accepts the call.
+         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+         * there are no positive results from any repository.
+         */
+        InvalidParameterException    invalidParameterException    = null;
+        TypeErrorException           typeErrorException           = null;
+        PropertyErrorException       propertyErrorException       = null;
+        ClassificationErrorException classificationErrorException = null;
+        StatusNotSupportedException  statusNotSupportedException  = null;
+        FunctionNotSupportedException functionNotSupportedException = null;
+        UserNotAuthorizedException   userNotAuthorizedException   = null;
+        RepositoryErrorException     repositoryErrorException     = null;
+        Throwable                    anotherException             = null;
+
+        /*
+         * Loop through the metadata collections extracting the typedefs from each repository.
+         */
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                OMRSMetadataCollection   metadataCollection = cohortConnector.getMetadataCollection();
+
+                validateMetadataCollection(metadataCollection, methodName);
+
+                try
+                {
+                    /*
+                     * Issue the request and return if it succeeds
+                     */
+                    return metadataCollection.findOrAddEntity(userId,
+                                                              entityTypeGUID,
+                                                              initialProperties,
+                                                              initialClassifications,
+                                                              initialStatus,
+                                                              entityCreated);
+                }
+                catch (InvalidParameterException error)
+                {
+                    invalidParameterException = error;
+                }
+                catch (ClassificationErrorException error)
+                {
+                    classificationErrorException = error;
+                }
+                catch (TypeErrorException error)
+                {
+                    typeErrorException = error;
+                }
+                catch (StatusNotSupportedException error)
+                {
+                    statusNotSupportedException = error;
+                }
+                catch (PropertyErrorException error)
+                {
+                    propertyErrorException = error;
+                }
+                catch (RepositoryErrorException error)
+                {
+                    repositoryErrorException = error;
+                }
+                catch (FunctionNotSupportedException error)
+                {
+                    functionNotSupportedException = error;
+                }
+                catch (UserNotAuthorizedException error)
+                {
+                    userNotAuthorizedException = error;
+                }
+                catch (Throwable error)
+                {
+                    anotherException = error;
+                }
+            }
+        }
+
+        throwCapturedRepositoryErrorException(repositoryErrorException);
+        throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
+        throwCapturedThrowableException(anotherException, methodName);
+        throwCapturedTypeErrorException(typeErrorException);
+        throwCapturedClassificationErrorException(classificationErrorException);
+        throwCapturedPropertyErrorException(propertyErrorException);
+        throwCapturedStatusNotSupportedException(statusNotSupportedException);
+        throwCapturedFunctionNotSupportedException(functionNotSupportedException);
+        throwCapturedInvalidParameterException(invalidParameterException);
+
+        return null;
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
@@ -20,6 +20,7 @@ import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRS
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSMetricsMetadataCollection;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -99,11 +100,20 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
         if (metadataCollectionId != null)
         {
-            super.metadataCollection = new EnterpriseOMRSMetadataCollection(this,
-                                                                            super.serverName,
-                                                                            repositoryHelper,
-                                                                            repositoryValidator,
-                                                                            metadataCollectionId);
+            /*
+             * The enterprise metadata collection is wrapped so that the time spent on each federated request
+             * is measured when metrics are enabled.
+             */
+            super.metadataCollection = new OMRSMetricsMetadataCollection(this,
+                                                                         super.repositoryName,
+                                                                         metadataCollectionId,
+                                                                         repositoryHelper,
+                                                                         repositoryValidator,
+                                                                         new EnterpriseOMRSMetadataCollection(this,
+                                                                                                              super.serverName,
+                                                                                                              repositoryHelper,
+                                                                                                              repositoryValidator,
+                                                                                                              metadataCollectionId));
 
         }
     }
@@ -456,6 +466,8 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
     /**
      * Pass the metadata collection id for a repository that has just left the metadata repository cohort.
+     * The remote connectors are shared with other connector consumers and are disconnected by the connector
+     * manager.
      *
      * @param metadataCollectionId identifier of the metadata collection that is no longer available.
      */
@@ -469,7 +481,6 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
             if (registeredConnector.getMetadataCollectionId().equals(metadataCollectionId))
             {
-                this.disconnectConnector(registeredConnector);
                 iterator.remove();
             }
         }
@@ -477,7 +488,9 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
 
     /**
-     * Call disconnect on all registered connectors and stop calling them.  The OMRS is about to shutdown.
+     * Call disconnect on the local connector and stop calling the registered connectors.  The OMRS is about to
+     * shutdown.  The remote connectors are shared with other connector consumers and are disconnected by the
+     * connector manager.
      */
     public void disconnectAllConnectors()
     {
@@ -497,16 +510,7 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             this.disconnectConnector(localConnector);
         }
 
-        if (remoteCohortConnectors != null)
-        {
-            for (FederatedConnector remoteConnector : remoteCohortConnectors)
-            {
-                if (remoteConnector != null)
-                {
-                    this.disconnectConnector(remoteConnector);
-                }
-            }
-        }
+        remoteCohortConnectors = new ArrayList<>();
     }
 
 
@@ -531,27 +535,6 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
-    /**
-     * Issue a disconnect call on the supplied connector.
-     *
-     * @param federatedConnector connector to disconnect.
-     */
-    private void disconnectConnector(FederatedConnector  federatedConnector)
-    {
-        OMRSRepositoryConnector    connector = null;
-
-        if (federatedConnector != null)
-        {
-            connector = federatedConnector.getConnector();
-        }
-
-        if (connector != null)
-        {
-            disconnectConnector(connector);
-        }
-    }
-
-
     /**
      * FederatedConnector is a private class for storing details of each of the connectors to the repositories
      * in the open metadata repository cohort.
@@ -7,28 +7,66 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorExc
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
 
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * OMRSRepositoryEventExchangeRule determines if particular types of events should be exchanged on the OMRS Topic.
+ * <p>
+ * For the SELECTED_TYPES and LEARNED_TYPES rules, the unique identifiers of the types to process are compiled
+ * into a hash set so that each event is checked in constant time.  When the rule has a repository content manager,
+ * the set also includes all of the known subtypes of the selected types, so selecting Asset selects every
+ * kind of asset.  The set is recalculated when the TypeDefs known to the content manager change.
+ * </p>
  */
 public class OMRSRepositoryEventExchangeRule
 {
+    private static final String sourceName = "OMRSRepositoryEventExchangeRule";
+
     private OpenMetadataExchangeRule           exchangeRule;
-    private List<String>                       selectedTypesToProcess = new ArrayList<>();
+    private OMRSRepositoryContentManager       repositoryContentManager;
+    private Set<String>                        configuredTypesToProcess = new HashSet<>();
+    private Set<String>                        learnedTypesToProcess    = new HashSet<>();
+
+    /*
+     * The compiled set is never changed once it is built - it is replaced.  This means it can be read
+     * without locking.
+     */
+    private volatile Set<String>               selectedTypesToProcess   = Collections.emptySet();
+    private volatile long                      compiledTypeDefVersion   = -1;
 
 
     /**
-     * Constructor provides all of the objects used in the event exchange decision.
+     * Constructor provides all of the objects used in the event exchange decision.  The selected types are
+     * matched exactly (without their subtypes).
      *
      * @param exchangeRule enum detailing the types of events to process.
      * @param selectedTypesToProcess supplementary list to support selective processing of events.
      */
     public OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule     exchangeRule,
                                            List<TypeDefSummary>         selectedTypesToProcess)
+    {
+        this(exchangeRule, selectedTypesToProcess, null);
+    }
+
+
+    /**
+     * Constructor provides all of the objects used in the event exchange decision.  The selected types are
+     * expanded to include their subtypes using the TypeDefs known to the repository content manager.
+     *
+     * @param exchangeRule enum detailing the types of events to process.
+     * @param selectedTypesToProcess supplementary list to support selective processing of events.
+     * @param repositoryContentManager cache of TypeDefs used to find the subtypes of the selected types
+     *                                 (may be null).
+     */
+    public OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule     exchangeRule,
+                                           List<TypeDefSummary>         selectedTypesToProcess,
+                                           OMRSRepositoryContentManager repositoryContentManager)
     {
         final String  methodName = "OMRSRepositoryEventExchangeRule constructor";
 
@@ -51,9 +89,10 @@ public class OMRSRepositoryEventExchangeRule
         }
 
         this.exchangeRule = exchangeRule;
+        this.repositoryContentManager = repositoryContentManager;
 
         /*
-         * The selected types are loaded into a hash map for easy retrieval.
+         * The selected types are loaded into a hash set for easy retrieval.
          */
         if (selectedTypesToProcess != null)
         {
@@ -65,11 +104,68 @@ public class OMRSRepositoryEventExchangeRule
 
                     if (typeDefSummaryGUID != null)
                     {
-                        this.selectedTypesToProcess.add(typeDefSummaryGUID);
+                        this.configuredTypesToProcess.add(typeDefSummaryGUID);
                     }
                 }
             }
         }
+
+        this.selectedTypesToProcess = new HashSet<>(configuredTypesToProcess);
+    }
+
+
+    /**
+     * Return the compiled set of types to process, rebuilding it first if the TypeDefs known to the
+     * repository content manager have changed since it was last built.
+     *
+     * @return set of type unique identifiers
+     */
+    private Set<String> getSelectedTypesToProcess()
+    {
+        if ((repositoryContentManager != null) &&
+            (repositoryContentManager.getTypeDefCacheVersion() != compiledTypeDefVersion))
+        {
+            this.compileSelectedTypesToProcess();
+        }
+
+        return selectedTypesToProcess;
+    }
+
+
+    /**
+     * Build the set of types to process from the configured types (with their subtypes) and the learned types.
+     */
+    private synchronized void compileSelectedTypesToProcess()
+    {
+        long typeDefVersion = repositoryContentManager.getTypeDefCacheVersion();
+
+        if (typeDefVersion != compiledTypeDefVersion)
+        {
+            Set<String> newSelectedTypes = repositoryContentManager.getTypeDefGUIDsWithSubTypes(sourceName,
+                                                                                                configuredTypesToProcess);
+
+            newSelectedTypes.addAll(learnedTypesToProcess);
+
+            selectedTypesToProcess = newSelectedTypes;
+            compiledTypeDefVersion = typeDefVersion;
+        }
+    }
+
+
+    /**
+     * Add a learned type to the set of types to process.
+     *
+     * @param typeDefGUID unique identifier of the type
+     */
+    private synchronized void addLearnedType(String   typeDefGUID)
+    {
+        if (learnedTypesToProcess.add(typeDefGUID))
+        {
+            Set<String> newSelectedTypes = new HashSet<>(selectedTypesToProcess);
+
+            newSelectedTypes.add(typeDefGUID);
+            selectedTypesToProcess = newSelectedTypes;
+        }
     }
 
 
@@ -122,9 +218,9 @@ public class OMRSRepositoryEventExchangeRule
             {
                 /*
                  * The exchange rule is either SELECTED_TYPES or LEARNED_TYPES. For either, the instance
-                 * is processed if its type is in the selectedTypesToProcess list.
+                 * is processed if its type is in the selectedTypesToProcess set.
                  */
-                return selectedTypesToProcess.contains(typeDefGUID);
+                return this.getSelectedTypesToProcess().contains(typeDefGUID);
             }
 
         }
@@ -206,9 +302,9 @@ public class OMRSRepositoryEventExchangeRule
                      * All active types should be learned and added to the rule so save copies are updated by
                      * incoming events.
                      */
-                    if (! selectedTypesToProcess.contains(type.getTypeDefGUID()))
+                    if (! this.getSelectedTypesToProcess().contains(typeDefGUID))
                     {
-                        selectedTypesToProcess.add(typeDefGUID);
+                        this.addLearnedType(typeDefGUID);
                     }
 
                     /*
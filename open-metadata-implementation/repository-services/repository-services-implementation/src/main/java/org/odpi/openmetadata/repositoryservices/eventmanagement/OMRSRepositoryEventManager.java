@@ -15,6 +15,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineMonitor;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSEventPipelineStage;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -234,6 +236,10 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
                 }
             }
         }
+
+        OMRSEventPipelineMonitor.recordQueueDepth(OMRSEventPipelineStage.REPOSITORY_EVENT_MANAGER,
+                                                  eventManagerName,
+                                                  0);
     }
 
 
@@ -249,7 +255,23 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
         {
             for (OMRSTypeDefEventProcessor consumer : typeDefEventConsumers)
             {
-                consumer.sendTypeDefEvent(eventManagerName, event);
+                String  consumerName = eventManagerName + ": " + consumer.getClass().getSimpleName();
+                long    startTime    = OMRSEventPipelineMonitor.startTimer();
+                boolean failed       = true;
+
+                try
+                {
+                    consumer.sendTypeDefEvent(eventManagerName, event);
+                    failed = false;
+                }
+                finally
+                {
+                    OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.REPOSITORY_EVENT_MANAGER,
+                                                         consumerName,
+                                                         startTime,
+                                                         failed,
+                                                         auditLog);
+                }
             }
         }
     }
@@ -268,7 +290,23 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
         {
             for (OMRSInstanceEventProcessor consumer : instanceEventConsumers)
             {
-                consumer.sendInstanceEvent(eventManagerName, event);
+                String  consumerName = eventManagerName + ": " + consumer.getClass().getSimpleName();
+                long    startTime    = OMRSEventPipelineMonitor.startTimer();
+                boolean failed       = true;
+
+                try
+                {
+                    consumer.sendInstanceEvent(eventManagerName, event);
+                    failed = false;
+                }
+                finally
+                {
+                    OMRSEventPipelineMonitor.recordEvent(OMRSEventPipelineStage.REPOSITORY_EVENT_MANAGER,
+                                                         consumerName,
+                                                         startTime,
+                                                         failed,
+                                                         auditLog);
+                }
             }
         }
     }
@@ -290,6 +328,10 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
         else
         {
             this.typeDefEventBuffer.add(typeDefEvent);
+
+            OMRSEventPipelineMonitor.recordQueueDepth(OMRSEventPipelineStage.REPOSITORY_EVENT_MANAGER,
+                                                      eventManagerName,
+                                                      typeDefEventBuffer.size() + instanceEventBuffer.size());
         }
     }
 
@@ -310,6 +352,10 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
         else
         {
             this.instanceEventBuffer.add(instanceEvent);
+
+            OMRSEventPipelineMonitor.recordQueueDepth(OMRSEventPipelineStage.REPOSITORY_EVENT_MANAGER,
+                                                      eventManagerName,
+                                                      typeDefEventBuffer.size() + instanceEventBuffer.size());
         }
     }
 
@@ -12,9 +12,12 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryeventmapper.OMRSRepositoryEventProcessor;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSMetricsMetadataCollection;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * LocalOMRSMetadataCollection provides a wrapper around the metadata collection for the real local repository.
@@ -85,7 +88,17 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
                                               errorCode.getSystemAction(),
                                               errorCode.getUserAction());
         }
-        this.realMetadataCollection = realMetadataCollection;
+
+        /*
+         * The real metadata collection is wrapped so that the time spent in the real repository is measured
+         * when metrics are enabled.
+         */
+        this.realMetadataCollection = new OMRSMetricsMetadataCollection(parentConnector,
+                                                                        repositoryName,
+                                                                        metadataCollectionId,
+                                                                        repositoryHelper,
+                                                                        repositoryValidator,
+                                                                        realMetadataCollection);
 
         /*
          * Save the information needed to send repository events.
@@ -1418,6 +1431,57 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the entities.
+     * @return list of EntityDetail structures.  Entities that are not known in the metadata collection, or are
+     *         only known as a proxy, are skipped.  Null means none of the entities are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        this.validateGUIDList(guids, methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> entities = realMetadataCollection.getEntityDetails(userId, guids);
+
+        if (entities != null)
+        {
+            /*
+             * Ensure the provenance of the entities is correctly set (see getEntityDetail).
+             */
+            for (EntityDetail entity : entities)
+            {
+                if ((entity != null) && (entity.getMetadataCollectionId() == null))
+                {
+                    entity.setMetadataCollectionId(metadataCollectionId);
+                    entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+                }
+            }
+        }
+
+        return entities;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1500,6 +1564,104 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the relationships for a list of entities together with the entities at the other end of each
+     * relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUIDs unique identifiers for the entities of interest.  Entities that are not known in the
+     *                    metadata collection are skipped.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entities.  Null means return the
+     *                 present values.
+     * @param pageSize the maximum number of relationships that can be returned for each entity.  Zero means
+     *                 unrestricted return results size.
+     * @return InstanceGraph containing the relationships and the entities at the far end of the relationships.
+     *         Null means no relationships associated with the entities.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws PropertyErrorException there is a problem with the properties of the relationships.
+     * @throws PagingErrorException the paging parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraph getRelationshipsAndRelatedEntities(String               userId,
+                                                            List<String>         entityGUIDs,
+                                                            String               relationshipTypeGUID,
+                                                            List<InstanceStatus> limitResultsByStatus,
+                                                            Date                 asOfTime,
+                                                            int                  pageSize) throws InvalidParameterException,
+                                                                                                  TypeErrorException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  PropertyErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationshipsAndRelatedEntities";
+        final String  guidParameterName = "entityGUIDs";
+        final String  asOfTimeParameter = "asOfTime";
+        final String  typeGUIDParameter = "relationshipTypeGUID";
+        final String  pageSizeParameter = "pageSize";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        if ((entityGUIDs == null) || (entityGUIDs.isEmpty()))
+        {
+            repositoryValidator.validateGUID(repositoryName, guidParameterName, null, methodName);
+        }
+        else
+        {
+            for (String entityGUID : entityGUIDs)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidParameterName, entityGUID, methodName);
+            }
+        }
+
+        repositoryValidator.validateOptionalTypeGUID(repositoryName, typeGUIDParameter, relationshipTypeGUID, methodName);
+        repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
+
+        /*
+         * Perform operation
+         */
+        InstanceGraph instanceGraph = realMetadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                                entityGUIDs,
+                                                                                                relationshipTypeGUID,
+                                                                                                limitResultsByStatus,
+                                                                                                asOfTime,
+                                                                                                pageSize);
+
+        if ((instanceGraph != null) && (instanceGraph.getEntities() != null))
+        {
+            /*
+             * Ensure the provenance of the entities is correctly set (see getEntityDetail).
+             */
+            for (EntityDetail entity : instanceGraph.getEntities())
+            {
+                if ((entity != null) && (entity.getMetadataCollectionId() == null))
+                {
+                    entity.setMetadataCollectionId(metadataCollectionId);
+                    entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+                }
+            }
+        }
+
+        return instanceGraph;
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1715,6 +1877,124 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a list of entities that have any, or all, of the requested classifications attached.  Each
+     * classification may have its own properties to match.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier for the type of entity requested.  Null means any type of entity.
+     * @param matchClassifications map of classification name to the classification properties used to narrow the
+     *                             search for that classification.  A null properties value matches any
+     *                             classification of that name.
+     * @param matchClassificationCriteria ANY if an entity is returned when it matches any of the classifications,
+     *                                    ALL if it must match all of them.
+     * @param matchPropertiesCriteria Enum defining how the properties should be matched to each classification in
+     *                                the repository.
+     * @param fromEntityElement the starting element number of the entities to return.
+     *                                This is used when retrieving elements
+     *                                beyond the first page of results. Zero means start from the first element.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a list of entities matching the supplied criteria null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws ClassificationErrorException one of the classifications is not known to the metadata collection.
+     * @throws PropertyErrorException the properties specified are not valid for the requested type of
+     *                                  classification.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  List<EntityDetail> findEntitiesByClassifications(String                          userId,
+                                                             String                          entityTypeGUID,
+                                                             Map<String, InstanceProperties> matchClassifications,
+                                                             MatchCriteria                   matchClassificationCriteria,
+                                                             MatchCriteria                   matchPropertiesCriteria,
+                                                             int                             fromEntityElement,
+                                                             List<InstanceStatus>            limitResultsByStatus,
+                                                             Date                            asOfTime,
+                                                             String                          sequencingProperty,
+                                                             SequencingOrder                 sequencingOrder,
+                                                             int                             pageSize) throws InvalidParameterException,
+                                                                                                              TypeErrorException,
+                                                                                                              RepositoryErrorException,
+                                                                                                              ClassificationErrorException,
+                                                                                                              PropertyErrorException,
+                                                                                                              PagingErrorException,
+                                                                                                              FunctionNotSupportedException,
+                                                                                                              UserNotAuthorizedException
+    {
+        final String  methodName                   = "findEntitiesByClassifications";
+        final String  entityTypeGUIDParameterName  = "entityTypeGUID";
+        final String  asOfTimeParameter            = "asOfTime";
+        final String  pageSizeParameter            = "pageSize";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+        repositoryValidator.validateOptionalTypeGUID(repositoryName, entityTypeGUIDParameterName, entityTypeGUID, methodName);
+        repositoryValidator.validateAsOfTime(repositoryName, asOfTimeParameter, asOfTime, methodName);
+        repositoryValidator.validatePageSize(repositoryName, pageSizeParameter, pageSize, methodName);
+
+        /*
+         * Validate TypeDef
+         */
+        String  entityTypeName = null;
+
+        if (entityTypeGUID != null)
+        {
+            TypeDef entityTypeDef = repositoryHelper.getTypeDef(repositoryName,
+                                                                entityTypeGUIDParameterName,
+                                                                entityTypeGUID,
+                                                                methodName);
+
+            repositoryValidator.validateTypeDefForInstance(repositoryName,
+                                                           entityTypeGUIDParameterName,
+                                                           entityTypeDef,
+                                                           methodName);
+
+            entityTypeName = entityTypeDef.getName();
+        }
+
+        this.validateClassificationMatch(matchClassifications,
+                                         matchClassificationCriteria,
+                                         matchPropertiesCriteria,
+                                         entityTypeName,
+                                         methodName);
+
+        /*
+         * Perform operation
+         */
+
+        return realMetadataCollection.findEntitiesByClassifications(userId,
+                                                                    entityTypeGUID,
+                                                                    matchClassifications,
+                                                                    matchClassificationCriteria,
+                                                                    matchPropertiesCriteria,
+                                                                    fromEntityElement,
+                                                                    limitResultsByStatus,
+                                                                    asOfTime,
+                                                                    sequencingProperty,
+                                                                    sequencingOrder,
+                                                                    pageSize);
+    }
+
+
     /**
      * Return a list of entities whose string based property values match the search criteria.  The
      * search criteria may include regex style wild cards.
@@ -1922,6 +2202,41 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a list of relationships.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids String unique identifiers for the relationships.
+     * @return list of relationships.  Relationships that are not known in the metadata collection are skipped.
+     *         Null means none of the relationships are known.
+     * @throws InvalidParameterException the list of guids is null or empty, or contains a null guid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationships";
+
+        /*
+         * Validate parameters
+         */
+        this.validateGUIDList(guids, methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+
+        /*
+         * Process operation
+         */
+
+        return realMetadataCollection.getRelationships(userId, guids);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by hte matching criteria.   The results
      * can be broken into pages.
@@ -2467,6 +2782,134 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the entity with the qualifiedName supplied in the initial properties, creating it if no such
+     * entity exists.  The real repository reports whether it created the entity and an event is only sent out
+     * if the entity is created by this request.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID unique identifier (guid) for the new entity's type.
+     * @param initialProperties initial list of properties for the new entity; must include the qualifiedName.
+     * @param initialClassifications initial list of classifications for the new entity null means no classifications.
+     * @param initialStatus initial status typically DRAFT, PREPARED or ACTIVE.
+     * @param entityCreated set to true if the entity is created by this request.  May be null.
+     * @return EntityDetail for the existing entity or the new entity.
+     * @throws InvalidParameterException one of the parameters is invalid or null, or there is no qualifiedName
+     *                                   in the initial properties.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                              hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this entity's type, or the qualifiedName
+     *                                  is used by an entity that is not of the requested type or one of its subtypes.
+     * @throws ClassificationErrorException one or more of the requested classifications are either not known or
+     *                                           not defined for this entity type.
+     * @throws StatusNotSupportedException the metadata repository hosting the metadata collection does not support
+     *                                       the requested status.
+     * @throws PagingErrorException the repository failed to search for the existing entity.
+     * @throws FunctionNotSupportedException the repository does not support searching by property.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetail findOrAddEntity(String                     userId,
+                                        String                     entityTypeGUID,
+                                        InstanceProperties         initialProperties,
+                                        List<Classification>       initialClassifications,
+                                        InstanceStatus             initialStatus,
+                                        AtomicBoolean              entityCreated) throws InvalidParameterException,
+                                                                                         RepositoryErrorException,
+                                                                                         TypeErrorException,
+                                                                                         PropertyErrorException,
+                                                                                         ClassificationErrorException,
+                                                                                         StatusNotSupportedException,
+                                                                                         PagingErrorException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String  methodName                    = "findOrAddEntity";
+        final String  entityGUIDParameterName       = "entityTypeGUID";
+        final String  propertiesParameterName       = "initialProperties";
+        final String  classificationsParameterName  = "initialClassifications";
+        final String  initialStatusParameterName    = "initialStatus";
+
+        /*
+         * Validate parameters
+         */
+        this.validateRepositoryConnector(methodName);
+        parentConnector.validateRepositoryIsActive(methodName);
+
+        repositoryValidator.validateUserId(repositoryName, userId, methodName);
+        repositoryValidator.validateTypeGUID(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
+
+        TypeDef  typeDef = repositoryHelper.getTypeDef(repositoryName, entityGUIDParameterName, entityTypeGUID, methodName);
+
+        repositoryValidator.validateTypeDefForInstance(repositoryName, entityGUIDParameterName, typeDef, methodName);
+        repositoryValidator.validateClassificationList(repositoryName,
+                                                       classificationsParameterName,
+                                                       initialClassifications,
+                                                       typeDef.getName(),
+                                                       methodName);
+
+        repositoryValidator.validatePropertiesForType(repositoryName,
+                                                      propertiesParameterName,
+                                                      typeDef,
+                                                      initialProperties,
+                                                      methodName);
+
+        repositoryValidator.validateInstanceStatus(repositoryName,
+                                                   initialStatusParameterName,
+                                                   initialStatus,
+                                                   typeDef,
+                                                   methodName);
+
+        this.validateQualifiedName(typeDef.getName(), initialProperties, methodName);
+
+        /*
+         * Validation complete, ok to create new instance
+         */
+
+        AtomicBoolean  created = new AtomicBoolean(false);
+        EntityDetail   entity  = realMetadataCollection.findOrAddEntity(userId,
+                                                                        entityTypeGUID,
+                                                                        initialProperties,
+                                                                        initialClassifications,
+                                                                        initialStatus,
+                                                                        created);
+
+        if (entity != null)
+        {
+            /*
+             * Ensure the provenance of the entity is correctly set.  A repository may not support the storing of
+             * the metadata collection id in the repository (or uses null to mean "local").  When the entity
+             * detail is sent out, it must have its home metadata collection id set up.  So LocalOMRSMetadataCollection
+             * fixes up the provenance.
+             */
+            if (entity.getMetadataCollectionId() == null)
+            {
+                entity.setMetadataCollectionId(metadataCollectionId);
+                entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+            }
+
+            if ((outboundRepositoryEventProcessor != null) && (created.get()))
+            {
+                outboundRepositoryEventProcessor.processNewEntityEvent(repositoryName,
+                                                                       metadataCollectionId,
+                                                                       localServerName,
+                                                                       localServerType,
+                                                                       localOrganizationName,
+                                                                       entity);
+            }
+        }
+
+        if (entityCreated != null)
+        {
+            entityCreated.set(created.get());
+        }
+
+        return entity;
+    }
+
+
     /**
      * Create an entity proxy in the metadata collection.  This is used to store relationships that span metadata
      * repositories.
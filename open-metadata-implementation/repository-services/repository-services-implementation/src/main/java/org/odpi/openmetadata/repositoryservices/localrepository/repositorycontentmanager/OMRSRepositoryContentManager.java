@@ -19,6 +19,7 @@ import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnec
 import org.odpi.openmetadata.repositoryservices.rest.server.OMRSRepositoryRESTServices;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * OMRSRepositoryContentManager supports an in-memory cache of TypeDefs for the local server.  It is used by the OMRS
@@ -58,6 +59,18 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefGUIDs    = new HashMap<>();
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefNames    = new HashMap<>();
 
+    /*
+     * Incremented each time the cached TypeDefs change so that components holding information derived from the
+     * type hierarchy (such as the exchange rules) know when to recalculate it.
+     */
+    private final AtomicLong                typeDefCacheVersion            = new AtomicLong(0);
+
+    /*
+     * Held while knownTypeDefGUIDs and knownTypeDefNames are updated so that the type hierarchy can be
+     * copied without seeing a partial update from a TypeDef event.
+     */
+    private final Object                    typeDefCacheLock               = new Object();
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -110,6 +123,52 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
     }
 
 
+    /**
+     * Load a set of types that have already been validated, such as the open metadata types from the snapshot
+     * generated during the build.  The types are passed to the local repository (if there is one) in the same way as
+     * the types from an archive, but the validation checks on each type are skipped when it is added to the cache.
+     *
+     * @param sourceName name of the source of the types.
+     * @param originatorMetadataCollectionId unique identifier for the archive that created the types.
+     * @param attributeTypeDefs new AttributeTypeDefs - these are loaded first.
+     * @param typeDefs new TypeDefs - their AttributeTypeDefs must be in the list above or already loaded.
+     * @return count of types loaded
+     */
+    public int addPrevalidatedTypes(String                 sourceName,
+                                    String                 originatorMetadataCollectionId,
+                                    List<AttributeTypeDef> attributeTypeDefs,
+                                    List<TypeDef>          typeDefs)
+    {
+        int typeCount = 0;
+
+        if (attributeTypeDefs != null)
+        {
+            for (AttributeTypeDef attributeTypeDef : attributeTypeDefs)
+            {
+                if (attributeTypeDef != null)
+                {
+                    this.processNewAttributeTypeDef(sourceName, originatorMetadataCollectionId, attributeTypeDef, true);
+                    typeCount ++;
+                }
+            }
+        }
+
+        if (typeDefs != null)
+        {
+            for (TypeDef typeDef : typeDefs)
+            {
+                if (typeDef != null)
+                {
+                    this.processNewTypeDef(sourceName, originatorMetadataCollectionId, typeDef, true);
+                    typeCount ++;
+                }
+            }
+        }
+
+        return typeCount;
+    }
+
+
     /*
      * ========================
      * OMRSTypeDefManager
@@ -137,10 +196,28 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
      */
     private void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
     {
-        if (this.validTypeDef(sourceName, newTypeDef))
+        this.cacheTypeDef(sourceName, newTypeDef, isLocallySupported, false);
+    }
+
+
+    /**
+     * Cache a definition of a TypeDef.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param newTypeDef TypeDef structure describing the new TypeDef.
+     * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
+     * @param isPrevalidated the TypeDef has already been validated so the checks are skipped.
+     */
+    private void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported, boolean isPrevalidated)
+    {
+        if (isPrevalidated || this.validTypeDef(sourceName, newTypeDef))
         {
-            knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
-            knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+            synchronized (typeDefCacheLock)
+            {
+                knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
+                knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+                typeDefCacheVersion.incrementAndGet();
+            }
 
             if (isLocallySupported)
             {
@@ -180,7 +257,24 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
                                        AttributeTypeDef newAttributeTypeDef,
                                        boolean          isLocallySupported)
     {
-        if (this.validAttributeTypeDef(sourceName, newAttributeTypeDef))
+        this.cacheAttributeTypeDef(sourceName, newAttributeTypeDef, isLocallySupported, false);
+    }
+
+
+    /**
+     * Cache a definition of a new AttributeTypeDef.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param newAttributeTypeDef AttributeTypeDef structure describing the new TypeDef.
+     * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
+     * @param isPrevalidated the AttributeTypeDef has already been validated so the checks are skipped.
+     */
+    private void cacheAttributeTypeDef(String           sourceName,
+                                       AttributeTypeDef newAttributeTypeDef,
+                                       boolean          isLocallySupported,
+                                       boolean          isPrevalidated)
+    {
+        if (isPrevalidated || this.validAttributeTypeDef(sourceName, newAttributeTypeDef))
         {
             knownAttributeTypeDefGUIDs.put(newAttributeTypeDef.getGUID(), newAttributeTypeDef);
             knownAttributeTypeDefNames.put(newAttributeTypeDef.getName(), newAttributeTypeDef);
@@ -214,8 +308,12 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
     {
         if (this.validTypeDef(sourceName, typeDef))
         {
-            knownTypeDefGUIDs.put(typeDef.getGUID(), typeDef);
-            knownTypeDefNames.put(typeDef.getName(), typeDef);
+            synchronized (typeDefCacheLock)
+            {
+                knownTypeDefGUIDs.put(typeDef.getGUID(), typeDef);
+                knownTypeDefNames.put(typeDef.getName(), typeDef);
+                typeDefCacheVersion.incrementAndGet();
+            }
 
             if (localRepositoryConnector != null)
             {
@@ -244,8 +342,12 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
     {
         if (this.validTypeId(sourceName, obsoleteTypeDefGUID, obsoleteTypeDefName))
         {
-            knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
-            knownTypeDefNames.remove(obsoleteTypeDefName);
+            synchronized (typeDefCacheLock)
+            {
+                knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
+                knownTypeDefNames.remove(obsoleteTypeDefName);
+                typeDefCacheVersion.incrementAndGet();
+            }
 
             if (localRepositoryConnector != null)
             {
@@ -327,6 +429,129 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
     }
 
 
+    /**
+     * Return the version of the TypeDef cache.  The version changes each time a TypeDef is added, updated or
+     * deleted, so it can be used to check whether information derived from the TypeDefs is still current.
+     *
+     * @return version number
+     */
+    public long getTypeDefCacheVersion()
+    {
+        return typeDefCacheVersion.get();
+    }
+
+
+    /**
+     * Return the unique identifiers of the supplied TypeDefs together with those of all of their known subtypes.
+     * The type hierarchy is worked out from a copy of the known TypeDefs taken under the TypeDef cache lock
+     * because TypeDef events may update the cache at the same time.
+     *
+     * @param sourceName source of the request (used for logging)
+     * @param typeDefGUIDs unique identifiers of the TypeDefs
+     * @return set of unique identifiers
+     */
+    public Set<String> getTypeDefGUIDsWithSubTypes(String             sourceName,
+                                                   Collection<String> typeDefGUIDs)
+    {
+        Set<String>          selectedTypeDefNames = new HashSet<>();
+        Map<String, Boolean> selectedTypeDefs     = new HashMap<>();
+        Map<String, TypeDef> typeDefsByGUID;
+        Map<String, TypeDef> typeDefsByName;
+
+        if (typeDefGUIDs == null)
+        {
+            return new HashSet<>();
+        }
+
+        synchronized (typeDefCacheLock)
+        {
+            typeDefsByGUID = new HashMap<>(knownTypeDefGUIDs);
+            typeDefsByName = new HashMap<>(knownTypeDefNames);
+        }
+
+        for (String typeDefGUID : typeDefGUIDs)
+        {
+            TypeDef typeDef = typeDefsByGUID.get(typeDefGUID);
+
+            if (typeDef != null)
+            {
+                selectedTypeDefNames.add(typeDef.getName());
+            }
+        }
+
+        for (TypeDef typeDef : typeDefsByGUID.values())
+        {
+            this.isSubTypeOf(typeDef, typeDefsByName, selectedTypeDefNames, selectedTypeDefs);
+        }
+
+        Set<String> results = new HashSet<>(typeDefGUIDs);
+
+        for (Map.Entry<String, Boolean> selectedTypeDef : selectedTypeDefs.entrySet())
+        {
+            if (selectedTypeDef.getValue())
+            {
+                TypeDef typeDef = typeDefsByName.get(selectedTypeDef.getKey());
+
+                if (typeDef != null)
+                {
+                    results.add(typeDef.getGUID());
+                }
+            }
+        }
+
+        log.debug("Types selected by " + sourceName + ": " + results);
+
+        return results;
+    }
+
+
+    /**
+     * Work up the TypeDef hierarchy to determine whether a TypeDef is one of the selected TypeDefs or a subtype
+     * of one of them.  The result for each TypeDef visited is remembered so each TypeDef is only tested once.
+     *
+     * @param typeDef TypeDef to test
+     * @param typeDefsByName copy of the known TypeDefs, keyed by name
+     * @param selectedTypeDefNames names of the selected TypeDefs
+     * @param results results so far, keyed by TypeDef name
+     * @return boolean result
+     */
+    private boolean isSubTypeOf(TypeDef              typeDef,
+                                Map<String, TypeDef> typeDefsByName,
+                                Set<String>          selectedTypeDefNames,
+                                Map<String, Boolean> results)
+    {
+        String  typeDefName = typeDef.getName();
+        Boolean result      = results.get(typeDefName);
+
+        if (result == null)
+        {
+            /*
+             * Stored before the super types are visited so that a corrupted hierarchy with a loop terminates.
+             */
+            results.put(typeDefName, false);
+
+            TypeDefLink superTypeLink = typeDef.getSuperType();
+
+            if (selectedTypeDefNames.contains(typeDefName))
+            {
+                result = true;
+            }
+            else if ((superTypeLink != null) && (typeDefsByName.get(superTypeLink.getName()) != null))
+            {
+                result = this.isSubTypeOf(typeDefsByName.get(superTypeLink.getName()), typeDefsByName, selectedTypeDefNames, results);
+            }
+            else
+            {
+                result = false;
+            }
+
+            results.put(typeDefName, result);
+        }
+
+        return result;
+    }
+
+
     /**
      * Return the list of property names defined for this TypeDef.
      *
@@ -1218,7 +1443,11 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
             {
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
-                    knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    synchronized (typeDefCacheLock)
+                    {
+                        knownTypeDefNames.put(typeDef.getName(), typeDef);
+                        typeDefCacheVersion.incrementAndGet();
+                    }
                 }
             }
             else
@@ -2007,6 +2236,23 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
                                        String       originatorServerType,
                                        String       originatorOrganizationName,
                                        TypeDef      typeDef)
+    {
+        this.processNewTypeDef(sourceName, originatorMetadataCollectionId, typeDef, false);
+    }
+
+
+    /**
+     * Add a new TypeDef to the local repository (if there is one) and the cache.
+     *
+     * @param sourceName name of the source of the TypeDef.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that created the TypeDef.
+     * @param typeDef details of the new TypeDef
+     * @param isPrevalidated the TypeDef has already been validated so the cache checks are skipped.
+     */
+    private void processNewTypeDef(String       sourceName,
+                                   String       originatorMetadataCollectionId,
+                                   TypeDef      typeDef,
+                                   boolean      isPrevalidated)
     {
         final String   actionDescription = "Process New TypeDef Event";
 
@@ -2048,14 +2294,14 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
                  * Either the repository already supports the type, or it has just added it.
                  * Cache information about the type in the repository content manager's maps.
                  */
-                this.cacheTypeDef(sourceName, typeDef, true);
+                this.cacheTypeDef(sourceName, typeDef, true, isPrevalidated);
             }
             else
             {
                 /*
                  * No local repository so just cache for enterprise repository services.
                  */
-                this.cacheTypeDef(sourceName, typeDef, false);
+                this.cacheTypeDef(sourceName, typeDef, false, isPrevalidated);
             }
         }
         catch (TypeDefNotSupportedException fixedTypeSystemResponse)
@@ -2064,7 +2310,7 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
              * Adds information about the type to the repository content manager for
              * use by the enterprise repository services (but not local repository).
              */
-            this.cacheTypeDef(sourceName, typeDef, false);
+            this.cacheTypeDef(sourceName, typeDef, false, isPrevalidated);
 
             OMRSAuditCode auditCode = OMRSAuditCode.NEW_TYPE_NOT_SUPPORTED;
             auditLog.logRecord(actionDescription,
@@ -2086,7 +2332,7 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
              * Adds information about the type to the repository content manager for
              * use by the enterprise repository services (but not local repository).
              */
-            this.cacheTypeDef(sourceName, typeDef, false);
+            this.cacheTypeDef(sourceName, typeDef, false, isPrevalidated);
 
             log.error("TypeDef " + typeDef.getName() + " not added because repository is not available: " + typeDef);
             log.error("RepositoryErrorException:", error);
@@ -2150,6 +2396,24 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
                                                 String           originatorServerType,
                                                 String           originatorOrganizationName,
                                                 AttributeTypeDef attributeTypeDef)
+    {
+        this.processNewAttributeTypeDef(sourceName, originatorMetadataCollectionId, attributeTypeDef, false);
+    }
+
+
+    /**
+     * Add a new AttributeTypeDef to the local repository (if there is one) and the cache.
+     *
+     * @param sourceName name of the source of the AttributeTypeDef.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection that created the
+     *                                       AttributeTypeDef.
+     * @param attributeTypeDef details of the new AttributeTypeDef.
+     * @param isPrevalidated the AttributeTypeDef has already been validated so the cache checks are skipped.
+     */
+    private void processNewAttributeTypeDef(String           sourceName,
+                                            String           originatorMetadataCollectionId,
+                                            AttributeTypeDef attributeTypeDef,
+                                            boolean          isPrevalidated)
     {
         final String   actionDescription = "Process New TypeDef Event";
 
@@ -2196,14 +2460,14 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
                  * Either the repository already supports the type, or it has just added it.
                  * Cache information about the type in the repository content manager's maps.
                  */
-                this.cacheAttributeTypeDef(sourceName, attributeTypeDef, true);
+                this.cacheAttributeTypeDef(sourceName, attributeTypeDef, true, isPrevalidated);
             }
             else
             {
                 /*
                  * No local repository so just cache for enterprise repository services.
                  */
-                this.cacheAttributeTypeDef(sourceName, attributeTypeDef, false);
+                this.cacheAttributeTypeDef(sourceName, attributeTypeDef, false, isPrevalidated);
             }
         }
         catch (TypeDefNotSupportedException fixedTypeSystemResponse)
@@ -2212,7 +2476,7 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
              * Adds information about the type to the repository content manager for
              * use by the enterprise repository services (but not local repository).
              */
-            this.cacheAttributeTypeDef(sourceName, attributeTypeDef, false);
+            this.cacheAttributeTypeDef(sourceName, attributeTypeDef, false, isPrevalidated);
 
             OMRSAuditCode auditCode = OMRSAuditCode.NEW_TYPE_NOT_SUPPORTED;
             auditLog.logRecord(actionDescription,
@@ -2234,7 +2498,7 @@ public class OMRSRepositoryContentManager implements OMRSTypeDefEventProcessor,
              * Adds information about the type to the repository content manager for
              * use by the enterprise repository services (but not local repository).
              */
-            this.cacheAttributeTypeDef(sourceName, attributeTypeDef, false);
+            this.cacheAttributeTypeDef(sourceName, attributeTypeDef, false, isPrevalidated);
 
             log.error("TypeDef " + attributeTypeDef.getName() + " not added because repository is not available: " + attributeTypeDef);
             log.error("RepositoryErrorException:", error);
@@ -1604,6 +1604,22 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
         if (entityTypeName != null)
         {
+            TypeDef  classificationTypeDef = repositoryContentManager.getTypeDefByName(sourceName, classificationName);
+
+            if ((classificationTypeDef == null) || (classificationTypeDef.getCategory() != TypeDefCategory.CLASSIFICATION_DEF))
+            {
+                OMRSErrorCode errorCode    = OMRSErrorCode.UNKNOWN_CLASSIFICATION;
+                String        errorMessage = errorCode.getErrorMessageId()
+                                           + errorCode.getFormattedErrorMessage(classificationName, sourceName);
+
+                throw new ClassificationErrorException(errorCode.getHTTPErrorCode(),
+                                                       this.getClass().getName(),
+                                                       methodName,
+                                                       errorMessage,
+                                                       errorCode.getSystemAction(),
+                                                       errorCode.getUserAction());
+            }
+
             if (!repositoryContentManager.isValidClassificationForEntity(sourceName,
                                                                              classificationName,
                                                                              entityTypeName,
@@ -2968,7 +2984,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
     {
         if (requiredClassifications != null)
         {
-            List<Classification> entityClassifications = entity.getClassifications();
+            List<Classification> entityClassifications = entity.getReadOnlyClassifications();
 
             if (entityClassifications != null)
             {
@@ -3019,23 +3035,16 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
                 if (matchPropertyName != null)
                 {
-                    InstancePropertyValue matchPropertyValue = matchProperties.getPropertyValue(matchPropertyName);
-                    Iterator<String>      instancePropertyNames  = instanceProperties.getPropertyNames();
+                    /*
+                     * Property names are unique within an instance so the matching property is looked up
+                     * directly rather than by stepping through all of the instance's properties.
+                     */
+                    InstancePropertyValue matchPropertyValue    = matchProperties.getPropertyValue(matchPropertyName);
+                    InstancePropertyValue instancePropertyValue = instanceProperties.getPropertyValue(matchPropertyName);
 
-                    while (instancePropertyNames.hasNext())
+                    if ((instancePropertyValue != null) && (instancePropertyValue.equals(matchPropertyValue)))
                     {
-                        String instancePropertyName = instancePropertyNames.next();
-
-                        if (instancePropertyName != null)
-                        {
-                            InstancePropertyValue instancePropertyValue = instanceProperties.getPropertyValue(instancePropertyName);
-
-                            if ((instancePropertyName.equals(matchPropertyName)) &&
-                                (instancePropertyValue.equals(matchPropertyValue)))
-                            {
-                                matchingProperties++;
-                            }
-                        }
+                        matchingProperties++;
                     }
                 }
             }
@@ -3158,7 +3167,7 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
 
         if ((matchProperties != null) && (instanceHeader != null))
         {
-            Map<String, InstancePropertyValue>   propertyMap = matchProperties.getInstanceProperties();
+            Map<String, InstancePropertyValue>   propertyMap = matchProperties.getReadOnlyInstanceProperties();
 
             if (propertyMap != null)
             {
@@ -3371,13 +3380,10 @@ public class OMRSRepositoryContentValidator implements OMRSRepositoryValidator
             return false;
         }
 
-        Iterator<String>  propertyNames = properties.getPropertyNames();
-
         try
         {
-            while (propertyNames.hasNext())
+            for (InstancePropertyValue  propertyValue : properties.getReadOnlyInstanceProperties().values())
             {
-                InstancePropertyValue  propertyValue = properties.getPropertyValue(propertyNames.next());
 
                 switch (propertyValue.getInstancePropertyCategory())
                 {
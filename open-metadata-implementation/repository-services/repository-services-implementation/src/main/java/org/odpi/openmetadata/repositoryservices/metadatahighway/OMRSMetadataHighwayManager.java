@@ -174,7 +174,8 @@ public class OMRSMetadataHighwayManager
 
             OMRSRepositoryEventExchangeRule inboundEventExchangeRule
                     = new OMRSRepositoryEventExchangeRule(cohortConfig.getEventsToProcessRule(),
-                                                          cohortConfig.getSelectedTypesToProcess());
+                                                          cohortConfig.getSelectedTypesToProcess(),
+                                                          localRepositoryContentManager);
 
             cohortManager.initialize(cohortConfig.getCohortName(),
                                      localMetadataCollectionId,
@@ -9,6 +9,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSInMemoryMetricsRegistry;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSMetrics;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSMetricsRegistry;
 import org.odpi.openmetadata.repositoryservices.rest.properties.*;
 
 
@@ -1550,6 +1553,55 @@ public class OMRSRepositoryRESTServices
 
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest String unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of EntityDetail structures (entities that are not known or are only stored as a proxy are skipped) or
+     * InvalidParameterException the list of guids is null or empty, or contains a null guid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityListResponse getEntityDetails(String          userId,
+                                               GUIDListRequest guidListRequest)
+    {
+        final  String   methodName = "getEntityDetails";
+
+        EntityListResponse response = new EntityListResponse();
+
+        try
+        {
+            validateLocalRepository(methodName);
+
+            List<String> guids = null;
+
+            if (guidListRequest != null)
+            {
+                guids = guidListRequest.getGUIDs();
+            }
+
+            response.setEntities(localMetadataCollection.getEntityDetails(userId, guids));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+
+        return response;
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1778,6 +1830,95 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return the relationships for a list of entities together with the entities at the other end of each
+     * relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param findRequestParameters list of entities and the find parameters used to limit the returned results.
+     * @return InstanceGraphResponse:
+     * the relationships and the entities at the far end of the relationships.  Null means no relationships
+     * associated with the entities or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * PropertyErrorException there is a problem with the properties of the relationships or
+     * PagingErrorException the paging parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public InstanceGraphResponse getRelationshipsAndRelatedEntities(String                          userId,
+                                                                    EntityRelationshipsFindRequest  findRequestParameters)
+    {
+        final  String   methodName = "getRelationshipsAndRelatedEntities";
+
+        List<String>         entityGUIDs          = null;
+        String               relationshipTypeGUID = null;
+        List<InstanceStatus> limitResultsByStatus = null;
+        Date                 asOfTime             = null;
+        int                  pageSize             = 0;
+
+        InstanceGraphResponse response = new InstanceGraphResponse();
+
+        if (findRequestParameters != null)
+        {
+            entityGUIDs          = findRequestParameters.getEntityGUIDs();
+            relationshipTypeGUID = findRequestParameters.getTypeGUID();
+            limitResultsByStatus = findRequestParameters.getLimitResultsByStatus();
+            asOfTime             = findRequestParameters.getAsOfTime();
+            pageSize             = findRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            validateLocalRepository(methodName);
+
+            InstanceGraph instanceGraph = localMetadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                                     entityGUIDs,
+                                                                                                     relationshipTypeGUID,
+                                                                                                     limitResultsByStatus,
+                                                                                                     asOfTime,
+                                                                                                     pageSize);
+            if (instanceGraph != null)
+            {
+                response.setEntityElementList(instanceGraph.getEntities());
+                response.setRelationshipElementList(instanceGraph.getRelationships());
+            }
+        }
+        catch (RepositoryErrorException error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+
+        return response;
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -2588,6 +2729,55 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return a list of relationships.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest String unique identifiers for the relationships.
+     * @return RelationshipListResponse:
+     * list of relationships (relationships that are not known are skipped) or
+     * InvalidParameterException the list of guids is null or empty, or contains a null guid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public RelationshipListResponse getRelationships(String          userId,
+                                                     GUIDListRequest guidListRequest)
+    {
+        final  String   methodName = "getRelationships";
+
+        RelationshipListResponse response = new RelationshipListResponse();
+
+        try
+        {
+            validateLocalRepository(methodName);
+
+            List<String> guids = null;
+
+            if (guidListRequest != null)
+            {
+                guids = guidListRequest.getGUIDs();
+            }
+
+            response.setRelationships(localMetadataCollection.getRelationships(userId, guids));
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+
+        return response;
+    }
+
+
     /**
      * Return a historical version of a relationship.
      *
@@ -5827,6 +6017,138 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /* =====================================================
+     * Group 7: Measuring the calls to the metadata collections
+     */
+
+
+    /**
+     * Return the measurements of the calls made to the metadata collections of this server.  There is an entry
+     * for each operation called on the local repository, the enterprise metadata collection and each remote
+     * cohort member.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return OperationMetricsResponse:
+     * flag to show whether metrics are enabled and the list of measurements (null if none).
+     */
+    public OperationMetricsResponse getMetrics(String   userId)
+    {
+        final  String   methodName = "getMetrics";
+
+        OperationMetricsResponse response = new OperationMetricsResponse();
+
+        try
+        {
+            validateUserId(userId, methodName);
+
+            OMRSMetricsRegistry registry = OMRSMetrics.getRegistry();
+
+            if (registry != null)
+            {
+                response.setMetricsEnabled(true);
+                response.setOperationMetrics(registry.getOperationMetrics());
+            }
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Start measuring the calls made to the metadata collections of this server.  The default in-memory
+     * registry is used unless a registry has already been set up.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return VoidResponse
+     */
+    public VoidResponse enableMetrics(String   userId)
+    {
+        final  String   methodName = "enableMetrics";
+
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            validateUserId(userId, methodName);
+
+            if (OMRSMetrics.getRegistry() == null)
+            {
+                OMRSMetrics.setRegistry(new OMRSInMemoryMetricsRegistry());
+            }
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Stop measuring the calls made to the metadata collections of this server.  The measurements
+     * are discarded.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return VoidResponse
+     */
+    public VoidResponse disableMetrics(String   userId)
+    {
+        final  String   methodName = "disableMetrics";
+
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            validateUserId(userId, methodName);
+
+            OMRSMetrics.setRegistry(null);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Discard the measurements accumulated so far.  Metrics remain enabled if they were enabled before.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return VoidResponse
+     */
+    public VoidResponse resetMetrics(String   userId)
+    {
+        final  String   methodName = "resetMetrics";
+
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            validateUserId(userId, methodName);
+
+            OMRSMetricsRegistry registry = OMRSMetrics.getRegistry();
+
+            if (registry != null)
+            {
+                registry.reset();
+            }
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+
+        return response;
+    }
+
+
     /*
      * =============================================================
      * Private methods
@@ -5860,6 +6182,33 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Reject a request with no userId.  The other operations rely on the local metadata collection to validate
+     * the userId but the metrics operations do not call it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param methodName name of method called.
+     * @throws UserNotAuthorizedException the userId is null or empty
+     */
+    private void validateUserId(String userId,
+                                String methodName) throws UserNotAuthorizedException
+    {
+        if ((userId == null) || (userId.isEmpty()))
+        {
+            OMRSErrorCode errorCode    = OMRSErrorCode.NULL_USER_ID;
+            String        errorMessage = errorCode.getErrorMessageId()
+                                       + errorCode.getFormattedErrorMessage("userId", methodName, localServerURL);
+
+            throw new UserNotAuthorizedException(errorCode.getHTTPErrorCode(),
+                                                 this.getClass().getName(),
+                                                 methodName,
+                                                 errorMessage,
+                                                 errorCode.getSystemAction(),
+                                                 errorCode.getUserAction());
+        }
+    }
+
+
     /**
      * Set the exception information into the response.
      *
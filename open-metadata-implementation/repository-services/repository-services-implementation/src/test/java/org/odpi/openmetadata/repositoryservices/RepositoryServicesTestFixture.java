@@ -0,0 +1,230 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices;
+
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.archivemanager.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * RepositoryServicesTestFixture sets up a repository content manager loaded with the open metadata types and
+ * creates in-memory repositories loaded with the same types, so the tests can work with real types and
+ * instances without a server.  As in a cohort, each in-memory repository has its own repository content manager.
+ */
+public class RepositoryServicesTestFixture
+{
+    public static final String sourceName = "TestSource";
+    public static final String userId     = "TestUser";
+
+    private OpenMetadataArchiveTypeStore          typeStore;
+    private OMRSRepositoryContentManager          repositoryContentManager;
+    private OMRSRepositoryContentHelper           repositoryHelper;
+    private OMRSRepositoryContentValidator        repositoryValidator;
+    private List<InMemoryOMRSRepositoryConnector> inMemoryConnectors = new ArrayList<>();
+
+
+    /**
+     * Constructor loads the open metadata types into a new repository content manager.
+     */
+    public RepositoryServicesTestFixture()
+    {
+        OpenMetadataArchive archive = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+
+        this.typeStore = archive.getArchiveTypeStore();
+        this.repositoryContentManager = new OMRSRepositoryContentManager();
+        this.repositoryHelper = new OMRSRepositoryContentHelper(repositoryContentManager);
+        this.repositoryValidator = new OMRSRepositoryContentValidator(repositoryContentManager);
+
+        repositoryContentManager.addPrevalidatedTypes(sourceName,
+                                                      archive.getArchiveProperties().getArchiveGUID(),
+                                                      typeStore.getAttributeTypeDefs(),
+                                                      typeStore.getNewTypeDefs());
+    }
+
+
+    /**
+     * Return the repository content manager loaded with the open metadata types.
+     *
+     * @return repository content manager
+     */
+    public OMRSRepositoryContentManager getRepositoryContentManager()
+    {
+        return repositoryContentManager;
+    }
+
+
+    /**
+     * Return the repository helper.
+     *
+     * @return repository helper
+     */
+    public OMRSRepositoryContentHelper getRepositoryHelper()
+    {
+        return repositoryHelper;
+    }
+
+
+    /**
+     * Return the repository validator.
+     *
+     * @return repository validator
+     */
+    public OMRSRepositoryContentValidator getRepositoryValidator()
+    {
+        return repositoryValidator;
+    }
+
+
+    /**
+     * Return the definition of a type.
+     *
+     * @param typeName name of the type
+     * @return type definition
+     * @throws Exception the type is not known
+     */
+    public TypeDef getTypeDef(String typeName) throws Exception
+    {
+        return repositoryContentManager.getTypeDefByName(sourceName, typeName);
+    }
+
+
+    /**
+     * Create and start an in-memory repository loaded with the open metadata types.  As in a server, each type
+     * is added to the repository before it is cached in the repository's content manager.
+     *
+     * @param metadataCollectionId unique identifier of the repository's metadata collection
+     * @return connector to the repository
+     * @throws Exception the repository can not be set up
+     */
+    public OMRSRepositoryConnector createInMemoryConnector(String metadataCollectionId) throws Exception
+    {
+        OMRSRepositoryContentManager    contentManager      = new OMRSRepositoryContentManager();
+        InMemoryOMRSRepositoryConnector repositoryConnector = new InMemoryOMRSRepositoryConnector();
+
+        repositoryConnector.setServerName(metadataCollectionId);
+        repositoryConnector.setRepositoryHelper(new OMRSRepositoryContentHelper(contentManager));
+        repositoryConnector.setRepositoryValidator(new OMRSRepositoryContentValidator(contentManager));
+        repositoryConnector.setMetadataCollectionId(metadataCollectionId);
+        repositoryConnector.start();
+
+        OMRSMetadataCollection metadataCollection = repositoryConnector.getMetadataCollection();
+
+        for (AttributeTypeDef attributeTypeDef : typeStore.getAttributeTypeDefs())
+        {
+            metadataCollection.addAttributeTypeDef(userId, attributeTypeDef);
+            contentManager.addAttributeTypeDef(sourceName, attributeTypeDef);
+        }
+
+        for (TypeDef typeDef : typeStore.getNewTypeDefs())
+        {
+            metadataCollection.addTypeDef(userId, typeDef);
+            contentManager.addTypeDef(sourceName, typeDef);
+        }
+
+        inMemoryConnectors.add(repositoryConnector);
+
+        return repositoryConnector;
+    }
+
+
+    /**
+     * Disconnect the in-memory repositories.
+     */
+    public void disconnect()
+    {
+        for (InMemoryOMRSRepositoryConnector repositoryConnector : inMemoryConnectors)
+        {
+            try
+            {
+                repositoryConnector.disconnect();
+            }
+            catch (Exception error)
+            {
+                /*
+                 * Nothing to do
+                 */
+            }
+        }
+
+        inMemoryConnectors.clear();
+    }
+
+
+    /**
+     * Add an entity with a qualifiedName to a repository.
+     *
+     * @param metadataCollection repository
+     * @param typeName name of the entity's type
+     * @param qualifiedName unique name of the entity
+     * @return new entity
+     * @throws Exception the entity can not be added
+     */
+    public EntityDetail addEntity(OMRSMetadataCollection metadataCollection,
+                                  String                 typeName,
+                                  String                 qualifiedName) throws Exception
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("qualifiedName", getStringValue(qualifiedName));
+
+        return metadataCollection.addEntity(userId, getTypeDef(typeName).getGUID(), properties, null, null);
+    }
+
+
+    /**
+     * Add a relationship between two entities to a repository.
+     *
+     * @param metadataCollection repository
+     * @param typeName name of the relationship's type
+     * @param entityOne entity at end 1
+     * @param entityTwo entity at end 2
+     * @return new relationship
+     * @throws Exception the relationship can not be added
+     */
+    public Relationship addRelationship(OMRSMetadataCollection metadataCollection,
+                                        String                 typeName,
+                                        EntityDetail           entityOne,
+                                        EntityDetail           entityTwo) throws Exception
+    {
+        return metadataCollection.addRelationship(userId,
+                                                  getTypeDef(typeName).getGUID(),
+                                                  null,
+                                                  entityOne.getGUID(),
+                                                  entityTwo.getGUID(),
+                                                  null);
+    }
+
+
+    /**
+     * Return a string property value.
+     *
+     * @param value string value
+     * @return property value
+     */
+    public static PrimitivePropertyValue getStringValue(String value)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(value);
+
+        return propertyValue;
+    }
+}
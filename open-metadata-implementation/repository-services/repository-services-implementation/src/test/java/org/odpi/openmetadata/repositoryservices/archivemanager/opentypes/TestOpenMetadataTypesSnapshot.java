@@ -0,0 +1,103 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.archivemanager.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test that the snapshot of the open metadata types decodes to the same types as the archive builder.
+ */
+public class TestOpenMetadataTypesSnapshot
+{
+    /**
+     * Compare the content of two archives.
+     *
+     * @param expected archive from the archive builder
+     * @param actual archive from the snapshot
+     */
+    private void validateArchive(OpenMetadataArchive expected,
+                                 OpenMetadataArchive actual)
+    {
+        assertNotNull(actual);
+        assertEquals(actual.getArchiveProperties().getArchiveGUID(), expected.getArchiveProperties().getArchiveGUID());
+        assertEquals(actual.getArchiveProperties().getArchiveName(), expected.getArchiveProperties().getArchiveName());
+        assertEquals(actual.getArchiveProperties().getArchiveType(), expected.getArchiveProperties().getArchiveType());
+        assertEquals(actual.getArchiveProperties().getCreationDate(), expected.getArchiveProperties().getCreationDate());
+
+        OpenMetadataArchiveTypeStore expectedTypes = expected.getArchiveTypeStore();
+        OpenMetadataArchiveTypeStore actualTypes   = actual.getArchiveTypeStore();
+
+        assertEquals(actualTypes.getAttributeTypeDefs(), expectedTypes.getAttributeTypeDefs());
+        assertEquals(actualTypes.getNewTypeDefs().size(), expectedTypes.getNewTypeDefs().size());
+
+        for (int i = 0; i < expectedTypes.getNewTypeDefs().size(); i++)
+        {
+            assertEquals(actualTypes.getNewTypeDefs().get(i).toString(), expectedTypes.getNewTypeDefs().get(i).toString());
+        }
+
+        assertEquals(String.valueOf(actualTypes.getTypeDefPatches()), String.valueOf(expectedTypes.getTypeDefPatches()));
+    }
+
+
+    /**
+     * The snapshot decodes to the same archive as the archive builder.
+     */
+    @Test public void testSnapshotRoundTrip()
+    {
+        try
+        {
+            OpenMetadataArchive expected = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+            byte[]              snapshot = OpenMetadataTypesSnapshot.createSnapshot(expected);
+
+            validateArchive(expected,
+                            OpenMetadataTypesSnapshot.readSnapshot(ByteBuffer.wrap(snapshot),
+                                                                   OpenMetadataTypesSnapshot.getSourceChecksum()));
+        }
+        catch (Throwable error)
+        {
+            assertTrue(false, "Exception: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * The snapshot is ignored if it was generated from different classes or has been damaged.
+     */
+    @Test public void testSnapshotRejected()
+    {
+        try
+        {
+            byte[] snapshot = OpenMetadataTypesSnapshot.createSnapshot(new OpenMetadataTypesArchive().getOpenMetadataArchive());
+            long   checksum = OpenMetadataTypesSnapshot.getSourceChecksum();
+
+            assertNull(OpenMetadataTypesSnapshot.readSnapshot(ByteBuffer.wrap(snapshot), checksum + 1));
+
+            snapshot[snapshot.length / 2] ^= 0x01;
+            assertNull(OpenMetadataTypesSnapshot.readSnapshot(ByteBuffer.wrap(snapshot), checksum));
+
+            assertNull(OpenMetadataTypesSnapshot.readSnapshot(ByteBuffer.wrap(snapshot, 0, 10), checksum));
+        }
+        catch (Throwable error)
+        {
+            assertTrue(false, "Exception: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * The build generates a current snapshot.
+     */
+    @Test public void testGeneratedSnapshot()
+    {
+        validateArchive(new OpenMetadataTypesArchive().getOpenMetadataArchive(), OpenMetadataTypesSnapshot.loadSnapshot());
+    }
+}
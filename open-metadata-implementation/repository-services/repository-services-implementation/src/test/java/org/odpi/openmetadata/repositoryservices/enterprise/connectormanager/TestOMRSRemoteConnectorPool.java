@@ -0,0 +1,117 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.connectormanager;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that OMRSRemoteConnectorPool shares connectors and only disconnects them when they are no longer used.
+ */
+public class TestOMRSRemoteConnectorPool
+{
+    /**
+     * TestRepositoryConnector records whether it has been disconnected.
+     */
+    private class TestRepositoryConnector extends OMRSRepositoryConnector
+    {
+        private boolean disconnected = false;
+
+        @Override
+        public void disconnect()
+        {
+            disconnected = true;
+        }
+    }
+
+
+    /**
+     * Return a connection with the supplied name.
+     *
+     * @param qualifiedName name of the connection
+     * @return connection
+     */
+    private Connection getConnection(String qualifiedName)
+    {
+        Connection connection = new Connection();
+
+        connection.setQualifiedName(qualifiedName);
+
+        return connection;
+    }
+
+
+    /**
+     * Borrowers of the same repository and connection share a connector that is disconnected by the last release.
+     */
+    @Test public void testSharedConnector()
+    {
+        OMRSRemoteConnectorPool pool  = new OMRSRemoteConnectorPool();
+        int[]                   count = { 0 };
+
+        OMRSRepositoryConnector first  = pool.borrowConnector("mc1", getConnection("c1"), () -> { count[0]++; return new TestRepositoryConnector(); });
+        OMRSRepositoryConnector second = pool.borrowConnector("mc1", getConnection("c1"), () -> { count[0]++; return new TestRepositoryConnector(); });
+
+        assertSame(first, second);
+        assertEquals(count[0], 1);
+        assertEquals(pool.getReferenceCount("mc1", first), 2);
+
+        pool.releaseConnector("mc1", first);
+        assertFalse(((TestRepositoryConnector) first).disconnected);
+        assertEquals(pool.getReferenceCount("mc1", first), 1);
+
+        pool.releaseConnector("mc1", second);
+        assertTrue(((TestRepositoryConnector) first).disconnected);
+        assertEquals(pool.getConnectorCount(), 0);
+    }
+
+
+    /**
+     * Different repositories or connections have their own connectors, and disconnectAll disconnects everything.
+     */
+    @Test public void testSeparateConnectors()
+    {
+        OMRSRemoteConnectorPool pool = new OMRSRemoteConnectorPool();
+
+        OMRSRepositoryConnector first  = pool.borrowConnector("mc1", getConnection("c1"), TestRepositoryConnector::new);
+        OMRSRepositoryConnector second = pool.borrowConnector("mc1", getConnection("c2"), TestRepositoryConnector::new);
+        OMRSRepositoryConnector third  = pool.borrowConnector("mc2", getConnection("c1"), TestRepositoryConnector::new);
+
+        assertNotSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(pool.getConnectorCount(), 3);
+
+        pool.disconnectAll();
+
+        assertTrue(((TestRepositoryConnector) first).disconnected);
+        assertTrue(((TestRepositoryConnector) second).disconnected);
+        assertTrue(((TestRepositoryConnector) third).disconnected);
+        assertEquals(pool.getConnectorCount(), 0);
+    }
+
+
+    /**
+     * A failure to create the connector is passed to the caller and nothing is added to the pool.
+     */
+    @Test public void testFactoryFailure()
+    {
+        OMRSRemoteConnectorPool pool = new OMRSRemoteConnectorPool();
+
+        try
+        {
+            pool.borrowConnector("mc1", getConnection("c1"), () -> { throw new IllegalStateException("Test failure"); });
+            assertTrue(false);
+        }
+        catch (IllegalStateException error)
+        {
+            assertEquals(pool.getConnectorCount(), 0);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.sourceName;
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.userId;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Validate getEntityDetails() and getRelationships() in the enterprise repository connector.  The cohort is
+ * made of two in-memory repositories.  Each instance is returned from the first member that holds it and the
+ * results are returned once, in the order they were requested.
+ */
+public class TestEnterpriseBulkRetrieval
+{
+    private static final String entityTypeName       = "GlossaryTerm";
+    private static final String relationshipTypeName = "RelatedTerm";
+
+    private RepositoryServicesTestFixture     fixture;
+    private EnterpriseOMRSRepositoryConnector enterpriseConnector;
+    private Map<String, EntityDetail>         terms;
+    private Map<String, String>               guids;
+
+
+    /**
+     * Set up the cohort for each test.  RepositoryThree is not part of the cohort.
+     *
+     * <ul>
+     *     <li>TermA and TermC are homed in RepositoryOne.  TermB and TermE are homed in RepositoryTwo.
+     *     TermD and TermF are homed in RepositoryThree.</li>
+     *     <li>RepositoryOne only has a proxy for TermB.  RepositoryTwo has a reference copy of TermC
+     *     with a different qualifiedName.</li>
+     *     <li>TermA is related to TermC, TermB to TermE and TermD to TermF in their home repositories.</li>
+     * </ul>
+     *
+     * @throws Exception unable to set up the cohort
+     */
+    @BeforeMethod public void createCohort() throws Exception
+    {
+        fixture = new RepositoryServicesTestFixture();
+        terms = new HashMap<>();
+        guids = new HashMap<>();
+        guids.put("UnknownGUID", "UnknownGUID");
+
+        OMRSRepositoryConnector connectorOne    = fixture.createInMemoryConnector("RepositoryOne");
+        OMRSRepositoryConnector connectorTwo    = fixture.createInMemoryConnector("RepositoryTwo");
+        OMRSMetadataCollection  repositoryOne   = connectorOne.getMetadataCollection();
+        OMRSMetadataCollection  repositoryTwo   = connectorTwo.getMetadataCollection();
+        OMRSMetadataCollection  repositoryThree = fixture.createInMemoryConnector("RepositoryThree").getMetadataCollection();
+
+        enterpriseConnector = new EnterpriseOMRSRepositoryConnector(mock(OMRSConnectorManager.class));
+        enterpriseConnector.setRepositoryHelper(fixture.getRepositoryHelper());
+        enterpriseConnector.setRepositoryValidator(fixture.getRepositoryValidator());
+        enterpriseConnector.setServerName("EnterpriseServer");
+        enterpriseConnector.setMetadataCollectionId("Enterprise");
+        enterpriseConnector.start();
+        enterpriseConnector.addRemoteConnector("RepositoryOne", connectorOne);
+        enterpriseConnector.addRemoteConnector("RepositoryTwo", connectorTwo);
+
+        addTerm(repositoryOne, "RepositoryOne", "TermA");
+        EntityDetail termB = addTerm(repositoryTwo, "RepositoryTwo", "TermB");
+        EntityDetail termC = addTerm(repositoryOne, "RepositoryOne", "TermC");
+        addTerm(repositoryThree, "RepositoryThree", "TermD");
+        addTerm(repositoryTwo, "RepositoryTwo", "TermE");
+        addTerm(repositoryThree, "RepositoryThree", "TermF");
+
+        repositoryOne.addEntityProxy(userId, fixture.getRepositoryHelper().getNewEntityProxy(sourceName, termB));
+
+        EntityDetail       termCCopy  = new EntityDetail(termC);
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("qualifiedName", RepositoryServicesTestFixture.getStringValue("TermCCopy"));
+        termCCopy.setProperties(properties);
+        repositoryTwo.saveEntityReferenceCopy(userId, termCCopy);
+
+        addRelationship(repositoryOne, "TermA", "TermC");
+        addRelationship(repositoryTwo, "TermB", "TermE");
+        addRelationship(repositoryThree, "TermD", "TermF");
+    }
+
+
+    /**
+     * Disconnect the repositories.
+     *
+     * @throws Exception problem disconnecting
+     */
+    @AfterMethod public void disconnect() throws Exception
+    {
+        enterpriseConnector.disconnect();
+        fixture.disconnect();
+    }
+
+
+    /**
+     * Add a term to a repository.
+     *
+     * @param metadataCollection repository
+     * @param homeMetadataCollectionId unique identifier of the repository's metadata collection
+     * @param termName qualifiedName of the term
+     * @return new term - with its home metadata collection set as it would be by the local repository connector
+     * @throws Exception unable to add the term
+     */
+    private EntityDetail addTerm(OMRSMetadataCollection metadataCollection,
+                                 String                 homeMetadataCollectionId,
+                                 String                 termName) throws Exception
+    {
+        EntityDetail term = new EntityDetail(fixture.addEntity(metadataCollection, entityTypeName, termName));
+
+        term.setMetadataCollectionId(homeMetadataCollectionId);
+        terms.put(termName, term);
+        guids.put(termName, term.getGUID());
+
+        return term;
+    }
+
+
+    /**
+     * Add a relationship between two terms and record its guid under "end1-end2".
+     *
+     * @param metadataCollection repository
+     * @param termOne qualifiedName of the term at end 1
+     * @param termTwo qualifiedName of the term at end 2
+     * @throws Exception unable to add the relationship
+     */
+    private void addRelationship(OMRSMetadataCollection metadataCollection,
+                                 String                 termOne,
+                                 String                 termTwo) throws Exception
+    {
+        Relationship relationship = fixture.addRelationship(metadataCollection,
+                                                            relationshipTypeName,
+                                                            terms.get(termOne),
+                                                            terms.get(termTwo));
+
+        guids.put(termOne + "-" + termTwo, relationship.getGUID());
+    }
+
+
+    /**
+     * Return the guids of a list of named instances.
+     *
+     * @param names names of the instances
+     * @return list of guids
+     */
+    private List<String> getGUIDs(String... names)
+    {
+        List<String> results = new ArrayList<>();
+
+        for (String name : names)
+        {
+            results.add(guids.get(name));
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the guids of a list of retrieved instances.
+     *
+     * @param instances retrieved instances
+     * @return list of guids in the order they were returned
+     */
+    private List<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        List<String> results = new ArrayList<>();
+
+        for (InstanceHeader instance : instances)
+        {
+            results.add(instance.getGUID());
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Entities are returned once, in the order they were requested, whichever member holds them.  A proxy in
+     * the first member does not hide the entity in the second member, and an entity held by both members is
+     * returned from the first.  Entities unknown to the cohort are skipped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testEntityDetails() throws Exception
+    {
+        OMRSMetadataCollection enterpriseCollection = enterpriseConnector.getMetadataCollection();
+        List<EntityDetail>     entities             = enterpriseCollection.getEntityDetails(userId,
+                                                                                            getGUIDs("TermB",
+                                                                                                     "UnknownGUID",
+                                                                                                     "TermC",
+                                                                                                     "TermA",
+                                                                                                     "TermB",
+                                                                                                     "TermD"));
+
+        assertEquals(getGUIDs(entities), getGUIDs("TermB", "TermC", "TermA"));
+        PrimitivePropertyValue qualifiedName = (PrimitivePropertyValue) entities.get(1).getProperties().getPropertyValue("qualifiedName");
+
+        assertEquals(qualifiedName.getPrimitiveValue(), "TermC");
+
+        assertNull(enterpriseCollection.getEntityDetails(userId, getGUIDs("UnknownGUID", "TermD", "UnknownGUID")));
+    }
+
+
+    /**
+     * Relationships are returned once, in the order they were requested, whichever member holds them.
+     * Relationships unknown to the cohort are skipped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testRelationships() throws Exception
+    {
+        OMRSMetadataCollection enterpriseCollection = enterpriseConnector.getMetadataCollection();
+        List<Relationship>     relationships        = enterpriseCollection.getRelationships(userId,
+                                                                                            getGUIDs("TermB-TermE",
+                                                                                                     "UnknownGUID",
+                                                                                                     "TermA-TermC",
+                                                                                                     "TermB-TermE",
+                                                                                                     "TermD-TermF"));
+
+        assertEquals(getGUIDs(relationships), getGUIDs("TermB-TermE", "TermA-TermC"));
+
+        assertNull(enterpriseCollection.getRelationships(userId, getGUIDs("TermD-TermF", "UnknownGUID")));
+    }
+}
@@ -0,0 +1,323 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.mockito.Mockito.mock;
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.sourceName;
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.userId;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Validate getRelationshipsAndRelatedEntities() in the enterprise repository connector.  The cohort is made of
+ * two in-memory repositories.  The results from both are merged, and the far ends that a repository only
+ * holds as proxies are retrieved from the rest of the cohort.
+ */
+public class TestEnterpriseRelatedEntities
+{
+    private static final String entityTypeName       = "GlossaryTerm";
+    private static final String relationshipTypeName = "RelatedTerm";
+
+    private RepositoryServicesTestFixture     fixture;
+    private EnterpriseOMRSRepositoryConnector enterpriseConnector;
+    private OMRSMetadataCollection            repositoryOne;
+    private OMRSMetadataCollection            repositoryTwo;
+    private OMRSMetadataCollection            repositoryThree;
+    private Map<String, String>               names;
+
+
+    /**
+     * Set up the cohort for each test.  RepositoryThree is not part of the cohort.
+     *
+     * <ul>
+     *     <li>TermA and TermD are homed in RepositoryOne.  TermB, TermC, TermE and TermF are homed in
+     *     RepositoryTwo.  TermG is homed in RepositoryThree.</li>
+     *     <li>RepositoryOne holds TermA's relationships to TermB, TermD, TermE, TermF and TermG.  It only has
+     *     proxies for TermB, TermE, TermF and TermG.</li>
+     *     <li>RepositoryTwo holds reference copies of TermA and of its relationship to TermB, and TermA's
+     *     relationship to TermC.</li>
+     *     <li>TermF has been deleted in RepositoryTwo.</li>
+     * </ul>
+     *
+     * @throws Exception unable to set up the cohort
+     */
+    @BeforeMethod public void createCohort() throws Exception
+    {
+        fixture = new RepositoryServicesTestFixture();
+        names = new HashMap<>();
+
+        OMRSRepositoryConnector connectorOne = fixture.createInMemoryConnector("RepositoryOne");
+        OMRSRepositoryConnector connectorTwo = fixture.createInMemoryConnector("RepositoryTwo");
+
+        repositoryOne = connectorOne.getMetadataCollection();
+        repositoryTwo = connectorTwo.getMetadataCollection();
+        repositoryThree = fixture.createInMemoryConnector("RepositoryThree").getMetadataCollection();
+
+        enterpriseConnector = new EnterpriseOMRSRepositoryConnector(mock(OMRSConnectorManager.class));
+        enterpriseConnector.setRepositoryHelper(fixture.getRepositoryHelper());
+        enterpriseConnector.setRepositoryValidator(fixture.getRepositoryValidator());
+        enterpriseConnector.setServerName("EnterpriseServer");
+        enterpriseConnector.setMetadataCollectionId("Enterprise");
+        enterpriseConnector.start();
+        enterpriseConnector.addRemoteConnector("RepositoryOne", connectorOne);
+        enterpriseConnector.addRemoteConnector("RepositoryTwo", connectorTwo);
+
+        EntityDetail termA = addTerm(repositoryOne, "RepositoryOne", "TermA");
+        EntityDetail termB = addTerm(repositoryTwo, "RepositoryTwo", "TermB");
+        EntityDetail termC = addTerm(repositoryTwo, "RepositoryTwo", "TermC");
+        EntityDetail termD = addTerm(repositoryOne, "RepositoryOne", "TermD");
+        EntityDetail termE = addTerm(repositoryTwo, "RepositoryTwo", "TermE");
+        EntityDetail termF = addTerm(repositoryTwo, "RepositoryTwo", "TermF");
+        EntityDetail termG = addTerm(repositoryThree, "RepositoryThree", "TermG");
+
+        for (EntityDetail remoteTerm : Arrays.asList(termB, termE, termF, termG))
+        {
+            repositoryOne.addEntityProxy(userId, fixture.getRepositoryHelper().getNewEntityProxy(sourceName, remoteTerm));
+        }
+
+        Relationship relationshipAB = new Relationship(addRelationship(repositoryOne, termA, termB));
+
+        relationshipAB.setMetadataCollectionId("RepositoryOne");
+
+        addRelationship(repositoryOne, termA, termD);
+        addRelationship(repositoryOne, termA, termE);
+        addRelationship(repositoryOne, termA, termF);
+        addRelationship(repositoryOne, termA, termG);
+
+        repositoryTwo.saveEntityReferenceCopy(userId, termA);
+        repositoryTwo.saveRelationshipReferenceCopy(userId, relationshipAB);
+        addRelationship(repositoryTwo, termA, termC);
+
+        TypeDef entityTypeDef = fixture.getTypeDef(entityTypeName);
+
+        repositoryTwo.deleteEntity(userId, entityTypeDef.getGUID(), entityTypeName, termF.getGUID());
+    }
+
+
+    /**
+     * Disconnect the repositories.
+     *
+     * @throws Exception problem disconnecting
+     */
+    @AfterMethod public void disconnect() throws Exception
+    {
+        enterpriseConnector.disconnect();
+        fixture.disconnect();
+    }
+
+
+    /**
+     * Add a term to a repository.
+     *
+     * @param metadataCollection repository
+     * @param homeMetadataCollectionId unique identifier of the repository's metadata collection
+     * @param termName qualifiedName of the term
+     * @return new term - with its home metadata collection set as it would be by the local repository connector
+     * @throws Exception unable to add the term
+     */
+    private EntityDetail addTerm(OMRSMetadataCollection metadataCollection,
+                                 String                 homeMetadataCollectionId,
+                                 String                 termName) throws Exception
+    {
+        EntityDetail term = new EntityDetail(fixture.addEntity(metadataCollection, entityTypeName, termName));
+
+        term.setMetadataCollectionId(homeMetadataCollectionId);
+
+        names.put(term.getGUID(), termName);
+
+        return term;
+    }
+
+
+    /**
+     * Add a relationship between two terms and record its name as "end1-end2".
+     *
+     * @param metadataCollection repository
+     * @param termOne term at end 1
+     * @param termTwo term at end 2
+     * @return new relationship
+     * @throws Exception unable to add the relationship
+     */
+    private Relationship addRelationship(OMRSMetadataCollection metadataCollection,
+                                         EntityDetail           termOne,
+                                         EntityDetail           termTwo) throws Exception
+    {
+        Relationship relationship = fixture.addRelationship(metadataCollection, relationshipTypeName, termOne, termTwo);
+
+        names.put(relationship.getGUID(), names.get(termOne.getGUID()) + "-" + names.get(termTwo.getGUID()));
+
+        return relationship;
+    }
+
+
+    /**
+     * Return the guid of a term.
+     *
+     * @param termName qualifiedName of the term
+     * @return guid
+     */
+    private String getGUID(String termName)
+    {
+        for (String guid : names.keySet())
+        {
+            if (names.get(guid).equals(termName))
+            {
+                return guid;
+            }
+        }
+
+        return termName;
+    }
+
+
+    /**
+     * Return the sorted names of the entities in a graph.
+     *
+     * @param instanceGraph graph
+     * @return names
+     */
+    private Set<String> getEntityNames(InstanceGraph instanceGraph)
+    {
+        Set<String> entityNames = new TreeSet<>();
+
+        for (EntityDetail entity : instanceGraph.getEntities())
+        {
+            entityNames.add(names.get(entity.getGUID()));
+        }
+
+        return entityNames;
+    }
+
+
+    /**
+     * Return the sorted names of the relationships in a graph.
+     *
+     * @param instanceGraph graph
+     * @return names
+     */
+    private Set<String> getRelationshipNames(InstanceGraph instanceGraph)
+    {
+        Set<String> relationshipNames = new TreeSet<>();
+
+        for (Relationship relationship : instanceGraph.getRelationships())
+        {
+            relationshipNames.add(names.get(relationship.getGUID()));
+        }
+
+        return relationshipNames;
+    }
+
+
+    /**
+     * Return a sorted set of names.
+     *
+     * @param names names
+     * @return sorted set
+     */
+    private Set<String> getNames(String... names)
+    {
+        return new TreeSet<>(Arrays.asList(names));
+    }
+
+
+    /**
+     * Each member of the cohort only returns part of the graph.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testCohortMembers() throws Exception
+    {
+        InstanceGraph instanceGraph = repositoryOne.getRelationshipsAndRelatedEntities(userId,
+                                                                                      Collections.singletonList(getGUID("TermA")),
+                                                                                      null,
+                                                                                      null,
+                                                                                      null,
+                                                                                      0);
+
+        assertEquals(getRelationshipNames(instanceGraph), getNames("TermA-TermB", "TermA-TermD", "TermA-TermE", "TermA-TermF", "TermA-TermG"));
+        assertEquals(getEntityNames(instanceGraph), getNames("TermD"));
+
+        instanceGraph = repositoryTwo.getRelationshipsAndRelatedEntities(userId,
+                                                                         Collections.singletonList(getGUID("TermA")),
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         0);
+
+        assertEquals(getRelationshipNames(instanceGraph), getNames("TermA-TermB", "TermA-TermC"));
+        assertEquals(getEntityNames(instanceGraph), getNames("TermB", "TermC"));
+    }
+
+
+    /**
+     * The relationships from the cohort are merged and a relationship held by both members is returned once.
+     * The far ends that were returned with a relationship are used, the others are retrieved from the cohort.
+     * A far end that is only known as a proxy, or that has been deleted in its home repository, is skipped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testMergedResults() throws Exception
+    {
+        OMRSMetadataCollection enterpriseCollection = enterpriseConnector.getMetadataCollection();
+        InstanceGraph          instanceGraph        = enterpriseCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                                            Collections.singletonList(getGUID("TermA")),
+                                                                                                            null,
+                                                                                                            null,
+                                                                                                            null,
+                                                                                                            0);
+
+        assertEquals(instanceGraph.getRelationships().size(), 6);
+        assertEquals(getRelationshipNames(instanceGraph), getNames("TermA-TermB", "TermA-TermC", "TermA-TermD", "TermA-TermE", "TermA-TermF", "TermA-TermG"));
+        assertEquals(instanceGraph.getEntities().size(), 4);
+        assertEquals(getEntityNames(instanceGraph), getNames("TermB", "TermC", "TermD", "TermE"));
+    }
+
+
+    /**
+     * Requesting a far end as well returns both ends of the relationship between them.  Entities unknown
+     * to the cohort are skipped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testSeveralEntities() throws Exception
+    {
+        OMRSMetadataCollection enterpriseCollection = enterpriseConnector.getMetadataCollection();
+        InstanceGraph          instanceGraph        = enterpriseCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                                            Arrays.asList(getGUID("TermC"),
+                                                                                                                          getGUID("TermD"),
+                                                                                                                          "UnknownGUID"),
+                                                                                                            null,
+                                                                                                            null,
+                                                                                                            null,
+                                                                                                            0);
+
+        assertEquals(getRelationshipNames(instanceGraph), getNames("TermA-TermC", "TermA-TermD"));
+        assertEquals(getEntityNames(instanceGraph), getNames("TermA"));
+
+        assertNull(enterpriseCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                           Collections.singletonList("UnknownGUID"),
+                                                                           null,
+                                                                           null,
+                                                                           null,
+                                                                           0));
+    }
+}
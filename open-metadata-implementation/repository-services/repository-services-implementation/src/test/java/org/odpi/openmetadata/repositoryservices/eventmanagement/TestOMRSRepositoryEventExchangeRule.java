@@ -0,0 +1,168 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the SELECTED_TYPES and LEARNED_TYPES exchange rules select the subtypes of the selected types,
+ * including subtypes that are added after the rule is created.
+ */
+public class TestOMRSRepositoryEventExchangeRule
+{
+    private static final String sourceName = "TestOMRSRepositoryEventExchangeRule";
+
+
+    /**
+     * Return an entity type.
+     *
+     * @param name name of the type - the guid is derived from it
+     * @param superTypeName name of the super type or null
+     * @return TypeDef
+     */
+    private EntityDef getEntityDef(String   name,
+                                   String   superTypeName)
+    {
+        EntityDef entityDef = new EntityDef(TypeDefCategory.ENTITY_DEF, name + "GUID", name, 1L, "1");
+
+        if (superTypeName != null)
+        {
+            entityDef.setSuperType(new TypeDefLink(superTypeName + "GUID", superTypeName));
+        }
+
+        return entityDef;
+    }
+
+
+    /**
+     * Return a content manager loaded with a small type hierarchy.
+     *
+     * @return content manager
+     */
+    private OMRSRepositoryContentManager getContentManager()
+    {
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager();
+
+        contentManager.addTypeDef(sourceName, getEntityDef("Referenceable", null));
+        contentManager.addTypeDef(sourceName, getEntityDef("Asset", "Referenceable"));
+        contentManager.addTypeDef(sourceName, getEntityDef("DataSet", "Asset"));
+        contentManager.addTypeDef(sourceName, getEntityDef("GlossaryTerm", "Referenceable"));
+
+        return contentManager;
+    }
+
+
+    /**
+     * Validate that the selected types include their subtypes.
+     */
+    @Test public void testSelectedTypes()
+    {
+        OMRSRepositoryContentManager contentManager = getContentManager();
+        List<TypeDefSummary>         selectedTypes  = Collections.singletonList(getEntityDef("Asset", "Referenceable"));
+
+        OMRSRepositoryEventExchangeRule exchangeRule = new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.SELECTED_TYPES,
+                                                                                           selectedTypes,
+                                                                                           contentManager);
+
+        assertTrue(exchangeRule.processInstanceEvent("AssetGUID", "Asset"));
+        assertTrue(exchangeRule.processInstanceEvent("DataSetGUID", "DataSet"));
+        assertFalse(exchangeRule.processInstanceEvent("GlossaryTermGUID", "GlossaryTerm"));
+        assertFalse(exchangeRule.processInstanceEvent("ReferenceableGUID", "Referenceable"));
+
+        /*
+         * A new subtype is picked up when the types change.
+         */
+        contentManager.addTypeDef(sourceName, getEntityDef("DataFile", "DataSet"));
+
+        assertTrue(exchangeRule.processInstanceEvent("DataFileGUID", "DataFile"));
+
+        /*
+         * Without a content manager only the selected types are processed.
+         */
+        exchangeRule = new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.SELECTED_TYPES, selectedTypes);
+
+        assertTrue(exchangeRule.processInstanceEvent("AssetGUID", "Asset"));
+        assertFalse(exchangeRule.processInstanceEvent("DataSetGUID", "DataSet"));
+    }
+
+
+    /**
+     * Validate that the selected types are recalculated when a TypeDef is learned from the enterprise.
+     */
+    @Test public void testEnterpriseTypes()
+    {
+        OMRSRepositoryContentManager contentManager = getContentManager();
+        List<TypeDefSummary>         selectedTypes  = Collections.singletonList(getEntityDef("Asset", "Referenceable"));
+
+        /*
+         * DataFile is known locally but its super type is only known to the rest of the cohort.
+         */
+        contentManager.addTypeDef(sourceName, getEntityDef("DataFile", "DataStore"));
+
+        OMRSRepositoryEventExchangeRule exchangeRule = new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.SELECTED_TYPES,
+                                                                                           selectedTypes,
+                                                                                           contentManager);
+
+        assertFalse(exchangeRule.processInstanceEvent("DataFileGUID", "DataFile"));
+
+        long typeDefVersion = contentManager.getTypeDefCacheVersion();
+
+        try
+        {
+            contentManager.validateEnterpriseTypeDefs(sourceName,
+                                                      Collections.singletonList(getEntityDef("DataStore", "Asset")),
+                                                      "testEnterpriseTypes");
+        }
+        catch (Throwable error)
+        {
+            assertTrue(false, "Exception: " + error.getMessage());
+        }
+
+        assertTrue(contentManager.getTypeDefCacheVersion() != typeDefVersion);
+        assertTrue(exchangeRule.processInstanceEvent("DataFileGUID", "DataFile"));
+    }
+
+
+    /**
+     * Validate that learned types are kept when the types change.
+     */
+    @Test public void testLearnedTypes()
+    {
+        OMRSRepositoryContentManager contentManager = getContentManager();
+
+        OMRSRepositoryEventExchangeRule exchangeRule = new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.LEARNED_TYPES,
+                                                                                           null,
+                                                                                           contentManager);
+
+        assertFalse(exchangeRule.processInstanceEvent("GlossaryTermGUID", "GlossaryTerm"));
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefGUID("GlossaryTermGUID");
+        instanceType.setTypeDefName("GlossaryTerm");
+
+        EntityDetail entity = new EntityDetail();
+        entity.setType(instanceType);
+
+        assertTrue(exchangeRule.learnInstanceEvent(entity));
+        assertTrue(exchangeRule.processInstanceEvent("GlossaryTermGUID", "GlossaryTerm"));
+
+        contentManager.addTypeDef(sourceName, getEntityDef("DataFile", "Asset"));
+
+        assertTrue(exchangeRule.processInstanceEvent("GlossaryTermGUID", "GlossaryTerm"));
+        assertFalse(exchangeRule.processInstanceEvent("DataFileGUID", "DataFile"));
+    }
+}
@@ -0,0 +1,326 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryeventmapper.OMRSRepositoryEventProcessor;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSTypeDefManager;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.sourceName;
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.userId;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate getEntityDetails() and getRelationships() in the in-memory repository and in the local repository
+ * connector's metadata collection that wraps it.  Each request mixes known instances with unknown, deleted
+ * and proxy instances, and repeats some of the guids.
+ */
+public class TestBulkInstanceRetrieval
+{
+    private static final String entityTypeName             = "GlossaryTerm";
+    private static final String metadataCollectionId       = "TestMetadataCollection";
+    private static final String remoteMetadataCollectionId = "RemoteMetadataCollection";
+
+    private RepositoryServicesTestFixture fixture;
+    private OMRSMetadataCollection        inMemoryMetadataCollection;
+    private OMRSMetadataCollection        localMetadataCollection;
+    private Map<String, String>           guids;
+
+
+    /**
+     * Set up a new repository for each test.
+     *
+     * <ul>
+     *     <li>Term1, Term2 and Term3 are stored in the repository.  Term1 is related to Term2 and
+     *     Term2 is related to Term3.</li>
+     *     <li>ProxyTerm is only stored as a proxy.</li>
+     *     <li>DeletedTerm and the relationship between Term1 and Term3 are deleted reference copies.</li>
+     * </ul>
+     *
+     * @throws Exception unable to set up the repository
+     */
+    @BeforeMethod public void createRepository() throws Exception
+    {
+        fixture = new RepositoryServicesTestFixture();
+        guids = new HashMap<>();
+        guids.put("UnknownGUID", "UnknownGUID");
+
+        inMemoryMetadataCollection = fixture.createInMemoryConnector(metadataCollectionId).getMetadataCollection();
+        localMetadataCollection = new LocalOMRSMetadataCollection(mock(LocalOMRSRepositoryConnector.class),
+                                                                  "LocalRepository",
+                                                                  fixture.getRepositoryHelper(),
+                                                                  fixture.getRepositoryValidator(),
+                                                                  metadataCollectionId,
+                                                                  "LocalServer",
+                                                                  "LocalServerType",
+                                                                  "LocalOrganization",
+                                                                  inMemoryMetadataCollection,
+                                                                  mock(OMRSRepositoryEventProcessor.class),
+                                                                  mock(OMRSTypeDefManager.class));
+
+        Map<String, EntityDetail> terms = new HashMap<>();
+
+        for (String termName : Arrays.asList("Term1", "Term2", "Term3"))
+        {
+            EntityDetail term = fixture.addEntity(inMemoryMetadataCollection, entityTypeName, termName);
+
+            terms.put(termName, term);
+            guids.put(termName, term.getGUID());
+        }
+
+        guids.put("Term1-Term2", fixture.addRelationship(inMemoryMetadataCollection,
+                                                         "RelatedTerm",
+                                                         terms.get("Term1"),
+                                                         terms.get("Term2")).getGUID());
+        guids.put("Term2-Term3", fixture.addRelationship(inMemoryMetadataCollection,
+                                                         "RelatedTerm",
+                                                         terms.get("Term2"),
+                                                         terms.get("Term3")).getGUID());
+
+        OMRSRepositoryHelper repositoryHelper = fixture.getRepositoryHelper();
+        EntityDetail         proxyTerm        = getRemoteTerm("ProxyTerm");
+        EntityDetail         deletedTerm      = getRemoteTerm("DeletedTerm");
+
+        inMemoryMetadataCollection.addEntityProxy(userId, repositoryHelper.getNewEntityProxy(sourceName, proxyTerm));
+
+        deletedTerm.setStatus(InstanceStatus.DELETED);
+        inMemoryMetadataCollection.saveEntityReferenceCopy(userId, deletedTerm);
+
+        Relationship deletedRelationship = repositoryHelper.getNewRelationship(sourceName,
+                                                                               remoteMetadataCollectionId,
+                                                                               InstanceProvenanceType.LOCAL_COHORT,
+                                                                               userId,
+                                                                               "RelatedTerm",
+                                                                               null);
+
+        deletedRelationship.setEntityOneProxy(repositoryHelper.getNewEntityProxy(sourceName, terms.get("Term1")));
+        deletedRelationship.setEntityTwoProxy(repositoryHelper.getNewEntityProxy(sourceName, terms.get("Term3")));
+        deletedRelationship.setStatus(InstanceStatus.DELETED);
+
+        inMemoryMetadataCollection.saveRelationshipReferenceCopy(userId, deletedRelationship);
+        guids.put("Term1-Term3", deletedRelationship.getGUID());
+    }
+
+
+    /**
+     * Disconnect the repository.
+     */
+    @AfterMethod public void disconnect()
+    {
+        fixture.disconnect();
+    }
+
+
+    /**
+     * Return a new term that is homed in another repository.
+     *
+     * @param termName qualifiedName of the term
+     * @return new term
+     * @throws Exception the term can not be created
+     */
+    private EntityDetail getRemoteTerm(String termName) throws Exception
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("qualifiedName", RepositoryServicesTestFixture.getStringValue(termName));
+
+        EntityDetail term = fixture.getRepositoryHelper().getNewEntity(sourceName,
+                                                                       remoteMetadataCollectionId,
+                                                                       InstanceProvenanceType.LOCAL_COHORT,
+                                                                       userId,
+                                                                       entityTypeName,
+                                                                       properties,
+                                                                       null);
+
+        guids.put(termName, term.getGUID());
+
+        return term;
+    }
+
+
+    /**
+     * Return the guids of a list of named instances.
+     *
+     * @param names names of the instances
+     * @return list of guids
+     */
+    private List<String> getGUIDs(String... names)
+    {
+        List<String> results = new ArrayList<>();
+
+        for (String name : names)
+        {
+            results.add(guids.get(name));
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the guids of a list of retrieved instances.
+     *
+     * @param instances retrieved instances
+     * @return list of guids in the order they were returned
+     */
+    private List<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        List<String> results = new ArrayList<>();
+
+        for (InstanceHeader instance : instances)
+        {
+            results.add(instance.getGUID());
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Stored entities are returned once, in the order they were requested.  Unknown and deleted entities
+     * and proxies are skipped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInMemoryEntityDetails() throws Exception
+    {
+        List<EntityDetail> entities = inMemoryMetadataCollection.getEntityDetails(userId,
+                                                                                  getGUIDs("Term2",
+                                                                                           "UnknownGUID",
+                                                                                           "Term1",
+                                                                                           "ProxyTerm",
+                                                                                           "DeletedTerm",
+                                                                                           "Term2"));
+
+        assertEquals(getGUIDs(entities), getGUIDs("Term2", "Term1"));
+
+        assertNull(inMemoryMetadataCollection.getEntityDetails(userId,
+                                                               getGUIDs("UnknownGUID", "ProxyTerm", "DeletedTerm")));
+    }
+
+
+    /**
+     * Stored relationships are returned once, in the order they were requested.  Unknown and deleted
+     * relationships are skipped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInMemoryRelationships() throws Exception
+    {
+        List<Relationship> relationships = inMemoryMetadataCollection.getRelationships(userId,
+                                                                                       getGUIDs("Term2-Term3",
+                                                                                                "UnknownGUID",
+                                                                                                "Term1-Term3",
+                                                                                                "Term1-Term2",
+                                                                                                "Term2-Term3"));
+
+        assertEquals(getGUIDs(relationships), getGUIDs("Term2-Term3", "Term1-Term2"));
+
+        assertNull(inMemoryMetadataCollection.getRelationships(userId, getGUIDs("UnknownGUID", "Term1-Term3")));
+    }
+
+
+    /**
+     * The local metadata collection returns the same entities as the real repository with their home
+     * metadata collection set.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testLocalEntityDetails() throws Exception
+    {
+        List<EntityDetail> entities = localMetadataCollection.getEntityDetails(userId,
+                                                                               getGUIDs("Term3",
+                                                                                        "ProxyTerm",
+                                                                                        "Term3",
+                                                                                        "UnknownGUID",
+                                                                                        "Term1"));
+
+        assertEquals(getGUIDs(entities), getGUIDs("Term3", "Term1"));
+
+        for (EntityDetail entity : entities)
+        {
+            assertEquals(entity.getMetadataCollectionId(), metadataCollectionId);
+            assertEquals(entity.getInstanceProvenanceType(), InstanceProvenanceType.LOCAL_COHORT);
+        }
+
+        assertNull(localMetadataCollection.getEntityDetails(userId, getGUIDs("DeletedTerm", "UnknownGUID")));
+    }
+
+
+    /**
+     * The local metadata collection returns the same relationships as the real repository.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testLocalRelationships() throws Exception
+    {
+        List<Relationship> relationships = localMetadataCollection.getRelationships(userId,
+                                                                                    getGUIDs("Term1-Term2",
+                                                                                             "Term1-Term2",
+                                                                                             "Term1-Term3",
+                                                                                             "UnknownGUID"));
+
+        assertEquals(getGUIDs(relationships), getGUIDs("Term1-Term2"));
+
+        assertNull(localMetadataCollection.getRelationships(userId, getGUIDs("UnknownGUID")));
+    }
+
+
+    /**
+     * A null guid in the list is rejected by both metadata collections.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testNullGUID() throws Exception
+    {
+        List<String> guidList = Arrays.asList(guids.get("Term1"), null);
+
+        for (OMRSMetadataCollection metadataCollection : Arrays.asList(inMemoryMetadataCollection, localMetadataCollection))
+        {
+            try
+            {
+                metadataCollection.getEntityDetails(userId, guidList);
+                fail("getEntityDetails accepted a null guid");
+            }
+            catch (InvalidParameterException error)
+            {
+                /*
+                 * Expected
+                 */
+            }
+
+            try
+            {
+                metadataCollection.getRelationships(userId, guidList);
+                fail("getRelationships accepted a null guid");
+            }
+            catch (InvalidParameterException error)
+            {
+                /*
+                 * Expected
+                 */
+            }
+        }
+    }
+}
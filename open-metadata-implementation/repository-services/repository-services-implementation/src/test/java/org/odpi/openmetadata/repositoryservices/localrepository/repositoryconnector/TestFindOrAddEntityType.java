@@ -0,0 +1,187 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.Mockito.mock;
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.userId;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that findOrAddEntity() only returns an existing entity that is of the requested type or one of its
+ * subtypes.  The qualifiedName is unique across the type family, so a request for an unrelated type in the
+ * same family is rejected rather than answered with the other entity.  The in-memory repository checks its
+ * qualifiedName index and the enterprise connector checks the result of its search of the cohort.
+ */
+public class TestFindOrAddEntityType
+{
+    private static final String qualifiedName = "host1.example.com";
+
+    private RepositoryServicesTestFixture     fixture;
+    private OMRSMetadataCollection            inMemoryMetadataCollection;
+    private EnterpriseOMRSRepositoryConnector enterpriseConnector;
+
+
+    /**
+     * Set up a repository that is also the only member of a cohort, and add a glossary term to it.
+     *
+     * @throws Exception unable to set up the repository
+     */
+    @BeforeMethod public void createRepository() throws Exception
+    {
+        fixture = new RepositoryServicesTestFixture();
+
+        OMRSRepositoryConnector inMemoryConnector = fixture.createInMemoryConnector("TestMetadataCollection");
+
+        inMemoryMetadataCollection = inMemoryConnector.getMetadataCollection();
+
+        enterpriseConnector = new EnterpriseOMRSRepositoryConnector(mock(OMRSConnectorManager.class));
+        enterpriseConnector.setRepositoryHelper(fixture.getRepositoryHelper());
+        enterpriseConnector.setRepositoryValidator(fixture.getRepositoryValidator());
+        enterpriseConnector.setServerName("EnterpriseServer");
+        enterpriseConnector.setMetadataCollectionId("Enterprise");
+        enterpriseConnector.start();
+        enterpriseConnector.addRemoteConnector("TestMetadataCollection", inMemoryConnector);
+    }
+
+
+    /**
+     * Disconnect the repositories.
+     *
+     * @throws Exception problem disconnecting
+     */
+    @AfterMethod public void disconnect() throws Exception
+    {
+        enterpriseConnector.disconnect();
+        fixture.disconnect();
+    }
+
+
+    /**
+     * Issue findOrAddEntity for an entity with the test qualifiedName.
+     *
+     * @param metadataCollection repository
+     * @param typeName name of the requested type
+     * @param entityCreated set to whether the entity was created
+     * @return entity
+     * @throws Exception error from the repository
+     */
+    private EntityDetail findOrAddEntity(OMRSMetadataCollection metadataCollection,
+                                         String                 typeName,
+                                         AtomicBoolean          entityCreated) throws Exception
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("qualifiedName", RepositoryServicesTestFixture.getStringValue(qualifiedName));
+
+        return metadataCollection.findOrAddEntity(userId,
+                                                  fixture.getTypeDef(typeName).getGUID(),
+                                                  properties,
+                                                  null,
+                                                  null,
+                                                  entityCreated);
+    }
+
+
+    /**
+     * An existing entity is returned for a request for its own type or one of its super types.
+     *
+     * @param metadataCollection repository
+     * @throws Exception unexpected error
+     */
+    private void validateSameTypeFamily(OMRSMetadataCollection metadataCollection) throws Exception
+    {
+        AtomicBoolean entityCreated = new AtomicBoolean();
+        EntityDetail  term          = findOrAddEntity(metadataCollection, "GlossaryTerm", entityCreated);
+
+        assertTrue(entityCreated.get());
+
+        assertEquals(findOrAddEntity(metadataCollection, "GlossaryTerm", entityCreated).getGUID(), term.getGUID());
+        assertFalse(entityCreated.get());
+
+        assertEquals(findOrAddEntity(metadataCollection, "Referenceable", entityCreated).getGUID(), term.getGUID());
+        assertFalse(entityCreated.get());
+    }
+
+
+    /**
+     * An existing entity of an unrelated type in the same family is not returned.
+     *
+     * @param metadataCollection repository
+     * @throws Exception unexpected error
+     */
+    private void validateUnrelatedType(OMRSMetadataCollection metadataCollection) throws Exception
+    {
+        findOrAddEntity(metadataCollection, "GlossaryTerm", null);
+
+        try
+        {
+            findOrAddEntity(metadataCollection, "Endpoint", null);
+            fail("findOrAddEntity returned a GlossaryTerm for an Endpoint request");
+        }
+        catch (PropertyErrorException error)
+        {
+            assertTrue(error.getErrorMessage().contains("OMRS-REPOSITORY-400-064"));
+        }
+    }
+
+
+    /**
+     * The in-memory repository returns the existing entity for its own type and super types.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInMemorySameTypeFamily() throws Exception
+    {
+        validateSameTypeFamily(inMemoryMetadataCollection);
+    }
+
+
+    /**
+     * The in-memory repository rejects a request for an unrelated type.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInMemoryUnrelatedType() throws Exception
+    {
+        validateUnrelatedType(inMemoryMetadataCollection);
+    }
+
+
+    /**
+     * The enterprise connector returns the existing entity for its own type and super types.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testEnterpriseSameTypeFamily() throws Exception
+    {
+        validateSameTypeFamily(enterpriseConnector.getMetadataCollection());
+    }
+
+
+    /**
+     * The enterprise connector rejects a request for an unrelated type.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testEnterpriseUnrelatedType() throws Exception
+    {
+        validateUnrelatedType(enterpriseConnector.getMetadataCollection());
+    }
+}
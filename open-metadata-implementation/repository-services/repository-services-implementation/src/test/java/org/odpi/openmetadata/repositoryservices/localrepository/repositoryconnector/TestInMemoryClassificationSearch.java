@@ -0,0 +1,410 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.ClassificationErrorException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.userId;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate findEntitiesByClassifications() in the in-memory repository with the open metadata types.  The
+ * repository finds the entities through its classification index so the results are checked as the entities
+ * are classified, declassified, deleted, restored and purged.
+ */
+public class TestInMemoryClassificationSearch
+{
+    private static final String entityTypeName = "GlossaryTerm";
+
+    private RepositoryServicesTestFixture fixture = new RepositoryServicesTestFixture();
+    private OMRSMetadataCollection        metadataCollection;
+    private TypeDef                       entityTypeDef;
+    private Map<String, String>           termGUIDs;
+
+
+    /**
+     * Set up a new repository with five glossary terms for each test.
+     *
+     * <ul>
+     *     <li>Term1 is an AbstractConcept.</li>
+     *     <li>Term2 is an AbstractConcept and a DataValue.</li>
+     *     <li>Term3 is a DataValue and is Confidential with steward Fred.</li>
+     *     <li>Term4 is Confidential with steward Jane.</li>
+     *     <li>Term5 is an AbstractConcept and is deleted.</li>
+     * </ul>
+     *
+     * @throws Exception unable to set up the repository
+     */
+    @BeforeMethod public void createRepository() throws Exception
+    {
+        metadataCollection = fixture.createInMemoryConnector("TestMetadataCollection").getMetadataCollection();
+        entityTypeDef = fixture.getTypeDef(entityTypeName);
+        termGUIDs = new LinkedHashMap<>();
+
+        for (int i = 1; i <= 5; i++)
+        {
+            termGUIDs.put(fixture.addEntity(metadataCollection, entityTypeName, "Term" + i).getGUID(), "Term" + i);
+        }
+
+        classify("Term1", "AbstractConcept", null);
+        classify("Term2", "AbstractConcept", null);
+        classify("Term2", "DataValue", null);
+        classify("Term3", "DataValue", null);
+        classify("Term3", "Confidentiality", getSteward("Fred"));
+        classify("Term4", "Confidentiality", getSteward("Jane"));
+        classify("Term5", "AbstractConcept", null);
+
+        metadataCollection.deleteEntity(userId, entityTypeDef.getGUID(), entityTypeName, getGUID("Term5"));
+    }
+
+
+    /**
+     * Disconnect the repositories.
+     */
+    @AfterClass public void disconnect()
+    {
+        fixture.disconnect();
+    }
+
+
+    /**
+     * Return the guid of a term.
+     *
+     * @param termName qualifiedName of the term
+     * @return guid
+     */
+    private String getGUID(String termName)
+    {
+        for (String guid : termGUIDs.keySet())
+        {
+            if (termGUIDs.get(guid).equals(termName))
+            {
+                return guid;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Classify a term.
+     *
+     * @param termName qualifiedName of the term
+     * @param classificationName name of the classification
+     * @param properties properties of the classification
+     * @throws Exception unable to classify the term
+     */
+    private void classify(String             termName,
+                          String             classificationName,
+                          InstanceProperties properties) throws Exception
+    {
+        metadataCollection.classifyEntity(userId, getGUID(termName), classificationName, properties);
+    }
+
+
+    /**
+     * Return classification properties with a steward.
+     *
+     * @param steward name of the steward
+     * @return properties
+     */
+    private InstanceProperties getSteward(String steward)
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("steward", RepositoryServicesTestFixture.getStringValue(steward));
+
+        return properties;
+    }
+
+
+    /**
+     * Return the names of the terms in a list of entities.
+     *
+     * @param entities entities - may be null
+     * @return names in the order of the entities - null if the entities are null
+     */
+    private List<String> getTermNames(List<EntityDetail> entities)
+    {
+        if (entities == null)
+        {
+            return null;
+        }
+
+        List<String> termNames = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            termNames.add(termGUIDs.get(entity.getGUID()));
+        }
+
+        return termNames;
+    }
+
+
+    /**
+     * Call findEntitiesByClassifications() for the glossary terms.
+     *
+     * @param matchClassifications classifications and their properties
+     * @param matchClassificationCriteria ANY or ALL
+     * @param fromEntityElement first element to return
+     * @param pageSize maximum number of elements to return
+     * @return entities
+     * @throws Exception unexpected error
+     */
+    private List<EntityDetail> findEntities(Map<String, InstanceProperties> matchClassifications,
+                                            MatchCriteria                   matchClassificationCriteria,
+                                            int                             fromEntityElement,
+                                            int                             pageSize) throws Exception
+    {
+        return metadataCollection.findEntitiesByClassifications(userId,
+                                                                entityTypeDef.getGUID(),
+                                                                matchClassifications,
+                                                                matchClassificationCriteria,
+                                                                MatchCriteria.ALL,
+                                                                fromEntityElement,
+                                                                null,
+                                                                null,
+                                                                null,
+                                                                null,
+                                                                pageSize);
+    }
+
+
+    /**
+     * Call findEntitiesByClassifications() for the glossary terms and return the sorted names of the terms.
+     *
+     * @param matchClassificationCriteria ANY or ALL
+     * @param classificationNames classifications to match with any properties
+     * @return sorted term names - null if there are no entities
+     * @throws Exception unexpected error
+     */
+    private Set<String> findTerms(MatchCriteria matchClassificationCriteria,
+                                  String...     classificationNames) throws Exception
+    {
+        Map<String, InstanceProperties> matchClassifications = new LinkedHashMap<>();
+
+        for (String classificationName : classificationNames)
+        {
+            matchClassifications.put(classificationName, null);
+        }
+
+        List<String> termNames = getTermNames(findEntities(matchClassifications, matchClassificationCriteria, 0, 0));
+
+        return termNames == null ? null : new TreeSet<>(termNames);
+    }
+
+
+    /**
+     * Return the sorted names of the terms found by a findEntitiesByClassification() call for each
+     * classification.
+     *
+     * @param classificationNames names of the classifications
+     * @return sorted term names - null if there are no entities
+     * @throws Exception unexpected error
+     */
+    private Set<String> findTermsByEachClassification(String... classificationNames) throws Exception
+    {
+        Set<String> termNames = new TreeSet<>();
+
+        for (String classificationName : classificationNames)
+        {
+            List<String> classifiedTermNames = getTermNames(metadataCollection.findEntitiesByClassification(userId,
+                                                                                                            entityTypeDef.getGUID(),
+                                                                                                            classificationName,
+                                                                                                            null,
+                                                                                                            null,
+                                                                                                            0,
+                                                                                                            null,
+                                                                                                            null,
+                                                                                                            null,
+                                                                                                            null,
+                                                                                                            0));
+            if (classifiedTermNames != null)
+            {
+                termNames.addAll(classifiedTermNames);
+            }
+        }
+
+        return termNames.isEmpty() ? null : termNames;
+    }
+
+
+    /**
+     * Return a sorted set of term names.
+     *
+     * @param termNames names of the terms
+     * @return sorted set
+     */
+    private Set<String> getTermNames(String... termNames)
+    {
+        return new TreeSet<>(Arrays.asList(termNames));
+    }
+
+
+    /**
+     * Under ANY the terms with any of the classifications are returned, and the result is the same as searching
+     * for each classification.  Under ALL only the terms with every classification are returned.  Deleted terms
+     * are not returned.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testAnyAndAll() throws Exception
+    {
+        assertEquals(findTerms(MatchCriteria.ANY, "AbstractConcept", "DataValue"), getTermNames("Term1", "Term2", "Term3"));
+        assertEquals(findTerms(MatchCriteria.ANY, "AbstractConcept", "DataValue"),
+                     findTermsByEachClassification("AbstractConcept", "DataValue"));
+        assertEquals(findTerms(MatchCriteria.ANY, "AbstractConcept", "DataValue", "Confidentiality"),
+                     findTermsByEachClassification("AbstractConcept", "DataValue", "Confidentiality"));
+
+        assertEquals(findTerms(MatchCriteria.ALL, "AbstractConcept", "DataValue"), getTermNames("Term2"));
+        assertEquals(findTerms(MatchCriteria.ALL, "DataValue", "Confidentiality"), getTermNames("Term3"));
+        assertNull(findTerms(MatchCriteria.ALL, "AbstractConcept", "Confidentiality"));
+    }
+
+
+    /**
+     * A classification that is not valid for glossary terms is skipped under ANY and rejected under ALL.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testInvalidForType() throws Exception
+    {
+        assertEquals(findTerms(MatchCriteria.ANY, "MobileAsset", "DataValue"), getTermNames("Term2", "Term3"));
+        assertNull(findTerms(MatchCriteria.ANY, "MobileAsset"));
+
+        try
+        {
+            findTerms(MatchCriteria.ALL, "MobileAsset", "DataValue");
+            fail("Classification that is not valid for the type accepted under ALL");
+        }
+        catch (ClassificationErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+
+
+    /**
+     * A name that is not a known classification matches no terms under ANY and is rejected under ALL.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testUnknownClassification() throws Exception
+    {
+        assertEquals(findTerms(MatchCriteria.ANY, "AbstractConcept", "NotAClassification"), getTermNames("Term1", "Term2"));
+
+        try
+        {
+            findTerms(MatchCriteria.ALL, "AbstractConcept", "NotAClassification");
+            fail("Unknown classification accepted under ALL");
+        }
+        catch (ClassificationErrorException error)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+
+
+    /**
+     * Each classification may have its own properties to match.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testClassificationProperties() throws Exception
+    {
+        Map<String, InstanceProperties> matchClassifications = new LinkedHashMap<>();
+
+        matchClassifications.put("Confidentiality", getSteward("Fred"));
+
+        assertEquals(getTermNames(findEntities(matchClassifications, MatchCriteria.ANY, 0, 0)), Arrays.asList("Term3"));
+
+        matchClassifications.put("AbstractConcept", null);
+
+        assertEquals(new TreeSet<>(getTermNames(findEntities(matchClassifications, MatchCriteria.ANY, 0, 0))),
+                     getTermNames("Term1", "Term2", "Term3"));
+        assertNull(findEntities(matchClassifications, MatchCriteria.ALL, 0, 0));
+
+        matchClassifications.put("Confidentiality", getSteward("Nobody"));
+        matchClassifications.put("DataValue", null);
+
+        assertEquals(new TreeSet<>(getTermNames(findEntities(matchClassifications, MatchCriteria.ANY, 0, 0))),
+                     getTermNames("Term1", "Term2", "Term3"));
+    }
+
+
+    /**
+     * The pages of the results add up to the whole result.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testPaging() throws Exception
+    {
+        Map<String, InstanceProperties> matchClassifications = new LinkedHashMap<>();
+
+        matchClassifications.put("AbstractConcept", null);
+        matchClassifications.put("DataValue", null);
+        matchClassifications.put("Confidentiality", null);
+
+        List<String> allTerms = getTermNames(findEntities(matchClassifications, MatchCriteria.ANY, 0, 0));
+        List<String> pages    = new ArrayList<>();
+
+        pages.addAll(getTermNames(findEntities(matchClassifications, MatchCriteria.ANY, 0, 3)));
+        pages.addAll(getTermNames(findEntities(matchClassifications, MatchCriteria.ANY, 3, 3)));
+
+        assertEquals(allTerms.size(), 4);
+        assertEquals(pages, allTerms);
+        assertNull(findEntities(matchClassifications, MatchCriteria.ANY, 4, 3));
+    }
+
+
+    /**
+     * The results follow the classifications and the life cycle of the terms.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testIndexMaintenance() throws Exception
+    {
+        metadataCollection.declassifyEntity(userId, getGUID("Term1"), "AbstractConcept");
+        classify("Term4", "DataValue", null);
+
+        assertEquals(findTerms(MatchCriteria.ANY, "AbstractConcept"), getTermNames("Term2"));
+        assertEquals(findTerms(MatchCriteria.ALL, "DataValue", "Confidentiality"), getTermNames("Term3", "Term4"));
+
+        metadataCollection.restoreEntity(userId, getGUID("Term5"));
+
+        assertEquals(findTerms(MatchCriteria.ANY, "AbstractConcept"), getTermNames("Term2", "Term5"));
+
+        metadataCollection.deleteEntity(userId, entityTypeDef.getGUID(), entityTypeName, getGUID("Term2"));
+        metadataCollection.purgeEntity(userId, entityTypeDef.getGUID(), entityTypeName, getGUID("Term2"));
+
+        assertEquals(findTerms(MatchCriteria.ANY, "AbstractConcept"), getTermNames("Term5"));
+        assertEquals(findTerms(MatchCriteria.ANY, "DataValue"), getTermNames("Term3", "Term4"));
+        assertEquals(findTerms(MatchCriteria.ANY, "AbstractConcept", "DataValue"),
+                     findTermsByEachClassification("AbstractConcept", "DataValue"));
+    }
+}
@@ -0,0 +1,421 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.sourceName;
+import static org.odpi.openmetadata.repositoryservices.RepositoryServicesTestFixture.userId;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate getRelationshipsAndRelatedEntities() in the in-memory repository with the open metadata types.
+ * The results are checked against the relationships and entities returned by getRelationshipsForEntity()
+ * and getEntityDetail().
+ */
+public class TestInMemoryRelatedEntities
+{
+    private static final String entityTypeName             = "GlossaryTerm";
+    private static final String remoteMetadataCollectionId = "RemoteMetadataCollection";
+
+    private RepositoryServicesTestFixture fixture = new RepositoryServicesTestFixture();
+    private OMRSMetadataCollection        metadataCollection;
+    private Map<String, EntityDetail>     terms;
+    private Map<String, String>           names;
+
+
+    /**
+     * Set up a new repository with six glossary terms and a reference copy of a deleted term for each test.
+     *
+     * <ul>
+     *     <li>Term1 is related to Term2 and Term3 and is a synonym of Term4.</li>
+     *     <li>Term2 is related to Term5.</li>
+     *     <li>Term1 was related to Term6 but the relationship is deleted.</li>
+     *     <li>Term1 is related to Term7 that is deleted.</li>
+     * </ul>
+     *
+     * The deleted instances are reference copies from another repository so they can be stored with the
+     * deleted status.
+     *
+     * @throws Exception unable to set up the repository
+     */
+    @BeforeMethod public void createRepository() throws Exception
+    {
+        metadataCollection = fixture.createInMemoryConnector("TestMetadataCollection").getMetadataCollection();
+        terms = new HashMap<>();
+        names = new HashMap<>();
+
+        for (int i = 1; i <= 6; i++)
+        {
+            EntityDetail term = fixture.addEntity(metadataCollection, entityTypeName, "Term" + i);
+
+            terms.put("Term" + i, term);
+            names.put(term.getGUID(), "Term" + i);
+        }
+
+        addRelationship("RelatedTerm", "Term1", "Term2");
+        addRelationship("RelatedTerm", "Term3", "Term1");
+        addRelationship("Synonym", "Term1", "Term4");
+        addRelationship("RelatedTerm", "Term2", "Term5");
+
+        OMRSRepositoryHelper repositoryHelper = fixture.getRepositoryHelper();
+        InstanceProperties   properties       = new InstanceProperties();
+
+        properties.setProperty("qualifiedName", RepositoryServicesTestFixture.getStringValue("Term7"));
+
+        EntityDetail deletedTerm = repositoryHelper.getNewEntity(sourceName,
+                                                                 remoteMetadataCollectionId,
+                                                                 InstanceProvenanceType.LOCAL_COHORT,
+                                                                 userId,
+                                                                 entityTypeName,
+                                                                 properties,
+                                                                 null);
+
+        deletedTerm.setStatus(InstanceStatus.DELETED);
+        metadataCollection.saveEntityReferenceCopy(userId, deletedTerm);
+        terms.put("Term7", deletedTerm);
+        names.put(deletedTerm.getGUID(), "Term7");
+
+        saveRelationshipReferenceCopy("Term1", "Term6", InstanceStatus.DELETED);
+        saveRelationshipReferenceCopy("Term1", "Term7", InstanceStatus.ACTIVE);
+    }
+
+
+    /**
+     * Disconnect the repositories.
+     */
+    @AfterClass public void disconnect()
+    {
+        fixture.disconnect();
+    }
+
+
+    /**
+     * Add a relationship between two terms and record its name as "end1-end2".
+     *
+     * @param typeName name of the relationship type
+     * @param termOne qualifiedName of the term at end 1
+     * @param termTwo qualifiedName of the term at end 2
+     * @return new relationship
+     * @throws Exception unable to add the relationship
+     */
+    private Relationship addRelationship(String typeName,
+                                         String termOne,
+                                         String termTwo) throws Exception
+    {
+        Relationship relationship = fixture.addRelationship(metadataCollection,
+                                                            typeName,
+                                                            terms.get(termOne),
+                                                            terms.get(termTwo));
+
+        names.put(relationship.getGUID(), termOne + "-" + termTwo);
+
+        return relationship;
+    }
+
+
+    /**
+     * Save a reference copy of a relationship between two terms and record its name as "end1-end2".
+     *
+     * @param termOne qualifiedName of the term at end 1
+     * @param termTwo qualifiedName of the term at end 2
+     * @param status status of the relationship
+     * @throws Exception unable to save the relationship
+     */
+    private void saveRelationshipReferenceCopy(String         termOne,
+                                               String         termTwo,
+                                               InstanceStatus status) throws Exception
+    {
+        OMRSRepositoryHelper repositoryHelper = fixture.getRepositoryHelper();
+        Relationship         relationship     = repositoryHelper.getNewRelationship(sourceName,
+                                                                                    remoteMetadataCollectionId,
+                                                                                    InstanceProvenanceType.LOCAL_COHORT,
+                                                                                    userId,
+                                                                                    "RelatedTerm",
+                                                                                    null);
+
+        relationship.setEntityOneProxy(repositoryHelper.getNewEntityProxy(sourceName, terms.get(termOne)));
+        relationship.setEntityTwoProxy(repositoryHelper.getNewEntityProxy(sourceName, terms.get(termTwo)));
+        relationship.setStatus(status);
+
+        metadataCollection.saveRelationshipReferenceCopy(userId, relationship);
+        names.put(relationship.getGUID(), termOne + "-" + termTwo);
+    }
+
+
+    /**
+     * Return the guids of a list of terms.
+     *
+     * @param termNames qualifiedNames of the terms
+     * @return guids
+     */
+    private List<String> getGUIDs(String... termNames)
+    {
+        String[] guids = new String[termNames.length];
+
+        for (int i = 0; i < termNames.length; i++)
+        {
+            EntityDetail term = terms.get(termNames[i]);
+
+            guids[i] = (term == null) ? termNames[i] : term.getGUID();
+        }
+
+        return Arrays.asList(guids);
+    }
+
+
+    /**
+     * Return the sorted names of the entities in a graph.
+     *
+     * @param instanceGraph graph
+     * @return names
+     */
+    private Set<String> getEntityNames(InstanceGraph instanceGraph)
+    {
+        Set<String> entityNames = new TreeSet<>();
+
+        for (EntityDetail entity : instanceGraph.getEntities())
+        {
+            entityNames.add(names.get(entity.getGUID()));
+        }
+
+        return entityNames;
+    }
+
+
+    /**
+     * Return the sorted names of the relationships in a graph.
+     *
+     * @param instanceGraph graph
+     * @return names
+     */
+    private Set<String> getRelationshipNames(InstanceGraph instanceGraph)
+    {
+        Set<String> relationshipNames = new TreeSet<>();
+
+        for (Relationship relationship : instanceGraph.getRelationships())
+        {
+            relationshipNames.add(names.get(relationship.getGUID()));
+        }
+
+        return relationshipNames;
+    }
+
+
+    /**
+     * Return a sorted set of names.
+     *
+     * @param names names
+     * @return sorted set
+     */
+    private Set<String> getNames(String... names)
+    {
+        return new TreeSet<>(Arrays.asList(names));
+    }
+
+
+    /**
+     * The relationships and far ends for one entity match the results of getRelationshipsForEntity() and
+     * getEntityDetail().
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testRelatedEntities() throws Exception
+    {
+        String        termGUID      = terms.get("Term1").getGUID();
+        InstanceGraph instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                           Collections.singletonList(termGUID),
+                                                                                           null,
+                                                                                           null,
+                                                                                           null,
+                                                                                           0);
+
+        assertEquals(getRelationshipNames(instanceGraph), getNames("Term1-Term2", "Term3-Term1", "Term1-Term4", "Term1-Term7"));
+        assertEquals(getEntityNames(instanceGraph), getNames("Term2", "Term3", "Term4"));
+
+        Set<String> relationshipNames = new TreeSet<>();
+        Set<String> entityNames       = new TreeSet<>();
+
+        for (Relationship relationship : metadataCollection.getRelationshipsForEntity(userId, termGUID, null, 0, null, null, null, null, 0))
+        {
+            if (relationship.getStatus() != InstanceStatus.DELETED)
+            {
+                String farEndGUID = termGUID.equals(relationship.getEntityOneProxy().getGUID()) ?
+                        relationship.getEntityTwoProxy().getGUID() : relationship.getEntityOneProxy().getGUID();
+
+                relationshipNames.add(names.get(relationship.getGUID()));
+
+                try
+                {
+                    entityNames.add(names.get(metadataCollection.getEntityDetail(userId, farEndGUID).getGUID()));
+                }
+                catch (EntityNotKnownException error)
+                {
+                    /*
+                     * Deleted far end
+                     */
+                }
+            }
+        }
+
+        assertEquals(getRelationshipNames(instanceGraph), relationshipNames);
+        assertEquals(getEntityNames(instanceGraph), entityNames);
+
+        instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                             Collections.singletonList(termGUID),
+                                                                             null,
+                                                                             Collections.singletonList(InstanceStatus.ACTIVE),
+                                                                             null,
+                                                                             0);
+
+        assertEquals(getRelationshipNames(instanceGraph), relationshipNames);
+    }
+
+
+    /**
+     * A relationship between two requested entities is returned once and both ends are returned.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testBothEndsRequested() throws Exception
+    {
+        InstanceGraph instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                           getGUIDs("Term1", "Term2"),
+                                                                                           null,
+                                                                                           null,
+                                                                                           null,
+                                                                                           0);
+
+        assertEquals(instanceGraph.getRelationships().size(), 5);
+        assertEquals(getRelationshipNames(instanceGraph), getNames("Term1-Term2", "Term3-Term1", "Term1-Term4", "Term1-Term7", "Term2-Term5"));
+        assertEquals(getEntityNames(instanceGraph), getNames("Term1", "Term2", "Term3", "Term4", "Term5"));
+    }
+
+
+    /**
+     * Only the relationships of the requested type are returned.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testRelationshipType() throws Exception
+    {
+        TypeDef       synonymType   = fixture.getTypeDef("Synonym");
+        InstanceGraph instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                           getGUIDs("Term1", "Term2"),
+                                                                                           synonymType.getGUID(),
+                                                                                           null,
+                                                                                           null,
+                                                                                           0);
+
+        assertEquals(getRelationshipNames(instanceGraph), getNames("Term1-Term4"));
+        assertEquals(getEntityNames(instanceGraph), getNames("Term4"));
+
+        instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                             getGUIDs("Term5"),
+                                                                             synonymType.getGUID(),
+                                                                             null,
+                                                                             null,
+                                                                             0);
+
+        assertNull(instanceGraph);
+    }
+
+
+    /**
+     * The page size limits the number of relationships for each requested entity.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testPageSize() throws Exception
+    {
+        String        termGUID      = terms.get("Term1").getGUID();
+        InstanceGraph instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                           Collections.singletonList(termGUID),
+                                                                                           null,
+                                                                                           null,
+                                                                                           null,
+                                                                                           2);
+
+        assertEquals(instanceGraph.getRelationships().size(), 2);
+        assertTrue(instanceGraph.getEntities().size() <= 2);
+
+        for (Relationship relationship : instanceGraph.getRelationships())
+        {
+            assertTrue(names.get(relationship.getGUID()).contains("Term1"));
+        }
+
+        /*
+         * A relationship between the two requested entities may fill the page of both of them.
+         */
+        instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                             getGUIDs("Term1", "Term2"),
+                                                                             null,
+                                                                             null,
+                                                                             null,
+                                                                             1);
+
+        assertTrue(instanceGraph.getRelationships().size() >= 1);
+        assertTrue(instanceGraph.getRelationships().size() <= 2);
+    }
+
+
+    /**
+     * Unknown and deleted entities are skipped.  A relationship to a deleted entity is returned without the
+     * deleted entity.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test public void testUnknownAndDeletedEntities() throws Exception
+    {
+        assertNull(metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                         getGUIDs("UnknownGUID", "Term6", "Term7"),
+                                                                         null,
+                                                                         null,
+                                                                         null,
+                                                                         0));
+
+        InstanceGraph instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                                           getGUIDs("UnknownGUID", "Term3"),
+                                                                                           null,
+                                                                                           null,
+                                                                                           null,
+                                                                                           0);
+
+        assertEquals(getRelationshipNames(instanceGraph), getNames("Term3-Term1"));
+        assertEquals(getEntityNames(instanceGraph), getNames("Term1"));
+
+        instanceGraph = metadataCollection.getRelationshipsAndRelatedEntities(userId,
+                                                                             getGUIDs("Term1", "Term7"),
+                                                                             null,
+                                                                             null,
+                                                                             null,
+                                                                             0);
+
+        assertTrue(getRelationshipNames(instanceGraph).contains("Term1-Term7"));
+        assertTrue(! getRelationshipNames(instanceGraph).contains("Term1-Term6"));
+        assertEquals(getEntityNames(instanceGraph), getNames("Term2", "Term3", "Term4"));
+    }
+}
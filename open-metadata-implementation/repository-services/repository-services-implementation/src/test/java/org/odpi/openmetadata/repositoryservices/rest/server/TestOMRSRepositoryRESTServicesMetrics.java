@@ -0,0 +1,91 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.server;
+
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSInMemoryMetricsRegistry;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSMetrics;
+import org.odpi.openmetadata.repositoryservices.metrics.OMRSMetricsRegistry;
+import org.odpi.openmetadata.repositoryservices.rest.properties.OMRSAPIResponse;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the metrics operations of the repository REST services reject a request without a userId
+ * before they touch the metrics registry.
+ */
+public class TestOMRSRepositoryRESTServicesMetrics
+{
+    private OMRSRepositoryRESTServices restServices = new OMRSRepositoryRESTServices();
+    private OMRSMetricsRegistry        registry     = new OMRSInMemoryMetricsRegistry();
+
+
+    /**
+     * Start each test with metrics enabled.
+     */
+    @BeforeMethod public void enableMetrics()
+    {
+        OMRSMetrics.setRegistry(registry);
+    }
+
+
+    /**
+     * Leave metrics disabled for the other tests.
+     */
+    @AfterMethod public void disableMetrics()
+    {
+        OMRSMetrics.setRegistry(null);
+    }
+
+
+    /**
+     * Check that the response reports a missing userId.
+     *
+     * @param response response from the REST services
+     */
+    private void validateRejected(OMRSAPIResponse response)
+    {
+        assertEquals(response.getExceptionClassName(), UserNotAuthorizedException.class.getName());
+        assertTrue(response.getExceptionErrorMessage().startsWith("OMRS-REPOSITORY-400-027"));
+    }
+
+
+    /**
+     * A null or empty userId is rejected and the registry is unchanged.
+     */
+    @Test public void testMissingUserId()
+    {
+        for (String userId : new String[]{null, ""})
+        {
+            validateRejected(restServices.getMetrics(userId));
+            validateRejected(restServices.enableMetrics(userId));
+            validateRejected(restServices.resetMetrics(userId));
+            validateRejected(restServices.disableMetrics(userId));
+
+            assertTrue(OMRSMetrics.getRegistry() == registry);
+        }
+    }
+
+
+    /**
+     * A request with a userId reaches the registry.
+     */
+    @Test public void testValidUserId()
+    {
+        assertNull(restServices.getMetrics("testUser").getExceptionClassName());
+        assertTrue(restServices.getMetrics("testUser").isMetricsEnabled());
+
+        assertNull(restServices.disableMetrics("testUser").getExceptionClassName());
+        assertNull(OMRSMetrics.getRegistry());
+        assertFalse(restServices.getMetrics("testUser").isMetricsEnabled());
+
+        assertNull(restServices.enableMetrics("testUser").getExceptionClassName());
+        assertTrue(OMRSMetrics.getRegistry() != null);
+    }
+}
@@ -61,9 +61,16 @@ import java.util.Date;
  * </ul>
  */
 @RestController
-@RequestMapping("/open-metadata/repository-services")
+@RequestMapping(path = "/open-metadata/repository-services",
+                produces = {OMRSRepositoryResource.JSON_CONTENT_TYPE, OMRSRepositoryResource.SMILE_CONTENT_TYPE})
 public class OMRSRepositoryResource
 {
+    /*
+     * JSON is listed first so it is returned when the caller accepts any media type.
+     */
+    static final String JSON_CONTENT_TYPE  = "application/json";
+    static final String SMILE_CONTENT_TYPE = "application/x-jackson-smile";
+
     private OMRSRepositoryRESTServices  restAPI = new OMRSRepositoryRESTServices();
 
     /**
@@ -726,6 +733,27 @@ public class OMRSRepositoryResource
     }
 
 
+    /**
+     * Return the header, classifications and properties of a list of entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest String unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of EntityDetail structures (entities that are not known or are only stored as a proxy are skipped) or
+     * InvalidParameterException the list of guids is null or empty, or contains a null guid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/instances/entities/by-guids")
+
+    public EntityListResponse getEntityDetails(@PathVariable String          userId,
+                                               @RequestBody  GUIDListRequest guidListRequest)
+    {
+        return restAPI.getEntityDetails(userId, guidListRequest);
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -786,6 +814,33 @@ public class OMRSRepositoryResource
     }
 
 
+    /**
+     * Return the relationships for a list of entities together with the entities at the other end of each
+     * relationship.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param findRequestParameters list of entities and the find parameters used to limit the returned results.
+     * @return InstanceGraphResponse:
+     * the relationships and the entities at the far end of the relationships.  Null means no relationships
+     * associated with the entities or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * PropertyErrorException there is a problem with the properties of the relationships or
+     * PagingErrorException the paging parameters are set up incorrectly or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/instances/entities/relationships")
+
+    public InstanceGraphResponse getRelationshipsAndRelatedEntities(@PathVariable String                          userId,
+                                                                    @RequestBody  EntityRelationshipsFindRequest  findRequestParameters)
+    {
+        return restAPI.getRelationshipsAndRelatedEntities(userId, findRequestParameters);
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1054,6 +1109,27 @@ public class OMRSRepositoryResource
     }
 
 
+    /**
+     * Return a list of relationships.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guidListRequest String unique identifiers for the relationships.
+     * @return RelationshipListResponse:
+     * list of relationships (relationships that are not known are skipped) or
+     * InvalidParameterException the list of guids is null or empty, or contains a null guid or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/instances/relationships/by-guids")
+
+    public RelationshipListResponse getRelationships(@PathVariable String          userId,
+                                                     @RequestBody  GUIDListRequest guidListRequest)
+    {
+        return restAPI.getRelationships(userId, guidListRequest);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -2263,4 +2339,69 @@ public class OMRSRepositoryResource
     {
         return restAPI.saveInstanceReferenceCopies(userId, instances);
     }
+
+
+    /* =====================================================
+     * Group 7: Measuring the calls to the metadata collections
+     */
+
+
+    /**
+     * Return the measurements of the calls made to the metadata collections of this server.  There is an entry
+     * for each operation called on the local repository, the enterprise metadata collection and each remote
+     * cohort member.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return OperationMetricsResponse:
+     * flag to show whether metrics are enabled and the list of measurements (null if none).
+     */
+    @RequestMapping(method = RequestMethod.GET, path = "/users/{userId}/metrics")
+
+    public OperationMetricsResponse getMetrics(@PathVariable String   userId)
+    {
+        return restAPI.getMetrics(userId);
+    }
+
+
+    /**
+     * Start measuring the calls made to the metadata collections of this server.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return VoidResponse
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/metrics/enable")
+
+    public VoidResponse enableMetrics(@PathVariable String   userId)
+    {
+        return restAPI.enableMetrics(userId);
+    }
+
+
+    /**
+     * Stop measuring the calls made to the metadata collections of this server.  The measurements
+     * are discarded.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return VoidResponse
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/metrics/disable")
+
+    public VoidResponse disableMetrics(@PathVariable String   userId)
+    {
+        return restAPI.disableMetrics(userId);
+    }
+
+
+    /**
+     * Discard the measurements accumulated so far.
+     *
+     * @param userId unique identifier for requesting user.
+     * @return VoidResponse
+     */
+    @RequestMapping(method = RequestMethod.POST, path = "/users/{userId}/metrics/reset")
+
+    public VoidResponse resetMetrics(@PathVariable String   userId)
+    {
+        return restAPI.resetMetrics(userId);
+    }
 }
@@ -0,0 +1,76 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.server.spring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.wireformat.OMRSWireFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.lang.reflect.Type;
+
+/**
+ * OMRSSmileHttpMessageConverter writes SMILE-encoded responses only when SMILE has been explicitly selected for
+ * the response.  Spring MVC asks each converter which media types it can write when a REST resource does not
+ * list the media types it produces, so a converter that offered SMILE for any media type could answer
+ * REST requests for the other services with SMILE.  Since this converter does not offer SMILE for wildcard or
+ * unspecified media types, SMILE is only produced by the REST resources that list it in their "produces"
+ * media types (see OMRSRepositoryResource), and only when the caller asks for it.  The responses are raw
+ * SMILE documents with the "application/x-jackson-smile" content type.
+ */
+public class OMRSSmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter
+{
+    private static final MediaType smileMediaType = MediaType.valueOf(OMRSWireFormat.SMILE.getContentType());
+
+
+    /**
+     * Constructor
+     *
+     * @param objectMapper mapper configured for the SMILE wire format
+     */
+    public OMRSSmileHttpMessageConverter(ObjectMapper   objectMapper)
+    {
+        super(objectMapper);
+    }
+
+
+    /**
+     * Return whether this converter can write an object of the supplied class for the media type.
+     *
+     * @param clazz class of the object to write
+     * @param mediaType selected media type - null means the caller has not selected one
+     * @return boolean flag
+     */
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType)
+    {
+        return isSmileSelected(mediaType) && super.canWrite(clazz, mediaType);
+    }
+
+
+    /**
+     * Return whether this converter can write an object of the supplied type for the media type.
+     *
+     * @param type declared type of the object to write
+     * @param clazz class of the object to write
+     * @param mediaType selected media type - null means the caller has not selected one
+     * @return boolean flag
+     */
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType)
+    {
+        return isSmileSelected(mediaType) && super.canWrite(type, clazz, mediaType);
+    }
+
+
+    /**
+     * Return whether the media type names SMILE rather than matching it through a wildcard.
+     *
+     * @param mediaType selected media type
+     * @return boolean flag
+     */
+    private boolean isSmileSelected(MediaType   mediaType)
+    {
+        return (mediaType != null) && (smileMediaType.includes(mediaType));
+    }
+}
@@ -0,0 +1,58 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.server.spring;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.wireformat.OMRSWireFormat;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * OMRSWireFormatConfiguration registers the binary SMILE message converter with the server's REST services.
+ * The OMRS repository REST services list SMILE after JSON in the media types they produce, so callers that send
+ * "Accept: application/x-jackson-smile" (such as the OMRS REST repository connector configured with the SMILE
+ * wire format) receive SMILE-encoded responses as raw binary bodies, and may send their request bodies in SMILE.
+ * The converter only writes SMILE when it has been selected explicitly (see OMRSSmileHttpMessageConverter), so
+ * callers of the other REST services, and callers that send "Accept: *&#47;*", continue to receive JSON.
+ * <p>
+ * Spring MVC adds its own SMILE converter whenever the SMILE data format is on the classpath.  That converter
+ * would offer SMILE for every REST service of the server, so it is removed from the server's converters.
+ * </p>
+ */
+@Configuration
+public class OMRSWireFormatConfiguration implements WebMvcConfigurer
+{
+    /**
+     * Return the message converter for SMILE-encoded payloads.  It shares the configuration of the
+     * OMRS wire format so that repeated property names and values are back-referenced.
+     *
+     * @return message converter
+     */
+    @Bean
+    public OMRSSmileHttpMessageConverter smileHttpMessageConverter()
+    {
+        ObjectMapper smileMapper = OMRSWireFormat.SMILE.getObjectMapper().copy();
+
+        smileMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        return new OMRSSmileHttpMessageConverter(smileMapper);
+    }
+
+
+    /**
+     * Remove Spring MVC's default SMILE converter so that SMILE is only produced by the OMRS REST services.
+     *
+     * @param converters message converters configured for the server
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters)
+    {
+        converters.removeIf(converter -> converter.getClass() == MappingJackson2SmileHttpMessageConverter.class);
+    }
+}
@@ -0,0 +1,304 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.rest.server.spring;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.rest.properties.MetadataCollectionIdResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.TypeDefGalleryResponse;
+import org.odpi.openmetadata.repositoryservices.rest.properties.TypeDefListResponse;
+import org.odpi.openmetadata.repositoryservices.wireformat.OMRSWireFormat;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the SMILE message converter only produces SMILE when it is asked for explicitly, and that SMILE
+ * payloads travel as raw binary bodies.  The tests run the REST resources in an embedded Spring Boot web server
+ * so the media type of each response is chosen by Spring MVC's own content negotiation, with the message
+ * converters in the order Spring Boot registers them.
+ */
+public class TestOMRSWireFormatNegotiation
+{
+    private static final MediaType smileMediaType = MediaType.valueOf(OMRSRepositoryResource.SMILE_CONTENT_TYPE);
+
+    /*
+     * Every SMILE document starts with this header.
+     */
+    private static final byte[] smileHeader = {':', ')', '\n'};
+
+    private static final String repositoryServicesURL = "/open-metadata/repository-services";
+
+    private ConfigurableApplicationContext server;
+    private String                         serverURL;
+
+
+    /**
+     * Server configuration with the OMRS REST services, the SMILE converter and another REST resource that,
+     * like the other services of the server, does not list any media types.
+     */
+    @Configuration
+    @EnableAutoConfiguration
+    @Import({OMRSRepositoryResource.class, OMRSWireFormatConfiguration.class, OtherResource.class})
+    static class TestServer
+    {
+    }
+
+
+    /**
+     * REST resource that does not list the media types it produces.
+     */
+    @RestController
+    static class OtherResource
+    {
+        /**
+         * Return an empty gallery.
+         *
+         * @return response
+         */
+        @RequestMapping(method = RequestMethod.GET, path = "/other-service")
+        public TypeDefGalleryResponse getGallery()
+        {
+            return new TypeDefGalleryResponse();
+        }
+    }
+
+
+    /**
+     * Response from the server.
+     */
+    private static class HTTPResponse
+    {
+        int    status;
+        String contentType;
+        byte[] body;
+    }
+
+
+    /**
+     * Start the server on a free port.
+     */
+    @BeforeClass public void startServer()
+    {
+        server = new SpringApplicationBuilder(TestServer.class).properties("server.port=0")
+                                                               .run();
+        serverURL = "http://localhost:" + ((ServletWebServerApplicationContext) server).getWebServer().getPort();
+    }
+
+
+    /**
+     * Stop the server.
+     */
+    @AfterClass public void stopServer()
+    {
+        if (server != null)
+        {
+            server.close();
+        }
+    }
+
+
+    /**
+     * Issue a request to the server.
+     *
+     * @param method HTTP method
+     * @param path path of the resource
+     * @param acceptedMediaType value of the Accept header - null to leave it out
+     * @param requestContentType media type of the request body
+     * @param requestBody body of the request - null for none
+     * @return response
+     * @throws IOException problem calling the server
+     */
+    private HTTPResponse call(String method,
+                              String path,
+                              String acceptedMediaType,
+                              String requestContentType,
+                              byte[] requestBody) throws IOException
+    {
+        HttpURLConnection connection = (HttpURLConnection) new URL(serverURL + path).openConnection();
+
+        connection.setRequestMethod(method);
+
+        if (acceptedMediaType != null)
+        {
+            connection.setRequestProperty("Accept", acceptedMediaType);
+        }
+
+        if (requestBody != null)
+        {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", requestContentType);
+
+            try (OutputStream outputStream = connection.getOutputStream())
+            {
+                outputStream.write(requestBody);
+            }
+        }
+
+        HTTPResponse response = new HTTPResponse();
+
+        response.status = connection.getResponseCode();
+        response.contentType = connection.getContentType();
+
+        try (InputStream          inputStream  = response.status < 400 ? connection.getInputStream() : connection.getErrorStream();
+             ByteArrayOutputStream outputStream = new ByteArrayOutputStream())
+        {
+            if (inputStream != null)
+            {
+                byte[] buffer = new byte[4096];
+                int    length;
+
+                while ((length = inputStream.read(buffer)) >= 0)
+                {
+                    outputStream.write(buffer, 0, length);
+                }
+            }
+
+            response.body = outputStream.toByteArray();
+        }
+        finally
+        {
+            connection.disconnect();
+        }
+
+        return response;
+    }
+
+
+    /**
+     * Issue a GET request to the server.
+     *
+     * @param path path of the resource
+     * @param acceptedMediaType value of the Accept header - null to leave it out
+     * @return response
+     * @throws IOException problem calling the server
+     */
+    private HTTPResponse get(String path,
+                             String acceptedMediaType) throws IOException
+    {
+        return call("GET", path, acceptedMediaType, null, null);
+    }
+
+
+    /**
+     * Check that a response is a successful JSON response.
+     *
+     * @param response response from the server
+     */
+    private void validateJSON(HTTPResponse response)
+    {
+        assertEquals(response.status, 200);
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.valueOf(response.contentType)));
+        assertEquals(response.body[0], '{');
+    }
+
+
+    /**
+     * Check that a response is a successful SMILE response with a raw binary body.
+     *
+     * @param response response from the server
+     */
+    private void validateSMILE(HTTPResponse response)
+    {
+        assertEquals(response.status, 200);
+        assertTrue(smileMediaType.isCompatibleWith(MediaType.valueOf(response.contentType)));
+        assertTrue(response.body.length > smileHeader.length);
+
+        for (int i = 0; i < smileHeader.length; i++)
+        {
+            assertEquals(response.body[i], smileHeader[i]);
+        }
+    }
+
+
+    /**
+     * Validate that the converter only writes SMILE when SMILE is selected.
+     */
+    @Test public void testConverterNeedsSmileSelected()
+    {
+        HttpMessageConverter<?> smileConverter = new OMRSWireFormatConfiguration().smileHttpMessageConverter();
+
+        assertTrue(smileConverter.canWrite(TypeDefGalleryResponse.class, smileMediaType));
+        assertFalse(smileConverter.canWrite(TypeDefGalleryResponse.class, null));
+        assertFalse(smileConverter.canWrite(TypeDefGalleryResponse.class, MediaType.ALL));
+        assertFalse(smileConverter.canWrite(TypeDefGalleryResponse.class, MediaType.APPLICATION_JSON));
+        assertTrue(smileConverter.canRead(TypeDefGalleryResponse.class, smileMediaType));
+    }
+
+
+    /**
+     * Validate that the OMRS REST services return JSON unless SMILE is asked for, and that SMILE responses
+     * are raw SMILE documents.
+     *
+     * @throws IOException problem calling the server
+     */
+    @Test public void testRepositoryResource() throws IOException
+    {
+        String path = repositoryServicesURL + "/metadata-collection-id";
+
+        validateJSON(get(path, null));
+        validateJSON(get(path, "*/*"));
+        validateJSON(get(path, "application/json"));
+        validateSMILE(get(path, "application/x-jackson-smile"));
+        validateSMILE(get(path, "application/x-jackson-smile, application/json;q=0.5"));
+
+        HTTPResponse response = get(path, "application/x-jackson-smile");
+
+        assertNotNull(OMRSWireFormat.SMILE.getObjectMapper().readValue(response.body, MetadataCollectionIdResponse.class));
+    }
+
+
+    /**
+     * Validate that the OMRS REST services accept a raw SMILE request body.
+     *
+     * @throws IOException problem calling the server
+     */
+    @Test public void testSmileRequestBody() throws IOException
+    {
+        byte[]       requestBody = OMRSWireFormat.SMILE.getObjectMapper().writeValueAsBytes(TypeDefCategory.ENTITY_DEF);
+        HTTPResponse response    = call("POST",
+                                        repositoryServicesURL + "/users/testUser/types/typedefs/by-category",
+                                        "application/x-jackson-smile",
+                                        "application/x-jackson-smile",
+                                        requestBody);
+
+        validateSMILE(response);
+        assertNotNull(OMRSWireFormat.SMILE.getObjectMapper().readValue(response.body, TypeDefListResponse.class));
+    }
+
+
+    /**
+     * Validate that the other REST services of the server never return SMILE.
+     *
+     * @throws IOException problem calling the server
+     */
+    @Test public void testOtherResources() throws IOException
+    {
+        validateJSON(get("/other-service", null));
+        validateJSON(get("/other-service", "*/*"));
+        validateJSON(get("/other-service", "application/json"));
+        assertEquals(get("/other-service", "application/x-jackson-smile").status, 406);
+    }
+}
@@ -0,0 +1,174 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measure the finds of InMemoryOMRSMetadataCollection at several store sizes.  The store is populated with
+ * glossary terms that each have a unique qualified name; the searches look for a term in the middle of
+ * the store so that the cost of scanning the store is visible.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InMemoryRepositoryFindBenchmark
+{
+    private static final int pageSize = 100;
+
+    @Param({"100", "1000", "10000"})
+    public int storeSize;
+
+    private OMRSMetadataCollection metadataCollection;
+    private String                 entityTypeGUID;
+    private String                 relationshipTypeGUID;
+    private String                 targetEntityGUID;
+    private InstanceProperties     matchProperties;
+    private String                 searchCriteria;
+
+
+    /**
+     * Populate the in-memory repository.
+     *
+     * @throws Exception the repository can not be set up
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        RepositoryServicesFixture fixture = new RepositoryServicesFixture(true);
+
+        metadataCollection = fixture.getInMemoryMetadataCollection();
+
+        List<EntityDetail> terms = fixture.addGlossaryTerms(metadataCollection, storeSize);
+
+        TypeDef entityTypeDef = fixture.getRepositoryContentManager().getTypeDefByName(RepositoryServicesFixture.sourceName,
+                                                                                        RepositoryServicesFixture.entityTypeName);
+        TypeDef relationshipTypeDef = fixture.getRepositoryContentManager().getTypeDefByName(RepositoryServicesFixture.sourceName,
+                                                                                              RepositoryServicesFixture.relationshipTypeName);
+
+        entityTypeGUID = entityTypeDef.getGUID();
+        relationshipTypeGUID = relationshipTypeDef.getGUID();
+
+        int targetIndex = storeSize / 2;
+
+        targetEntityGUID = terms.get(targetIndex).getGUID();
+
+        matchProperties = new InstanceProperties();
+        matchProperties.setProperty("qualifiedName",
+                                    RepositoryServicesFixture.getStringValue(RepositoryServicesFixture.qualifiedNamePrefix + targetIndex));
+
+        searchCriteria = "Benchmark glossary term number " + targetIndex;
+    }
+
+
+    /**
+     * Find the target term by its qualified name.
+     *
+     * @return matching entities
+     * @throws Exception the find failed
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesByProperty() throws Exception
+    {
+        return metadataCollection.findEntitiesByProperty(RepositoryServicesFixture.userId,
+                                                         entityTypeGUID,
+                                                         matchProperties,
+                                                         MatchCriteria.ALL,
+                                                         0,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         pageSize);
+    }
+
+
+    /**
+     * Find the target term by a value in any of its string properties.
+     *
+     * @return matching entities
+     * @throws Exception the find failed
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesByPropertyValue() throws Exception
+    {
+        return metadataCollection.findEntitiesByPropertyValue(RepositoryServicesFixture.userId,
+                                                              entityTypeGUID,
+                                                              searchCriteria,
+                                                              0,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              pageSize);
+    }
+
+
+    /**
+     * Find the first page of classified terms.
+     *
+     * @return matching entities
+     * @throws Exception the find failed
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesByClassification() throws Exception
+    {
+        return metadataCollection.findEntitiesByClassification(RepositoryServicesFixture.userId,
+                                                               entityTypeGUID,
+                                                               RepositoryServicesFixture.classificationTypeName,
+                                                               null,
+                                                               null,
+                                                               0,
+                                                               null,
+                                                               null,
+                                                               null,
+                                                               null,
+                                                               pageSize);
+    }
+
+
+    /**
+     * Retrieve the relationships of the target term.
+     *
+     * @return relationships
+     * @throws Exception the retrieval failed
+     */
+    @Benchmark
+    public List<Relationship> getRelationshipsForEntity() throws Exception
+    {
+        return metadataCollection.getRelationshipsForEntity(RepositoryServicesFixture.userId,
+                                                            targetEntityGUID,
+                                                            relationshipTypeGUID,
+                                                            0,
+                                                            null,
+                                                            null,
+                                                            null,
+                                                            null,
+                                                            pageSize);
+    }
+}
@@ -0,0 +1,115 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measure the copy constructors of InstanceProperties and EntityDetail.  They are called each time an
+ * instance is stored, retrieved or passed between components so their cost is multiplied across every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstanceCopyBenchmark
+{
+    @Param({"4", "32"})
+    public int propertyCount;
+
+    @Param({"0", "4"})
+    public int classificationCount;
+
+    private InstanceProperties properties;
+    private EntityDetail       entity;
+
+
+    /**
+     * Build the instance to copy.
+     */
+    @Setup
+    public void setUp()
+    {
+        properties = new InstanceProperties();
+
+        for (int i = 0; i < propertyCount; i++)
+        {
+            properties.setProperty("property" + i, RepositoryServicesFixture.getStringValue("Value of property " + i));
+        }
+
+        InstanceType type = new InstanceType();
+
+        type.setTypeDefGUID("benchmark-type-guid");
+        type.setTypeDefName(RepositoryServicesFixture.entityTypeName);
+
+        List<Classification> classifications = new ArrayList<>();
+
+        for (int i = 0; i < classificationCount; i++)
+        {
+            Classification classification = new Classification();
+
+            classification.setName("Classification" + i);
+            classification.setProperties(RepositoryServicesFixture.getTermProperties(i));
+            classifications.add(classification);
+        }
+
+        entity = new EntityDetail();
+
+        entity.setGUID("benchmark-entity-guid");
+        entity.setType(type);
+        entity.setMetadataCollectionId(RepositoryServicesFixture.metadataCollectionId);
+        entity.setCreatedBy(RepositoryServicesFixture.userId);
+        entity.setCreateTime(new Date(0));
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setVersion(1L);
+        entity.setProperties(properties);
+        entity.setClassifications(classifications.isEmpty() ? null : classifications);
+    }
+
+
+    /**
+     * Copy the instance properties.
+     *
+     * @return copy
+     */
+    @Benchmark
+    public InstanceProperties copyInstanceProperties()
+    {
+        return new InstanceProperties(properties);
+    }
+
+
+    /**
+     * Copy the entity, including its properties and classifications.
+     *
+     * @return copy
+     */
+    @Benchmark
+    public EntityDetail copyEntityDetail()
+    {
+        return new EntityDetail(entity);
+    }
+}
@@ -0,0 +1,109 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.odpi.openmetadata.repositoryservices.wireformat.OMRSWireFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measure the encoding and decoding of an instance event in each wire format.  These are the calls made by
+ * OMRSTopicConnector for each event it sends to, and receives from, the event bus.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OMRSEventWireFormatBenchmark
+{
+    @Param({"JSON", "SMILE"})
+    public OMRSWireFormat wireFormat;
+
+    private OMRSEventV1 event;
+    private String      encodedEvent;
+
+
+    /**
+     * Build the event and its encoded form.
+     *
+     * @throws Exception the event can not be encoded
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        InstanceType type = new InstanceType();
+
+        type.setTypeDefGUID("benchmark-type-guid");
+        type.setTypeDefName(RepositoryServicesFixture.entityTypeName);
+
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID("benchmark-entity-guid");
+        entity.setType(type);
+        entity.setMetadataCollectionId(RepositoryServicesFixture.metadataCollectionId);
+        entity.setCreatedBy(RepositoryServicesFixture.userId);
+        entity.setCreateTime(new Date(0));
+        entity.setVersion(1L);
+        entity.setProperties(RepositoryServicesFixture.getTermProperties(42));
+
+        OMRSEventV1InstanceSection instanceSection = new OMRSEventV1InstanceSection();
+
+        instanceSection.setEventType(OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        instanceSection.setEntity(entity);
+
+        event = new OMRSEventV1();
+        event.setEventCategory(OMRSEventCategory.INSTANCE);
+        event.setTimestamp(new Date(0));
+        event.setInstanceEventSection(instanceSection);
+
+        encodedEvent = wireFormat.writeValueAsString(event);
+    }
+
+
+    /**
+     * Encode the event as it is sent to the event bus.
+     *
+     * @return encoded event
+     * @throws Exception the event can not be encoded
+     */
+    @Benchmark
+    public String encodeEvent() throws Exception
+    {
+        return wireFormat.writeValueAsString(event);
+    }
+
+
+    /**
+     * Decode the event as it is received from the event bus.
+     *
+     * @return event bean
+     * @throws Exception the event can not be decoded
+     */
+    @Benchmark
+    public OMRSEventBean decodeEvent() throws Exception
+    {
+        return OMRSWireFormat.readValueFromString(encodedEvent, OMRSEventBean.class);
+    }
+}
@@ -0,0 +1,74 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measure OMRSRepositoryContentManager.getInstanceType().  It is called to build the type of every new
+ * instance and classification.  Types deeper in the type hierarchy have more super types to return.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryContentManagerBenchmark
+{
+    private static final String methodName = "RepositoryContentManagerBenchmark";
+
+    @Param({"ENTITY_DEF:Referenceable", "ENTITY_DEF:GlossaryTerm", "ENTITY_DEF:RelationalColumn",
+            "RELATIONSHIP_DEF:RelatedTerm", "CLASSIFICATION_DEF:AbstractConcept"})
+    public String instanceType;
+
+    private OMRSRepositoryContentManager repositoryContentManager;
+    private TypeDefCategory              category;
+    private String                       typeName;
+
+
+    /**
+     * Set up the repository content manager and the type to request.
+     */
+    @Setup
+    public void setUp()
+    {
+        String[] typeParts = instanceType.split(":");
+
+        repositoryContentManager = new RepositoryServicesFixture().getRepositoryContentManager();
+        category = TypeDefCategory.valueOf(typeParts[0]);
+        typeName = typeParts[1];
+    }
+
+
+    /**
+     * Build the instance type.
+     *
+     * @return instance type
+     * @throws Exception the type is not known
+     */
+    @Benchmark
+    public InstanceType getInstanceType() throws Exception
+    {
+        return repositoryContentManager.getInstanceType(RepositoryServicesFixture.sourceName,
+                                                        category,
+                                                        typeName,
+                                                        methodName);
+    }
+}
@@ -0,0 +1,138 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measure the property matching in OMRSRepositoryContentValidator.  These checks run against every stored
+ * instance on a search so they dominate the cost of a find in a repository that does not index its properties.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryContentValidatorBenchmark
+{
+    private static final String methodName = "RepositoryContentValidatorBenchmark";
+
+    private OMRSRepositoryContentValidator repositoryValidator;
+    private EntityDetail                   entity;
+    private InstanceProperties             matchProperties;
+    private String                         matchingSearchCriteria;
+    private String                         missingSearchCriteria;
+
+
+    /**
+     * The match criteria only applies to verifyMatchingInstancePropertyValues().
+     */
+    @State(Scope.Benchmark)
+    public static class MatchCriteriaState
+    {
+        @Param({"ALL", "ANY", "NONE"})
+        public MatchCriteria matchCriteria;
+    }
+
+
+    /**
+     * Set up the validator and the instance to match against.
+     *
+     * @throws Exception the entity type is not known
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        RepositoryServicesFixture fixture = new RepositoryServicesFixture();
+
+        repositoryValidator = fixture.getRepositoryValidator();
+
+        entity = new EntityDetail();
+        entity.setGUID("benchmark-entity-guid");
+        entity.setType(fixture.getRepositoryContentManager().getInstanceType(RepositoryServicesFixture.sourceName,
+                                                                             TypeDefCategory.ENTITY_DEF,
+                                                                             RepositoryServicesFixture.entityTypeName,
+                                                                             methodName));
+        entity.setCreatedBy(RepositoryServicesFixture.userId);
+        entity.setMetadataCollectionId(RepositoryServicesFixture.metadataCollectionId);
+        entity.setProperties(RepositoryServicesFixture.getTermProperties(42));
+
+        matchProperties = new InstanceProperties();
+        matchProperties.setProperty("qualifiedName",
+                                    RepositoryServicesFixture.getStringValue(RepositoryServicesFixture.qualifiedNamePrefix + "42"));
+        matchProperties.setProperty("displayName",
+                                    RepositoryServicesFixture.getStringValue("Term 42"));
+
+        matchingSearchCriteria = ".*glossary term number 42.*";
+        missingSearchCriteria = ".*not in any property.*";
+    }
+
+
+    /**
+     * Match the properties of the instance against the match properties.
+     *
+     * @param matchCriteriaState match criteria to use
+     * @return whether the instance matches
+     */
+    @Benchmark
+    public boolean verifyMatchingInstancePropertyValues(MatchCriteriaState matchCriteriaState)
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties,
+                                                                        RepositoryServicesFixture.metadataCollectionId,
+                                                                        entity,
+                                                                        entity.getProperties(),
+                                                                        matchCriteriaState.matchCriteria);
+    }
+
+
+    /**
+     * Match the properties of the instance against a regular expression that one of the properties matches.
+     *
+     * @return whether the instance matches
+     * @throws Exception the search criteria is invalid
+     */
+    @Benchmark
+    public boolean verifyInstancePropertiesMatchSearchCriteria() throws Exception
+    {
+        return repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(RepositoryServicesFixture.sourceName,
+                                                                               entity.getProperties(),
+                                                                               matchingSearchCriteria,
+                                                                               methodName);
+    }
+
+
+    /**
+     * Match the properties of the instance against a regular expression that none of the properties match,
+     * so every property is tested.
+     *
+     * @return whether the instance matches
+     * @throws Exception the search criteria is invalid
+     */
+    @Benchmark
+    public boolean verifyInstancePropertiesMissSearchCriteria() throws Exception
+    {
+        return repositoryValidator.verifyInstancePropertiesMatchSearchCriteria(RepositoryServicesFixture.sourceName,
+                                                                               entity.getProperties(),
+                                                                               missingSearchCriteria,
+                                                                               methodName);
+    }
+}
@@ -0,0 +1,250 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.benchmarks.repositoryservices;
+
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.archivemanager.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * RepositoryServicesFixture sets up the repository services components used by the benchmarks without a
+ * server.  The repository content manager is loaded with the open metadata types and an in-memory repository
+ * can be populated with a deterministic set of glossary terms so that results are comparable across runs.
+ */
+public class RepositoryServicesFixture
+{
+    static final String sourceName           = "Benchmark";
+    static final String userId               = "BenchmarkUser";
+    static final String metadataCollectionId = "benchmark-metadata-collection-id";
+
+    static final String entityTypeName         = "GlossaryTerm";
+    static final String relationshipTypeName   = "RelatedTerm";
+    static final String classificationTypeName = "AbstractConcept";
+
+    static final String qualifiedNamePrefix = "Benchmark.GlossaryTerm.";
+
+    private OMRSRepositoryContentManager   repositoryContentManager;
+    private OMRSRepositoryContentHelper    repositoryHelper;
+    private OMRSRepositoryContentValidator repositoryValidator;
+    private OMRSMetadataCollection         inMemoryMetadataCollection = null;
+
+
+    /**
+     * Constructor loads the open metadata types into a new repository content manager.
+     */
+    public RepositoryServicesFixture()
+    {
+        this(false);
+    }
+
+
+    /**
+     * Constructor loads the open metadata types into a new repository content manager and optionally into
+     * a new in-memory repository.  As in a server, each type is added to the repository before it is
+     * cached in the repository content manager.
+     *
+     * @param createInMemoryRepository whether to create an in-memory repository
+     * @throws IllegalStateException the in-memory repository rejected the open metadata types
+     */
+    public RepositoryServicesFixture(boolean createInMemoryRepository)
+    {
+        OpenMetadataArchive          archive     = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        OpenMetadataArchiveTypeStore typeStore   = archive.getArchiveTypeStore();
+        String                       archiveGUID = archive.getArchiveProperties().getArchiveGUID();
+
+        this.repositoryContentManager = new OMRSRepositoryContentManager();
+        this.repositoryHelper = new OMRSRepositoryContentHelper(repositoryContentManager);
+        this.repositoryValidator = new OMRSRepositoryContentValidator(repositoryContentManager);
+
+        if (createInMemoryRepository)
+        {
+            try
+            {
+                this.inMemoryMetadataCollection = this.createInMemoryMetadataCollection();
+
+                for (AttributeTypeDef attributeTypeDef : typeStore.getAttributeTypeDefs())
+                {
+                    inMemoryMetadataCollection.addAttributeTypeDef(userId, attributeTypeDef);
+                    repositoryContentManager.addAttributeTypeDef(sourceName, attributeTypeDef);
+                }
+
+                for (TypeDef typeDef : typeStore.getNewTypeDefs())
+                {
+                    inMemoryMetadataCollection.addTypeDef(userId, typeDef);
+                    repositoryContentManager.addTypeDef(sourceName, typeDef);
+                }
+            }
+            catch (Exception error)
+            {
+                throw new IllegalStateException("Unable to set up the in-memory repository", error);
+            }
+        }
+        else
+        {
+            repositoryContentManager.addPrevalidatedTypes(sourceName,
+                                                          archiveGUID,
+                                                          typeStore.getAttributeTypeDefs(),
+                                                          typeStore.getNewTypeDefs());
+        }
+    }
+
+
+    /**
+     * Return the repository content manager loaded with the open metadata types.
+     *
+     * @return repository content manager
+     */
+    public OMRSRepositoryContentManager getRepositoryContentManager()
+    {
+        return repositoryContentManager;
+    }
+
+
+    /**
+     * Return the repository helper.
+     *
+     * @return repository helper
+     */
+    public OMRSRepositoryContentHelper getRepositoryHelper()
+    {
+        return repositoryHelper;
+    }
+
+
+    /**
+     * Return the repository validator.
+     *
+     * @return repository validator
+     */
+    public OMRSRepositoryContentValidator getRepositoryValidator()
+    {
+        return repositoryValidator;
+    }
+
+
+    /**
+     * Return the in-memory repository loaded with the open metadata types.
+     *
+     * @return metadata collection for the repository or null if it was not requested on the constructor
+     */
+    public OMRSMetadataCollection getInMemoryMetadataCollection()
+    {
+        return inMemoryMetadataCollection;
+    }
+
+
+    /**
+     * Create and start an in-memory repository.
+     *
+     * @return metadata collection for the repository
+     * @throws Exception the repository can not be set up
+     */
+    private OMRSMetadataCollection createInMemoryMetadataCollection() throws Exception
+    {
+        InMemoryOMRSRepositoryConnector repositoryConnector = new InMemoryOMRSRepositoryConnector();
+
+        repositoryConnector.setServerName(sourceName);
+        repositoryConnector.setRepositoryHelper(repositoryHelper);
+        repositoryConnector.setRepositoryValidator(repositoryValidator);
+        repositoryConnector.setMetadataCollectionId(metadataCollectionId);
+        repositoryConnector.start();
+
+        return repositoryConnector.getMetadataCollection();
+    }
+
+
+    /**
+     * Add glossary terms to the repository.  Every term has a unique qualified name built from its position.
+     * Each term is related to the next one and every tenth term is classified.
+     *
+     * @param metadataCollection repository to populate
+     * @param termCount number of terms to add
+     * @return the terms in the order they were created
+     * @throws Exception the terms can not be added
+     */
+    public List<EntityDetail> addGlossaryTerms(OMRSMetadataCollection metadataCollection,
+                                               int                    termCount) throws Exception
+    {
+        TypeDef            entityTypeDef       = repositoryContentManager.getTypeDefByName(sourceName, entityTypeName);
+        TypeDef            relationshipTypeDef = repositoryContentManager.getTypeDefByName(sourceName, relationshipTypeName);
+        List<EntityDetail> terms               = new ArrayList<>(termCount);
+
+        for (int i = 0; i < termCount; i++)
+        {
+            EntityDetail term = metadataCollection.addEntity(userId,
+                                                             entityTypeDef.getGUID(),
+                                                             getTermProperties(i),
+                                                             null,
+                                                             null);
+            if (i % 10 == 0)
+            {
+                term = metadataCollection.classifyEntity(userId, term.getGUID(), classificationTypeName, null);
+            }
+
+            if (i > 0)
+            {
+                metadataCollection.addRelationship(userId,
+                                                   relationshipTypeDef.getGUID(),
+                                                   null,
+                                                   terms.get(i - 1).getGUID(),
+                                                   term.getGUID(),
+                                                   null);
+            }
+
+            terms.add(term);
+        }
+
+        return terms;
+    }
+
+
+    /**
+     * Return the properties of the glossary term at the requested position.
+     *
+     * @param termIndex position of the term
+     * @return properties
+     */
+    static InstanceProperties getTermProperties(int termIndex)
+    {
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("qualifiedName", getStringValue(qualifiedNamePrefix + termIndex));
+        properties.setProperty("displayName", getStringValue("Term " + termIndex));
+        properties.setProperty("summary", getStringValue("Benchmark glossary term number " + termIndex));
+        properties.setProperty("description", getStringValue("A glossary term created to measure the repository services."));
+
+        return properties;
+    }
+
+
+    /**
+     * Return a string property value.
+     *
+     * @param value string value
+     * @return property value
+     */
+    static PrimitivePropertyValue getStringValue(String value)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(value);
+
+        return propertyValue;
+    }
+}